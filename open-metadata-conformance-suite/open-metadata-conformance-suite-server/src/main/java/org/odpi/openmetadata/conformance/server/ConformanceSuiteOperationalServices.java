@@ -10,6 +10,8 @@ import org.odpi.openmetadata.conformance.beans.OpenMetadataConformanceWorkbenchW
 import org.odpi.openmetadata.conformance.beans.TechnologyUnderTestWorkPad;
 import org.odpi.openmetadata.conformance.ffdc.ConformanceSuiteErrorCode;
 import org.odpi.openmetadata.conformance.workbenches.repository.listener.ConformanceSuiteOMRSTopicListener;
+import org.odpi.openmetadata.conformance.workbenches.performance.RepositoryPerformanceWorkPad;
+import org.odpi.openmetadata.conformance.workbenches.performance.RepositoryPerformanceWorkbench;
 import org.odpi.openmetadata.conformance.workbenches.platform.PlatformConformanceWorkPad;
 import org.odpi.openmetadata.conformance.workbenches.platform.PlatformConformanceWorkbench;
 import org.odpi.openmetadata.conformance.workbenches.repository.RepositoryConformanceWorkPad;
@@ -173,6 +175,25 @@ public class ConformanceSuiteOperationalServices
             enterpriseTopicConnector.registerListener(omrsTopicListener, workBenchName);
         }
 
+        if (conformanceSuiteConfig.getRepositoryPerformanceWorkbenchConfig() != null)
+        {
+            RepositoryPerformanceWorkPad   repositoryPerformanceWorkPad = new RepositoryPerformanceWorkPad(localServerUserId,
+                                                                                                           localServerPassword,
+                                                                                                           maxPageSize,
+                                                                                                           auditLog,
+                                                                                                           conformanceSuiteConfig.getRepositoryPerformanceWorkbenchConfig());
+            workbenchWorkPads.add(repositoryPerformanceWorkPad);
+
+            RepositoryPerformanceWorkbench repositoryPerformanceWorkbench = new RepositoryPerformanceWorkbench(repositoryPerformanceWorkPad);
+            runningWorkbenches.add(repositoryPerformanceWorkbench);
+
+            Thread performanceWorkbenchThread = new Thread(repositoryPerformanceWorkbench, "Repository Performance Workbench");
+            performanceWorkbenchThread.start();
+
+            ConformanceSuiteConnectorConsumer connectorConsumer = new ConformanceSuiteConnectorConsumer(repositoryPerformanceWorkPad);
+            enterpriseConnectorManager.registerConnectorConsumer(connectorConsumer);
+        }
+
         instanceMap.setNewInstance(localServerName, new ConformanceServicesInstance(new TechnologyUnderTestWorkPad(workbenchWorkPads),
                                                                                     runningWorkbenches,
                                                                                     auditLog,
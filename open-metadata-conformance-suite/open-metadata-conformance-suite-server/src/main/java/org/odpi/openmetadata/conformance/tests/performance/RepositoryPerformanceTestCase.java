@@ -0,0 +1,250 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.tests.repository.RepositoryConformanceTestCase;
+import org.odpi.openmetadata.conformance.workbenches.performance.RepositoryPerformanceProfileRequirement;
+import org.odpi.openmetadata.conformance.workbenches.performance.RepositoryPerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * RepositoryPerformanceTestCase is the superclass for the test cases of the performance workbench.  It issues
+ * a list of requests to the repository under test from a fixed number of threads and records the throughput
+ * and the latency percentiles of the requests as discovered properties of the requirement being measured.
+ */
+public abstract class RepositoryPerformanceTestCase extends RepositoryConformanceTestCase
+{
+    protected RepositoryPerformanceWorkPad performanceWorkPad;
+
+
+    /**
+     * An operation that is measured by the test case.  It is called once for each input.
+     *
+     * @param <T> type of the input
+     * @param <R> type of the result
+     */
+    protected interface PerformanceOperation<T, R>
+    {
+        /**
+         * Issue one request to the repository under test.
+         *
+         * @param input input for the request
+         * @return result of the request
+         * @throws Exception the request failed
+         */
+        R invoke(T input) throws Exception;
+    }
+
+
+    /**
+     * Typical constructor used when the test case id needs to be constructed by the test case code.
+     *
+     * @param workPad location for workbench results
+     * @param defaultProfileId identifier of default profile (for unexpected exceptions)
+     * @param defaultRequirementId identifier of default required (for unexpected exceptions)
+     */
+    protected RepositoryPerformanceTestCase(RepositoryPerformanceWorkPad  workPad,
+                                            Integer                       defaultProfileId,
+                                            Integer                       defaultRequirementId)
+    {
+        super(workPad, defaultProfileId, defaultRequirementId);
+
+        this.performanceWorkPad = workPad;
+    }
+
+
+    /**
+     * Issue the operation once for each input using the requested number of threads and record the results.
+     * If the repository does not support the operation, the requirement is marked as not supported and
+     * null is returned.
+     *
+     * @param operationName name of the repository operation
+     * @param inputs inputs for each request
+     * @param threadCount number of concurrent threads issuing requests
+     * @param operation operation to measure
+     * @param requirement requirement that the measurements are evidence for
+     * @param <T> type of the input
+     * @param <R> type of the result
+     * @return results in the same order as the inputs (entries are null for failed requests) or null
+     * @throws InterruptedException the workbench is shutting down
+     */
+    protected <T, R> List<R> measure(String                                  operationName,
+                                     List<T>                                 inputs,
+                                     int                                     threadCount,
+                                     PerformanceOperation<T, R>              operation,
+                                     RepositoryPerformanceProfileRequirement requirement) throws InterruptedException
+    {
+        final String assertionId = testCaseId + "-" + operationName;
+
+        List<R> results = new ArrayList<>();
+
+        if ((inputs == null) || (inputs.isEmpty()))
+        {
+            return results;
+        }
+
+        long[]          latencies = new long[inputs.size()];
+        boolean[]       succeeded = new boolean[inputs.size()];
+        List<Future<R>> futures   = new ArrayList<>();
+        ExecutorService executor  = Executors.newFixedThreadPool(Math.max(1, Math.min(threadCount, inputs.size())));
+
+        long start = System.nanoTime();
+
+        try
+        {
+            for (int i = 0; i < inputs.size(); i++)
+            {
+                final int index = i;
+                final T   input = inputs.get(i);
+
+                futures.add(executor.submit(() ->
+                                            {
+                                                long requestStart = System.nanoTime();
+                                                R    result       = operation.invoke(input);
+
+                                                latencies[index] = System.nanoTime() - requestStart;
+                                                succeeded[index] = true;
+
+                                                return result;
+                                            }));
+            }
+
+            int       failures   = 0;
+            Throwable firstError = null;
+
+            for (Future<R> future : futures)
+            {
+                try
+                {
+                    results.add(future.get());
+                }
+                catch (ExecutionException error)
+                {
+                    if (error.getCause() instanceof FunctionNotSupportedException)
+                    {
+                        super.addNotSupportedAssertion(assertionId,
+                                                       operationName + " is not supported by the repository.",
+                                                       requirement.getProfileId(),
+                                                       requirement.getRequirementId());
+                        return null;
+                    }
+
+                    results.add(null);
+                    failures++;
+
+                    if (firstError == null)
+                    {
+                        firstError = error.getCause();
+                    }
+                }
+            }
+
+            long elapsedTime = System.nanoTime() - start;
+
+            this.recordMeasurements(operationName, elapsedTime, latencies, succeeded, requirement);
+
+            verifyCondition((failures == 0),
+                            assertionId,
+                            operationName + " completed " + (inputs.size() - failures) + "/" + inputs.size() + " requests using "
+                                    + threadCount + " threads" + (firstError == null ? "." : "; first error: " + firstError.getClass().getSimpleName()
+                                    + " : " + firstError.getMessage()),
+                            requirement.getProfileId(),
+                            requirement.getRequirementId(),
+                            operationName,
+                            elapsedTime / 1000000);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Add the throughput and latency percentiles of the successful requests as discovered properties.
+     *
+     * @param operationName name of the repository operation
+     * @param elapsedTime elapsed time for all of the requests in nanoseconds
+     * @param latencies latency of each request in nanoseconds
+     * @param succeeded whether each request succeeded
+     * @param requirement requirement that the measurements are evidence for
+     */
+    private void recordMeasurements(String                                  operationName,
+                                    long                                    elapsedTime,
+                                    long[]                                  latencies,
+                                    boolean[]                               succeeded,
+                                    RepositoryPerformanceProfileRequirement requirement)
+    {
+        long[] successfulLatencies = new long[latencies.length];
+        int    successCount        = 0;
+
+        for (int i = 0; i < latencies.length; i++)
+        {
+            if (succeeded[i])
+            {
+                successfulLatencies[successCount++] = latencies[i];
+            }
+        }
+
+        if (successCount == 0)
+        {
+            return;
+        }
+
+        long[] sortedLatencies = Arrays.copyOf(successfulLatencies, successCount);
+
+        Arrays.sort(sortedLatencies);
+
+        super.addDiscoveredProperty(operationName + " requests", successCount,
+                                    requirement.getProfileId(), requirement.getRequirementId());
+        super.addDiscoveredProperty(operationName + " throughput (requests/second)",
+                                    this.round(successCount / (elapsedTime / 1000000000.0)),
+                                    requirement.getProfileId(), requirement.getRequirementId());
+        super.addDiscoveredProperty(operationName + " p50 latency (ms)", this.getPercentile(sortedLatencies, 50),
+                                    requirement.getProfileId(), requirement.getRequirementId());
+        super.addDiscoveredProperty(operationName + " p90 latency (ms)", this.getPercentile(sortedLatencies, 90),
+                                    requirement.getProfileId(), requirement.getRequirementId());
+        super.addDiscoveredProperty(operationName + " p99 latency (ms)", this.getPercentile(sortedLatencies, 99),
+                                    requirement.getProfileId(), requirement.getRequirementId());
+        super.addDiscoveredProperty(operationName + " max latency (ms)", this.getPercentile(sortedLatencies, 100),
+                                    requirement.getProfileId(), requirement.getRequirementId());
+    }
+
+
+    /**
+     * Return the latency at the requested percentile using the nearest-rank method.
+     *
+     * @param sortedLatencies latencies in nanoseconds sorted in ascending order
+     * @param percentile percentile between 1 and 100
+     * @return latency in milliseconds
+     */
+    private double getPercentile(long[] sortedLatencies,
+                                 int    percentile)
+    {
+        int rank = (int) Math.ceil((percentile / 100.0) * sortedLatencies.length);
+
+        return this.round(sortedLatencies[Math.max(rank, 1) - 1] / 1000000.0);
+    }
+
+
+    /**
+     * Round a measurement to three decimal places for the report.
+     *
+     * @param value measurement
+     * @return rounded measurement
+     */
+    private double round(double value)
+    {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,670 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.RepositoryPerformanceProfileRequirement;
+import org.odpi.openmetadata.conformance.workbenches.performance.RepositoryPerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * TestRepositoryWorkload drives one step of the performance workload against the repository under test.  It creates
+ * the requested number of entities, then updates, classifies, relates, searches for, explores and finally deletes
+ * them, issuing the requests from the requested number of threads.  The throughput and latency of each operation are
+ * recorded against the matching performance requirement.
+ */
+public class TestRepositoryWorkload extends RepositoryPerformanceTestCase
+{
+    private static final String testCaseId   = "repository-performance-workload";
+    private static final String testCaseName = "Repository performance workload test case";
+
+    private static final String assertion1    = testCaseId + "-01";
+    private static final String assertionMsg1 = " entity type or a subtype is supported by the repository.";
+    private static final String assertion2    = testCaseId + "-02";
+    private static final String assertionMsg2 = " relationship type that connects two entities of this type is supported by the repository.";
+    private static final String assertion3    = testCaseId + "-03";
+    private static final String assertionMsg3 = " classification type that can be attached to this type is supported by the repository.";
+    private static final String assertion4    = testCaseId + "-04";
+    private static final String assertionMsg4 = " entity type has a string property to search on.";
+
+    private final int instanceCount;
+    private final int threadCount;
+
+    private OMRSMetadataCollection metadataCollection = null;
+    private OMRSRepositoryHelper   repositoryHelper   = null;
+    private String                 repositoryName     = null;
+
+    private List<EntityDetail>     createdEntities      = new ArrayList<>();
+    private List<Relationship>     createdRelationships = new ArrayList<>();
+
+
+    /**
+     * Typical constructor sets up superclass and the scale of this step of the workload.
+     *
+     * @param workPad place for parameters and results
+     * @param instanceCount number of entities to create
+     * @param threadCount number of concurrent threads issuing requests
+     */
+    public TestRepositoryWorkload(RepositoryPerformanceWorkPad workPad,
+                                  int                          instanceCount,
+                                  int                          threadCount)
+    {
+        super(workPad,
+              RepositoryPerformanceProfileRequirement.ENTITY_CREATION_PERFORMANCE.getProfileId(),
+              RepositoryPerformanceProfileRequirement.ENTITY_CREATION_PERFORMANCE.getRequirementId());
+
+        this.instanceCount = instanceCount;
+        this.threadCount = threadCount;
+
+        super.updateTestId(testCaseId,
+                           testCaseId + "-" + workPad.getEntityTypeName() + "-" + instanceCount + "-instances-" + threadCount + "-threads",
+                           testCaseName + " for " + instanceCount + " " + workPad.getEntityTypeName() + " instances using " + threadCount + " threads");
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        final String userId = workPad.getLocalServerUserId();
+
+        metadataCollection = super.getMetadataCollection();
+        repositoryHelper = cohortRepositoryConnector.getRepositoryHelper();
+        repositoryName = cohortRepositoryConnector.getRepositoryName();
+
+        String entityTypeName = performanceWorkPad.getEntityTypeName();
+
+        EntityDef entityDef = this.getEntityDef(userId, entityTypeName);
+
+        if (entityDef == null)
+        {
+            super.addNotSupportedAssertion(assertion1,
+                                           entityTypeName + assertionMsg1,
+                                           RepositoryPerformanceProfileRequirement.ENTITY_CREATION_PERFORMANCE.getProfileId(),
+                                           RepositoryPerformanceProfileRequirement.ENTITY_CREATION_PERFORMANCE.getRequirementId());
+            return;
+        }
+
+        List<TypeDefAttribute> entityAttributes   = super.getPropertiesForTypeDef(userId, entityDef);
+        String                 searchPropertyName = this.getSearchPropertyName(entityAttributes);
+
+        List<Integer> instanceNumbers = new ArrayList<>();
+
+        for (int i = 0; i < instanceCount; i++)
+        {
+            instanceNumbers.add(i);
+        }
+
+        /*
+         * Instance numbers are odd so that all of the generated string properties are distinct.
+         */
+        List<EntityDetail> entities = super.measure("addEntity",
+                                                    instanceNumbers,
+                                                    threadCount,
+                                                    instanceNumber -> metadataCollection.addEntity(userId,
+                                                                                                   entityDef.getGUID(),
+                                                                                                   super.generatePropertiesForInstance(userId,
+                                                                                                                                       entityAttributes,
+                                                                                                                                       (2 * instanceNumber) + 1),
+                                                                                                   null,
+                                                                                                   null),
+                                                    RepositoryPerformanceProfileRequirement.ENTITY_CREATION_PERFORMANCE);
+
+        this.addCreatedEntities(entities);
+
+        if (createdEntities.isEmpty())
+        {
+            return;
+        }
+
+        List<EntityDetail> updatedEntities = super.measure("updateEntityProperties",
+                                                           instanceNumbers.subList(0, createdEntities.size()),
+                                                           threadCount,
+                                                           instanceNumber -> metadataCollection.updateEntityProperties(userId,
+                                                                                                                       createdEntities.get(instanceNumber).getGUID(),
+                                                                                                                       super.generatePropertiesForInstance(userId,
+                                                                                                                                                           entityAttributes,
+                                                                                                                                                           (2 * (instanceNumber + instanceCount)) + 1)),
+                                                           RepositoryPerformanceProfileRequirement.ENTITY_UPDATE_PERFORMANCE);
+
+        List<EntityDetail> currentEntities = this.getCurrentEntities(updatedEntities);
+
+        ClassificationDef classificationDef = this.getClassificationDef(userId, entityDef);
+
+        if (classificationDef == null)
+        {
+            super.addNotSupportedAssertion(assertion3,
+                                           entityDef.getName() + assertionMsg3,
+                                           RepositoryPerformanceProfileRequirement.ENTITY_CLASSIFICATION_PERFORMANCE.getProfileId(),
+                                           RepositoryPerformanceProfileRequirement.ENTITY_CLASSIFICATION_PERFORMANCE.getRequirementId());
+        }
+        else
+        {
+            InstanceProperties classificationProperties = super.getAllPropertiesForInstance(userId, classificationDef);
+
+            List<EntityDetail> classifiedEntities = super.measure("classifyEntity",
+                                                                  currentEntities,
+                                                                  threadCount,
+                                                                  entity -> metadataCollection.classifyEntity(userId,
+                                                                                                              entity.getGUID(),
+                                                                                                              classificationDef.getName(),
+                                                                                                              classificationProperties),
+                                                                  RepositoryPerformanceProfileRequirement.ENTITY_CLASSIFICATION_PERFORMANCE);
+
+            if (classifiedEntities != null)
+            {
+                super.measure("findEntitiesByClassification",
+                              currentEntities,
+                              threadCount,
+                              entity -> metadataCollection.findEntitiesByClassification(userId,
+                                                                                        entityDef.getGUID(),
+                                                                                        classificationDef.getName(),
+                                                                                        null,
+                                                                                        null,
+                                                                                        0,
+                                                                                        null,
+                                                                                        null,
+                                                                                        null,
+                                                                                        null,
+                                                                                        super.getMaxSearchResults()),
+                              RepositoryPerformanceProfileRequirement.ENTITY_CLASSIFICATION_SEARCH_PERFORMANCE);
+            }
+        }
+
+        RelationshipDef relationshipDef = this.getRelationshipDef(userId, entityDef);
+
+        if (relationshipDef == null)
+        {
+            super.addNotSupportedAssertion(assertion2,
+                                           entityDef.getName() + assertionMsg2,
+                                           RepositoryPerformanceProfileRequirement.RELATIONSHIP_CREATION_PERFORMANCE.getProfileId(),
+                                           RepositoryPerformanceProfileRequirement.RELATIONSHIP_CREATION_PERFORMANCE.getRequirementId());
+        }
+        else if (currentEntities.size() > 1)
+        {
+            InstanceProperties relationshipProperties = super.getAllPropertiesForInstance(userId, relationshipDef);
+
+            /*
+             * Link the entities in a ring so that each entity has two neighbors.
+             */
+            List<Relationship> relationships = super.measure("addRelationship",
+                                                             instanceNumbers.subList(0, currentEntities.size()),
+                                                             threadCount,
+                                                             instanceNumber -> metadataCollection.addRelationship(userId,
+                                                                                                                  relationshipDef.getGUID(),
+                                                                                                                  relationshipProperties,
+                                                                                                                  currentEntities.get(instanceNumber).getGUID(),
+                                                                                                                  currentEntities.get((instanceNumber + 1) % currentEntities.size()).getGUID(),
+                                                                                                                  null),
+                                                             RepositoryPerformanceProfileRequirement.RELATIONSHIP_CREATION_PERFORMANCE);
+
+            if (relationships != null)
+            {
+                for (Relationship relationship : relationships)
+                {
+                    if (relationship != null)
+                    {
+                        createdRelationships.add(relationship);
+                    }
+                }
+            }
+        }
+
+        if (searchPropertyName == null)
+        {
+            super.addNotSupportedAssertion(assertion4,
+                                           entityDef.getName() + assertionMsg4,
+                                           RepositoryPerformanceProfileRequirement.ENTITY_VALUE_SEARCH_PERFORMANCE.getProfileId(),
+                                           RepositoryPerformanceProfileRequirement.ENTITY_VALUE_SEARCH_PERFORMANCE.getRequirementId());
+        }
+        else
+        {
+            super.measure("findEntitiesByPropertyValue",
+                          currentEntities,
+                          threadCount,
+                          entity -> metadataCollection.findEntitiesByPropertyValue(userId,
+                                                                                   entityDef.getGUID(),
+                                                                                   repositoryHelper.getExactMatchRegex(this.getStringValue(entity, searchPropertyName)),
+                                                                                   0,
+                                                                                   null,
+                                                                                   null,
+                                                                                   null,
+                                                                                   null,
+                                                                                   null,
+                                                                                   super.getMaxSearchResults()),
+                          RepositoryPerformanceProfileRequirement.ENTITY_VALUE_SEARCH_PERFORMANCE);
+
+            super.measure("findEntitiesByProperty",
+                          currentEntities,
+                          threadCount,
+                          entity -> metadataCollection.findEntitiesByProperty(userId,
+                                                                              entityDef.getGUID(),
+                                                                              repositoryHelper.addStringPropertyToInstance(repositoryName,
+                                                                                                                           null,
+                                                                                                                           searchPropertyName,
+                                                                                                                           repositoryHelper.getExactMatchRegex(this.getStringValue(entity, searchPropertyName)),
+                                                                                                                           testCaseId),
+                                                                              MatchCriteria.ALL,
+                                                                              0,
+                                                                              null,
+                                                                              null,
+                                                                              null,
+                                                                              null,
+                                                                              null,
+                                                                              super.getMaxSearchResults()),
+                          RepositoryPerformanceProfileRequirement.ENTITY_PROPERTY_SEARCH_PERFORMANCE);
+
+            /*
+             * Pages are retrieved by offset so they can be requested concurrently.
+             */
+            List<Integer> pageOffsets = new ArrayList<>();
+
+            for (int offset = 0; offset < currentEntities.size(); offset = offset + super.getMaxSearchResults())
+            {
+                pageOffsets.add(offset);
+            }
+
+            super.measure("findEntitiesByPropertyValue (paged)",
+                          pageOffsets,
+                          threadCount,
+                          offset -> metadataCollection.findEntitiesByPropertyValue(userId,
+                                                                                   entityDef.getGUID(),
+                                                                                   repositoryHelper.getStartsWithRegex(searchPropertyName + "."),
+                                                                                   offset,
+                                                                                   null,
+                                                                                   null,
+                                                                                   null,
+                                                                                   null,
+                                                                                   null,
+                                                                                   super.getMaxSearchResults()),
+                          RepositoryPerformanceProfileRequirement.ENTITY_SEARCH_PAGING_PERFORMANCE);
+        }
+
+        super.measure("getEntityNeighborhood",
+                      currentEntities,
+                      threadCount,
+                      entity -> metadataCollection.getEntityNeighborhood(userId,
+                                                                         entity.getGUID(),
+                                                                         null,
+                                                                         null,
+                                                                         null,
+                                                                         null,
+                                                                         null,
+                                                                         1),
+                      RepositoryPerformanceProfileRequirement.ENTITY_NEIGHBORHOOD_PERFORMANCE);
+
+        List<Relationship> relationshipsToDelete = new ArrayList<>(createdRelationships);
+
+        super.measure("deleteRelationship",
+                      relationshipsToDelete,
+                      threadCount,
+                      relationship -> this.deleteRelationship(userId, relationship),
+                      RepositoryPerformanceProfileRequirement.RELATIONSHIP_DELETION_PERFORMANCE);
+
+        List<EntityDetail> entitiesToDelete = new ArrayList<>(createdEntities);
+
+        super.measure("deleteEntity",
+                      entitiesToDelete,
+                      threadCount,
+                      entity -> this.deleteEntity(userId, entity),
+                      RepositoryPerformanceProfileRequirement.ENTITY_DELETION_PERFORMANCE);
+    }
+
+
+    /**
+     * Remove any instances that were not deleted by the workload.
+     *
+     * @throws Exception something went wrong with the cleanup.
+     */
+    @Override
+    protected void cleanup() throws Exception
+    {
+        final String userId = workPad.getLocalServerUserId();
+
+        for (Relationship relationship : new ArrayList<>(createdRelationships))
+        {
+            try
+            {
+                this.deleteRelationship(userId, relationship);
+            }
+            catch (Exception error)
+            {
+                /* the relationship may have been removed with its entities */
+            }
+        }
+
+        for (EntityDetail entity : new ArrayList<>(createdEntities))
+        {
+            try
+            {
+                this.deleteEntity(userId, entity);
+            }
+            catch (Exception error)
+            {
+                /* belt and braces */
+            }
+        }
+    }
+
+
+    /**
+     * Locate the requested entity type, or a subtype of it, in the types supported by the repository.
+     *
+     * @param userId calling user
+     * @param entityTypeName name of the configured entity type
+     * @return entity type or null if it is not supported
+     * @throws Exception problem retrieving the types
+     */
+    private EntityDef getEntityDef(String userId,
+                                   String entityTypeName) throws Exception
+    {
+        List<TypeDef> entityDefs = this.getSortedTypeDefs(userId, TypeDefCategory.ENTITY_DEF);
+
+        for (TypeDef typeDef : entityDefs)
+        {
+            if (entityTypeName.equals(typeDef.getName()))
+            {
+                return (EntityDef) typeDef;
+            }
+        }
+
+        for (TypeDef typeDef : entityDefs)
+        {
+            if (repositoryHelper.isTypeOf(repositoryName, typeDef.getName(), entityTypeName))
+            {
+                return (EntityDef) typeDef;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Locate a relationship type supported by the repository that can connect two entities of the workload's type.
+     *
+     * @param userId calling user
+     * @param entityDef type of the entities
+     * @return relationship type or null if there is none
+     * @throws Exception problem retrieving the types
+     */
+    private RelationshipDef getRelationshipDef(String    userId,
+                                               EntityDef entityDef) throws Exception
+    {
+        for (TypeDef typeDef : this.getSortedTypeDefs(userId, TypeDefCategory.RELATIONSHIP_DEF))
+        {
+            RelationshipDef relationshipDef = (RelationshipDef) typeDef;
+
+            if ((this.isValidEnd(entityDef, relationshipDef.getEndDef1())) && (this.isValidEnd(entityDef, relationshipDef.getEndDef2())))
+            {
+                return relationshipDef;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return whether an entity of the workload's type can be attached to the end of a relationship.
+     *
+     * @param entityDef type of the entities
+     * @param endDef end of the relationship
+     * @return boolean flag
+     */
+    private boolean isValidEnd(EntityDef          entityDef,
+                               RelationshipEndDef endDef)
+    {
+        return (endDef != null) &&
+               (endDef.getEntityType() != null) &&
+               (repositoryHelper.isTypeOf(repositoryName, entityDef.getName(), endDef.getEntityType().getName()));
+    }
+
+
+    /**
+     * Locate a classification type supported by the repository that can be attached to the workload's type.
+     *
+     * @param userId calling user
+     * @param entityDef type of the entities
+     * @return classification type or null if there is none
+     * @throws Exception problem retrieving the types
+     */
+    private ClassificationDef getClassificationDef(String    userId,
+                                                   EntityDef entityDef) throws Exception
+    {
+        for (TypeDef typeDef : this.getSortedTypeDefs(userId, TypeDefCategory.CLASSIFICATION_DEF))
+        {
+            ClassificationDef classificationDef = (ClassificationDef) typeDef;
+            List<TypeDefLink> validEntityDefs   = classificationDef.getValidEntityDefs();
+
+            if ((validEntityDefs == null) || (validEntityDefs.isEmpty()))
+            {
+                return classificationDef;
+            }
+
+            for (TypeDefLink validEntityDef : validEntityDefs)
+            {
+                if ((validEntityDef != null) && (repositoryHelper.isTypeOf(repositoryName, entityDef.getName(), validEntityDef.getName())))
+                {
+                    return classificationDef;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Retrieve the types of a category from the repository sorted by name so the choice of types is repeatable.
+     *
+     * @param userId calling user
+     * @param category category of type
+     * @return list of types (may be empty)
+     * @throws Exception problem retrieving the types
+     */
+    private List<TypeDef> getSortedTypeDefs(String          userId,
+                                            TypeDefCategory category) throws Exception
+    {
+        List<TypeDef> typeDefs = new ArrayList<>();
+
+        List<TypeDef> supportedTypeDefs = metadataCollection.findTypeDefsByCategory(userId, category);
+
+        if (supportedTypeDefs != null)
+        {
+            typeDefs.addAll(supportedTypeDefs);
+        }
+
+        typeDefs.sort(Comparator.comparing(TypeDef::getName));
+
+        return typeDefs;
+    }
+
+
+    /**
+     * Return the name of a string property to search on, preferring a unique property.
+     *
+     * @param typeDefAttributes properties of the entity type
+     * @return property name or null if the type has no string properties
+     */
+    private String getSearchPropertyName(List<TypeDefAttribute> typeDefAttributes)
+    {
+        String searchPropertyName = null;
+
+        if (typeDefAttributes != null)
+        {
+            for (TypeDefAttribute typeDefAttribute : typeDefAttributes)
+            {
+                AttributeTypeDef attributeType = typeDefAttribute.getAttributeType();
+
+                if ((attributeType instanceof PrimitiveDef) &&
+                    (((PrimitiveDef) attributeType).getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING))
+                {
+                    if (typeDefAttribute.isUnique())
+                    {
+                        return typeDefAttribute.getAttributeName();
+                    }
+                    else if (searchPropertyName == null)
+                    {
+                        searchPropertyName = typeDefAttribute.getAttributeName();
+                    }
+                }
+            }
+        }
+
+        return searchPropertyName;
+    }
+
+
+    /**
+     * Return the value of a string property of an entity.
+     *
+     * @param entity entity
+     * @param propertyName name of the property
+     * @return string value or null
+     */
+    private String getStringValue(EntityDetail entity,
+                                  String       propertyName)
+    {
+        if (entity.getProperties() != null)
+        {
+            InstancePropertyValue propertyValue = entity.getProperties().getPropertyValue(propertyName);
+
+            if ((propertyValue instanceof PrimitivePropertyValue) && (((PrimitivePropertyValue) propertyValue).getPrimitiveValue() != null))
+            {
+                return ((PrimitivePropertyValue) propertyValue).getPrimitiveValue().toString();
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Remember the entities that were created so they are removed at the end of the test.
+     *
+     * @param entities results of the create requests
+     */
+    private void addCreatedEntities(List<EntityDetail> entities)
+    {
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                if (entity != null)
+                {
+                    createdEntities.add(entity);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the latest version of each created entity - the updated version if the update succeeded.
+     *
+     * @param updatedEntities results of the update requests
+     * @return list of entities
+     */
+    private List<EntityDetail> getCurrentEntities(List<EntityDetail> updatedEntities)
+    {
+        List<EntityDetail> currentEntities = new ArrayList<>();
+
+        for (int i = 0; i < createdEntities.size(); i++)
+        {
+            if ((updatedEntities != null) && (i < updatedEntities.size()) && (updatedEntities.get(i) != null))
+            {
+                currentEntities.add(updatedEntities.get(i));
+            }
+            else
+            {
+                currentEntities.add(createdEntities.get(i));
+            }
+        }
+
+        return currentEntities;
+    }
+
+
+    /**
+     * Delete and purge a relationship.  Repositories that do not support soft-delete purge it directly.
+     *
+     * @param userId calling user
+     * @param relationship relationship to remove
+     * @return relationship that was removed
+     * @throws Exception the relationship could not be removed
+     */
+    private Relationship deleteRelationship(String       userId,
+                                            Relationship relationship) throws Exception
+    {
+        String typeDefGUID = relationship.getType().getTypeDefGUID();
+        String typeDefName = relationship.getType().getTypeDefName();
+
+        try
+        {
+            metadataCollection.deleteRelationship(userId, typeDefGUID, typeDefName, relationship.getGUID());
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            /* soft-delete is optional */
+        }
+
+        metadataCollection.purgeRelationship(userId, typeDefGUID, typeDefName, relationship.getGUID());
+
+        synchronized (this)
+        {
+            createdRelationships.remove(relationship);
+        }
+
+        return relationship;
+    }
+
+
+    /**
+     * Delete and purge an entity.  Repositories that do not support soft-delete purge it directly.
+     *
+     * @param userId calling user
+     * @param entity entity to remove
+     * @return entity that was removed
+     * @throws Exception the entity could not be removed
+     */
+    private EntityDetail deleteEntity(String       userId,
+                                      EntityDetail entity) throws Exception
+    {
+        String typeDefGUID = entity.getType().getTypeDefGUID();
+        String typeDefName = entity.getType().getTypeDefName();
+
+        try
+        {
+            metadataCollection.deleteEntity(userId, typeDefGUID, typeDefName, entity.getGUID());
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            /* soft-delete is optional */
+        }
+
+        metadataCollection.purgeEntity(userId, typeDefGUID, typeDefName, entity.getGUID());
+
+        synchronized (this)
+        {
+            createdEntities.remove(entity);
+        }
+
+        return entity;
+    }
+}
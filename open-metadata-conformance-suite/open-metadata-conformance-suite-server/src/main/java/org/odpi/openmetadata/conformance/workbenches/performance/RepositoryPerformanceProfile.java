@@ -0,0 +1,160 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.conformance.beans.OpenMetadataConformanceProfilePriority;
+
+import java.io.Serializable;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RepositoryPerformanceProfile defines the groups of operations that the performance workbench measures for an
+ * open metadata repository.  The profiles are all optional - a repository that does not support an operation
+ * simply has no measurements for that profile.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum RepositoryPerformanceProfile implements Serializable
+{
+    ENTITY_CREATION          (0, "Entity creation",
+                                  "The time taken by the technology under test to create entities as the number of instances and concurrent requests grows.",
+                                  "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-creation",
+                                  OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    ENTITY_UPDATE            (1, "Entity update",
+                                  "The time taken by the technology under test to update the properties of entities.",
+                                  "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-update",
+                                  OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    ENTITY_CLASSIFICATION    (2, "Entity classification",
+                                  "The time taken by the technology under test to classify entities.",
+                                  "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-classification",
+                                  OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    RELATIONSHIP_CREATION    (3, "Relationship creation",
+                                  "The time taken by the technology under test to create relationships between entities.",
+                                  "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/relationship-creation",
+                                  OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    ENTITY_SEARCH            (4, "Entity search",
+                                  "The time taken by the technology under test to find entities by value, property and classification, and to page through the results.",
+                                  "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-search",
+                                  OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    GRAPH_QUERIES            (5, "Graph queries",
+                                  "The time taken by the technology under test to retrieve the neighborhood of an entity.",
+                                  "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/graph-queries",
+                                  OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    INSTANCE_DELETION        (6, "Instance deletion",
+                                  "The time taken by the technology under test to delete and purge entities and relationships.",
+                                  "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/instance-deletion",
+                                  OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE);
+
+
+    private static final long serialVersionUID = 1L;
+
+    private int                                    profileId;
+    private String                                 profileName;
+    private String                                 profileDescription;
+    private String                                 profileDocumentationURL;
+    private OpenMetadataConformanceProfilePriority profilePriority;
+
+
+    /**
+     * Default constructor sets up the values for this enum instance.
+     *
+     * @param profileId int identifier for the enum, used for indexing arrays etc with the enum.
+     * @param profileName String name for the enum, used for message content.
+     * @param profileDescription String default description for the enum, used when there is not natural
+     *                             language resource bundle available.
+     * @param profileDocumentationURL link to more documentation
+     * @param profilePriority is the profile mandatory or not?
+     */
+    RepositoryPerformanceProfile(int                                    profileId,
+                                 String                                 profileName,
+                                 String                                 profileDescription,
+                                 String                                 profileDocumentationURL,
+                                 OpenMetadataConformanceProfilePriority profilePriority)
+    {
+        this.profileId = profileId;
+        this.profileName = profileName;
+        this.profileDescription = profileDescription;
+        this.profileDocumentationURL = profileDocumentationURL;
+        this.profilePriority = profilePriority;
+    }
+
+
+    /**
+     * Return the identifier for the enum, used for indexing arrays etc with the enum.
+     *
+     * @return int identifier
+     */
+    public Integer getProfileId()
+    {
+        return profileId;
+    }
+
+
+    /**
+     * Return the name for the enum, used for message content.
+     *
+     * @return String name
+     */
+    public String getProfileName()
+    {
+        return profileName;
+    }
+
+
+    /**
+     * Return the default description for the enum, used when there is not natural
+     * language resource bundle available.
+     *
+     * @return String default description
+     */
+    public String getProfileDescription()
+    {
+        return profileDescription;
+    }
+
+
+    /**
+     * Return the URL to link to more documentation about this profile.
+     *
+     * @return url
+     */
+    public String getProfileDocumentationURL()
+    {
+        return profileDocumentationURL;
+    }
+
+
+    /**
+     * Return whether this profile is mandatory or optional.
+     *
+     * @return OpenMetadataConformanceProfilePriority enum
+     */
+    public OpenMetadataConformanceProfilePriority getProfilePriority()
+    {
+        return profilePriority;
+    }
+
+
+    /**
+     * toString() JSON-style
+     *
+     * @return string description
+     */
+    @Override
+    public String toString()
+    {
+        return "RepositoryPerformanceProfile{" +
+                "profileId=" + profileId +
+                ", profileName='" + profileName + '\'' +
+                ", profileDescription='" + profileDescription + '\'' +
+                ", profileDocumentationURL='" + profileDocumentationURL + '\'' +
+                ", profilePriority=" + profilePriority +
+                '}';
+    }
+}
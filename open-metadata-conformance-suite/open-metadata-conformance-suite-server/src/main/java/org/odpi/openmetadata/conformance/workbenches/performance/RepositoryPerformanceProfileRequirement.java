@@ -0,0 +1,189 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import java.io.Serializable;
+
+/**
+ * RepositoryPerformanceProfileRequirement documents the measurements made for each repository performance
+ * profile.  The repository performance tests report their throughput and latency for each requirement.
+ */
+public enum RepositoryPerformanceProfileRequirement implements Serializable
+{
+    ENTITY_CREATION_PERFORMANCE              (0, "Entity creation performance",
+                                              "Throughput and latency of addEntity.",
+                                              "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-creation/entity-creation-performance",
+                                              RepositoryPerformanceProfile.ENTITY_CREATION),
+    ENTITY_UPDATE_PERFORMANCE                (1, "Entity update performance",
+                                              "Throughput and latency of updateEntityProperties.",
+                                              "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-update/entity-update-performance",
+                                              RepositoryPerformanceProfile.ENTITY_UPDATE),
+    ENTITY_CLASSIFICATION_PERFORMANCE        (2, "Entity classification performance",
+                                              "Throughput and latency of classifyEntity.",
+                                              "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-classification/entity-classification-performance",
+                                              RepositoryPerformanceProfile.ENTITY_CLASSIFICATION),
+    RELATIONSHIP_CREATION_PERFORMANCE        (3, "Relationship creation performance",
+                                              "Throughput and latency of addRelationship.",
+                                              "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/relationship-creation/relationship-creation-performance",
+                                              RepositoryPerformanceProfile.RELATIONSHIP_CREATION),
+    ENTITY_VALUE_SEARCH_PERFORMANCE          (4, "Entity value search performance",
+                                              "Throughput and latency of findEntitiesByPropertyValue.",
+                                              "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-search/entity-value-search-performance",
+                                              RepositoryPerformanceProfile.ENTITY_SEARCH),
+    ENTITY_PROPERTY_SEARCH_PERFORMANCE       (5, "Entity property search performance",
+                                              "Throughput and latency of findEntitiesByProperty.",
+                                              "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-search/entity-property-search-performance",
+                                              RepositoryPerformanceProfile.ENTITY_SEARCH),
+    ENTITY_CLASSIFICATION_SEARCH_PERFORMANCE (6, "Entity classification search performance",
+                                              "Throughput and latency of findEntitiesByClassification.",
+                                              "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-search/entity-classification-search-performance",
+                                              RepositoryPerformanceProfile.ENTITY_SEARCH),
+    ENTITY_SEARCH_PAGING_PERFORMANCE         (7, "Entity search paging performance",
+                                              "Latency of each page retrieved when paging through the results of a search.",
+                                              "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-search/entity-search-paging-performance",
+                                              RepositoryPerformanceProfile.ENTITY_SEARCH),
+    ENTITY_NEIGHBORHOOD_PERFORMANCE          (8, "Entity neighborhood performance",
+                                              "Throughput and latency of getEntityNeighborhood.",
+                                              "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/graph-queries/entity-neighborhood-performance",
+                                              RepositoryPerformanceProfile.GRAPH_QUERIES),
+    RELATIONSHIP_DELETION_PERFORMANCE        (9, "Relationship deletion performance",
+                                              "Throughput and latency of deleting and purging relationships.",
+                                              "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/instance-deletion/relationship-deletion-performance",
+                                              RepositoryPerformanceProfile.INSTANCE_DELETION),
+    ENTITY_DELETION_PERFORMANCE              (10, "Entity deletion performance",
+                                              "Throughput and latency of deleting and purging entities.",
+                                              "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/instance-deletion/entity-deletion-performance",
+                                              RepositoryPerformanceProfile.INSTANCE_DELETION);
+
+
+    private static final long serialVersionUID = 1L;
+
+    private int                          ordinal;
+    private String                       name;
+    private String                       description;
+    private String                       documentationURL;
+    private RepositoryPerformanceProfile profile;
+
+
+
+    /**
+     * Default constructor sets up the values for this enum instance.
+     *
+     * @param ordinal int identifier for the enum, used for indexing arrays etc with the enum.
+     * @param name String name for the enum, used for message content.
+     * @param description String default description for the enum, used when there is not natural
+     *                             language resource bundle available.
+     * @param documentationURL link to more information
+     * @param profile parent profile
+     */
+    RepositoryPerformanceProfileRequirement(int                           ordinal,
+                                            String                        name,
+                                            String                        description,
+                                            String                        documentationURL,
+                                            RepositoryPerformanceProfile  profile)
+    {
+        this.ordinal = ordinal;
+        this.name = name;
+        this.description = description;
+        this.documentationURL = documentationURL;
+        this.profile = profile;
+    }
+
+
+    /**
+     * Return the identifier for the enum, used for indexing arrays etc with the enum.
+     *
+     * @return int identifier
+     */
+    public int getOrdinal()
+    {
+        return ordinal;
+    }
+
+
+    /**
+     * Return the name for the enum, used for message content.
+     *
+     * @return String name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the default description for the enum, used when there is not natural
+     * language resource bundle available.
+     *
+     * @return String default description
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Return the URL to link to more documentation about this profile.
+     *
+     * @return url
+     */
+    public String getDocumentationURL()
+    {
+        return documentationURL;
+    }
+
+
+    /**
+     * Return the profile that this requirement belongs to.
+     *
+     * @return priority enum
+     */
+    public RepositoryPerformanceProfile getProfile()
+    {
+        return profile;
+    }
+
+
+    /**
+     * Return the profile identifier that this requirement belongs to.
+     *
+     * @return profile id
+     */
+    public Integer getProfileId()
+    {
+        return profile.getProfileId();
+    }
+
+
+    /**
+     * Return the requirement identifier as an Integer.
+     *
+     * @return requirement id
+     */
+    public Integer getRequirementId()
+    {
+        return ordinal;
+    }
+
+
+    /**
+     * toString() JSON-style
+     *
+     * @return string description
+     */
+    @Override
+    public String toString()
+    {
+        return "RepositoryPerformanceProfileRequirement{" +
+                "ordinal=" + ordinal +
+                ", name='" + name + '\'' +
+                ", description='" + description + '\'' +
+                ", documentationURL='" + documentationURL + '\'' +
+                ", profile=" + profile +
+                ", profileId=" + getProfileId() +
+                ", requirementId=" + getRequirementId() +
+                '}';
+    }
+}
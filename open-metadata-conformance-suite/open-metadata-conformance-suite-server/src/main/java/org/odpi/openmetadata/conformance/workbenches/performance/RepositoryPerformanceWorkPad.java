@@ -0,0 +1,310 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.RepositoryPerformanceWorkbenchConfig;
+import org.odpi.openmetadata.conformance.beans.*;
+import org.odpi.openmetadata.conformance.workbenches.repository.RepositoryConformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * RepositoryPerformanceWorkPad provides the thread safe place to assemble results from the repository performance
+ * workbench.  It extends the repository work pad so that the technology under test is located through the same
+ * cohort connector consumer as the repository workbench.
+ */
+public class RepositoryPerformanceWorkPad extends RepositoryConformanceWorkPad
+{
+    private static final String workbenchId            = "performance-workbench";
+    private static final String workbenchName          = "Open Metadata Repository Performance Workbench";
+    private static final String workbenchVersionNumber = "V1.0";
+    private static final String workbenchDocURL        = "https://egeria.odpi.org/open-metadata-conformance-suite/docs/" + workbenchId;
+
+    private String        entityTypeName = "Referenceable";
+    private List<Integer> instanceCounts = Collections.singletonList(10);
+    private List<Integer> threadCounts   = Collections.singletonList(1);
+
+
+    /**
+     * Constructor receives key information from the configuration services.
+     *
+     * @param localServerUserId userId that this server should use on requests
+     * @param localServerPassword password that this server should use on requests
+     * @param maxPageSize maximum number of elements that can be returned on a single call
+     * @param auditLog audit log for administrator messages
+     * @param configuration configuration for this work pad/workbench
+     */
+    public RepositoryPerformanceWorkPad(String                                localServerUserId,
+                                        String                                localServerPassword,
+                                        int                                   maxPageSize,
+                                        OMRSAuditLog                          auditLog,
+                                        RepositoryPerformanceWorkbenchConfig  configuration)
+    {
+        super(workbenchId,
+              workbenchName,
+              workbenchVersionNumber,
+              workbenchDocURL,
+              localServerUserId,
+              localServerPassword,
+              maxPageSize,
+              auditLog,
+              configuration == null ? null : configuration.getTutRepositoryServerName(),
+              configuration == null ? 50 : configuration.getMaxSearchResults());
+
+        if (configuration != null)
+        {
+            if (configuration.getEntityTypeName() != null)
+            {
+                this.entityTypeName = configuration.getEntityTypeName();
+            }
+
+            if (configuration.getInstanceCounts() != null)
+            {
+                this.instanceCounts = configuration.getInstanceCounts();
+            }
+
+            if (configuration.getThreadCounts() != null)
+            {
+                this.threadCounts = configuration.getThreadCounts();
+            }
+        }
+    }
+
+
+    /**
+     * Return the name of the entity type used for the workload.
+     *
+     * @return type name
+     */
+    public String getEntityTypeName()
+    {
+        return entityTypeName;
+    }
+
+
+    /**
+     * Return the number of entities created in each step of the workload.
+     *
+     * @return list of instance counts
+     */
+    public List<Integer> getInstanceCounts()
+    {
+        return instanceCounts;
+    }
+
+
+    /**
+     * Return the number of concurrent threads that issue requests in each step of the workload.
+     *
+     * @return list of thread counts
+     */
+    public List<Integer> getThreadCounts()
+    {
+        return threadCounts;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized List<String> getProfileNames()
+    {
+        List<String> list = new ArrayList<>();
+
+        for (RepositoryPerformanceProfile profile : RepositoryPerformanceProfile.values())
+        {
+            list.add(profile.getProfileName());
+        }
+
+        return list;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized OpenMetadataConformanceProfileResults getProfileResults(String profileName)
+    {
+        for (RepositoryPerformanceProfile profile : RepositoryPerformanceProfile.values())
+        {
+            if (profile.getProfileName().equals(profileName))
+            {
+                OpenMetadataConformanceProfileResults profileResults = new OpenMetadataConformanceProfileResults();
+
+                profileResults.setId(profile.getProfileId());
+                profileResults.setName(profileName);
+                profileResults.setDocumentationURL(profile.getProfileDocumentationURL());
+                profileResults.setDescription(profile.getProfileDescription());
+                profileResults.setProfilePriority(profile.getProfilePriority());
+
+                List<OpenMetadataConformanceTestEvidence> profileTestEvidence = this.getTestEvidence(profile.getProfileId(), null);
+
+                if (profileTestEvidence.isEmpty())
+                {
+                    profileResults.setConformanceStatus(OpenMetadataConformanceStatus.UNKNOWN_STATUS);
+                }
+                else
+                {
+                    profileResults.setConformanceStatus(super.processEvidence(profileTestEvidence,
+                                                                              new ArrayList<>(),
+                                                                              new ArrayList<>()));
+
+                    List<OpenMetadataConformanceRequirementResults> requirementResultsList = new ArrayList<>();
+
+                    for (RepositoryPerformanceProfileRequirement requirement : RepositoryPerformanceProfileRequirement.values())
+                    {
+                        if (requirement.getProfileId().equals(profile.getProfileId()))
+                        {
+                            OpenMetadataConformanceRequirementResults requirementResults = new OpenMetadataConformanceRequirementResults();
+
+                            requirementResults.setId(requirement.getRequirementId());
+                            requirementResults.setName(requirement.getName());
+                            requirementResults.setDescription(requirement.getDescription());
+                            requirementResults.setDocumentationURL(requirement.getDocumentationURL());
+
+                            List<OpenMetadataConformanceTestEvidence> positiveTestEvidence = new ArrayList<>();
+                            List<OpenMetadataConformanceTestEvidence> negativeTestEvidence = new ArrayList<>();
+
+                            requirementResults.setConformanceStatus(super.processEvidence(this.getTestEvidence(requirement.getProfileId(),
+                                                                                                               requirement.getRequirementId()),
+                                                                                          positiveTestEvidence,
+                                                                                          negativeTestEvidence));
+
+                            if (! positiveTestEvidence.isEmpty())
+                            {
+                                requirementResults.setPositiveTestEvidence(positiveTestEvidence);
+                            }
+
+                            if (! negativeTestEvidence.isEmpty())
+                            {
+                                requirementResults.setNegativeTestEvidence(negativeTestEvidence);
+                            }
+
+                            requirementResultsList.add(requirementResults);
+                        }
+                    }
+
+                    profileResults.setRequirementResults(requirementResultsList);
+                }
+
+                return profileResults;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized List<OpenMetadataConformanceProfileSummary> getProfileSummaries()
+    {
+        List<OpenMetadataConformanceProfileSummary> summaryList = new ArrayList<>();
+
+        for (RepositoryPerformanceProfile profile : RepositoryPerformanceProfile.values())
+        {
+            OpenMetadataConformanceProfileSummary profileSummary = new OpenMetadataConformanceProfileSummary();
+
+            profileSummary.setId(profile.getProfileId());
+            profileSummary.setName(profile.getProfileName());
+            profileSummary.setDocumentationURL(profile.getProfileDocumentationURL());
+            profileSummary.setDescription(profile.getProfileDescription());
+            profileSummary.setProfilePriority(profile.getProfilePriority());
+
+            List<OpenMetadataConformanceTestEvidence> profileTestEvidence = this.getTestEvidence(profile.getProfileId(), null);
+
+            if (profileTestEvidence.isEmpty())
+            {
+                profileSummary.setConformanceStatus(OpenMetadataConformanceStatus.UNKNOWN_STATUS);
+            }
+            else
+            {
+                profileSummary.setConformanceStatus(super.processEvidence(profileTestEvidence,
+                                                                          new ArrayList<>(),
+                                                                          new ArrayList<>()));
+
+                List<OpenMetadataConformanceRequirementSummary> requirementSummaryList = new ArrayList<>();
+
+                for (RepositoryPerformanceProfileRequirement requirement : RepositoryPerformanceProfileRequirement.values())
+                {
+                    if (requirement.getProfileId().equals(profile.getProfileId()))
+                    {
+                        OpenMetadataConformanceRequirementSummary requirementSummary = new OpenMetadataConformanceRequirementSummary();
+
+                        requirementSummary.setId(requirement.getRequirementId());
+                        requirementSummary.setName(requirement.getName());
+                        requirementSummary.setDescription(requirement.getDescription());
+                        requirementSummary.setDocumentationURL(requirement.getDocumentationURL());
+                        requirementSummary.setConformanceStatus(super.processEvidence(this.getTestEvidence(requirement.getProfileId(),
+                                                                                                           requirement.getRequirementId()),
+                                                                                      new ArrayList<>(),
+                                                                                      new ArrayList<>()));
+
+                        requirementSummaryList.add(requirementSummary);
+                    }
+                }
+
+                profileSummary.setRequirementSummary(requirementSummaryList);
+            }
+
+            summaryList.add(profileSummary);
+        }
+
+        return summaryList;
+    }
+
+
+    /**
+     * Select the test evidence for a profile, or for a requirement within the profile.
+     *
+     * @param profileId identifier of the profile
+     * @param requirementId identifier of the requirement or null for all of the profile's requirements
+     * @return list of test evidence (may be empty)
+     */
+    private List<OpenMetadataConformanceTestEvidence> getTestEvidence(Integer profileId,
+                                                                      Integer requirementId)
+    {
+        List<OpenMetadataConformanceTestEvidence> selectedTestEvidence = new ArrayList<>();
+
+        if (testEvidenceList != null)
+        {
+            for (OpenMetadataConformanceTestEvidence testEvidenceItem : testEvidenceList)
+            {
+                if ((testEvidenceItem != null) &&
+                    (profileId.equals(testEvidenceItem.getProfileId())) &&
+                    ((requirementId == null) || (requirementId.equals(testEvidenceItem.getRequirementId()))))
+                {
+                    selectedTestEvidence.add(testEvidenceItem);
+                }
+            }
+        }
+
+        return selectedTestEvidence;
+    }
+
+
+    /**
+     * toString() JSON-style
+     *
+     * @return string description
+     */
+    @Override
+    public String toString()
+    {
+        return "RepositoryPerformanceWorkPad{" +
+                "entityTypeName='" + entityTypeName + '\'' +
+                ", instanceCounts=" + instanceCounts +
+                ", threadCounts=" + threadCounts +
+                ", tutServerName='" + getTutServerName() + '\'' +
+                ", workbenchId='" + workbenchId + '\'' +
+                '}';
+    }
+}
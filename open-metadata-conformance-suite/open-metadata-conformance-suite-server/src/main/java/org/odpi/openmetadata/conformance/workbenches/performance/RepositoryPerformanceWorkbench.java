@@ -0,0 +1,175 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import org.odpi.openmetadata.conformance.auditlog.ConformanceSuiteAuditCode;
+import org.odpi.openmetadata.conformance.tests.performance.TestRepositoryWorkload;
+import org.odpi.openmetadata.conformance.workbenches.OpenMetadataConformanceWorkbench;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * RepositoryPerformanceWorkbench provides the thread that drives the performance workbench from the Open Metadata
+ * Conformance Suite.  It runs the repository workload once for each combination of instance count and thread count
+ * in the configuration so the results show how the repository under test behaves as the volume and concurrency of
+ * requests grow.
+ */
+public class RepositoryPerformanceWorkbench extends OpenMetadataConformanceWorkbench
+{
+    private static final Logger log = LoggerFactory.getLogger(RepositoryPerformanceWorkbench.class);
+
+    private RepositoryPerformanceWorkPad workPad;
+
+
+    /**
+     * Constructor receives the work pad with the configuration that provides the location to record the results.
+     *
+     * @param workPad performance workbench's work pad
+     */
+    public RepositoryPerformanceWorkbench(RepositoryPerformanceWorkPad workPad)
+    {
+        super(workPad.getWorkbenchId(),
+              workPad.getWorkbenchName(),
+              workPad.getWorkbenchVersionNumber(),
+              workPad.getWorkbenchDocURL());
+
+        /*
+         * On construction of the workbench reset runningFlag to true.
+         */
+        runningFlag = true;
+
+        final String methodName = "performanceWorkbenchThread.constructor";
+
+        this.workPad = workPad;
+
+        OMRSAuditLog auditLog = workPad.getAuditLog();
+
+        ConformanceSuiteAuditCode auditCode = ConformanceSuiteAuditCode.WORKBENCH_INITIALIZING;
+        auditLog.logRecord(methodName,
+                           auditCode.getLogMessageId(),
+                           auditCode.getSeverity(),
+                           auditCode.getFormattedLogMessage(workbenchId, workbenchDocumentationURL),
+                           null,
+                           auditCode.getSystemAction(),
+                           auditCode.getUserAction());
+    }
+
+
+    /**
+     * Run the workload for each step in the configuration.  Each step cleans up the instances it creates so
+     * the steps do not affect one another.
+     */
+    private void runTests()
+    {
+        for (Integer instanceCount : workPad.getInstanceCounts())
+        {
+            for (Integer threadCount : workPad.getThreadCounts())
+            {
+                if ((! super.isRunning()) || (instanceCount == null) || (threadCount == null))
+                {
+                    continue;
+                }
+
+                TestRepositoryWorkload testCase = new TestRepositoryWorkload(workPad, instanceCount, threadCount);
+
+                testCase.executeTest();
+                testCase.cleanTest();
+            }
+        }
+    }
+
+
+    /**
+     * Default run method - executes the workload steps once the repository under test has connected to the cohort.
+     */
+    @Override
+    public void run()
+    {
+        final String methodName = "performanceWorkbenchThread.run";
+
+        if (workPad != null)
+        {
+            long retryCount = 0;
+            OMRSAuditLog auditLog = workPad.getAuditLog();
+            ConformanceSuiteAuditCode auditCode;
+
+            auditCode = ConformanceSuiteAuditCode.WORKBENCH_INITIALIZED;
+            auditLog.logRecord(methodName,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(workPad.getWorkbenchId()),
+                               null,
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+
+            while (super.isRunning() && (workPad.getTutRepositoryConnector() == null))
+            {
+                try
+                {
+                    /*
+                     * Wait for server to connect to the cohort
+                     */
+                    if (retryCount == 100)
+                    {
+                        retryCount = 0;
+                    }
+                    else
+                    {
+                        if (retryCount == 0)
+                        {
+                            auditCode = ConformanceSuiteAuditCode.WORKBENCH_WAITING_TO_START;
+                            auditLog.logRecord(methodName,
+                                               auditCode.getLogMessageId(),
+                                               auditCode.getSeverity(),
+                                               auditCode.getFormattedLogMessage(workPad.getWorkbenchId(),
+                                                                                workPad.getTutServerName()),
+                                               null,
+                                               auditCode.getSystemAction(),
+                                               auditCode.getUserAction());
+                        }
+                        retryCount++;
+                    }
+                    Thread.sleep(1000);
+                }
+                catch (InterruptedException wakeUp)
+                {
+                    /*
+                     * Test again.
+                     */
+                }
+                catch (Throwable error)
+                {
+                    stopRunning();
+                    log.error(String.format("Unexpected error: %s", error.getMessage()), error);
+
+                    auditCode = ConformanceSuiteAuditCode.WORKBENCH_FAILURE;
+                    auditLog.logRecord(methodName,
+                                       auditCode.getLogMessageId(),
+                                       auditCode.getSeverity(),
+                                       auditCode.getFormattedLogMessage(workPad.getWorkbenchId(),
+                                                                        error.getMessage()),
+                                       error.toString(),
+                                       auditCode.getSystemAction(),
+                                       auditCode.getUserAction());
+                }
+            }
+
+            if (workPad.getTutRepositoryConnector() != null)
+            {
+                runTests();
+            }
+
+            workPad.setWorkbenchComplete();
+
+            auditCode = ConformanceSuiteAuditCode.WORKBENCH_SYNC_COMPLETED;
+            auditLog.logRecord(methodName,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(workPad.getWorkbenchId()),
+                               null,
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+        }
+    }
+}
@@ -69,6 +69,44 @@ public class RepositoryConformanceWorkPad extends OpenMetadataConformanceWorkben
                                         int                                   maxPageSize,
                                         OMRSAuditLog                          auditLog,
                                         RepositoryConformanceWorkbenchConfig  configuration)
+    {
+        this(workbenchId,
+             workbenchName,
+             workbenchVersionNumber,
+             workbenchDocURL,
+             localServerUserId,
+             localServerPassword,
+             maxPageSize,
+             auditLog,
+             configuration == null ? null : configuration.getTutRepositoryServerName(),
+             configuration == null ? 50 : configuration.getMaxSearchResults());
+    }
+
+
+    /**
+     * Constructor used by the workbenches that reuse the repository work pad to connect to the technology under test.
+     *
+     * @param workbenchId unique identifier of the workbench
+     * @param workbenchName name of the workbench
+     * @param workbenchVersionNumber version of the workbench
+     * @param workbenchDocURL documentation for the workbench
+     * @param localServerUserId userId that this server should use on requests
+     * @param localServerPassword password that this server should use on requests
+     * @param maxPageSize maximum number of elements that can be returned on a single call
+     * @param auditLog audit log for administrator messages
+     * @param tutServerName name of the server to test
+     * @param maxSearchResults maximum number of search results to process
+     */
+    protected RepositoryConformanceWorkPad(String       workbenchId,
+                                           String       workbenchName,
+                                           String       workbenchVersionNumber,
+                                           String       workbenchDocURL,
+                                           String       localServerUserId,
+                                           String       localServerPassword,
+                                           int          maxPageSize,
+                                           OMRSAuditLog auditLog,
+                                           String       tutServerName,
+                                           int          maxSearchResults)
     {
         super(workbenchId,
               workbenchName,
@@ -80,13 +118,9 @@ public class RepositoryConformanceWorkPad extends OpenMetadataConformanceWorkben
               maxPageSize);
 
         this.auditLog = auditLog;
-
-        if (configuration != null)
-        {
-            this.tutServerName = configuration.getTutRepositoryServerName();
-            this.maxSearchResults = configuration.getMaxSearchResults();
-            super.tutName = this.tutServerName;
-        }
+        this.tutServerName = tutServerName;
+        this.maxSearchResults = maxSearchResults;
+        super.tutName = tutServerName;
     }
 
     /**
@@ -81,7 +81,7 @@ public class AnalyticsModelingRestServices {
 			ret = handleInvalidParameterResponse(e, methodName);
 		}
 
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 
@@ -119,7 +119,7 @@ public class AnalyticsModelingRestServices {
 			ret = handleInvalidParameterResponse(e, methodName);
 		}
 
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 
@@ -151,7 +151,7 @@ public class AnalyticsModelingRestServices {
 		} catch (InvalidParameterException e) {
 			ret = handleInvalidParameterResponse(e, methodName);
 		}
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 
@@ -188,7 +188,7 @@ public class AnalyticsModelingRestServices {
 			ret = handleInvalidParameterResponse(e, methodName);
 		}
 		
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 	
@@ -221,7 +221,7 @@ public class AnalyticsModelingRestServices {
 			ret = handleInvalidParameterResponse(e, methodName);
 		}
 		
-		restCallLogger.logRESTCallReturn(token, ret.toString());
+		restCallLogger.logRESTCallReturn(token, ret);
 		return ret;
 	}
 
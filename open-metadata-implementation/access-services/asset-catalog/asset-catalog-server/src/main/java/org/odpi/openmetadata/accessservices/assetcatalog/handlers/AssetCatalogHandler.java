@@ -30,6 +30,11 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.ClassificationCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
@@ -45,7 +50,10 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -391,36 +399,23 @@ public class AssetCatalogHandler {
         invalidParameterHandler.validateObject(searchParameters, SEARCH_PARAMETER, methodName);
         invalidParameterHandler.validatePaging(searchParameters.getFrom(), searchParameters.getPageSize(), methodName);
 
-        List<EntityDetail> result;
+        List<String> types = defaultSearchTypes;
         if (CollectionUtils.isNotEmpty(searchParameters.getEntityTypes())) {
-            List<String> typesFilter = commonHandler.getTypesGUID(userId, searchParameters.getEntityTypes());
-            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, typesFilter);
-        } else {
-            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, defaultSearchTypes);
+            types = commonHandler.getTypesGUID(userId, searchParameters.getEntityTypes());
         }
 
-        List<AssetElements> list = new ArrayList<>();
-
+        List<AssetElements> list = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, types, methodName);
 
-        for (EntityDetail entityDetail : result) {
-            try {
-                invalidParameterHandler.validateAssetInSupportedZone(entityDetail.getGUID(),
-                        GUID_PARAMETER,
-                        commonHandler.getAssetZoneMembership(entityDetail.getClassifications()),
-                        supportedZones,
-                        serverUserName,
-                        methodName);
-                AssetElements assetElements = assetConverter.buildAssetElements(entityDetail);
-                list.add(assetElements);
-            } catch (org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException e) {
-                log.debug("This asset if a different zone: {}", entityDetail.getGUID());
-            }
-        }
         SequencingOrder sequencingOrder = searchParameters.getSequencingOrder();
         String sequencingProperty = searchParameters.getSequencingProperty();
 
         list.sort((firstAsset, secondAsset) ->
                 orderElements(firstAsset, secondAsset, sequencingProperty, sequencingOrder));
+
+        // the page is cut from the merged results once they are in the requested order
+        if (searchParameters.getPageSize() > 0 && list.size() > searchParameters.getPageSize()) {
+            return new ArrayList<>(list.subList(0, searchParameters.getPageSize()));
+        }
         return list;
     }
 
@@ -546,24 +541,68 @@ public class AssetCatalogHandler {
         invalidParameterHandler.validateGUID(endAssetGUID, "endAssetGUID", methodName);
     }
 
-    private List<EntityDetail> collectSearchedEntitiesByType(String userId,
-                                                             String searchCriteria,
-                                                             SearchParameters searchParameters,
-                                                             List<String> types)
+    private List<AssetElements> collectSearchedEntitiesByType(String userId,
+                                                              String searchCriteria,
+                                                              SearchParameters searchParameters,
+                                                              List<String> types,
+                                                              String methodName)
             throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException, FunctionNotSupportedException,
             org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, PropertyErrorException,
             TypeErrorException, PagingErrorException, RepositoryErrorException, InvalidParameterException {
-        List<EntityDetail> result = new ArrayList<>();
+        List<AssetElements> result = new ArrayList<>();
+        Set<String> collectedGUIDs = new HashSet<>();
+        boolean ordered = isOrdered(searchParameters);
 
         OMRSMetadataCollection metadataCollection = commonHandler.getOMRSMetadataCollection();
         searchCriteria = repositoryHelper.getContainsRegex(searchCriteria, searchParameters.isCaseInsensitive());
 
+        // the types are searched with one query for each property that is matched against the search criteria
+        Map<String, List<String>> typesByMatchProperty = new LinkedHashMap<>();
         for (String type : types) {
-            result.addAll(searchEntityByCriteria(userId, searchCriteria, type, searchParameters, metadataCollection));
+            String matchProperty = commonHandler.hasDisplayName(userId, type) ? DISPLAY_NAME : NAME;
+            typesByMatchProperty.computeIfAbsent(matchProperty, property -> new ArrayList<>()).add(type);
+        }
+
+        for (Map.Entry<String, List<String>> entry : typesByMatchProperty.entrySet()) {
+            List<EntityDetail> entities = searchEntitiesByCriteria(userId, searchCriteria, entry.getKey(), entry.getValue(),
+                    searchParameters, metadataCollection);
+
+            for (EntityDetail entityDetail : entities) {
+                if (collectedGUIDs.add(entityDetail.getGUID()) && isInSupportedZone(entityDetail, methodName)) {
+                    result.add(assetConverter.buildAssetElements(entityDetail));
+                }
+            }
+
+            // without an order the remaining types are not queried once the requested page is complete;
+            // with an order, the results of every query are needed to find the first elements of the page
+            if (!ordered && searchParameters.getPageSize() > 0 && result.size() >= searchParameters.getPageSize()) {
+                return result;
+            }
         }
         return result;
     }
 
+    private boolean isOrdered(SearchParameters searchParameters) {
+        return searchParameters.getSequencingProperty() != null
+                && searchParameters.getSequencingOrder() != null
+                && searchParameters.getSequencingOrder() != SequencingOrder.ANY;
+    }
+
+    private boolean isInSupportedZone(EntityDetail entityDetail, String methodName) {
+        try {
+            invalidParameterHandler.validateAssetInSupportedZone(entityDetail.getGUID(),
+                    GUID_PARAMETER,
+                    commonHandler.getAssetZoneMembership(entityDetail.getClassifications()),
+                    supportedZones,
+                    serverUserName,
+                    methodName);
+            return true;
+        } catch (org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException e) {
+            log.debug("This asset if a different zone: {}", entityDetail.getGUID());
+            return false;
+        }
+    }
+
     private void getContextForSchemaElement(String userId,
                                             EntityDetail entityDetail,
                                             AssetElement assetElement)
@@ -646,18 +685,20 @@ public class AssetCatalogHandler {
                                              EntityDetail entityDetail,
                                              AssetElement assetElement)
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
+        // hosts and locations shared by several parts of the infrastructure are only walked once
+        Set<String> processedGUIDs = new HashSet<>();
         switch (entityDetail.getType().getTypeDefName()) {
             case HOST:
-                getContextForHost(userId, entityDetail, assetElement);
+                getContextForHost(userId, entityDetail, assetElement, processedGUIDs);
                 break;
             case NETWORK:
-                getContextForNetwork(userId, entityDetail, assetElement);
+                getContextForNetwork(userId, entityDetail, assetElement, processedGUIDs);
                 break;
             case SOFTWARE_SERVER_PLATFORM:
-                getContextForSoftwareServerPlatform(userId, entityDetail, assetElement);
+                getContextForSoftwareServerPlatform(userId, entityDetail, assetElement, processedGUIDs);
                 break;
             case SOFTWARE_SERVER:
-                getContextForSoftwareServer(userId, entityDetail, assetElement);
+                getContextForSoftwareServer(userId, entityDetail, assetElement, processedGUIDs);
                 break;
             default:
                 break;
@@ -851,7 +892,8 @@ public class AssetCatalogHandler {
 
     private void getContextForSoftwareServerPlatform(String userId,
                                                      EntityDetail entityDetail,
-                                                     AssetElement assetElement)
+                                                     AssetElement assetElement,
+                                                     Set<String> processedGUIDs)
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         String method = "getContextForSoftwareServerPlatform";
 
@@ -865,13 +907,14 @@ public class AssetCatalogHandler {
 
         if (host != null) {
             assetConverter.addElement(assetElement, host);
-            getContextForHost(userId, host, assetElement);
+            getContextForHost(userId, host, assetElement, processedGUIDs);
         }
     }
 
     private void getContextForNetwork(String userId,
                                       EntityDetail entityDetail,
-                                      AssetElement assetElement)
+                                      AssetElement assetElement,
+                                      Set<String> processedGUIDs)
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         String method = "getContextForNetwork";
 
@@ -899,16 +942,21 @@ public class AssetCatalogHandler {
         if (CollectionUtils.isNotEmpty(hosts)) {
             for (EntityDetail host : hosts) {
                 assetConverter.addElement(assetElement, host);
-                getContextForHost(userId, host, assetElement);
+                getContextForHost(userId, host, assetElement, processedGUIDs);
             }
         }
     }
 
     private void getContextForHost(String userId,
                                    EntityDetail entityDetail,
-                                   AssetElement assetElement)
+                                   AssetElement assetElement,
+                                   Set<String> processedGUIDs)
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         String method = "getContextForHost";
+        if (!processedGUIDs.add(entityDetail.getGUID())) {
+            return;
+        }
+
         List<EntityDetail> hosts = null;
         if (entityDetail.getType().getTypeDefName().equals(VIRTUAL_CONTAINER)) {
             hosts = repositoryHandler.getEntitiesForRelationshipType(userId,
@@ -956,16 +1004,21 @@ public class AssetCatalogHandler {
         if (CollectionUtils.isNotEmpty(locations)) {
             for (EntityDetail location : locations) {
                 assetConverter.addElement(assetElement, location);
-                getContextForLocation(userId, assetElement, location);
+                getContextForLocation(userId, assetElement, location, processedGUIDs);
             }
         }
     }
 
     private void getContextForLocation(String userId,
                                        AssetElement assetElement,
-                                       EntityDetail location)
+                                       EntityDetail location,
+                                       Set<String> processedGUIDs)
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         String method = "getContextForLocation";
+        if (!processedGUIDs.add(location.getGUID())) {
+            return;
+        }
+
 
         List<EntityDetail> assetLocations = repositoryHandler.getEntitiesForRelationshipType(
                 userId,
@@ -998,14 +1051,15 @@ public class AssetCatalogHandler {
         if (CollectionUtils.isNotEmpty(nestedLocations)) {
             for (EntityDetail nestedLocation : nestedLocations) {
                 assetConverter.addElement(assetElement, nestedLocation);
-                getContextForLocation(userId, assetElement, nestedLocation);
+                getContextForLocation(userId, assetElement, nestedLocation, processedGUIDs);
             }
         }
     }
 
     private void getContextForSoftwareServer(String userId,
                                              EntityDetail entityDetail,
-                                             AssetElement assetElement)
+                                             AssetElement assetElement,
+                                             Set<String> processedGUIDs)
             throws UserNotAuthorizedException, PropertyServerException, InvalidParameterException {
         String method = "getContextForSoftwareServer";
         Element parentElement = null;
@@ -1021,7 +1075,7 @@ public class AssetCatalogHandler {
         if (softwareServerPlatform != null) {
             parentElement = assetConverter.getLastNode(assetElement);
             assetConverter.addElement(assetElement, softwareServerPlatform);
-            getContextForSoftwareServerPlatform(userId, softwareServerPlatform, assetElement);
+            getContextForSoftwareServerPlatform(userId, softwareServerPlatform, assetElement, processedGUIDs);
         }
 
         EntityDetail endpoint = repositoryHandler.getEntityForRelationshipType(
@@ -1376,27 +1430,65 @@ public class AssetCatalogHandler {
         return entityDetails.getClassifications();
     }
 
+    private List<EntityDetail> searchEntitiesByCriteria(String userId,
+                                                        String searchCriteria,
+                                                        String matchProperty,
+                                                        List<String> entityTypeGUIDs,
+                                                        SearchParameters searchParameters,
+                                                        OMRSMetadataCollection metadataCollection)
+            throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException,
+            FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException,
+            PropertyErrorException, TypeErrorException, PagingErrorException, RepositoryErrorException {
+
+        PropertyCondition propertyCondition = new PropertyCondition();
+        propertyCondition.setProperty(matchProperty);
+        propertyCondition.setOperator(PropertyComparisonOperator.LIKE);
+        propertyCondition.setValue(getSearchCriteriaValue(searchCriteria));
+
+        SearchProperties matchProperties = new SearchProperties();
+        matchProperties.setConditions(Collections.singletonList(propertyCondition));
+        matchProperties.setMatchCriteria(MatchCriteria.ANY);
+
+        try {
+            List<EntityDetail> entities = metadataCollection.findEntities(userId,
+                    null,
+                    entityTypeGUIDs,
+                    matchProperties,
+                    searchParameters.getFrom(),
+                    Collections.singletonList(InstanceStatus.ACTIVE),
+                    getSearchClassifications(searchParameters.getLimitResultsByClassification()),
+                    null,
+                    searchParameters.getSequencingProperty(),
+                    searchParameters.getSequencingOrder() == null ? SequencingOrder.ANY : searchParameters.getSequencingOrder(),
+                    searchParameters.getPageSize());
+
+            if (CollectionUtils.isNotEmpty(entities)) {
+                return entities;
+            }
+            return new ArrayList<>();
+        } catch (FunctionNotSupportedException e) {
+            log.debug("The repository does not support multi-type search, searching for each type: {}", entityTypeGUIDs);
+        }
+
+        List<EntityDetail> result = new ArrayList<>();
+        for (String entityTypeGUID : entityTypeGUIDs) {
+            result.addAll(searchEntityByCriteria(userId, searchCriteria, matchProperty, entityTypeGUID, searchParameters, metadataCollection));
+        }
+        return result;
+    }
+
     private List<EntityDetail> searchEntityByCriteria(String userId,
                                                       String searchCriteria,
+                                                      String matchProperty,
                                                       String entityTypeGUID,
                                                       SearchParameters searchParameters, OMRSMetadataCollection metadataCollection)
             throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException,
             FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException,
-            PropertyErrorException, TypeErrorException, PagingErrorException, RepositoryErrorException, InvalidParameterException {
+            PropertyErrorException, TypeErrorException, PagingErrorException, RepositoryErrorException {
 
         InstanceProperties matchProperties = new InstanceProperties();
-        PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
-
-        primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
-        primitivePropertyValue.setPrimitiveValue(searchCriteria);
-        primitivePropertyValue.setTypeName(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getName());
-        primitivePropertyValue.setTypeGUID(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getGUID());
+        matchProperties.setProperty(matchProperty, getSearchCriteriaValue(searchCriteria));
 
-        if (commonHandler.hasDisplayName(userId, entityTypeGUID)) {
-            matchProperties.setProperty(DISPLAY_NAME, primitivePropertyValue);
-        } else {
-            matchProperties.setProperty(NAME, primitivePropertyValue);
-        }
         List<EntityDetail> entitiesByPropertyValue = metadataCollection.findEntitiesByProperty(userId,
                 entityTypeGUID,
                 matchProperties,
@@ -1415,6 +1507,34 @@ public class AssetCatalogHandler {
         return new ArrayList<>();
     }
 
+    private PrimitivePropertyValue getSearchCriteriaValue(String searchCriteria) {
+        PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+
+        primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        primitivePropertyValue.setPrimitiveValue(searchCriteria);
+        primitivePropertyValue.setTypeName(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getName());
+        primitivePropertyValue.setTypeGUID(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getGUID());
+        return primitivePropertyValue;
+    }
+
+    private SearchClassifications getSearchClassifications(List<String> classificationNames) {
+        if (CollectionUtils.isEmpty(classificationNames)) {
+            return null;
+        }
+
+        List<ClassificationCondition> conditions = new ArrayList<>();
+        for (String classificationName : classificationNames) {
+            ClassificationCondition condition = new ClassificationCondition();
+            condition.setName(classificationName);
+            conditions.add(condition);
+        }
+
+        SearchClassifications searchClassifications = new SearchClassifications();
+        searchClassifications.setConditions(conditions);
+        searchClassifications.setMatchCriteria(MatchCriteria.ALL);
+        return searchClassifications;
+    }
+
     private List<Classification> filterClassificationByName(List<Classification> classifications, String classificationName) {
         return classifications.stream().filter(classification -> classification.getName().equals(classificationName)).collect(Collectors.toList());
     }
@@ -246,22 +246,19 @@ public class CommonHandler {
     Set<String> collectSuperTypes(String userId, String typeDefName) {
         Set<String> superTypes = new HashSet<>();
 
-        TypeDef typeDefByName = repositoryHelper.getTypeDefByName(userId, typeDefName);
-        if (typeDefByName != null) {
-            collectSuperTypes(userId, typeDefByName, superTypes);
+        Set<String> superTypeNames = repositoryHelper.getSuperTypeNames(userId, typeDefName);
+        if (superTypeNames == null || typeDefName.equals(REFERENCEABLE)) {
+            return superTypes;
         }
 
-        return superTypes;
-    }
-
-    private void collectSuperTypes(String userId, TypeDef type, Set<String> superTypes) {
-        if (type.getName().equals(REFERENCEABLE)) {
-            return;
-        }
-        superTypes.add(type.getName());
-        TypeDef typeDefByName = repositoryHelper.getTypeDefByName(userId, type.getSuperType().getName());
-        if (typeDefByName != null) {
-            collectSuperTypes(userId, typeDefByName, superTypes);
+        superTypes.add(typeDefName);
+        for (String superTypeName : superTypeNames) {
+            if (superTypeName.equals(REFERENCEABLE)) {
+                break;
+            }
+            superTypes.add(superTypeName);
         }
+
+        return superTypes;
     }
 }
@@ -29,8 +29,12 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
@@ -41,18 +45,23 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorEx
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.DISPLAY_NAME;
 import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.GUID_PARAMETER;
 import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.TYPE_SEQUENCING;
 
 public class AssetCatalogHandlerTest {
 
@@ -65,6 +74,8 @@ public class AssetCatalogHandlerTest {
     private static final String SEARCH_CRITERIA = "employee";
     private static final String FIRST_GUID = "ababa-123-acbd";
     private static final String SECOND_GUID = "ababc-2134-2341f";
+    private static final String GLOSSARY_TERM_TYPE = "GlossaryTerm";
+    private static final String GLOSSARY_TERM_TYPE_GUID = "ababa-12233-abd";
     private static final String RELATIONSHIP_TYPE_GUID = "adadad-bcba-123";
     private final String USER = "test-user";
     private final String RELATIONSHIP_TYPE = "SemanticAssigment";
@@ -544,9 +555,88 @@ public class AssetCatalogHandlerTest {
         SearchParameters searchParams = mockSearchParams();
         mockTypeDef(ASSET_TYPE, ASSET_TYPE_GUID);
         mockSearchString(SEARCH_CRITERIA, searchParams.isCaseInsensitive());
+
+        OMRSMetadataCollection metadataCollection = mockMetadataCollection();
+        when(metadataCollection.findEntities(USER,
+                null,
+                Collections.singletonList(ASSET_TYPE_GUID),
+                mockSearchProperties(),
+                FROM,
+                Collections.singletonList(InstanceStatus.ACTIVE),
+                null,
+                null,
+                null,
+                SequencingOrder.ANY,
+                PAGE_SIZE)).thenReturn(mockEntities());
+
+        List<AssetElements> assetElements = assetCatalogHandler.searchByType(USER, SEARCH_CRITERIA, searchParams);
+        assertEquals(FIRST_GUID, assetElements.get(0).getGuid());
+        assertEquals(ASSET_TYPE, assetElements.get(0).getType().getName());
+        verify(invalidParameterHandler, times(1)).validateUserId(USER, methodName);
+        verify(invalidParameterHandler, times(1)).validatePaging(searchParams.getFrom(), searchParams.getPageSize(), methodName);
+        verify(invalidParameterHandler, times(1)).validateObject(searchParams, "searchParameter", methodName);
+    }
+
+    @Test
+    public void searchByType_ordersAllTypesBeforePaging() throws InvalidParameterException, org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException, FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException, PropertyErrorException, TypeErrorException, PagingErrorException {
+        SearchParameters searchParams = mockSearchParams();
+        searchParams.setEntityTypes(Arrays.asList(ASSET_TYPE, GLOSSARY_TERM_TYPE));
+        searchParams.setSequencingProperty(TYPE_SEQUENCING);
+        searchParams.setSequencingOrder(SequencingOrder.PROPERTY_ASCENDING);
+        searchParams.setPageSize(1);
+        mockTypeDef(ASSET_TYPE, ASSET_TYPE_GUID);
+        mockTypeDef(GLOSSARY_TERM_TYPE, GLOSSARY_TERM_TYPE_GUID);
+        mockDisplayName(GLOSSARY_TERM_TYPE_GUID);
+        mockSearchString(SEARCH_CRITERIA, searchParams.isCaseInsensitive());
+
+        OMRSMetadataCollection metadataCollection = mockMetadataCollection();
+        when(metadataCollection.findEntities(USER,
+                null,
+                Collections.singletonList(ASSET_TYPE_GUID),
+                mockSearchProperties(NAME),
+                FROM,
+                Collections.singletonList(InstanceStatus.ACTIVE),
+                null,
+                null,
+                TYPE_SEQUENCING,
+                SequencingOrder.PROPERTY_ASCENDING,
+                1)).thenReturn(mockEntities());
+        when(metadataCollection.findEntities(USER,
+                null,
+                Collections.singletonList(GLOSSARY_TERM_TYPE_GUID),
+                mockSearchProperties(DISPLAY_NAME),
+                FROM,
+                Collections.singletonList(InstanceStatus.ACTIVE),
+                null,
+                null,
+                TYPE_SEQUENCING,
+                SequencingOrder.PROPERTY_ASCENDING,
+                1)).thenReturn(Collections.singletonList(mockEntity(SECOND_GUID, GLOSSARY_TERM_TYPE, GLOSSARY_TERM_TYPE_GUID)));
+
+        List<AssetElements> assetElements = assetCatalogHandler.searchByType(USER, SEARCH_CRITERIA, searchParams);
+        assertEquals(1, assetElements.size());
+        assertEquals(SECOND_GUID, assetElements.get(0).getGuid());
+    }
+
+    @Test
+    public void searchByType_fallsBackToSearchByProperty() throws InvalidParameterException, org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException, FunctionNotSupportedException, org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException, PropertyErrorException, TypeErrorException, PagingErrorException {
+        SearchParameters searchParams = mockSearchParams();
+        mockTypeDef(ASSET_TYPE, ASSET_TYPE_GUID);
+        mockSearchString(SEARCH_CRITERIA, searchParams.isCaseInsensitive());
         InstanceProperties matchProperties = mockMatchProperties();
 
         OMRSMetadataCollection metadataCollection = mockMetadataCollection();
+        when(metadataCollection.findEntities(USER,
+                null,
+                Collections.singletonList(ASSET_TYPE_GUID),
+                mockSearchProperties(),
+                FROM,
+                Collections.singletonList(InstanceStatus.ACTIVE),
+                null,
+                null,
+                null,
+                SequencingOrder.ANY,
+                PAGE_SIZE)).thenThrow(new FunctionNotSupportedException(AssetCatalogErrorCode.SERVICE_NOT_INITIALIZED.getMessageDefinition(), this.getClass().getName(), ""));
         when(metadataCollection.findEntitiesByProperty(USER,
                 ASSET_TYPE_GUID,
                 matchProperties,
@@ -560,11 +650,8 @@ public class AssetCatalogHandlerTest {
                 PAGE_SIZE)).thenReturn(mockEntities());
 
         List<AssetElements> assetElements = assetCatalogHandler.searchByType(USER, SEARCH_CRITERIA, searchParams);
+        assertEquals(1, assetElements.size());
         assertEquals(FIRST_GUID, assetElements.get(0).getGuid());
-        assertEquals(ASSET_TYPE, assetElements.get(0).getType().getName());
-        verify(invalidParameterHandler, times(1)).validateUserId(USER, methodName);
-        verify(invalidParameterHandler, times(1)).validatePaging(searchParams.getFrom(), searchParams.getPageSize(), methodName);
-        verify(invalidParameterHandler, times(1)).validateObject(searchParams, "searchParameter", methodName);
     }
 
     @Test
@@ -669,12 +756,16 @@ public class AssetCatalogHandlerTest {
 
     private List<EntityDetail> mockEntities() {
         List<EntityDetail> entityDetails = new ArrayList<>();
+        entityDetails.add(mockEntity(FIRST_GUID, ASSET_TYPE, ASSET_TYPE_GUID));
+        return entityDetails;
+    }
+
+    private EntityDetail mockEntity(String guid, String typeName, String typeGUID) {
         EntityDetail entityDetail = new EntityDetail();
-        entityDetail.setGUID(FIRST_GUID);
+        entityDetail.setGUID(guid);
 
-        entityDetail.setType(mockInstanceType(ASSET_TYPE, ASSET_TYPE_GUID));
-        entityDetails.add(entityDetail);
-        return entityDetails;
+        entityDetail.setType(mockInstanceType(typeName, typeGUID));
+        return entityDetail;
     }
 
     private void mockEntityDetails(String guid) throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
@@ -737,10 +828,43 @@ public class AssetCatalogHandlerTest {
         when(entityTypeDef.getSuperType()).thenReturn(typeDefLink);
     }
 
+    private void mockDisplayName(String typeGUID) throws TypeErrorException {
+        TypeDef typeDef = mock(TypeDef.class);
+        when(repositoryHelper.getTypeDef(USER, GUID_PARAMETER, typeGUID, "hasDisplayName")).thenReturn(typeDef);
+
+        TypeDefAttribute displayName = new TypeDefAttribute();
+        displayName.setAttributeName(DISPLAY_NAME);
+        when(repositoryHelper.getAllPropertiesForTypeDef(any(), eq(typeDef), eq("hasDisplayName")))
+                .thenReturn(Collections.singletonList(displayName));
+    }
+
     private void mockSearchString(String searchCriteria, boolean isCaseSensitive) {
         when(repositoryHelper.getContainsRegex(searchCriteria, isCaseSensitive)).thenReturn(searchCriteria);
     }
 
+    private SearchProperties mockSearchProperties() {
+        return mockSearchProperties(NAME);
+    }
+
+    private SearchProperties mockSearchProperties(String matchProperty) {
+        PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+
+        primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        primitivePropertyValue.setPrimitiveValue(SEARCH_CRITERIA);
+        primitivePropertyValue.setTypeName(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getName());
+        primitivePropertyValue.setTypeGUID(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getGUID());
+
+        PropertyCondition propertyCondition = new PropertyCondition();
+        propertyCondition.setProperty(matchProperty);
+        propertyCondition.setOperator(PropertyComparisonOperator.LIKE);
+        propertyCondition.setValue(primitivePropertyValue);
+
+        SearchProperties searchProperties = new SearchProperties();
+        searchProperties.setConditions(Collections.singletonList(propertyCondition));
+        searchProperties.setMatchCriteria(MatchCriteria.ANY);
+        return searchProperties;
+    }
+
     private InstanceProperties mockMatchProperties() {
         InstanceProperties matchProperties = new InstanceProperties();
         PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
@@ -5,7 +5,10 @@ package org.odpi.openmetadata.accessservices.assetlineage.admin;
 
 
 import org.odpi.openmetadata.accessservices.assetlineage.auditlog.AssetLineageAuditCode;
+import org.odpi.openmetadata.accessservices.assetlineage.listeners.AssetLineageEventPipeline;
 import org.odpi.openmetadata.accessservices.assetlineage.listeners.AssetLineageOMRSTopicListener;
+import org.odpi.openmetadata.accessservices.assetlineage.outtopic.AssetLineageEventBatcher;
+import org.odpi.openmetadata.accessservices.assetlineage.outtopic.AssetLineagePublisher;
 import org.odpi.openmetadata.accessservices.assetlineage.server.AssetLineageServicesInstance;
 import org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineageConstants;
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
@@ -15,12 +18,17 @@ import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationError
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicSubscription;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -31,8 +39,17 @@ import java.util.Set;
 public class AssetLineageAdmin extends AccessServiceAdmin {
 
     private static final Logger log = LoggerFactory.getLogger(AssetLineageAdmin.class);
+    // a single worker keeps the order of all of the events, so a relationship is never published before its ends
+    private static final int DEFAULT_LINEAGE_EVENT_THREADS = 1;
+    private static final int DEFAULT_LINEAGE_EVENT_QUEUE_SIZE = 1000;
+    private static final int DEFAULT_LINEAGE_EVENT_DEDUPLICATION_WINDOW = 0;
+    private static final int DEFAULT_OUT_TOPIC_BATCH_SIZE = 100;
+    private static final long OUT_TOPIC_SHUTDOWN_TIMEOUT = 5000;
+
     private AuditLog auditLog;
     private AssetLineageServicesInstance instance;
+    private AssetLineageEventPipeline eventPipeline;
+    private AssetLineageEventBatcher eventBatcher;
     private String serverName;
 
     /**
@@ -77,18 +94,23 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
                 OpenMetadataTopicConnector outTopicConnector = super.getOutTopicEventBusConnector(outTopicConnection,
                         accessServiceConfigurationProperties.getAccessServiceName(), auditLog);
 
+                startEventPipeline(accessServiceConfigurationProperties.getAccessServiceOptions(), outTopicConnector, actionDescription);
+
                 AssetLineageOMRSTopicListener omrsTopicListener = new AssetLineageOMRSTopicListener(
                         repositoryConnector.getRepositoryHelper(), outTopicConnector, serverName,
                         serverUserName,
                         lineageClassificationTypes,
-                        auditLog);
+                        auditLog,
+                        eventPipeline,
+                        eventBatcher);
 
                 super.registerWithEnterpriseTopic(accessServiceConfigurationProperties.getAccessServiceName(),
                         serverName,
                         enterpriseOMRSTopicConnector,
                         omrsTopicListener,
+                        getEnterpriseTopicSubscription(),
                         auditLog);
-                this.instance.setAssetLineagePublisher(omrsTopicListener.getPublisher());
+                this.instance.setAssetLineagePublisher(new AssetLineagePublisher(outTopicConnector, serverName, serverUserName));
             }
 
             auditLog.logMessage(actionDescription, AssetLineageAuditCode.SERVICE_INITIALIZED.getMessageDefinition(serverName));
@@ -97,6 +119,7 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
             throw error;
         } catch (Throwable error) {
             log.error("The Asset Lineage OMAS could not be started", error);
+            stopEventPipeline();
             auditLog.logException(actionDescription, AssetLineageAuditCode.SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(), serverName), error);
 
             super.throwUnexpectedInitializationException(actionDescription, AccessServiceDescription.ASSET_LINEAGE_OMAS.getAccessServiceFullName(), error);
@@ -123,10 +146,114 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
         return AssetLineageConstants.immutableDefaultLineageClassifications;
     }
 
+    /**
+     * Returns the subscription for the enterprise topic listener.  The listener only processes the instance events
+     * for entities and relationships that are updated, deleted or (re/de)classified and for new relationships, so
+     * the topic connector does not pass it the other events.
+     *
+     * @return the subscription of the listener
+     */
+    private OMRSTopicSubscription getEnterpriseTopicSubscription() {
+        OMRSTopicSubscription subscription = new OMRSTopicSubscription();
+
+        subscription.setEventCategories(EnumSet.of(OMRSEventCategory.INSTANCE));
+        subscription.setInstanceEventTypes(EnumSet.of(OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                OMRSInstanceEventType.DELETED_ENTITY_EVENT,
+                OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+                OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+                OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT,
+                OMRSInstanceEventType.DELETED_RELATIONSHIP_EVENT));
+
+        return subscription;
+    }
+
+    /**
+     * Start the worker threads that build the lineage events and the thread that sends them to the out topic.
+     *
+     * @param accessServiceOptions options from the access service configuration
+     * @param outTopicConnector    connector for the out topic
+     * @param actionDescription    calling action
+     */
+    private void startEventPipeline(Map<String, Object> accessServiceOptions, OpenMetadataTopicConnector outTopicConnector,
+                                    String actionDescription) {
+        int threads = extractIntegerOption(accessServiceOptions, AssetLineageConstants.LINEAGE_EVENT_THREADS_KEY,
+                DEFAULT_LINEAGE_EVENT_THREADS, 0, actionDescription);
+        int queueSize = extractIntegerOption(accessServiceOptions, AssetLineageConstants.LINEAGE_EVENT_QUEUE_SIZE_KEY,
+                DEFAULT_LINEAGE_EVENT_QUEUE_SIZE, 1, actionDescription);
+        int deduplicationWindow = extractIntegerOption(accessServiceOptions, AssetLineageConstants.LINEAGE_EVENT_DEDUPLICATION_WINDOW_KEY,
+                DEFAULT_LINEAGE_EVENT_DEDUPLICATION_WINDOW, 0, actionDescription);
+        int batchSize = extractIntegerOption(accessServiceOptions, AssetLineageConstants.OUT_TOPIC_BATCH_SIZE_KEY,
+                DEFAULT_OUT_TOPIC_BATCH_SIZE, 0, actionDescription);
+
+        if (threads > 0) {
+            eventPipeline = new AssetLineageEventPipeline(serverName, threads, queueSize, deduplicationWindow);
+        }
+
+        if (batchSize > 0) {
+            eventBatcher = new AssetLineageEventBatcher(outTopicConnector, serverName, batchSize, queueSize, auditLog);
+        }
+
+        auditLog.logMessage(actionDescription, AssetLineageAuditCode.EVENT_PIPELINE_STARTED.getMessageDefinition(serverName,
+                Integer.toString(threads), Integer.toString(queueSize), Integer.toString(deduplicationWindow), Integer.toString(batchSize)));
+    }
+
+    /**
+     * Stop the threads of the event pipeline.  The events waiting for the out topic are sent first.
+     */
+    private void stopEventPipeline() {
+        if (eventPipeline != null) {
+            eventPipeline.shutdown();
+            eventPipeline = null;
+        }
+
+        if (eventBatcher != null) {
+            eventBatcher.shutdown(OUT_TOPIC_SHUTDOWN_TIMEOUT);
+            eventBatcher = null;
+        }
+    }
+
+    /**
+     * Returns the value of an access service option that must be an integer. The default value is returned
+     * if the option is not set, or if its value is not valid.
+     *
+     * @param accessServiceOptions options from the access service configuration
+     * @param propertyName         name of the option
+     * @param defaultValue         value to use if the option is not set
+     * @param minimumValue         smallest valid value
+     * @param actionDescription    calling action
+     *
+     * @return the value of the option
+     */
+    private int extractIntegerOption(Map<String, Object> accessServiceOptions, String propertyName, int defaultValue, int minimumValue,
+                                     String actionDescription) {
+        if (accessServiceOptions == null || accessServiceOptions.get(propertyName) == null) {
+            return defaultValue;
+        }
+
+        Object propertyValue = accessServiceOptions.get(propertyName);
+        try {
+            int value = Integer.parseInt(propertyValue.toString());
+            if (value >= minimumValue) {
+                return value;
+            }
+        } catch (NumberFormatException error) {
+            log.debug("Invalid value for option {}: {}", propertyName, propertyValue);
+        }
+
+        auditLog.logMessage(actionDescription, AssetLineageAuditCode.BAD_EVENT_PIPELINE_OPTION.getMessageDefinition(propertyName,
+                propertyValue.toString(), Integer.toString(defaultValue), Integer.toString(minimumValue)));
+
+        return defaultValue;
+    }
+
     /**
      * Shutdown the access service.
      */
     public void shutdown() {
+        stopEventPipeline();
+
         if (instance != null) {
             instance.shutdown();
         }
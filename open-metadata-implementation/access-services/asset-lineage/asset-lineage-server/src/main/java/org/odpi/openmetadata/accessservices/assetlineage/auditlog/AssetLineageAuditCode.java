@@ -63,7 +63,32 @@ public enum AssetLineageAuditCode implements AuditLogMessageSet {
                                   OMRSAuditLogRecordSeverity.ERROR,
             "AssetLineagePublisher instance not available.",
                                           "The Asset Lineage OMAS will not publish entity.",
-                                          "Possible configuration error; Contact the server administrator to check accessServiceOutTopic connection configuration before tying again.");
+                                          "Possible configuration error; Contact the server administrator to check accessServiceOutTopic connection configuration before tying again."),
+
+    EVENT_PIPELINE_STARTED("OMAS-ASSET-LINEAGE-0010",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The Asset Lineage Open Metadata Access Service (OMAS) for server {0} is building lineage events on {1} threads " +
+                    "with a queue of {2} events, a deduplication window of {3} milliseconds and out topic batches of up to {4} events",
+            "The access service filters the OMRS events on the listener thread and builds the context of the lineage events " +
+                    "on a pool of worker threads owned by this server.",
+            "Set the LineageEventThreads, LineageEventQueueSize, LineageEventDeduplicationWindow and OutTopicBatchSize " +
+                    "access service options to change the behavior of the pipeline."),
+
+    BAD_EVENT_PIPELINE_OPTION("OMAS-ASSET-LINEAGE-0011",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The Asset Lineage Open Metadata Access Service (OMAS) option {0} has an invalid value of {1}; the default value " +
+                    "of {2} is used instead",
+            "The access service ignores the configured value and continues to start up.",
+            "Correct the value of the option in the access service options so that it is an integer of at least {3} and " +
+                    "restart the server."),
+
+    OUT_TOPIC_SEND_FAILURE("OMAS-ASSET-LINEAGE-0012",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The Asset Lineage Open Metadata Access Service (OMAS) for server {0} was unable to send a lineage event to its " +
+                    "out topic; exception {1} was returned with message {2}",
+            "The lineage event is not published.  The access service carries on sending the other lineage events.",
+            "Review the exception and the out topic connector to determine the cause of the problem.  The lineage event " +
+                    "is published again when the element is next changed.");
 
 
     private AuditLogMessageDefinition messageDefinition;
@@ -43,9 +43,7 @@ public class ProcessContextHandler {
     private final InvalidParameterHandler invalidParameterHandler;
     private final List<String> supportedZones;
     private final HandlerHelper handlerHelper;
-    private SuperTypesRetriever superTypesRetriever;
-
-    private AssetContext graph;
+    private final SuperTypesRetriever superTypesRetriever;
 
     /**
      * Construct the handler information needed to interact with the repository services
@@ -82,7 +80,7 @@ public class ProcessContextHandler {
 
         final String methodName = "getProcessContext";
 
-        graph = new AssetContext();
+        AssetContext graph = new AssetContext();
 
         invalidParameterHandler.validateAssetInSupportedZone(process.getGUID(),
                 GUID_PARAMETER,
@@ -91,7 +89,7 @@ public class ProcessContextHandler {
                 ASSET_LINEAGE_OMAS,
                 methodName);
 
-        return checkIfAllRelationshipsExist(userId, process);
+        return checkIfAllRelationshipsExist(userId, process, graph);
     }
 
     /**
@@ -99,15 +97,17 @@ public class ProcessContextHandler {
      *
      * @param userId       userId of user making request
      * @param entityDetail the entity for which the relationships are retrieved
+     * @param graph        the context being built for the process
      *
      * @return the current graph context if the Process to Port relationships are available
      *
      * @throws OCFCheckedExceptionBase checked exception for reporting errors found when using OCF connectors
      */
     private Map<String, Set<GraphContext>> checkIfAllRelationshipsExist(String userId,
-                                                                        EntityDetail entityDetail) throws OCFCheckedExceptionBase {
+                                                                        EntityDetail entityDetail,
+                                                                        AssetContext graph) throws OCFCheckedExceptionBase {
 
-        boolean entitiesTillLastRelationshipExist = hasEntitiesLinkedWithProcessPort(userId, entityDetail);
+        boolean entitiesTillLastRelationshipExist = hasEntitiesLinkedWithProcessPort(userId, entityDetail, graph);
         if (entitiesTillLastRelationshipExist) {
             return graph.getNeighbors();
         }
@@ -124,15 +124,17 @@ public class ProcessContextHandler {
      *
      * @param userId       userId of user making request
      * @param entityDetail the entity for which the relationships are retrieved
+     * @param graph        the context being built for the process
      *
      * @return true if all the process relationships are created
      *
      * @throws OCFCheckedExceptionBase checked exception for reporting errors found when using OCF connectors
      */
     private boolean hasEntitiesLinkedWithProcessPort(String userId,
-                                                     EntityDetail entityDetail) throws OCFCheckedExceptionBase {
+                                                     EntityDetail entityDetail,
+                                                     AssetContext graph) throws OCFCheckedExceptionBase {
 
-        List<EntityDetail> entityDetails = getRelationshipsBetweenEntities(userId, entityDetail, PROCESS_PORT);
+        List<EntityDetail> entityDetails = getRelationshipsBetweenEntities(userId, entityDetail, PROCESS_PORT, graph);
 
         if (entityDetails.isEmpty()) {
             log.error("No relationships Process Port has been found for the entity with guid {}", entityDetail.getGUID());
@@ -142,7 +144,7 @@ public class ProcessContextHandler {
                     "Retrieving Relationship");
         }
 
-        return hasRelationshipBasedOnType(entityDetails, userId);
+        return hasRelationshipBasedOnType(entityDetails, userId, graph);
     }
 
 
@@ -152,6 +154,7 @@ public class ProcessContextHandler {
      * @param userId           String - userId of user making request.
      * @param startEntity      the entity for which the relationships are retrieved
      * @param relationshipType type of the relationship
+     * @param graph            the context being built for the process
      *
      * @return List of entities that are on the other end of the relationship, empty list if none
      *
@@ -159,7 +162,8 @@ public class ProcessContextHandler {
      */
     private List<EntityDetail> getRelationshipsBetweenEntities(String userId,
                                                                EntityDetail startEntity,
-                                                               String relationshipType) throws OCFCheckedExceptionBase {
+                                                               String relationshipType,
+                                                               AssetContext graph) throws OCFCheckedExceptionBase {
         if (startEntity == null) return Collections.emptyList();
 
         handlerHelper.addLineageClassificationToContext(startEntity, graph);
@@ -173,7 +177,7 @@ public class ProcessContextHandler {
                 return Collections.emptyList();
             }
 
-            addContextForTabularColumns(userId, endEntity);
+            addContextForTabularColumns(userId, endEntity, graph);
             entityDetails.add(endEntity);
         }
 
@@ -186,10 +190,11 @@ public class ProcessContextHandler {
      *
      * @param userId String - userId of user making request.
      * @param entity details of the entity
+     * @param graph  the context being built for the process
      *
      * @throws OCFCheckedExceptionBase checked exception for reporting errors found when using OCF connectors
      */
-    private void addContextForTabularColumns(String userId, EntityDetail entity) throws OCFCheckedExceptionBase {
+    private void addContextForTabularColumns(String userId, EntityDetail entity, AssetContext graph) throws OCFCheckedExceptionBase {
         Set<String> superTypes = superTypesRetriever.getSuperTypes(userId, entity.getType().getTypeDefName());
 
         if (superTypes.contains(TABULAR_COLUMN)) {
@@ -200,12 +205,12 @@ public class ProcessContextHandler {
                 Set<GraphContext> relationships = relationshipContext.getRelationships();
 
                 graph.getGraphContexts().addAll(relationships);
-                mergeGraphNeighbors(eventType, relationships);
+                mergeGraphNeighbors(eventType, relationships, graph);
             }
         }
     }
 
-    private void mergeGraphNeighbors(String k, Set<GraphContext> v) {
+    private void mergeGraphNeighbors(String k, Set<GraphContext> v, AssetContext graph) {
         if (graph.getNeighbors().containsKey(k)) {
             graph.getNeighbors().get(k).addAll(v);
         } else {
@@ -220,19 +225,21 @@ public class ProcessContextHandler {
      *
      * @param entityDetails list of entities
      * @param userId        String - userId of user making request.
+     * @param graph         the context being built for the process
      *
      * @return boolean true if relationships exist otherwise false.
      *
      * @throws OCFCheckedExceptionBase checked exception for reporting errors found when using OCF connectors
      */
     private boolean hasRelationshipBasedOnType(List<EntityDetail> entityDetails,
-                                               String userId) throws OCFCheckedExceptionBase {
+                                               String userId,
+                                               AssetContext graph) throws OCFCheckedExceptionBase {
         boolean relationshipsExist = false;
         if (checkIfEntityExistWithSpecificType(entityDetails, PORT_ALIAS))
-            relationshipsExist = hasLineageRelationships(entityDetails, userId);
+            relationshipsExist = hasLineageRelationships(entityDetails, userId, graph);
 
         if (checkIfEntityExistWithSpecificType(entityDetails, PORT_IMPLEMENTATION))
-            relationshipsExist = hasTabularSchemaTypes(entityDetails, userId);
+            relationshipsExist = hasTabularSchemaTypes(entityDetails, userId, graph);
 
         return relationshipsExist;
     }
@@ -242,17 +249,19 @@ public class ProcessContextHandler {
      *
      * @param entityDetails list of entities
      * @param userId        String - userId of user making request.
+     * @param graph         the context being built for the process
      *
      * @return boolean true if relationships exist otherwise false.
      *
      * @throws OCFCheckedExceptionBase checked exception for reporting errors found when using OCF connectors
      */
     private boolean hasLineageRelationships(List<EntityDetail> entityDetails,
-                                            String userId) throws OCFCheckedExceptionBase {
+                                            String userId,
+                                            AssetContext graph) throws OCFCheckedExceptionBase {
         List<EntityDetail> result = new ArrayList<>();
         for (EntityDetail entityDetail : entityDetails) {
             result.addAll(getRelationshipsBetweenEntities(userId, entityDetail,
-                    immutableProcessRelationshipsTypes.get(entityDetail.getType().getTypeDefName())));
+                    immutableProcessRelationshipsTypes.get(entityDetail.getType().getTypeDefName()), graph));
         }
         return !result.isEmpty();
     }
@@ -262,23 +271,26 @@ public class ProcessContextHandler {
      *
      * @param entityDetails list of entities
      * @param userId        String - userId of user making request.
+     * @param graph         the context being built for the process
      *
      * @return boolean true if relationships exist otherwise false.
      *
      * @throws OCFCheckedExceptionBase checked exception for reporting errors found when using OCF connectors
      */
     private boolean hasTabularSchemaTypes(List<EntityDetail> entityDetails,
-                                          String userId) throws OCFCheckedExceptionBase {
+                                          String userId,
+                                          AssetContext graph) throws OCFCheckedExceptionBase {
         List<EntityDetail> result = new ArrayList<>();
         for (EntityDetail entityDetail : entityDetails) {
 
             List<EntityDetail> tabularSchemaType = getRelationshipsBetweenEntities(userId,
                     entityDetail,
-                    immutableProcessRelationshipsTypes.get(entityDetail.getType().getTypeDefName()));
+                    immutableProcessRelationshipsTypes.get(entityDetail.getType().getTypeDefName()),
+                    graph);
             Optional<EntityDetail> first = tabularSchemaType.stream().findFirst();
             result.add(first.orElse(null));
         }
-        return hasSchemaAttributes(result, userId);
+        return hasSchemaAttributes(result, userId, graph);
     }
 
     /**
@@ -286,22 +298,25 @@ public class ProcessContextHandler {
      *
      * @param entityDetails list of entities
      * @param userId        String - userId of user making request.
+     * @param graph         the context being built for the process
      *
      * @return boolean true if relationships exist otherwise false.
      *
      * @throws OCFCheckedExceptionBase checked exception for reporting errors found when using OCF connectors
      */
     private boolean hasSchemaAttributes(List<EntityDetail> entityDetails,
-                                        String userId) throws OCFCheckedExceptionBase {
+                                        String userId,
+                                        AssetContext graph) throws OCFCheckedExceptionBase {
         List<EntityDetail> result = new ArrayList<>();
         for (EntityDetail entityDetail : entityDetails) {
 
             List<EntityDetail> newListOfEntityDetails = getRelationshipsBetweenEntities(userId,
                     entityDetail,
-                    immutableProcessRelationshipsTypes.get(entityDetail.getType().getTypeDefName()));
+                    immutableProcessRelationshipsTypes.get(entityDetail.getType().getTypeDefName()),
+                    graph);
             result.addAll(newListOfEntityDetails);
         }
-        return hasLineageRelationships(result, userId);
+        return hasLineageRelationships(result, userId, graph);
     }
 
     /**
@@ -0,0 +1,305 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.listeners;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AssetLineageEventPipeline builds the context of the lineage events away from the thread that delivers the OMRS
+ * events, so that a slow repository does not hold up the enterprise topic.
+ * <p>
+ * The events are passed to a fixed number of worker threads.  All of the events for an element are processed by
+ * the same worker thread in the order they arrived, so the events published for an element keep their order.
+ * The queue of each worker thread is bounded - when it is full, the listener waits until the worker catches up.
+ * <p>
+ * If an event arrives for an element while an event of the same kind for that element is waiting at the end of the
+ * queue, the waiting event is replaced by the new one, since the new one describes the latest state of the element.
+ * A deduplication window holds each event back for a short time so that a burst of updates to an element results
+ * in a single event on the out topic.
+ */
+public class AssetLineageEventPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetLineageEventPipeline.class);
+
+    private static final String PIPELINE_BACKLOG_METRIC_NAME = "egeria.assetlineage.pipeline.backlog";
+    private static final String PIPELINE_STAGE_METRIC_NAME = "egeria.assetlineage.pipeline.stage";
+
+    private final String serverName;
+    private final long deduplicationWindow;
+    private final List<Worker> workers = new ArrayList<>();
+    private final Map<String, PendingEvent> lastPendingEvents = new HashMap<>();
+    private final Object pendingEventsLock = new Object();
+    private final Object submitLock = new Object();
+    private final AtomicInteger backlog = new AtomicInteger(0);
+    private final AtomicLong eventsProcessed = new AtomicLong(0);
+    private final AtomicLong eventsDeduplicated = new AtomicLong(0);
+    private final List<Meter> meters = new ArrayList<>();
+    private final Timer filterTimer;
+    private final Timer queueTimer;
+    private final Timer contextTimer;
+
+    private volatile boolean running = true;
+
+    /**
+     * An event waiting for a worker thread.  The task is replaced if a later event of the same kind arrives for
+     * the element before the worker starts on it.
+     */
+    private static class PendingEvent {
+        private final String guid;
+        private final String eventKey;
+        private final long submitTime;
+        private Runnable task;
+        private boolean started = false;
+
+        PendingEvent(String guid, String eventKey, Runnable task) {
+            this.guid = guid;
+            this.eventKey = eventKey;
+            this.task = task;
+            this.submitTime = System.nanoTime();
+        }
+    }
+
+    /**
+     * Constructor starts the worker threads.
+     *
+     * @param serverName          name of the server that owns the pipeline (used to name the threads and metrics)
+     * @param workerThreads       number of threads building the context of the events
+     * @param queueSize           maximum number of events waiting for the worker threads
+     * @param deduplicationWindow milliseconds that an event waits for later events for the same element
+     */
+    public AssetLineageEventPipeline(String serverName, int workerThreads, int queueSize, long deduplicationWindow) {
+        this.serverName = serverName;
+        this.deduplicationWindow = TimeUnit.MILLISECONDS.toNanos(Math.max(deduplicationWindow, 0));
+
+        int threadCount = Math.max(workerThreads, 1);
+        int workerQueueSize = Math.max(queueSize / threadCount, 1);
+
+        for (int i = 1; i <= threadCount; i++) {
+            Worker worker = new Worker(new ArrayBlockingQueue<>(workerQueueSize), "AssetLineage-" + serverName + "-" + i);
+            workers.add(worker);
+        }
+
+        meters.add(Gauge.builder(PIPELINE_BACKLOG_METRIC_NAME, backlog, AtomicInteger::get)
+                .description("Number of lineage events waiting in each stage of the Asset Lineage OMAS pipeline")
+                .tag("server", serverName)
+                .tag("stage", "context")
+                .register(Metrics.globalRegistry));
+
+        filterTimer = registerStageTimer("filter");
+        queueTimer = registerStageTimer("queue");
+        contextTimer = registerStageTimer("context");
+
+        for (Worker worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Pass an event to the worker thread for the element.  The caller waits if the worker's queue is full.
+     *
+     * @param guid         unique identifier of the element that the event is about
+     * @param eventKey     kind of event - a waiting event for the element is only replaced by an event of the same kind
+     * @param receivedTime value of System.nanoTime() when the listener received the event
+     * @param task         builds and publishes the lineage event
+     */
+    public void submit(String guid, String eventKey, long receivedTime, Runnable task) {
+        filterTimer.record(System.nanoTime() - receivedTime, TimeUnit.NANOSECONDS);
+
+        if (!running) {
+            task.run();
+            return;
+        }
+
+        // the submitters queue their events one at a time so that the events for an element keep their order
+        synchronized (submitLock) {
+            PendingEvent pendingEvent;
+
+            synchronized (pendingEventsLock) {
+                PendingEvent lastPendingEvent = lastPendingEvents.get(guid);
+
+                if (lastPendingEvent != null && !lastPendingEvent.started && lastPendingEvent.eventKey.equals(eventKey)) {
+                    lastPendingEvent.task = task;
+                    eventsDeduplicated.incrementAndGet();
+                    return;
+                }
+
+                pendingEvent = new PendingEvent(guid, eventKey, task);
+                lastPendingEvents.put(guid, pendingEvent);
+                backlog.incrementAndGet();
+            }
+
+            // the lock on the pending events is not held while waiting, since the workers need it to empty the queue
+            BlockingQueue<PendingEvent> queue = workers.get(Math.floorMod(guid.hashCode(), workers.size())).queue;
+
+            try {
+                while (!queue.offer(pendingEvent, 1, TimeUnit.SECONDS)) {
+                    if (!running) {
+                        startEvent(pendingEvent).run();
+                        return;
+                    }
+                    log.debug("Asset Lineage OMAS event queue for server {} is full", serverName);
+                }
+            } catch (InterruptedException error) {
+                startEvent(pendingEvent);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Record the time taken by the listener to decide that an event does not need to be published.
+     *
+     * @param receivedTime value of System.nanoTime() when the listener received the event
+     */
+    public void recordFilteredEvent(long receivedTime) {
+        filterTimer.record(System.nanoTime() - receivedTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stop the worker threads.  Events that are still waiting are not published.
+     */
+    public void shutdown() {
+        running = false;
+
+        for (Worker worker : workers) {
+            worker.interrupt();
+        }
+
+        if (backlog.get() > 0) {
+            log.info("Asset Lineage OMAS for server {} discarded {} lineage events at shutdown", serverName, backlog.get());
+        }
+
+        for (Meter meter : meters) {
+            Metrics.globalRegistry.remove(meter);
+        }
+    }
+
+    /**
+     * Return the number of events waiting for the worker threads.
+     *
+     * @return count
+     */
+    public int getBacklog() {
+        return backlog.get();
+    }
+
+    /**
+     * Return the number of events processed by the worker threads.
+     *
+     * @return count
+     */
+    public long getEventsProcessed() {
+        return eventsProcessed.get();
+    }
+
+    /**
+     * Return the number of events that were replaced by a later event for the same element.
+     *
+     * @return count
+     */
+    public long getEventsDeduplicated() {
+        return eventsDeduplicated.get();
+    }
+
+    /**
+     * Register the timer for a stage of the pipeline.
+     *
+     * @param stage name of the stage
+     * @return timer
+     */
+    private Timer registerStageTimer(String stage) {
+        Timer timer = Timer.builder(PIPELINE_STAGE_METRIC_NAME)
+                .description("Time spent by the lineage events in each stage of the Asset Lineage OMAS pipeline")
+                .tag("server", serverName)
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+
+        meters.add(timer);
+        return timer;
+    }
+
+    /**
+     * Wait until the deduplication window of the event has passed.
+     *
+     * @param pendingEvent event at the head of the queue
+     * @throws InterruptedException the pipeline is shutting down
+     */
+    private void awaitDeduplicationWindow(PendingEvent pendingEvent) throws InterruptedException {
+        long delay = pendingEvent.submitTime + deduplicationWindow - System.nanoTime();
+
+        if (delay > 0) {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        }
+    }
+
+    /**
+     * Take the task of the event so that later events for the element are queued behind it.
+     *
+     * @param pendingEvent event at the head of the queue
+     * @return task to run
+     */
+    private Runnable startEvent(PendingEvent pendingEvent) {
+        synchronized (pendingEventsLock) {
+            pendingEvent.started = true;
+            lastPendingEvents.remove(pendingEvent.guid, pendingEvent);
+            backlog.decrementAndGet();
+
+            return pendingEvent.task;
+        }
+    }
+
+    /**
+     * A worker thread processes the events of the elements assigned to it, one at a time.
+     */
+    private class Worker extends Thread {
+        private final BlockingQueue<PendingEvent> queue;
+
+        Worker(BlockingQueue<PendingEvent> queue, String threadName) {
+            super(threadName);
+            this.queue = queue;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    PendingEvent pendingEvent = queue.take();
+
+                    awaitDeduplicationWindow(pendingEvent);
+
+                    Runnable task = startEvent(pendingEvent);
+                    long startTime = System.nanoTime();
+                    queueTimer.record(startTime - pendingEvent.submitTime, TimeUnit.NANOSECONDS);
+
+                    try {
+                        task.run();
+                    } catch (RuntimeException error) {
+                        log.error("Asset Lineage OMAS was unable to process a lineage event for element {}", pendingEvent.guid, error);
+                    }
+
+                    contextTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                    eventsProcessed.incrementAndGet();
+                } catch (InterruptedException error) {
+                    log.debug("Asset Lineage OMAS worker thread {} is stopping", getName());
+                }
+            }
+        }
+    }
+}
@@ -6,13 +6,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.commons.collections4.CollectionUtils;
 import org.odpi.openmetadata.accessservices.assetlineage.auditlog.AssetLineageAuditCode;
 import org.odpi.openmetadata.accessservices.assetlineage.event.AssetLineageEventType;
+import org.odpi.openmetadata.accessservices.assetlineage.outtopic.AssetLineageEventBatcher;
 import org.odpi.openmetadata.accessservices.assetlineage.outtopic.AssetLineagePublisher;
 import org.odpi.openmetadata.accessservices.assetlineage.util.Converter;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFCheckedExceptionBase;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
-import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
@@ -43,19 +41,50 @@ import static org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineag
 /**
  * AssetLineageOMRSTopicListener received details of each OMRS event from the cohorts that the local server
  * is connected to.  It passes Lineage Entity events to the publisher.
+ * <p>
+ * The checks that only look at the event are made on the thread that delivers the event.  An entity is relevant to
+ * lineage if its type, or one of its supertypes, is a lineage type - the supertypes come from the type definitions
+ * that the repository helper already holds, so no repository call is made.  The work that needs the
+ * repository, such as building the context of a process, is passed to the event pipeline if there is one.
  */
 public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
 
     private static final Logger log = LoggerFactory.getLogger(AssetLineageOMRSTopicListener.class);
     private static final String PROCESSING_RELATIONSHIP_DEBUG_MESSAGE = "Asset Lineage OMAS is processing a {} event concerning relationship {} ";
     private static final String PROCESSING_ENTITY_DETAIL_DEBUG_MESSAGE = "Asset Lineage OMAS is processing a {} event concerning entity {} ";
+    private static final String GLOSSARY_CONTEXT_EVENT_KEY = "GlossaryContext";
 
     private AssetLineagePublisher publisher;
+    private OMRSRepositoryHelper repositoryHelper;
+    private AssetLineageEventPipeline eventPipeline;
     private AuditLog auditLog;
     private Converter converter;
     private Set<String> lineageClassificationTypes;
     private String serverName;
 
+    /**
+     * The publishing work for an event, along with the element it is about.
+     */
+    private static final class LineageEventTask {
+        private final String guid;
+        private final String eventKey;
+        private final LineageEventAction action;
+
+        LineageEventTask(String guid, String eventKey, LineageEventAction action) {
+            this.guid = guid;
+            this.eventKey = eventKey;
+            this.action = action;
+        }
+    }
+
+    /**
+     * Builds and publishes a lineage event.
+     */
+    @FunctionalInterface
+    private interface LineageEventAction {
+        void run() throws OCFCheckedExceptionBase, JsonProcessingException;
+    }
+
     /**
      * The constructor is given the connection to the out topic for Asset Lineage OMAS
      * along with classes for testing and manipulating instances.
@@ -71,10 +100,35 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
                                          Set<String> lineageClassificationTypes,
                                          AuditLog auditLog)
             throws OCFCheckedExceptionBase {
-        this.publisher = new AssetLineagePublisher(outTopicConnector, serverName, serverUserName);
+        this(repositoryHelper, outTopicConnector, serverName, serverUserName, lineageClassificationTypes, auditLog, null, null);
+    }
+
+    /**
+     * The constructor is given the connection to the out topic for Asset Lineage OMAS
+     * along with classes for testing and manipulating instances, and the pipeline that
+     * builds and sends the lineage events away from the listener thread.
+     *
+     * @param repositoryHelper  helper object for building and querying TypeDefs and metadata instances
+     * @param outTopicConnector The connector used for the Asset Lineage OMAS Out Topic
+     * @param serverName        name of this server instance
+     * @param serverUserName    name of the user of the server instance
+     * @param eventPipeline     worker threads that build the lineage events - if null, they are built on the listener thread
+     * @param eventBatcher      thread that sends the lineage events - if null, they are sent by the thread that builds them
+     */
+    public AssetLineageOMRSTopicListener(OMRSRepositoryHelper repositoryHelper,
+                                         OpenMetadataTopicConnector outTopicConnector,
+                                         String serverName, String serverUserName,
+                                         Set<String> lineageClassificationTypes,
+                                         AuditLog auditLog,
+                                         AssetLineageEventPipeline eventPipeline,
+                                         AssetLineageEventBatcher eventBatcher)
+            throws OCFCheckedExceptionBase {
+        this.publisher = new AssetLineagePublisher(outTopicConnector, serverName, serverUserName, eventBatcher);
+        this.eventPipeline = eventPipeline;
         this.lineageClassificationTypes = lineageClassificationTypes;
         this.auditLog = auditLog;
         this.serverName = serverName;
+        this.repositoryHelper = repositoryHelper;
         converter = new Converter(repositoryHelper);
     }
 
@@ -120,38 +174,72 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
             return;
         }
 
+        long receivedTime = System.nanoTime();
         OMRSInstanceEventType instanceEventType = instanceEvent.getInstanceEventType();
         EntityDetail entityDetail = instanceEvent.getEntity();
         Relationship relationship = instanceEvent.getRelationship();
+        LineageEventTask lineageEventTask = null;
 
         try {
             switch (instanceEventType) {
                 case UPDATED_ENTITY_EVENT:
                     EntityDetail originalEntity = instanceEvent.getOriginalEntity();
-                    processUpdatedEntity(entityDetail, originalEntity);
+                    lineageEventTask = processUpdatedEntity(entityDetail, originalEntity);
                     break;
                 case DELETED_ENTITY_EVENT:
-                    processDeletedEntity(entityDetail);
+                    lineageEventTask = processDeletedEntity(entityDetail);
                     break;
                 case CLASSIFIED_ENTITY_EVENT:
-                    processClassifiedEntityEvent(entityDetail);
+                    lineageEventTask = processClassifiedEntityEvent(entityDetail);
                     break;
                 case RECLASSIFIED_ENTITY_EVENT:
-                    processReclassifiedEntityEvent(entityDetail);
+                    lineageEventTask = processReclassifiedEntityEvent(entityDetail);
                     break;
                 case DECLASSIFIED_ENTITY_EVENT:
-                    processDeclassifiedEntityEvent(entityDetail);
+                    lineageEventTask = processDeclassifiedEntityEvent(entityDetail);
                     break;
                 case NEW_RELATIONSHIP_EVENT:
-                    processNewRelationshipEvent(relationship);
+                    lineageEventTask = processNewRelationshipEvent(relationship);
                     break;
                 case UPDATED_RELATIONSHIP_EVENT:
-                    processUpdatedRelationshipEvent(relationship);
+                    lineageEventTask = processUpdatedRelationshipEvent(relationship);
                     break;
                 case DELETED_RELATIONSHIP_EVENT:
-                    processDeletedRelationshipEvent(relationship);
+                    lineageEventTask = processDeletedRelationshipEvent(relationship);
                     break;
             }
+        } catch (Exception e) {
+            log.error("An exception occurred while processing OMRSTopic event: \n " + instanceEvent.toString(), e);
+            logExceptionToAudit(instanceEvent, e);
+            return;
+        }
+
+        if (lineageEventTask == null) {
+            if (eventPipeline != null) {
+                eventPipeline.recordFilteredEvent(receivedTime);
+            }
+            return;
+        }
+
+        LineageEventAction action = lineageEventTask.action;
+        Runnable task = () -> publishLineageEvent(instanceEvent, action);
+
+        if (eventPipeline == null) {
+            task.run();
+        } else {
+            eventPipeline.submit(lineageEventTask.guid, lineageEventTask.eventKey, receivedTime, task);
+        }
+    }
+
+    /**
+     * Build and publish the lineage event for an instance event, logging any failure.
+     *
+     * @param instanceEvent the event that has been received
+     * @param action        builds and publishes the lineage event
+     */
+    private void publishLineageEvent(OMRSInstanceEvent instanceEvent, LineageEventAction action) {
+        try {
+            action.run();
         } catch (OCFCheckedExceptionBase e) {
             log.error("The following exception occurred: \n" + e.toString() + "\n \nWhile processing OMRSTopic event: \n" + instanceEvent.toString(), e);
             logExceptionToAudit(instanceEvent, e);
@@ -166,63 +254,62 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
      *
      * @param entityDetail   entity object that has just been updated.
      * @param originalEntity original entity
-     * @throws OCFCheckedExceptionBase checked exception for reporting errors found when using OCF connectors
-     * @throws JsonProcessingException exception parsing the event json
+     * @return the publishing work for the event, or null if the event is not relevant to lineage
      */
-    private void processUpdatedEntity(EntityDetail entityDetail, EntityDetail originalEntity) throws OCFCheckedExceptionBase, JsonProcessingException {
-        if (!immutableValidLineageEntityEvents.contains(entityDetail.getType().getTypeDefName())) {
-            return;
+    private LineageEventTask processUpdatedEntity(EntityDetail entityDetail, EntityDetail originalEntity) {
+        if (!isLineageEntityType(entityDetail.getType().getTypeDefName())) {
+            return null;
         }
 
         log.debug(PROCESSING_ENTITY_DETAIL_DEBUG_MESSAGE, "updatedEntity", entityDetail.getGUID());
 
         if (isProcessStatusChangedToActive(entityDetail, originalEntity)) {
-            publisher.publishProcessContext(entityDetail);
+            return new LineageEventTask(entityDetail.getGUID(), AssetLineageEventType.PROCESS_CONTEXT_EVENT.getEventTypeName(), () -> {
+                publisher.publishProcessContext(entityDetail);
 
-            log.info("Asset Lineage OMAS published the context for process with guid {}", entityDetail.getGUID());
-        } else {
-            publishEntityEvent(entityDetail, AssetLineageEventType.UPDATE_ENTITY_EVENT);
+                log.info("Asset Lineage OMAS published the context for process with guid {}", entityDetail.getGUID());
+            });
         }
+
+        return new LineageEventTask(entityDetail.getGUID(), AssetLineageEventType.UPDATE_ENTITY_EVENT.getEventTypeName(),
+                () -> publishEntityEvent(entityDetail, AssetLineageEventType.UPDATE_ENTITY_EVENT));
     }
 
     /**
      * Process delete event for lineage entities.
      *
      * @param entityDetail entity object that has been deleted
-     * @throws UserNotAuthorizedException the user is not authorized to make this request.
-     * @throws PropertyServerException    the service name is not known - indicating a logic error
-     * @throws ConnectorCheckedException  unable to send the event due to connectivity issue
-     * @throws JsonProcessingException    exception parsing the event json
+     * @return the publishing work for the event, or null if the event is not relevant to lineage
      */
-    private void processDeletedEntity(EntityDetail entityDetail) throws ConnectorCheckedException, JsonProcessingException, UserNotAuthorizedException, PropertyServerException {
-        if (!immutableValidLineageEntityEvents.contains(entityDetail.getType().getTypeDefName())) {
-            return;
+    private LineageEventTask processDeletedEntity(EntityDetail entityDetail) {
+        if (!isLineageEntityType(entityDetail.getType().getTypeDefName())) {
+            return null;
         }
 
         log.debug(PROCESSING_ENTITY_DETAIL_DEBUG_MESSAGE, "deletedEntity", entityDetail.getGUID());
-        publishEntityEvent(entityDetail, AssetLineageEventType.DELETE_ENTITY_EVENT);
+        return new LineageEventTask(entityDetail.getGUID(), AssetLineageEventType.DELETE_ENTITY_EVENT.getEventTypeName(),
+                () -> publishEntityEvent(entityDetail, AssetLineageEventType.DELETE_ENTITY_EVENT));
     }
 
     /**
      * Process classified event for lineage entities.
      *
      * @param entityDetail the entity object that has been deleted
-     * @throws OCFCheckedExceptionBase unable to send the event due to connectivity issue
-     * @throws JsonProcessingException exception parsing the event json
+     * @return the publishing work for the event, or null if the event is not relevant to lineage
      */
-    private void processClassifiedEntityEvent(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
-        if (!immutableValidLineageEntityEvents.contains(entityDetail.getType().getTypeDefName()))
-            return;
+    private LineageEventTask processClassifiedEntityEvent(EntityDetail entityDetail) {
+        if (!isLineageEntityType(entityDetail.getType().getTypeDefName()))
+            return null;
 
         if (!anyLineageClassificationsLeft(entityDetail))
-            return;
-
-        if (!publisher.isEntityEligibleForPublishing(entityDetail)) {
-            return;
-        }
+            return null;
 
         log.debug(PROCESSING_ENTITY_DETAIL_DEBUG_MESSAGE, "classifiedEntity", entityDetail.getGUID());
-        publisher.publishClassificationContext(entityDetail, AssetLineageEventType.CLASSIFICATION_CONTEXT_EVENT);
+        return new LineageEventTask(entityDetail.getGUID(), AssetLineageEventType.CLASSIFICATION_CONTEXT_EVENT.getEventTypeName(), () -> {
+            if (publisher.isEntityEligibleForPublishing(entityDetail)) {
+                publisher.publishClassificationContext(entityDetail, AssetLineageEventType.CLASSIFICATION_CONTEXT_EVENT);
+            }
+        });
     }
 
     /**
@@ -231,18 +318,18 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
      * The event is processed only if it contains lineage classifications
      *
      * @param entityDetail the entity object that contains a classification that has been updated
-     * @throws OCFCheckedExceptionBase unable to send the event due to connectivity issue
-     * @throws JsonProcessingException exception parsing the event json
+     * @return the publishing work for the event, or null if the event is not relevant to lineage
      */
-    private void processReclassifiedEntityEvent(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
-        if (!immutableValidLineageEntityEvents.contains(entityDetail.getType().getTypeDefName()))
-            return;
+    private LineageEventTask processReclassifiedEntityEvent(EntityDetail entityDetail) {
+        if (!isLineageEntityType(entityDetail.getType().getTypeDefName()))
+            return null;
 
         if (!anyLineageClassificationsLeft(entityDetail))
-            return;
+            return null;
 
         log.debug(PROCESSING_ENTITY_DETAIL_DEBUG_MESSAGE, "reclassifiedEntity", entityDetail.getGUID());
-        publisher.publishClassificationContext(entityDetail, AssetLineageEventType.RECLASSIFIED_ENTITY_EVENT);
+        return new LineageEventTask(entityDetail.getGUID(), AssetLineageEventType.RECLASSIFIED_ENTITY_EVENT.getEventTypeName(),
+                () -> publisher.publishClassificationContext(entityDetail, AssetLineageEventType.RECLASSIFIED_ENTITY_EVENT));
     }
 
     /**
@@ -251,33 +338,32 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
      * The Classification Context event is sent if there are lineage classifications available on lineage entity.
      *
      * @param entityDetail the entity object that contains a classification that has been deleted
-     * @throws OCFCheckedExceptionBase unable to send the event due to connectivity issue
-     * @throws JsonProcessingException exception parsing the event json
+     * @return the publishing work for the event, or null if the event is not relevant to lineage
      */
-    private void processDeclassifiedEntityEvent(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
-        if (!immutableValidLineageEntityEvents.contains(entityDetail.getType().getTypeDefName())) {
-            return;
+    private LineageEventTask processDeclassifiedEntityEvent(EntityDetail entityDetail) {
+        if (!isLineageEntityType(entityDetail.getType().getTypeDefName())) {
+            return null;
         }
 
         log.debug(PROCESSING_ENTITY_DETAIL_DEBUG_MESSAGE, "declassifiedEntity", entityDetail.getGUID());
 
         if (anyLineageClassificationsLeft(entityDetail)) {
-            publisher.publishClassificationContext(entityDetail, AssetLineageEventType.DECLASSIFIED_ENTITY_EVENT);
-            return;
+            return new LineageEventTask(entityDetail.getGUID(), AssetLineageEventType.DECLASSIFIED_ENTITY_EVENT.getEventTypeName(),
+                    () -> publisher.publishClassificationContext(entityDetail, AssetLineageEventType.DECLASSIFIED_ENTITY_EVENT));
         }
         //The last relevant lineage classification has been removed from the entity
-        publishEntityEvent(entityDetail, AssetLineageEventType.DECLASSIFIED_ENTITY_EVENT);
+        return new LineageEventTask(entityDetail.getGUID(), AssetLineageEventType.DECLASSIFIED_ENTITY_EVENT.getEventTypeName(),
+                () -> publishEntityEvent(entityDetail, AssetLineageEventType.DECLASSIFIED_ENTITY_EVENT));
     }
 
     /**
      * @param entityDetail     the entity object that may be published
      * @param lineageEventType lineage event type
-     * @throws JsonProcessingException    exception parsing the event json
-     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
-     * @throws PropertyServerException    there is a problem retrieving information from the property server.
+     * @throws OCFCheckedExceptionBase unable to send the event due to connectivity issue
+     * @throws JsonProcessingException exception parsing the event json
      */
     private void publishEntityEvent(EntityDetail entityDetail, AssetLineageEventType lineageEventType)
-            throws JsonProcessingException, ConnectorCheckedException, UserNotAuthorizedException, PropertyServerException {
+            throws OCFCheckedExceptionBase, JsonProcessingException {
         if (publisher.isEntityEligibleForPublishing(entityDetail)) {
             publisher.publishLineageEntityEvent(converter.createLineageEntity(entityDetail), lineageEventType);
         }
@@ -287,11 +373,10 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
      * Process New Relationship event when the relationship type is Process Hierarchy, Semantinc Assignment or Term Categorization
      *
      * @param relationship the relationship object that has been created
-     * @throws OCFCheckedExceptionBase unable to send the event due to connectivity issue
-     * @throws JsonProcessingException exception parsing the event json
+     * @return the publishing work for the event, or null if the event is not relevant to lineage
      */
-    private void processNewRelationshipEvent(Relationship relationship) throws OCFCheckedExceptionBase, JsonProcessingException {
-        if (!isLineageRelationship(relationship)) return;
+    private LineageEventTask processNewRelationshipEvent(Relationship relationship) {
+        if (!isLineageRelationship(relationship)) return null;
 
         String relationshipType = relationship.getType().getTypeDefName();
 
@@ -300,16 +385,16 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
             case TERM_CATEGORIZATION:
                 log.debug(PROCESSING_RELATIONSHIP_DEBUG_MESSAGE, AssetLineageEventType.NEW_RELATIONSHIP_EVENT.getEventTypeName(), relationship.getGUID());
                 String glossaryTermGUID = relationship.getEntityTwoProxy().getGUID();
-                publisher.publishGlossaryContext(glossaryTermGUID);
-                break;
+                return new LineageEventTask(glossaryTermGUID, GLOSSARY_CONTEXT_EVENT_KEY,
+                        () -> publisher.publishGlossaryContext(glossaryTermGUID));
             case PROCESS_HIERARCHY:
             case LINEAGE_MAPPING:
                 log.debug(PROCESSING_RELATIONSHIP_DEBUG_MESSAGE, AssetLineageEventType.NEW_RELATIONSHIP_EVENT.getEventTypeName(), relationship.getGUID());
-                publisher.publishLineageRelationshipEvent(converter.createLineageRelationship(relationship),
-                        AssetLineageEventType.NEW_RELATIONSHIP_EVENT);
-                break;
+                return new LineageEventTask(relationship.getGUID(), AssetLineageEventType.NEW_RELATIONSHIP_EVENT.getEventTypeName(),
+                        () -> publisher.publishLineageRelationshipEvent(converter.createLineageRelationship(relationship),
+                                AssetLineageEventType.NEW_RELATIONSHIP_EVENT));
             default:
-                break;
+                return null;
         }
     }
 
@@ -317,15 +402,16 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
      * Process the updates for lineage relationship
      *
      * @param relationship the relationship object that has been updated
-     * @throws OCFCheckedExceptionBase unable to send the event due to connectivity issue
-     * @throws JsonProcessingException exception parsing the event json
+     * @return the publishing work for the event, or null if the event is not relevant to lineage
      */
-    private void processUpdatedRelationshipEvent(Relationship relationship) throws OCFCheckedExceptionBase, JsonProcessingException {
-        if (!isLineageRelationship(relationship)) return;
+    private LineageEventTask processUpdatedRelationshipEvent(Relationship relationship) {
+        if (!isLineageRelationship(relationship)) return null;
 
         log.debug(PROCESSING_RELATIONSHIP_DEBUG_MESSAGE, AssetLineageEventType.UPDATE_RELATIONSHIP_EVENT.getEventTypeName(), relationship.getGUID());
 
-        publisher.publishLineageRelationshipEvent(converter.createLineageRelationship(relationship), AssetLineageEventType.UPDATE_RELATIONSHIP_EVENT);
+        return new LineageEventTask(relationship.getGUID(), AssetLineageEventType.UPDATE_RELATIONSHIP_EVENT.getEventTypeName(),
+                () -> publisher.publishLineageRelationshipEvent(converter.createLineageRelationship(relationship),
+                        AssetLineageEventType.UPDATE_RELATIONSHIP_EVENT));
     }
 
     /**
@@ -341,23 +427,41 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
 
         if (!immutableValidLineageRelationshipTypes.contains(relationship.getType().getTypeDefName())) return false;
 
-        return immutableValidLineageEntityEvents.contains(relationship.getEntityOneProxy().getType().getTypeDefName())
-                || immutableValidLineageEntityEvents.contains(relationship.getEntityTwoProxy().getType().getTypeDefName());
+        return isLineageEntityType(relationship.getEntityOneProxy().getType().getTypeDefName())
+                || isLineageEntityType(relationship.getEntityTwoProxy().getType().getTypeDefName());
+    }
+
+    /**
+     * Determines if entities of the given type are relevant to lineage - either the type or one of its supertypes
+     * is a lineage entity type
+     *
+     * @param typeName name of the type of the entity
+     * @return true if it is a lineage entity type
+     */
+    private boolean isLineageEntityType(String typeName) {
+        if (immutableValidLineageEntityEvents.contains(typeName)) {
+            return true;
+        }
+
+        Set<String> superTypeNames = repositoryHelper.getSuperTypeNames(serverName, typeName);
+
+        return superTypeNames != null && !Collections.disjoint(immutableValidLineageEntityEvents, superTypeNames);
     }
 
     /**
      * Process delete events for lineage relationships
      *
      * @param relationship the relationship object that has been deleted
-     * @throws OCFCheckedExceptionBase unable to send the event due to connectivity issue
-     * @throws JsonProcessingException exception parsing the event json
+     * @return the publishing work for the event, or null if the event is not relevant to lineage
      */
-    private void processDeletedRelationshipEvent(Relationship relationship) throws OCFCheckedExceptionBase, JsonProcessingException {
-        if (!isLineageRelationship(relationship)) return;
+    private LineageEventTask processDeletedRelationshipEvent(Relationship relationship) {
+        if (!isLineageRelationship(relationship)) return null;
 
         log.debug(PROCESSING_RELATIONSHIP_DEBUG_MESSAGE, AssetLineageEventType.DELETE_RELATIONSHIP_EVENT.getEventTypeName(), relationship.getGUID());
 
-        publisher.publishLineageRelationshipEvent(converter.createLineageRelationship(relationship), AssetLineageEventType.DELETE_RELATIONSHIP_EVENT);
+        return new LineageEventTask(relationship.getGUID(), AssetLineageEventType.DELETE_RELATIONSHIP_EVENT.getEventTypeName(),
+                () -> publisher.publishLineageRelationshipEvent(converter.createLineageRelationship(relationship),
+                        AssetLineageEventType.DELETE_RELATIONSHIP_EVENT));
     }
 
     /**
@@ -0,0 +1,208 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.outtopic;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.odpi.openmetadata.accessservices.assetlineage.auditlog.AssetLineageAuditCode;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AssetLineageEventBatcher sends the lineage events to the out topic from a thread of its own.  The threads that
+ * build the events hand them over and carry on with the next event.  The sending thread takes all of the events
+ * that are waiting, up to the batch size, and sends them one after the other, so the out topic connector is
+ * called in bursts rather than once for each wake-up of the thread.  The events are sent in the order that they
+ * were handed over.
+ */
+public class AssetLineageEventBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetLineageEventBatcher.class);
+
+    private static final String PUBLISH_BACKLOG_METRIC_NAME = "egeria.assetlineage.pipeline.backlog";
+    private static final String PUBLISH_STAGE_METRIC_NAME = "egeria.assetlineage.pipeline.stage";
+    private static final String PUBLISH_BATCH_METRIC_NAME = "egeria.assetlineage.pipeline.batch.size";
+
+    private final OpenMetadataTopicConnector outTopicConnector;
+    private final String serverName;
+    private final int batchSize;
+    private final AuditLog auditLog;
+    private final BlockingQueue<String> queue;
+    private final Thread sendingThread;
+    private final AtomicLong eventsSent = new AtomicLong(0);
+    private final AtomicLong eventsFailed = new AtomicLong(0);
+    private final List<Meter> meters = new ArrayList<>();
+    private final Timer publishTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean running = true;
+
+    /**
+     * Constructor starts the sending thread.
+     *
+     * @param outTopicConnector connector for the out topic
+     * @param serverName        name of the server that owns the out topic (used to name the thread and metrics)
+     * @param batchSize         maximum number of events sent in one batch
+     * @param queueSize         maximum number of events waiting to be sent
+     * @param auditLog          audit log for reporting events that could not be sent
+     */
+    public AssetLineageEventBatcher(OpenMetadataTopicConnector outTopicConnector, String serverName, int batchSize, int queueSize,
+                                    AuditLog auditLog) {
+        this.outTopicConnector = outTopicConnector;
+        this.serverName = serverName;
+        this.batchSize = Math.max(batchSize, 1);
+        this.auditLog = auditLog;
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueSize, this.batchSize));
+
+        meters.add(Gauge.builder(PUBLISH_BACKLOG_METRIC_NAME, queue, BlockingQueue::size)
+                .description("Number of lineage events waiting in each stage of the Asset Lineage OMAS pipeline")
+                .tag("server", serverName)
+                .tag("stage", "publish")
+                .register(Metrics.globalRegistry));
+
+        publishTimer = Timer.builder(PUBLISH_STAGE_METRIC_NAME)
+                .description("Time spent by the lineage events in each stage of the Asset Lineage OMAS pipeline")
+                .tag("server", serverName)
+                .tag("stage", "publish")
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+        meters.add(publishTimer);
+
+        batchSizeSummary = DistributionSummary.builder(PUBLISH_BATCH_METRIC_NAME)
+                .description("Number of lineage events sent to the out topic in each batch")
+                .tag("server", serverName)
+                .register(Metrics.globalRegistry);
+        meters.add(batchSizeSummary);
+
+        sendingThread = new Thread(this::sendBatches, "AssetLineage-" + serverName + "-OutTopic");
+        sendingThread.setDaemon(true);
+        sendingThread.start();
+    }
+
+    /**
+     * Hand over an event for sending.  The caller waits if the queue is full.  Once the batcher has shut down the
+     * event is sent on the calling thread.
+     *
+     * @param event event to send
+     * @throws ConnectorCheckedException the event could not be sent after shutdown
+     */
+    public void sendEvent(String event) throws ConnectorCheckedException {
+        try {
+            while (running) {
+                if (queue.offer(event, 1, TimeUnit.SECONDS)) {
+                    return;
+                }
+                log.debug("Asset Lineage OMAS out topic queue for server {} is full", serverName);
+            }
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+
+        outTopicConnector.sendEvent(event);
+    }
+
+    /**
+     * Stop the sending thread after it has sent the events that are waiting.
+     *
+     * @param timeout milliseconds to wait for the waiting events to be sent
+     */
+    public void shutdown(long timeout) {
+        running = false;
+
+        try {
+            sendingThread.join(timeout);
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (sendingThread.isAlive()) {
+            sendingThread.interrupt();
+        }
+
+        for (Meter meter : meters) {
+            Metrics.globalRegistry.remove(meter);
+        }
+    }
+
+    /**
+     * Return the number of events sent to the out topic.
+     *
+     * @return count
+     */
+    public long getEventsSent() {
+        return eventsSent.get();
+    }
+
+    /**
+     * Return the number of events that the out topic connector rejected.
+     *
+     * @return count
+     */
+    public long getEventsFailed() {
+        return eventsFailed.get();
+    }
+
+    /**
+     * Send the waiting events in batches until shutdown, then send any events that are left.
+     */
+    private void sendBatches() {
+        List<String> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                String event = queue.poll(1, TimeUnit.SECONDS);
+                if (event == null) {
+                    continue;
+                }
+
+                batch.add(event);
+                queue.drainTo(batch, batchSize - 1);
+
+                sendBatch(batch);
+                batch.clear();
+            } catch (InterruptedException error) {
+                log.debug("Asset Lineage OMAS out topic thread for server {} stopped with {} events waiting", serverName, queue.size());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Send a batch of events.  An event that fails is logged and the rest of the batch is still sent.
+     *
+     * @param batch events to send
+     */
+    private void sendBatch(List<String> batch) {
+        final String actionDescription = "Send lineage events to the out topic";
+
+        long startTime = System.nanoTime();
+        batchSizeSummary.record(batch.size());
+
+        for (String event : batch) {
+            try {
+                outTopicConnector.sendEvent(event);
+                eventsSent.incrementAndGet();
+            } catch (Exception error) {
+                eventsFailed.incrementAndGet();
+                auditLog.logException(actionDescription,
+                        AssetLineageAuditCode.OUT_TOPIC_SEND_FAILURE.getMessageDefinition(serverName, error.getClass().getName(),
+                                error.getMessage()), event, error);
+            }
+        }
+
+        publishTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+}
@@ -45,8 +45,10 @@ import static org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineag
 public class AssetLineagePublisher {
 
     private static final Logger log = LoggerFactory.getLogger(AssetLineagePublisher.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static AssetLineageInstanceHandler instanceHandler = new AssetLineageInstanceHandler();
     private OpenMetadataTopicConnector outTopicConnector;
+    private AssetLineageEventBatcher eventBatcher;
     private String serverUserName;
     private ProcessContextHandler processContextHandler;
     private ClassificationHandler classificationHandler;
@@ -73,6 +75,22 @@ public class AssetLineagePublisher {
         this.assetContextHandler = instanceHandler.getAssetContextHandler(serverUserName, serverName, methodName);
     }
 
+    /**
+     * The constructor is given the connection to the out topic for Asset Lineage OMAS along with the batcher that
+     * sends the events to the out topic from its own thread.
+     *
+     * @param outTopicConnector connection to the out topic
+     * @param serverName        name of the user of the server instance
+     * @param serverUserName    name of this server instance
+     * @param eventBatcher      sends the events to the out topic - if null the events are sent on the calling thread
+     */
+    public AssetLineagePublisher(OpenMetadataTopicConnector outTopicConnector, String serverName, String serverUserName,
+                                 AssetLineageEventBatcher eventBatcher) throws OCFCheckedExceptionBase {
+        this(outTopicConnector, serverName, serverUserName);
+
+        this.eventBatcher = eventBatcher;
+    }
+
     /**
      * Takes the context for a Process and publishes the event to the output topic
      *
@@ -210,9 +228,12 @@ public class AssetLineagePublisher {
         if (outTopicConnector == null)
             return;
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        outTopicConnector.sendEvent(objectMapper.writeValueAsString(event));
-
+        String eventJSON = OBJECT_MAPPER.writeValueAsString(event);
+        if (eventBatcher != null) {
+            eventBatcher.sendEvent(eventJSON);
+        } else {
+            outTopicConnector.sendEvent(eventJSON);
+        }
     }
 
     /**
@@ -14,6 +14,10 @@ import java.util.Set;
 public final class AssetLineageConstants {
 
     public static final String LINEAGE_CLASSIFICATION_TYPES_KEY = "LineageClassificationTypes";
+    public static final String LINEAGE_EVENT_THREADS_KEY = "LineageEventThreads";
+    public static final String LINEAGE_EVENT_QUEUE_SIZE_KEY = "LineageEventQueueSize";
+    public static final String LINEAGE_EVENT_DEDUPLICATION_WINDOW_KEY = "LineageEventDeduplicationWindow";
+    public static final String OUT_TOPIC_BATCH_SIZE_KEY = "OutTopicBatchSize";
     public static final String ASSET_LINEAGE_OMAS = "AssetLineageOmas";
     public static final String REFERENCEABLE = "Referenceable";
     public static final String GUID_PARAMETER = "guid";
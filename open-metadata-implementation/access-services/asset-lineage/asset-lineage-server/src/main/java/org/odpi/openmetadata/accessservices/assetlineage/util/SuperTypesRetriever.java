@@ -2,20 +2,22 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.assetlineage.util;
 
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 import static org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineageConstants.REFERENCEABLE;
 
 /**
- * Retrieves information about the super-types of a given type
+ * Retrieves information about the super-types of a given type.
+ * <p>
+ * The super-types come from the repository helper, which keeps them up to date as the TypeDefs change.
  */
 public class SuperTypesRetriever {
 
-    private OMRSRepositoryHelper repositoryHelper;
+    private final OMRSRepositoryHelper repositoryHelper;
 
     /**
      * SuperTypeRetriever class provides details about a Open Metadata Type
@@ -27,40 +29,29 @@ public class SuperTypesRetriever {
     }
 
     /**
-     * Returns a collection with super type's names for a type
+     * Returns a collection with super type's names for a type.  The type itself is included, and the types from
+     * Referenceable upwards are not.
      *
      * @param userId      String - userId of user making request.
      * @param typeDefName type name
      * @return a set with supertype names
      */
     public Set<String> getSuperTypes(String userId, String typeDefName) {
-        return collectSuperTypes(userId, typeDefName);
-    }
+        Set<String> superTypeNames = repositoryHelper.getSuperTypeNames(userId, typeDefName);
+        if (superTypeNames == null || REFERENCEABLE.equals(typeDefName)) {
+            return Collections.emptySet();
+        }
 
-    private Set<String> collectSuperTypes(String userId, String typeDefName) {
         Set<String> superTypes = new HashSet<>();
+        superTypes.add(typeDefName);
 
-        TypeDef typeDefByName = repositoryHelper.getTypeDefByName(userId, typeDefName);
-        if (typeDefByName != null) {
-            collectSuperTypes(userId, typeDefByName, superTypes);
+        for (String superTypeName : superTypeNames) {
+            if (superTypeName.equals(REFERENCEABLE)) {
+                break;
+            }
+            superTypes.add(superTypeName);
         }
 
         return superTypes;
     }
-
-    private void collectSuperTypes(String userId, TypeDef type, Set<String> superTypes) {
-        if (type.getName().equals(REFERENCEABLE)) {
-            return;
-        }
-        superTypes.add(type.getName());
-
-        if (type.getSuperType() == null) {
-            return;
-        }
-
-        TypeDef typeDefByName = repositoryHelper.getTypeDefByName(userId, type.getSuperType().getName());
-        if (typeDefByName != null) {
-            collectSuperTypes(userId, typeDefByName, superTypes);
-        }
-    }
 }
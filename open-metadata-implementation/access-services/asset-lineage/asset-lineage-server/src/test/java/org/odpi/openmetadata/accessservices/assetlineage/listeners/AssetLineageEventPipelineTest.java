@@ -0,0 +1,140 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.listeners;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * AssetLineageEventPipelineTest checks that the events for an element are processed in the order they arrived and
+ * that a waiting event is replaced by a later event of the same kind for the same element.
+ */
+public class AssetLineageEventPipelineTest {
+
+    private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * Wait until the condition is true.
+     *
+     * @param condition condition to test
+     * @throws InterruptedException the test was interrupted
+     */
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long endTime = System.currentTimeMillis() + TIMEOUT;
+
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < endTime) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(condition.getAsBoolean());
+    }
+
+    /**
+     * The events for each element are processed in the order they were submitted, even though the elements are
+     * spread over several worker threads.  The queues are small so the submitter often waits for the workers.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testPerElementOrder() throws InterruptedException {
+        final int elementCount = 20;
+        final int eventCount = 50;
+
+        AssetLineageEventPipeline pipeline = new AssetLineageEventPipeline("testPerElementOrder", 4, 8, 0);
+        Map<String, List<Integer>> processedEvents = new ConcurrentHashMap<>();
+
+        try {
+            for (int event = 0; event < eventCount; event++) {
+                for (int element = 0; element < elementCount; element++) {
+                    String guid = "element-" + element;
+                    int eventNumber = event;
+
+                    // each event is of a different kind so that none of them are replaced
+                    pipeline.submit(guid, "event-" + event, System.nanoTime(),
+                            () -> processedEvents.computeIfAbsent(guid, key -> Collections.synchronizedList(new ArrayList<>())).add(eventNumber));
+                }
+            }
+
+            waitFor(() -> pipeline.getEventsProcessed() == elementCount * eventCount);
+
+            assertEquals(processedEvents.size(), elementCount);
+            for (List<Integer> events : processedEvents.values()) {
+                assertEquals(events.size(), eventCount);
+                for (int event = 0; event < eventCount; event++) {
+                    assertEquals(events.get(event).intValue(), event);
+                }
+            }
+            assertEquals(pipeline.getEventsDeduplicated(), 0);
+            assertEquals(pipeline.getBacklog(), 0);
+        } finally {
+            pipeline.shutdown();
+        }
+    }
+
+    /**
+     * An event waiting for the worker thread is replaced by a later event of the same kind for the same element.
+     * An event of a different kind is queued behind it, and later events queue behind that one.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testDeduplication() throws InterruptedException {
+        AssetLineageEventPipeline pipeline = new AssetLineageEventPipeline("testDeduplication", 1, 1000, 0);
+        List<String> processedEvents = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch blocker = new CountDownLatch(1);
+
+        try {
+            // holds up the only worker thread so the events below wait in its queue
+            pipeline.submit("blocker", "update", System.nanoTime(), () -> {
+                try {
+                    blocker.await();
+                } catch (InterruptedException error) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            pipeline.submit("element", "update", System.nanoTime(), () -> processedEvents.add("update-1"));
+            pipeline.submit("element", "update", System.nanoTime(), () -> processedEvents.add("update-2"));
+            pipeline.submit("element", "update", System.nanoTime(), () -> processedEvents.add("update-3"));
+            pipeline.submit("element", "delete", System.nanoTime(), () -> processedEvents.add("delete"));
+            pipeline.submit("element", "update", System.nanoTime(), () -> processedEvents.add("update-4"));
+
+            assertEquals(pipeline.getEventsDeduplicated(), 2);
+
+            blocker.countDown();
+            waitFor(() -> pipeline.getEventsProcessed() == 4);
+
+            assertEquals(processedEvents, Arrays.asList("update-3", "delete", "update-4"));
+            assertEquals(pipeline.getBacklog(), 0);
+        } finally {
+            blocker.countDown();
+            pipeline.shutdown();
+        }
+    }
+
+    /**
+     * Once the pipeline has shut down, the events are processed on the thread that submits them.
+     */
+    @Test
+    public void testSubmitAfterShutdown() {
+        AssetLineageEventPipeline pipeline = new AssetLineageEventPipeline("testSubmitAfterShutdown", 2, 1000, 0);
+        List<Thread> processingThreads = new ArrayList<>();
+
+        pipeline.shutdown();
+        pipeline.submit("element", "update", System.nanoTime(), () -> processingThreads.add(Thread.currentThread()));
+
+        assertEquals(processingThreads, Collections.singletonList(Thread.currentThread()));
+    }
+}
@@ -0,0 +1,112 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.outtopic;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * AssetLineageEventBatcherTest checks that the events are sent to the out topic in the order they were handed over,
+ * and that the events still waiting at shutdown are sent before the batcher stops.
+ */
+public class AssetLineageEventBatcherTest {
+
+    private static final long TIMEOUT = 30000;
+
+    /**
+     * Create an out topic connector that saves the events it is passed.  Each send takes a millisecond so that
+     * the events build up in the batcher's queue.
+     *
+     * @param sentEvents list that the events are added to
+     * @param failingEvent event that the connector rejects, or null
+     * @return mock connector
+     * @throws ConnectorCheckedException not thrown by the mock
+     */
+    private OpenMetadataTopicConnector getOutTopicConnector(List<String> sentEvents, String failingEvent) throws ConnectorCheckedException {
+        OpenMetadataTopicConnector outTopicConnector = mock(OpenMetadataTopicConnector.class);
+
+        doAnswer(invocation -> {
+            String event = invocation.getArgument(0);
+            if (event.equals(failingEvent)) {
+                throw new IllegalStateException("Test failure");
+            }
+            Thread.sleep(1);
+            sentEvents.add(event);
+            return null;
+        }).when(outTopicConnector).sendEvent(anyString());
+
+        return outTopicConnector;
+    }
+
+    /**
+     * The events that are waiting when the batcher shuts down are sent, in order, before shutdown returns.
+     * Events handed over after shutdown are sent on the calling thread.
+     *
+     * @throws ConnectorCheckedException not thrown by the mock connector
+     */
+    @Test
+    public void testDrainAtShutdown() throws ConnectorCheckedException {
+        final int eventCount = 200;
+
+        List<String> sentEvents = Collections.synchronizedList(new ArrayList<>());
+        List<String> expectedEvents = new ArrayList<>();
+        AssetLineageEventBatcher batcher = new AssetLineageEventBatcher(getOutTopicConnector(sentEvents, null),
+                "testDrainAtShutdown", 10, 1000, mock(AuditLog.class));
+
+        for (int event = 0; event < eventCount; event++) {
+            expectedEvents.add("event-" + event);
+            batcher.sendEvent("event-" + event);
+        }
+
+        batcher.shutdown(TIMEOUT);
+
+        assertEquals(sentEvents, expectedEvents);
+        assertEquals(batcher.getEventsSent(), eventCount);
+        assertEquals(batcher.getEventsFailed(), 0);
+
+        batcher.sendEvent("after-shutdown");
+
+        assertEquals(sentEvents.get(eventCount), "after-shutdown");
+    }
+
+    /**
+     * An event that the out topic connector rejects is reported in the audit log and the rest of the events
+     * are still sent.
+     *
+     * @throws ConnectorCheckedException not thrown by the mock connector
+     */
+    @Test
+    public void testFailedEvent() throws ConnectorCheckedException {
+        List<String> sentEvents = Collections.synchronizedList(new ArrayList<>());
+        AuditLog auditLog = mock(AuditLog.class);
+        AssetLineageEventBatcher batcher = new AssetLineageEventBatcher(getOutTopicConnector(sentEvents, "event-1"),
+                "testFailedEvent", 10, 1000, auditLog);
+
+        batcher.sendEvent("event-0");
+        batcher.sendEvent("event-1");
+        batcher.sendEvent("event-2");
+        batcher.shutdown(TIMEOUT);
+
+        assertEquals(sentEvents.size(), 2);
+        assertEquals(sentEvents.get(0), "event-0");
+        assertEquals(sentEvents.get(1), "event-2");
+        assertEquals(batcher.getEventsSent(), 2);
+        assertEquals(batcher.getEventsFailed(), 1);
+        verify(auditLog, times(1)).logException(anyString(), any(), eq("event-1"), any(IllegalStateException.class));
+    }
+}
@@ -11,7 +11,12 @@ import org.odpi.openmetadata.accessservices.assetmanager.server.AssetManagerServ
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
+import org.odpi.openmetadata.adminservices.ffdc.OMAGAdminAuditCode;
+import org.odpi.openmetadata.adminservices.ffdc.OMAGAdminErrorCode;
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCache;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCacheListener;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
@@ -22,7 +27,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.Ope
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * AssetManagerAdmin manages the start up and shutdown of the Asset Manager OMAS. During start up,
@@ -36,6 +43,9 @@ public class AssetManagerAdmin extends AccessServiceAdmin
     private String                        serverName       = null;
     private AssetManagerOutTopicPublisher eventPublisher   = null;
 
+    private static final String externalIdentifierCacheSizePropertyName = "ExternalIdentifierCacheSize";
+    private static final int    defaultExternalIdentifierCacheSize      = 100000;
+
 
     /**
      * Default constructor
@@ -83,6 +93,22 @@ public class AssetManagerAdmin extends AccessServiceAdmin
                                                                  accessServiceConfig.getAccessServiceName(),
                                                                  auditLog);
 
+            int externalIdentifierCacheSize = this.extractExternalIdentifierCacheSize(accessServiceConfig.getAccessServiceOptions(),
+                                                                                      accessServiceConfig.getAccessServiceName(),
+                                                                                      auditLog);
+
+            /*
+             * The external identifier cache is kept consistent with the repositories through the OMRS instance events.
+             * Without the events, a cached identifier could be used after its ExternalId entity has been moved to a
+             * different scope, so the cache is disabled.
+             */
+            if (omrsTopicConnector == null)
+            {
+                externalIdentifierCacheSize = 0;
+            }
+
+            ElementGUIDCache externalIdentifierCache = new ElementGUIDCache(externalIdentifierCacheSize);
+
             this.instance   = new AssetManagerServicesInstance(repositoryConnector,
                                                                supportedZones,
                                                                defaultZones,
@@ -90,9 +116,23 @@ public class AssetManagerAdmin extends AccessServiceAdmin
                                                                auditLog,
                                                                serverUserName,
                                                                repositoryConnector.getMaxPageSize(),
-                                                               accessServiceConfig.getAccessServiceOutTopic());
+                                                               accessServiceConfig.getAccessServiceOutTopic(),
+                                                               externalIdentifierCache);
             this.serverName = instance.getServerName();
 
+            if (externalIdentifierCache.isEnabled())
+            {
+                this.registerWithEnterpriseTopic(AccessServiceDescription.ASSET_MANAGER_OMAS.getAccessServiceFullName(),
+                                                 serverName,
+                                                 omrsTopicConnector,
+                                                 new ElementGUIDCacheListener(AccessServiceDescription.ASSET_MANAGER_OMAS.getAccessServiceFullName(),
+                                                                              externalIdentifierCache,
+                                                                              OpenMetadataAPIMapper.IDENTIFIER_PROPERTY_NAME,
+                                                                              Collections.singletonList(OpenMetadataAPIMapper.EXTERNAL_ID_SCOPE_TYPE_NAME),
+                                                                              auditLog),
+                                                 auditLog);
+            }
+
 
             /*
              * Only set up the listening and event publishing if requested in the config.
@@ -150,6 +190,58 @@ public class AssetManagerAdmin extends AccessServiceAdmin
 
 
 
+    /**
+     * Extract the number of external identifiers to cache from the access services option.
+     *
+     * @param accessServiceOptions options passed to the access service.
+     * @param accessServiceFullName name of calling service
+     * @param auditLog audit log for error messages
+     * @return cache size
+     * @throws OMAGConfigurationErrorException the property is not a positive integer.
+     */
+    private int extractExternalIdentifierCacheSize(Map<String, Object> accessServiceOptions,
+                                                   String              accessServiceFullName,
+                                                   AuditLog            auditLog) throws OMAGConfigurationErrorException
+    {
+        final String  methodName = "extractExternalIdentifierCacheSize";
+
+        if ((accessServiceOptions == null) || (accessServiceOptions.get(externalIdentifierCacheSizePropertyName) == null))
+        {
+            return defaultExternalIdentifierCacheSize;
+        }
+
+        String propertyValue = accessServiceOptions.get(externalIdentifierCacheSizePropertyName).toString();
+
+        try
+        {
+            int cacheSize = Integer.parseInt(propertyValue);
+
+            if (cacheSize < 0)
+            {
+                throw new NumberFormatException(propertyValue);
+            }
+
+            return cacheSize;
+        }
+        catch (NumberFormatException error)
+        {
+            auditLog.logMessage(methodName,
+                                OMAGAdminAuditCode.BAD_CONFIG_PROPERTY.getMessageDefinition(accessServiceFullName,
+                                                                                            propertyValue,
+                                                                                            externalIdentifierCacheSizePropertyName));
+
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.BAD_CONFIG_PROPERTIES.getMessageDefinition(accessServiceFullName,
+                                                                                                                    propertyValue,
+                                                                                                                    externalIdentifierCacheSizePropertyName,
+                                                                                                                    error.getClass().getName(),
+                                                                                                                    error.getMessage()),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      error);
+        }
+    }
+
+
     /**
      * Shutdown the access service.
      */
@@ -9,6 +9,7 @@ import org.odpi.openmetadata.accessservices.assetmanager.properties.*;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.AssetHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCache;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -47,6 +48,7 @@ public class DataAssetExchangeHandler extends ExchangeHandlerBase
      * @param supportedZones list of zones that the access service is allowed to serve instances from.
      * @param defaultZones list of zones that the access service should set in all new instances.
      * @param publishZones list of zones that the access service sets up in published instances.
+     * @param externalIdentifierCache cache of the ExternalId entities for each identifier and scope
      * @param auditLog destination for audit log events.
      */
     public DataAssetExchangeHandler(String                             serviceName,
@@ -59,6 +61,7 @@ public class DataAssetExchangeHandler extends ExchangeHandlerBase
                                     List<String>                       supportedZones,
                                     List<String>                       defaultZones,
                                     List<String>                       publishZones,
+                                    ElementGUIDCache                   externalIdentifierCache,
                                     AuditLog                           auditLog)
     {
         super(serviceName,
@@ -71,6 +74,7 @@ public class DataAssetExchangeHandler extends ExchangeHandlerBase
               supportedZones,
               defaultZones,
               publishZones,
+              externalIdentifierCache,
               auditLog);
 
         assetHandler = new AssetHandler<>(new AssetConverter<>(repositoryHelper, serviceName, serverName),
@@ -8,6 +8,7 @@ import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.*;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.*;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.*;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCache;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -47,6 +48,7 @@ public class ExchangeHandlerBase
      * @param supportedZones list of zones that the access service is allowed to serve instances from.
      * @param defaultZones list of zones that the access service should set in all new instances.
      * @param publishZones list of zones that the access service sets up in published instances.
+     * @param externalIdentifierCache cache of the ExternalId entities for each identifier and scope
      * @param auditLog destination for audit log events.
      */
     public ExchangeHandlerBase(String                             serviceName,
@@ -59,6 +61,7 @@ public class ExchangeHandlerBase
                                List<String>                       supportedZones,
                                List<String>                       defaultZones,
                                List<String>                       publishZones,
+                               ElementGUIDCache                   externalIdentifierCache,
                                AuditLog                           auditLog)
     {
         externalIdentifierHandler = new ExternalIdentifierHandler<>(new ExternalIdentifierConverter<>(repositoryHelper, serviceName, serverName),
@@ -75,6 +78,7 @@ public class ExchangeHandlerBase
                                                                     supportedZones,
                                                                     defaultZones,
                                                                     publishZones,
+                                                                    externalIdentifierCache,
                                                                     auditLog);
 
         this.invalidParameterHandler = invalidParameterHandler;
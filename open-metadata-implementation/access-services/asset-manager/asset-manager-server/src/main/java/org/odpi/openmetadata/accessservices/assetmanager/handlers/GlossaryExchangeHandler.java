@@ -8,6 +8,7 @@ import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.*;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.*;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.*;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCache;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -48,6 +49,7 @@ public class GlossaryExchangeHandler extends ExchangeHandlerBase
      * @param supportedZones list of zones that the access service is allowed to serve instances from.
      * @param defaultZones list of zones that the access service should set in all new instances.
      * @param publishZones list of zones that the access service sets up in published instances.
+     * @param externalIdentifierCache cache of the ExternalId entities for each identifier and scope
      * @param auditLog destination for audit log events.
      */
     public GlossaryExchangeHandler(String                             serviceName,
@@ -60,6 +62,7 @@ public class GlossaryExchangeHandler extends ExchangeHandlerBase
                                    List<String>                       supportedZones,
                                    List<String>                       defaultZones,
                                    List<String>                       publishZones,
+                                   ElementGUIDCache                   externalIdentifierCache,
                                    AuditLog                           auditLog)
     {
         super(serviceName,
@@ -72,6 +75,7 @@ public class GlossaryExchangeHandler extends ExchangeHandlerBase
               supportedZones,
               defaultZones,
               publishZones,
+              externalIdentifierCache,
               auditLog);
 
         glossaryHandler = new GlossaryHandler<>(new GlossaryConverter<>(repositoryHelper, serviceName, serverName),
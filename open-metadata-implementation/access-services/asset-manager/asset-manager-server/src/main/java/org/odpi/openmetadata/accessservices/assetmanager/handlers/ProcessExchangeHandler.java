@@ -9,6 +9,7 @@ import org.odpi.openmetadata.accessservices.assetmanager.properties.*;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper;
 import org.odpi.openmetadata.commonservices.generichandlers.ProcessHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCache;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -52,6 +53,7 @@ public class ProcessExchangeHandler extends ExchangeHandlerBase
      * @param supportedZones list of zones that the access service is allowed to serve instances from.
      * @param defaultZones list of zones that the access service should set in all new instances.
      * @param publishZones list of zones that the access service sets up in published instances.
+     * @param externalIdentifierCache cache of the ExternalId entities for each identifier and scope
      * @param auditLog destination for audit log events.
      */
     public ProcessExchangeHandler(String                             serviceName,
@@ -64,6 +66,7 @@ public class ProcessExchangeHandler extends ExchangeHandlerBase
                                   List<String>                       supportedZones,
                                   List<String>                       defaultZones,
                                   List<String>                       publishZones,
+                                  ElementGUIDCache                   externalIdentifierCache,
                                   AuditLog                           auditLog)
     {
         super(serviceName,
@@ -76,6 +79,7 @@ public class ProcessExchangeHandler extends ExchangeHandlerBase
               supportedZones,
               defaultZones,
               publishZones,
+              externalIdentifierCache,
               auditLog);
 
         processHandler = new ProcessHandler<>(new ProcessConverter<>(repositoryHelper, serviceName, serverName),
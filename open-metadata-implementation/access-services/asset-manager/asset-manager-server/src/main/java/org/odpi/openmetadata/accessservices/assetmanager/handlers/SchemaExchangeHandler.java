@@ -10,6 +10,7 @@ import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.*;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.*;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.*;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCache;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryRelationshipsIterator;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -51,6 +52,7 @@ public class SchemaExchangeHandler extends ExchangeHandlerBase
      * @param supportedZones list of zones that the access service is allowed to serve instances from.
      * @param defaultZones list of zones that the access service should set in all new instances.
      * @param publishZones list of zones that the access service sets up in published instances.
+     * @param externalIdentifierCache cache of the ExternalId entities for each identifier and scope
      * @param auditLog destination for audit log events.
      */
     public SchemaExchangeHandler(String                             serviceName,
@@ -63,6 +65,7 @@ public class SchemaExchangeHandler extends ExchangeHandlerBase
                                  List<String>                       supportedZones,
                                  List<String>                       defaultZones,
                                  List<String>                       publishZones,
+                                 ElementGUIDCache                   externalIdentifierCache,
                                  AuditLog                           auditLog)
     {
         super(serviceName,
@@ -75,6 +78,7 @@ public class SchemaExchangeHandler extends ExchangeHandlerBase
               supportedZones,
               defaultZones,
               publishZones,
+              externalIdentifierCache,
               auditLog);
 
         schemaTypeHandler = new SchemaTypeHandler<>(new SchemaTypeConverter<>(repositoryHelper, serviceName, serverName),
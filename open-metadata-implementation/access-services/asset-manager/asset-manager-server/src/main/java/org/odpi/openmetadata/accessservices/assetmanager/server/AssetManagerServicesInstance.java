@@ -16,6 +16,7 @@ import org.odpi.openmetadata.adminservices.configuration.registration.AccessServ
 import org.odpi.openmetadata.commonservices.generichandlers.*;
 import org.odpi.openmetadata.commonservices.multitenant.OMASServiceInstance;
 import org.odpi.openmetadata.commonservices.multitenant.ffdc.exceptions.NewInstanceException;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCache;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
@@ -50,6 +51,7 @@ public class AssetManagerServicesInstance extends OMASServiceInstance
      * @param localServerUserId userId used for server initiated actions
      * @param maxPageSize max number of results to return on single request.
      * @param outTopicConnection topic of the client side listener
+     * @param externalIdentifierCache cache of the ExternalId entities for each identifier and scope
      * @throws NewInstanceException a problem occurred during initialization
      */
     public AssetManagerServicesInstance(OMRSRepositoryConnector repositoryConnector,
@@ -59,7 +61,8 @@ public class AssetManagerServicesInstance extends OMASServiceInstance
                                         AuditLog                auditLog,
                                         String                  localServerUserId,
                                         int                     maxPageSize,
-                                        Connection              outTopicConnection) throws NewInstanceException
+                                        Connection              outTopicConnection,
+                                        ElementGUIDCache        externalIdentifierCache) throws NewInstanceException
     {
         super(myDescription.getAccessServiceFullName(),
               repositoryConnector,
@@ -113,6 +116,7 @@ public class AssetManagerServicesInstance extends OMASServiceInstance
                                                                          supportedZones,
                                                                          defaultZones,
                                                                          publishZones,
+                                                                         externalIdentifierCache,
                                                                          auditLog);
 
         this.dataAssetExchangeHandler = new DataAssetExchangeHandler(serviceName,
@@ -125,6 +129,7 @@ public class AssetManagerServicesInstance extends OMASServiceInstance
                                                                      supportedZones,
                                                                      defaultZones,
                                                                      publishZones,
+                                                                     externalIdentifierCache,
                                                                      auditLog);
 
         this.glossaryExchangeHandler = new GlossaryExchangeHandler(serviceName,
@@ -137,6 +142,7 @@ public class AssetManagerServicesInstance extends OMASServiceInstance
                                                                    supportedZones,
                                                                    defaultZones,
                                                                    publishZones,
+                                                                   externalIdentifierCache,
                                                                    auditLog);
 
         this.processExchangeHandler = new ProcessExchangeHandler(serviceName,
@@ -149,6 +155,7 @@ public class AssetManagerServicesInstance extends OMASServiceInstance
                                                                  supportedZones,
                                                                  defaultZones,
                                                                  publishZones,
+                                                                 externalIdentifierCache,
                                                                  auditLog);
 
         this.schemaExchangeHandler = new SchemaExchangeHandler(serviceName,
@@ -161,6 +168,7 @@ public class AssetManagerServicesInstance extends OMASServiceInstance
                                                                supportedZones,
                                                                defaultZones,
                                                                publishZones,
+                                                               externalIdentifierCache,
                                                                auditLog);
     }
 
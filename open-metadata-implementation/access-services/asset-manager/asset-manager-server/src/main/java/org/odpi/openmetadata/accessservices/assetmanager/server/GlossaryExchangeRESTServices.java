@@ -89,7 +89,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -148,7 +148,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -203,7 +203,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -248,7 +248,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -308,7 +308,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -352,7 +352,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -411,7 +411,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -455,7 +455,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -516,7 +516,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -577,7 +577,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -640,7 +640,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -699,7 +699,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -759,7 +759,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -814,7 +814,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -869,7 +869,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -932,7 +932,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -995,7 +995,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1038,7 +1038,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1099,7 +1099,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1166,7 +1166,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1227,7 +1227,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1286,7 +1286,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1346,7 +1346,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1413,7 +1413,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1472,7 +1472,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1528,7 +1528,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1583,7 +1583,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1638,7 +1638,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1694,7 +1694,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1753,7 +1753,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1816,7 +1816,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1878,7 +1878,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1938,7 +1938,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2005,7 +2005,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2050,7 +2050,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2094,7 +2094,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2138,7 +2138,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2182,7 +2182,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2237,7 +2237,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2281,7 +2281,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2336,7 +2336,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2380,7 +2380,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2424,7 +2424,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2468,7 +2468,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2513,7 +2513,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2557,7 +2557,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2601,7 +2601,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2645,7 +2645,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2689,7 +2689,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2750,7 +2750,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2817,7 +2817,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2885,7 +2885,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2946,7 +2946,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3004,7 +3004,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3066,7 +3066,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3122,7 +3122,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
 
@@ -3182,7 +3182,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3245,7 +3245,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3308,7 +3308,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3354,7 +3354,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3421,7 +3421,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3481,7 +3481,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3544,7 +3544,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3604,7 +3604,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -3667,7 +3667,7 @@ public class GlossaryExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
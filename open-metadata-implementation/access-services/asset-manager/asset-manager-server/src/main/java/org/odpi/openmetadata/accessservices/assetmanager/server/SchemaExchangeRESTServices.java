@@ -91,7 +91,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -150,7 +150,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -208,7 +208,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -272,7 +272,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -333,7 +333,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -384,7 +384,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -444,7 +444,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -502,7 +502,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -562,7 +562,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -617,7 +617,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -672,7 +672,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -734,7 +734,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -795,7 +795,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -853,7 +853,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -912,7 +912,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -967,7 +967,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1027,7 +1027,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1082,7 +1082,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1144,7 +1144,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1203,7 +1203,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1261,7 +1261,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1312,7 +1312,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1372,7 +1372,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1433,7 +1433,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1493,7 +1493,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1548,7 +1548,7 @@ public class SchemaExchangeRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
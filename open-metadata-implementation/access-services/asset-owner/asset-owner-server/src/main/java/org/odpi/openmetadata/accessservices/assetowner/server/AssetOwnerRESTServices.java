@@ -88,7 +88,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -125,7 +125,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -216,7 +216,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -294,7 +294,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -347,7 +347,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -410,7 +410,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -786,7 +786,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -836,7 +836,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -886,7 +886,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -948,7 +948,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1008,7 +1008,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1065,7 +1065,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1141,7 +1141,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1202,7 +1202,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1260,7 +1260,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1312,7 +1312,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1366,7 +1366,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1426,7 +1426,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1476,7 +1476,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1520,7 +1520,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1564,7 +1564,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1612,7 +1612,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1674,7 +1674,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1731,7 +1731,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1791,7 +1791,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1840,7 +1840,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1891,7 +1891,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1956,7 +1956,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2006,7 +2006,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2066,7 +2066,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2113,7 +2113,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2156,7 +2156,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2204,7 +2204,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2268,7 +2268,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2326,7 +2326,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2389,7 +2389,7 @@ public class AssetOwnerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 }
@@ -69,7 +69,39 @@ public enum DataEngineAuditCode {
             OMRSAuditLogRecordSeverity.EVENT,
             "The Data Engine Open Metadata Access Service (OMAS) client has sent event: {0}",
             "The access service client sends out event notification produced by external source like data engine system.",
-            "This event contains external metadata changes that need to be processed by the access service.");
+            "This event contains external metadata changes that need to be processed by the access service."),
+    PROCESSING_THREADS("OMAS-DATA-ENGINE-0009",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The Data Engine Open Metadata Access Service (OMAS) for server {0} is using {1} threads to process bulk requests, " +
+                    "with at most {2} threads working on a single request",
+            "The access service runs the repository calls of bulk requests, such as process and lineage mapping upserts, " +
+                    "on a thread pool owned by this server.",
+            "Set the ProcessingThreads and RequestConcurrency access service options to change the number of threads."),
+    BAD_PROCESSING_OPTION("OMAS-DATA-ENGINE-0010",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The Data Engine Open Metadata Access Service (OMAS) option {0} has an invalid value of {1}; the default value of {2} " +
+                    "is used instead",
+            "The access service ignores the configured value and continues to start up.",
+            "Correct the value of the option in the access service options so that it is an integer of at least {3} and restart the server."),
+    PROCESSING_STATISTICS("OMAS-DATA-ENGINE-0011",
+            OMRSAuditLogRecordSeverity.PERFMON,
+            "The Data Engine Open Metadata Access Service (OMAS) for server {0} processed {1} items for {2} bulk requests in {3} " +
+                    "milliseconds ({4} items per second); {5} items failed",
+            "The access service is shutting down and reports the throughput of its bulk request processing.",
+            "Review the statistics when deciding whether to change the ProcessingThreads and RequestConcurrency options."),
+    CHANGE_DETECTION_STATISTICS("OMAS-DATA-ENGINE-0012",
+            OMRSAuditLogRecordSeverity.PERFMON,
+            "The Data Engine Open Metadata Access Service (OMAS) for server {0} skipped {1} unchanged elements and upserted {2} elements",
+            "The access service is shutting down and reports how many of the elements sent by the data engines had not changed " +
+                    "since they were last upserted.",
+            "Set the ChangeDetectionCacheSize option to 0 to upsert every element that is received."),
+
+    QUALIFIED_NAME_CACHE_STATISTICS("OMAS-DATA-ENGINE-0013",
+            OMRSAuditLogRecordSeverity.PERFMON,
+            "The Data Engine Open Metadata Access Service (OMAS) for server {0} found {1} elements by qualified name without a " +
+                    "repository search and searched for {2} elements; {3} qualified names are cached",
+            "The access service is shutting down and reports how many lookups by qualified name were served from its cache.",
+            "Increase the QualifiedNameCacheSize option if many of the elements are searched for repeatedly.");
     private AuditLogMessageDefinition messageDefinition;
 
     /**
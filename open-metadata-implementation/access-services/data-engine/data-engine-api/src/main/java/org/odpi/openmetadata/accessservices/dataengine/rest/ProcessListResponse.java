@@ -15,6 +15,8 @@ import java.util.Objects;
  */
 public class ProcessListResponse extends GUIDListResponse {
     private List<String> failedGUIDs;
+    private int skippedElementCount;
+    private int appliedElementCount;
 
     public List<String> getFailedGUIDs() {
         return failedGUIDs;
@@ -24,6 +26,33 @@ public class ProcessListResponse extends GUIDListResponse {
         this.failedGUIDs = failedProcesses;
     }
 
+    /**
+     * Return the number of processes, ports and schema types that were not upserted because they had not changed
+     * since the previous request.
+     *
+     * @return count
+     */
+    public int getSkippedElementCount() {
+        return skippedElementCount;
+    }
+
+    public void setSkippedElementCount(int skippedElementCount) {
+        this.skippedElementCount = skippedElementCount;
+    }
+
+    /**
+     * Return the number of processes, ports and schema types that were created or updated.
+     *
+     * @return count
+     */
+    public int getAppliedElementCount() {
+        return appliedElementCount;
+    }
+
+    public void setAppliedElementCount(int appliedElementCount) {
+        this.appliedElementCount = appliedElementCount;
+    }
+
     @Override
     public List<String> getGUIDs() {
         if (CollectionUtils.isEmpty(super.getGUIDs())) {
@@ -38,12 +67,14 @@ public class ProcessListResponse extends GUIDListResponse {
         if (o == null || getClass() != o.getClass()) return false;
         if (!super.equals(o)) return false;
         ProcessListResponse that = (ProcessListResponse) o;
-        return Objects.equals(failedGUIDs, that.failedGUIDs);
+        return skippedElementCount == that.skippedElementCount &&
+                appliedElementCount == that.appliedElementCount &&
+                Objects.equals(failedGUIDs, that.failedGUIDs);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), failedGUIDs);
+        return Objects.hash(super.hashCode(), failedGUIDs, skippedElementCount, appliedElementCount);
     }
 
     @Override
@@ -51,6 +82,8 @@ public class ProcessListResponse extends GUIDListResponse {
         return "ProcessListResponse{" +
                 "GUIDs=" + getGUIDs() +
                 ", failedGUIDs=" + failedGUIDs +
+                ", skippedElementCount=" + skippedElementCount +
+                ", appliedElementCount=" + appliedElementCount +
                 '}';
     }
 }
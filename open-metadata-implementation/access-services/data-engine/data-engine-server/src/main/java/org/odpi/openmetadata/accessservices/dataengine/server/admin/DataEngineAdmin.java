@@ -6,22 +6,31 @@ import org.odpi.openmetadata.accessservices.dataengine.connectors.intopic.DataEn
 import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineErrorCode;
 import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineAuditCode;
 import org.odpi.openmetadata.accessservices.dataengine.server.listeners.DataEngineInTopicListener;
+import org.odpi.openmetadata.accessservices.dataengine.server.listeners.DataEngineOMRSTopicListener;
 import org.odpi.openmetadata.accessservices.dataengine.server.processors.DataEngineEventProcessor;
+import org.odpi.openmetadata.accessservices.dataengine.server.service.DataEngineTaskExecutor;
+import org.odpi.openmetadata.accessservices.dataengine.server.service.ElementFingerprintCache;
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCache;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicSubscription;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * DataEngineAdmin is the class that is called by the OMAG Server to initialize and terminate
@@ -36,6 +45,14 @@ public class DataEngineAdmin extends AccessServiceAdmin {
 
     private static final Logger log = LoggerFactory.getLogger(DataEngineAdmin.class);
 
+    private static final String PROCESSING_THREADS_PROPERTY_NAME = "ProcessingThreads";
+    private static final String REQUEST_CONCURRENCY_PROPERTY_NAME = "RequestConcurrency";
+    private static final String CHANGE_DETECTION_SIZE_PROPERTY_NAME = "ChangeDetectionCacheSize";
+    private static final String QUALIFIED_NAME_CACHE_SIZE_PROPERTY_NAME = "QualifiedNameCacheSize";
+    private static final int DEFAULT_PROCESSING_THREADS = Math.max(Runtime.getRuntime().availableProcessors(), 4);
+    private static final int DEFAULT_CHANGE_DETECTION_SIZE = 0;
+    private static final int DEFAULT_QUALIFIED_NAME_CACHE_SIZE = 100000;
+
     /**
      * Initialize the access service.
      *
@@ -61,15 +78,40 @@ public class DataEngineAdmin extends AccessServiceAdmin {
             List<String> defaultZones = this.extractDefaultZones(accessServiceConfig.getAccessServiceOptions(),
                     accessServiceConfig.getAccessServiceName(), auditLog);
 
+            int processingThreads = extractIntegerOption(accessServiceConfig.getAccessServiceOptions(), PROCESSING_THREADS_PROPERTY_NAME,
+                    DEFAULT_PROCESSING_THREADS, 1, actionDescription);
+            int requestConcurrency = extractIntegerOption(accessServiceConfig.getAccessServiceOptions(), REQUEST_CONCURRENCY_PROPERTY_NAME,
+                    processingThreads, 1, actionDescription);
+            int changeDetectionSize = extractIntegerOption(accessServiceConfig.getAccessServiceOptions(), CHANGE_DETECTION_SIZE_PROPERTY_NAME,
+                    DEFAULT_CHANGE_DETECTION_SIZE, 0, actionDescription);
+            if (enterpriseOMRSTopicConnector == null) {
+                // without the instance events the fingerprints can not be removed when the elements are changed by other tools
+                changeDetectionSize = 0;
+            }
+            int qualifiedNameCacheSize = extractIntegerOption(accessServiceConfig.getAccessServiceOptions(),
+                    QUALIFIED_NAME_CACHE_SIZE_PROPERTY_NAME, DEFAULT_QUALIFIED_NAME_CACHE_SIZE, 0, actionDescription);
+
             instance = new DataEngineServicesInstance(repositoryConnector, supportedZones, defaultZones, auditLog, serverUserName,
                     repositoryConnector.getMaxPageSize(),
                     super.getOutTopicConnection(accessServiceConfig.getAccessServiceInTopic(),
                             AccessServiceDescription.DATA_ENGINE_OMAS.getAccessServiceFullName(),
                             DataEngineInTopicClientProvider.class.getName(),
-                            auditLog)); //TODO: using getOutTopicConnection temporary, we need getInTopicConnection... Check the correct way to create connection for the omas instance - using dedicated client provider class name (current impl.) or provided by the accessServiceConfig.getAccessServiceInTopic() (?)
+                            auditLog), //TODO: using getOutTopicConnection temporary, we need getInTopicConnection... Check the correct way to create connection for the omas instance - using dedicated client provider class name (current impl.) or provided by the accessServiceConfig.getAccessServiceInTopic() (?)
+                    processingThreads, requestConcurrency, changeDetectionSize, qualifiedNameCacheSize);
 
             serverName = instance.getServerName();
 
+            auditLog.logMessage(actionDescription, DataEngineAuditCode.PROCESSING_THREADS.getMessageDefinition(serverName,
+                    Integer.toString(processingThreads), Integer.toString(requestConcurrency)));
+
+            if (enterpriseOMRSTopicConnector != null && (instance.getQualifiedNameCache().isEnabled()
+                    || instance.getFingerprintCache().isEnabled())) {
+                super.registerWithEnterpriseTopic(AccessServiceDescription.DATA_ENGINE_OMAS.getAccessServiceFullName(), serverName,
+                        enterpriseOMRSTopicConnector, new DataEngineOMRSTopicListener(AccessServiceDescription.DATA_ENGINE_OMAS.getAccessServiceFullName(),
+                                instance.getQualifiedNameCache(), instance.getFingerprintCache(), auditLog), getEnterpriseTopicSubscription(),
+                        auditLog);
+            }
+
             if (accessServiceConfig.getAccessServiceInTopic() != null) {
                 DataEngineEventProcessor dataEngineEventProcessor = new DataEngineEventProcessor(instance, auditLog);
                 DataEngineInTopicListener dataEngineInTopicListener = new DataEngineInTopicListener(auditLog, dataEngineEventProcessor);
@@ -100,17 +142,75 @@ public class DataEngineAdmin extends AccessServiceAdmin {
     @Override
     public void shutdown() {
 
+        final String actionDescription = "shutdown";
+
         if (instance != null) {
+            DataEngineTaskExecutor taskExecutor = instance.getTaskExecutor();
+
+            if (auditLog != null && taskExecutor.getRequestsProcessed() > 0) {
+                auditLog.logMessage(actionDescription, DataEngineAuditCode.PROCESSING_STATISTICS.getMessageDefinition(serverName,
+                        Long.toString(taskExecutor.getTasksProcessed()), Long.toString(taskExecutor.getRequestsProcessed()),
+                        Long.toString(taskExecutor.getProcessingTime()), Long.toString(taskExecutor.getTasksPerSecond()),
+                        Long.toString(taskExecutor.getTasksFailed())));
+            }
+
+            ElementFingerprintCache fingerprintCache = instance.getFingerprintCache();
+
+            if (auditLog != null && fingerprintCache.isEnabled()) {
+                auditLog.logMessage(actionDescription, DataEngineAuditCode.CHANGE_DETECTION_STATISTICS.getMessageDefinition(serverName,
+                        Long.toString(fingerprintCache.getElementsSkipped()), Long.toString(fingerprintCache.getElementsApplied())));
+            }
+
+            ElementGUIDCache qualifiedNameCache = instance.getQualifiedNameCache();
+
+            if (auditLog != null && qualifiedNameCache.isEnabled()) {
+                auditLog.logMessage(actionDescription, DataEngineAuditCode.QUALIFIED_NAME_CACHE_STATISTICS.getMessageDefinition(serverName,
+                        Long.toString(qualifiedNameCache.getHits()), Long.toString(qualifiedNameCache.getMisses()),
+                        Integer.toString(qualifiedNameCache.getSize())));
+            }
+
             instance.shutdown();
         }
 
         if (auditLog != null) {
-            final String actionDescription = "shutdown";
-
             auditLog.logMessage(actionDescription, DataEngineAuditCode.SERVICE_SHUTDOWN.getMessageDefinition(serverName));
         }
     }
 
+    /**
+     * Returns the value of an access service option that must be an integer. The default value is returned
+     * if the option is not set, or if its value is not valid.
+     *
+     * @param accessServiceOptions options from the access service configuration
+     * @param propertyName         name of the option
+     * @param defaultValue         value to use if the option is not set
+     * @param minimumValue         smallest valid value
+     * @param actionDescription    calling action
+     *
+     * @return the value of the option
+     */
+    private int extractIntegerOption(Map<String, Object> accessServiceOptions, String propertyName, int defaultValue, int minimumValue,
+                                     String actionDescription) {
+        if (accessServiceOptions == null || accessServiceOptions.get(propertyName) == null) {
+            return defaultValue;
+        }
+
+        Object propertyValue = accessServiceOptions.get(propertyName);
+        try {
+            int value = Integer.parseInt(propertyValue.toString());
+            if (value >= minimumValue) {
+                return value;
+            }
+        } catch (NumberFormatException error) {
+            log.debug("Invalid value for option {}: {}", propertyName, propertyValue);
+        }
+
+        auditLog.logMessage(actionDescription, DataEngineAuditCode.BAD_PROCESSING_OPTION.getMessageDefinition(propertyName,
+                propertyValue.toString(), Integer.toString(defaultValue), Integer.toString(minimumValue)));
+
+        return defaultValue;
+    }
+
     /**
      * Returns the connector created from topic connection properties
      *
@@ -139,6 +239,35 @@ public class DataEngineAdmin extends AccessServiceAdmin {
         }
     }
 
+    /**
+     * Returns the subscription for the enterprise topic listener.  The listener only keeps the qualified name and
+     * fingerprint caches up to date, so it is passed the instance events that change or remove the entities and
+     * relationships it may have cached.
+     *
+     * @return the subscription of the listener
+     */
+    private OMRSTopicSubscription getEnterpriseTopicSubscription() {
+        OMRSTopicSubscription subscription = new OMRSTopicSubscription();
+
+        subscription.setEventCategories(EnumSet.of(OMRSEventCategory.INSTANCE));
+        subscription.setInstanceEventTypes(EnumSet.of(OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                OMRSInstanceEventType.UNDONE_ENTITY_EVENT,
+                OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+                OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+                OMRSInstanceEventType.DELETED_ENTITY_EVENT,
+                OMRSInstanceEventType.PURGED_ENTITY_EVENT,
+                OMRSInstanceEventType.DELETE_PURGED_ENTITY_EVENT,
+                OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT,
+                OMRSInstanceEventType.RETYPED_ENTITY_EVENT,
+                OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT,
+                OMRSInstanceEventType.DELETED_RELATIONSHIP_EVENT,
+                OMRSInstanceEventType.DELETE_PURGED_RELATIONSHIP_EVENT));
+
+        return subscription;
+    }
+
     /**
      * Returns the topic created based on connection properties
      *
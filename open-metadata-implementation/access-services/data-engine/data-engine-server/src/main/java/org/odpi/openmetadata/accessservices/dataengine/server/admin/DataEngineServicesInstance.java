@@ -13,12 +13,15 @@ import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngin
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineProcessHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineRegistrationHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineSchemaTypeHandler;
+import org.odpi.openmetadata.accessservices.dataengine.server.service.DataEngineTaskExecutor;
+import org.odpi.openmetadata.accessservices.dataengine.server.service.ElementFingerprintCache;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.generichandlers.AssetHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.SchemaAttributeHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.SchemaTypeHandler;
 import org.odpi.openmetadata.commonservices.multitenant.OMASServiceInstance;
 import org.odpi.openmetadata.commonservices.multitenant.ffdc.exceptions.NewInstanceException;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCache;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaAttribute;
@@ -41,6 +44,9 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
     private final SchemaTypeHandler<SchemaType> schemaTypeHandler;
     private final SchemaAttributeHandler<SchemaAttribute, SchemaType> schemaAttributeHandler;
     private final Connection inTopicConnection;
+    private final DataEngineTaskExecutor taskExecutor;
+    private final ElementFingerprintCache fingerprintCache;
+    private final ElementGUIDCache qualifiedNameCache;
 
     /**
      * Set up the local repository connector that will service the REST Calls
@@ -51,17 +57,27 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
      * @param auditLog            logging destination
      * @param localServerUserId   userId used for server initiated actions
      * @param maxPageSize         max number of results to return on single request
+     * @param inTopicConnection   connection used by the client to produce events on the input topic
+     * @param processingThreads   number of threads used to process the bulk requests for this server
+     * @param requestConcurrency  maximum number of threads working on a single bulk request
+     * @param changeDetectionSize number of upserted elements remembered to detect unchanged elements; 0 disables detection
+     * @param qualifiedNameSize   number of qualified names remembered to avoid searching the repositories; 0 disables the cache
      *
      * @throws NewInstanceException a problem occurred during initialization
      */
     DataEngineServicesInstance(OMRSRepositoryConnector repositoryConnector, List<String> supportedZones, List<String> defaultZones,
-                               AuditLog auditLog, String localServerUserId, int maxPageSize, Connection inTopicConnection) throws NewInstanceException {
+                               AuditLog auditLog, String localServerUserId, int maxPageSize, Connection inTopicConnection,
+                               int processingThreads, int requestConcurrency, int changeDetectionSize,
+                               int qualifiedNameSize) throws NewInstanceException {
 
 
         super(description.getAccessServiceFullName(), repositoryConnector, supportedZones, defaultZones, null, auditLog,
                 localServerUserId, maxPageSize);
 
         this.inTopicConnection = inTopicConnection;
+        this.taskExecutor = new DataEngineTaskExecutor(serverName, processingThreads, requestConcurrency);
+        this.fingerprintCache = new ElementFingerprintCache(changeDetectionSize);
+        this.qualifiedNameCache = new ElementGUIDCache(qualifiedNameSize);
 
         if (repositoryHandler != null) {
 
@@ -79,10 +95,10 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
                     localServerUserId, securityVerifier, supportedZones, defaultZones, publishZones, auditLog);
 
             dataEngineRegistrationHandler = new DataEngineRegistrationHandler(serviceName, serverName, invalidParameterHandler, repositoryHandler,
-                    repositoryHelper);
+                    repositoryHelper, qualifiedNameCache);
 
             DataEngineCommonHandler dataEngineCommonHandler = new DataEngineCommonHandler(serviceName, serverName, invalidParameterHandler,
-                    repositoryHandler, repositoryHelper, dataEngineRegistrationHandler);
+                    repositoryHandler, repositoryHelper, dataEngineRegistrationHandler, qualifiedNameCache);
             processHandler = new DataEngineProcessHandler(serviceName, serverName, invalidParameterHandler, repositoryHandler, repositoryHelper,
                     assetHandler, dataEngineRegistrationHandler, dataEngineCommonHandler);
             dataEngineSchemaTypeHandler = new DataEngineSchemaTypeHandler(serviceName, serverName, invalidParameterHandler, repositoryHandler,
@@ -140,4 +156,41 @@ public class DataEngineServicesInstance extends OMASServiceInstance {
      * @return connection object for client
      */
     Connection getInTopicConnection() { return inTopicConnection; }
+
+    /**
+     * Return the executor that runs the repository calls of the bulk requests for this server
+     *
+     * @return executor
+     */
+    DataEngineTaskExecutor getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    /**
+     * Return the cache of fingerprints of the elements upserted for this server
+     *
+     * @return fingerprint cache
+     */
+    ElementFingerprintCache getFingerprintCache() {
+        return fingerprintCache;
+    }
+
+    /**
+     * Return the cache of guids of the entities found by qualified name for this server
+     *
+     * @return qualified name cache
+     */
+    ElementGUIDCache getQualifiedNameCache() {
+        return qualifiedNameCache;
+    }
+
+    /**
+     * Stop the processing threads and unregister the instance
+     */
+    @Override
+    public void shutdown() {
+        taskExecutor.shutdown();
+
+        super.shutdown();
+    }
 }
@@ -5,6 +5,7 @@ package org.odpi.openmetadata.accessservices.dataengine.server.handlers;
 import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineErrorCode;
 import org.odpi.openmetadata.accessservices.dataengine.server.mappers.CommonMapper;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCache;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
@@ -33,6 +34,7 @@ public class DataEngineCommonHandler {
     private final OMRSRepositoryHelper repositoryHelper;
     private final InvalidParameterHandler invalidParameterHandler;
     private final DataEngineRegistrationHandler dataEngineRegistrationHandler;
+    private final ElementGUIDCache qualifiedNameCache;
 
     private static final Logger log = LoggerFactory.getLogger(DataEngineCommonHandler.class);
 
@@ -45,17 +47,18 @@ public class DataEngineCommonHandler {
      * @param repositoryHandler             manages calls to the repository services
      * @param repositoryHelper              provides utilities for manipulating the repository services objects
      * @param dataEngineRegistrationHandler provides calls for retrieving external data engine guid
+     * @param qualifiedNameCache            remembers the guids of the entities found by qualified name (null disables the cache)
      */
     public DataEngineCommonHandler(String serviceName, String serverName, InvalidParameterHandler invalidParameterHandler,
                                    RepositoryHandler repositoryHandler, OMRSRepositoryHelper repositoryHelper,
-                                   DataEngineRegistrationHandler dataEngineRegistrationHandler) {
+                                   DataEngineRegistrationHandler dataEngineRegistrationHandler, ElementGUIDCache qualifiedNameCache) {
         this.serviceName = serviceName;
         this.serverName = serverName;
         this.invalidParameterHandler = invalidParameterHandler;
         this.repositoryHelper = repositoryHelper;
         this.repositoryHandler = repositoryHandler;
         this.dataEngineRegistrationHandler = dataEngineRegistrationHandler;
-
+        this.qualifiedNameCache = qualifiedNameCache == null ? new ElementGUIDCache(0) : qualifiedNameCache;
     }
 
     /**
@@ -84,8 +87,13 @@ public class DataEngineCommonHandler {
 
         TypeDef entityTypeDef = repositoryHelper.getTypeDefByName(userId, entityTypeName);
 
-        return repositoryHandler.createEntity(userId, entityTypeDef.getGUID(), entityTypeDef.getName(), externalSourceGUID,
+        String entityGUID = repositoryHandler.createEntity(userId, entityTypeDef.getGUID(), entityTypeDef.getName(), externalSourceGUID,
                 externalSourceName, instanceProperties, instanceStatus, methodName);
+
+        qualifiedNameCache.addGUID(entityTypeName, repositoryHelper.getStringProperty(serviceName, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                instanceProperties, methodName), entityGUID);
+
+        return entityGUID;
     }
 
     /**
@@ -168,22 +176,67 @@ public class DataEngineCommonHandler {
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateName(qualifiedName, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME, methodName);
 
-        qualifiedName = repositoryHelper.getExactMatchRegex(qualifiedName);
+        Optional<EntityDetail> cachedEntity = getCachedEntity(userId, qualifiedName, entityTypeName, methodName);
+        if (cachedEntity.isPresent()) {
+            return cachedEntity;
+        }
+
+        String qualifiedNameRegex = repositoryHelper.getExactMatchRegex(qualifiedName);
 
         InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(serviceName, null, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME,
-                qualifiedName, methodName);
+                qualifiedNameRegex, methodName);
 
         TypeDef entityTypeDef = repositoryHelper.getTypeDefByName(userId, entityTypeName);
 
-        Optional<EntityDetail> retrievedEntity = Optional.ofNullable(repositoryHandler.getUniqueEntityByName(userId, qualifiedName,
+        Optional<EntityDetail> retrievedEntity = Optional.ofNullable(repositoryHandler.getUniqueEntityByName(userId, qualifiedNameRegex,
                 CommonMapper.QUALIFIED_NAME_PROPERTY_NAME, properties, entityTypeDef.getGUID(), entityTypeDef.getName(), methodName));
 
-        log.trace("Searching for entity with qualifiedName: {}. Result is {}", qualifiedName,
+        log.trace("Searching for entity with qualifiedName: {}. Result is {}", qualifiedNameRegex,
                 retrievedEntity.map(InstanceHeader::getGUID).orElse(null));
 
+        retrievedEntity.ifPresent(entityDetail -> qualifiedNameCache.addGUID(entityTypeName, qualifiedName, entityDetail.getGUID()));
+
         return retrievedEntity;
     }
 
+    /**
+     * Retrieve the entity that was previously found with the qualified name. The entity is retrieved by its guid and is
+     * only returned if it still has the qualified name, otherwise it is removed from the cache.
+     *
+     * @param userId         the name of the calling user
+     * @param qualifiedName  the qualifiedName name of the entity to be searched
+     * @param entityTypeName the type name of the entity
+     * @param methodName     the calling method
+     *
+     * @return optional with entity details if cached, empty optional if not cached or changed
+     *
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    private Optional<EntityDetail> getCachedEntity(String userId, String qualifiedName, String entityTypeName,
+                                                   String methodName) throws UserNotAuthorizedException, PropertyServerException {
+        String cachedGUID = qualifiedNameCache.getGUID(entityTypeName, qualifiedName);
+        if (cachedGUID == null) {
+            return Optional.empty();
+        }
+
+        try {
+            EntityDetail entityDetail = repositoryHandler.getEntityByGUID(userId, cachedGUID, CommonMapper.GUID_PROPERTY_NAME, entityTypeName,
+                    methodName);
+            if (entityDetail != null && entityDetail.getStatus() != InstanceStatus.DELETED &&
+                    qualifiedName.equals(repositoryHelper.getStringProperty(serviceName, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                            entityDetail.getProperties(), methodName))) {
+                return Optional.of(entityDetail);
+            }
+        } catch (InvalidParameterException e) {
+            log.debug("Cached entity {} with qualifiedName {} is no longer available", cachedGUID, qualifiedName);
+        }
+
+        qualifiedNameCache.removeName(entityTypeName, qualifiedName);
+
+        return Optional.empty();
+    }
+
     /**
      * Create or updates an external relationship between two entities. Verifies that the relationship is not present before creating it. If the
      * relationship is present, verifies the instanceProperties for the relationship to be updated.
@@ -258,6 +311,8 @@ public class DataEngineCommonHandler {
         repositoryHandler.removeEntity(userId, externalSourceGUID, externalSourceName, entityGUID,
                 "entityGUID", entityTypeDef.getGUID(), entityTypeDef.getName(),
                 null, null, methodName);
+
+        qualifiedNameCache.removeGUID(entityGUID);
     }
 
     protected void throwInvalidParameterException(DataEngineErrorCode errorCode, String methodName, String... params) throws
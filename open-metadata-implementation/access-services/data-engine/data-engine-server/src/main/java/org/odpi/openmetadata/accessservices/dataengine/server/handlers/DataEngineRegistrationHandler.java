@@ -4,14 +4,17 @@ package org.odpi.openmetadata.accessservices.dataengine.server.handlers;
 
 import org.odpi.openmetadata.accessservices.dataengine.model.SoftwareServerCapability;
 import org.odpi.openmetadata.accessservices.dataengine.server.builders.ExternalDataEnginePropertiesBuilder;
+import org.odpi.openmetadata.accessservices.dataengine.server.mappers.CommonMapper;
 import org.odpi.openmetadata.accessservices.dataengine.server.mappers.DataEnginePropertiesMapper;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCache;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 
@@ -26,7 +29,7 @@ public class DataEngineRegistrationHandler {
     private final RepositoryHandler repositoryHandler;
     private final OMRSRepositoryHelper repositoryHelper;
     private final InvalidParameterHandler invalidParameterHandler;
-
+    private final ElementGUIDCache qualifiedNameCache;
 
     /**
      * Construct the handler information needed to interact with the repository services
@@ -36,17 +39,19 @@ public class DataEngineRegistrationHandler {
      * @param invalidParameterHandler handler for managing parameter errors
      * @param repositoryHandler       manages calls to the repository services
      * @param repositoryHelper        provides utilities for manipulating the repository services objects
+     * @param qualifiedNameCache      remembers the guids of the external data engines (null disables the cache)
      */
     public DataEngineRegistrationHandler(String serviceName, String serverName,
                                          InvalidParameterHandler invalidParameterHandler,
                                          RepositoryHandler repositoryHandler,
-                                         OMRSRepositoryHelper repositoryHelper) {
+                                         OMRSRepositoryHelper repositoryHelper,
+                                         ElementGUIDCache qualifiedNameCache) {
         this.serviceName = serviceName;
         this.serverName = serverName;
         this.invalidParameterHandler = invalidParameterHandler;
         this.repositoryHelper = repositoryHelper;
         this.repositoryHandler = repositoryHandler;
-
+        this.qualifiedNameCache = qualifiedNameCache == null ? new ElementGUIDCache(0) : qualifiedNameCache;
     }
 
     /**
@@ -80,6 +85,7 @@ public class DataEngineRegistrationHandler {
         if (externalEngineGUID == null) {
             externalEngineGUID = repositoryHandler.createEntity(userId, entityTypeDef.getGUID(), entityTypeDef.getName(),
                     null, externalEngineName, properties, methodName);
+            qualifiedNameCache.addGUID(DataEnginePropertiesMapper.SOFTWARE_SERVER_CAPABILITY_TYPE_NAME, externalEngineName, externalEngineGUID);
         } else {
             repositoryHandler.updateEntity(userId, externalEngineGUID, externalEngineName, externalEngineGUID,
                     entityTypeDef.getGUID(), entityTypeDef.getName(), properties, null, methodName);
@@ -113,24 +119,68 @@ public class DataEngineRegistrationHandler {
                                                                                             PropertyServerException {
         final String methodName = "getExternalDataEngineByQualifiedName";
 
-        qualifiedName = repositoryHelper.getExactMatchRegex(qualifiedName);
+        String cachedGUID = getCachedExternalDataEngineGUID(userId, qualifiedName, methodName);
+        if (cachedGUID != null) {
+            return cachedGUID;
+        }
+
+        String qualifiedNameRegex = repositoryHelper.getExactMatchRegex(qualifiedName);
 
         invalidParameterHandler.validateUserId(userId, methodName);
-        invalidParameterHandler.validateName(qualifiedName, DataEnginePropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME,
+        invalidParameterHandler.validateName(qualifiedNameRegex, DataEnginePropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME,
                 methodName);
 
 
         InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(serviceName, null,
-                DataEnginePropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, qualifiedName, methodName);
+                DataEnginePropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, qualifiedNameRegex, methodName);
 
         TypeDef entityTypeDef = repositoryHelper.getTypeDefByName(userId, DataEnginePropertiesMapper.SOFTWARE_SERVER_CAPABILITY_TYPE_NAME);
-        EntityDetail retrievedEntity = repositoryHandler.getUniqueEntityByName(userId, qualifiedName,
+        EntityDetail retrievedEntity = repositoryHandler.getUniqueEntityByName(userId, qualifiedNameRegex,
                 DataEnginePropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME, properties, entityTypeDef.getGUID(), entityTypeDef.getName(), methodName);
 
         if (retrievedEntity == null) {
             return null;
         }
 
+        qualifiedNameCache.addGUID(DataEnginePropertiesMapper.SOFTWARE_SERVER_CAPABILITY_TYPE_NAME, qualifiedName, retrievedEntity.getGUID());
+
         return retrievedEntity.getGUID();
     }
+
+    /**
+     * Return the guid of the external data engine that was previously found with the qualified name, if it still
+     * has the qualified name
+     *
+     * @param userId        identifier of calling user
+     * @param qualifiedName qualified name of the external data engine
+     * @param methodName    the calling method
+     *
+     * @return the guid of the the external data engine or null if it is not cached or has changed
+     *
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem retrieving the discovery engine definition
+     */
+    private String getCachedExternalDataEngineGUID(String userId, String qualifiedName, String methodName) throws UserNotAuthorizedException,
+                                                                                                                PropertyServerException {
+        String cachedGUID = qualifiedNameCache.getGUID(DataEnginePropertiesMapper.SOFTWARE_SERVER_CAPABILITY_TYPE_NAME, qualifiedName);
+        if (cachedGUID == null) {
+            return null;
+        }
+
+        try {
+            EntityDetail entityDetail = repositoryHandler.getEntityByGUID(userId, cachedGUID, CommonMapper.GUID_PROPERTY_NAME,
+                    DataEnginePropertiesMapper.SOFTWARE_SERVER_CAPABILITY_TYPE_NAME, methodName);
+            if (entityDetail != null && entityDetail.getStatus() != InstanceStatus.DELETED &&
+                    qualifiedName.equals(repositoryHelper.getStringProperty(serviceName, DataEnginePropertiesMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                            entityDetail.getProperties(), methodName))) {
+                return cachedGUID;
+            }
+        } catch (InvalidParameterException e) {
+            // the external data engine has been removed since it was cached
+        }
+
+        qualifiedNameCache.removeName(DataEnginePropertiesMapper.SOFTWARE_SERVER_CAPABILITY_TYPE_NAME, qualifiedName);
+
+        return null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,251 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.listeners;
+
+import org.odpi.openmetadata.accessservices.dataengine.server.mappers.CommonMapper;
+import org.odpi.openmetadata.accessservices.dataengine.server.service.ElementFingerprintCache;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCache;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCacheListener;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+/**
+ * The Data Engine OMRS topic listener receives the instance events from the cohorts and keeps the caches of the
+ * Data Engine OMAS consistent with the repositories. Elements that are deleted, re-identified or renamed are removed
+ * from the qualified name cache and from the change detection fingerprints, so the next request from a data engine
+ * searches for them again and upserts them. Elements that are updated or reclassified, and the elements at the ends
+ * of relationships that are created, updated or deleted, are removed from the change detection fingerprints unless
+ * the change was made by the user that upserted the element, so the next request repairs the changes made by
+ * other tools.
+ */
+public class DataEngineOMRSTopicListener extends ElementGUIDCacheListener {
+    private final ElementFingerprintCache fingerprintCache;
+
+    /**
+     * Initialize the topic listener.
+     *
+     * @param serviceName        full name of the service - used for error logging in base class
+     * @param qualifiedNameCache guids of the entities found by qualified name
+     * @param fingerprintCache   fingerprints of the elements upserted by the data engines
+     * @param auditLog           logging destination
+     */
+    public DataEngineOMRSTopicListener(String serviceName, ElementGUIDCache qualifiedNameCache, ElementFingerprintCache fingerprintCache,
+                                       AuditLog auditLog) {
+        super(serviceName, qualifiedNameCache, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME, null, auditLog);
+
+        this.fingerprintCache = fingerprintCache;
+    }
+
+    /**
+     * Remove the element from the qualified name cache and from the change detection fingerprints.
+     *
+     * @param guid unique identifier of the element
+     */
+    @Override
+    protected void removeGUID(String guid) {
+        super.removeGUID(guid);
+
+        fingerprintCache.invalidateGUID(guid);
+    }
+
+    /**
+     * An existing entity has been updated.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param oldEntity                      original values for the entity.
+     * @param newEntity                      details of the new version of the entity.
+     */
+    @Override
+    public void processUpdatedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                          String originatorServerType, String originatorOrganizationName, EntityDetail oldEntity,
+                                          EntityDetail newEntity) {
+        super.processUpdatedEntityEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType,
+                originatorOrganizationName, oldEntity, newEntity);
+
+        invalidateChangedEntity(newEntity);
+    }
+
+    /**
+     * A new classification has been added to an entity.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param entity                         details of the entity with the new classification added.
+     * @param classification                 new classification
+     */
+    @Override
+    public void processClassifiedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                             String originatorServerType, String originatorOrganizationName, EntityDetail entity,
+                                             Classification classification) {
+        super.processClassifiedEntityEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType,
+                originatorOrganizationName, entity, classification);
+
+        invalidateChangedEntity(entity);
+    }
+
+    /**
+     * A classification has been removed from an entity.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param entity                         details of the entity after the classification has been removed.
+     * @param originalClassification         classification that was removed
+     */
+    @Override
+    public void processDeclassifiedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                               String originatorServerType, String originatorOrganizationName, EntityDetail entity,
+                                               Classification originalClassification) {
+        super.processDeclassifiedEntityEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType,
+                originatorOrganizationName, entity, originalClassification);
+
+        invalidateChangedEntity(entity);
+    }
+
+    /**
+     * An existing classification has been changed on an entity.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param entity                         details of the entity after the classification has been changed.
+     * @param originalClassification         classification that was removed
+     * @param classification                 new classification
+     */
+    @Override
+    public void processReclassifiedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                               String originatorServerType, String originatorOrganizationName, EntityDetail entity,
+                                               Classification originalClassification, Classification classification) {
+        super.processReclassifiedEntityEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType,
+                originatorOrganizationName, entity, originalClassification, classification);
+
+        invalidateChangedEntity(entity);
+    }
+
+    /**
+     * A new relationship has been created.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param relationship                   details of the new relationship
+     */
+    @Override
+    public void processNewRelationshipEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                            String originatorServerType, String originatorOrganizationName, Relationship relationship) {
+        super.processNewRelationshipEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType,
+                originatorOrganizationName, relationship);
+
+        invalidateChangedRelationship(relationship);
+    }
+
+    /**
+     * An existing relationship has been updated.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param oldRelationship                original details of the relationship.
+     * @param newRelationship                details of the new version of the relationship.
+     */
+    @Override
+    public void processUpdatedRelationshipEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                                String originatorServerType, String originatorOrganizationName, Relationship oldRelationship,
+                                                Relationship newRelationship) {
+        super.processUpdatedRelationshipEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType,
+                originatorOrganizationName, oldRelationship, newRelationship);
+
+        invalidateChangedRelationship(newRelationship);
+    }
+
+    /**
+     * An existing relationship has been deleted.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param relationship                   deleted relationship
+     */
+    @Override
+    public void processDeletedRelationshipEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                                String originatorServerType, String originatorOrganizationName, Relationship relationship) {
+        super.processDeletedRelationshipEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType,
+                originatorOrganizationName, relationship);
+
+        invalidateChangedRelationship(relationship);
+    }
+
+    /**
+     * An existing relationship has been deleted and purged in a single action.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param relationship                   deleted relationship
+     */
+    @Override
+    public void processDeletePurgedRelationshipEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                                     String originatorServerType, String originatorOrganizationName,
+                                                     Relationship relationship) {
+        super.processDeletePurgedRelationshipEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType,
+                originatorOrganizationName, relationship);
+
+        invalidateChangedRelationship(relationship);
+    }
+
+    private void invalidateChangedEntity(EntityDetail entity) {
+        if (entity != null) {
+            fingerprintCache.invalidateChangedGUID(entity.getGUID(), getChangedBy(entity));
+        }
+    }
+
+    private void invalidateChangedRelationship(Relationship relationship) {
+        if (relationship == null) {
+            return;
+        }
+
+        String changedBy = getChangedBy(relationship);
+
+        if (relationship.getEntityOneProxy() != null) {
+            fingerprintCache.invalidateChangedGUID(relationship.getEntityOneProxy().getGUID(), changedBy);
+        }
+
+        if (relationship.getEntityTwoProxy() != null) {
+            fingerprintCache.invalidateChangedGUID(relationship.getEntityTwoProxy().getGUID(), changedBy);
+        }
+    }
+
+    private String getChangedBy(InstanceAuditHeader instance) {
+        return instance.getUpdatedBy() != null ? instance.getUpdatedBy() : instance.getCreatedBy();
+    }
+}
@@ -14,6 +14,8 @@ import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngin
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEnginePortHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineProcessHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.mappers.PortPropertiesMapper;
+import org.odpi.openmetadata.accessservices.dataengine.server.mappers.ProcessPropertiesMapper;
+import org.odpi.openmetadata.accessservices.dataengine.server.mappers.SchemaTypePropertiesMapper;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.FFDCResponseBase;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDResponse;
@@ -30,13 +32,15 @@ import org.springframework.http.HttpStatus;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -60,6 +64,10 @@ public class DataEngineRESTServices {
 
     private final DataEngineInstanceHandler instanceHandler = new DataEngineInstanceHandler();
 
+    // used when the server instance is not available, the handler calls made by the tasks report the problem
+    private static final DataEngineTaskExecutor CALLER_RUNS_EXECUTOR = new DataEngineTaskExecutor(null, 0, 1);
+    private static final ElementFingerprintCache NO_CHANGE_DETECTION = new ElementFingerprintCache(0);
+
     /**
      * Create the external data engine as software server capability entity
      *
@@ -313,10 +321,26 @@ public class DataEngineRESTServices {
             InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException {
+        return upsertPortAliasWithDelegation(userId, serverName, portAlias, externalSourceName, new UpsertCounts());
+    }
+
+    private String upsertPortAliasWithDelegation(String userId, String serverName, PortAlias portAlias, String externalSourceName,
+                                                 UpsertCounts upsertCounts) throws InvalidParameterException,
+                                                                                   PropertyServerException,
+                                                                                   UserNotAuthorizedException {
         final String methodName = "upsertPortAliasWithDelegation";
 
         log.trace(DEBUG_MESSAGE_METHOD_DETAILS, methodName, portAlias);
 
+        ElementFingerprintCache fingerprintCache = getFingerprintCache(userId, serverName, methodName);
+        String fingerprint = fingerprintCache.getFingerprint(portAlias);
+        String unchangedGUID = fingerprintCache.getUnchangedGUID(PortPropertiesMapper.PORT_ALIAS_TYPE_NAME, portAlias.getQualifiedName(),
+                externalSourceName, fingerprint);
+        if (unchangedGUID != null) {
+            upsertCounts.skipped.incrementAndGet();
+            return unchangedGUID;
+        }
+
         DataEnginePortHandler dataEnginePortHandler = instanceHandler.getPortHandler(userId, serverName, methodName);
 
         Optional<EntityDetail> portEntity = dataEnginePortHandler.findPortAliasEntity(userId, portAlias.getQualifiedName());
@@ -333,6 +357,10 @@ public class DataEngineRESTServices {
             dataEnginePortHandler.addPortDelegationRelationship(userId, portAliasGUID, portAlias.getPortType(), portAlias.getDelegatesTo(), externalSourceName);
         }
 
+        fingerprintCache.recordUpsert(PortPropertiesMapper.PORT_ALIAS_TYPE_NAME, portAlias.getQualifiedName(), externalSourceName,
+                fingerprint, portAliasGUID, userId);
+        upsertCounts.applied.incrementAndGet();
+
         log.trace(DEBUG_MESSAGE_METHOD_RETURN, methodName, portAliasGUID);
 
         return portAliasGUID;
@@ -401,13 +429,31 @@ public class DataEngineRESTServices {
                                                          String externalSourceName) throws InvalidParameterException,
             PropertyServerException,
             UserNotAuthorizedException {
+        return upsertPortImplementationWithSchemaType(userId, serverName, portImplementation, externalSourceName, new UpsertCounts());
+    }
+
+    private String upsertPortImplementationWithSchemaType(String userId, String serverName, PortImplementation portImplementation,
+                                                          String externalSourceName, UpsertCounts upsertCounts) throws
+                                                                                                                InvalidParameterException,
+                                                                                                                PropertyServerException,
+                                                                                                                UserNotAuthorizedException {
         final String methodName = "upsertPortImplementationWithSchemaType";
 
         log.trace(DEBUG_MESSAGE_METHOD_DETAILS, methodName, portImplementation);
 
+        // the fingerprint of the port covers its schema type, so an unchanged port skips the schema type as well
+        ElementFingerprintCache fingerprintCache = getFingerprintCache(userId, serverName, methodName);
+        String fingerprint = fingerprintCache.getFingerprint(portImplementation);
+        String unchangedGUID = fingerprintCache.getUnchangedGUID(PortPropertiesMapper.PORT_IMPLEMENTATION_TYPE_NAME,
+                portImplementation.getQualifiedName(), externalSourceName, fingerprint);
+        if (unchangedGUID != null) {
+            upsertCounts.skipped.incrementAndGet();
+            return unchangedGUID;
+        }
+
         DataEnginePortHandler dataEnginePortHandler = instanceHandler.getPortHandler(userId, serverName, methodName);
 
-        String schemaTypeGUID = upsertSchemaType(userId, serverName, portImplementation.getSchemaType(), externalSourceName);
+        String schemaTypeGUID = upsertSchemaType(userId, serverName, portImplementation.getSchemaType(), externalSourceName, upsertCounts);
 
         Optional<EntityDetail> portEntity = dataEnginePortHandler.findPortImplementationEntity(userId, portImplementation.getQualifiedName());
 
@@ -426,6 +472,10 @@ public class DataEngineRESTServices {
 
         dataEnginePortHandler.addPortSchemaRelationship(userId, portImplementationGUID, schemaTypeGUID, externalSourceName);
 
+        fingerprintCache.recordUpsert(PortPropertiesMapper.PORT_IMPLEMENTATION_TYPE_NAME, portImplementation.getQualifiedName(),
+                externalSourceName, fingerprint, portImplementationGUID, userId);
+        upsertCounts.applied.incrementAndGet();
+
         log.trace(DEBUG_MESSAGE_METHOD_RETURN, methodName, portImplementationGUID);
 
         return portImplementationGUID;
@@ -506,7 +556,7 @@ public class DataEngineRESTServices {
      * @param serverName         name of server instance to call
      * @param lineageMappings    the list of lineage mappings to be created
      * @param response           the response object that will capture the exceptions that might occur during
-     *                           parallel processing
+     *                           parallel processing on the server's task executor
      * @param externalSourceName the unique name of the external source
      *
      * @throws InvalidParameterException  the bean properties are invalid
@@ -526,8 +576,9 @@ public class DataEngineRESTServices {
         }
 
         DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler = instanceHandler.getDataEngineSchemaTypeHandler(userId, serverName, methodName);
+        DataEngineTaskExecutor taskExecutor = getTaskExecutor(userId, serverName, methodName);
 
-        lineageMappings.parallelStream().forEach(lineageMapping -> {
+        taskExecutor.execute(lineageMappings, lineageMapping -> {
             try {
                 dataEngineSchemaTypeHandler.addLineageMappingRelationship(userId, lineageMapping.getSourceAttribute(),
                         lineageMapping.getTargetAttribute(), externalSourceName);
@@ -556,38 +607,75 @@ public class DataEngineRESTServices {
 
         log.trace(DEBUG_MESSAGE_METHOD_DETAILS, methodName, processes);
 
-        Predicate<? super Process> hasPortImplementationsPredicate = process -> CollectionUtils.isNotEmpty(process.getPortImplementations());
-        Map<Boolean, List<Process>> partitionedProcesses = processes.parallelStream().collect(partitioningBy(hasPortImplementationsPredicate));
+        long startTime = System.currentTimeMillis();
+        DataEngineTaskExecutor taskExecutor = getTaskExecutor(userId, serverName, methodName);
+
+        // processes that share a port or a port alias are upserted one after the other; all other processes run in parallel
+        List<List<Integer>> processGroups = groupDependentProcesses(processes);
+        GUIDResponse[] processResponses = new GUIDResponse[processes.size()];
+        boolean[] upsertedProcesses = new boolean[processes.size()];
+        Set<String> unchangedProcessGUIDs = Collections.synchronizedSet(new HashSet<>());
+        ElementFingerprintCache fingerprintCache = getFingerprintCache(userId, serverName, methodName);
+        UpsertCounts upsertCounts = new UpsertCounts();
+
+        taskExecutor.executeGroups(processGroups, processIndex -> {
+            Process process = processes.get(processIndex);
+
+            // a process that has not changed since it was last upserted is skipped together with its ports, lineage and status update
+            String fingerprint = fingerprintCache.getFingerprint(process);
+            String unchangedGUID = fingerprintCache.getUnchangedGUID(ProcessPropertiesMapper.PROCESS_TYPE_NAME, process.getQualifiedName(),
+                    externalSourceName, fingerprint);
+            if (unchangedGUID != null) {
+                process.setGUID(unchangedGUID);
+                unchangedProcessGUIDs.add(unchangedGUID);
+                upsertCounts.skipped.incrementAndGet();
+
+                GUIDResponse guidResponse = new GUIDResponse();
+                guidResponse.setGUID(unchangedGUID);
+                processResponses[processIndex] = guidResponse;
+                upsertedProcesses[processIndex] = true;
+                return;
+            }
 
-        List<GUIDResponse> createdProcesses = new ArrayList<>();
-        List<GUIDResponse> failedProcesses = new ArrayList<>();
-        Consumer<Process> processConsumer = process ->
-        {
-            GUIDResponse guidResponse = upsertProcess(userId, serverName, process, externalSourceName);
+            GUIDResponse guidResponse = upsertProcess(userId, serverName, process, externalSourceName, upsertCounts);
             if (guidResponse.getRelatedHTTPCode() == HttpStatus.OK.value()) {
-                String processGUID = guidResponse.getGUID();
-                process.setGUID(processGUID);
+                upsertedProcesses[processIndex] = true;
+                process.setGUID(guidResponse.getGUID());
                 VoidResponse updateStatusResponse = updateProcessStatus(userId, serverName, process, InstanceStatus.ACTIVE,
                         externalSourceName);
                 if (updateStatusResponse.getRelatedHTTPCode() != 200) {
                     captureException(updateStatusResponse, guidResponse);
+                } else {
+                    fingerprintCache.recordUpsert(ProcessPropertiesMapper.PROCESS_TYPE_NAME, process.getQualifiedName(), externalSourceName,
+                            fingerprint, guidResponse.getGUID(), userId);
+                    upsertCounts.applied.incrementAndGet();
                 }
-                createdProcesses.add(guidResponse);
-            } else {
-                failedProcesses.add(guidResponse);
             }
-        };
+            processResponses[processIndex] = guidResponse;
+        });
 
-        partitionedProcesses.get(Boolean.TRUE).parallelStream().forEach(processConsumer);
-        // processes that have port aliases can not be processed in parallel, as multiple processes can define the same port alias
-        partitionedProcesses.get(Boolean.FALSE).forEach(processConsumer);
+        List<GUIDResponse> createdProcesses = new ArrayList<>();
+        List<GUIDResponse> failedProcesses = new ArrayList<>();
+        for (int processIndex = 0; processIndex < processes.size(); processIndex++) {
+            if (upsertedProcesses[processIndex]) {
+                createdProcesses.add(processResponses[processIndex]);
+            } else {
+                failedProcesses.add(processResponses[processIndex]);
+            }
+        }
 
         ProcessListResponse response = new ProcessListResponse();
-        response.setGUIDs(createdProcesses.parallelStream().map(GUIDResponse::getGUID).collect(Collectors.toList()));
+        response.setGUIDs(createdProcesses.stream().map(GUIDResponse::getGUID).collect(Collectors.toList()));
         handleFailedProcesses(response, failedProcesses);
 
-        addProcessHierarchyRelationships(userId, serverName, processes, response, externalSourceName);
+        addProcessHierarchyRelationships(userId, serverName, processes, unchangedProcessGUIDs, response, externalSourceName);
 
+        response.setSkippedElementCount(upsertCounts.skipped.get());
+        response.setAppliedElementCount(upsertCounts.applied.get());
+
+        log.debug("Upserted {} processes in {} independent groups in {} ms using at most {} threads; {} elements skipped, {} elements applied",
+                processes.size(), processGroups.size(), System.currentTimeMillis() - startTime, taskExecutor.getMaxRequestConcurrency(),
+                upsertCounts.skipped.get(), upsertCounts.applied.get());
         log.debug(DEBUG_MESSAGE_METHOD_RETURN, methodName, response);
 
         return response;
@@ -714,14 +802,34 @@ public class DataEngineRESTServices {
             InvalidParameterException,
             UserNotAuthorizedException,
             PropertyServerException {
+        return upsertSchemaType(userId, serverName, schemaType, externalSourceName, new UpsertCounts());
+    }
+
+    private String upsertSchemaType(String userId, String serverName, SchemaType schemaType, String externalSourceName,
+                                    UpsertCounts upsertCounts) throws InvalidParameterException,
+                                                                      UserNotAuthorizedException,
+                                                                      PropertyServerException {
         final String methodName = "upsertSchemaType";
 
         log.debug(DEBUG_MESSAGE_METHOD_DETAILS, methodName, schemaType);
 
+        ElementFingerprintCache fingerprintCache = getFingerprintCache(userId, serverName, methodName);
+        String fingerprint = fingerprintCache.getFingerprint(schemaType);
+        String unchangedGUID = fingerprintCache.getUnchangedGUID(SchemaTypePropertiesMapper.SCHEMA_TYPE_TYPE_NAME,
+                schemaType == null ? null : schemaType.getQualifiedName(), externalSourceName, fingerprint);
+        if (unchangedGUID != null) {
+            upsertCounts.skipped.incrementAndGet();
+            return unchangedGUID;
+        }
+
         DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler = instanceHandler.getDataEngineSchemaTypeHandler(userId, serverName, methodName);
 
         String schemaTypeGUID = dataEngineSchemaTypeHandler.upsertSchemaType(userId, schemaType, externalSourceName);
 
+        fingerprintCache.recordUpsert(SchemaTypePropertiesMapper.SCHEMA_TYPE_TYPE_NAME, schemaType == null ? null : schemaType.getQualifiedName(),
+                externalSourceName, fingerprint, schemaTypeGUID, userId);
+        upsertCounts.applied.incrementAndGet();
+
         log.debug(DEBUG_MESSAGE_METHOD_RETURN, methodName, schemaTypeGUID);
 
         return schemaTypeGUID;
@@ -738,12 +846,107 @@ public class DataEngineRESTServices {
             DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler = instanceHandler.getDataEngineSchemaTypeHandler(userId, serverName, methodName);
 
             dataEngineSchemaTypeHandler.removeSchemaType(userId, oldSchemaTypeGUID, externalSourceName);
+            getFingerprintCache(userId, serverName, methodName).invalidateGUID(oldSchemaTypeGUID);
         }
     }
 
     private void handleFailedProcesses(ProcessListResponse response, List<GUIDResponse> failedProcesses) {
-        response.setFailedGUIDs((failedProcesses.parallelStream().map(GUIDResponse::getGUID).collect(Collectors.toList())));
-        failedProcesses.parallelStream().forEach(guidResponse -> captureException(guidResponse, response));
+        response.setFailedGUIDs((failedProcesses.stream().map(GUIDResponse::getGUID).collect(Collectors.toList())));
+        failedProcesses.forEach(guidResponse -> captureException(guidResponse, response));
+    }
+
+    /**
+     * Divide the processes into groups that can be upserted independently. Processes that define the same port, the
+     * same port alias or a port alias that delegates to the same port are in the same group, because upserting them
+     * at the same time could create duplicate entities. The groups and the processes in each group keep the order of
+     * the request.
+     *
+     * @param processes the processes of the request
+     *
+     * @return the groups, as indexes in the list of processes
+     */
+    private List<List<Integer>> groupDependentProcesses(List<Process> processes) {
+        int[] parents = new int[processes.size()];
+        Map<String, Integer> keyOwners = new HashMap<>();
+
+        for (int processIndex = 0; processIndex < processes.size(); processIndex++) {
+            parents[processIndex] = processIndex;
+
+            for (String key : getDependencyKeys(processes.get(processIndex))) {
+                Integer owner = keyOwners.putIfAbsent(key, processIndex);
+                if (owner != null) {
+                    int ownerRoot = findRoot(parents, owner);
+                    int processRoot = findRoot(parents, processIndex);
+                    parents[Math.max(ownerRoot, processRoot)] = Math.min(ownerRoot, processRoot);
+                }
+            }
+        }
+
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (int processIndex = 0; processIndex < processes.size(); processIndex++) {
+            groups.computeIfAbsent(findRoot(parents, processIndex), root -> new ArrayList<>()).add(processIndex);
+        }
+
+        return new ArrayList<>(groups.values());
+    }
+
+    private int findRoot(int[] parents, int index) {
+        int root = index;
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+        while (parents[index] != root) {
+            int next = parents[index];
+            parents[index] = root;
+            index = next;
+        }
+        return root;
+    }
+
+    private Set<String> getDependencyKeys(Process process) {
+        Set<String> keys = new HashSet<>();
+
+        if (process.getQualifiedName() != null) {
+            keys.add("Process:" + process.getQualifiedName());
+        }
+        if (CollectionUtils.isNotEmpty(process.getPortImplementations())) {
+            process.getPortImplementations().stream().map(PortImplementation::getQualifiedName)
+                    .filter(StringUtils::isNotEmpty).forEach(qualifiedName -> keys.add("Port:" + qualifiedName));
+        }
+        if (CollectionUtils.isNotEmpty(process.getPortAliases())) {
+            for (PortAlias portAlias : process.getPortAliases()) {
+                Stream.of(portAlias.getQualifiedName(), portAlias.getDelegatesTo()).filter(StringUtils::isNotEmpty)
+                        .forEach(qualifiedName -> keys.add("Port:" + qualifiedName));
+            }
+        }
+
+        return keys;
+    }
+
+    private ElementFingerprintCache getFingerprintCache(String userId, String serverName, String methodName) {
+        try {
+            ElementFingerprintCache fingerprintCache = instanceHandler.getFingerprintCache(userId, serverName, methodName);
+            if (fingerprintCache != null) {
+                return fingerprintCache;
+            }
+        } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException error) {
+            log.debug("Unable to retrieve the fingerprint cache for server {} : {}", serverName, error.toString());
+        }
+
+        return NO_CHANGE_DETECTION;
+    }
+
+    private DataEngineTaskExecutor getTaskExecutor(String userId, String serverName, String methodName) {
+        try {
+            DataEngineTaskExecutor taskExecutor = instanceHandler.getTaskExecutor(userId, serverName, methodName);
+            if (taskExecutor != null) {
+                return taskExecutor;
+            }
+        } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException error) {
+            log.debug("Unable to retrieve the task executor for server {} : {}", serverName, error.toString());
+        }
+
+        return CALLER_RUNS_EXECUTOR;
     }
 
     private void captureException(FFDCResponseBase initialResponse, FFDCResponseBase response) {
@@ -788,7 +991,8 @@ public class DataEngineRESTServices {
      *
      * @return the unique identifier (guid) of the created process
      */
-    private GUIDResponse upsertProcess(String userId, String serverName, Process process, String externalSourceName) {
+    private GUIDResponse upsertProcess(String userId, String serverName, Process process, String externalSourceName,
+                                       UpsertCounts upsertCounts) {
         final String methodName = "upsertProcess";
 
         log.debug(DEBUG_MESSAGE_METHOD_DETAILS, methodName, process);
@@ -803,9 +1007,9 @@ public class DataEngineRESTServices {
 
         try {
             Set<String> portImplementationGUIDs = upsertPortImplementations(userId, serverName, portImplementations, response,
-                    externalSourceName);
+                    externalSourceName, upsertCounts);
 
-            Set<String> portAliasGUIDs = upsertPortAliases(userId, serverName, portAliases, response, externalSourceName);
+            Set<String> portAliasGUIDs = upsertPortAliases(userId, serverName, portAliases, response, externalSourceName, upsertCounts);
 
             //check intermediary status of the response after creating the ports
             if (response.getRelatedHTTPCode() != HttpStatus.OK.value()) {
@@ -881,12 +1085,18 @@ public class DataEngineRESTServices {
         }
     }
 
-    private void addProcessHierarchyRelationships(String userId, String serverName, List<Process> processes, ProcessListResponse response,
-                                                  String externalSourceName) {
+    private void addProcessHierarchyRelationships(String userId, String serverName, List<Process> processes, Set<String> unchangedProcessGUIDs,
+                                                  ProcessListResponse response, String externalSourceName) {
         final String methodName = "addProcessHierarchyRelationships";
 
-        // add the ProcessHierarchy relationships only for successfully created processes
-        processes.parallelStream().filter(process -> response.getGUIDs().contains(process.getGUID())).forEach(process -> {
+        // add the ProcessHierarchy relationships only for successfully created processes, unchanged processes already have them
+        Set<String> createdProcessGUIDs = new HashSet<>(response.getGUIDs());
+        createdProcessGUIDs.removeAll(unchangedProcessGUIDs);
+        List<Process> createdProcesses = processes.stream().filter(process -> createdProcessGUIDs.contains(process.getGUID()))
+                .collect(Collectors.toList());
+
+        ElementFingerprintCache fingerprintCache = getFingerprintCache(userId, serverName, methodName);
+        getTaskExecutor(userId, serverName, methodName).execute(createdProcesses, process -> {
             List<ParentProcess> parentProcesses = process.getParentProcesses();
             String processGUID = process.getGUID();
             if (CollectionUtils.isNotEmpty(parentProcesses)) {
@@ -895,6 +1105,7 @@ public class DataEngineRESTServices {
                     for (ParentProcess parentProcess : parentProcesses) {
                         processHandler.upsertProcessHierarchyRelationship(userId, parentProcess, processGUID, externalSourceName);
                     }
+                    return;
                 } catch (InvalidParameterException error) {
                     log.error(EXCEPTION_WHILE_CREATING_PROCESS_HIERARCHY, process.getQualifiedName(), error.toString());
                     restExceptionHandler.captureInvalidParameterException(response, error);
@@ -905,6 +1116,9 @@ public class DataEngineRESTServices {
                     log.error(EXCEPTION_WHILE_CREATING_PROCESS_HIERARCHY, process.getQualifiedName(), error.toString());
                     restExceptionHandler.captureUserNotAuthorizedException(response, error);
                 }
+
+                // the process must be upserted again by the next request so that the hierarchy is retried
+                fingerprintCache.invalidate(ProcessPropertiesMapper.PROCESS_TYPE_NAME, process.getQualifiedName(), externalSourceName);
             }
         });
     }
@@ -917,7 +1131,7 @@ public class DataEngineRESTServices {
 
         DataEngineProcessHandler processHandler = instanceHandler.getProcessHandler(userId, serverName, methodName);
 
-        portGUIDs.parallelStream().forEach(portGUID -> {
+        getTaskExecutor(userId, serverName, methodName).execute(portGUIDs, portGUID -> {
             try {
                 processHandler.addProcessPortRelationship(userId, processGUID, portGUID, externalSourceName);
             } catch (InvalidParameterException error) {
@@ -942,14 +1156,16 @@ public class DataEngineRESTServices {
 
         DataEngineProcessHandler processHandler = instanceHandler.getProcessHandler(userId, serverName, methodName);
         DataEnginePortHandler dataEnginePortHandler = instanceHandler.getPortHandler(userId, serverName, methodName);
+        ElementFingerprintCache fingerprintCache = getFingerprintCache(userId, serverName, methodName);
 
         Set<String> oldPortGUIDs = processHandler.getPortsForProcess(userId, processGUID, portTypeName);
 
         // delete ports that are not in the process payload anymore
-        List<String> obsoletePorts = oldPortGUIDs.parallelStream().collect(partitioningBy(newPortGUIDs::contains)).get(Boolean.FALSE);
-        obsoletePorts.parallelStream().forEach(portGUID -> {
+        List<String> obsoletePorts = oldPortGUIDs.stream().collect(partitioningBy(newPortGUIDs::contains)).get(Boolean.FALSE);
+        getTaskExecutor(userId, serverName, methodName).execute(obsoletePorts, portGUID -> {
             try {
                 dataEnginePortHandler.removePort(userId, portGUID, portTypeName, externalSourceName);
+                fingerprintCache.invalidateGUID(portGUID);
             } catch (InvalidParameterException error) {
                 restExceptionHandler.captureInvalidParameterException(response, error);
             } catch (PropertyServerException error) {
@@ -963,15 +1179,17 @@ public class DataEngineRESTServices {
 
 
     private Set<String> upsertPortImplementations(String userId, String serverName, List<PortImplementation> portImplementations,
-                                                  GUIDResponse response, String externalSourceName) {
-        Set<String> portImplementationGUIDs = new HashSet<>();
+                                                  GUIDResponse response, String externalSourceName, UpsertCounts upsertCounts) {
+        final String methodName = "upsertPortImplementations";
+
+        Set<String> portImplementationGUIDs = Collections.synchronizedSet(new HashSet<>());
 
         if (CollectionUtils.isNotEmpty(portImplementations)) {
-            portImplementations.parallelStream().forEach(portImplementation ->
+            getTaskExecutor(userId, serverName, methodName).execute(portImplementations, portImplementation ->
             {
                 try {
                     portImplementationGUIDs.add(upsertPortImplementationWithSchemaType(userId, serverName, portImplementation,
-                            externalSourceName));
+                            externalSourceName, upsertCounts));
                 } catch (InvalidParameterException error) {
                     restExceptionHandler.captureInvalidParameterException(response, error);
                 } catch (PropertyServerException error) {
@@ -986,13 +1204,15 @@ public class DataEngineRESTServices {
     }
 
     private Set<String> upsertPortAliases(String userId, String serverName, List<PortAlias> portAliases, GUIDResponse response,
-                                          String externalSourceName) {
-        Set<String> portAliasGUIDs = new HashSet<>();
+                                          String externalSourceName, UpsertCounts upsertCounts) {
+        final String methodName = "upsertPortAliases";
+
+        Set<String> portAliasGUIDs = Collections.synchronizedSet(new HashSet<>());
 
         if (CollectionUtils.isNotEmpty(portAliases)) {
-            portAliases.parallelStream().forEach(portAlias -> {
+            getTaskExecutor(userId, serverName, methodName).execute(portAliases, portAlias -> {
                 try {
-                    portAliasGUIDs.add(upsertPortAliasWithDelegation(userId, serverName, portAlias, externalSourceName));
+                    portAliasGUIDs.add(upsertPortAliasWithDelegation(userId, serverName, portAlias, externalSourceName, upsertCounts));
                 } catch (InvalidParameterException error) {
                     restExceptionHandler.captureInvalidParameterException(response, error);
                 } catch (PropertyServerException error) {
@@ -1005,4 +1225,13 @@ public class DataEngineRESTServices {
 
         return portAliasGUIDs;
     }
-}
\ No newline at end of file
+
+    /**
+     * Counts of the elements of a request that were skipped because they had not changed, and of the elements that
+     * were upserted.
+     */
+    private static class UpsertCounts {
+        private final AtomicInteger skipped = new AtomicInteger(0);
+        private final AtomicInteger applied = new AtomicInteger(0);
+    }
+}
@@ -0,0 +1,263 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.service;
+
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * DataEngineTaskExecutor runs the repository calls of the Data Engine OMAS bulk requests on a bounded thread pool
+ * that belongs to a single server instance, rather than on the JVM-wide common fork-join pool.
+ * <p>
+ * Work is passed in as groups of items. The groups are independent and run concurrently, while the items of a
+ * group run one after the other on the same thread. The calling thread always takes part in the work and only
+ * waits for the pool threads that have picked up a group, so requests that use the executor from inside a task
+ * cannot deadlock even when all of the pool threads are busy. Each request uses at most the configured number of
+ * threads, including the calling thread.
+ */
+public class DataEngineTaskExecutor {
+    private final int maxRequestConcurrency;
+    private final ExecutorService threadPool;
+
+    private final AtomicLong requestsProcessed = new AtomicLong(0);
+    private final AtomicLong tasksProcessed = new AtomicLong(0);
+    private final AtomicLong tasksFailed = new AtomicLong(0);
+    private final AtomicLong processingTime = new AtomicLong(0);
+    private final AtomicInteger activeRequests = new AtomicInteger(0);
+
+    /**
+     * Constructor.
+     *
+     * @param serverName            name of the server that owns the executor (used to name the threads)
+     * @param threadCount           number of pool threads; 0 means all work runs on the calling thread
+     * @param maxRequestConcurrency maximum number of threads working on a single request
+     */
+    public DataEngineTaskExecutor(String serverName, int threadCount, int maxRequestConcurrency) {
+        this.maxRequestConcurrency = Math.max(maxRequestConcurrency, 1);
+
+        if (threadCount > 0) {
+            AtomicInteger threadNumber = new AtomicInteger(0);
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threadCount, threadCount, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "DataEngine-" + serverName + "-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            pool.allowCoreThreadTimeOut(true);
+            this.threadPool = pool;
+        } else {
+            this.threadPool = null;
+        }
+    }
+
+    /**
+     * Run the task for each of the items. The items are independent so they may all run concurrently.
+     *
+     * @param items items to process
+     * @param task  task to run for each item
+     * @param <T>   type of the items
+     */
+    public <T> void execute(Collection<T> items, Consumer<T> task) {
+        if (CollectionUtils.isEmpty(items)) {
+            return;
+        }
+
+        List<List<T>> groups = new ArrayList<>(items.size());
+        for (T item : items) {
+            groups.add(Collections.singletonList(item));
+        }
+
+        executeGroups(groups, task);
+    }
+
+    /**
+     * Run the task for each item of each group. Groups run concurrently; the items of a group run in order on
+     * the same thread.
+     *
+     * @param groups groups of items that must not be processed at the same time
+     * @param task   task to run for each item
+     * @param <T>    type of the items
+     */
+    public <T> void executeGroups(Collection<? extends Collection<T>> groups, Consumer<T> task) {
+        if (CollectionUtils.isEmpty(groups)) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        activeRequests.incrementAndGet();
+
+        Queue<Collection<T>> pendingGroups = new ConcurrentLinkedQueue<>(groups);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        List<Helper> helpers = new ArrayList<>();
+
+        try {
+            int helperCount = threadPool == null ? 0 : Math.min(maxRequestConcurrency, groups.size()) - 1;
+            for (int i = 0; i < helperCount; i++) {
+                Helper helper = new Helper(() -> processGroups(pendingGroups, task, failure));
+                try {
+                    threadPool.execute(helper);
+                    helpers.add(helper);
+                } catch (RejectedExecutionException error) {
+                    // the pool is shutting down so the calling thread does the work
+                    break;
+                }
+            }
+
+            processGroups(pendingGroups, task, failure);
+
+            for (Helper helper : helpers) {
+                helper.awaitCompletion();
+            }
+        } finally {
+            activeRequests.decrementAndGet();
+            requestsProcessed.incrementAndGet();
+            processingTime.addAndGet(System.currentTimeMillis() - startTime);
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Stop the pool threads. Later requests run on the calling thread.
+     */
+    public void shutdown() {
+        if (threadPool != null) {
+            threadPool.shutdown();
+        }
+    }
+
+    /**
+     * Return the maximum number of threads that work on a single request.
+     *
+     * @return thread count
+     */
+    public int getMaxRequestConcurrency() {
+        return maxRequestConcurrency;
+    }
+
+    /**
+     * Return the number of requests passed to the executor.
+     *
+     * @return count
+     */
+    public long getRequestsProcessed() {
+        return requestsProcessed.get();
+    }
+
+    /**
+     * Return the number of items processed.
+     *
+     * @return count
+     */
+    public long getTasksProcessed() {
+        return tasksProcessed.get();
+    }
+
+    /**
+     * Return the number of items where the task failed with an unexpected exception.
+     *
+     * @return count
+     */
+    public long getTasksFailed() {
+        return tasksFailed.get();
+    }
+
+    /**
+     * Return the total elapsed time of the requests passed to the executor.
+     *
+     * @return milliseconds
+     */
+    public long getProcessingTime() {
+        return processingTime.get();
+    }
+
+    /**
+     * Return the number of requests currently running.
+     *
+     * @return count
+     */
+    public int getActiveRequests() {
+        return activeRequests.get();
+    }
+
+    /**
+     * Return the rate that items have been processed while requests were running.
+     *
+     * @return items per second
+     */
+    public long getTasksPerSecond() {
+        return (tasksProcessed.get() * 1000) / Math.max(processingTime.get(), 1);
+    }
+
+    private <T> void processGroups(Queue<Collection<T>> pendingGroups, Consumer<T> task, AtomicReference<RuntimeException> failure) {
+        Collection<T> group;
+        while ((group = pendingGroups.poll()) != null) {
+            for (T item : group) {
+                try {
+                    task.accept(item);
+                } catch (RuntimeException error) {
+                    tasksFailed.incrementAndGet();
+                    failure.compareAndSet(null, error);
+                } finally {
+                    tasksProcessed.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Work submitted to the pool for a request. If the calling thread finishes the request before the helper
+     * has started, the helper is revoked and does nothing when the pool eventually runs it.
+     */
+    private static class Helper implements Runnable {
+        private final Runnable work;
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        Helper(Runnable work) {
+            this.work = work;
+        }
+
+        @Override
+        public void run() {
+            if (claimed.compareAndSet(false, true)) {
+                try {
+                    work.run();
+                } finally {
+                    finished.countDown();
+                }
+            }
+        }
+
+        void awaitCompletion() {
+            if (claimed.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                finished.await();
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
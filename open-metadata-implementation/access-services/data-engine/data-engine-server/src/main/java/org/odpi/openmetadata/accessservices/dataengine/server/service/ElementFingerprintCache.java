@@ -0,0 +1,254 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ElementFingerprintCache remembers a fingerprint of the content of each element that the Data Engine OMAS has
+ * successfully upserted, keyed by the element type, the external source and the qualified name of the element.
+ * Data engines re-send their complete definitions on every synchronization, so an element whose fingerprint
+ * matches the one recorded for its last upsert has not changed and can be skipped without reading or writing
+ * the repository.
+ * <p>
+ * The cache is bounded and evicts the least recently used entries. Entries are removed when the element is
+ * deleted, so that a later upsert recreates it, and when the element or one of its relationships is changed by
+ * a different user from the one that upserted it, so that the next upsert repairs the element.
+ */
+public class ElementFingerprintCache {
+    private static final Logger log = LoggerFactory.getLogger(ElementFingerprintCache.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private final int maxEntries;
+    private final Map<String, CachedElement> elements;
+    private final Map<String, String> keysByGUID = new HashMap<>();
+
+    private final AtomicLong elementsSkipped = new AtomicLong(0);
+    private final AtomicLong elementsApplied = new AtomicLong(0);
+
+    /**
+     * Constructor.
+     *
+     * @param maxEntries maximum number of elements to remember; 0 disables change detection
+     */
+    public ElementFingerprintCache(int maxEntries) {
+        this.maxEntries = Math.max(maxEntries, 0);
+        this.elements = new LinkedHashMap<String, CachedElement>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedElement> eldest) {
+                if (size() > ElementFingerprintCache.this.maxEntries) {
+                    keysByGUID.remove(eldest.getValue().guid);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return whether change detection is enabled.
+     *
+     * @return boolean flag
+     */
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * Return the fingerprint of the content of an element.
+     *
+     * @param element the bean sent by the data engine
+     *
+     * @return fingerprint or null if the element can not be fingerprinted (the element is then always upserted)
+     */
+    public String getFingerprint(Object element) {
+        if (!isEnabled() || element == null) {
+            return null;
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] content = OBJECT_MAPPER.writeValueAsString(element).getBytes(StandardCharsets.UTF_8);
+
+            return Base64.getEncoder().encodeToString(digest.digest(content));
+        } catch (JsonProcessingException | NoSuchAlgorithmException error) {
+            log.debug("Unable to calculate the fingerprint of {} : {}", element, error.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Return the GUID of the element if it has already been upserted with the same content. The element is counted
+     * as skipped when it is unchanged.
+     *
+     * @param typeName           type of the element
+     * @param qualifiedName      qualified name of the element
+     * @param externalSourceName the unique name of the external source
+     * @param fingerprint        fingerprint of the new content of the element
+     *
+     * @return the GUID of the unchanged element or null if the element must be upserted
+     */
+    public String getUnchangedGUID(String typeName, String qualifiedName, String externalSourceName, String fingerprint) {
+        if (fingerprint == null || qualifiedName == null) {
+            return null;
+        }
+
+        CachedElement cachedElement;
+        synchronized (elements) {
+            cachedElement = elements.get(getKey(typeName, qualifiedName, externalSourceName));
+        }
+
+        if (cachedElement != null && cachedElement.fingerprint.equals(fingerprint)) {
+            elementsSkipped.incrementAndGet();
+            return cachedElement.guid;
+        }
+
+        return null;
+    }
+
+    /**
+     * Remember the content of an element that has been successfully upserted. The element is counted as applied.
+     *
+     * @param typeName           type of the element
+     * @param qualifiedName      qualified name of the element
+     * @param externalSourceName the unique name of the external source
+     * @param fingerprint        fingerprint of the content of the element
+     * @param guid               the unique identifier of the element
+     * @param userId             the user that upserted the element
+     */
+    public void recordUpsert(String typeName, String qualifiedName, String externalSourceName, String fingerprint, String guid,
+                             String userId) {
+        elementsApplied.incrementAndGet();
+
+        if (fingerprint == null || qualifiedName == null || guid == null) {
+            return;
+        }
+
+        String key = getKey(typeName, qualifiedName, externalSourceName);
+        synchronized (elements) {
+            CachedElement previousElement = elements.put(key, new CachedElement(fingerprint, guid, userId));
+            if (previousElement != null && !previousElement.guid.equals(guid)) {
+                keysByGUID.remove(previousElement.guid);
+            }
+            keysByGUID.put(guid, key);
+        }
+    }
+
+    /**
+     * Forget the content of an element, so that it is upserted by the next request.
+     *
+     * @param typeName           type of the element
+     * @param qualifiedName      qualified name of the element
+     * @param externalSourceName the unique name of the external source
+     */
+    public void invalidate(String typeName, String qualifiedName, String externalSourceName) {
+        if (!isEnabled() || qualifiedName == null) {
+            return;
+        }
+
+        synchronized (elements) {
+            CachedElement cachedElement = elements.remove(getKey(typeName, qualifiedName, externalSourceName));
+            if (cachedElement != null) {
+                keysByGUID.remove(cachedElement.guid);
+            }
+        }
+    }
+
+    /**
+     * Forget the content of an element that has been removed from the repository.
+     *
+     * @param guid the unique identifier of the element
+     */
+    public void invalidateGUID(String guid) {
+        if (!isEnabled() || guid == null) {
+            return;
+        }
+
+        synchronized (elements) {
+            String key = keysByGUID.remove(guid);
+            if (key != null) {
+                elements.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Forget the content of an element that has been changed in the repository, unless the change was made by the
+     * user that upserted the element. The changes made by the data engine while upserting an element keep the element
+     * in the cache, while the changes made by other tools cause the next request to upsert the element again.
+     *
+     * @param guid      the unique identifier of the element
+     * @param changedBy the user that made the change, or null if this is not known
+     */
+    public void invalidateChangedGUID(String guid, String changedBy) {
+        if (!isEnabled() || guid == null) {
+            return;
+        }
+
+        synchronized (elements) {
+            String key = keysByGUID.get(guid);
+            if (key == null) {
+                return;
+            }
+
+            CachedElement cachedElement = elements.get(key);
+            if (cachedElement == null || changedBy == null || !changedBy.equals(cachedElement.userId)) {
+                keysByGUID.remove(guid);
+                elements.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Return the number of elements that were skipped because they had not changed.
+     *
+     * @return count
+     */
+    public long getElementsSkipped() {
+        return elementsSkipped.get();
+    }
+
+    /**
+     * Return the number of elements that were upserted.
+     *
+     * @return count
+     */
+    public long getElementsApplied() {
+        return elementsApplied.get();
+    }
+
+    private String getKey(String typeName, String qualifiedName, String externalSourceName) {
+        return typeName + '\u0000' + externalSourceName + '\u0000' + qualifiedName;
+    }
+
+    private static class CachedElement {
+        private final String fingerprint;
+        private final String guid;
+        private final String userId;
+
+        CachedElement(String fingerprint, String guid, String userId) {
+            this.fingerprint = fingerprint;
+            this.guid = guid;
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataEngineTaskExecutorTest {
+
+    private DataEngineTaskExecutor taskExecutor;
+
+    @AfterEach
+    void after() {
+        if (taskExecutor != null) {
+            taskExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void executeGroups_itemsOfAGroupRunInOrder() {
+        taskExecutor = new DataEngineTaskExecutor("test", 4, 4);
+
+        List<List<Integer>> groups = new ArrayList<>();
+        for (int group = 0; group < 10; group++) {
+            groups.add(Arrays.asList(group * 10, group * 10 + 1, group * 10 + 2));
+        }
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        taskExecutor.executeGroups(groups, item -> {
+            processed.add(item);
+            threads.add(Thread.currentThread().getName());
+        });
+
+        assertEquals(30, processed.size());
+        for (List<Integer> group : groups) {
+            assertTrue(processed.indexOf(group.get(0)) < processed.indexOf(group.get(1)));
+            assertTrue(processed.indexOf(group.get(1)) < processed.indexOf(group.get(2)));
+        }
+        assertTrue(threads.size() <= 4);
+        assertEquals(1, taskExecutor.getRequestsProcessed());
+        assertEquals(30, taskExecutor.getTasksProcessed());
+    }
+
+    @Test
+    void execute_nestedRequestsCompleteWithOneThread() {
+        taskExecutor = new DataEngineTaskExecutor("test", 1, 2);
+
+        AtomicInteger processed = new AtomicInteger();
+
+        taskExecutor.execute(Arrays.asList(1, 2, 3, 4), outer ->
+                taskExecutor.execute(Arrays.asList(1, 2, 3), inner -> processed.incrementAndGet()));
+
+        assertEquals(12, processed.get());
+        assertEquals(0, taskExecutor.getActiveRequests());
+    }
+
+    @Test
+    void execute_unexpectedExceptionIsRethrownAfterAllItems() {
+        taskExecutor = new DataEngineTaskExecutor("test", 2, 2);
+
+        AtomicInteger processed = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> taskExecutor.execute(Arrays.asList(1, 2, 3, 4), item -> {
+            processed.incrementAndGet();
+            if (item == 2) {
+                throw new IllegalStateException("test");
+            }
+        }));
+
+        assertEquals(4, processed.get());
+        assertEquals(1, taskExecutor.getTasksFailed());
+    }
+
+    @Test
+    void execute_runsOnCallerThreadWithoutPool() {
+        taskExecutor = new DataEngineTaskExecutor("test", 0, 4);
+
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        taskExecutor.execute(Arrays.asList(1, 2, 3), item -> threads.add(Thread.currentThread()));
+
+        assertEquals(Collections.singleton(Thread.currentThread()), threads);
+    }
+}
@@ -0,0 +1,114 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.service;
+
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.accessservices.dataengine.model.PortImplementation;
+import org.odpi.openmetadata.accessservices.dataengine.model.Process;
+import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ElementFingerprintCacheTest {
+    private static final String PROCESS_TYPE = "Process";
+    private static final String QUALIFIED_NAME = "qualifiedName";
+    private static final String EXTERNAL_SOURCE = "externalSource";
+    private static final String GUID = "guid";
+    private static final String USER = "user";
+
+    @Test
+    void getFingerprint_sameContentHasSameFingerprint() {
+        ElementFingerprintCache fingerprintCache = new ElementFingerprintCache(10);
+
+        String fingerprint = fingerprintCache.getFingerprint(getProcess("description"));
+
+        assertNotNull(fingerprint);
+        assertEquals(fingerprint, fingerprintCache.getFingerprint(getProcess("description")));
+        assertNotEquals(fingerprint, fingerprintCache.getFingerprint(getProcess("new description")));
+    }
+
+    @Test
+    void getUnchangedGUID_onlyForRecordedContent() {
+        ElementFingerprintCache fingerprintCache = new ElementFingerprintCache(10);
+        String fingerprint = fingerprintCache.getFingerprint(getProcess("description"));
+
+        assertNull(fingerprintCache.getUnchangedGUID(PROCESS_TYPE, QUALIFIED_NAME, EXTERNAL_SOURCE, fingerprint));
+
+        fingerprintCache.recordUpsert(PROCESS_TYPE, QUALIFIED_NAME, EXTERNAL_SOURCE, fingerprint, GUID, USER);
+
+        assertEquals(GUID, fingerprintCache.getUnchangedGUID(PROCESS_TYPE, QUALIFIED_NAME, EXTERNAL_SOURCE, fingerprint));
+        assertNull(fingerprintCache.getUnchangedGUID(PROCESS_TYPE, QUALIFIED_NAME, "otherSource", fingerprint));
+        assertNull(fingerprintCache.getUnchangedGUID(PROCESS_TYPE, QUALIFIED_NAME, EXTERNAL_SOURCE,
+                fingerprintCache.getFingerprint(getProcess("new description"))));
+        assertEquals(1, fingerprintCache.getElementsSkipped());
+        assertEquals(1, fingerprintCache.getElementsApplied());
+    }
+
+    @Test
+    void invalidateGUID_removesElement() {
+        ElementFingerprintCache fingerprintCache = new ElementFingerprintCache(10);
+        String fingerprint = fingerprintCache.getFingerprint(getProcess("description"));
+        fingerprintCache.recordUpsert(PROCESS_TYPE, QUALIFIED_NAME, EXTERNAL_SOURCE, fingerprint, GUID, USER);
+
+        fingerprintCache.invalidateGUID(GUID);
+
+        assertNull(fingerprintCache.getUnchangedGUID(PROCESS_TYPE, QUALIFIED_NAME, EXTERNAL_SOURCE, fingerprint));
+    }
+
+    @Test
+    void invalidateChangedGUID_removesElementChangedByOtherUser() {
+        ElementFingerprintCache fingerprintCache = new ElementFingerprintCache(10);
+        String fingerprint = fingerprintCache.getFingerprint(getProcess("description"));
+        fingerprintCache.recordUpsert(PROCESS_TYPE, QUALIFIED_NAME, EXTERNAL_SOURCE, fingerprint, GUID, USER);
+
+        fingerprintCache.invalidateChangedGUID(GUID, USER);
+
+        assertEquals(GUID, fingerprintCache.getUnchangedGUID(PROCESS_TYPE, QUALIFIED_NAME, EXTERNAL_SOURCE, fingerprint));
+
+        fingerprintCache.invalidateChangedGUID(GUID, "otherUser");
+
+        assertNull(fingerprintCache.getUnchangedGUID(PROCESS_TYPE, QUALIFIED_NAME, EXTERNAL_SOURCE, fingerprint));
+    }
+
+    @Test
+    void recordUpsert_evictsLeastRecentlyUsedElement() {
+        ElementFingerprintCache fingerprintCache = new ElementFingerprintCache(2);
+
+        fingerprintCache.recordUpsert(PROCESS_TYPE, "first", EXTERNAL_SOURCE, "fingerprint1", "guid1", USER);
+        fingerprintCache.recordUpsert(PROCESS_TYPE, "second", EXTERNAL_SOURCE, "fingerprint2", "guid2", USER);
+        fingerprintCache.getUnchangedGUID(PROCESS_TYPE, "first", EXTERNAL_SOURCE, "fingerprint1");
+        fingerprintCache.recordUpsert(PROCESS_TYPE, "third", EXTERNAL_SOURCE, "fingerprint3", "guid3", USER);
+
+        assertEquals("guid1", fingerprintCache.getUnchangedGUID(PROCESS_TYPE, "first", EXTERNAL_SOURCE, "fingerprint1"));
+        assertNull(fingerprintCache.getUnchangedGUID(PROCESS_TYPE, "second", EXTERNAL_SOURCE, "fingerprint2"));
+        assertEquals("guid3", fingerprintCache.getUnchangedGUID(PROCESS_TYPE, "third", EXTERNAL_SOURCE, "fingerprint3"));
+    }
+
+    @Test
+    void disabledCache_neverSkips() {
+        ElementFingerprintCache fingerprintCache = new ElementFingerprintCache(0);
+
+        assertNull(fingerprintCache.getFingerprint(getProcess("description")));
+    }
+
+    private Process getProcess(String description) {
+        SchemaType schemaType = new SchemaType();
+        schemaType.setQualifiedName("schemaType");
+
+        PortImplementation portImplementation = new PortImplementation();
+        portImplementation.setQualifiedName("port");
+        portImplementation.setSchemaType(schemaType);
+
+        Process process = new Process();
+        process.setQualifiedName(QUALIFIED_NAME);
+        process.setDescription(description);
+        process.setPortImplementations(Collections.singletonList(portImplementation));
+
+        return process;
+    }
+}
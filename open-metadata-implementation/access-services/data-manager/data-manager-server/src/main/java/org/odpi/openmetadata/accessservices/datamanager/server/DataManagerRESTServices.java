@@ -72,7 +72,7 @@ public class DataManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -134,7 +134,7 @@ public class DataManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -196,7 +196,7 @@ public class DataManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -255,7 +255,7 @@ public class DataManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -303,7 +303,7 @@ public class DataManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -123,7 +123,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -184,7 +184,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -271,7 +271,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -323,7 +323,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -375,7 +375,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -431,7 +431,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -485,7 +485,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -539,7 +539,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -599,7 +599,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -648,7 +648,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -730,7 +730,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -793,7 +793,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -869,7 +869,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -921,7 +921,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -973,7 +973,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1029,7 +1029,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1083,7 +1083,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1136,7 +1136,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1190,7 +1190,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1239,7 +1239,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1311,7 +1311,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1374,7 +1374,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1440,7 +1440,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1503,7 +1503,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1557,7 +1557,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1614,7 +1614,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1668,7 +1668,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1717,7 +1717,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1786,7 +1786,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1849,7 +1849,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1916,7 +1916,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1979,7 +1979,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2033,7 +2033,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2086,7 +2086,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2140,7 +2140,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2189,7 +2189,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2306,7 +2306,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2369,7 +2369,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2476,7 +2476,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2532,7 +2532,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2586,7 +2586,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2643,7 +2643,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2697,7 +2697,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2746,7 +2746,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2817,7 +2817,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2871,7 +2871,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2937,7 +2937,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2993,7 +2993,7 @@ public class DatabaseManagerRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
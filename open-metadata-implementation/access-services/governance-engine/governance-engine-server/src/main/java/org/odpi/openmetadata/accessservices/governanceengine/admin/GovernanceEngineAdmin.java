@@ -18,8 +18,11 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicSubscription;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
 
+import java.util.EnumSet;
 import java.util.List;
 
 public class GovernanceEngineAdmin extends AccessServiceAdmin
@@ -120,6 +123,7 @@ public class GovernanceEngineAdmin extends AccessServiceAdmin
                                                                                        eventPublisher,
                                                                                        repositoryConnector.getRepositoryHelper(),
                                                                                        outTopicAuditLog),
+                                                 this.getEnterpriseTopicSubscription(),
                                                  auditLog);
             }
 
@@ -156,6 +160,22 @@ public class GovernanceEngineAdmin extends AccessServiceAdmin
     }
 
 
+    /**
+     * Return the subscription for the enterprise topic listener.  The listener processes the instance events
+     * and ignores the registry and type events.
+     *
+     * @return subscription for the listener
+     */
+    private OMRSTopicSubscription getEnterpriseTopicSubscription()
+    {
+        OMRSTopicSubscription subscription = new OMRSTopicSubscription();
+
+        subscription.setEventCategories(EnumSet.of(OMRSEventCategory.INSTANCE));
+
+        return subscription;
+    }
+
+
     /**
      * Shutdown the access service.
      */
@@ -19,10 +19,14 @@ import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicSubscription;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSConfigErrorException;
 
+import java.util.EnumSet;
 import java.util.List;
 
 public class SecurityOfficerAdmin extends AccessServiceAdmin
@@ -81,6 +85,7 @@ public class SecurityOfficerAdmin extends AccessServiceAdmin
                                                      serverUserName,
                                                      supportedZones,
                                                      auditLog),
+                                             getEnterpriseTopicSubscription(),
                                              auditLog);
 
             auditLog.logMessage(actionDescription, SecurityOfficerAuditCode.SERVICE_INITIALIZED.getMessageDefinition(serverName));
@@ -102,6 +107,25 @@ public class SecurityOfficerAdmin extends AccessServiceAdmin
     }
 
 
+    /**
+     * Returns the subscription for the enterprise topic listener.  The listener only processes the events for
+     * entities that are (re/de)classified or deleted.
+     *
+     * @return the subscription of the listener
+     */
+    private OMRSTopicSubscription getEnterpriseTopicSubscription() {
+        OMRSTopicSubscription subscription = new OMRSTopicSubscription();
+
+        subscription.setEventCategories(EnumSet.of(OMRSEventCategory.INSTANCE));
+        subscription.setInstanceEventTypes(EnumSet.of(OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                                                      OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+                                                      OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+                                                      OMRSInstanceEventType.DELETED_ENTITY_EVENT));
+
+        return subscription;
+    }
+
+
     /**
      * Returns the topic created based on connection properties
      *
@@ -7,6 +7,7 @@ import com.google.crypto.tink.*;
 import com.google.crypto.tink.aead.AeadConfig;
 import com.google.crypto.tink.aead.AeadKeyTemplates;
 import com.google.crypto.tink.proto.KeyTemplate;
+import org.odpi.openmetadata.adminservices.store.OMAGServerConfigDocumentCache;
 import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreRetrieveAll;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
@@ -36,7 +37,7 @@ import java.util.stream.Stream;
 
 /**
  * EncryptedFileBasedServerConfigStoreConnector is the OCF connector for the encrypted file based server
- * configuration store.
+ * configuration store.  The decrypted configuration document is cached by the platform until the file changes.
  */
 public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConfigStoreConnectorBase implements OMAGServerConfigStoreRetrieveAll {
 
@@ -49,7 +50,10 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
     private static final String      DEFAULT_FILENAME_TEMPLATE = "data/servers/{0}/config/{0}.config";
     private static final KeyTemplate KEY_TEMPLATE              = AeadKeyTemplates.CHACHA20_POLY1305;
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private String configStoreName  = null;
+    private final OMAGServerConfigDocumentCache documentCache = OMAGServerConfigDocumentCache.getPlatformCache();
 
     private static final Logger log = LoggerFactory.getLogger(EncryptedFileBasedServerConfigStoreConnector.class);
 
@@ -120,21 +124,54 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
                 removeServerConfig();
             } else {
 
-                log.debug("Writing encrypted server configuration.");
-                Aead aead = getAead(true);
-                if (aead != null) {
-                    ObjectMapper objectMapper = new ObjectMapper();
-                    String configStoreFileContents = objectMapper.writeValueAsString(omagServerConfig);
-                    byte[] ciphertext = aead.encrypt(configStoreFileContents.getBytes(StandardCharsets.UTF_8), null);
-                    FileUtils.writeByteArrayToFile(configStoreFile, ciphertext, false);
+                String configStoreFileContents = OBJECT_MAPPER.writeValueAsString(omagServerConfig);
+                long writeDelay = getWriteDelay();
+
+                if (writeDelay > 0) {
+                    // A delayed write happens after this request has returned, so its errors can only be logged.
+                    // The document cache keeps the document and tries the write again.
+                    documentCache.writeDocument(configStoreFile, configStoreFileContents, writeDelay, (file, document) -> {
+                        try {
+                            writeConfigStoreFile(file, document);
+                        } catch (OCFRuntimeException e) {
+                            log.error("Unable to write encrypted server configuration.", e);
+                            throw e;
+                        }
+                    });
                 } else {
-                    throw new OCFRuntimeException(DocStoreErrorCode.AEAD_UNAVAILABLE.getMessageDefinition(),
-                            this.getClass().getName(),
-                            methodName);
+                    documentCache.writeDocument(configStoreFile, configStoreFileContents, 0, this::writeConfigStoreFile);
                 }
 
             }
 
+        } catch (IOException e) {
+            throw new OCFRuntimeException(DocStoreErrorCode.WRITE_ERROR.getMessageDefinition(e.getClass().getName(), e.getMessage()),
+                    this.getClass().getName(),
+                    methodName, e);
+        }
+
+    }
+
+    /**
+     * Encrypt the configuration document and write it to the file.
+     * @param configStoreFile file to write
+     * @param configStoreFileContents serialized configuration document
+     */
+    private void writeConfigStoreFile(File configStoreFile, String configStoreFileContents) {
+
+        final String methodName = "saveServerConfig";
+
+        try {
+            log.debug("Writing encrypted server configuration.");
+            Aead aead = getAead(true);
+            if (aead != null) {
+                byte[] ciphertext = aead.encrypt(configStoreFileContents.getBytes(StandardCharsets.UTF_8), null);
+                FileUtils.writeByteArrayToFile(configStoreFile, ciphertext, false);
+            } else {
+                throw new OCFRuntimeException(DocStoreErrorCode.AEAD_UNAVAILABLE.getMessageDefinition(),
+                        this.getClass().getName(),
+                        methodName);
+            }
         } catch (GeneralSecurityException | IOException e) {
             throw new OCFRuntimeException(DocStoreErrorCode.WRITE_ERROR.getMessageDefinition(e.getClass().getName(), e.getMessage()),
                     this.getClass().getName(),
@@ -153,21 +190,45 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
         final String methodName = "retrieveServerConfig";
         OMAGServerConfig newConfigProperties = null;
 
+        try {
+            // The platform caches the decrypted document, so it is only read and decrypted when the file changes
+            String configStoreFileContents = documentCache.getDocument(getConfigStoreFile(), this::readConfigStoreFile);
+            if (configStoreFileContents != null) {
+                newConfigProperties = OBJECT_MAPPER.readValue(configStoreFileContents, OMAGServerConfig.class);
+            }
+        } catch (IOException e) {
+            throw new OCFRuntimeException(DocStoreErrorCode.READ_ERROR.getMessageDefinition(e.getClass().getName(), e.getMessage()),
+                    this.getClass().getName(),
+                    methodName, e);
+        }
+
+        return newConfigProperties;
+
+    }
+
+    /**
+     * Read the configuration document from the file, decrypting it if necessary.
+     * @param configStoreFile file to read
+     * @return serialized configuration document or null if there is no file
+     */
+    private String readConfigStoreFile(File configStoreFile) {
+
+        final String methodName = "retrieveServerConfig";
+        String configStoreFileContents = null;
+
         boolean isEnvVar  = isEnvBasedKeystore();
         boolean isKeyFile = isFileBasedKeystore();
 
-        File configStoreFile = getConfigStoreFile();
         if (configStoreFile.exists()) {
 
             // If we have a configuration file, first try to read it as clear-text (unencrypted)...
             try {
                 log.debug("Attempting to retrieve clear-text server configuration properties");
-                String configStoreFileContents = FileUtils.readFileToString(configStoreFile, "UTF-8");
-                ObjectMapper objectMapper = new ObjectMapper();
-                newConfigProperties = objectMapper.readValue(configStoreFileContents, OMAGServerConfig.class);
+                configStoreFileContents = FileUtils.readFileToString(configStoreFile, "UTF-8");
+                OMAGServerConfig clearTextConfig = OBJECT_MAPPER.readValue(configStoreFileContents, OMAGServerConfig.class);
                 // Assuming we are able to read it (unencrypted), immediately auto-encrypt it
                 log.info("Found unencrypted configuration document -- automatically encrypting it.");
-                saveServerConfig(newConfigProperties);
+                saveServerConfig(clearTextConfig);
             } catch (IOException e) {
                 // If reading it as clear-text fails, and we have no keyset defined, then the configuration document
                 // is probably encrypted and we have no way of decrypting it
@@ -177,22 +238,20 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
                             methodName, e);
                 } else {
                     // Ensure that nothing has been set to the config properties
-                    newConfigProperties = null;
+                    configStoreFileContents = null;
                 }
             }
 
-            // If we are here, without a newConfigProperties set, we have an existing configuration file AND
+            // If we are here, without the contents set, we have an existing configuration file AND
             // a keyset, so attempt to decrypt the configuration file using that keyset
-            if (newConfigProperties == null) {
+            if (configStoreFileContents == null) {
                 try {
                     log.debug("Retrieving encrypted server configuration properties");
                     Aead aead = getAead(false);
                     if (aead != null) {
                         byte[] ciphertext = FileUtils.readFileToByteArray(configStoreFile);
                         byte[] decrypted = aead.decrypt(ciphertext, null);
-                        String configStoreFileContents = new String(decrypted, StandardCharsets.UTF_8);
-                        ObjectMapper objectMapper = new ObjectMapper();
-                        newConfigProperties = objectMapper.readValue(configStoreFileContents, OMAGServerConfig.class);
+                        configStoreFileContents = new String(decrypted, StandardCharsets.UTF_8);
                     } else {
                         // If we have a configuration file, but no key anywhere to use to decrypt it, throw an error immediately
                         throw new OCFRuntimeException(DocStoreErrorCode.NO_KEYSTORE.getMessageDefinition(),
@@ -208,7 +267,7 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
 
         }
 
-        return newConfigProperties;
+        return configStoreFileContents;
 
     }
 
@@ -218,6 +277,7 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
     @Override
     public void removeServerConfig() {
         final String methodName = "removeServerConfig";
+        documentCache.removeDocument(getConfigStoreFile());
         File keystore = getFileBasedKeystore(false);
         if (keystore.exists()) {
             try {
@@ -243,13 +303,15 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
     public Set<OMAGServerConfig> retrieveAllServerConfigs() {
         final String methodName = "retrieveAllServerConfigs";
         Set<OMAGServerConfig> omagServerConfigSet = new HashSet<>();
-        try (Stream<Path> list = Files.list(Paths.get(".")))
+        Path currentDirectory = Paths.get(".");
+        try (Stream<Path> list = Files.list(currentDirectory))
         {
             // we need to use the configStoreTemplateName to pick up any files that match this shape.
             // this template might have inserts in
+            // the documents that are waiting to be written are included since their files may not exist yet.
 
             String templateString = getStoreTemplateName();;
-              Set<String> fileNames = list.map(x -> x.toString())
+              Set<String> fileNames = Stream.concat(list, getPendingConfigStoreFiles(currentDirectory)).map(x -> x.toString())
                     .filter(f -> isFileNameAConfig(f, templateString)).collect(Collectors.toSet());
             for (String fileName:fileNames) {
                 configStoreName=fileName;
@@ -265,6 +327,20 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
         return omagServerConfigSet;
     }
 
+    /**
+     * Return the files in the directory whose configuration documents are saved but waiting to be written.
+     * They are named in the same way as the files listed from the directory.
+     * @param directory directory that is searched for configuration files
+     * @return stream of file paths
+     */
+    private Stream<Path> getPendingConfigStoreFiles(Path directory) {
+        Path absoluteDirectory = directory.toAbsolutePath().normalize();
+        return documentCache.getPendingFiles().stream()
+                .map(File::toPath)
+                .filter(file -> absoluteDirectory.equals(file.getParent()))
+                .map(file -> directory.resolve(file.getFileName()));
+    }
+
     /**
      * Check whether the file name is an OMAG Server configuration name by checking it against the template.
      * @param fileNameToCheck filename to check
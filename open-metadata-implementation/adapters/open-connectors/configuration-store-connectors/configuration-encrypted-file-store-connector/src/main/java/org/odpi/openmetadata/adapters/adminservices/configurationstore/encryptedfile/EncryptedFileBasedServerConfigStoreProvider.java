@@ -2,9 +2,12 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.adminservices.configurationstore.encryptedfile;
 
+import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreConnectorBase;
 import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreProviderBase;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 
+import java.util.Collections;
+
 /**
  * EncryptedFileBasedServerConfigStoreProvider is the OCF connector provider for the encrypted file based server
  * configuration store.
@@ -29,6 +32,7 @@ public class EncryptedFileBasedServerConfigStoreProvider extends OMAGServerConfi
         connectorType.setDisplayName(CONNECTOR_TYPE_NAME);
         connectorType.setDescription(CONNECTOR_TYPE_DESC);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
+        connectorType.setRecognizedConfigurationProperties(Collections.singletonList(OMAGServerConfigStoreConnectorBase.WRITE_DELAY_CONFIGURATION_PROPERTY));
         super.connectorTypeBean = connectorType;
     }
 
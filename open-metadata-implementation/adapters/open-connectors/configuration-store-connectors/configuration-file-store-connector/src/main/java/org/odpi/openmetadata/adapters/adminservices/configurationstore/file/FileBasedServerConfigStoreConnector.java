@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.adminservices.configurationstore.file;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.adminservices.store.OMAGServerConfigDocumentCache;
 import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreRetrieveAll;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
@@ -15,6 +16,7 @@ import org.apache.commons.io.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -26,7 +28,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * FileBasedServerConfigStoreConnector provides a connector that manages a configuration document for an OMAG Server in a file
+ * FileBasedServerConfigStoreConnector provides a connector that manages a configuration document for an OMAG Server in a file.
+ * The content of the file is cached by the platform so an unchanged configuration document is not read from the file
+ * on every request.
  */
 public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreConnectorBase implements OMAGServerConfigStoreRetrieveAll
 {
@@ -35,10 +39,16 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
      */
     private static final String defaultFilenameTemplate = "data/servers/{0}/config/{0}.config";
 
+    /*
+     * The object mapper is thread-safe once configured so it is shared by all of the connectors.
+     */
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
     /*
      * Variables used in writing to the file.
      */
-    private String           configStoreName  = null;
+    private String                         configStoreName  = null;
+    private OMAGServerConfigDocumentCache  documentCache    = OMAGServerConfigDocumentCache.getPlatformCache();
 
     /*
      * Variables used for logging and debug.
@@ -107,21 +117,49 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
 
             if (omagServerConfig == null)
             {
-                configStoreFile.delete();
+                this.removeServerConfig();
             }
             else
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
                 String configStoreFileContents = objectMapper.writeValueAsString(omagServerConfig);
 
-                FileUtils.writeStringToFile(configStoreFile, configStoreFileContents, (String)null,false);
+                documentCache.writeDocument(configStoreFile, configStoreFileContents, super.getWriteDelay(), this::writeConfigStoreFile);
             }
         }
         catch (IOException   ioException)
         {
             log.debug("Unusable Server config Store :(", ioException);
         }
+        catch (UncheckedIOException ioException)
+        {
+            /*
+             * Already logged by writeConfigStoreFile.
+             */
+        }
+    }
+
+
+    /**
+     * Write the content of the configuration document to the file.  This may be called after the save
+     * request has returned so the error is logged here.  A delayed write that fails is tried again
+     * by the document cache.
+     *
+     * @param configStoreFile file to write
+     * @param configStoreFileContents serialized configuration document
+     */
+    private void writeConfigStoreFile(File   configStoreFile,
+                                      String configStoreFileContents)
+    {
+        try
+        {
+            FileUtils.writeStringToFile(configStoreFile, configStoreFileContents, (String)null,false);
+        }
+        catch (IOException   ioException)
+        {
+            log.error("Unable to write server configuration to " + configStoreFile.getPath(), ioException);
+
+            throw new UncheckedIOException(ioException);
+        }
     }
 
 
@@ -140,9 +178,8 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
         {
             log.debug("Retrieving server configuration properties");
 
-            String configStoreFileContents = FileUtils.readFileToString(configStoreFile, "UTF-8");
-
-            ObjectMapper objectMapper = new ObjectMapper();
+            String configStoreFileContents = documentCache.getDocument(configStoreFile,
+                                                                       file -> FileUtils.readFileToString(file, "UTF-8"));
 
             newConfigProperties = objectMapper.readValue(configStoreFileContents, OMAGServerConfig.class);
         }
@@ -168,6 +205,7 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
     {
         File    configStoreFile = new File(configStoreName);
 
+        documentCache.removeDocument(configStoreFile);
         configStoreFile.delete();
     }
 
@@ -183,13 +221,17 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
         final String methodName = "retrieveAllServerConfigs";
         Set<OMAGServerConfig> omagServerConfigSet = new HashSet<>();
 
-        try (Stream<Path> list = Files.list(Paths.get(".")))
+        Path currentDirectory = Paths.get(".");
+
+        try (Stream<Path> list = Files.list(currentDirectory))
         {
             // we need to use the configStoreTemplateName to pick up any files that match this shape.
             // this template might have inserts in
+            // the documents that are waiting to be written are included since their files may not exist yet.
 
             String templateString = getStoreTemplateName();
-            Set<String> fileNames = list.map(x -> x.toString())
+            Set<String> fileNames = Stream.concat(list, this.getPendingConfigStoreFiles(currentDirectory))
+                    .map(x -> x.toString())
                     .filter(f -> isFileNameAConfig(f, templateString)).collect(Collectors.toSet());
 
             for (String fileName:fileNames)
@@ -209,6 +251,24 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
     }
 
 
+    /**
+     * Return the files in the directory whose configuration documents are saved but waiting to be written.
+     * They are named in the same way as the files listed from the directory.
+     *
+     * @param directory directory that is searched for configuration files
+     * @return stream of file paths
+     */
+    private Stream<Path> getPendingConfigStoreFiles(Path directory)
+    {
+        Path absoluteDirectory = directory.toAbsolutePath().normalize();
+
+        return documentCache.getPendingFiles().stream()
+                            .map(File::toPath)
+                            .filter(file -> absoluteDirectory.equals(file.getParent()))
+                            .map(file -> directory.resolve(file.getFileName()));
+    }
+
+
     /**
      * Check whether the file name is an OMAG Server configuration name by checking it against the template.
      *
@@ -5,6 +5,9 @@ package org.odpi.openmetadata.adapters.adminservices.configurationstore.file;
 import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreProviderBase;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * FileBasedServerConfigStoreProvider is the OCF connector provider for the file based server configuration store.
  */
@@ -32,6 +35,10 @@ public class FileBasedServerConfigStoreProvider extends OMAGServerConfigStorePro
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(FileBasedServerConfigStoreConnector.WRITE_DELAY_CONFIGURATION_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
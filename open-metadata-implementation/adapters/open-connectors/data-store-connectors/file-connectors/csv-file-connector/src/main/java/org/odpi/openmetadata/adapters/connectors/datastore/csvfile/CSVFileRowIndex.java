@@ -0,0 +1,125 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSVFileRowIndex is a sparse index of the byte offsets of the rows in a CSV file.  The offset of every
+ * indexInterval'th row is recorded so a row can be located by seeking to the nearest indexed row and reading
+ * forward a short distance.  The index also holds the number of rows in the file.
+ * <p>
+ * The index is built in a single pass of the file and is only valid while the file's last modified time
+ * and length are unchanged.
+ */
+class CSVFileRowIndex
+{
+    static final int indexInterval = 1024;
+
+    private final long       lastModified;
+    private final long       fileLength;
+    private final List<Long> rowOffsets = new ArrayList<>();
+    private final int        rowCount;
+
+
+    /**
+     * Scan the file and build the index.
+     *
+     * @param file file to index
+     * @param quoteChar character used to quote values
+     * @throws IOException problem reading the file
+     */
+    CSVFileRowIndex(File file,
+                    char quoteChar) throws IOException
+    {
+        this.lastModified = file.lastModified();
+        this.fileLength = file.length();
+
+        int rowNumber        = 0;
+        int lastNonBlankRow  = -1;
+
+        try (CSVFileRowReader rowReader = new CSVFileRowReader(file.toPath(), 0, quoteChar))
+        {
+            long   rowOffset = rowReader.getPosition();
+            String row       = rowReader.nextRow();
+
+            while (row != null)
+            {
+                if (rowNumber % indexInterval == 0)
+                {
+                    rowOffsets.add(rowOffset);
+                }
+
+                /*
+                 * Blank rows at the end of the file are not counted.
+                 */
+                if (! row.trim().isEmpty())
+                {
+                    lastNonBlankRow = rowNumber;
+                }
+
+                rowNumber ++;
+                rowOffset = rowReader.getPosition();
+                row = rowReader.nextRow();
+            }
+        }
+
+        this.rowCount = lastNonBlankRow + 1;
+    }
+
+
+    /**
+     * Return whether the index still describes the file.
+     *
+     * @param file file that was indexed
+     * @return boolean flag
+     */
+    boolean isCurrent(File file)
+    {
+        return (file.lastModified() == lastModified) && (file.length() == fileLength);
+    }
+
+
+    /**
+     * Return the number of rows in the file.
+     *
+     * @return count
+     */
+    int getRowCount()
+    {
+        return rowCount;
+    }
+
+
+    /**
+     * Return the row number of the nearest indexed row at or before the requested row.
+     *
+     * @param rowNumber requested row
+     * @return indexed row number
+     */
+    int getIndexedRowNumber(int rowNumber)
+    {
+        return (rowNumber / indexInterval) * indexInterval;
+    }
+
+
+    /**
+     * Return the byte offset of the nearest indexed row at or before the requested row.
+     *
+     * @param rowNumber requested row
+     * @return byte offset in the file
+     */
+    long getIndexedRowOffset(int rowNumber)
+    {
+        if (rowOffsets.isEmpty())
+        {
+            return 0;
+        }
+
+        return rowOffsets.get(Math.min(rowNumber / indexInterval, rowOffsets.size() - 1));
+    }
+}
@@ -0,0 +1,148 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * CSVFileRowReader reads the rows of a CSV file, in order, from any byte offset in the file.  A row ends at a
+ * new line character that is not inside a quoted value, so a quoted value may span several lines.
+ * The reader keeps track of the byte offset of each row so that an index of row offsets can be built in the
+ * same pass that counts the rows.
+ * <p>
+ * The file is read through a FileChannel so positioning the reader at a row offset is a seek rather than a scan
+ * from the start of the file.  The delimiter and quote characters are expected to be single byte characters.
+ */
+class CSVFileRowReader implements Closeable
+{
+    private static final int bufferSize = 64 * 1024;
+
+    private final FileChannel           fileChannel;
+    private final Charset               charset;
+    private final byte                  quoteByte;
+    private final boolean               quotingSupported;
+    private final ByteBuffer            buffer   = ByteBuffer.allocate(bufferSize);
+    private final ByteArrayOutputStream rowBytes = new ByteArrayOutputStream();
+
+    private long    position;
+    private boolean endOfFile = false;
+
+
+    /**
+     * Open the file and position the reader at the requested offset.
+     *
+     * @param filePath location of the file
+     * @param startPosition byte offset of the first row to read
+     * @param quoteChar character used to quote values
+     * @throws IOException unable to open the file
+     */
+    CSVFileRowReader(Path filePath,
+                     long startPosition,
+                     char quoteChar) throws IOException
+    {
+        this.fileChannel = FileChannel.open(filePath, StandardOpenOption.READ);
+        this.charset = Charset.defaultCharset();
+        this.quoteByte = (byte)quoteChar;
+        this.quotingSupported = (quoteChar < 128);
+        this.position = startPosition;
+
+        fileChannel.position(startPosition);
+        buffer.limit(0);
+    }
+
+
+    /**
+     * Return the byte offset of the next row to be read.
+     *
+     * @return offset in the file
+     */
+    long getPosition()
+    {
+        return position;
+    }
+
+
+    /**
+     * Return the next row from the file.  The row's line separator is not included (although a carriage
+     * return before the line feed is left for the parser to remove).
+     *
+     * @return row or null if the end of the file has been reached
+     * @throws IOException problem reading the file
+     */
+    String nextRow() throws IOException
+    {
+        if (endOfFile)
+        {
+            return null;
+        }
+
+        rowBytes.reset();
+
+        boolean inQuotes  = false;
+        boolean readBytes = false;
+
+        while (true)
+        {
+            if (! buffer.hasRemaining())
+            {
+                buffer.clear();
+
+                int bytesRead = fileChannel.read(buffer);
+
+                buffer.flip();
+
+                if (bytesRead <= 0)
+                {
+                    endOfFile = true;
+
+                    if (readBytes)
+                    {
+                        return new String(rowBytes.toByteArray(), charset);
+                    }
+
+                    return null;
+                }
+            }
+
+            byte nextByte = buffer.get();
+
+            position ++;
+            readBytes = true;
+
+            if ((nextByte == '\n') && (! inQuotes))
+            {
+                return new String(rowBytes.toByteArray(), charset);
+            }
+
+            if ((quotingSupported) && (nextByte == quoteByte))
+            {
+                /*
+                 * A doubled quote toggles twice so it leaves the state unchanged.
+                 */
+                inQuotes = ! inQuotes;
+            }
+
+            rowBytes.write(nextByte);
+        }
+    }
+
+
+    /**
+     * Close the file.
+     *
+     * @throws IOException problem closing the file
+     */
+    @Override
+    public void close() throws IOException
+    {
+        fileChannel.close();
+    }
+}
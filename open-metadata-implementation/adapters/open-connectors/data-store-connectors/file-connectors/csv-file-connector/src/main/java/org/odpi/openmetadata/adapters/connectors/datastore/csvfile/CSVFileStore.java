@@ -42,8 +42,8 @@ public interface CSVFileStore extends BasicFileStore
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  This is achieved by scanning the file and counting the records.
+     * The count is retained until the file changes.
      *
      * @return count
      * @throws FileException there is a problem accessing the file
@@ -74,4 +74,19 @@ public interface CSVFileStore extends BasicFileStore
      * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
      */
     List<String>      readRecord(int  rowNumber) throws FileException, FileReadException;
+
+
+    /**
+     * Return a page of consecutive data records.  The first record is record 0.  If the first line of the file is
+     * the column names then record 0 is the line following the column names.  Fewer records than requested are
+     * returned if the end of the file is reached.
+     *
+     * @param startRecordNumber first record to return
+     * @param recordCount maximum number of records to return
+     * @return list of records, each record is a list of the column values.
+     * @throws FileException there is a problem accessing the file
+     * @throws FileReadException unable to find, open or read the file, or the file does not include the start record.
+     */
+    List<List<String>> readRecords(int startRecordNumber,
+                                   int recordCount) throws FileException, FileReadException;
 }
@@ -29,6 +29,11 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private char           delimiterChar     = ',';
     private char           quoteChar         = '"';
 
+    /*
+     * Offsets of the rows in the file - rebuilt when the file changes.
+     */
+    private CSVFileRowIndex rowIndex = null;
+
     /*
      * Variables used for logging and debug.
      */
@@ -127,8 +132,8 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The first call scans the file to build an index of row offsets;
+     * later calls reuse the index until the file changes.
      *
      * @return count
      * @throws FileException problem accessing the file
@@ -138,33 +143,11 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     {
         final String  methodName = "getRecordCount";
 
-        long    rowCount = 0;
-
-        File fileStore = getFile(methodName);
+        long rowCount = getRowIndex(methodName).getRowCount();
 
-        try
+        if ((rowCount > 0) && (columnNames == null))
         {
-            Scanner scanner  = new Scanner(fileStore);
-            while (scanner.hasNext())
-            {
-                scanner.nextLine();
-                rowCount ++;
-            }
-            scanner.close();
-
-            if ((rowCount > 0) && (columnNames == null))
-            {
-                rowCount = rowCount - 1;
-            }
-        }
-        catch (IOException  error)
-        {
-            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
-                                                                                                               error.getMessage()),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        error,
-                                        fileStoreName);
+            rowCount = rowCount - 1;
         }
 
         return rowCount;
@@ -211,19 +194,87 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     {
         final String  methodName = "readRecord";
 
+        List<List<String>> records = readRows(getRowNumber(dataRecordNumber), 1, methodName);
+
+        return records.get(0);
+    }
+
+
+    /**
+     * Return a page of consecutive data records.  The first record is record 0.  If the first line of the file is
+     * the column names then record 0 is the line following the column names.  Fewer records than requested are
+     * returned if the end of the file is reached.
+     *
+     * @param startRecordNumber first record to return
+     * @param recordCount maximum number of records to return
+     * @return list of records, each record is a list of the column values.
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file, or the file does not include the start record.
+     */
+    public List<List<String>> readRecords(int startRecordNumber,
+                                          int recordCount) throws FileException, FileReadException
+    {
+        final String  methodName = "readRecords";
+
+        return readRows(getRowNumber(startRecordNumber), recordCount, methodName);
+    }
+
+
+    /**
+     * Convert a data record number into a row number in the file.
+     *
+     * @param dataRecordNumber data record number
+     * @return row number
+     */
+    private int getRowNumber(int dataRecordNumber)
+    {
         if (columnNames == null)
         {
-            return readRow(dataRecordNumber + 1, methodName);
+            return dataRecordNumber + 1;
         }
         else
         {
-            return readRow(dataRecordNumber, methodName);
+            return dataRecordNumber;
         }
     }
 
 
     /**
-     * Return the requested row in the file.  The first record is record 0.
+     * Return the index of row offsets for the file, building a new one if the file has changed since
+     * the index was last built.
+     *
+     * @param methodName name of calling method
+     * @return row index
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to read the file
+     */
+    private synchronized CSVFileRowIndex getRowIndex(String  methodName) throws FileException, FileReadException
+    {
+        File fileStore = super.getFile(methodName);
+
+        if ((rowIndex == null) || (! rowIndex.isCurrent(fileStore)))
+        {
+            try
+            {
+                rowIndex = new CSVFileRowIndex(fileStore, quoteChar);
+            }
+            catch (IOException  error)
+            {
+                throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                                   error.getMessage()),
+                                            this.getClass().getName(),
+                                            methodName,
+                                            error,
+                                            fileStoreName);
+            }
+        }
+
+        return rowIndex;
+    }
+
+
+    /**
+     * Return the requested row in the file.  The first row is row 0.
      *
      * @param recordLocation long
      * @param methodName name of calling method
@@ -234,34 +285,61 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private List<String>      readRow(int     recordLocation,
                                       String  methodName) throws FileException, FileReadException
     {
+        return readRows(recordLocation, 1, methodName).get(0);
+    }
 
-        File fileStore = super.getFile(methodName);
 
-        try
+    /**
+     * Return a sequence of rows from the file.  The reader seeks to the nearest indexed row before the requested
+     * row and reads forward from there so the cost of a read does not depend on its position in the file.
+     *
+     * @param startLocation first row to return (the first row in the file is row 0)
+     * @param rowCount maximum number of rows to return
+     * @param methodName name of calling method
+     * @return list of rows, each row is a list of the column values.
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file, or the file does not include the start row.
+     */
+    private List<List<String>> readRows(int     startLocation,
+                                        int     rowCount,
+                                        String  methodName) throws FileException, FileReadException
+    {
+        CSVFileRowIndex fileRowIndex = getRowIndex(methodName);
+
+        if ((startLocation < 0) || (startLocation >= fileRowIndex.getRowCount()))
+        {
+            throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
+                                                                                                      Integer.toString(startLocation)),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        fileStoreName);
+        }
+
+        int                endLocation = (int)Math.min((long)startLocation + Math.max(rowCount, 0), fileRowIndex.getRowCount());
+        List<List<String>> results     = new ArrayList<>();
+        File               fileStore   = super.getFile(methodName);
+
+        try (CSVFileRowReader rowReader = new CSVFileRowReader(fileStore.toPath(),
+                                                               fileRowIndex.getIndexedRowOffset(startLocation),
+                                                               quoteChar))
         {
-            Scanner scanner        = new Scanner(fileStore);
+            int    rowNumber = fileRowIndex.getIndexedRowNumber(startLocation);
+            String row       = rowReader.nextRow();
 
-            int rowCounter = 0;
-            while (scanner.hasNext())
+            while ((row != null) && (rowNumber < endLocation))
             {
-                if (rowCounter == recordLocation)
+                if (rowNumber >= startLocation)
                 {
-                    return parseRecord(scanner.nextLine());
+                    results.add(parseRecord(row));
                 }
-                else
+
+                rowNumber ++;
+
+                if (rowNumber < endLocation)
                 {
-                    scanner.nextLine();
+                    row = rowReader.nextRow();
                 }
-                rowCounter ++;
             }
-            scanner.close();
-
-            throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
-                                                                                                      Integer.toString(recordLocation)),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        fileStoreName);
-
         }
         catch (IOException  error)
         {
@@ -272,12 +350,27 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
                                         error,
                                         fileStoreName);
         }
+
+        if (results.isEmpty())
+        {
+            /*
+             * The file has been truncated since it was indexed.
+             */
+            throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
+                                                                                                      Integer.toString(startLocation)),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        fileStoreName);
+        }
+
+        return results;
     }
 
 
     /**
-     * Step through the record, character by character, extracting each column and enduring that escaped double quotes
-     * and other tricks found in CSV files are handled.
+     * Step through the record, character by character, extracting each column.  Values that start with the
+     * quote character may contain the delimiter and line breaks, and a doubled quote character within a
+     * quoted value is an escaped quote character.  Carriage returns outside of quoted values are ignored.
      *
      * @param fileRecord a single record from the CSV file store
      * @return an array of column values extracted from the record
@@ -289,77 +382,54 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
             return null;
         }
 
-        List<String> result = new ArrayList<>();
-        StringBuffer currentValue = new StringBuffer();
+        List<String>  result       = new ArrayList<>();
+        StringBuilder currentValue = new StringBuilder();
 
-        boolean inQuotes = false;
-        boolean startCollectingCharacters = false;
-        boolean doubleQuotesInColumn = false;
+        boolean inQuotes      = false;
+        boolean startOfValue  = true;
 
-        char[] characters = fileRecord.toCharArray();
+        int recordLength = fileRecord.length();
 
-        for (char character : characters)
+        for (int index = 0; index < recordLength; index++)
         {
+            char character = fileRecord.charAt(index);
+
             if (inQuotes)
             {
-                startCollectingCharacters = true;
                 if (character == quoteChar)
                 {
-                    inQuotes = false;
-                    doubleQuotesInColumn = false;
-                }
-                else
-                {
-                    if (character == '\"')
-                    {
-                        if (!doubleQuotesInColumn)
-                        {
-                            currentValue.append(character);
-                            doubleQuotesInColumn = true;
-                        }
-                    }
-                    else
+                    if ((index + 1 < recordLength) && (fileRecord.charAt(index + 1) == quoteChar))
                     {
                         currentValue.append(character);
+                        index ++;
                     }
-
-                }
-            }
-            else
-            {
-                if (character == quoteChar)
-                {
-
-                    inQuotes = true;
-
-                    if (characters[0] != '"' && quoteChar == '\"')
-                    {
-                        currentValue.append('"');
-                    }
-
-                    if (startCollectingCharacters)
+                    else
                     {
-                        currentValue.append('"');
+                        inQuotes = false;
                     }
                 }
-                else if (character == delimiterChar)
-                {
-                    result.add(currentValue.toString());
-
-                    currentValue = new StringBuffer();
-                    startCollectingCharacters = false;
-
-                }
-                else if (character == '\n')
-                {
-                    break;
-                }
-                else if (character != '\r')
+                else
                 {
                     currentValue.append(character);
                 }
             }
+            else if ((character == quoteChar) && (startOfValue))
+            {
+                inQuotes = true;
+                startOfValue = false;
+            }
+            else if (character == delimiterChar)
+            {
+                result.add(currentValue.toString());
 
+                currentValue = new StringBuilder();
+                startOfValue = true;
+            }
+            else if (character != '\r')
+            {
+                currentValue.append(character);
+                startOfValue = false;
+            }
         }
 
         result.add(currentValue.toString());
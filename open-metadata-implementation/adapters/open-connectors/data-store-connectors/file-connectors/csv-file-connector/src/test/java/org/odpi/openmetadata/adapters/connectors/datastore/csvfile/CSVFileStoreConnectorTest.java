@@ -165,6 +165,36 @@ public class CSVFileStoreConnectorTest
         }
     }
 
+    @Test public void testQuotedValuesAndPaging()
+    {
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        try
+        {
+            connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(resourcesDirectory + complexColumnsWithColumnNamesFile));
+            connector.start();
+
+            List<String>  columns = connector.readRecord(3);
+            assertTrue("Data Steward, \"New\" Clinical Trials".equals(columns.get(5)));
+            assertTrue("3".equals(columns.get(6)));
+
+            long               recordCount = connector.getRecordCount();
+            List<List<String>> records     = connector.readRecords(2, 1000);
+            assertTrue(records.size() == recordCount - 2);
+
+            for (int i=0; i<records.size(); i++)
+            {
+                assertTrue(records.get(i).equals(connector.readRecord(i + 2)));
+            }
+
+            connector.disconnect();
+        }
+        catch (Throwable  error)
+        {
+            assertTrue(false);
+        }
+    }
+
     @Test public void testUnconventionalFile()
     {
         CSVFileStoreConnector connector = new CSVFileStoreConnector();
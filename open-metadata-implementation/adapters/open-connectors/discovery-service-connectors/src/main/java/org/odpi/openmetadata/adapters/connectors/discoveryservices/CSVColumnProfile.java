@@ -0,0 +1,418 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.discovery.properties.DataProfileAnnotation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSVColumnProfile accumulates the statistics for one column of a CSV file.  A profile is built for each chunk
+ * of records and the profiles for the chunks are merged to give the profile for the whole column.
+ * The memory used by a profile is bounded: distinct values are estimated with a DistinctValueSketch and
+ * the counts are only kept for the most frequent values once the number of distinct values gets large.
+ * This means that the number of distinct values and, for columns with many distinct values, the value counts
+ * are approximate.
+ */
+class CSVColumnProfile
+{
+    static final String STRING_TYPE_NAME  = "string";
+    static final String INT_TYPE_NAME     = "int";
+    static final String LONG_TYPE_NAME    = "long";
+    static final String BOOLEAN_TYPE_NAME = "boolean";
+    static final String FLOAT_TYPE_NAME   = "float";
+
+    private static final String BOOLEAN_UC_TRUE   = "TRUE";
+    private static final String BOOLEAN_LC_TRUE   = "true";
+    private static final String BOOLEAN_UC_FALSE  = "FALSE";
+    private static final String BOOLEAN_LC_FALSE  = "false";
+
+    private static final int maxTrackedValues = 1000;
+    private static final int lengthBuckets    = 33;
+
+    private long                 valueCount          = 0;
+    private long                 nullCount           = 0;
+    private long                 totalValueLength    = 0;
+    private int                  maxValueLength      = 0;
+    private long[]               lengthHistogram     = new long[lengthBuckets];
+    private String               inferredType        = null;
+    private String               minValue            = null;
+    private String               maxValue            = null;
+    private long                 numericCount        = 0;
+    private double               numericSum          = 0;
+    private double               numericMin          = Double.MAX_VALUE;
+    private double               numericMax          = -Double.MAX_VALUE;
+    private DistinctValueSketch  distinctValues      = new DistinctValueSketch();
+    private Map<String, Integer> frequentValues      = new LinkedHashMap<>();
+    private boolean              frequentValuesExact = true;
+
+
+    /**
+     * Add the value from one record to the profile.  An empty value is counted as a null.
+     *
+     * @param value field value from the file
+     */
+    void addValue(String value)
+    {
+        valueCount ++;
+
+        if ((value == null) || (value.isEmpty()))
+        {
+            nullCount ++;
+        }
+
+        String fieldValue = (value == null) ? "" : value;
+        int    length     = fieldValue.length();
+
+        totalValueLength = totalValueLength + length;
+        maxValueLength = Math.max(maxValueLength, length);
+        lengthHistogram[getLengthBucket(length)] ++;
+
+        distinctValues.add(fieldValue);
+        frequentValues.merge(fieldValue, 1, Integer::sum);
+
+        if (frequentValues.size() >= 2 * maxTrackedValues)
+        {
+            trimFrequentValues();
+        }
+
+        if (length > 0)
+        {
+            if ((minValue == null) || (fieldValue.compareTo(minValue) < 0))
+            {
+                minValue = fieldValue;
+            }
+
+            if ((maxValue == null) || (fieldValue.compareTo(maxValue) > 0))
+            {
+                maxValue = fieldValue;
+            }
+
+            String valueType = getValueType(fieldValue);
+
+            inferredType = combineTypes(inferredType, valueType);
+
+            if ((INT_TYPE_NAME.equals(valueType)) || (LONG_TYPE_NAME.equals(valueType)) || (FLOAT_TYPE_NAME.equals(valueType)))
+            {
+                double numericValue = Double.parseDouble(fieldValue);
+
+                numericCount ++;
+                numericSum = numericSum + numericValue;
+                numericMin = Math.min(numericMin, numericValue);
+                numericMax = Math.max(numericMax, numericValue);
+            }
+        }
+    }
+
+
+    /**
+     * Merge the profile of a later chunk of records into this profile.
+     *
+     * @param other profile of the same column from a later chunk
+     */
+    void merge(CSVColumnProfile other)
+    {
+        valueCount = valueCount + other.valueCount;
+        nullCount = nullCount + other.nullCount;
+        totalValueLength = totalValueLength + other.totalValueLength;
+        maxValueLength = Math.max(maxValueLength, other.maxValueLength);
+
+        for (int bucket = 0; bucket < lengthBuckets; bucket++)
+        {
+            lengthHistogram[bucket] = lengthHistogram[bucket] + other.lengthHistogram[bucket];
+        }
+
+        inferredType = combineTypes(inferredType, other.inferredType);
+
+        if ((other.minValue != null) && ((minValue == null) || (other.minValue.compareTo(minValue) < 0)))
+        {
+            minValue = other.minValue;
+        }
+
+        if ((other.maxValue != null) && ((maxValue == null) || (other.maxValue.compareTo(maxValue) > 0)))
+        {
+            maxValue = other.maxValue;
+        }
+
+        numericCount = numericCount + other.numericCount;
+        numericSum = numericSum + other.numericSum;
+        numericMin = Math.min(numericMin, other.numericMin);
+        numericMax = Math.max(numericMax, other.numericMax);
+
+        distinctValues.merge(other.distinctValues);
+
+        for (Map.Entry<String, Integer> entry : other.frequentValues.entrySet())
+        {
+            frequentValues.merge(entry.getKey(), entry.getValue(), Integer::sum);
+        }
+
+        frequentValuesExact = frequentValuesExact && other.frequentValuesExact;
+
+        if (frequentValues.size() > maxTrackedValues)
+        {
+            trimFrequentValues();
+        }
+    }
+
+
+    /**
+     * Return the total length of the values in the column.
+     *
+     * @return number of characters
+     */
+    long getTotalValueLength()
+    {
+        return totalValueLength;
+    }
+
+
+    /**
+     * Return the inferred type of the column.  A column where every value is empty is a string column.
+     *
+     * @return type name or null if the column has no values
+     */
+    String getInferredType()
+    {
+        if ((inferredType == null) && (valueCount > 0))
+        {
+            return STRING_TYPE_NAME;
+        }
+
+        return inferredType;
+    }
+
+
+    /**
+     * Copy the statistics into the data profile annotation.
+     * <p>
+     * The valueCount map is exact while the column has no more than 1000 distinct values.  After that only
+     * the most frequent values are kept and the counts are approximate: a value that was dropped when the
+     * counts were trimmed is counted again from zero if it reappears, so its count may be lower than the true
+     * count and a value that is frequent overall may be missing.  The valueCountComplete profile flag is false
+     * when the counts are approximate.  The distinctValueEstimate profile count is exact while the value counts are
+     * exact, otherwise it is the estimate from the DistinctValueSketch.
+     *
+     * @param dataProfile annotation to fill in
+     */
+    void setAnnotationProperties(DataProfileAnnotation dataProfile)
+    {
+        if (frequentValues.size() > maxTrackedValues)
+        {
+            trimFrequentValues();
+        }
+
+        dataProfile.setLength(maxValueLength);
+        dataProfile.setInferredLength(maxValueLength);
+        dataProfile.setInferredDataType(this.getInferredType());
+        dataProfile.setValueCount(new LinkedHashMap<>(frequentValues));
+        dataProfile.setValueList(new ArrayList<>(frequentValues.keySet()));
+
+        if ((numericCount > 0) && (numericCount == valueCount - nullCount))
+        {
+            if (FLOAT_TYPE_NAME.equals(inferredType))
+            {
+                dataProfile.setValueRangeFrom(Double.toString(numericMin));
+                dataProfile.setValueRangeTo(Double.toString(numericMax));
+            }
+            else
+            {
+                dataProfile.setValueRangeFrom(Long.toString((long)numericMin));
+                dataProfile.setValueRangeTo(Long.toString((long)numericMax));
+            }
+
+            dataProfile.setAverageValue(Double.toString(numericSum / numericCount));
+        }
+        else
+        {
+            dataProfile.setValueRangeFrom(minValue);
+            dataProfile.setValueRangeTo(maxValue);
+        }
+
+        Map<String, Long> profileCounts = new LinkedHashMap<>();
+
+        profileCounts.put("valueCount", valueCount);
+        profileCounts.put("nullCount", nullCount);
+        profileCounts.put("distinctValueEstimate", frequentValuesExact ? frequentValues.size() : distinctValues.getEstimate());
+
+        for (int bucket = 0; bucket < lengthBuckets; bucket++)
+        {
+            if (lengthHistogram[bucket] > 0)
+            {
+                long lowLength  = (bucket == 0) ? 0 : 1L << (bucket - 1);
+                long highLength = (bucket == 0) ? 0 : (1L << bucket) - 1;
+
+                profileCounts.put("valueLength[" + lowLength + "-" + highLength + "]", lengthHistogram[bucket]);
+            }
+        }
+
+        dataProfile.setProfileCounts(profileCounts);
+
+        Map<String, Boolean> profileFlags = new HashMap<>();
+
+        profileFlags.put("valueCountComplete", frequentValuesExact);
+
+        dataProfile.setProfileFlags(profileFlags);
+    }
+
+
+    /**
+     * Keep only the most frequent values.  Once this happens the value counts are no longer exact.
+     */
+    private void trimFrequentValues()
+    {
+        if (frequentValues.size() <= maxTrackedValues)
+        {
+            return;
+        }
+
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(frequentValues.entrySet());
+
+        entries.sort((entry1, entry2) -> entry2.getValue().compareTo(entry1.getValue()));
+
+        Map<String, Integer> keptValues = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Integer> entry : entries.subList(0, maxTrackedValues))
+        {
+            keptValues.put(entry.getKey(), entry.getValue());
+        }
+
+        frequentValues = keptValues;
+        frequentValuesExact = false;
+    }
+
+
+    /**
+     * Return the histogram bucket for a value length.  Bucket 0 is for empty values and bucket n holds lengths
+     * from 2^(n-1) to 2^n - 1.
+     *
+     * @param length value length
+     * @return bucket number
+     */
+    private int getLengthBucket(int length)
+    {
+        return 32 - Integer.numberOfLeadingZeros(length);
+    }
+
+
+    /**
+     * Return the most specific type that the value matches.
+     *
+     * @param value non-empty field value
+     * @return type name
+     */
+    private String getValueType(String value)
+    {
+        if ((BOOLEAN_LC_TRUE.equals(value)) ||
+            (BOOLEAN_UC_TRUE.equals(value)) ||
+            (BOOLEAN_LC_FALSE.equals(value)) ||
+            (BOOLEAN_UC_FALSE.equals(value)))
+        {
+            return BOOLEAN_TYPE_NAME;
+        }
+
+        boolean digitsOnly   = true;
+        boolean numericChars = true;
+
+        for (int index = 0; index < value.length(); index++)
+        {
+            char character = value.charAt(index);
+
+            if ((character < '0') || (character > '9'))
+            {
+                if ((index != 0) || ((character != '-') && (character != '+')))
+                {
+                    digitsOnly = false;
+                }
+
+                if ((character != '.') && (character != '-') && (character != '+') && (character != 'e') && (character != 'E'))
+                {
+                    numericChars = false;
+                    break;
+                }
+            }
+        }
+
+        try
+        {
+            if (digitsOnly)
+            {
+                long longValue = Long.parseLong(value);
+
+                if ((longValue >= Integer.MIN_VALUE) && (longValue <= Integer.MAX_VALUE))
+                {
+                    return INT_TYPE_NAME;
+                }
+
+                return LONG_TYPE_NAME;
+            }
+
+            if (numericChars)
+            {
+                Double.parseDouble(value);
+
+                return FLOAT_TYPE_NAME;
+            }
+        }
+        catch (NumberFormatException notNumeric)
+        {
+            /*
+             * Drop through to string.
+             */
+        }
+
+        return STRING_TYPE_NAME;
+    }
+
+
+    /**
+     * Return the type that covers both of the supplied types.
+     *
+     * @param existingType current type guess (null if no values seen)
+     * @param newType type of the new values (null if no values seen)
+     * @return combined type
+     */
+    private String combineTypes(String existingType,
+                                String newType)
+    {
+        if (existingType == null)
+        {
+            return newType;
+        }
+
+        if ((newType == null) || (existingType.equals(newType)))
+        {
+            return existingType;
+        }
+
+        boolean existingNumeric = isNumericType(existingType);
+        boolean newNumeric      = isNumericType(newType);
+
+        if (existingNumeric && newNumeric)
+        {
+            if ((FLOAT_TYPE_NAME.equals(existingType)) || (FLOAT_TYPE_NAME.equals(newType)))
+            {
+                return FLOAT_TYPE_NAME;
+            }
+
+            return LONG_TYPE_NAME;
+        }
+
+        return STRING_TYPE_NAME;
+    }
+
+
+    /**
+     * Return whether the type is one of the numeric types.
+     *
+     * @param typeName type name
+     * @return boolean flag
+     */
+    private boolean isNumericType(String typeName)
+    {
+        return (INT_TYPE_NAME.equals(typeName)) || (LONG_TYPE_NAME.equals(typeName)) || (FLOAT_TYPE_NAME.equals(typeName));
+    }
+}
@@ -9,7 +9,6 @@ import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
 import org.odpi.openmetadata.frameworks.discovery.ffdc.DiscoveryServiceException;
 import org.odpi.openmetadata.frameworks.discovery.properties.*;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,118 +19,6 @@ import java.util.Map;
  */
 public class CSVDiscoveryService extends AuditableDiscoveryService
 {
-    private final static String STRING_TYPE_NAME  = "string";
-    private final static String CHAR_TYPE_NAME    = "char";
-    private final static String DATE_TYPE_NAME    = "date";
-    private final static String INT_TYPE_NAME     = "int";
-    private final static String LONG_TYPE_NAME    = "long";
-    private final static String BOOLEAN_TYPE_NAME = "boolean";
-    private final static String FLOAT_TYPE_NAME   = "float";
-    private final static String BOOLEAN_UC_TRUE   = "TRUE";
-    private final static String BOOLEAN_LC_TRUE   = "true";
-    private final static String BOOLEAN_UC_FALSE  = "FALSE";
-    private final static String BOOLEAN_LC_FALSE  = "false";
-
-
-
-    /**
-     * Return the best guess for the data field type.
-     *
-     * @param existingType current type guess
-     * @param newFieldValue next field value to process
-     * @return new best guess
-     */
-    private String getDataFieldType(String  existingType, String newFieldValue)
-    {
-        if (STRING_TYPE_NAME.equals(existingType))
-        {
-            return STRING_TYPE_NAME;
-        }
-
-        if (newFieldValue == null)
-        {
-            return existingType;
-        }
-
-        if ((BOOLEAN_LC_TRUE.equals(newFieldValue)) ||
-            (BOOLEAN_UC_TRUE.equals(newFieldValue)) ||
-            (BOOLEAN_LC_FALSE.equals(newFieldValue)) ||
-            (BOOLEAN_UC_FALSE.equals(newFieldValue)))
-
-        {
-            if ((existingType == null) || (existingType.equals(BOOLEAN_TYPE_NAME)))
-            {
-                return BOOLEAN_TYPE_NAME;
-            }
-            else
-            {
-                return STRING_TYPE_NAME;
-            }
-        }
-        return STRING_TYPE_NAME;
-    }
-
-
-    /**
-     * Return the updated value count for this column.
-     *
-     * @param existingValueCount current value count
-     * @param newFieldValue next field value to process
-     * @return new value count
-     */
-    private Map<String, Integer> getValueCount(Map<String, Integer> existingValueCount, String newFieldValue)
-    {
-        if (existingValueCount == null)
-        {
-            Map<String, Integer> newValueCount = new HashMap<>();
-
-            newValueCount.put(newFieldValue, 1);
-
-            return newValueCount;
-        }
-
-        Integer   countForValue = existingValueCount.get(newFieldValue);
-
-        if (countForValue == null)
-        {
-            existingValueCount.put(newFieldValue, 1);
-        }
-        else
-        {
-            existingValueCount.put(newFieldValue, countForValue + 1);
-        }
-
-        return existingValueCount;
-    }
-
-
-    /**
-     * Return the updated value list.
-     *
-     * @param existingValueList existing value list
-     * @param newFieldValue next field value to process
-     * @return updated value list
-     */
-    private List<String> getValueList(List<String> existingValueList, String newFieldValue)
-    {
-        if (existingValueList == null)
-        {
-            List<String> newValueList = new ArrayList<>();
-
-            newValueList.add(newFieldValue);
-
-            return newValueList;
-        }
-
-        if (! existingValueList.contains(newFieldValue))
-        {
-            existingValueList.add(newFieldValue);
-        }
-
-        return existingValueList;
-    }
-
-
     /**
      * Indicates that the discovery service is completely configured and can begin processing.
      *
@@ -163,6 +50,7 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
             List<String>                        columnNames = assetConnector.getColumnNames();
             Map<Integer, DataField>             dataFields  = new HashMap<>();
             Map<Integer, DataProfileAnnotation> dataProfiles  = new HashMap<>();
+            Map<String, String>                 measurementProperties = new HashMap<>();
 
             if (columnNames != null)
             {
@@ -194,35 +82,27 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
                 size = size + delimiterCount;
 
-                for (int recordNumber=0; recordNumber < recordCount ; recordNumber++)
-                {
-                    List<String>  recordValues = assetConnector.readRecord(recordNumber);
-
-                    if ((recordValues != null) && (! recordValues.isEmpty()))
-                    {
-                        int columnPosition = 0;
-                        int recordLength = 0;
-
-                        for (String fieldValue : recordValues)
-                        {
-                            DataField             dataField   = dataFields.get(columnPosition);
-                            DataProfileAnnotation dataProfile = dataProfiles.get(columnPosition);
-
-                            dataField.setDataFieldType(this.getDataFieldType(dataField.getDataFieldType(), fieldValue));
+                /*
+                 * All of the records are profiled in a single pass of the file.
+                 */
+                CSVProfilingEngine     profilingEngine = new CSVProfilingEngine(assetConnector, dataFields.size());
+                List<CSVColumnProfile> columnProfiles  = profilingEngine.profile(recordCount);
 
-                            dataProfile.setValueCount(this.getValueCount(dataProfile.getValueCount(), fieldValue));
-                            dataProfile.setValueList(this.getValueList(dataProfile.getValueList(), fieldValue));
+                for (int columnNumber=0 ; columnNumber < dataFields.size(); columnNumber++)
+                {
+                    CSVColumnProfile columnProfile = columnProfiles.get(columnNumber);
 
-                            recordLength = recordLength + fieldValue.length();
+                    dataFields.get(columnNumber).setDataFieldType(columnProfile.getInferredType());
+                    columnProfile.setAnnotationProperties(dataProfiles.get(columnNumber));
+                }
 
-                            columnPosition++;
-                        }
+                size = size + (int)(profilingEngine.getTotalValueLength() + (profilingEngine.getRecordsProfiled() * delimiterCount));
 
-                        size = size + recordLength + delimiterCount;
-                    }
-                }
+                measurementProperties.put("ProfiledRecordCount", Long.toString(profilingEngine.getRecordsProfiled()));
+                measurementProperties.put("ProfilingTimeMillis", Long.toString(profilingEngine.getElapsedTime()));
+                measurementProperties.put("ProfilingRecordsPerSecond", Long.toString(profilingEngine.getRecordsPerSecond()));
 
-                for (int columnNumber=0 ; columnNumber < columnNames.size(); columnNumber++)
+                for (int columnNumber=0 ; columnNumber < dataFields.size(); columnNumber++)
                 {
                     String  dataFieldGUID = annotationStore.addDataFieldToDiscoveryReport(schemaAnnotationGUID, dataFields.get(columnNumber));
 
@@ -231,7 +111,6 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
             }
 
             DataSourcePhysicalStatusAnnotation measurementAnnotation = new DataSourcePhysicalStatusAnnotation();
-            Map<String, String>                measurementProperties = new HashMap<>();
 
             measurementProperties.put("FileName", assetConnector.getFileName());
             measurementProperties.put("RecordCount", Long.toString(recordCount));
@@ -0,0 +1,277 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.adapters.connectors.datastore.basicfile.ffdc.exception.FileException;
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.CSVFileStore;
+import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.ffdc.exception.FileReadException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * CSVProfilingEngine profiles the columns of a CSV file in a single pass.  The records are divided into chunks
+ * that are read and profiled in parallel on a fork-join pool.  The profiles of the chunks are then merged.
+ * Only the chunks that are being processed are held in memory so large files can be profiled.
+ */
+class CSVProfilingEngine
+{
+    private static final int defaultChunkSize = 2048;
+
+    private final CSVFileStore assetConnector;
+    private final int          columnCount;
+    private final int          chunkSize;
+    private final int          parallelism;
+
+    private long recordsProfiled  = 0;
+    private long totalValueLength = 0;
+    private long elapsedTime      = 0;
+
+
+    /**
+     * Constructor.
+     *
+     * @param assetConnector connector to the CSV file
+     * @param columnCount number of columns to profile
+     */
+    CSVProfilingEngine(CSVFileStore assetConnector,
+                       int          columnCount)
+    {
+        this(assetConnector, columnCount, defaultChunkSize, Runtime.getRuntime().availableProcessors());
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param assetConnector connector to the CSV file
+     * @param columnCount number of columns to profile
+     * @param chunkSize number of records read and profiled by each task
+     * @param parallelism number of threads to use
+     */
+    CSVProfilingEngine(CSVFileStore assetConnector,
+                       int          columnCount,
+                       int          chunkSize,
+                       int          parallelism)
+    {
+        this.assetConnector = assetConnector;
+        this.columnCount = columnCount;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.parallelism = Math.max(parallelism, 1);
+    }
+
+
+    /**
+     * Profile the requested records.
+     *
+     * @param recordCount number of records in the file
+     * @return one profile for each column
+     * @throws FileException problem accessing the file
+     * @throws FileReadException problem reading the file
+     */
+    List<CSVColumnProfile> profile(long recordCount) throws FileException, FileReadException
+    {
+        long         startTime = System.currentTimeMillis();
+        ForkJoinPool pool      = new ForkJoinPool(parallelism);
+
+        try
+        {
+            ChunkProfile result = pool.invoke(new ChunkTask(0, recordCount));
+
+            recordsProfiled = result.recordCount;
+
+            for (CSVColumnProfile columnProfile : result.columnProfiles)
+            {
+                totalValueLength = totalValueLength + columnProfile.getTotalValueLength();
+            }
+
+            return result.columnProfiles;
+        }
+        catch (ChunkReadException error)
+        {
+            if (error.getCause() instanceof FileReadException)
+            {
+                throw (FileReadException)error.getCause();
+            }
+
+            throw (FileException)error.getCause();
+        }
+        finally
+        {
+            pool.shutdown();
+            elapsedTime = System.currentTimeMillis() - startTime;
+        }
+    }
+
+
+    /**
+     * Return the number of non-empty records that were profiled.
+     *
+     * @return count
+     */
+    long getRecordsProfiled()
+    {
+        return recordsProfiled;
+    }
+
+
+    /**
+     * Return the total length of all of the values profiled.
+     *
+     * @return number of characters
+     */
+    long getTotalValueLength()
+    {
+        return totalValueLength;
+    }
+
+
+    /**
+     * Return the time taken to profile the file.
+     *
+     * @return milliseconds
+     */
+    long getElapsedTime()
+    {
+        return elapsedTime;
+    }
+
+
+    /**
+     * Return the rate that records were profiled.
+     *
+     * @return records per second
+     */
+    long getRecordsPerSecond()
+    {
+        return (recordsProfiled * 1000) / Math.max(elapsedTime, 1);
+    }
+
+
+    /**
+     * Profile of a contiguous range of records.
+     */
+    private static class ChunkProfile
+    {
+        private final List<CSVColumnProfile> columnProfiles = new ArrayList<>();
+        private long                         recordCount    = 0;
+    }
+
+
+    /**
+     * Carries the checked exceptions from the connector out of the fork-join tasks.
+     */
+    private static class ChunkReadException extends RuntimeException
+    {
+        private static final long serialVersionUID = 1L;
+
+        ChunkReadException(Exception cause)
+        {
+            super(cause);
+        }
+    }
+
+
+    /**
+     * Task that profiles a range of records - either directly if the range is small enough, or by splitting
+     * the range in two and merging the results.
+     */
+    private class ChunkTask extends RecursiveTask<ChunkProfile>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final long startRecord;
+        private final long endRecord;
+
+
+        ChunkTask(long startRecord,
+                  long endRecord)
+        {
+            this.startRecord = startRecord;
+            this.endRecord = endRecord;
+        }
+
+
+        @Override
+        protected ChunkProfile compute()
+        {
+            if (endRecord - startRecord <= chunkSize)
+            {
+                return profileChunk();
+            }
+
+            long      midRecord = startRecord + (endRecord - startRecord) / 2;
+            ChunkTask leftTask  = new ChunkTask(startRecord, midRecord);
+            ChunkTask rightTask = new ChunkTask(midRecord, endRecord);
+
+            rightTask.fork();
+
+            ChunkProfile leftProfile  = leftTask.compute();
+            ChunkProfile rightProfile = rightTask.join();
+
+            /*
+             * The left range comes first in the file so merging right into left keeps the values in file order.
+             */
+            for (int column = 0; column < columnCount; column++)
+            {
+                leftProfile.columnProfiles.get(column).merge(rightProfile.columnProfiles.get(column));
+            }
+
+            leftProfile.recordCount = leftProfile.recordCount + rightProfile.recordCount;
+
+            return leftProfile;
+        }
+
+
+        /**
+         * Read and profile the records in this task's range.
+         *
+         * @return profile
+         */
+        private ChunkProfile profileChunk()
+        {
+            ChunkProfile chunkProfile = new ChunkProfile();
+
+            for (int column = 0; column < columnCount; column++)
+            {
+                chunkProfile.columnProfiles.add(new CSVColumnProfile());
+            }
+
+            if (endRecord > startRecord)
+            {
+                try
+                {
+                    List<List<String>> records = assetConnector.readRecords((int)startRecord, (int)(endRecord - startRecord));
+
+                    for (List<String> recordValues : records)
+                    {
+                        if ((recordValues != null) && (! recordValues.isEmpty()))
+                        {
+                            int columnPosition = 0;
+
+                            for (String fieldValue : recordValues)
+                            {
+                                if (columnPosition < columnCount)
+                                {
+                                    chunkProfile.columnProfiles.get(columnPosition).addValue(fieldValue);
+                                }
+
+                                columnPosition++;
+                            }
+
+                            chunkProfile.recordCount ++;
+                        }
+                    }
+                }
+                catch (FileException | FileReadException error)
+                {
+                    throw new ChunkReadException(error);
+                }
+            }
+
+            return chunkProfile;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+/**
+ * DistinctValueSketch estimates the number of distinct values in a column using the HyperLogLog algorithm.
+ * It uses a fixed amount of memory however many values are added, and two sketches can be merged
+ * so that the values from different parts of a file can be counted in parallel.
+ * <p>
+ * The sketch has 2048 registers, so the standard error of the estimate is about 2.3% (1.04 / sqrt(2048)).
+ * Small numbers of values are estimated with linear counting, which is close to exact.  Merging sketches
+ * gives the same estimate as adding all of the values to one sketch.
+ */
+class DistinctValueSketch
+{
+    private static final int precision     = 11;
+    private static final int registerCount = 1 << precision;
+
+    private final byte[] registers = new byte[registerCount];
+
+
+    /**
+     * Add a value to the sketch.
+     *
+     * @param value value to add
+     */
+    void add(String value)
+    {
+        long hash          = hash(value);
+        int  registerIndex = (int)(hash >>> (64 - precision));
+        int  rank          = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+
+        if (rank > registers[registerIndex])
+        {
+            registers[registerIndex] = (byte)rank;
+        }
+    }
+
+
+    /**
+     * Add the values counted by another sketch into this sketch.
+     *
+     * @param other sketch to merge
+     */
+    void merge(DistinctValueSketch other)
+    {
+        for (int index = 0; index < registerCount; index++)
+        {
+            if (other.registers[index] > registers[index])
+            {
+                registers[index] = other.registers[index];
+            }
+        }
+    }
+
+
+    /**
+     * Return the estimated number of distinct values added to the sketch.
+     *
+     * @return estimate
+     */
+    long getEstimate()
+    {
+        double sum        = 0;
+        int    zeroCount  = 0;
+
+        for (byte register : registers)
+        {
+            sum = sum + 1.0 / (1L << register);
+
+            if (register == 0)
+            {
+                zeroCount ++;
+            }
+        }
+
+        double alpha    = 0.7213 / (1 + 1.079 / registerCount);
+        double estimate = alpha * registerCount * registerCount / sum;
+
+        /*
+         * Linear counting gives a better estimate for small numbers of values.
+         */
+        if ((estimate <= 2.5 * registerCount) && (zeroCount > 0))
+        {
+            estimate = registerCount * Math.log((double)registerCount / zeroCount);
+        }
+
+        return Math.round(estimate);
+    }
+
+
+    /**
+     * Return a 64-bit hash of the value (FNV-1a followed by a mixing step).
+     *
+     * @param value value to hash
+     * @return hash code
+     */
+    private static long hash(String value)
+    {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int index = 0; index < value.length(); index++)
+        {
+            hash = (hash ^ value.charAt(index)) * 0x100000001b3L;
+        }
+
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,200 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.discovery.properties.DataProfileAnnotation;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * CSVColumnProfileTest checks the type inference, the statistics and the merging of column profiles.
+ */
+public class CSVColumnProfileTest
+{
+    /**
+     * Return a profile for the supplied values.
+     *
+     * @param values field values
+     * @return profile
+     */
+    private CSVColumnProfile getProfile(String... values)
+    {
+        return getProfile(Arrays.asList(values));
+    }
+
+
+    /**
+     * Return a profile for the supplied values.
+     *
+     * @param values field values
+     * @return profile
+     */
+    private CSVColumnProfile getProfile(List<String> values)
+    {
+        CSVColumnProfile profile = new CSVColumnProfile();
+
+        for (String value : values)
+        {
+            profile.addValue(value);
+        }
+
+        return profile;
+    }
+
+
+    /**
+     * Return the annotation filled in from the profile.
+     *
+     * @param profile profile
+     * @return annotation
+     */
+    private DataProfileAnnotation getAnnotation(CSVColumnProfile profile)
+    {
+        DataProfileAnnotation annotation = new DataProfileAnnotation();
+
+        profile.setAnnotationProperties(annotation);
+
+        return annotation;
+    }
+
+
+    /**
+     * The type is the most specific type that covers all of the non-empty values.
+     */
+    @Test public void testTypeInference()
+    {
+        assertEquals(getProfile("true", "FALSE", "").getInferredType(), CSVColumnProfile.BOOLEAN_TYPE_NAME);
+        assertEquals(getProfile("1", "-20", "+300").getInferredType(), CSVColumnProfile.INT_TYPE_NAME);
+        assertEquals(getProfile("1", "9999999999").getInferredType(), CSVColumnProfile.LONG_TYPE_NAME);
+        assertEquals(getProfile("1.5", "-2e3").getInferredType(), CSVColumnProfile.FLOAT_TYPE_NAME);
+        assertEquals(getProfile("1", "2.5").getInferredType(), CSVColumnProfile.FLOAT_TYPE_NAME);
+        assertEquals(getProfile("1", "true").getInferredType(), CSVColumnProfile.STRING_TYPE_NAME);
+        assertEquals(getProfile("1", "abc").getInferredType(), CSVColumnProfile.STRING_TYPE_NAME);
+        assertEquals(getProfile("1-2").getInferredType(), CSVColumnProfile.STRING_TYPE_NAME);
+        assertEquals(getProfile("e").getInferredType(), CSVColumnProfile.STRING_TYPE_NAME);
+        assertEquals(getProfile("99999999999999999999").getInferredType(), CSVColumnProfile.STRING_TYPE_NAME);
+    }
+
+
+    /**
+     * A column where all of the values are empty is a string column, and a column with no values has no type.
+     */
+    @Test public void testEmptyColumn()
+    {
+        CSVColumnProfile emptyValues = getProfile("", null, "");
+
+        assertEquals(emptyValues.getInferredType(), CSVColumnProfile.STRING_TYPE_NAME);
+        assertEquals(getAnnotation(emptyValues).getInferredDataType(), CSVColumnProfile.STRING_TYPE_NAME);
+        assertEquals(getAnnotation(emptyValues).getProfileCounts().get("nullCount"), Long.valueOf(3));
+
+        assertNull(new CSVColumnProfile().getInferredType());
+    }
+
+
+    /**
+     * The statistics for a numeric column.
+     */
+    @Test public void testNumericStatistics()
+    {
+        DataProfileAnnotation annotation = getAnnotation(getProfile("10", "2", "", "30", "2"));
+
+        assertEquals(annotation.getInferredDataType(), CSVColumnProfile.INT_TYPE_NAME);
+        assertEquals(annotation.getValueRangeFrom(), "2");
+        assertEquals(annotation.getValueRangeTo(), "30");
+        assertEquals(annotation.getAverageValue(), "11.0");
+        assertEquals(annotation.getLength(), 2);
+        assertEquals(annotation.getValueCount().get("2"), Integer.valueOf(2));
+        assertEquals(annotation.getProfileCounts().get("valueCount"), Long.valueOf(5));
+        assertEquals(annotation.getProfileCounts().get("nullCount"), Long.valueOf(1));
+        assertEquals(annotation.getProfileCounts().get("distinctValueEstimate"), Long.valueOf(4));
+        assertEquals(annotation.getProfileCounts().get("valueLength[0-0]"), Long.valueOf(1));
+        assertEquals(annotation.getProfileCounts().get("valueLength[1-1]"), Long.valueOf(2));
+        assertEquals(annotation.getProfileCounts().get("valueLength[2-3]"), Long.valueOf(2));
+        assertTrue(annotation.getProfileFlags().get("valueCountComplete"));
+    }
+
+
+    /**
+     * Merging the profiles of consecutive chunks gives the same results as profiling all of the values together.
+     */
+    @Test public void testMerge()
+    {
+        List<String> values = new ArrayList<>();
+
+        for (int index = 0; index < 3000; index++)
+        {
+            values.add(Integer.toString(index % 500));
+        }
+
+        values.add("");
+        values.add("2.5");
+
+        CSVColumnProfile merged = getProfile(values.subList(0, 1000));
+
+        merged.merge(getProfile(values.subList(1000, 2999)));
+        merged.merge(getProfile(values.subList(2999, values.size())));
+
+        DataProfileAnnotation expected = getAnnotation(getProfile(values));
+        DataProfileAnnotation actual   = getAnnotation(merged);
+
+        assertEquals(actual.getInferredDataType(), CSVColumnProfile.FLOAT_TYPE_NAME);
+        assertEquals(actual.getInferredDataType(), expected.getInferredDataType());
+        assertEquals(actual.getValueRangeFrom(), expected.getValueRangeFrom());
+        assertEquals(actual.getValueRangeTo(), expected.getValueRangeTo());
+        assertEquals(actual.getAverageValue(), expected.getAverageValue());
+        assertEquals(actual.getLength(), expected.getLength());
+        assertEquals(actual.getValueCount(), expected.getValueCount());
+        assertEquals(actual.getValueList(), expected.getValueList());
+        assertEquals(actual.getProfileCounts(), expected.getProfileCounts());
+        assertEquals(actual.getProfileFlags(), expected.getProfileFlags());
+    }
+
+
+    /**
+     * Merging a profile for a chunk with only empty values does not change the type of the column.
+     */
+    @Test public void testMergeEmptyChunk()
+    {
+        CSVColumnProfile merged = getProfile("", "");
+
+        merged.merge(getProfile("true"));
+        merged.merge(getProfile(""));
+
+        assertEquals(merged.getInferredType(), CSVColumnProfile.BOOLEAN_TYPE_NAME);
+    }
+
+
+    /**
+     * Once there are too many distinct values, only the most frequent values are counted and the counts are
+     * flagged as approximate.  The number of distinct values comes from the sketch.
+     */
+    @Test public void testApproximateValueCounts()
+    {
+        CSVColumnProfile profile = new CSVColumnProfile();
+
+        for (int index = 0; index < 5000; index++)
+        {
+            profile.addValue("frequent");
+            profile.addValue("value" + index);
+        }
+
+        DataProfileAnnotation annotation = getAnnotation(profile);
+
+        assertFalse(annotation.getProfileFlags().get("valueCountComplete"));
+        assertTrue(annotation.getValueCount().size() <= 1000);
+        assertEquals(annotation.getValueCount().get("frequent"), Integer.valueOf(5000));
+
+        long estimate = annotation.getProfileCounts().get("distinctValueEstimate");
+
+        assertTrue(Math.abs(estimate - 5001) <= 5001 * 0.1, "Estimate " + estimate);
+    }
+}
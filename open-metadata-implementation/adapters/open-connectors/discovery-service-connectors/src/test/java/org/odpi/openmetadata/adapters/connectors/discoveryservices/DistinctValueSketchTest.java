@@ -0,0 +1,143 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * DistinctValueSketchTest checks the error of the distinct value estimate and the merging of sketches.
+ */
+public class DistinctValueSketchTest
+{
+    /*
+     * Four times the standard error of the sketch (1.04 / sqrt(2048)).
+     */
+    private static final double maxRelativeError = 4 * 1.04 / Math.sqrt(2048);
+
+
+    /**
+     * Return a sketch holding the values from startValue (inclusive) to endValue (exclusive).
+     *
+     * @param startValue first value
+     * @param endValue value after the last value
+     * @return sketch
+     */
+    private DistinctValueSketch getSketch(int startValue,
+                                          int endValue)
+    {
+        DistinctValueSketch sketch = new DistinctValueSketch();
+
+        for (int value = startValue; value < endValue; value++)
+        {
+            sketch.add("value" + value);
+        }
+
+        return sketch;
+    }
+
+
+    /**
+     * Check that the estimate is within the expected error of the actual count.
+     *
+     * @param estimate estimate from the sketch
+     * @param actualCount number of distinct values added
+     * @param maxError allowed relative error
+     */
+    private void assertWithinError(long   estimate,
+                                   long   actualCount,
+                                   double maxError)
+    {
+        double error = Math.abs(estimate - actualCount) / (double)actualCount;
+
+        assertTrue(error <= maxError, "Estimate " + estimate + " for " + actualCount + " values has error " + error);
+    }
+
+
+    /**
+     * An empty sketch estimates no values.
+     */
+    @Test public void testEmptySketch()
+    {
+        assertEquals(new DistinctValueSketch().getEstimate(), 0);
+    }
+
+
+    /**
+     * Small numbers of values are estimated with linear counting, which is close to exact.
+     */
+    @Test public void testSmallCounts()
+    {
+        for (int count : new int[]{1, 10, 100, 1000})
+        {
+            assertWithinError(getSketch(0, count).getEstimate(), count, 0.02);
+        }
+    }
+
+
+    /**
+     * Large numbers of values are estimated within the error bound of the sketch.
+     */
+    @Test public void testLargeCounts()
+    {
+        for (int count : new int[]{10000, 100000, 1000000})
+        {
+            assertWithinError(getSketch(0, count).getEstimate(), count, maxRelativeError);
+        }
+    }
+
+
+    /**
+     * Repeated values do not change the estimate.
+     */
+    @Test public void testRepeatedValues()
+    {
+        DistinctValueSketch sketch = getSketch(0, 5000);
+        long                estimate = sketch.getEstimate();
+
+        for (int repeat = 0; repeat < 10; repeat++)
+        {
+            for (int value = 0; value < 5000; value++)
+            {
+                sketch.add("value" + value);
+            }
+        }
+
+        assertEquals(sketch.getEstimate(), estimate);
+    }
+
+
+    /**
+     * Merging the sketches for different parts of the values gives the same estimate as a single sketch
+     * for all of the values, and the parts may overlap.
+     */
+    @Test public void testMerge()
+    {
+        DistinctValueSketch allValues = getSketch(0, 50000);
+        DistinctValueSketch merged    = getSketch(0, 20000);
+
+        merged.merge(getSketch(15000, 40000));
+        merged.merge(getSketch(40000, 50000));
+
+        assertEquals(merged.getEstimate(), allValues.getEstimate());
+        assertWithinError(merged.getEstimate(), 50000, maxRelativeError);
+    }
+
+
+    /**
+     * Merging a sketch with itself or an empty sketch does not change the estimate.
+     */
+    @Test public void testMergeIdempotent()
+    {
+        DistinctValueSketch sketch   = getSketch(0, 30000);
+        long                estimate = sketch.getEstimate();
+
+        sketch.merge(getSketch(0, 30000));
+        sketch.merge(new DistinctValueSketch());
+
+        assertEquals(sketch.getEstimate(), estimate);
+    }
+}
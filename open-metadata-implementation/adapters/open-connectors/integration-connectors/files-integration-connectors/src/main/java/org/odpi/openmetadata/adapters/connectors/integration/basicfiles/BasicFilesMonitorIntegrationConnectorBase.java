@@ -16,10 +16,15 @@ import org.odpi.openmetadata.frameworks.auditlog.messagesets.ExceptionMessageDef
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.integrationservices.files.connector.FileChangeBatcher;
+import org.odpi.openmetadata.integrationservices.files.connector.FileChangeProcessor;
+import org.odpi.openmetadata.integrationservices.files.connector.FileChangeType;
 import org.odpi.openmetadata.integrationservices.files.connector.FilesIntegratorConnector;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 
@@ -39,7 +44,16 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
 
     private Map<String, FileAlterationMonitor> monitors = new HashMap<>();
 
-    private static int POLL_INTERVAL = 500; // milliseconds
+    private boolean          useWatchService  = false;
+    private DirectoryWatcher directoryWatcher = null;
+
+    private FileChangeBatcher           fileChangeBatcher = null;
+    private Map<String, FileChangeType> failedFileChanges = new LinkedHashMap<>();
+
+    private static int POLL_INTERVAL           = 500;    // milliseconds
+    private static int RECONCILIATION_INTERVAL = 300000; // milliseconds
+    private static int BATCH_WINDOW            = 1000;   // milliseconds
+    private static int MAX_BATCH_SIZE          = 1000;
 
 
     /**
@@ -69,7 +83,19 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
                 allowCatalogDelete = true;
             }
 
-            templateQualifiedName = configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY).toString();
+            Object monitorMode = configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.MONITOR_MODE_CONFIGURATION_PROPERTY);
+
+            if ((monitorMode != null) && (BasicFilesMonitorIntegrationProviderBase.WATCH_MONITOR_MODE.equalsIgnoreCase(monitorMode.toString())))
+            {
+                useWatchService = true;
+            }
+
+            Object templateQualifiedNameProperty = configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
+
+            if (templateQualifiedNameProperty != null)
+            {
+                templateQualifiedName = templateQualifiedNameProperty.toString();
+            }
         }
     }
 
@@ -99,6 +125,18 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
                                                                                                                       templateQualifiedName));
         }
 
+        /*
+         * Changes detected by the listener are catalogued in batches.
+         */
+        synchronized (this)
+        {
+            fileChangeBatcher = new FileChangeBatcher(connectorName,
+                                                      new BatchProcessor(),
+                                                      BATCH_WINDOW,
+                                                      MAX_BATCH_SIZE,
+                                                      this.getFileChangeWorkerCount());
+        }
+
         /*
          * Start listening
          */
@@ -297,7 +335,8 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
 
     /**
      * Register a listener for a particular directory (folder).  This results in events whenever there are changes to the files and
-     * folders immediately in this directory.
+     * folders immediately in this directory.  When the connector is configured to use the file system's watch service, a single
+     * watcher covers the whole directory tree and the polling monitor is only used if the watch service is not available.
      *
      * @param directory directory to monitor
      * @param methodName calling method
@@ -305,6 +344,22 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     synchronized void initiateDirectoryMonitoring(File   directory,
                                                   String methodName)
     {
+        if (useWatchService)
+        {
+            if (directoryWatcher != null)
+            {
+                /*
+                 * The watcher registers new subdirectories itself.
+                 */
+                return;
+            }
+
+            if (this.initiateDirectoryWatching(directory, methodName))
+            {
+                return;
+            }
+        }
+
         FileAlterationObserver observer = new FileAlterationObserver(fileDirectoryName);
         FileAlterationMonitor  monitor  = new FileAlterationMonitor(POLL_INTERVAL);
         FileAlterationListener listener = this.getListener();
@@ -340,6 +395,48 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     }
 
 
+    /**
+     * Start a watcher for the directory tree using the file system's watch service.
+     *
+     * @param directory root directory to monitor
+     * @param methodName calling method
+     * @return true if the watcher started; false if the connector must poll the directory instead
+     */
+    private boolean initiateDirectoryWatching(File   directory,
+                                              String methodName)
+    {
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                BasicFilesIntegrationConnectorsAuditCode.DIRECTORY_WATCHING_STARTING.getMessageDefinition(connectorName,
+                                                                                                                          directory.getAbsolutePath()));
+        }
+
+        try
+        {
+            DirectoryWatcher watcher = new DirectoryWatcher(directory, this.getListener(), POLL_INTERVAL, RECONCILIATION_INTERVAL);
+
+            watcher.start();
+            directoryWatcher = watcher;
+
+            return true;
+        }
+        catch (IOException | UnsupportedOperationException error)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    BasicFilesIntegrationConnectorsAuditCode.WATCH_SERVICE_UNAVAILABLE.getMessageDefinition(connectorName,
+                                                                                                                            directory.getAbsolutePath(),
+                                                                                                                            error.getClass().getName(),
+                                                                                                                            error.getMessage()));
+            }
+
+            return false;
+        }
+    }
+
+
     /**
      * Set up the file listener class - this is implemented by the subclasses
      *
@@ -348,6 +445,138 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     abstract FileAlterationListenerAdaptor getListener();
 
 
+    /**
+     * Catalog a batch of file changes - this is implemented by the subclasses.
+     *
+     * @param changes map of absolute path names to the type of change
+     */
+    abstract void processFileChanges(Map<String, FileChangeType> changes);
+
+
+    /**
+     * Return the number of threads used to process each batch of file changes.  The subclasses override this
+     * method if the changes to different files can be catalogued in parallel.
+     *
+     * @return thread count
+     */
+    int getFileChangeWorkerCount()
+    {
+        return 1;
+    }
+
+
+    /**
+     * Record a change to a file.  It is passed to processFileChanges with the other changes that occur within the
+     * batch window.  If the connector has not started, the change is processed immediately.
+     *
+     * @param file file that has changed
+     * @param changeType type of change
+     */
+    void recordFileChange(File           file,
+                          FileChangeType changeType)
+    {
+        FileChangeBatcher batcher = this.getFileChangeBatcher();
+
+        if (batcher != null)
+        {
+            batcher.addChange(file.getAbsolutePath(), changeType);
+        }
+        else
+        {
+            Map<String, FileChangeType> changes = new HashMap<>();
+
+            changes.put(file.getAbsolutePath(), changeType);
+            this.processFileChanges(changes);
+        }
+    }
+
+
+    /**
+     * Process any changes that are waiting for the end of the batch window.
+     */
+    void flushFileChanges()
+    {
+        FileChangeBatcher batcher = this.getFileChangeBatcher();
+
+        if (batcher != null)
+        {
+            batcher.flush();
+        }
+    }
+
+
+    /**
+     * Pass the file changes that failed in an earlier batch to the batcher again.  This is called at the start
+     * of a refresh so that the changes are catalogued with the refresh's sweep of the directory.
+     */
+    void retryFailedFileChanges()
+    {
+        Map<String, FileChangeType> changes;
+
+        synchronized (failedFileChanges)
+        {
+            changes = new LinkedHashMap<>(failedFileChanges);
+            failedFileChanges.clear();
+        }
+
+        for (Map.Entry<String, FileChangeType> change : changes.entrySet())
+        {
+            this.recordFileChange(new File(change.getKey()), change.getValue());
+        }
+    }
+
+
+    /**
+     * Log a batch of file changes that could not be catalogued and save them so they are retried at the next refresh.
+     *
+     * @param changes map of absolute path names to the type of change
+     * @param error exception from processFileChanges
+     */
+    private void recordFailedFileChanges(Map<String, FileChangeType> changes,
+                                         RuntimeException            error)
+    {
+        final String methodName = "recordFailedFileChanges";
+
+        synchronized (failedFileChanges)
+        {
+            for (Map.Entry<String, FileChangeType> change : changes.entrySet())
+            {
+                FileChangeType existingChange = failedFileChanges.get(change.getKey());
+
+                /*
+                 * A file that is still new to the catalog is retried as a new file.
+                 */
+                if ((existingChange != FileChangeType.CREATED) || (change.getValue() != FileChangeType.CHANGED))
+                {
+                    failedFileChanges.put(change.getKey(), change.getValue());
+                }
+            }
+        }
+
+        if (auditLog != null)
+        {
+            auditLog.logException(methodName,
+                                  BasicFilesIntegrationConnectorsAuditCode.FILE_CHANGES_FAILED.getMessageDefinition(connectorName,
+                                                                                                                    Integer.toString(changes.size()),
+                                                                                                                    error.getClass().getName(),
+                                                                                                                    error.getMessage(),
+                                                                                                                    changes.keySet().toString()),
+                                  error);
+        }
+    }
+
+
+    /**
+     * Return the batcher for file changes.
+     *
+     * @return batcher or null if the connector is not started
+     */
+    private synchronized FileChangeBatcher getFileChangeBatcher()
+    {
+        return fileChangeBatcher;
+    }
+
+
     synchronized void stopDirectoryMonitoring(String fileName,
                                               String methodName)
     {
@@ -399,6 +628,45 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
             this.stopDirectoryMonitoring(fileName, methodName);
         }
 
+        synchronized (this)
+        {
+            if (directoryWatcher != null)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logMessage(methodName,
+                                        BasicFilesIntegrationConnectorsAuditCode.DIRECTORY_MONITORING_STOPPING.getMessageDefinition(connectorName,
+                                                                                                                                    fileDirectoryName));
+                }
+
+                directoryWatcher.stop(POLL_INTERVAL * 2);
+                directoryWatcher = null;
+            }
+        }
+
+        FileChangeBatcher batcher = this.getFileChangeBatcher();
+
+        if (batcher != null)
+        {
+            batcher.shutdown();
+
+            synchronized (this)
+            {
+                fileChangeBatcher = null;
+            }
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    BasicFilesIntegrationConnectorsAuditCode.FILE_CHANGE_THROUGHPUT.getMessageDefinition(connectorName,
+                                                                                                                         Long.toString(batcher.getChangesProcessed()),
+                                                                                                                         Long.toString(batcher.getChangesReceived()),
+                                                                                                                         Long.toString(batcher.getChangesCoalesced()),
+                                                                                                                         Long.toString(batcher.getBatchesProcessed()),
+                                                                                                                         Long.toString(batcher.getChangesPerSecond())));
+            }
+        }
+
         if (auditLog != null)
         {
             auditLog.logMessage(methodName,
@@ -407,4 +675,36 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
 
         super.disconnect();
     }
+
+
+    /**
+     * Passes the batches of file changes from the batcher to the connector.
+     */
+    private class BatchProcessor implements FileChangeProcessor
+    {
+        /**
+         * Catalog a batch of changes.
+         *
+         * @param changes map of absolute path names to the type of change
+         */
+        @Override
+        public void processChanges(Map<String, FileChangeType> changes)
+        {
+            processFileChanges(changes);
+        }
+
+
+        /**
+         * Log the changes that could not be catalogued and save them for the next refresh.
+         *
+         * @param changes map of absolute path names to the type of change that were not processed
+         * @param error exception returned by processChanges
+         */
+        @Override
+        public void processFailedChanges(Map<String, FileChangeType> changes,
+                                         RuntimeException            error)
+        {
+            recordFailedFileChanges(changes, error);
+        }
+    }
 }
@@ -17,6 +17,8 @@ class BasicFilesMonitorIntegrationProviderBase extends ConnectorProviderBase
 {
     static String TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY = "templateQualifiedName";
     static String ALLOW_CATALOG_DELETE_CONFIGURATION_PROPERTY    = "allowCatalogDelete";
+    static String MONITOR_MODE_CONFIGURATION_PROPERTY            = "monitorMode";
+    static String WATCH_MONITOR_MODE                             = "watch";
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -48,6 +50,7 @@ class BasicFilesMonitorIntegrationProviderBase extends ConnectorProviderBase
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
         recognizedConfigurationProperties.add(ALLOW_CATALOG_DELETE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MONITOR_MODE_CONFIGURATION_PROPERTY);
 
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
@@ -13,6 +13,7 @@ import org.odpi.openmetadata.adapters.connectors.integration.basicfiles.ffdc.Bas
 import org.odpi.openmetadata.adapters.connectors.integration.basicfiles.ffdc.BasicFilesIntegrationConnectorsErrorCode;
 import org.odpi.openmetadata.adapters.connectors.integration.basicfiles.ffdc.exception.FileException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.integrationservices.files.connector.FileChangeType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,7 +28,9 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
 {
     private static final Logger log = LoggerFactory.getLogger(DataFilesMonitorIntegrationConnector.class);
 
-    private String templateGUID = null;
+    private static final int CATALOG_WORKER_COUNT = 4;
+
+    private volatile String templateGUID = null;
 
     /**
      * Set up the file listener class - this is implemented by the subclasses
@@ -56,26 +59,22 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
         @Override
         public void onFileCreate(File file)
         {
-            final String methodName = "onFileCreate";
-
             log.debug("File created: " + file.getName());
-            connector.catalogFile(file, methodName);
+            connector.recordFileChange(file, FileChangeType.CREATED);
         }
 
         @Override
         public void onFileDelete(File file)
         {
-            final String methodName = "onFileDelete";
-
             log.debug("File deleted: " + file.getName());
-            connector.archiveFileInCatalog(file, null, methodName);
+            connector.recordFileChange(file, FileChangeType.DELETED);
         }
 
         @Override
         public void onFileChange(File file)
         {
             log.debug("File changed: " + file.getName());
-            connector.updateFileInCatalog(file);
+            connector.recordFileChange(file, FileChangeType.CHANGED);
         }
 
         @Override
@@ -98,6 +97,49 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
     }
 
 
+    /**
+     * Return the number of threads used to catalog each batch of file changes.  The changes to different files are
+     * independent so they can be catalogued in parallel.
+     *
+     * @return thread count
+     */
+    @Override
+    int getFileChangeWorkerCount()
+    {
+        return CATALOG_WORKER_COUNT;
+    }
+
+
+    /**
+     * Catalog a batch of file changes.
+     *
+     * @param changes map of absolute path names to the type of change
+     */
+    @Override
+    void processFileChanges(Map<String, FileChangeType> changes)
+    {
+        for (Map.Entry<String, FileChangeType> change : changes.entrySet())
+        {
+            File file = new File(change.getKey());
+
+            switch (change.getValue())
+            {
+                case CREATED:
+                    this.catalogFile(file, "onFileCreate");
+                    break;
+
+                case CHANGED:
+                    this.updateFileInCatalog(file);
+                    break;
+
+                case DELETED:
+                    this.archiveFileInCatalog(file, null, "onFileDelete");
+                    break;
+            }
+        }
+    }
+
+
     /**
      * Requests that the connector does a comparison of the metadata in the third party technology and open metadata repositories.
      * Refresh is called when the integration connector first starts and then at intervals defined in the connector's configuration
@@ -105,7 +147,8 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
      *
      * This method performs two sweeps.  It first retrieves the files in the directory and validates that are in the
      * catalog - adding or updating them if necessary.  The second sweep is to ensure that all of the assets catalogued
-     * in this directory actually exist on the file system.
+     * in this directory actually exist on the file system.  The file changes that could not be catalogued since the
+     * last refresh are retried in the first sweep.
      *
      * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
      */
@@ -119,8 +162,11 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
         if (directory != null)
         {
             /*
-             * Sweep one - cataloguing all files
+             * Sweep one - cataloguing all files.  The files are passed through the batcher so they are
+             * catalogued in parallel.  Any changes that failed since the last refresh are retried with them.
              */
+            this.retryFailedFileChanges();
+
             File[] filesArray = directory.listFiles();
 
             if (filesArray != null)
@@ -129,11 +175,13 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
                 {
                     if (file != null)
                     {
-                        this.catalogFile(file, methodName);
+                        this.recordFileChange(file, FileChangeType.CREATED);
                     }
                 }
             }
 
+            this.flushFileChanges();
+
             /*
              * Sweep two - ensuring all catalogued files still exist.  Notice that if the folder does not exist, it is
              * ignored.  It will be dynamically created when a new file is added.
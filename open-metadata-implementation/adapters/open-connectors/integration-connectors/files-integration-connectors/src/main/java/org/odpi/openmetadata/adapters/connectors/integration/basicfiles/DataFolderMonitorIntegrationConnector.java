@@ -8,11 +8,13 @@ import org.odpi.openmetadata.accessservices.datamanager.metadataelements.FileFol
 import org.odpi.openmetadata.accessservices.datamanager.properties.FileFolderProperties;
 import org.odpi.openmetadata.adapters.connectors.integration.basicfiles.ffdc.BasicFilesIntegrationConnectorsAuditCode;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.integrationservices.files.connector.FileChangeType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.Date;
+import java.util.Map;
 
 
 /**
@@ -59,7 +61,8 @@ public class DataFolderMonitorIntegrationConnector extends BasicFilesMonitorInte
     /**
      * Requests that the connector does a comparison of the metadata in the third party technology and open metadata repositories.
      * Refresh is called when the integration connector first starts and then at intervals defined in the connector's configuration
-     * as well as any external REST API calls to explicitly refresh the connector.
+     * as well as any external REST API calls to explicitly refresh the connector.  Any file changes that could not
+     * be processed since the last refresh are retried.
      *
      * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
      */
@@ -70,10 +73,36 @@ public class DataFolderMonitorIntegrationConnector extends BasicFilesMonitorInte
 
         dataFolderFile = super.getRootDirectoryFile();
 
+        this.retryFailedFileChanges();
         this.updateDataFolder(null, new Date(dataFolderFile.lastModified()), methodName);
     }
 
 
+    /**
+     * Process a batch of file changes.  The DataFolder only records the time of the latest change so a single
+     * update is made for the whole batch.
+     *
+     * @param changes map of absolute path names to the type of change
+     */
+    @Override
+    void processFileChanges(Map<String, FileChangeType> changes)
+    {
+        final String methodName = "processFileChanges";
+
+        String lastChangedPathName = null;
+
+        for (String pathName : changes.keySet())
+        {
+            lastChangedPathName = pathName;
+        }
+
+        if (lastChangedPathName != null)
+        {
+            this.updateDataFolder(new File(lastChangedPathName), new Date(), methodName);
+        }
+    }
+
+
     /**
      * Indicate that the data folder has changed.
      *
@@ -162,28 +191,22 @@ public class DataFolderMonitorIntegrationConnector extends BasicFilesMonitorInte
         @Override
         public void onFileCreate(File file)
         {
-            final String methodName = "onFileCreate";
-
             log.debug("File created: " + file.getName());
-            connector.updateDataFolder(file, new Date(), methodName);
+            connector.recordFileChange(file, FileChangeType.CREATED);
         }
 
         @Override
         public void onFileDelete(File file)
         {
-            final String methodName = "onFileDelete";
-
             log.debug("File deleted: " + file.getName());
-            connector.updateDataFolder(file, new Date(), methodName);
+            connector.recordFileChange(file, FileChangeType.DELETED);
         }
 
         @Override
         public void onFileChange(File file)
         {
-            final String methodName = "onFileChange";
-
             log.debug("File changed: " + file.getName());
-            connector.updateDataFolder(file, new Date(), methodName);
+            connector.recordFileChange(file, FileChangeType.CHANGED);
         }
 
         @Override
@@ -0,0 +1,543 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import org.apache.commons.io.monitor.FileAlterationListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * DirectoryWatcher monitors a directory tree using the file system's WatchService (inotify on Linux) rather than
+ * repeatedly listing the whole tree.  It passes the changes to the same FileAlterationListener that is used with
+ * the Apache Commons polling monitor so the connectors process the changes in the same way whichever monitor is used.
+ * <p>
+ * Each new directory is registered as it is created.  The events from the WatchService are coalesced: the paths
+ * that have changed are collected until no new events arrive for the coalescing interval, and then each path is
+ * compared with the last known state of the file so a burst of events for one file results in a single notification.
+ * A periodic reconciliation scan of the tree picks up any changes that the WatchService missed (for example, when
+ * its event queue overflows).  If a directory can not be registered, the reconciliation scan is run at the
+ * coalescing interval so the watcher falls back to polling.
+ */
+class DirectoryWatcher
+{
+    private static final Logger log = LoggerFactory.getLogger(DirectoryWatcher.class);
+
+    private static final int maxCoalescingIntervals = 10;
+
+    private final Path                   rootDirectory;
+    private final FileAlterationListener listener;
+    private final long                   coalescingInterval;
+    private final long                   reconciliationInterval;
+    private final WatchService           watchService;
+
+    private final Map<WatchKey, Path>  watchedDirectories    = new HashMap<>();
+    private final Set<Path>            registeredDirectories = new HashSet<>();
+    private final Map<Path, FileState> knownFiles            = new HashMap<>();
+
+    private volatile boolean running               = false;
+    private boolean          registrationIncomplete = false;
+    private Thread           watcherThread          = null;
+
+
+    /**
+     * Constructor creates the WatchService.
+     *
+     * @param rootDirectory directory to monitor
+     * @param listener listener to notify of changes
+     * @param coalescingInterval milliseconds to wait for more events before processing the changes
+     * @param reconciliationInterval milliseconds between scans of the whole directory tree
+     * @throws IOException the WatchService is not available
+     */
+    DirectoryWatcher(File                   rootDirectory,
+                     FileAlterationListener listener,
+                     long                   coalescingInterval,
+                     long                   reconciliationInterval) throws IOException
+    {
+        this.rootDirectory = rootDirectory.toPath().toAbsolutePath();
+        this.listener = listener;
+        this.coalescingInterval = coalescingInterval;
+        this.reconciliationInterval = reconciliationInterval;
+        this.watchService = FileSystems.getDefault().newWatchService();
+    }
+
+
+    /**
+     * Register the directory tree and start the background thread.  The files that already exist are
+     * recorded without notifying the listener.
+     *
+     * @throws IOException unable to register the root directory
+     */
+    synchronized void start() throws IOException
+    {
+        try
+        {
+            registerDirectory(rootDirectory);
+        }
+        catch (IOException error)
+        {
+            watchService.close();
+            throw error;
+        }
+
+        registerTree(rootDirectory, false);
+
+        running = true;
+
+        watcherThread = new Thread(this::watchForChanges, "DirectoryWatcher:" + rootDirectory.toString());
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+
+    /**
+     * Stop monitoring the directory tree.
+     *
+     * @param timeout milliseconds to wait for the background thread to finish
+     */
+    synchronized void stop(long timeout)
+    {
+        running = false;
+
+        try
+        {
+            watchService.close();
+        }
+        catch (IOException error)
+        {
+            log.debug("Ignoring exception closing watch service for {}: {}", rootDirectory, error.getMessage());
+        }
+
+        if (watcherThread != null)
+        {
+            try
+            {
+                watcherThread.join(timeout);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            watcherThread = null;
+        }
+    }
+
+
+    /**
+     * The background thread's processing loop.
+     */
+    private void watchForChanges()
+    {
+        Set<Path> changedPaths           = new TreeSet<>();
+        long      firstChangeTime        = 0;
+        long      nextReconciliationTime = System.currentTimeMillis() + reconciliationInterval;
+        boolean   reconciliationNeeded   = false;
+
+        while (running)
+        {
+            try
+            {
+                WatchKey watchKey = watchService.poll(coalescingInterval, TimeUnit.MILLISECONDS);
+
+                if (watchKey != null)
+                {
+                    Path directory = watchedDirectories.get(watchKey);
+
+                    for (WatchEvent<?> event : watchKey.pollEvents())
+                    {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+                        {
+                            reconciliationNeeded = true;
+                        }
+                        else if ((directory != null) && (event.context() instanceof Path))
+                        {
+                            if (changedPaths.isEmpty())
+                            {
+                                firstChangeTime = System.currentTimeMillis();
+                            }
+
+                            changedPaths.add(directory.resolve((Path)event.context()));
+                        }
+                    }
+
+                    if (! watchKey.reset())
+                    {
+                        registeredDirectories.remove(watchedDirectories.remove(watchKey));
+                    }
+                }
+
+                long now = System.currentTimeMillis();
+
+                /*
+                 * The changes are processed once the events stop arriving, or when they have been
+                 * arriving continuously for too long.
+                 */
+                if ((! changedPaths.isEmpty()) &&
+                    ((watchKey == null) || (now - firstChangeTime >= coalescingInterval * maxCoalescingIntervals)))
+                {
+                    processChanges(changedPaths);
+                    changedPaths.clear();
+                }
+
+                if (registrationIncomplete)
+                {
+                    nextReconciliationTime = Math.min(nextReconciliationTime, now + coalescingInterval);
+                }
+
+                if ((reconciliationNeeded) || (now >= nextReconciliationTime))
+                {
+                    reconcile();
+
+                    reconciliationNeeded = false;
+                    nextReconciliationTime = System.currentTimeMillis() + reconciliationInterval;
+                }
+            }
+            catch (ClosedWatchServiceException | InterruptedException error)
+            {
+                running = false;
+            }
+            catch (Exception error)
+            {
+                log.debug("Unexpected exception monitoring {}: {}", rootDirectory, error.getMessage(), error);
+            }
+        }
+    }
+
+
+    /**
+     * Scan the whole directory tree and notify the listener of any differences from the last known state.
+     */
+    private void reconcile()
+    {
+        Set<Path> paths = new TreeSet<>(knownFiles.keySet());
+
+        try
+        {
+            Files.walkFileTree(rootDirectory, new SimpleFileVisitor<Path>()
+            {
+                @Override
+                public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes)
+                {
+                    paths.add(directory);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
+                {
+                    paths.add(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException error)
+                {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+        catch (IOException error)
+        {
+            log.debug("Unable to scan {}: {}", rootDirectory, error.getMessage());
+        }
+
+        paths.remove(rootDirectory);
+        registrationIncomplete = false;
+
+        processChanges(paths);
+    }
+
+
+    /**
+     * Compare each path with its last known state and notify the listener of the differences.  The paths are
+     * processed in order so a directory is processed before its contents.
+     *
+     * @param paths paths that may have changed
+     */
+    private void processChanges(Set<Path> paths)
+    {
+        for (Path path : paths)
+        {
+            File      file     = path.toFile();
+            FileState oldState = knownFiles.get(path);
+            FileState newState = FileState.getState(file);
+
+            if ((oldState != null) && ((newState == null) || (oldState.isDirectory != newState.isDirectory)))
+            {
+                removeFile(path, oldState);
+                oldState = null;
+            }
+
+            if (newState != null)
+            {
+                if (oldState == null)
+                {
+                    if (newState.isDirectory)
+                    {
+                        registerTree(path, true);
+                    }
+                    else
+                    {
+                        knownFiles.put(path, newState);
+                        listener.onFileCreate(file);
+                    }
+                }
+                else if (! oldState.equals(newState))
+                {
+                    knownFiles.put(path, newState);
+
+                    if (newState.isDirectory)
+                    {
+                        listener.onDirectoryChange(file);
+                    }
+                    else
+                    {
+                        listener.onFileChange(file);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Notify the listener that a file or directory (and all of its contents) has been deleted.
+     *
+     * @param path deleted path
+     * @param oldState last known state
+     */
+    private void removeFile(Path      path,
+                            FileState oldState)
+    {
+        if (oldState.isDirectory)
+        {
+            List<Path> contents = new ArrayList<>();
+
+            for (Path knownPath : knownFiles.keySet())
+            {
+                if ((knownPath.startsWith(path)) && (! knownPath.equals(path)))
+                {
+                    contents.add(knownPath);
+                }
+            }
+
+            /*
+             * Remove the deepest entries first.
+             */
+            contents.sort((path1, path2) -> path2.compareTo(path1));
+
+            for (Path contentPath : contents)
+            {
+                FileState contentState = knownFiles.remove(contentPath);
+
+                if (contentState != null)
+                {
+                    if (contentState.isDirectory)
+                    {
+                        listener.onDirectoryDelete(contentPath.toFile());
+                    }
+                    else
+                    {
+                        listener.onFileDelete(contentPath.toFile());
+                    }
+                }
+            }
+
+            knownFiles.remove(path);
+            listener.onDirectoryDelete(path.toFile());
+        }
+        else
+        {
+            knownFiles.remove(path);
+            listener.onFileDelete(path.toFile());
+        }
+    }
+
+
+    /**
+     * Register a directory and all of its contents.
+     *
+     * @param directory directory to register
+     * @param notifyListener whether the new files and directories should be reported to the listener
+     */
+    private void registerTree(Path    directory,
+                              boolean notifyListener)
+    {
+        try
+        {
+            Files.walkFileTree(directory, new SimpleFileVisitor<Path>()
+            {
+                @Override
+                public FileVisitResult preVisitDirectory(Path subDirectory, BasicFileAttributes attributes)
+                {
+                    try
+                    {
+                        registerDirectory(subDirectory);
+                    }
+                    catch (IOException error)
+                    {
+                        log.debug("Unable to watch {}: {}", subDirectory, error.getMessage());
+                        registrationIncomplete = true;
+                    }
+
+                    File      file           = subDirectory.toFile();
+                    FileState directoryState = FileState.getState(file);
+
+                    if ((! subDirectory.equals(rootDirectory)) && (! knownFiles.containsKey(subDirectory)) && (directoryState != null))
+                    {
+                        knownFiles.put(subDirectory, directoryState);
+
+                        if (notifyListener)
+                        {
+                            listener.onDirectoryCreate(file);
+                        }
+                    }
+
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
+                {
+                    if (! knownFiles.containsKey(file))
+                    {
+                        FileState fileState = FileState.getState(file.toFile());
+
+                        if (fileState != null)
+                        {
+                            knownFiles.put(file, fileState);
+
+                            if (notifyListener)
+                            {
+                                listener.onFileCreate(file.toFile());
+                            }
+                        }
+                    }
+
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException error)
+                {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+        catch (IOException error)
+        {
+            log.debug("Unable to scan {}: {}", directory, error.getMessage());
+            registrationIncomplete = true;
+        }
+    }
+
+
+    /**
+     * Register a single directory with the WatchService.
+     *
+     * @param directory directory to register
+     * @throws IOException unable to register the directory
+     */
+    private void registerDirectory(Path directory) throws IOException
+    {
+        if (! registeredDirectories.contains(directory))
+        {
+            WatchKey watchKey = directory.register(watchService,
+                                                   StandardWatchEventKinds.ENTRY_CREATE,
+                                                   StandardWatchEventKinds.ENTRY_DELETE,
+                                                   StandardWatchEventKinds.ENTRY_MODIFY);
+
+            watchedDirectories.put(watchKey, directory);
+            registeredDirectories.add(directory);
+        }
+    }
+
+
+    /**
+     * The properties of a file that are used to detect a change.
+     */
+    private static class FileState
+    {
+        private final boolean isDirectory;
+        private final long    lastModified;
+        private final long    length;
+
+
+        private FileState(boolean isDirectory,
+                          long    lastModified,
+                          long    length)
+        {
+            this.isDirectory = isDirectory;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+
+        /**
+         * Return the current state of the file.
+         *
+         * @param file file to test
+         * @return state or null if the file does not exist
+         */
+        static FileState getState(File file)
+        {
+            if (! file.exists())
+            {
+                return null;
+            }
+
+            boolean isDirectory = file.isDirectory();
+
+            return new FileState(isDirectory, file.lastModified(), isDirectory ? 0 : file.length());
+        }
+
+
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass())
+            {
+                return false;
+            }
+            FileState that = (FileState) objectToCompare;
+            return isDirectory == that.isDirectory &&
+                           lastModified == that.lastModified &&
+                           length == that.length;
+        }
+
+
+        @Override
+        public int hashCode()
+        {
+            return Long.hashCode(lastModified) ^ Long.hashCode(length) ^ (isDirectory ? 1 : 0);
+        }
+    }
+}
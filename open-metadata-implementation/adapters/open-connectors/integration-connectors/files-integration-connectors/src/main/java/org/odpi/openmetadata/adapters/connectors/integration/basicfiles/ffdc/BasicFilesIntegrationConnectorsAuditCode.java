@@ -179,6 +179,36 @@ public enum BasicFilesIntegrationConnectorsAuditCode implements AuditLogMessageS
                               "Its presence is still needed in the metadata repository for lineage reporting.",
                       "No action is required.  This message is to record the reason why the DataFile was archived."),
 
+    DIRECTORY_WATCHING_STARTING("BASIC-FILES-INTEGRATION-CONNECTORS-0021",
+                                OMRSAuditLogRecordSeverity.INFO,
+                                "The {0} integration connector is initiating the monitoring of file directory {1} using the file system's watch service",
+                                "The connector is registering the directory and its subdirectories with the file system's watch service.  " +
+                                        "This will start a background thread that receives notifications of changes to the files in the " +
+                                        "directory tree and reports them to this integration connector.  The directory tree is also " +
+                                        "scanned periodically to pick up any changes that were not notified.",
+                                "No action is required unless there are errors that follow indicating that the watch service could not be used " +
+                                        "for the directory."),
+
+    WATCH_SERVICE_UNAVAILABLE("BASIC-FILES-INTEGRATION-CONNECTORS-0022",
+                              OMRSAuditLogRecordSeverity.INFO,
+                              "The {0} integration connector is unable to use the file system's watch service for directory {1} because of a {2} exception with message {3}",
+                              "The connector monitors the directory by polling it instead.",
+                              "No action is required.  If the watch service is needed, check that the file system supports it and " +
+                                      "that the operating system's limit on the number of watched directories has not been reached."),
+
+    FILE_CHANGE_THROUGHPUT("BASIC-FILES-INTEGRATION-CONNECTORS-0023",
+                           OMRSAuditLogRecordSeverity.INFO,
+                           "The {0} integration connector catalogued {1} file changes ({2} changes detected, {3} combined with an earlier change to the same file) in {4} batches at a rate of {5} changes per second",
+                           "The connector is disconnecting and has reported the throughput of its cataloguing of the changes to the files it monitors.",
+                           "No action is required.  This message can be used to tune the monitoring and the metadata server."),
+
+    FILE_CHANGES_FAILED("BASIC-FILES-INTEGRATION-CONNECTORS-0024",
+                        OMRSAuditLogRecordSeverity.EXCEPTION,
+                        "The {0} integration connector was unable to catalog {1} file changes because of a {2} exception with message {3}.  The files affected are: {4}",
+                        "The connector has recorded the changes and will catalog them again at the next refresh.",
+                        "Use the exception to determine why the changes could not be catalogued.  If the cause is not temporary, correct it " +
+                                "and refresh the connector."),
+
 
     ;
 
@@ -0,0 +1,450 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.monitor.FileAlterationListenerAdaptor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * DirectoryWatcherTest checks that the DirectoryWatcher reports the changes in a directory tree.  The reconciliation
+ * interval is long enough that the changes must come from the WatchService unless a test expects a rescan.
+ */
+public class DirectoryWatcherTest
+{
+    private static final long coalescingInterval     = 50;
+    private static final long reconciliationInterval = 3600000;
+    private static final long waitTime               = 10000;
+
+    private Path              rootDirectory;
+    private RecordingListener listener;
+    private DirectoryWatcher  watcher;
+
+
+    @BeforeMethod
+    public void setUp() throws IOException
+    {
+        rootDirectory = Files.createTempDirectory("DirectoryWatcherTest");
+        listener = new RecordingListener();
+        watcher = null;
+    }
+
+
+    @AfterMethod
+    public void tearDown() throws IOException
+    {
+        listener.releaseListener();
+
+        if (watcher != null)
+        {
+            watcher.stop(waitTime);
+        }
+
+        FileUtils.deleteDirectory(rootDirectory.toFile());
+    }
+
+
+    /**
+     * Create and start the watcher for the root directory.
+     *
+     * @throws IOException the watcher did not start
+     */
+    private void startWatcher() throws IOException
+    {
+        watcher = new DirectoryWatcher(rootDirectory.toFile(), listener, coalescingInterval, reconciliationInterval);
+        watcher.start();
+    }
+
+
+    /**
+     * Create an empty file.
+     *
+     * @param path path of the file
+     * @throws IOException unable to create the file
+     */
+    private void createFile(Path path) throws IOException
+    {
+        Files.createFile(path);
+    }
+
+
+    /**
+     * The files that exist when the watcher starts are not reported.  New files are reported.
+     *
+     * @throws IOException problem with the files
+     */
+    @Test public void testExistingAndNewFiles() throws IOException
+    {
+        createFile(rootDirectory.resolve("existing.csv"));
+
+        startWatcher();
+
+        createFile(rootDirectory.resolve("new.csv"));
+
+        listener.waitForEvent("fileCreate:new.csv");
+        assertFalse(listener.getEvents().contains("fileCreate:existing.csv"));
+
+        Files.delete(rootDirectory.resolve("existing.csv"));
+
+        listener.waitForEvent("fileDelete:existing.csv");
+    }
+
+
+    /**
+     * A new subdirectory is registered with the WatchService so the files created in it later are reported.  The contents
+     * of a directory tree that is created in one go are reported too.
+     *
+     * @throws IOException problem with the files
+     */
+    @Test public void testNewSubdirectory() throws IOException
+    {
+        startWatcher();
+
+        Path subDirectory = Files.createDirectory(rootDirectory.resolve("sub"));
+
+        listener.waitForEvent("directoryCreate:sub");
+
+        createFile(subDirectory.resolve("file.csv"));
+
+        listener.waitForEvent("fileCreate:sub/file.csv");
+
+        Path nestedDirectory = Files.createDirectories(subDirectory.resolve("a").resolve("b"));
+
+        createFile(nestedDirectory.resolve("nested.csv"));
+
+        listener.waitForEvent("fileCreate:sub/a/b/nested.csv");
+
+        createFile(nestedDirectory.resolve("later.csv"));
+
+        listener.waitForEvent("fileCreate:sub/a/b/later.csv");
+
+        FileUtils.deleteDirectory(subDirectory.toFile());
+
+        listener.waitForEvent("directoryDelete:sub");
+        assertTrue(listener.getEvents().contains("fileDelete:sub/a/b/later.csv"));
+        assertTrue(listener.getEvents().contains("directoryDelete:sub/a"));
+    }
+
+
+    /**
+     * When the WatchService's event queue overflows, the tree is rescanned so the changes that were dropped are still
+     * reported.  The watcher thread is held in the listener while the files are created so that the events build up.
+     *
+     * @throws Exception problem with the files
+     */
+    @Test public void testOverflowRescan() throws Exception
+    {
+        final int fileCount = 1000;
+
+        startWatcher();
+
+        listener.holdListener();
+
+        createFile(rootDirectory.resolve("first.csv"));
+
+        assertTrue(listener.waitUntilHeld(), "The listener was not called");
+
+        try
+        {
+            for (int index = 0; index < fileCount; index++)
+            {
+                createFile(rootDirectory.resolve("file" + index + ".csv"));
+            }
+
+            /*
+             * Allow the WatchService to queue the events.
+             */
+            Thread.sleep(500);
+        }
+        finally
+        {
+            listener.releaseListener();
+        }
+
+        for (int index = 0; index < fileCount; index++)
+        {
+            listener.waitForEvent("fileCreate:file" + index + ".csv");
+        }
+
+        assertEquals(listener.countEvents("fileCreate:"), fileCount + 1);
+    }
+
+
+    /**
+     * Once the watcher is stopped, its thread ends and no more changes are reported.  Stopping it again does nothing.
+     *
+     * @throws Exception problem with the files
+     */
+    @Test public void testStop() throws Exception
+    {
+        startWatcher();
+
+        String threadName = "DirectoryWatcher:" + rootDirectory.toAbsolutePath().toString();
+
+        assertTrue(isThreadRunning(threadName));
+
+        watcher.stop(waitTime);
+
+        assertFalse(isThreadRunning(threadName));
+
+        createFile(rootDirectory.resolve("afterStop.csv"));
+
+        Thread.sleep(coalescingInterval * 10);
+
+        assertTrue(listener.getEvents().isEmpty(), "Events after stop: " + listener.getEvents());
+
+        watcher.stop(waitTime);
+    }
+
+
+    /**
+     * A watcher for a directory that does not exist fails to start.
+     */
+    @Test public void testMissingDirectory()
+    {
+        try
+        {
+            watcher = new DirectoryWatcher(rootDirectory.resolve("missing").toFile(), listener, coalescingInterval, reconciliationInterval);
+            watcher.start();
+            fail("The watcher started for a missing directory");
+        }
+        catch (IOException error)
+        {
+            watcher = null;
+        }
+    }
+
+
+    /**
+     * Return whether a thread with the supplied name is alive.
+     *
+     * @param threadName name of the thread
+     * @return boolean flag
+     */
+    private boolean isThreadRunning(String threadName)
+    {
+        for (Thread thread : Thread.getAllStackTraces().keySet())
+        {
+            if ((threadName.equals(thread.getName())) && (thread.isAlive()))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Listener that records the events as the kind of event followed by the path relative to the root directory.
+     * It can hold the watcher thread on the next event until it is released.
+     */
+    private class RecordingListener extends FileAlterationListenerAdaptor
+    {
+        private final List<String>      events       = new ArrayList<>();
+        private volatile CountDownLatch heldLatch    = null;
+        private volatile CountDownLatch releaseLatch = null;
+
+
+        /**
+         * Hold the watcher thread on the next event.
+         */
+        void holdListener()
+        {
+            heldLatch = new CountDownLatch(1);
+            releaseLatch = new CountDownLatch(1);
+        }
+
+
+        /**
+         * Wait for the watcher thread to be held.
+         *
+         * @return whether the thread is held
+         * @throws InterruptedException interrupted while waiting
+         */
+        boolean waitUntilHeld() throws InterruptedException
+        {
+            return heldLatch.await(waitTime, TimeUnit.MILLISECONDS);
+        }
+
+
+        /**
+         * Let the watcher thread continue.
+         */
+        void releaseListener()
+        {
+            CountDownLatch latch = releaseLatch;
+
+            if (latch != null)
+            {
+                latch.countDown();
+            }
+        }
+
+
+        /**
+         * Record an event and hold the watcher thread if requested.
+         *
+         * @param eventType kind of event
+         * @param file file that changed
+         */
+        private void recordEvent(String eventType,
+                                 File   file)
+        {
+            String relativePath = rootDirectory.toAbsolutePath().relativize(file.toPath().toAbsolutePath()).toString();
+
+            synchronized (events)
+            {
+                events.add(eventType + ":" + relativePath.replace(File.separatorChar, '/'));
+                events.notifyAll();
+            }
+
+            CountDownLatch held    = heldLatch;
+            CountDownLatch release = releaseLatch;
+
+            if ((held != null) && (release != null))
+            {
+                heldLatch = null;
+                held.countDown();
+
+                try
+                {
+                    release.await(waitTime, TimeUnit.MILLISECONDS);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+
+        /**
+         * Return a copy of the events received so far.
+         *
+         * @return list of events
+         */
+        List<String> getEvents()
+        {
+            synchronized (events)
+            {
+                return new ArrayList<>(events);
+            }
+        }
+
+
+        /**
+         * Return the number of events that start with the supplied prefix.
+         *
+         * @param prefix start of the event
+         * @return count
+         */
+        int countEvents(String prefix)
+        {
+            int count = 0;
+
+            for (String event : getEvents())
+            {
+                if (event.startsWith(prefix))
+                {
+                    count++;
+                }
+            }
+
+            return count;
+        }
+
+
+        /**
+         * Wait for an event to be received.
+         *
+         * @param expectedEvent event
+         */
+        void waitForEvent(String expectedEvent)
+        {
+            long endTime = System.currentTimeMillis() + waitTime;
+
+            synchronized (events)
+            {
+                while (! events.contains(expectedEvent))
+                {
+                    long remainingTime = endTime - System.currentTimeMillis();
+
+                    if (remainingTime <= 0)
+                    {
+                        fail("Event " + expectedEvent + " not received; received " + events);
+                    }
+
+                    try
+                    {
+                        events.wait(remainingTime);
+                    }
+                    catch (InterruptedException error)
+                    {
+                        Thread.currentThread().interrupt();
+                        fail("Interrupted waiting for " + expectedEvent);
+                    }
+                }
+            }
+        }
+
+
+        @Override
+        public void onDirectoryCreate(File directory)
+        {
+            recordEvent("directoryCreate", directory);
+        }
+
+
+        @Override
+        public void onDirectoryChange(File directory)
+        {
+            recordEvent("directoryChange", directory);
+        }
+
+
+        @Override
+        public void onDirectoryDelete(File directory)
+        {
+            recordEvent("directoryDelete", directory);
+        }
+
+
+        @Override
+        public void onFileCreate(File file)
+        {
+            recordEvent("fileCreate", file);
+        }
+
+
+        @Override
+        public void onFileChange(File file)
+        {
+            recordEvent("fileChange", file);
+        }
+
+
+        @Override
+        public void onFileDelete(File file)
+        {
+            recordEvent("fileDelete", file);
+        }
+    }
+}
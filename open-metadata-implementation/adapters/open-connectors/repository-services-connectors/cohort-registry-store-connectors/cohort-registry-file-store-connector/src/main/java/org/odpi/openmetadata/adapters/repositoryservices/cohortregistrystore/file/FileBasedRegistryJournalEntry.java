@@ -0,0 +1,138 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.cohortregistrystore.file;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.properties.MemberRegistration;
+
+/**
+ * FileBasedRegistryJournalEntry describes a single change to the cohort registry.  When the registry store
+ * is configured to delay its writes, each change is appended to the journal as one line of JSON so that the
+ * changes made since the last write of the registry file can be replayed when the server restarts.
+ * Every entry carries the complete state of the member it changes and so replaying an entry more than once
+ * has no additional effect.
+ */
+public class FileBasedRegistryJournalEntry
+{
+    /**
+     * The type of change recorded in the journal.
+     */
+    public enum Operation
+    {
+        SAVE_LOCAL,
+        REMOVE_LOCAL,
+        SAVE_REMOTE,
+        REMOVE_REMOTE,
+        CLEAR_ALL
+    }
+
+    private Operation          operation            = null;
+    private String             metadataCollectionId = null;
+    private MemberRegistration registration         = null;
+
+
+    /**
+     * Default constructor used by Jackson.
+     */
+    public FileBasedRegistryJournalEntry()
+    {
+    }
+
+
+    /**
+     * Typical constructor.
+     *
+     * @param operation type of change
+     * @param metadataCollectionId identifier of the member that is removed (REMOVE_REMOTE only)
+     * @param registration new value of the member (SAVE_LOCAL and SAVE_REMOTE only)
+     */
+    FileBasedRegistryJournalEntry(Operation          operation,
+                                  String             metadataCollectionId,
+                                  MemberRegistration registration)
+    {
+        this.operation = operation;
+        this.metadataCollectionId = metadataCollectionId;
+        this.registration = registration;
+    }
+
+
+    /**
+     * Return the type of change.
+     *
+     * @return operation enum
+     */
+    public Operation getOperation()
+    {
+        return operation;
+    }
+
+
+    /**
+     * Set up the type of change.
+     *
+     * @param operation operation enum
+     */
+    public void setOperation(Operation operation)
+    {
+        this.operation = operation;
+    }
+
+
+    /**
+     * Return the identifier of the remote member that was removed.
+     *
+     * @return metadata collection id
+     */
+    public String getMetadataCollectionId()
+    {
+        return metadataCollectionId;
+    }
+
+
+    /**
+     * Set up the identifier of the remote member that was removed.
+     *
+     * @param metadataCollectionId metadata collection id
+     */
+    public void setMetadataCollectionId(String metadataCollectionId)
+    {
+        this.metadataCollectionId = metadataCollectionId;
+    }
+
+
+    /**
+     * Return the registration that was saved.
+     *
+     * @return member registration
+     */
+    public MemberRegistration getRegistration()
+    {
+        return registration;
+    }
+
+
+    /**
+     * Set up the registration that was saved.
+     *
+     * @param registration member registration
+     */
+    public void setRegistration(MemberRegistration registration)
+    {
+        this.registration = registration;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "FileBasedRegistryJournalEntry{" +
+                       "operation=" + operation +
+                       ", metadataCollectionId='" + metadataCollectionId + '\'' +
+                       ", registration=" + registration +
+                       '}';
+    }
+}
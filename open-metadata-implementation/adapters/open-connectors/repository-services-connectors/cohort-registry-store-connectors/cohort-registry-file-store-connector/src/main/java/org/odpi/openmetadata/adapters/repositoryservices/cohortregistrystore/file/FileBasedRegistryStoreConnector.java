@@ -16,17 +16,38 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistry
 
 import org.apache.commons.io.FileUtils;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 
 /**
  * FileBasedRegistryStoreConnector uses JSON to store details of the membership of the open metadata repository
  * cohort on behalf of the OMRSCohortRegistry.
+ * <p>
+ * The registry file is read once and the membership is then held in memory.  By default, each change is written
+ * to the registry file before the call returns.  If the writeDelay configuration property is set, each change
+ * is appended to a journal and the registry file is rewritten once for all of the changes made during the delay.
+ * This means a burst of registrations from a large cohort results in a single write of the registry file.
+ * The journal is replayed when the registry store is next loaded so changes are not lost if the server stops
+ * before the registry file is written.  The registry file is always written to a temporary file first and then
+ * renamed so that it is never left partially written.
  */
 public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConnectorBase
 {
@@ -35,10 +56,41 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
      */
     private static final String defaultFilename = "cohort.registry";
 
+    /*
+     * Suffixes added to the name of the cohort registry file for the journal and for the new copy of the
+     * registry file that is renamed once it is complete.
+     */
+    private static final String journalFileSuffix   = ".journal";
+    private static final String temporaryFileSuffix = ".tmp";
+
+    /*
+     * The object mapper is thread-safe once configured so it is shared by all of the registry stores.
+     */
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
     /*
      * Variables used in writing to the file.
      */
     private String           registryStoreName       = defaultFilename;
+    private long             writeDelay              = 0;
+
+    /*
+     * The current content of the registry.  The remote member map is null until the registry file is loaded.
+     */
+    private MemberRegistration               localRegistration = null;
+    private Map<String, MemberRegistration>  remoteMemberMap   = null;
+
+    /*
+     * Variables used to coalesce the writes to the registry file.  They are protected by the connector's lock.
+     * The flush lock ensures only one write to the registry file is in progress.
+     */
+    private long                      changeCount        = 0;
+    private long                      writtenChangeCount = 0;
+    private boolean                   journalInUse       = false;
+    private Writer                    journalWriter      = null;
+    private ScheduledExecutorService  flushExecutor      = null;
+    private ScheduledFuture<?>        pendingFlush       = null;
+    private final Object              flushLock          = new Object();
 
     /*
      * Variables used for logging and debug.
@@ -67,6 +119,25 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
                 registryStoreName = defaultFilename;
             }
         }
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            Object writeDelayOption = configurationProperties.get(FileBasedRegistryStoreProvider.WRITE_DELAY_CONFIGURATION_PROPERTY);
+
+            if (writeDelayOption != null)
+            {
+                try
+                {
+                    writeDelay = Math.max(Long.parseLong(writeDelayOption.toString()), 0);
+                }
+                catch (NumberFormatException error)
+                {
+                    log.debug("Ignoring invalid write delay " + writeDelayOption);
+                }
+            }
+        }
     }
 
 
@@ -82,11 +153,9 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
     {
         if (localRegistration != null)
         {
-            CohortMembership registryStoreProperties = this.retrieveRegistryStoreProperties();
-
-            registryStoreProperties.setLocalRegistration(localRegistration);
-
-            this.writeRegistryStoreProperties(registryStoreProperties);
+            this.changeRegistryStore(new FileBasedRegistryJournalEntry(FileBasedRegistryJournalEntry.Operation.SAVE_LOCAL,
+                                                                       null,
+                                                                       localRegistration));
         }
         else
         {
@@ -112,9 +181,7 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
     @Override
     public synchronized MemberRegistration retrieveLocalRegistration()
     {
-        CohortMembership registryStoreProperties = this.retrieveRegistryStoreProperties();
-
-        MemberRegistration localRegistration = registryStoreProperties.getLocalRegistration();
+        this.loadRegistryStore();
 
         if (log.isDebugEnabled())
         {
@@ -149,11 +216,9 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
     {
         log.debug("Removing local repository from  cohort registry store.");
 
-        CohortMembership registryStoreProperties = this.retrieveRegistryStoreProperties();
-
-        registryStoreProperties.setLocalRegistration(null);
-
-        this.writeRegistryStoreProperties(registryStoreProperties);
+        this.changeRegistryStore(new FileBasedRegistryJournalEntry(FileBasedRegistryJournalEntry.Operation.REMOVE_LOCAL,
+                                                                   null,
+                                                                   null));
     }
 
 
@@ -167,7 +232,7 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
      */
     private Map<String, MemberRegistration> getRemoteMemberMap(List<MemberRegistration> remoteMembersList)
     {
-        Map<String, MemberRegistration>  remoteMemberMap = new HashMap<>();
+        Map<String, MemberRegistration>  remoteMemberMap = new LinkedHashMap<>();
 
         if ((remoteMembersList != null) && (! remoteMembersList.isEmpty()))
         {
@@ -195,29 +260,14 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
     {
         if ((remoteRegistration != null) && (remoteRegistration.getMetadataCollectionId() != null))
         {
-            /*
-             * Retrieve the current properties from the file is necessary.
-             */
-            CohortMembership registryStoreProperties = this.retrieveRegistryStoreProperties();
-
             /*
              * It is possible that the remote repository already has an entry in the cohort registry and if this is
              * the case, it will be overwritten.  Otherwise the new remote properties are added.
              * The map is used to ensure duplicates can not be stored.
              */
-            Map<String, MemberRegistration>  remoteMemberMap = this.getRemoteMemberMap(registryStoreProperties.getRemoteRegistrations());
-
-            /*
-             * Now add the new member to the map.  This will overwrite any previous registration.
-             */
-            remoteMemberMap.put(remoteRegistration.getMetadataCollectionId(), remoteRegistration);
-
-            registryStoreProperties.setRemoteRegistrations(new ArrayList<>(remoteMemberMap.values()));
-
-            /*
-             * Write out the new cohort registry content.
-             */
-            this.writeRegistryStoreProperties(registryStoreProperties);
+            this.changeRegistryStore(new FileBasedRegistryJournalEntry(FileBasedRegistryJournalEntry.Operation.SAVE_REMOTE,
+                                                                       remoteRegistration.getMetadataCollectionId(),
+                                                                       remoteRegistration));
         }
         else
         {
@@ -241,11 +291,7 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
     @Override
     public synchronized List<MemberRegistration> retrieveRemoteRegistrations()
     {
-        /*
-         * Ensure the current properties are retrieved from the registry.
-         */
-        CohortMembership registryStoreProperties = this.retrieveRegistryStoreProperties();
-        Map<String, MemberRegistration>  remoteMemberMap = this.getRemoteMemberMap(registryStoreProperties.getRemoteRegistrations());
+        this.loadRegistryStore();
 
         if (remoteMemberMap.isEmpty())
         {
@@ -272,11 +318,7 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
 
         if (metadataCollectionId != null)
         {
-            /*
-             * Ensure the current properties are retrieved from the registry.
-             */
-            CohortMembership registryStoreProperties = this.retrieveRegistryStoreProperties();
-            Map<String, MemberRegistration>  remoteMemberMap = this.getRemoteMemberMap(registryStoreProperties.getRemoteRegistrations());
+            this.loadRegistryStore();
 
             remoteRegistration = remoteMemberMap.get(metadataCollectionId);
         }
@@ -311,21 +353,13 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
     {
         if (metadataCollectionId != null)
         {
-            /*
-             * Ensure the current properties are retrieved from the registry.
-             */
-            CohortMembership registryStoreProperties = this.retrieveRegistryStoreProperties();
-            Map<String, MemberRegistration> remoteMemberMap = this.getRemoteMemberMap(registryStoreProperties.getRemoteRegistrations());
+            this.loadRegistryStore();
 
-            /*
-             * Remove the requested properties
-             */
-            MemberRegistration removedMember = remoteMemberMap.remove(metadataCollectionId);
-
-            if (removedMember != null)
+            if (remoteMemberMap.containsKey(metadataCollectionId))
             {
-                registryStoreProperties.setRemoteRegistrations(new ArrayList<>(remoteMemberMap.values()));
-                writeRegistryStoreProperties(registryStoreProperties);
+                this.changeRegistryStore(new FileBasedRegistryJournalEntry(FileBasedRegistryJournalEntry.Operation.REMOVE_REMOTE,
+                                                                           metadataCollectionId,
+                                                                           null));
             }
             else
             {
@@ -360,18 +394,46 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
      * unregistered from the cohort.
      */
     @Override
-    public void clearAllRegistrations()
+    public synchronized void clearAllRegistrations()
     {
-        writeRegistryStoreProperties(null);
+        this.changeRegistryStore(new FileBasedRegistryJournalEntry(FileBasedRegistryJournalEntry.Operation.CLEAR_ALL,
+                                                                   null,
+                                                                   null));
     }
 
 
     /**
-     * Close the config file
+     * Write any pending changes to the registry file and close the config file
      */
     @Override
     public void disconnect()
     {
+        ScheduledExecutorService executor;
+
+        synchronized (this)
+        {
+            if (pendingFlush != null)
+            {
+                pendingFlush.cancel(false);
+                pendingFlush = null;
+            }
+
+            executor = flushExecutor;
+            flushExecutor = null;
+        }
+
+        this.flushRegistryStore();
+
+        if (executor != null)
+        {
+            executor.shutdown();
+        }
+
+        synchronized (this)
+        {
+            this.closeJournal();
+        }
+
         try
         {
             super.disconnect();
@@ -385,6 +447,320 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
     }
 
 
+    /**
+     * Load the registry store into memory if this has not already happened.  Any changes in the journal that
+     * were not written to the registry file before the server stopped are applied to the content of the file.
+     * The caller must hold the connector's lock.
+     */
+    private void loadRegistryStore()
+    {
+        if (remoteMemberMap == null)
+        {
+            CohortMembership registryStoreProperties = this.retrieveRegistryStoreProperties();
+
+            localRegistration = registryStoreProperties.getLocalRegistration();
+            remoteMemberMap = this.getRemoteMemberMap(registryStoreProperties.getRemoteRegistrations());
+
+            if (this.replayJournal() > 0)
+            {
+                changeCount++;
+                this.persistChanges();
+            }
+        }
+    }
+
+
+    /**
+     * Apply a change to the in-memory registry and arrange for it to be written to the registry file.
+     * The caller must hold the connector's lock.
+     *
+     * @param change description of the change
+     */
+    private void changeRegistryStore(FileBasedRegistryJournalEntry change)
+    {
+        this.loadRegistryStore();
+        this.applyChange(change);
+
+        changeCount++;
+
+        if (writeDelay > 0)
+        {
+            this.appendToJournal(change);
+        }
+
+        this.persistChanges();
+    }
+
+
+    /**
+     * Update the in-memory registry with a change.
+     *
+     * @param change description of the change
+     */
+    private void applyChange(FileBasedRegistryJournalEntry change)
+    {
+        if (change.getOperation() != null)
+        {
+            switch (change.getOperation())
+            {
+                case SAVE_LOCAL:
+                    localRegistration = change.getRegistration();
+                    break;
+
+                case REMOVE_LOCAL:
+                    localRegistration = null;
+                    break;
+
+                case SAVE_REMOTE:
+                    if (change.getRegistration() != null)
+                    {
+                        remoteMemberMap.put(change.getMetadataCollectionId(), change.getRegistration());
+                    }
+                    break;
+
+                case REMOVE_REMOTE:
+                    remoteMemberMap.remove(change.getMetadataCollectionId());
+                    break;
+
+                case CLEAR_ALL:
+                    localRegistration = null;
+                    remoteMemberMap.clear();
+                    break;
+            }
+        }
+    }
+
+
+    /**
+     * Return the current content of the in-memory registry in the form stored in the registry file.
+     *
+     * @return CohortMembership object or null if the registry is empty
+     */
+    private CohortMembership getRegistryStoreProperties()
+    {
+        if ((localRegistration == null) && (remoteMemberMap.isEmpty()))
+        {
+            return null;
+        }
+
+        CohortMembership registryStoreProperties = new CohortMembership();
+
+        registryStoreProperties.setLocalRegistration(localRegistration);
+        registryStoreProperties.setRemoteRegistrations(new ArrayList<>(remoteMemberMap.values()));
+
+        return registryStoreProperties;
+    }
+
+
+    /**
+     * Write the registry file now or schedule it to be written once the write delay has passed.
+     * The caller must hold the connector's lock.
+     */
+    private void persistChanges()
+    {
+        if (writeDelay > 0)
+        {
+            /*
+             * A pending flush picks up this change when it runs.
+             */
+            if (pendingFlush == null)
+            {
+                if (flushExecutor == null)
+                {
+                    flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable ->
+                                                                               {
+                                                                                   Thread thread = new Thread(runnable, "CohortRegistryStore:" + registryStoreName);
+                                                                                   thread.setDaemon(true);
+                                                                                   return thread;
+                                                                               });
+                }
+
+                pendingFlush = flushExecutor.schedule(this::flushRegistryStore, writeDelay, TimeUnit.MILLISECONDS);
+            }
+        }
+        else if (this.writeRegistryStoreProperties(this.getRegistryStoreProperties()))
+        {
+            writtenChangeCount = changeCount;
+            this.removeJournal();
+        }
+    }
+
+
+    /**
+     * Write all of the changes made since the last write to the registry file.  The content of the registry
+     * is copied under the connector's lock so that changes can continue while the file is written.
+     * Once the registry file contains all of the changes, the journal is no longer needed.
+     */
+    private void flushRegistryStore()
+    {
+        synchronized (flushLock)
+        {
+            CohortMembership registryStoreProperties;
+            long             flushedChangeCount;
+
+            synchronized (this)
+            {
+                pendingFlush = null;
+
+                if ((remoteMemberMap == null) || (writtenChangeCount == changeCount))
+                {
+                    return;
+                }
+
+                registryStoreProperties = this.getRegistryStoreProperties();
+                flushedChangeCount = changeCount;
+            }
+
+            if (this.writeRegistryStoreProperties(registryStoreProperties))
+            {
+                synchronized (this)
+                {
+                    writtenChangeCount = flushedChangeCount;
+
+                    /*
+                     * If there have been more changes, the journal is still needed and another flush is pending.
+                     */
+                    if (writtenChangeCount == changeCount)
+                    {
+                        this.removeJournal();
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the name of the journal file.
+     *
+     * @return file name
+     */
+    private String getJournalName()
+    {
+        return registryStoreName + journalFileSuffix;
+    }
+
+
+    /**
+     * Apply the changes recorded in the journal to the in-memory registry.  The journal is read up to the
+     * first entry that can not be parsed since this is a change that was not completely written.
+     *
+     * @return number of changes applied
+     */
+    private int replayJournal()
+    {
+        File journalFile = new File(this.getJournalName());
+        int  replayCount = 0;
+
+        if (journalFile.exists())
+        {
+            journalInUse = true;
+
+            try
+            {
+                log.debug("Replaying cohort registry store journal");
+
+                for (String journalEntry : FileUtils.readLines(journalFile, StandardCharsets.UTF_8))
+                {
+                    if (! journalEntry.isEmpty())
+                    {
+                        this.applyChange(objectMapper.readValue(journalEntry, FileBasedRegistryJournalEntry.class));
+                        replayCount++;
+                    }
+                }
+            }
+            catch (IOException ioException)
+            {
+                log.debug("Ignoring incomplete entry in cohort registry store journal", ioException);
+            }
+        }
+
+        return replayCount;
+    }
+
+
+    /**
+     * Append a change to the journal.  The entry is passed to the operating system but the call does not wait
+     * for it to reach the disk.
+     *
+     * @param change description of the change
+     */
+    private void appendToJournal(FileBasedRegistryJournalEntry change)
+    {
+        try
+        {
+            if (journalWriter == null)
+            {
+                journalWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(this.getJournalName(), true),
+                                                                          StandardCharsets.UTF_8));
+                journalInUse = true;
+            }
+
+            journalWriter.write(objectMapper.writeValueAsString(change));
+            journalWriter.write(System.lineSeparator());
+            journalWriter.flush();
+        }
+        catch (IOException   ioException)
+        {
+            if (auditLog != null)
+            {
+                String actionDescription = "Writing Cohort Registry Store Journal";
+
+                auditLog.logException(actionDescription,
+                                      OMRSAuditCode.UNUSABLE_REGISTRY_FILE.getMessageDefinition(this.getJournalName()),
+                                      ioException);
+            }
+
+            log.debug("Unusable Cohort Registry Store Journal :(", ioException);
+
+            this.closeJournal();
+        }
+    }
+
+
+    /**
+     * Close the journal if it is open.
+     */
+    private void closeJournal()
+    {
+        if (journalWriter != null)
+        {
+            try
+            {
+                journalWriter.close();
+            }
+            catch (IOException ioException)
+            {
+                log.debug("Ignoring error closing cohort registry store journal", ioException);
+            }
+
+            journalWriter = null;
+        }
+    }
+
+
+    /**
+     * Delete the journal because all of its changes are in the registry file.
+     */
+    private void removeJournal()
+    {
+        if (journalInUse)
+        {
+            this.closeJournal();
+
+            try
+            {
+                Files.deleteIfExists(new File(this.getJournalName()).toPath());
+                journalInUse = false;
+            }
+            catch (IOException ioException)
+            {
+                log.debug("Unable to remove cohort registry store journal", ioException);
+            }
+        }
+    }
+
+
     /**
      * Refresh the registry store properties with the current values in the file base registry store.
      *
@@ -401,7 +777,6 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
 
             String registryStoreFileContents = FileUtils.readFileToString(registryStoreFile, "UTF-8");
 
-            ObjectMapper objectMapper = new ObjectMapper();
             newRegistryStoreProperties = objectMapper.readValue(registryStoreFileContents, CohortMembership.class);
         }
         catch (IOException   ioException)
@@ -582,11 +957,13 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
 
 
     /**
-     * Writes the supplied registry store properties to the registry store.
+     * Writes the supplied registry store properties to the registry store.  The new content is written
+     * to a temporary file that then replaces the registry file.
      *
      * @param newRegistryStoreProperties - contents of the registry store
+     * @return whether the registry store was written
      */
-    private void writeRegistryStoreProperties(CohortMembership   newRegistryStoreProperties)
+    private boolean writeRegistryStoreProperties(CohortMembership   newRegistryStoreProperties)
     {
         File    registryStoreFile = new File(registryStoreName);
 
@@ -598,16 +975,29 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
 
             if (newRegistryStoreProperties == null)
             {
-                registryStoreFile.delete();
+                Files.deleteIfExists(registryStoreFile.toPath());
             }
             else
             {
-                ObjectMapper objectMapper = new ObjectMapper();
+                File   temporaryFile             = new File(registryStoreName + temporaryFileSuffix);
+                byte[] registryStoreFileContents = objectMapper.writeValueAsBytes(newRegistryStoreProperties);
 
-                String registryStoreFileContents = objectMapper.writeValueAsString(newRegistryStoreProperties);
+                FileUtils.writeByteArrayToFile(temporaryFile, registryStoreFileContents, false);
 
-                FileUtils.writeStringToFile(registryStoreFile, registryStoreFileContents, (String)null,false);
+                try
+                {
+                    Files.move(temporaryFile.toPath(),
+                               registryStoreFile.toPath(),
+                               StandardCopyOption.ATOMIC_MOVE,
+                               StandardCopyOption.REPLACE_EXISTING);
+                }
+                catch (AtomicMoveNotSupportedException notSupported)
+                {
+                    Files.move(temporaryFile.toPath(), registryStoreFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
             }
+
+            return true;
         }
         catch (IOException   ioException)
         {
@@ -622,6 +1012,8 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
 
             log.debug("Unusable Cohort Registry Store :(", ioException);
         }
+
+        return false;
     }
 
 
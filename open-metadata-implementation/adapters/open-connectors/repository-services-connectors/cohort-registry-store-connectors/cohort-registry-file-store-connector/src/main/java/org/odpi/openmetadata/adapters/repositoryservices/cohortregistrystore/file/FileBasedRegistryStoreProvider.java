@@ -5,6 +5,9 @@ package org.odpi.openmetadata.adapters.repositoryservices.cohortregistrystore.fi
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.OMRSCohortRegistryStoreProviderBase;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * FileBasedRegistryStoreProvider is the OCF connector provider for the file based cohort registry store.
  */
@@ -14,6 +17,13 @@ public class FileBasedRegistryStoreProvider extends OMRSCohortRegistryStoreProvi
     static final String  connectorTypeName = "File Based Cohort Registry Store Connector";
     static final String  connectorTypeDescription = "Connector supports storing of the open metadata cohort registry in a file.";
 
+    /*
+     * The number of milliseconds that changes to the registry are held in memory before they are written
+     * to the registry file.  While the write is pending, each change is appended to a journal.
+     * The default (0) writes the registry file as part of each change.
+     */
+    static final String  WRITE_DELAY_CONFIGURATION_PROPERTY = "writeDelay";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * registry store implementation.
@@ -32,6 +42,10 @@ public class FileBasedRegistryStoreProvider extends OMRSCohortRegistryStoreProvi
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(WRITE_DELAY_CONFIGURATION_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
@@ -8,9 +8,13 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.properties.MemberRegistration;
 import org.testng.annotations.Test;
 
+import java.io.File;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -81,6 +85,20 @@ public class TestFileBasedRegistryStoreConnector
         return new ConnectionProperties(connection);
     }
 
+    private ConnectionProperties getDelayedWriteConnectionProperties(String endpointAddress)
+    {
+        Connection          connection              = getGoodConnection();
+        Endpoint            endpoint                = connection.getEndpoint();
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(FileBasedRegistryStoreProvider.WRITE_DELAY_CONFIGURATION_PROPERTY, 60000);
+        connection.setConfigurationProperties(configurationProperties);
+        endpoint.setAddress(endpointAddress);
+        connection.setEndpoint(endpoint);
+
+        return new ConnectionProperties(connection);
+    }
+
     private ConnectionProperties getNullEndpointConnectionProperties()
     {
         Connection  connection = getGoodConnection();
@@ -245,4 +263,80 @@ public class TestFileBasedRegistryStoreConnector
             assertTrue(false);
         }
     }
+
+
+    @Test public void testDelayedWrites()
+    {
+        final String endpointAddress = "TestDelayedWrites.registrystore";
+        final int    memberCount     = 50;
+
+        File registryFile = new File(endpointAddress);
+        File journalFile  = new File(endpointAddress + ".journal");
+
+        FileBasedRegistryStoreConnector connector = new FileBasedRegistryStoreConnector();
+
+        try
+        {
+            connector.initialize(UUID.randomUUID().toString(), getDelayedWriteConnectionProperties(endpointAddress));
+            connector.start();
+
+            exerciseActiveConnector(connector);
+
+            connector.saveLocalRegistration(getMemberRegistration("local"));
+
+            for (int i = 0; i < memberCount; i++)
+            {
+                connector.saveRemoteRegistration(getMemberRegistration("Member" + i));
+            }
+            connector.removeRemoteRegistration("Member0MetadataCollectionId");
+
+            /*
+             * The writes to the registry file are still pending so only the journal is present.
+             */
+            assertFalse(registryFile.exists());
+            assertTrue(journalFile.exists());
+
+            /*
+             * A new connector recovers the changes from the journal.
+             */
+            FileBasedRegistryStoreConnector recoveringConnector = new FileBasedRegistryStoreConnector();
+
+            recoveringConnector.initialize(UUID.randomUUID().toString(), getDelayedWriteConnectionProperties(endpointAddress));
+            recoveringConnector.start();
+
+            assertTrue(recoveringConnector.retrieveLocalRegistration() != null);
+            assertEquals(recoveringConnector.retrieveRemoteRegistrations().size(), memberCount - 1);
+            assertTrue(recoveringConnector.retrieveRemoteRegistration("Member0MetadataCollectionId") == null);
+
+            /*
+             * Closing the connector writes the registry file and removes the journal.
+             */
+            recoveringConnector.close();
+            connector.close();
+
+            assertTrue(registryFile.exists());
+            assertFalse(journalFile.exists());
+
+            connector = new FileBasedRegistryStoreConnector();
+            connector.initialize(UUID.randomUUID().toString(), getDelayedWriteConnectionProperties(endpointAddress));
+            connector.start();
+
+            assertEquals(connector.retrieveRemoteRegistrations().size(), memberCount - 1);
+
+            connector.clearAllRegistrations();
+            connector.close();
+
+            assertFalse(registryFile.exists());
+            assertFalse(journalFile.exists());
+        }
+        catch (Throwable exception)
+        {
+            assertTrue(false);
+        }
+        finally
+        {
+            registryFile.delete();
+            journalFile.delete();
+        }
+    }
 }
@@ -421,6 +421,81 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    // getEntitySummariesByGUIDs
+    @Override
+    public List<EntitySummary> getEntitySummariesByGUIDs(String       userId,
+                                                         List<String> guids)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String  methodName        = "getEntitySummariesByGUIDs";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        List<EntitySummary> entities = new ArrayList<>();
+
+        for (EntitySummary entity : graphStore.getEntitiesFromStore(guids, true))
+        {
+            if (entity.getStatus() != InstanceStatus.DELETED)
+            {
+                entities.add(entity);
+            }
+        }
+
+        if (entities.isEmpty())
+        {
+            return null;
+        }
+
+        return entities;
+    }
+
+    // getEntitiesByGUIDs
+    @Override
+    public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                 List<String> guids)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String  methodName        = "getEntitiesByGUIDs";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (EntitySummary entity : graphStore.getEntitiesFromStore(guids, false))
+        {
+            if (entity.getStatus() != InstanceStatus.DELETED)
+            {
+                entities.add((EntityDetail) entity);
+            }
+        }
+
+        if (entities.isEmpty())
+        {
+            return null;
+        }
+
+        return entities;
+    }
+
+
     // addRelationship
     @Override
     public Relationship addRelationship(String               userId,
@@ -608,6 +683,44 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    // getRelationshipsByGUIDs
+    @Override
+    public List<Relationship> getRelationshipsByGUIDs(String       userId,
+                                                      List<String> guids)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationshipsByGUIDs";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Process operation
+         */
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (Relationship relationship : graphStore.getRelationshipsFromStore(guids))
+        {
+            if (relationship.getStatus() != InstanceStatus.DELETED)
+            {
+                relationships.add(relationship);
+            }
+        }
+
+        if (relationships.isEmpty())
+        {
+            return null;
+        }
+
+        return relationships;
+    }
+
+
     // updateEntityStatus
     @Override
     public EntityDetail updateEntityStatus(String           userId,
@@ -2028,6 +2141,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         }
 
         List<EntityDetail> foundEntities = null;
+        boolean            pagedByGraph  = false;
 
         // If there were any dups there must be horizontal duplication (across the types within the valid type set).
         if (queryPlan.getQueryStrategy() == GraphOMRSQueryPlan.QueryStrategy.Iterate)
@@ -2039,12 +2153,16 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         }
         else
         {
-            // If there are no dups in property maps perform a delegated query.
+            // If there are no dups in property maps perform a delegated query - with status filtering, sequencing and paging pushed into the traversal where possible.
+            queryPlan.setResultOptions(limitResultsByStatus, matchClassifications, sequencingOrder, fromEntityElement, pageSize);
+            pagedByGraph = queryPlan.isPagingDelegated();
+
             foundEntities = graphStore.findEntitiesForTypes(validTypeNames,
                                                             filterTypeName,
                                                             qualifiedPropertyNameToTypeDefinedAttribute,
                                                             shortPropertyNameToQualifiedPropertyNames,
-                                                            matchProperties);
+                                                            matchProperties,
+                                                            queryPlan);
         }
 
 
@@ -2067,8 +2185,20 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                     }
                 }
             }
-            // Perform sequencing and paging
-            entities = repositoryHelper.formatEntityResults(retainedEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+
+            if (pagedByGraph)
+            {
+                // Sequencing and paging has been performed by the traversal
+                if (! retainedEntities.isEmpty())
+                {
+                    entities = retainedEntities;
+                }
+            }
+            else
+            {
+                // Perform sequencing and paging
+                entities = repositoryHelper.formatEntityResults(retainedEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+            }
         }
 
         return entities;
@@ -3745,6 +3875,69 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    @Override
+    public void saveInstanceReferenceCopies(String          userId,
+                                            InstanceGraph   instances)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            EntityNotKnownException,
+            PropertyErrorException,
+            EntityConflictException,
+            RelationshipConflictException,
+            InvalidEntityException,
+            InvalidRelationshipException,
+            UserNotAuthorizedException
+    {
+        final String  methodName                = "saveInstanceReferenceCopies";
+        final String  entityParameterName       = "entity";
+        final String  relationshipParameterName = "relationship";
+
+        /*
+         * Validate parameters - as in the default implementation, any instance from the local
+         * metadata collection is skipped.
+         */
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        if (instances != null)
+        {
+            if (instances.getEntities() != null)
+            {
+                for (EntityDetail entity : instances.getEntities())
+                {
+                    if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
+                    {
+                        super.referenceInstanceParameterValidation(userId, entity, entityParameterName, methodName);
+                        entities.add(entity);
+                    }
+                }
+            }
+
+            if (instances.getRelationships() != null)
+            {
+                for (Relationship relationship : instances.getRelationships())
+                {
+                    if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
+                    {
+                        super.referenceInstanceParameterValidation(userId, relationship, relationshipParameterName, methodName);
+                        relationships.add(relationship);
+                    }
+                }
+            }
+        }
+
+        /*
+         * Save all of the instances in one transaction
+         */
+        if ((! entities.isEmpty()) || (! relationships.isEmpty()))
+        {
+            graphStore.saveInstanceReferenceCopiesToStore(entities, relationships);
+        }
+    }
+
+
     @Override
     public void purgeRelationshipReferenceCopy(String   userId,
                                                String   relationshipGUID,
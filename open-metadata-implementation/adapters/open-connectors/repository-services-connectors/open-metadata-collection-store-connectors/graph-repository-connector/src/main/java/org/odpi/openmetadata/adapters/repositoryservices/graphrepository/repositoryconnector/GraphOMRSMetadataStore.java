@@ -4,9 +4,11 @@
 package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
 
 
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
@@ -15,6 +17,7 @@ import org.janusgraph.core.JanusGraph;
 import org.janusgraph.core.attribute.Text;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
@@ -75,6 +78,8 @@ import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_GUID;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_IS_PROXY;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_CURRENT_STATUS;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_CREATE_TIME;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_UPDATE_TIME;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_TYPE_NAME;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_PREFIX_CLASSIFICATION;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_PREFIX_ENTITY;
@@ -294,12 +299,28 @@ class GraphOMRSMetadataStore {
     //
     synchronized void createEntityProxyInStore(EntityProxy entityProxy)
 
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        addEntityProxyToGraph(g, entityProxy);
+
+        g.tx().commit();
+    }
+
+
+    /*
+     * Add the changes to the transaction of the supplied traversal source without committing it.
+     * On error the transaction is rolled back and an exception is thrown.
+     */
+    private void addEntityProxyToGraph(GraphTraversalSource g, EntityProxy entityProxy)
+
     throws RepositoryErrorException,
            InvalidParameterException
     {
         final String methodName = "createEntityProxyInStore";
 
-        GraphTraversalSource g = instanceGraph.traversal();
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityProxy.getGUID());
         if (vertexIt.hasNext())
         {
@@ -350,9 +371,6 @@ class GraphOMRSMetadataStore {
                     this.getClass().getName(),
                     methodName, e);
         }
-
-        g.tx().commit();
-
     }
 
 
@@ -394,6 +412,21 @@ class GraphOMRSMetadataStore {
      */
     synchronized void saveEntityReferenceCopyToStore(EntityDetail entity)
 
+    throws InvalidParameterException,
+           RepositoryErrorException
+
+    {
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        addEntityReferenceCopyToGraph(g, entity);
+
+        g.tx().commit();
+    }
+
+
+    // Add the reference copy of the entity to the current transaction - see addEntityProxyToGraph
+    private void addEntityReferenceCopyToGraph(GraphTraversalSource g, EntityDetail entity)
+
     throws InvalidParameterException,
            RepositoryErrorException
 
@@ -403,7 +436,6 @@ class GraphOMRSMetadataStore {
 
         Vertex vertex;
 
-        GraphTraversalSource g = instanceGraph.traversal();
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entity.getGUID());
 
         if (vertexIt.hasNext())
@@ -489,9 +521,6 @@ class GraphOMRSMetadataStore {
                     this.getClass().getName(),
                     methodName, e);
         }
-
-
-        g.tx().commit();
     }
 
 
@@ -662,6 +691,79 @@ class GraphOMRSMetadataStore {
     }
 
 
+    /*
+     * Retrieve the entities with the supplied GUIDs in a single traversal.  Unknown GUIDs are skipped.
+     * If summariesOnly is false, proxies are skipped; otherwise proxies are returned as summaries.
+     * The results are returned in the same order as the requested GUIDs.
+     */
+    synchronized List<EntitySummary> getEntitiesFromStore(List<String> guids,
+                                                          boolean      summariesOnly)
+
+    throws RepositoryErrorException
+    {
+        String methodName = "getEntitiesFromStore";
+
+        Map<String, EntitySummary> entityMap = new HashMap<>();
+
+        // Look in the graph
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, within(guids));
+
+        String guid = null;
+        try
+        {
+            while (gt.hasNext())
+            {
+                Vertex vertex = gt.next();
+                log.debug("{} found entity vertex {}", methodName, vertex);
+
+                guid = entityMapper.getEntityGUID(vertex);
+
+                if (summariesOnly)
+                {
+                    EntitySummary entity = new EntitySummary();
+                    entityMapper.mapVertexToEntitySummary(vertex, entity);
+                    entityMap.put(guid, entity);
+                }
+                else if (!entityMapper.isProxy(vertex))
+                {
+                    EntityDetail entity = new EntityDetail();
+                    entityMapper.mapVertexToEntityDetail(vertex, entity);
+                    entityMap.put(guid, entity);
+                }
+            }
+        }
+        catch (RepositoryErrorException | EntityProxyOnlyException e)
+        {
+            log.error("{} Caught exception {}", methodName, e.getMessage());
+            g.tx().rollback();
+
+            throw new RepositoryErrorException(
+                    GraphOMRSErrorCode.ENTITY_NOT_FOUND.getMessageDefinition(
+                            guid, methodName,
+                            this.getClass().getName(),
+                            repositoryName),
+                    this.getClass().getName(),
+                    methodName, e);
+        }
+
+        g.tx().commit();
+
+        List<EntitySummary> entities = new ArrayList<>();
+        for (String requestedGUID : guids)
+        {
+            EntitySummary entity = entityMap.remove(requestedGUID);
+            if (entity != null)
+            {
+                entities.add(entity);
+            }
+        }
+
+        return entities;
+    }
+
+
     synchronized EntityProxy getEntityProxyFromStore(String guid)
 
     throws RepositoryErrorException
@@ -868,11 +970,53 @@ class GraphOMRSMetadataStore {
            RepositoryErrorException
 
     {
+        GraphTraversalSource g = instanceGraph.traversal();
 
-        final String methodName = "saveRelationshipReferenceCopyToStore";
+        addRelationshipReferenceCopyToGraph(g, relationship);
+
+        g.tx().commit();
+    }
+
+
+    /*
+     * Save a batch of reference copies in a single transaction.  The entities are added before the relationships
+     * so that a relationship can connect to an entity that is saved in the same batch.  If any instance fails,
+     * the whole batch is rolled back.
+     */
+    synchronized void saveInstanceReferenceCopiesToStore(List<EntityDetail> entities,
+                                                         List<Relationship> relationships)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
 
+    {
         GraphTraversalSource g = instanceGraph.traversal();
 
+        for (EntityDetail entity : entities)
+        {
+            addEntityReferenceCopyToGraph(g, entity);
+        }
+
+        for (Relationship relationship : relationships)
+        {
+            addRelationshipReferenceCopyToGraph(g, relationship);
+        }
+
+        g.tx().commit();
+    }
+
+
+    // Add the reference copy of the relationship to the current transaction - see addEntityProxyToGraph
+    private void addRelationshipReferenceCopyToGraph(GraphTraversalSource g, Relationship relationship)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
+
+    {
+
+        final String methodName = "saveRelationshipReferenceCopyToStore";
+
+
         Vertex vertex;
 
         // Process end 1
@@ -899,7 +1043,7 @@ class GraphOMRSMetadataStore {
         else
         {
             // Entity does not exist, create proxy
-            createEntityProxyInStore(entityOne);
+            addEntityProxyToGraph(g, entityOne);
         }
 
         // Process end 2
@@ -924,7 +1068,7 @@ class GraphOMRSMetadataStore {
         else
         {
             // Entity does not exist, create proxy
-            createEntityProxyInStore(entityTwo);
+            addEntityProxyToGraph(g, entityTwo);
         }
 
 
@@ -1038,8 +1182,6 @@ class GraphOMRSMetadataStore {
                     methodName, e);
         }
 
-        log.debug("{} Commit tx containing creation or update of edge", methodName);
-        g.tx().commit();
     }
 
 
@@ -1118,6 +1260,86 @@ class GraphOMRSMetadataStore {
     }
 
 
+    /*
+     * Retrieve the relationships with the supplied GUIDs in a single traversal.  Unknown GUIDs are skipped.
+     * The results are returned in the same order as the requested GUIDs.
+     */
+    synchronized List<Relationship> getRelationshipsFromStore(List<String> guids)
+
+    throws RepositoryErrorException
+
+    {
+        String methodName = "getRelationshipsFromStore";
+
+        Map<String, Relationship> relationshipMap = new HashMap<>();
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, within(guids));
+
+        Vertex vertex = null;
+        try
+        {
+            while (edgeIt.hasNext())
+            {
+                Edge edge = edgeIt.next();
+                log.debug("{} found existing edge {}", methodName, edge);
+
+                Relationship relationship = new Relationship();
+
+                // Map the properties
+                relationshipMapper.mapEdgeToRelationship(edge, relationship);
+
+                // Set the relationship ends...
+                vertex = edge.outVertex();
+                if (vertex != null)
+                {
+                    EntityProxy entityOneProxy = new EntityProxy();
+                    entityMapper.mapVertexToEntityProxy(vertex, entityOneProxy);
+                    relationship.setEntityOneProxy(entityOneProxy);
+                }
+
+                vertex = edge.inVertex();
+                if (vertex != null)
+                {
+                    EntityProxy entityTwoProxy = new EntityProxy();
+                    entityMapper.mapVertexToEntityProxy(vertex, entityTwoProxy);
+                    relationship.setEntityTwoProxy(entityTwoProxy);
+                }
+
+                relationshipMap.put(relationship.getGUID(), relationship);
+            }
+        }
+        catch (Exception e)
+        {
+            log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
+            g.tx().rollback();
+
+            throw new RepositoryErrorException(
+                    GraphOMRSErrorCode.RELATIONSHIP_NOT_FOUND.getMessageDefinition(
+                            entityMapper.getEntityGUID(vertex), methodName,
+                            this.getClass().getName(),
+                            repositoryName),
+                    this.getClass().getName(),
+                    methodName, e);
+        }
+
+        g.tx().commit();
+
+        List<Relationship> relationships = new ArrayList<>();
+        for (String requestedGUID : guids)
+        {
+            Relationship relationship = relationshipMap.remove(requestedGUID);
+            if (relationship != null)
+            {
+                relationships.add(relationship);
+            }
+        }
+
+        return relationships;
+    }
+
+
     synchronized void updateEntityInStore(EntityDetail entity)
 
     throws RepositoryErrorException
@@ -6054,7 +6276,8 @@ class GraphOMRSMetadataStore {
                                             String                         filterTypeName,
                                             Map<String, TypeDefAttribute>  qualifiedPropertyNameToTypeDefinedAttribute,
                                             Map<String, List<String>>      shortPropertyNameToQualifiedPropertyNames,
-                                            SearchProperties               searchProperties)
+                                            SearchProperties               searchProperties,
+                                            GraphOMRSQueryPlan             queryPlan)
 
     throws InvalidParameterException,
            RepositoryErrorException,
@@ -6224,6 +6447,28 @@ class GraphOMRSMetadataStore {
             gt = gt.has(PROPERTY_KEY_ENTITY_TYPE_NAME, within(validTypeNames));
         }
 
+        /*
+         * Push the status filtering and, if the query plan allows it, the sequencing and paging into the traversal
+         * so that only the vertices for the requested page are mapped to entities.
+         */
+        if (queryPlan != null)
+        {
+            gt = gt.not(__.has(PROPERTY_KEY_ENTITY_CURRENT_STATUS, InstanceStatus.DELETED.getOrdinal()));
+
+            if (queryPlan.getStatusOrdinals() != null)
+            {
+                gt = gt.has(PROPERTY_KEY_ENTITY_CURRENT_STATUS, within(queryPlan.getStatusOrdinals()));
+            }
+
+            if (queryPlan.isPagingDelegated())
+            {
+                gt = orderEntityTraversal(gt, queryPlan.getSequencingOrder());
+                gt = gt.range(queryPlan.getFromElement(), (long)queryPlan.getFromElement() + queryPlan.getPageSize());
+            }
+
+            log.debug("{} traversal looks like this --> {} ", methodName, gt);
+        }
+
 
         List<EntityDetail> entities = new ArrayList<>();
 
@@ -6271,6 +6516,43 @@ class GraphOMRSMetadataStore {
 
 
 
+    /*
+     * Add an ordering step to an entity traversal for one of the sequencing orders that are based on core properties.
+     * A missing date property is ordered as the earliest date, which matches the ordering used by the repository
+     * helper where a null value sorts before a non-null value.
+     */
+    private GraphTraversal<Vertex, Vertex> orderEntityTraversal(GraphTraversal<Vertex, Vertex> gt,
+                                                                SequencingOrder                sequencingOrder)
+    {
+        if (sequencingOrder == null)
+        {
+            return gt;
+        }
+
+        switch (sequencingOrder)
+        {
+            case GUID:
+                return gt.order().by(PROPERTY_KEY_ENTITY_GUID, Order.asc);
+
+            case CREATION_DATE_OLDEST:
+                return gt.order().by(__.coalesce(__.values(PROPERTY_KEY_ENTITY_CREATE_TIME), __.constant(new Date(0))), Order.asc);
+
+            case CREATION_DATE_RECENT:
+                return gt.order().by(__.coalesce(__.values(PROPERTY_KEY_ENTITY_CREATE_TIME), __.constant(new Date(0))), Order.desc);
+
+            case LAST_UPDATE_OLDEST:
+                return gt.order().by(__.coalesce(__.values(PROPERTY_KEY_ENTITY_UPDATE_TIME), __.constant(new Date(0))), Order.asc);
+
+            case LAST_UPDATE_RECENT:
+                return gt.order().by(__.coalesce(__.values(PROPERTY_KEY_ENTITY_UPDATE_TIME), __.constant(new Date(0))), Order.desc);
+
+            default:
+                return gt;
+        }
+    }
+
+
+
 
     // findRelationshipsForTypes
     List<Relationship> findRelationshipsForTypes(List<String>                   validTypeNames,
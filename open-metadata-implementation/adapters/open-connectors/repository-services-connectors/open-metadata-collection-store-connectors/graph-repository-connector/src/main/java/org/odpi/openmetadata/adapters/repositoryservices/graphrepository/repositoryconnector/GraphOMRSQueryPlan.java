@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
 
 
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationOrigin;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
@@ -10,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
@@ -46,6 +48,16 @@ public class GraphOMRSQueryPlan {
     private List<String>                  validTypeNames;
     private String                        filterTypeName;
 
+    /*
+     * Result options - these describe the status filtering, sequencing and paging that can be performed
+     * by the graph traversal rather than after the instances have been mapped.
+     */
+    private List<Integer>                 statusOrdinals   = null;
+    private SequencingOrder               sequencingOrder  = null;
+    private int                           fromElement      = 0;
+    private int                           pageSize         = 0;
+    private boolean                       pagingDelegated  = false;
+
 
 
 
@@ -171,6 +183,81 @@ public class GraphOMRSQueryPlan {
         return filterTypeName;
     }
 
+    public List<Integer> getStatusOrdinals()
+    {
+        return statusOrdinals;
+    }
+
+    public SequencingOrder getSequencingOrder()
+    {
+        return sequencingOrder;
+    }
+
+    public int getFromElement()
+    {
+        return fromElement;
+    }
+
+    public int getPageSize()
+    {
+        return pageSize;
+    }
+
+    public boolean isPagingDelegated()
+    {
+        return pagingDelegated;
+    }
+
+
+    /**
+     * Record the status filtering, sequencing and paging requested by the caller and decide how much of it can
+     * be performed in the graph traversal.
+     *
+     * The status filter can always be pushed into the traversal.  Sequencing and paging can only be delegated if
+     * no classification filtering is required (since that is performed on the mapped entities) and the sequencing
+     * order is based on a core property.  Sequencing on a type-defined property continues to be performed
+     * by the repository helper since it relies on the comparison rules for instance property values.
+     *
+     * @param limitResultsByStatus statuses to include in the results (null means any status other than DELETED)
+     * @param matchClassifications classification filtering requested by the caller
+     * @param sequencingOrder requested sequencing order
+     * @param fromElement starting element of the page
+     * @param pageSize maximum number of elements to return (0 means no limit)
+     */
+    void setResultOptions(List<InstanceStatus>  limitResultsByStatus,
+                          SearchClassifications matchClassifications,
+                          SequencingOrder       sequencingOrder,
+                          int                   fromElement,
+                          int                   pageSize)
+    {
+        if (limitResultsByStatus != null)
+        {
+            statusOrdinals = new ArrayList<>();
+
+            for (InstanceStatus status : limitResultsByStatus)
+            {
+                if ((status != null) && (status != InstanceStatus.DELETED))
+                {
+                    statusOrdinals.add(status.getOrdinal());
+                }
+            }
+        }
+
+        this.sequencingOrder = sequencingOrder;
+        this.fromElement = fromElement;
+        this.pageSize = pageSize;
+
+        boolean coreSequencing = (sequencingOrder == null)
+                              || (sequencingOrder == SequencingOrder.ANY)
+                              || (sequencingOrder == SequencingOrder.GUID)
+                              || (sequencingOrder == SequencingOrder.CREATION_DATE_RECENT)
+                              || (sequencingOrder == SequencingOrder.CREATION_DATE_OLDEST)
+                              || (sequencingOrder == SequencingOrder.LAST_UPDATE_RECENT)
+                              || (sequencingOrder == SequencingOrder.LAST_UPDATE_OLDEST);
+
+        pagingDelegated = (matchClassifications == null) && (pageSize > 0) && coreSequencing;
+    }
+
 
 
     private void generateQueryPlan(String                repositoryName,
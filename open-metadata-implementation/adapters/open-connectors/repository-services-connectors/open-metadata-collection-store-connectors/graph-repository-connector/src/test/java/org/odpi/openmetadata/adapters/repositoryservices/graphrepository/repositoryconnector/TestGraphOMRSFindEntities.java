@@ -0,0 +1,736 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefGallery;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * TestGraphOMRSFindEntities checks that the status filtering, sequencing and paging that findEntitiesForTypes
+ * performs in the graph traversal give the same results as the filtering, sequencing and paging that is performed
+ * on the mapped entities when the query plan does not allow them to be pushed into the traversal.  The repository
+ * helper is mocked with a small type system and the graph is stored in a temporary directory.
+ */
+public class TestGraphOMRSFindEntities
+{
+    private static final String repositoryName       = "TestGraphRepository";
+    private static final String metadataCollectionId = "test-metadata-collection-id";
+
+    private static final String testTypeName  = "TestEntity";
+    private static final String testTypeGUID  = "test-entity-type-guid";
+    private static final String otherTypeName = "OtherEntity";
+    private static final String otherTypeGUID = "other-entity-type-guid";
+
+    private static final int  testEntityCount  = 40;
+    private static final int  otherEntityCount = 5;
+    private static final long baseTime         = 1600000000000L;
+
+    private static final List<String> colours = Arrays.asList("red", "green", "blue", "grey");
+
+    private OMRSRepositoryHelper   repositoryHelper;
+    private GraphOMRSMetadataStore graphStore;
+    private Path                   graphDirectory;
+    private List<EntityDetail>     storedEntities = new ArrayList<>();
+
+
+    /**
+     * Create the graph store and populate it with the test entities.
+     *
+     * @throws Exception problem creating the store
+     */
+    @BeforeClass
+    public void setUp() throws Exception
+    {
+        EntityDef testType  = getEntityDef(testTypeGUID, testTypeName,
+                                           getAttribute("colour", PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING),
+                                           getAttribute("size", PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT));
+        EntityDef otherType = getEntityDef(otherTypeGUID, otherTypeName,
+                                           getAttribute("label", PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING));
+
+        TypeDefGallery gallery = new TypeDefGallery();
+        gallery.setTypeDefs(Arrays.asList(testType, otherType));
+
+        repositoryHelper = mock(OMRSRepositoryHelper.class);
+
+        when(repositoryHelper.getActiveTypeDefGallery()).thenReturn(gallery);
+
+        for (EntityDef typeDef : Arrays.asList(testType, otherType))
+        {
+            InstanceType instanceType = getInstanceType(typeDef);
+
+            when(repositoryHelper.getTypeDefByName(anyString(), eq(typeDef.getName()))).thenReturn(typeDef);
+            when(repositoryHelper.getTypeDef(anyString(), anyString(), eq(typeDef.getGUID()), anyString())).thenReturn(typeDef);
+            when(repositoryHelper.getTypeDef(anyString(), anyString(), anyString(), eq(typeDef.getGUID()), eq(typeDef.getName()), anyString())).thenReturn(typeDef);
+            when(repositoryHelper.getAllPropertiesForTypeDef(anyString(), eq(typeDef), anyString())).thenReturn(typeDef.getPropertiesDefinition());
+            when(repositoryHelper.getNewInstanceType(anyString(), eq(typeDef))).thenReturn(instanceType);
+            when(repositoryHelper.isTypeOf(anyString(), eq(typeDef.getName()), eq(typeDef.getName()))).thenReturn(true);
+        }
+
+        graphDirectory = Files.createTempDirectory("TestGraphOMRSFindEntities");
+
+        Map<String, Object> storageProperties = new HashMap<>();
+        storageProperties.put("storage.backend", "berkeleyje");
+        storageProperties.put("storage.directory", graphDirectory.resolve("berkeley").toString());
+        storageProperties.put("index.search.backend", "lucene");
+        storageProperties.put("index.search.directory", graphDirectory.resolve("searchindex").toString());
+
+        graphStore = new GraphOMRSMetadataStore(metadataCollectionId,
+                                                repositoryName,
+                                                repositoryHelper,
+                                                mock(AuditLog.class),
+                                                storageProperties);
+
+        /*
+         * The GUIDs, creation times and update times are in different orders so that each sequencing order gives a
+         * different result.  Only one entity has no update time so there are no ties.
+         */
+        for (int i = 0; i < testEntityCount; i++)
+        {
+            InstanceStatus status = InstanceStatus.ACTIVE;
+
+            if (i % 7 == 3)
+            {
+                status = InstanceStatus.DELETED;
+            }
+            else if (i % 5 == 0)
+            {
+                status = InstanceStatus.DRAFT;
+            }
+
+            InstanceProperties properties = new InstanceProperties();
+            properties.setProperty("colour", getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, colours.get(i % colours.size())));
+            properties.setProperty("size", getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT, i));
+
+            EntityDetail entity = getEntity(testType,
+                                            String.format("guid-%02d", (i * 17) % testEntityCount),
+                                            new Date(baseTime + ((i * 11) % testEntityCount) * 1000L),
+                                            (i == 6) ? null : new Date(baseTime + ((i * 13) % testEntityCount) * 1000L),
+                                            status,
+                                            properties);
+
+            graphStore.createEntityInStore(entity);
+            storedEntities.add(entity);
+        }
+
+        for (int i = 0; i < otherEntityCount; i++)
+        {
+            InstanceProperties properties = new InstanceProperties();
+            properties.setProperty("label", getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "other" + i));
+
+            EntityDetail entity = getEntity(otherType,
+                                            "other-guid-" + i,
+                                            new Date(baseTime + i * 500L),
+                                            new Date(baseTime + i * 700L),
+                                            InstanceStatus.ACTIVE,
+                                            properties);
+
+            graphStore.createEntityInStore(entity);
+            storedEntities.add(entity);
+        }
+    }
+
+
+    /**
+     * Remove the graph and search index files.
+     *
+     * @throws IOException problem deleting the files
+     */
+    @AfterClass
+    public void tearDown() throws IOException
+    {
+        if (graphDirectory != null)
+        {
+            List<File> files = new ArrayList<>();
+
+            Files.walk(graphDirectory).forEach(path -> files.add(path.toFile()));
+            Collections.reverse(files);
+
+            for (File file : files)
+            {
+                file.delete();
+            }
+        }
+    }
+
+
+    /**
+     * Return a type-defined attribute with a primitive type.
+     *
+     * @param attributeName name of the attribute
+     * @param category primitive type
+     * @return attribute
+     */
+    private static TypeDefAttribute getAttribute(String               attributeName,
+                                                 PrimitiveDefCategory category)
+    {
+        TypeDefAttribute attribute = new TypeDefAttribute();
+
+        attribute.setAttributeName(attributeName);
+        attribute.setAttributeType(new PrimitiveDef(category));
+
+        return attribute;
+    }
+
+
+    /**
+     * Return an entity type with no super type.
+     *
+     * @param guid unique identifier of the type
+     * @param name name of the type
+     * @param attributes attributes of the type
+     * @return entity type
+     */
+    private static EntityDef getEntityDef(String              guid,
+                                          String              name,
+                                          TypeDefAttribute... attributes)
+    {
+        EntityDef typeDef = new EntityDef();
+
+        typeDef.setGUID(guid);
+        typeDef.setName(name);
+        typeDef.setVersion(1L);
+        typeDef.setPropertiesDefinition(Arrays.asList(attributes));
+
+        return typeDef;
+    }
+
+
+    /**
+     * Return the instance type for an entity type.
+     *
+     * @param typeDef entity type
+     * @return instance type
+     */
+    private static InstanceType getInstanceType(TypeDef typeDef)
+    {
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefCategory(TypeDefCategory.ENTITY_DEF);
+        instanceType.setTypeDefGUID(typeDef.getGUID());
+        instanceType.setTypeDefName(typeDef.getName());
+        instanceType.setTypeDefVersion(typeDef.getVersion());
+
+        return instanceType;
+    }
+
+
+    /**
+     * Return a primitive property value.
+     *
+     * @param category primitive type
+     * @param value value
+     * @return property value
+     */
+    private static PrimitivePropertyValue getPrimitive(PrimitiveDefCategory category,
+                                                       Object               value)
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(category);
+        propertyValue.setPrimitiveValue(value);
+
+        return propertyValue;
+    }
+
+
+    /**
+     * Return an entity.
+     *
+     * @param typeDef type of the entity
+     * @param guid unique identifier
+     * @param createTime creation time
+     * @param updateTime last update time (may be null)
+     * @param status status
+     * @param properties properties
+     * @return entity
+     */
+    private static EntityDetail getEntity(TypeDef            typeDef,
+                                          String             guid,
+                                          Date               createTime,
+                                          Date               updateTime,
+                                          InstanceStatus     status,
+                                          InstanceProperties properties)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setType(getInstanceType(typeDef));
+        entity.setGUID(guid);
+        entity.setMetadataCollectionId(metadataCollectionId);
+        entity.setCreatedBy("testUser");
+        entity.setCreateTime(createTime);
+        entity.setUpdateTime(updateTime);
+        entity.setVersion(1L);
+        entity.setStatus(status);
+        entity.setProperties(properties);
+
+        return entity;
+    }
+
+
+    /**
+     * Return search properties with a single condition.
+     *
+     * @param matchCriteria match criteria
+     * @param conditions conditions
+     * @return search properties
+     */
+    private static SearchProperties getSearchProperties(MatchCriteria        matchCriteria,
+                                                        PropertyCondition... conditions)
+    {
+        SearchProperties searchProperties = new SearchProperties();
+
+        searchProperties.setMatchCriteria(matchCriteria);
+        searchProperties.setConditions(Arrays.asList(conditions));
+
+        return searchProperties;
+    }
+
+
+    /**
+     * Return a property condition.
+     *
+     * @param propertyName name of the property
+     * @param operator comparison operator
+     * @param value value to compare with
+     * @return condition
+     */
+    private static PropertyCondition getCondition(String                     propertyName,
+                                                  PropertyComparisonOperator operator,
+                                                  PrimitivePropertyValue     value)
+    {
+        PropertyCondition condition = new PropertyCondition();
+
+        condition.setProperty(propertyName);
+        condition.setOperator(operator);
+        condition.setValue(value);
+
+        return condition;
+    }
+
+
+    /**
+     * Return the query plan for a search.
+     *
+     * @param filterTypeGUID type to search for, or null for all types
+     * @param searchProperties property conditions
+     * @return query plan
+     * @throws Exception problem creating the plan
+     */
+    private GraphOMRSQueryPlan getQueryPlan(String           filterTypeGUID,
+                                            SearchProperties searchProperties) throws Exception
+    {
+        return new GraphOMRSQueryPlan(repositoryName,
+                                      metadataCollectionId,
+                                      repositoryHelper,
+                                      TypeDefCategory.ENTITY_DEF,
+                                      searchProperties,
+                                      filterTypeGUID,
+                                      null);
+    }
+
+
+    /**
+     * Run the search through the graph store.
+     *
+     * @param queryPlan query plan (with or without result options)
+     * @param searchProperties property conditions
+     * @param pushDown whether the query plan is passed to the store so the traversal performs the status filtering,
+     *                 sequencing and paging that the plan allows
+     * @return entities returned by the store
+     * @throws Exception problem with the search
+     */
+    private List<EntityDetail> findEntities(GraphOMRSQueryPlan queryPlan,
+                                            SearchProperties   searchProperties,
+                                            boolean            pushDown) throws Exception
+    {
+        return graphStore.findEntitiesForTypes(queryPlan.getValidTypeNames(),
+                                               queryPlan.getFilterTypeName(),
+                                               queryPlan.getQualifiedPropertyNameToTypeDefinedAttribute(),
+                                               queryPlan.getShortPropertyNameToQualifiedPropertyNames(),
+                                               searchProperties,
+                                               pushDown ? queryPlan : null);
+    }
+
+
+    /**
+     * Return the comparator that matches the ordering used by the repository helper for a sequencing order.  A missing
+     * date is ordered before any other date.
+     *
+     * @param sequencingOrder sequencing order
+     * @return comparator or null if the results are not sequenced
+     */
+    private static Comparator<EntityDetail> getComparator(SequencingOrder sequencingOrder)
+    {
+        if (sequencingOrder == null)
+        {
+            return null;
+        }
+
+        Comparator<Date> dates = Comparator.nullsFirst(Comparator.naturalOrder());
+
+        switch (sequencingOrder)
+        {
+            case GUID:
+                return Comparator.comparing(EntityDetail::getGUID);
+
+            case CREATION_DATE_OLDEST:
+                return Comparator.comparing(EntityDetail::getCreateTime, dates);
+
+            case CREATION_DATE_RECENT:
+                return Comparator.comparing(EntityDetail::getCreateTime, dates).reversed();
+
+            case LAST_UPDATE_OLDEST:
+                return Comparator.comparing(EntityDetail::getUpdateTime, dates);
+
+            case LAST_UPDATE_RECENT:
+                return Comparator.comparing(EntityDetail::getUpdateTime, dates).reversed();
+
+            default:
+                return null;
+        }
+    }
+
+
+    /**
+     * Filter, sequence and page the unpaged results in the same way as the metadata collection does when the work
+     * is not pushed into the traversal.
+     *
+     * @param entities unpaged results from the store
+     * @param limitResultsByStatus statuses to return (null means any status other than DELETED)
+     * @param sequencingOrder sequencing order
+     * @param fromElement start of the page
+     * @param pageSize size of the page
+     * @return page of entities
+     */
+    private static List<EntityDetail> filterInMemory(List<EntityDetail>   entities,
+                                                     List<InstanceStatus> limitResultsByStatus,
+                                                     SequencingOrder      sequencingOrder,
+                                                     int                  fromElement,
+                                                     int                  pageSize)
+    {
+        List<EntityDetail> retainedEntities = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            if ((entity.getStatus() != InstanceStatus.DELETED)
+                    && ((limitResultsByStatus == null) || (limitResultsByStatus.contains(entity.getStatus()))))
+            {
+                retainedEntities.add(entity);
+            }
+        }
+
+        Comparator<EntityDetail> comparator = getComparator(sequencingOrder);
+
+        if (comparator != null)
+        {
+            retainedEntities.sort(comparator);
+        }
+
+        if (fromElement >= retainedEntities.size())
+        {
+            return new ArrayList<>();
+        }
+
+        return new ArrayList<>(retainedEntities.subList(fromElement, Math.min(fromElement + pageSize, retainedEntities.size())));
+    }
+
+
+    /**
+     * Return the GUIDs of a list of entities.
+     *
+     * @param entities entities
+     * @return GUIDs in the same order
+     */
+    private static List<String> getGUIDs(List<EntityDetail> entities)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Check that every page of a search that is pushed into the traversal matches the same page filtered in memory,
+     * that the pages cover all of the matching entities and that the matching entities are the ones expected.
+     *
+     * @param filterTypeGUID type to search for, or null for all types
+     * @param searchProperties property conditions
+     * @param expectedMatch the entities that the search properties and type should select
+     * @param limitResultsByStatus statuses to return
+     * @param sequencingOrder sequencing order
+     * @param pageSize size of each page
+     * @throws Exception problem with the search
+     */
+    private void checkPages(String                  filterTypeGUID,
+                            SearchProperties        searchProperties,
+                            Predicate<EntityDetail> expectedMatch,
+                            List<InstanceStatus>    limitResultsByStatus,
+                            SequencingOrder         sequencingOrder,
+                            int                     pageSize) throws Exception
+    {
+        List<EntityDetail> unpagedEntities = findEntities(getQueryPlan(filterTypeGUID, searchProperties), searchProperties, false);
+        List<EntityDetail> allMatches      = filterInMemory(unpagedEntities, limitResultsByStatus, sequencingOrder, 0, Integer.MAX_VALUE);
+
+        /*
+         * The in-memory results are checked against the stored entities so that a search that returns nothing cannot pass.
+         */
+        List<String> expectedGUIDs = new ArrayList<>();
+
+        for (EntityDetail entity : storedEntities)
+        {
+            if ((expectedMatch.test(entity))
+                    && (entity.getStatus() != InstanceStatus.DELETED)
+                    && ((limitResultsByStatus == null) || (limitResultsByStatus.contains(entity.getStatus()))))
+            {
+                expectedGUIDs.add(entity.getGUID());
+            }
+        }
+
+        assertFalse(expectedGUIDs.isEmpty());
+        assertEquals(new HashSet<>(getGUIDs(allMatches)), new HashSet<>(expectedGUIDs));
+        assertEquals(allMatches.size(), expectedGUIDs.size());
+
+        List<String> pagedGUIDs = new ArrayList<>();
+
+        for (int fromElement = 0; fromElement <= allMatches.size(); fromElement += pageSize)
+        {
+            GraphOMRSQueryPlan queryPlan = getQueryPlan(filterTypeGUID, searchProperties);
+
+            queryPlan.setResultOptions(limitResultsByStatus, null, sequencingOrder, fromElement, pageSize);
+
+            assertTrue(queryPlan.isPagingDelegated());
+
+            List<EntityDetail> pushedDownPage = findEntities(queryPlan, searchProperties, true);
+
+            if (sequencingOrder == SequencingOrder.ANY)
+            {
+                assertEquals(pushedDownPage.size(), filterInMemory(unpagedEntities, limitResultsByStatus, sequencingOrder, fromElement, pageSize).size());
+            }
+            else
+            {
+                assertEquals(getGUIDs(pushedDownPage),
+                             getGUIDs(filterInMemory(unpagedEntities, limitResultsByStatus, sequencingOrder, fromElement, pageSize)),
+                             "Page from " + fromElement + " for " + sequencingOrder);
+            }
+
+            pagedGUIDs.addAll(getGUIDs(pushedDownPage));
+        }
+
+        /*
+         * Walking through the pages returns every match once.
+         */
+        assertEquals(pagedGUIDs.size(), expectedGUIDs.size());
+        assertEquals(new HashSet<>(pagedGUIDs), new HashSet<>(expectedGUIDs));
+    }
+
+
+    /**
+     * Return the size property of an entity.
+     *
+     * @param entity entity
+     * @return size or -1 if the entity has no size
+     */
+    private static int getSize(EntityDetail entity)
+    {
+        PrimitivePropertyValue size = (PrimitivePropertyValue) entity.getProperties().getPropertyValue("size");
+
+        return (size == null) ? -1 : (Integer) size.getPrimitiveValue();
+    }
+
+
+    /**
+     * Return the colour property of an entity.
+     *
+     * @param entity entity
+     * @return colour or null if the entity has no colour
+     */
+    private static String getColour(EntityDetail entity)
+    {
+        PrimitivePropertyValue colour = (PrimitivePropertyValue) entity.getProperties().getPropertyValue("colour");
+
+        return (colour == null) ? null : (String) colour.getPrimitiveValue();
+    }
+
+
+    /**
+     * Each sequencing order based on a core property gives the same pages with and without the push down.
+     *
+     * @throws Exception problem with the search
+     */
+    @Test public void testSequencingAndPaging() throws Exception
+    {
+        for (SequencingOrder sequencingOrder : Arrays.asList(SequencingOrder.GUID,
+                                                             SequencingOrder.CREATION_DATE_OLDEST,
+                                                             SequencingOrder.CREATION_DATE_RECENT,
+                                                             SequencingOrder.LAST_UPDATE_OLDEST,
+                                                             SequencingOrder.LAST_UPDATE_RECENT,
+                                                             SequencingOrder.ANY))
+        {
+            for (int pageSize : new int[]{1, 4, 7, 100})
+            {
+                checkPages(testTypeGUID, null, entity -> testTypeName.equals(entity.getType().getTypeDefName()), null, sequencingOrder, pageSize);
+            }
+        }
+
+        checkPages(null, null, entity -> true, null, SequencingOrder.GUID, 6);
+    }
+
+
+    /**
+     * The status filter gives the same pages with and without the push down, and deleted entities are never returned
+     * even if they are asked for.
+     *
+     * @throws Exception problem with the search
+     */
+    @Test public void testStatusFiltering() throws Exception
+    {
+        Predicate<EntityDetail> testType = entity -> testTypeName.equals(entity.getType().getTypeDefName());
+
+        checkPages(testTypeGUID, null, testType, Collections.singletonList(InstanceStatus.DRAFT), SequencingOrder.GUID, 3);
+        checkPages(testTypeGUID, null, testType, Collections.singletonList(InstanceStatus.ACTIVE), SequencingOrder.CREATION_DATE_RECENT, 5);
+        checkPages(testTypeGUID, null, testType, Arrays.asList(InstanceStatus.ACTIVE, InstanceStatus.DELETED), SequencingOrder.LAST_UPDATE_OLDEST, 4);
+
+        GraphOMRSQueryPlan queryPlan = getQueryPlan(testTypeGUID, null);
+
+        queryPlan.setResultOptions(Collections.singletonList(InstanceStatus.DELETED), null, SequencingOrder.GUID, 0, 100);
+
+        assertTrue(findEntities(queryPlan, null, true).isEmpty());
+    }
+
+
+    /**
+     * Searches with each of the match criteria, including nested conditions, give the same pages with and without
+     * the push down.
+     *
+     * @throws Exception problem with the search
+     */
+    @Test public void testMatchCriteria() throws Exception
+    {
+        PropertyCondition large = getCondition("size", PropertyComparisonOperator.GT, getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT, 20));
+        PropertyCondition red   = getCondition("colour", PropertyComparisonOperator.EQ, getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "red"));
+        PropertyCondition grey  = getCondition("colour", PropertyComparisonOperator.LIKE, getPrimitive(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING, "gr.*"));
+
+        checkPages(testTypeGUID,
+                   getSearchProperties(MatchCriteria.ALL, large, red),
+                   entity -> (getSize(entity) > 20) && ("red".equals(getColour(entity))),
+                   null,
+                   SequencingOrder.GUID,
+                   2);
+
+        checkPages(testTypeGUID,
+                   getSearchProperties(MatchCriteria.ANY, large, red),
+                   entity -> (testTypeName.equals(entity.getType().getTypeDefName())) && ((getSize(entity) > 20) || ("red".equals(getColour(entity)))),
+                   null,
+                   SequencingOrder.CREATION_DATE_OLDEST,
+                   5);
+
+        checkPages(testTypeGUID,
+                   getSearchProperties(MatchCriteria.NONE, large, red),
+                   entity -> (testTypeName.equals(entity.getType().getTypeDefName())) && (getSize(entity) <= 20) && (! "red".equals(getColour(entity))),
+                   Collections.singletonList(InstanceStatus.ACTIVE),
+                   SequencingOrder.LAST_UPDATE_RECENT,
+                   3);
+
+        checkPages(testTypeGUID,
+                   getSearchProperties(MatchCriteria.ALL, grey),
+                   entity -> (getColour(entity) != null) && (getColour(entity).startsWith("gr")),
+                   null,
+                   SequencingOrder.CREATION_DATE_RECENT,
+                   4);
+
+        PropertyCondition nested = new PropertyCondition();
+        nested.setNestedConditions(getSearchProperties(MatchCriteria.ANY, red, grey));
+
+        checkPages(testTypeGUID,
+                   getSearchProperties(MatchCriteria.ALL, large, nested),
+                   entity -> (getSize(entity) > 20) && (getColour(entity) != null) && (("red".equals(getColour(entity))) || (getColour(entity).startsWith("gr"))),
+                   null,
+                   SequencingOrder.LAST_UPDATE_OLDEST,
+                   3);
+    }
+
+
+    /**
+     * The sequencing and paging are only pushed into the traversal when the query plan allows it.
+     *
+     * @throws Exception problem creating the query plan
+     */
+    @Test public void testPagingDelegation() throws Exception
+    {
+        GraphOMRSQueryPlan queryPlan = getQueryPlan(testTypeGUID, null);
+
+        queryPlan.setResultOptions(null, null, SequencingOrder.GUID, 0, 10);
+        assertTrue(queryPlan.isPagingDelegated());
+
+        queryPlan.setResultOptions(null, null, null, 0, 10);
+        assertTrue(queryPlan.isPagingDelegated());
+
+        queryPlan.setResultOptions(null, null, SequencingOrder.GUID, 0, 0);
+        assertFalse(queryPlan.isPagingDelegated());
+
+        queryPlan.setResultOptions(null, new SearchClassifications(), SequencingOrder.GUID, 0, 10);
+        assertFalse(queryPlan.isPagingDelegated());
+
+        queryPlan.setResultOptions(null, null, SequencingOrder.PROPERTY_ASCENDING, 0, 10);
+        assertFalse(queryPlan.isPagingDelegated());
+
+        /*
+         * A search that is not delegated returns every match so the caller can sequence and page it.
+         */
+        List<EntityDetail> entities = findEntities(queryPlan, null, true);
+
+        assertEquals(entities.size(), filterInMemory(entities, null, null, 0, Integer.MAX_VALUE).size());
+        assertTrue(entities.size() > 10);
+    }
+}
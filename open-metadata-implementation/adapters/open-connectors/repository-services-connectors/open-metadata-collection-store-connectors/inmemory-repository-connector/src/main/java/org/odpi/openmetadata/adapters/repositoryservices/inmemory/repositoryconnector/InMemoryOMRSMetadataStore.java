@@ -5,6 +5,7 @@ package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositorycon
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
@@ -66,6 +67,60 @@ class InMemoryOMRSMetadataStore
     }
 
 
+    /**
+     * Return the entities identified by the guids.  Unknown entities are skipped.
+     *
+     * @param guids - unique identifiers for the entities
+     * @return list of entity objects
+     */
+    synchronized List<EntityDetail>  getEntities(List<String>   guids)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = entityStore.get(guid);
+
+            if (entity != null)
+            {
+                entities.add(entity);
+            }
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Return the entities or entity proxies identified by the guids.  The full entity is returned
+     * in preference to the proxy.  Unknown entities are skipped.
+     *
+     * @param guids - unique identifiers for the entities
+     * @return list of entity summary objects
+     */
+    synchronized List<EntitySummary>  getEntitySummaries(List<String>   guids)
+    {
+        List<EntitySummary> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            EntitySummary entity = entityStore.get(guid);
+
+            if (entity == null)
+            {
+                entity = entityProxyStore.get(guid);
+            }
+
+            if (entity != null)
+            {
+                entities.add(entity);
+            }
+        }
+
+        return entities;
+    }
+
+
     /**
      * Return the entity proxy identified by the guid.
      *
@@ -184,6 +239,31 @@ class InMemoryOMRSMetadataStore
         return relationshipStore.get(guid);
     }
 
+
+    /**
+     * Return the relationships identified by the guids.  Unknown relationships are skipped.
+     *
+     * @param guids - unique identifiers for the relationships
+     * @return list of relationship objects
+     */
+    synchronized List<Relationship>  getRelationships(List<String>   guids)
+    {
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            Relationship relationship = relationshipStore.get(guid);
+
+            if (relationship != null)
+            {
+                relationships.add(relationship);
+            }
+        }
+
+        return relationships;
+    }
+
+
     /**
      * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
      * parameter
@@ -36,6 +36,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
 
     private boolean getHomeClassificationsSupported = false;
     private boolean getHomeClassificationsWithHistorySupported = false;
+    private volatile boolean getInstancesByGUIDsSupported = true;
 
 
     /**
@@ -133,6 +134,30 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Decide how to continue after a bulk request for instances has failed.  The caller retrieves the instances
+     * one at a time.  A remote server that does not have the bulk request endpoint returns 404 (not found) and is
+     * not sent bulk requests again.  Any other error may be temporary, so the next call tries the bulk request again.
+     *
+     * @param error exception from the bulk request
+     */
+    private void handleBulkRequestError(RepositoryErrorException error)
+    {
+        Throwable cause = error;
+
+        while (cause != null)
+        {
+            if ((cause.getMessage() != null) && (cause.getMessage().startsWith("404")))
+            {
+                getInstancesByGUIDsSupported = false;
+                return;
+            }
+
+            cause = cause.getCause();
+        }
+    }
+
+
     /**
      * Validate that the metadata collection id from the remote server matches the one expected
      * locally.
@@ -953,6 +978,91 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the header and classifications for a list of entities.  Unknown entities are skipped.
+     * If the bulk request fails, the entities are retrieved one at a time.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of EntitySummary structures or null if none of the entities are known.
+     * @throws InvalidParameterException  the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntitySummary> getEntitySummariesByGUIDs(String       userId,
+                                                         List<String> guids) throws InvalidParameterException,
+                                                                                    RepositoryErrorException,
+                                                                                    UserNotAuthorizedException
+    {
+        final String methodName  = "getEntitySummariesByGUIDs";
+
+        if (getInstancesByGUIDsSupported)
+        {
+            validateClient(methodName);
+
+            try
+            {
+                return omrsClient.getEntitySummariesByGUIDs(userId, guids);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                getInstancesByGUIDsSupported = false;
+            }
+            catch (RepositoryErrorException error)
+            {
+                handleBulkRequestError(error);
+            }
+        }
+
+        return super.getEntitySummariesByGUIDs(userId, guids);
+    }
+
+
+    /**
+     * Return the header, classifications and properties of a list of entities.  Unknown entities and
+     * entity proxies are skipped.  If the bulk request fails, the entities are retrieved
+     * one at a time.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of EntityDetail structures or null if none of the entities are known.
+     * @throws InvalidParameterException  the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                 List<String> guids) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            UserNotAuthorizedException
+    {
+        final String methodName  = "getEntitiesByGUIDs";
+
+        if (getInstancesByGUIDsSupported)
+        {
+            validateClient(methodName);
+
+            try
+            {
+                return omrsClient.getEntitiesByGUIDs(userId, guids);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                getInstancesByGUIDsSupported = false;
+            }
+            catch (RepositoryErrorException error)
+            {
+                handleBulkRequestError(error);
+            }
+        }
+
+        return super.getEntitiesByGUIDs(userId, guids);
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1388,6 +1498,48 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the current version of a list of relationships.  Unknown relationships are skipped.
+     * If the bulk request fails, the relationships are retrieved one at a time.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the relationships.
+     * @return list of relationship structures or null if none of the relationships are known.
+     * @throws InvalidParameterException  the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<Relationship> getRelationshipsByGUIDs(String       userId,
+                                                      List<String> guids) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String methodName  = "getRelationshipsByGUIDs";
+
+        if (getInstancesByGUIDsSupported)
+        {
+            validateClient(methodName);
+
+            try
+            {
+                return omrsClient.getRelationshipsByGUIDs(userId, guids);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                getInstancesByGUIDsSupported = false;
+            }
+            catch (RepositoryErrorException error)
+            {
+                handleBulkRequestError(error);
+            }
+        }
+
+        return super.getRelationshipsByGUIDs(userId, guids);
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be received as a series of
      * pages.
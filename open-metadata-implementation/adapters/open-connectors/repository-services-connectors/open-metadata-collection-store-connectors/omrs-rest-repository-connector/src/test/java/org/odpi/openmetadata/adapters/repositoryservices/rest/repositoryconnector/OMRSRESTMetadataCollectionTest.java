@@ -0,0 +1,245 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnector;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+
+
+/**
+ * OMRSRESTMetadataCollectionTest checks that the bulk retrieval of entities falls back to retrieving the entities
+ * one at a time when the bulk request fails, and that the bulk request is only abandoned when the remote server
+ * does not have the endpoint.
+ */
+public class OMRSRESTMetadataCollectionTest
+{
+    private static final String serverName = "remoteServer";
+    private static final String userId     = "testUser";
+
+    private final List<String>     guids            = Arrays.asList("guid1", "guid2");
+    private final AtomicInteger    bulkRequests     = new AtomicInteger(0);
+    private final AtomicInteger    entityRequests   = new AtomicInteger(0);
+    private volatile int           bulkResponseCode = 200;
+    private volatile boolean       bulkNotSupported = false;
+
+    private HttpServer             server;
+    private OMRSMetadataCollection metadataCollection;
+
+
+    /**
+     * Start a server that plays the part of the remote repository and connect to it.
+     *
+     * @throws Exception problem starting the server or the connector
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        bulkRequests.set(0);
+        entityRequests.set(0);
+        bulkResponseCode = 200;
+        bulkNotSupported = false;
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handleRequest);
+        server.start();
+
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress("http://localhost:" + server.getAddress().getPort());
+
+        Connection connection = new Connection();
+        connection.setEndpoint(endpoint);
+
+        OMRSRESTRepositoryConnector connector = new OMRSRESTRepositoryConnector();
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+        connector.setServerName(serverName);
+        connector.setRepositoryHelper(mock(OMRSRepositoryHelper.class));
+        connector.setRepositoryValidator(mock(OMRSRepositoryValidator.class));
+        connector.setMetadataCollectionId("testMetadataCollection");
+        connector.start();
+
+        metadataCollection = connector.getMetadataCollection();
+    }
+
+
+    /**
+     * Stop the remote server.
+     */
+    @AfterMethod
+    public void tearDown()
+    {
+        server.stop(0);
+    }
+
+
+    /**
+     * Return the entities from the bulk endpoint, or one at a time from the entity endpoint.  The bulk endpoint
+     * fails with the current bulk response code, or reports that the remote repository does not support it.
+     *
+     * @param exchange request and response
+     * @throws IOException problem sending the response
+     */
+    private void handleRequest(HttpExchange exchange) throws IOException
+    {
+        String path = exchange.getRequestURI().getPath();
+        String response;
+        int    responseCode = 200;
+
+        if (path.endsWith("/instances/entities/by-guids"))
+        {
+            bulkRequests.incrementAndGet();
+            responseCode = bulkResponseCode;
+
+            if (bulkNotSupported)
+            {
+                response = "{\"class\":\"EntityListResponse\",\"relatedHTTPCode\":501,\"exceptionClassName\":\""
+                                   + FunctionNotSupportedException.class.getName() + "\"}";
+            }
+            else
+            {
+                response = "{\"class\":\"EntityListResponse\",\"relatedHTTPCode\":200,\"entities\":["
+                                   + getEntity("guid1") + "," + getEntity("guid2") + "]}";
+            }
+        }
+        else
+        {
+            entityRequests.incrementAndGet();
+            response = "{\"class\":\"EntityDetailResponse\",\"relatedHTTPCode\":200,\"entity\":"
+                               + getEntity(path.substring(path.lastIndexOf('/') + 1)) + "}";
+        }
+
+        byte[] body = response.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(responseCode, body.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody())
+        {
+            outputStream.write(body);
+        }
+    }
+
+
+    /**
+     * Return the JSON for an entity.
+     *
+     * @param guid unique identifier of the entity
+     * @return JSON entity
+     */
+    private String getEntity(String guid)
+    {
+        return "{\"class\":\"EntityDetail\",\"guid\":\"" + guid + "\"}";
+    }
+
+
+    /**
+     * Retrieve the test entities and check that they are all returned.
+     *
+     * @throws Exception problem retrieving the entities
+     */
+    private void getEntities() throws Exception
+    {
+        List<EntityDetail> entities = metadataCollection.getEntitiesByGUIDs(userId, guids);
+
+        assertEquals(entities.size(), guids.size());
+        assertEquals(entities.get(0).getGUID(), guids.get(0));
+        assertEquals(entities.get(1).getGUID(), guids.get(1));
+    }
+
+
+    /**
+     * The entities are retrieved with a single request when the remote server supports the bulk request.
+     *
+     * @throws Exception problem retrieving the entities
+     */
+    @Test
+    public void testBulkRequest() throws Exception
+    {
+        getEntities();
+        getEntities();
+
+        assertEquals(bulkRequests.get(), 2);
+        assertEquals(entityRequests.get(), 0);
+    }
+
+
+    /**
+     * A remote server without the bulk endpoint is only sent one bulk request.
+     *
+     * @throws Exception problem retrieving the entities
+     */
+    @Test
+    public void testMissingBulkEndpoint() throws Exception
+    {
+        bulkResponseCode = 404;
+
+        getEntities();
+        getEntities();
+
+        assertEquals(bulkRequests.get(), 1);
+        assertEquals(entityRequests.get(), 4);
+    }
+
+
+    /**
+     * A remote repository that does not support the bulk request is only sent one bulk request.
+     *
+     * @throws Exception problem retrieving the entities
+     */
+    @Test
+    public void testBulkRequestNotSupported() throws Exception
+    {
+        bulkNotSupported = true;
+
+        getEntities();
+        getEntities();
+
+        assertEquals(bulkRequests.get(), 1);
+        assertEquals(entityRequests.get(), 4);
+    }
+
+
+    /**
+     * Any other failure of the bulk request only affects the call that failed.
+     *
+     * @throws Exception problem retrieving the entities
+     */
+    @Test
+    public void testFailedBulkRequest() throws Exception
+    {
+        bulkResponseCode = 500;
+
+        getEntities();
+
+        assertEquals(bulkRequests.get(), 1);
+        assertEquals(entityRequests.get(), 2);
+
+        bulkResponseCode = 200;
+
+        getEntities();
+
+        assertEquals(bulkRequests.get(), 2);
+        assertEquals(entityRequests.get(), 2);
+    }
+}
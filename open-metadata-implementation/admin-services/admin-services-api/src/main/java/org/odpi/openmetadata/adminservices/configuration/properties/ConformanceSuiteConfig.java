@@ -15,7 +15,8 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  * ConformanceSuiteConfig provides the configuration for an OMAG server that is running the Open Metadata
  * Conformance suite.  It supports two workbenches - one that tests the repository services in a server connected
  * to the same cohort as the conformance suite server - the other tests the platform services of a platform given the
- * server URL root of the platform.
+ * server URL root of the platform.  The repository performance workbench measures the throughput and latency of
+ * a server connected to the same cohort.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -26,6 +27,7 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
 
     private PlatformConformanceWorkbenchConfig   platformWorkbenchConfig   = null;
     private RepositoryConformanceWorkbenchConfig repositoryWorkbenchConfig = null;
+    private RepositoryPerformanceWorkbenchConfig repositoryPerformanceWorkbenchConfig = null;
 
 
     /**
@@ -50,6 +52,7 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
         {
             platformWorkbenchConfig = template.getPlatformWorkbenchConfig();
             repositoryWorkbenchConfig = template.getRepositoryWorkbenchConfig();
+            repositoryPerformanceWorkbenchConfig = template.getRepositoryPerformanceWorkbenchConfig();
         }
     }
 
@@ -98,6 +101,28 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the configuration for the repository performance workbench.
+     *
+     * @return repository performance workbench config properties
+     */
+    public RepositoryPerformanceWorkbenchConfig getRepositoryPerformanceWorkbenchConfig()
+    {
+        return repositoryPerformanceWorkbenchConfig;
+    }
+
+
+    /**
+     * Set up the configuration for the repository performance workbench.
+     *
+     * @param repositoryPerformanceWorkbenchConfig repository performance workbench config properties
+     */
+    public void setRepositoryPerformanceWorkbenchConfig(RepositoryPerformanceWorkbenchConfig repositoryPerformanceWorkbenchConfig)
+    {
+        this.repositoryPerformanceWorkbenchConfig = repositoryPerformanceWorkbenchConfig;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -109,6 +134,7 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
         return "ConformanceSuiteConfig{" +
                 ", platformWorkbenchConfig=" + platformWorkbenchConfig +
                 ", repositoryWorkbenchConfig=" + repositoryWorkbenchConfig +
+                ", repositoryPerformanceWorkbenchConfig=" + repositoryPerformanceWorkbenchConfig +
                 '}';
     }
 
@@ -132,7 +158,8 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
         }
         ConformanceSuiteConfig that = (ConformanceSuiteConfig) objectToCompare;
         return Objects.equals(getPlatformWorkbenchConfig(), that.getPlatformWorkbenchConfig()) &&
-                Objects.equals(getRepositoryWorkbenchConfig(), that.getRepositoryWorkbenchConfig());
+                Objects.equals(getRepositoryWorkbenchConfig(), that.getRepositoryWorkbenchConfig()) &&
+                Objects.equals(getRepositoryPerformanceWorkbenchConfig(), that.getRepositoryPerformanceWorkbenchConfig());
     }
 
 
@@ -144,6 +171,6 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
     @Override
     public int hashCode()
     {
-        return Objects.hash(getPlatformWorkbenchConfig(), getRepositoryWorkbenchConfig());
+        return Objects.hash(getPlatformWorkbenchConfig(), getRepositoryWorkbenchConfig(), getRepositoryPerformanceWorkbenchConfig());
     }
 }
@@ -0,0 +1,254 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.configuration.properties;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RepositoryPerformanceWorkbenchConfig provides the config that drives the performance workbench within the
+ * Open Metadata Conformance Suite.  The workbench runs the same workload against the repository under test
+ * for each combination of instance count and thread count.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHeader
+{
+    private static final long    serialVersionUID = 1L;
+
+    private String          tutRepositoryServerName = null;
+    private String          entityTypeName          = "Referenceable";
+    private List<Integer>   instanceCounts          = new ArrayList<>(Arrays.asList(10, 100, 1000));
+    private List<Integer>   threadCounts            = new ArrayList<>(Arrays.asList(1, 4, 16));
+    private int             maxSearchResults        = 50;
+
+
+    /**
+     * Default constructor does nothing.
+     */
+    public RepositoryPerformanceWorkbenchConfig()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public RepositoryPerformanceWorkbenchConfig(RepositoryPerformanceWorkbenchConfig template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            tutRepositoryServerName = template.getTutRepositoryServerName();
+            entityTypeName = template.getEntityTypeName();
+            instanceCounts = template.getInstanceCounts();
+            threadCounts = template.getThreadCounts();
+            maxSearchResults = template.getMaxSearchResults();
+        }
+    }
+
+
+    /**
+     * Return the name of the server that the performance workbench is to test.
+     *
+     * @return server name
+     */
+    public String getTutRepositoryServerName()
+    {
+        return tutRepositoryServerName;
+    }
+
+
+    /**
+     * Set up the name of the server that the performance workbench is to test.
+     *
+     * @param tutRepositoryServerName server name
+     */
+    public void setTutRepositoryServerName(String tutRepositoryServerName)
+    {
+        this.tutRepositoryServerName = tutRepositoryServerName;
+    }
+
+
+    /**
+     * Return the name of the entity type used for the workload.  It, or one of its subtypes, must be supported
+     * by the server under test.
+     *
+     * @return type name
+     */
+    public String getEntityTypeName()
+    {
+        return entityTypeName;
+    }
+
+
+    /**
+     * Set up the name of the entity type used for the workload.
+     *
+     * @param entityTypeName type name
+     */
+    public void setEntityTypeName(String entityTypeName)
+    {
+        this.entityTypeName = entityTypeName;
+    }
+
+
+    /**
+     * Return the number of entities created in each step of the workload.  The steps run in the order listed.
+     *
+     * @return list of instance counts
+     */
+    public List<Integer> getInstanceCounts()
+    {
+        if (instanceCounts == null)
+        {
+            return null;
+        }
+        else if (instanceCounts.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(instanceCounts);
+        }
+    }
+
+
+    /**
+     * Set up the number of entities created in each step of the workload.
+     *
+     * @param instanceCounts list of instance counts
+     */
+    public void setInstanceCounts(List<Integer> instanceCounts)
+    {
+        this.instanceCounts = instanceCounts;
+    }
+
+
+    /**
+     * Return the number of concurrent threads that issue requests in each step of the workload.
+     *
+     * @return list of thread counts
+     */
+    public List<Integer> getThreadCounts()
+    {
+        if (threadCounts == null)
+        {
+            return null;
+        }
+        else if (threadCounts.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(threadCounts);
+        }
+    }
+
+
+    /**
+     * Set up the number of concurrent threads that issue requests in each step of the workload.
+     *
+     * @param threadCounts list of thread counts
+     */
+    public void setThreadCounts(List<Integer> threadCounts)
+    {
+        this.threadCounts = threadCounts;
+    }
+
+
+    /**
+     * Return the page size used when the workload pages through search results.
+     *
+     * @return page size
+     */
+    public int getMaxSearchResults()
+    {
+        return maxSearchResults;
+    }
+
+
+    /**
+     * Set up the page size used when the workload pages through search results.
+     *
+     * @param maxSearchResults page size
+     */
+    public void setMaxSearchResults(int maxSearchResults)
+    {
+        this.maxSearchResults = maxSearchResults;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "RepositoryPerformanceWorkbenchConfig{" +
+                "tutRepositoryServerName='" + tutRepositoryServerName + '\'' +
+                ", entityTypeName='" + entityTypeName + '\'' +
+                ", instanceCounts=" + instanceCounts +
+                ", threadCounts=" + threadCounts +
+                ", maxSearchResults=" + maxSearchResults +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        RepositoryPerformanceWorkbenchConfig that = (RepositoryPerformanceWorkbenchConfig) objectToCompare;
+        return getMaxSearchResults() == that.getMaxSearchResults() &&
+                Objects.equals(getTutRepositoryServerName(), that.getTutRepositoryServerName()) &&
+                Objects.equals(getEntityTypeName(), that.getEntityTypeName()) &&
+                Objects.equals(getInstanceCounts(), that.getInstanceCounts()) &&
+                Objects.equals(getThreadCounts(), that.getThreadCounts());
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getTutRepositoryServerName(), getEntityTypeName(), getInstanceCounts(), getThreadCounts(),
+                            getMaxSearchResults());
+    }
+}
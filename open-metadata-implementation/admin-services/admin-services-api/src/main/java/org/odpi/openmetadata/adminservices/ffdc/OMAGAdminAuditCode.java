@@ -90,7 +90,9 @@ public enum OMAGAdminAuditCode implements AuditLogMessageSet
                 "These provide specialist APIs for accessing open metadata.  Many of the access services support " +
                 "both a REST API and event-based interaction through a topic.  They also support options that " +
                 "control their behavior and the scope of the metadata that they work with.  The access service " +
-                "subsystems are started one at a time.  A fatal error in any of them prevents the server from starting.",
+                "subsystems are independent of one another and so they are started in parallel.  Any that are configured " +
+                "for lazy initialization start when they receive their first request or event.  A fatal error in any " +
+                "of them prevents the server from starting.",
         "The server's configuration document lists the access services that should be started in this server.  " +
                 "Verify that the expected access services are started and that they each report that their components are " +
                 "working correctly."),
@@ -167,6 +169,15 @@ public enum OMAGAdminAuditCode implements AuditLogMessageSet
                     "in the access service's configuration and restart the server instance. Otherwise, " +
                     "remove the configuration for this access service and restart the server."),
 
+    ACCESS_SERVICE_STARTED("OMAG-ADMIN-0019",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The {0} has started in server {1} after {2} milliseconds",
+            "The access service has completed its initialization.  The time taken includes the creation of any topic connectors " +
+                    "and event listeners that the access service needs.",
+            "Use the start up times of the access services to identify the access services that are slowing down the start up " +
+                    "of the server.  Access services that are not needed as soon as the server starts can be configured for " +
+                    "lazy initialization using the LazyInitialization access service option."),
+
     STARTING_VIEW_SERVICES("OMAG-ADMIN-0020",
             OMRSAuditLogRecordSeverity.STARTUP,
             "The Open Metadata View Services (OMVSs) are starting",
@@ -335,6 +346,48 @@ public enum OMAGAdminAuditCode implements AuditLogMessageSet
 
 
 
+    ACCESS_SERVICES_START_UP_TIME("OMAG-ADMIN-0050",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The {0} access services started in server {1} took {2} milliseconds to initialize using {3} threads",
+            "The operational admin services have initialized the enabled access services in parallel.  The elapsed time is " +
+                    "typically close to the start up time of the slowest access service.  Access services configured for " +
+                    "lazy initialization are not included.",
+            "Compare the elapsed time with the start up times reported for each access service to understand where the time " +
+                    "is spent during the start up of the server."),
+
+    DEFERRING_ACCESS_SERVICE("OMAG-ADMIN-0051",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The initialization of the {0} in server {1} is deferred until it receives its first request or event",
+            "The access service is configured for lazy initialization.  It is listed as an active service of the server but " +
+                    "it does not create its topic connectors, listeners or other resources until it is needed.  The first " +
+                    "REST call to the access service, or the first event from the cohort, will complete its initialization.",
+            "No action is required.  If the access service should be ready as soon as the server starts, remove the " +
+                    "LazyInitialization option from its configuration and restart the server."),
+
+    DEFERRED_ACCESS_SERVICE_STARTED("OMAG-ADMIN-0052",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The deferred initialization of the {0} in server {1} was triggered by {2} and completed after {3} milliseconds",
+            "The access service that was configured for lazy initialization has received its first request or event and " +
+                    "has completed its initialization.  A REST request that arrived during the initialization waited for it to complete.  " +
+                    "Instance events that arrived during the initialization were held and then passed to the access service.",
+            "No action is required.  This message can be used to understand the delay seen by the first request to the access service."),
+
+    DEFERRED_ACCESS_SERVICE_FAILURE("OMAG-ADMIN-0053",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The deferred initialization of the {0} in server {1} failed with a {2} exception; error message is {3}",
+            "The access service that was configured for lazy initialization was unable to initialize when it received its " +
+                    "first request or event.  Its services are not available for the server.  The server continues to run.",
+            "Review the error message and any other reported failures to determine why the access service could not start.  " +
+                    "The next REST request or instance event for the access service tries the initialization again."),
+
+    DEFERRED_ACCESS_SERVICE_EVENTS_DROPPED("OMAG-ADMIN-0054",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The {0} in server {1} discarded {2} instance events that arrived while it was initializing",
+            "The access service that was configured for lazy initialization holds the instance events that arrive while it is " +
+                    "initializing.  Events are discarded if the buffer of held events is full or the initialization fails.",
+            "The access service has not processed these events.  If the access service needs to process every event from the " +
+                    "cohort, remove the LazyInitialization option from its configuration and restart the server."),
+
     STARTING_GOVERNANCE_SERVICES("OMAG-ADMIN-0100",
                                  OMRSAuditLogRecordSeverity.STARTUP,
                                  "The governance services subsystem for the {0} called {1} is about to start",
@@ -0,0 +1,567 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.store;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OMAGServerConfigDocumentCache remembers the content of the configuration documents that have been read from,
+ * or written to, file based configuration stores.  A new configuration store connector is created for each
+ * request to the admin services so the cache is shared by all of the connectors in the platform.
+ * <p>
+ * A cached document is only returned while the modification time and size of its file are unchanged, so
+ * edits made to the file outside of the platform are picked up on the next request.  The cache holds
+ * the serialized (and for encrypted stores, decrypted) content of the document so each caller builds
+ * its own copy of the configuration properties.
+ * <p>
+ * The cache can also delay the write of a document.  Repeated saves of the same document during the delay
+ * result in a single write of the latest content.  While the write is pending, the cache returns the
+ * pending content.  If a delayed write fails, the document is kept and the write is tried again after
+ * the delay.  The writer is responsible for reporting the error since the request that saved the document
+ * has already returned.
+ * <p>
+ * The files are read and written outside of the cache's lock so a slow (or encrypted) write of one document
+ * does not hold up the requests for other documents.  The writes and removal of each file are serialized by
+ * a lock for that file.  While a document is being written, the cache returns the content being written.
+ */
+public class OMAGServerConfigDocumentCache
+{
+    /**
+     * The routine that reads a document from its file.
+     */
+    public interface DocumentReader
+    {
+        /**
+         * Read the content of the document from the file.
+         *
+         * @param configStoreFile file to read
+         * @return serialized configuration document or null if there is no document
+         * @throws IOException the file could not be read
+         */
+        String readDocument(File configStoreFile) throws IOException;
+    }
+
+
+    /**
+     * The routine that writes a document to its file.  Errors are reported as runtime exceptions.
+     */
+    public interface DocumentWriter
+    {
+        /**
+         * Write the content of the document to the file.
+         *
+         * @param configStoreFile file to write
+         * @param document serialized configuration document
+         */
+        void writeDocument(File   configStoreFile,
+                           String document);
+    }
+
+
+    /**
+     * The content of a document and the attributes of the file it was read from or written to.
+     */
+    private static class CachedDocument
+    {
+        private String             document;
+        private long               lastModifiedTime;
+        private long               size;
+        private ScheduledFuture<?> pendingWrite = null;
+        private boolean            writing      = false;
+        private long               writeDelay   = 0;
+        private DocumentWriter     writer       = null;
+    }
+
+
+    private static final OMAGServerConfigDocumentCache platformCache = new OMAGServerConfigDocumentCache();
+
+    private final Map<String, CachedDocument>  documents     = new HashMap<>();
+    private final Map<String, Object>          fileLocks     = new HashMap<>();
+    private ScheduledExecutorService           writeExecutor = null;
+
+
+    /**
+     * Return the cache that is shared by the configuration stores of the platform.
+     *
+     * @return cache
+     */
+    public static OMAGServerConfigDocumentCache getPlatformCache()
+    {
+        return platformCache;
+    }
+
+
+    /**
+     * Return the content of the document stored in the file.  The cached content is returned if the file
+     * is unchanged since it was last read or written, otherwise the file is read and the content is cached.
+     *
+     * @param configStoreFile file where the document is stored
+     * @param reader routine that reads the document from the file
+     * @return serialized document or null if there is no document
+     * @throws IOException the file could not be read
+     */
+    public String getDocument(File           configStoreFile,
+                              DocumentReader reader) throws IOException
+    {
+        String key = this.getKey(configStoreFile);
+
+        /*
+         * The attributes are retrieved before the file is read.  If the file changes while it is being read,
+         * the attributes will not match on the next request and the file is read again.
+         */
+        BasicFileAttributes fileAttributes = this.getFileAttributes(configStoreFile);
+
+        synchronized (this)
+        {
+            CachedDocument cachedDocument = documents.get(key);
+
+            if (cachedDocument != null)
+            {
+                if ((cachedDocument.pendingWrite != null) || (cachedDocument.writing))
+                {
+                    return cachedDocument.document;
+                }
+
+                if (this.isUnchanged(cachedDocument, fileAttributes))
+                {
+                    return cachedDocument.document;
+                }
+
+                documents.remove(key);
+            }
+        }
+
+        String document = reader.readDocument(configStoreFile);
+
+        if ((document != null) && (fileAttributes != null))
+        {
+            synchronized (this)
+            {
+                if (! documents.containsKey(key))
+                {
+                    CachedDocument cachedDocument = new CachedDocument();
+
+                    cachedDocument.document = document;
+                    this.setFileAttributes(cachedDocument, fileAttributes);
+
+                    documents.put(key, cachedDocument);
+                }
+            }
+        }
+
+        return document;
+    }
+
+
+    /**
+     * Save the content of a document.  If the write delay is zero, the document is written to its file before
+     * this method returns.  Otherwise, the document is written once the delay has passed.  If there is already
+     * a write pending for the file, it writes the new content instead.
+     *
+     * @param configStoreFile file where the document is stored
+     * @param document serialized document
+     * @param writeDelay time in milliseconds to wait before writing the document
+     * @param writer routine that writes the document to the file
+     */
+    public void writeDocument(File           configStoreFile,
+                              String         document,
+                              long           writeDelay,
+                              DocumentWriter writer)
+    {
+        String key = this.getKey(configStoreFile);
+
+        if (writeDelay <= 0)
+        {
+            synchronized (this.getFileLock(key))
+            {
+                CachedDocument cachedDocument;
+
+                synchronized (this)
+                {
+                    cachedDocument = this.setDocument(key, document, writer);
+                    this.cancelPendingWrite(cachedDocument);
+                }
+
+                this.completeWrite(configStoreFile, key, cachedDocument);
+            }
+        }
+        else
+        {
+            synchronized (this)
+            {
+                CachedDocument cachedDocument = this.setDocument(key, document, writer);
+
+                cachedDocument.writeDelay = writeDelay;
+
+                if (cachedDocument.pendingWrite == null)
+                {
+                    this.schedulePendingWrite(configStoreFile, cachedDocument);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Save the latest content of a document in the cache.  This is called under the cache's lock.
+     *
+     * @param key key of the document
+     * @param document serialized document
+     * @param writer routine that writes the document to the file
+     * @return cached document
+     */
+    private CachedDocument setDocument(String         key,
+                                       String         document,
+                                       DocumentWriter writer)
+    {
+        CachedDocument cachedDocument = documents.get(key);
+
+        if (cachedDocument == null)
+        {
+            cachedDocument = new CachedDocument();
+            documents.put(key, cachedDocument);
+        }
+
+        cachedDocument.document = document;
+        cachedDocument.writer = writer;
+
+        return cachedDocument;
+    }
+
+
+    /**
+     * Return the files whose documents are waiting to be written.  These documents are returned by
+     * getDocument even though their files may not exist yet.
+     *
+     * @return list of files
+     */
+    public synchronized List<File> getPendingFiles()
+    {
+        List<File> pendingFiles = new ArrayList<>();
+
+        for (Map.Entry<String, CachedDocument> entry : documents.entrySet())
+        {
+            if (entry.getValue().pendingWrite != null)
+            {
+                pendingFiles.add(new File(entry.getKey()));
+            }
+        }
+
+        return pendingFiles;
+    }
+
+
+    /**
+     * Forget the document stored in the file and cancel any pending write - typically because the document
+     * is being removed.  If the document is being written, this method waits for the write to finish so the
+     * caller can delete the file.
+     *
+     * @param configStoreFile file where the document is stored
+     */
+    public void removeDocument(File configStoreFile)
+    {
+        String key = this.getKey(configStoreFile);
+
+        synchronized (this.getFileLock(key))
+        {
+            synchronized (this)
+            {
+                this.cancelPendingWrite(documents.remove(key));
+            }
+        }
+    }
+
+
+    /**
+     * Write all of the pending documents to their files.
+     */
+    public void flush()
+    {
+        Map<String, File> pendingFiles = new HashMap<>();
+
+        synchronized (this)
+        {
+            for (Map.Entry<String, CachedDocument> entry : documents.entrySet())
+            {
+                if (entry.getValue().pendingWrite != null)
+                {
+                    pendingFiles.put(entry.getKey(), new File(entry.getKey()));
+                }
+            }
+        }
+
+        for (File configStoreFile : pendingFiles.values())
+        {
+            this.completePendingWrite(configStoreFile);
+        }
+    }
+
+
+    /**
+     * Schedule the write of a document once its write delay has passed.
+     *
+     * @param configStoreFile file where the document is stored
+     * @param cachedDocument document to write
+     */
+    private void schedulePendingWrite(File           configStoreFile,
+                                      CachedDocument cachedDocument)
+    {
+        if (writeExecutor == null)
+        {
+            writeExecutor = Executors.newSingleThreadScheduledExecutor(runnable ->
+                                                                       {
+                                                                           Thread thread = new Thread(runnable, "OMAGServerConfigDocumentCache");
+                                                                           thread.setDaemon(true);
+                                                                           return thread;
+                                                                       });
+
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+        }
+
+        cachedDocument.pendingWrite = writeExecutor.schedule(() -> this.completePendingWrite(configStoreFile),
+                                                             cachedDocument.writeDelay,
+                                                             TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Write the latest content of a document to its file if the write is still pending.  If the write fails,
+     * the document stays in the cache and the write is scheduled again.
+     *
+     * @param configStoreFile file where the document is stored
+     */
+    private void completePendingWrite(File configStoreFile)
+    {
+        String key = this.getKey(configStoreFile);
+
+        synchronized (this.getFileLock(key))
+        {
+            CachedDocument cachedDocument;
+
+            synchronized (this)
+            {
+                cachedDocument = documents.get(key);
+
+                if ((cachedDocument == null) || (cachedDocument.pendingWrite == null))
+                {
+                    return;
+                }
+
+                cachedDocument.pendingWrite = null;
+            }
+
+            try
+            {
+                this.writeCachedDocument(configStoreFile, key, cachedDocument);
+            }
+            catch (RuntimeException writeError)
+            {
+                /*
+                 * The writer has reported the error.  The saved content must not be lost so it is
+                 * still returned to the callers and written on the next attempt (unless a later save
+                 * has already scheduled a write).
+                 */
+                synchronized (this)
+                {
+                    if ((documents.get(key) == cachedDocument) && (cachedDocument.pendingWrite == null))
+                    {
+                        this.schedulePendingWrite(configStoreFile, cachedDocument);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Write the latest content of a document to its file before returning to the caller.  If the write fails,
+     * the document is removed from the cache so the next request reads the file, and the error is passed
+     * to the caller.  A later save that was made during the write is kept.  This is called under the file's lock.
+     *
+     * @param configStoreFile file where the document is stored
+     * @param key key of the document
+     * @param cachedDocument document to write
+     */
+    private void completeWrite(File           configStoreFile,
+                               String         key,
+                               CachedDocument cachedDocument)
+    {
+        boolean written = false;
+
+        try
+        {
+            this.writeCachedDocument(configStoreFile, key, cachedDocument);
+            written = true;
+        }
+        finally
+        {
+            if (! written)
+            {
+                synchronized (this)
+                {
+                    if (cachedDocument.pendingWrite == null)
+                    {
+                        documents.remove(key, cachedDocument);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Write the latest content of a document to its file.  This is called under the file's lock so the
+     * write can not overlap with another write of the same document.  The cache's lock is only held while
+     * the content is copied and the file's attributes are recorded.  A delayed save made during the write
+     * is returned to the callers until its own write completes.
+     *
+     * @param configStoreFile file where the document is stored
+     * @param key key of the document
+     * @param cachedDocument document to write
+     */
+    private void writeCachedDocument(File           configStoreFile,
+                                     String         key,
+                                     CachedDocument cachedDocument)
+    {
+        String         document;
+        DocumentWriter writer;
+
+        synchronized (this)
+        {
+            document = cachedDocument.document;
+            writer = cachedDocument.writer;
+            cachedDocument.writing = true;
+        }
+
+        try
+        {
+            writer.writeDocument(configStoreFile, document);
+
+            BasicFileAttributes fileAttributes = this.getFileAttributes(configStoreFile);
+
+            synchronized (this)
+            {
+                if (cachedDocument.writer == writer)
+                {
+                    cachedDocument.writer = null;
+                }
+
+                if (fileAttributes != null)
+                {
+                    this.setFileAttributes(cachedDocument, fileAttributes);
+                }
+                else if (cachedDocument.pendingWrite == null)
+                {
+                    documents.remove(key, cachedDocument);
+                }
+            }
+        }
+        finally
+        {
+            synchronized (this)
+            {
+                cachedDocument.writing = false;
+            }
+        }
+    }
+
+
+    /**
+     * Return the lock that serializes the writes and removal of a file.  The locks are kept for the life of
+     * the cache since there is one for each configuration document.
+     *
+     * @param key key of the document
+     * @return lock object
+     */
+    private synchronized Object getFileLock(String key)
+    {
+        return fileLocks.computeIfAbsent(key, fileKey -> new Object());
+    }
+
+
+    /**
+     * Return whether the file is unchanged since the document was cached.
+     *
+     * @param cachedDocument cached document
+     * @param fileAttributes current attributes of the file or null if the file does not exist
+     * @return boolean flag
+     */
+    private boolean isUnchanged(CachedDocument      cachedDocument,
+                                BasicFileAttributes fileAttributes)
+    {
+        return (fileAttributes != null) &&
+               (fileAttributes.lastModifiedTime().toMillis() == cachedDocument.lastModifiedTime) &&
+               (fileAttributes.size() == cachedDocument.size);
+    }
+
+
+    /**
+     * Record the attributes of the file that match the cached document.
+     *
+     * @param cachedDocument cached document
+     * @param fileAttributes attributes of the file
+     */
+    private void setFileAttributes(CachedDocument      cachedDocument,
+                                   BasicFileAttributes fileAttributes)
+    {
+        cachedDocument.lastModifiedTime = fileAttributes.lastModifiedTime().toMillis();
+        cachedDocument.size = fileAttributes.size();
+    }
+
+
+    /**
+     * Cancel the pending write of a document.
+     *
+     * @param cachedDocument cached document or null
+     */
+    private void cancelPendingWrite(CachedDocument cachedDocument)
+    {
+        if ((cachedDocument != null) && (cachedDocument.pendingWrite != null))
+        {
+            cachedDocument.pendingWrite.cancel(false);
+            cachedDocument.pendingWrite = null;
+        }
+    }
+
+
+    /**
+     * Return the key of the document in the cache.
+     *
+     * @param configStoreFile file where the document is stored
+     * @return absolute path of the file without "." and ".." elements, so each file has one key
+     */
+    private String getKey(File configStoreFile)
+    {
+        return configStoreFile.toPath().toAbsolutePath().normalize().toString();
+    }
+
+
+    /**
+     * Return the attributes of the file.
+     *
+     * @param configStoreFile file where the document is stored
+     * @return attributes or null if the file does not exist
+     */
+    private BasicFileAttributes getFileAttributes(File configStoreFile)
+    {
+        try
+        {
+            return Files.readAttributes(configStoreFile.toPath(), BasicFileAttributes.class);
+        }
+        catch (IOException notFound)
+        {
+            return null;
+        }
+    }
+}
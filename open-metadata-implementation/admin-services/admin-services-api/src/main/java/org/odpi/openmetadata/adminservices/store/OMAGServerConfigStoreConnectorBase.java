@@ -5,6 +5,7 @@ package org.odpi.openmetadata.adminservices.store;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 
 import java.text.MessageFormat;
+import java.util.Map;
 
 /**
  * OMAGServerConfigStoreConnectorBase provides the base class for an OMAG Server's configuration document store.
@@ -13,6 +14,12 @@ import java.text.MessageFormat;
  */
 public abstract class OMAGServerConfigStoreConnectorBase extends ConnectorBase implements OMAGServerConfigStore
 {
+    /**
+     * Configuration property for the number of milliseconds that a store may wait before writing a changed
+     * configuration document.  Saves made during the wait are combined into a single write.
+     */
+    public static final String WRITE_DELAY_CONFIGURATION_PROPERTY = "writeDelay";
+
     protected String serverName = null;
 
 
@@ -49,4 +56,39 @@ public abstract class OMAGServerConfigStoreConnectorBase extends ConnectorBase i
 
         return null;
     }
+
+
+    /**
+     * Return the number of milliseconds that the store may wait before writing a changed configuration document.
+     * This is set in the writeDelay configuration property of the connection.  The default is 0, which means
+     * each document is written as soon as it is saved.
+     *
+     * @return write delay in milliseconds
+     */
+    protected long getWriteDelay()
+    {
+        if (connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object writeDelay = configurationProperties.get(WRITE_DELAY_CONFIGURATION_PROPERTY);
+
+                if (writeDelay != null)
+                {
+                    try
+                    {
+                        return Math.max(Long.parseLong(writeDelay.toString()), 0);
+                    }
+                    catch (NumberFormatException error)
+                    {
+                        return 0;
+                    }
+                }
+            }
+        }
+
+        return 0;
+    }
 }
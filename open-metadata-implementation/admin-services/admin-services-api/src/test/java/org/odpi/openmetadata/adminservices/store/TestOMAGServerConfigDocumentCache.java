@@ -0,0 +1,296 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.store;
+
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the configuration document cache only reads a file when it changes and combines
+ * delayed writes.
+ */
+public class TestOMAGServerConfigDocumentCache
+{
+    private int          readCount    = 0;
+    private int          failedWrites = 0;
+    private List<String> writes       = new ArrayList<>();
+
+
+    private String readDocument(File configStoreFile) throws IOException
+    {
+        readCount++;
+
+        return new String(Files.readAllBytes(configStoreFile.toPath()), StandardCharsets.UTF_8);
+    }
+
+
+    private void writeDocument(File   configStoreFile,
+                               String document)
+    {
+        writes.add(document);
+
+        try
+        {
+            Files.write(configStoreFile.toPath(), document.getBytes(StandardCharsets.UTF_8));
+        }
+        catch (IOException error)
+        {
+            throw new RuntimeException(error);
+        }
+    }
+
+
+    private void failingWriteDocument(File   configStoreFile,
+                                      String document)
+    {
+        if (failedWrites == 0)
+        {
+            failedWrites++;
+
+            throw new RuntimeException("Test write failure");
+        }
+
+        this.writeDocument(configStoreFile, document);
+    }
+
+
+    /**
+     * Validate that an unchanged file is only read once.
+     *
+     * @throws IOException problem with the test file
+     */
+    @Test public void testReadsCached() throws IOException
+    {
+        OMAGServerConfigDocumentCache cache = new OMAGServerConfigDocumentCache();
+        File                          file  = File.createTempFile("TestOMAGServerConfigDocumentCache", ".config");
+
+        try
+        {
+            readCount = 0;
+            Files.write(file.toPath(), "{}".getBytes(StandardCharsets.UTF_8));
+
+            assertEquals(cache.getDocument(file, this::readDocument), "{}");
+            assertEquals(cache.getDocument(file, this::readDocument), "{}");
+            assertEquals(readCount, 1);
+
+            /*
+             * A change to the file outside of the cache is picked up.
+             */
+            Files.write(file.toPath(), "{\"versionId\":\"V2.0\"}".getBytes(StandardCharsets.UTF_8));
+
+            assertEquals(cache.getDocument(file, this::readDocument), "{\"versionId\":\"V2.0\"}");
+            assertEquals(readCount, 2);
+
+            /*
+             * A write through the cache does not need to be read back.
+             */
+            cache.writeDocument(file, "{\"localServerName\":\"test\"}", 0, this::writeDocument);
+
+            assertEquals(cache.getDocument(file, this::readDocument), "{\"localServerName\":\"test\"}");
+            assertEquals(readCount, 2);
+        }
+        finally
+        {
+            file.delete();
+        }
+    }
+
+
+    /**
+     * Validate that saves made during the write delay result in a single write of the latest document.
+     *
+     * @throws IOException problem with the test file
+     */
+    @Test public void testDelayedWritesCombined() throws IOException
+    {
+        OMAGServerConfigDocumentCache cache = new OMAGServerConfigDocumentCache();
+        File                          file  = File.createTempFile("TestOMAGServerConfigDocumentCache", ".config");
+
+        try
+        {
+            readCount = 0;
+            writes.clear();
+            file.delete();
+
+            for (int i = 0; i < 10; i++)
+            {
+                cache.writeDocument(file, "{\"localServerName\":\"test" + i + "\"}", 60000, this::writeDocument);
+            }
+
+            assertFalse(file.exists());
+            assertEquals(cache.getDocument(file, this::readDocument), "{\"localServerName\":\"test9\"}");
+            assertEquals(readCount, 0);
+
+            cache.flush();
+
+            assertEquals(writes.size(), 1);
+            assertEquals(writes.get(0), "{\"localServerName\":\"test9\"}");
+            assertTrue(file.exists());
+
+            /*
+             * A removed document is not written.
+             */
+            cache.writeDocument(file, "{\"localServerName\":\"removed\"}", 60000, this::writeDocument);
+            cache.removeDocument(file);
+            cache.flush();
+
+            assertEquals(writes.size(), 1);
+        }
+        finally
+        {
+            file.delete();
+        }
+    }
+
+
+    /**
+     * Validate that a document waiting to be written is listed as pending and that it is kept and written
+     * later if its write fails.
+     *
+     * @throws IOException problem with the test file
+     */
+    @Test public void testFailedDelayedWriteRetried() throws IOException
+    {
+        OMAGServerConfigDocumentCache cache = new OMAGServerConfigDocumentCache();
+        File                          file  = File.createTempFile("TestOMAGServerConfigDocumentCache", ".config");
+
+        try
+        {
+            readCount = 0;
+            failedWrites = 0;
+            writes.clear();
+            file.delete();
+
+            cache.writeDocument(file, "{\"localServerName\":\"retry\"}", 60000, this::failingWriteDocument);
+
+            assertEquals(cache.getPendingFiles(), Collections.singletonList(file.getAbsoluteFile()));
+
+            cache.flush();
+
+            assertEquals(failedWrites, 1);
+            assertFalse(file.exists());
+            assertEquals(cache.getPendingFiles(), Collections.singletonList(file.getAbsoluteFile()));
+            assertEquals(cache.getDocument(file, this::readDocument), "{\"localServerName\":\"retry\"}");
+            assertEquals(readCount, 0);
+
+            cache.flush();
+
+            assertEquals(writes.size(), 1);
+            assertTrue(file.exists());
+            assertTrue(cache.getPendingFiles().isEmpty());
+        }
+        finally
+        {
+            file.delete();
+        }
+    }
+
+
+    /**
+     * Validate that a slow write of one document does not hold up the requests for other documents, that the
+     * document being written is returned without reading the file, and that removing the document waits for
+     * the write to finish.
+     *
+     * @throws Exception problem with the test files or threads
+     */
+    @Test public void testWriteOutsideCacheLock() throws Exception
+    {
+        OMAGServerConfigDocumentCache cache        = new OMAGServerConfigDocumentCache();
+        File                          slowFile     = File.createTempFile("TestOMAGServerConfigDocumentCache", ".config");
+        File                          otherFile    = File.createTempFile("TestOMAGServerConfigDocumentCache", ".config");
+        CountDownLatch                writeStarted = new CountDownLatch(1);
+        CountDownLatch                releaseWrite = new CountDownLatch(1);
+        List<Throwable>               errors       = Collections.synchronizedList(new ArrayList<>());
+
+        Thread writeThread = new Thread(() ->
+                                        {
+                                            try
+                                            {
+                                                cache.writeDocument(slowFile, "{\"localServerName\":\"slow\"}", 0, (file, document) ->
+                                                {
+                                                    writeStarted.countDown();
+
+                                                    try
+                                                    {
+                                                        releaseWrite.await(10, TimeUnit.SECONDS);
+                                                    }
+                                                    catch (InterruptedException error)
+                                                    {
+                                                        Thread.currentThread().interrupt();
+                                                    }
+
+                                                    this.writeDocument(file, document);
+                                                });
+                                            }
+                                            catch (Throwable error)
+                                            {
+                                                errors.add(error);
+                                            }
+                                        });
+        Thread removeThread = new Thread(() -> cache.removeDocument(slowFile));
+
+        try
+        {
+            readCount = 0;
+            writes.clear();
+            Files.write(otherFile.toPath(), "{}".getBytes(StandardCharsets.UTF_8));
+
+            writeThread.start();
+
+            assertTrue(writeStarted.await(10, TimeUnit.SECONDS));
+
+            /*
+             * The slow write is blocked in the writer without holding the cache's lock.
+             */
+            assertEquals(cache.getDocument(otherFile, this::readDocument), "{}");
+            cache.writeDocument(otherFile, "{\"localServerName\":\"other\"}", 0, this::writeDocument);
+            assertEquals(cache.getDocument(otherFile, this::readDocument), "{\"localServerName\":\"other\"}");
+            assertEquals(cache.getDocument(slowFile, this::readDocument), "{\"localServerName\":\"slow\"}");
+            assertEquals(readCount, 1);
+
+            removeThread.start();
+            removeThread.join(200);
+
+            assertTrue(removeThread.isAlive());
+        }
+        finally
+        {
+            releaseWrite.countDown();
+        }
+
+        try
+        {
+            writeThread.join(10000);
+            removeThread.join(10000);
+
+            assertFalse(writeThread.isAlive());
+            assertFalse(removeThread.isAlive());
+            assertTrue(errors.isEmpty(), errors.toString());
+            assertEquals(writes.size(), 2);
+            assertTrue(cache.getPendingFiles().isEmpty());
+
+            slowFile.delete();
+
+            assertNull(cache.getDocument(slowFile, configStoreFile -> null));
+        }
+        finally
+        {
+            slowFile.delete();
+            otherFile.delete();
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicSubscription;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
@@ -460,6 +461,30 @@ public abstract class AccessServiceAdmin
                                                OMRSTopicConnector  omrsTopicConnector,
                                                OMRSTopicListener   omrsTopicListener,
                                                AuditLog            auditLog) throws OMAGConfigurationErrorException
+    {
+        this.registerWithEnterpriseTopic(accessServiceFullName, serverName, omrsTopicConnector, omrsTopicListener, null, auditLog);
+    }
+
+
+    /**
+     * Register a listener with the enterprise topic connector.  The listener is only passed the events that
+     * match the subscription.
+     *
+     * @param accessServiceFullName name of calling access service
+     * @param serverName name of OMAG Server instance
+     * @param omrsTopicConnector topic connector to register with
+     * @param omrsTopicListener listener to register
+     * @param subscription events that the listener wants (null means all events)
+     * @param auditLog audit log to record messages
+     *
+     * @throws OMAGConfigurationErrorException problem with topic connection
+     */
+    protected void registerWithEnterpriseTopic(String                accessServiceFullName,
+                                               String                serverName,
+                                               OMRSTopicConnector    omrsTopicConnector,
+                                               OMRSTopicListener     omrsTopicListener,
+                                               OMRSTopicSubscription subscription,
+                                               AuditLog              auditLog) throws OMAGConfigurationErrorException
     {
         final String            actionDescription = "initialize OMAS";
         final String            methodName = "initialize";
@@ -469,7 +494,7 @@ public abstract class AccessServiceAdmin
             auditLog.logMessage(actionDescription,
                                 OMAGAdminAuditCode.SERVICE_REGISTERED_WITH_ENTERPRISE_TOPIC.getMessageDefinition(accessServiceFullName, serverName));
 
-            omrsTopicConnector.registerListener(omrsTopicListener, accessServiceFullName);
+            omrsTopicConnector.registerListener(omrsTopicListener, accessServiceFullName, subscription);
         }
         else
         {
@@ -0,0 +1,468 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
+import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
+import org.odpi.openmetadata.adminservices.ffdc.OMAGAdminAuditCode;
+import org.odpi.openmetadata.commonservices.multitenant.OMAGServerPlatformInstanceMap;
+import org.odpi.openmetadata.commonservices.multitenant.OMAGServerServiceInitializer;
+import org.odpi.openmetadata.repositoryservices.admin.OMRSOperationalServices;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * OMAGDeferredAccessServiceAdmin stands in for the admin object of an access service that is configured for lazy
+ * initialization.  At server start up it registers with the platform instance map and the enterprise topic in place of
+ * the access service.  The access service's admin object is initialized when the first REST call for the access
+ * service arrives, or when the first instance event arrives from the cohort - whichever is first.
+ * <p>
+ * The initialization runs on its own thread.  A REST call waits for it to complete.  The thread that delivers events
+ * from the enterprise topic does not wait - instance events that arrive while the access service is initializing are held
+ * (up to maxBufferedEvents of them) and passed on in order once it has started.  If the initialization fails, the held
+ * events are discarded and the next request or instance event tries again.
+ * <p>
+ * The access service is passed a topic connector that collects the listeners that the access service registers.
+ * The events from the enterprise topic are passed on to these listeners (filtered by the subscription that each listener
+ * registered with), so the event that triggers the initialization is also processed by the access service.  Registry and type events do not trigger the initialization.  They are
+ * ignored until the access service has started.
+ */
+class OMAGDeferredAccessServiceAdmin extends AccessServiceAdmin implements OMAGServerServiceInitializer,
+                                                                           OMRSTopicListener
+{
+    /**
+     * The access service option that requests lazy initialization.
+     */
+    static final String lazyInitializationPropertyName = "LazyInitialization";
+
+    /**
+     * The maximum number of instance events held while the access service is initializing.
+     */
+    static final int maxBufferedEvents = 1000;
+
+    private static final String restRequestTrigger = "a REST request";
+    private static final String eventTrigger       = "an event";
+
+    private final AccessServiceAdmin            accessServiceAdmin;
+    private final AccessServiceConfig           accessServiceConfig;
+    private final OMRSOperationalServices       operationalRepositoryServices;
+    private final OMRSTopicConnector            enterpriseTopicConnector;
+    private final String                        localServerUserId;
+    private final String                        serverName;
+    private final OMRSAuditLog                  auditLog;
+    private final OMAGServerPlatformInstanceMap platformInstanceMap  = new OMAGServerPlatformInstanceMap();
+    private final List<OMRSInstanceEvent>       bufferedEvents        = new ArrayList<>();
+    private OMRSAuditLog                        accessServiceAuditLog = null;
+    private volatile ServiceTopicConnector      serviceTopicConnector = null;
+
+    private volatile boolean initialized       = false;
+    private Future<Boolean>  initialization    = null;
+    private int              droppedEventCount = 0;
+    private boolean          shutdown          = false;
+
+
+    /**
+     * Return whether the access service is configured for lazy initialization.
+     *
+     * @param accessServiceConfig configuration for the access service
+     * @return boolean flag
+     */
+    static boolean isLazyInitialization(AccessServiceConfig accessServiceConfig)
+    {
+        Map<String, Object> accessServiceOptions = accessServiceConfig.getAccessServiceOptions();
+
+        if (accessServiceOptions != null)
+        {
+            Object lazyInitialization = accessServiceOptions.get(lazyInitializationPropertyName);
+
+            if (lazyInitialization != null)
+            {
+                return Boolean.parseBoolean(lazyInitialization.toString());
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Constructor supplies everything needed to initialize the access service later.
+     *
+     * @param accessServiceAdmin admin object for the access service
+     * @param accessServiceConfig configuration for the access service
+     * @param operationalRepositoryServices repository services
+     * @param enterpriseTopicConnector events from the cohort (or null if there are no events)
+     * @param localServerUserId server's userId
+     * @param serverName server name
+     * @param auditLog audit log of the operational services
+     */
+    OMAGDeferredAccessServiceAdmin(AccessServiceAdmin      accessServiceAdmin,
+                                   AccessServiceConfig     accessServiceConfig,
+                                   OMRSOperationalServices operationalRepositoryServices,
+                                   OMRSTopicConnector      enterpriseTopicConnector,
+                                   String                  localServerUserId,
+                                   String                  serverName,
+                                   OMRSAuditLog            auditLog)
+    {
+        this.accessServiceAdmin = accessServiceAdmin;
+        this.accessServiceConfig = accessServiceConfig;
+        this.operationalRepositoryServices = operationalRepositoryServices;
+        this.enterpriseTopicConnector = enterpriseTopicConnector;
+        this.localServerUserId = localServerUserId;
+        this.serverName = serverName;
+        this.auditLog = auditLog;
+    }
+
+
+    /**
+     * Register with the platform instance map and the enterprise topic so the first request or event for the
+     * access service completes its initialization.
+     */
+    void deferInitialization()
+    {
+        final String actionDescription = "Initialize Access Services";
+
+        platformInstanceMap.registerDeferredService(serverName, accessServiceConfig.getAccessServiceFullName(), this);
+
+        if (enterpriseTopicConnector != null)
+        {
+            enterpriseTopicConnector.registerListener(this, accessServiceConfig.getAccessServiceFullName());
+        }
+
+        auditLog.logMessage(actionDescription,
+                            OMAGAdminAuditCode.DEFERRING_ACCESS_SERVICE.getMessageDefinition(accessServiceConfig.getAccessServiceFullName(),
+                                                                                             serverName));
+    }
+
+
+    /**
+     * Complete the initialization of the access service because a REST call has arrived for it.  The REST call waits
+     * for the initialization to finish.  If the initialization fails, the access service is not registered and the
+     * REST call is rejected.
+     *
+     * @param userId calling user
+     * @param serviceOperationName calling method
+     */
+    @Override
+    public void initializeDeferredService(String userId,
+                                          String serviceOperationName)
+    {
+        Future<Boolean> initialization = this.startInitialization(restRequestTrigger);
+
+        if (initialization != null)
+        {
+            try
+            {
+                initialization.get();
+            }
+            catch (ExecutionException error)
+            {
+                /*
+                 * Errors are logged by completeInitialization.
+                 */
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    /**
+     * Start the initialization of the access service on its own thread if it is not running and is not
+     * already starting.
+     *
+     * @param trigger description of the request or event that needs the access service
+     * @return result of the initialization or null if the access service is running or shutdown
+     */
+    private synchronized Future<Boolean> startInitialization(String trigger)
+    {
+        if ((initialized) || (shutdown))
+        {
+            return null;
+        }
+
+        if (initialization == null)
+        {
+            FutureTask<Boolean> initializationTask = new FutureTask<>(() -> this.completeInitialization(trigger));
+
+            Thread initializationThread = new Thread(initializationTask,
+                                                     "OMAGDeferredAccessServiceAdmin:" + serverName + ":" + accessServiceConfig.getAccessServiceFullName());
+            initializationThread.setDaemon(true);
+
+            initialization = initializationTask;
+            initializationThread.start();
+        }
+
+        return initialization;
+    }
+
+
+    /**
+     * Initialize the access service and pass on the instance events that arrived while it was starting.  This runs
+     * on the thread started by startInitialization.  If the server shuts down while the access service is starting,
+     * the access service is shutdown as soon as its initialization returns.
+     *
+     * @param trigger description of the request or event that needs the access service
+     * @return whether the access service is running
+     */
+    @SuppressWarnings(value = "deprecation")
+    private boolean completeInitialization(String trigger)
+    {
+        final String methodName = "completeInitialization";
+        final String actionDescription = "Initialize Access Services";
+
+        long startTime = System.currentTimeMillis();
+
+        /*
+         * Each attempt has its own topic connector so the listeners registered by a failed attempt are discarded.
+         */
+        ServiceTopicConnector attemptTopicConnector = null;
+
+        try
+        {
+            accessServiceAuditLog = operationalRepositoryServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
+                                                                              accessServiceConfig.getAccessServiceFullName(),
+                                                                              accessServiceConfig.getAccessServiceDescription(),
+                                                                              accessServiceConfig.getAccessServiceWiki());
+
+            if (enterpriseTopicConnector != null)
+            {
+                attemptTopicConnector = new ServiceTopicConnector();
+                attemptTopicConnector.setAuditLog(accessServiceAuditLog);
+            }
+
+            accessServiceAdmin.initialize(accessServiceConfig,
+                                          attemptTopicConnector,
+                                          operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName()),
+                                          accessServiceAuditLog,
+                                          localServerUserId);
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.DEFERRED_ACCESS_SERVICE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceFullName(),
+                                                                                                          serverName,
+                                                                                                          error.getClass().getName(),
+                                                                                                          error.getMessage()),
+                                  accessServiceConfig.toString(),
+                                  error);
+
+            /*
+             * The next request or instance event tries again.
+             */
+            synchronized (this)
+            {
+                droppedEventCount = droppedEventCount + bufferedEvents.size();
+                bufferedEvents.clear();
+                initialization = null;
+            }
+
+            this.logDroppedEvents();
+
+            return false;
+        }
+
+        auditLog.logMessage(actionDescription,
+                            OMAGAdminAuditCode.DEFERRED_ACCESS_SERVICE_STARTED.getMessageDefinition(accessServiceConfig.getAccessServiceFullName(),
+                                                                                                    serverName,
+                                                                                                    trigger,
+                                                                                                    Long.toString(System.currentTimeMillis() - startTime)));
+
+        serviceTopicConnector = attemptTopicConnector;
+
+        /*
+         * The held events are passed on outside of the lock so the thread delivering events from the enterprise topic
+         * is not held up by the access service's listeners.  Events that arrive in the meantime are added to the buffer
+         * and picked up by the next pass of the loop.  The access service is marked as initialized once the buffer is
+         * empty so later events are passed on directly, after the held events.
+         */
+        while (true)
+        {
+            List<OMRSInstanceEvent> heldEvents;
+
+            synchronized (this)
+            {
+                if (shutdown)
+                {
+                    bufferedEvents.clear();
+                    initialization = null;
+                    accessServiceAdmin.shutdown();
+
+                    return false;
+                }
+
+                if (bufferedEvents.isEmpty())
+                {
+                    initialized = true;
+                    initialization = null;
+                    break;
+                }
+
+                heldEvents = new ArrayList<>(bufferedEvents);
+                bufferedEvents.clear();
+            }
+
+            for (OMRSInstanceEvent event : heldEvents)
+            {
+                serviceTopicConnector.passEvent(event);
+            }
+        }
+
+        this.logDroppedEvents();
+
+        return true;
+    }
+
+
+    /**
+     * Log the number of instance events that were discarded because they arrived while the access service was
+     * initializing and either the buffer was full or the initialization failed.
+     */
+    private void logDroppedEvents()
+    {
+        final String actionDescription = "Initialize Access Services";
+
+        int droppedEvents;
+
+        synchronized (this)
+        {
+            droppedEvents = droppedEventCount;
+            droppedEventCount = 0;
+        }
+
+        if (droppedEvents > 0)
+        {
+            auditLog.logMessage(actionDescription,
+                                OMAGAdminAuditCode.DEFERRED_ACCESS_SERVICE_EVENTS_DROPPED.getMessageDefinition(accessServiceConfig.getAccessServiceFullName(),
+                                                                                                               serverName,
+                                                                                                               Integer.toString(droppedEvents)));
+        }
+    }
+
+
+    /**
+     * Registry events are passed on once the access service has started.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processRegistryEvent(OMRSRegistryEvent event)
+    {
+        if (initialized)
+        {
+            serviceTopicConnector.passEvent(event);
+        }
+    }
+
+
+    /**
+     * Type events are passed on once the access service has started.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processTypeDefEvent(OMRSTypeDefEvent event)
+    {
+        if (initialized)
+        {
+            serviceTopicConnector.passEvent(event);
+        }
+    }
+
+
+    /**
+     * Instance events start the access service if it is not already running.  Events that arrive while it is
+     * starting are held until it is running.
+     *
+     * @param event inbound event
+     */
+    @Override
+    public void processInstanceEvent(OMRSInstanceEvent event)
+    {
+        if (! initialized)
+        {
+            synchronized (this)
+            {
+                if (! initialized)
+                {
+                    if (! shutdown)
+                    {
+                        if (bufferedEvents.size() < maxBufferedEvents)
+                        {
+                            bufferedEvents.add(event);
+                        }
+                        else
+                        {
+                            droppedEventCount ++;
+                        }
+
+                        this.startInitialization(eventTrigger);
+                    }
+
+                    return;
+                }
+            }
+        }
+
+        serviceTopicConnector.passEvent(event);
+    }
+
+
+    /**
+     * Shutdown the access service if it started, otherwise remove it from the platform instance map.  This does not wait
+     * for an initialization that is in progress.  The access service is shutdown by the initialization thread when
+     * its initialization returns.
+     */
+    @Override
+    public synchronized void shutdown()
+    {
+        shutdown = true;
+        bufferedEvents.clear();
+
+        platformInstanceMap.unRegisterDeferredService(serverName, accessServiceConfig.getAccessServiceFullName());
+
+        if (initialized)
+        {
+            initialized = false;
+            accessServiceAdmin.shutdown();
+        }
+    }
+
+
+    /**
+     * The topic connector passed to the access service.  It keeps the listeners that the access service registers,
+     * along with their subscriptions, rather than registering them with the enterprise topic connector.  The events
+     * are passed on by the OMAGDeferredAccessServiceAdmin as it receives them from the enterprise topic, and the
+     * OMRSTopicConnector filters them against each listener's subscription in the same way as the enterprise topic
+     * connector does for the access services that start with the server.
+     */
+    private static class ServiceTopicConnector extends OMRSTopicConnector
+    {
+        /**
+         * Pass an event to the listeners whose subscriptions match it.
+         *
+         * @param event inbound event
+         */
+        void passEvent(OMRSEvent event)
+        {
+            if (event != null)
+            {
+                super.distributeEvent(event.getOMRSEventV1());
+            }
+        }
+    }
+}
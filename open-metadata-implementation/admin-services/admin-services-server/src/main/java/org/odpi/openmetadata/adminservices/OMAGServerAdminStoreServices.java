@@ -83,7 +83,7 @@ public class OMAGServerAdminStoreServices
             exceptionHandler.capturePlatformRuntimeException(methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -119,7 +119,7 @@ public class OMAGServerAdminStoreServices
             exceptionHandler.capturePlatformRuntimeException(methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -154,7 +154,7 @@ public class OMAGServerAdminStoreServices
             exceptionHandler.capturePlatformRuntimeException(methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -37,7 +37,13 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * OMAGServerOperationalServices will provide support to start, manage and stop services in the OMAG Server.
@@ -571,7 +577,7 @@ public class OMAGServerOperationalServices
             cleanUpRunningServiceInstances(userId, serverName, methodName, instance);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -620,7 +626,11 @@ public class OMAGServerOperationalServices
 
 
     /**
-     * Start up the access services.
+     * Start up the access services.  The access services are independent of one another so the enabled access services
+     * are initialized in parallel.  Access services that are configured for lazy initialization are registered so that
+     * they start when they receive their first request or event.  The admin objects are saved in the order of the
+     * configuration.  If any access service fails to start, the ones that did start are saved so they are shutdown
+     * as the server start up is cleaned up, and the first error is returned.
      *
      * @param instance server instance
      * @param accessServiceConfigList configured access services
@@ -631,15 +641,14 @@ public class OMAGServerOperationalServices
      * @param activatedServiceList list of services (subsystems) running in the server
      * @throws OMAGConfigurationErrorException problem with the configuration
      */
-    @SuppressWarnings(value = "deprecation")
-    private void initializeAccessServices(OMAGOperationalServicesInstance instance,
-                                          List<AccessServiceConfig>       accessServiceConfigList,
-                                          OMRSOperationalServices         operationalRepositoryServices,
-                                          OMRSTopicConnector              enterpriseTopicConnector,
-                                          String                          localServerUserId,
-                                          String                          serverName,
-                                          List<String>                    activatedServiceList,
-                                          OMRSAuditLog                    auditLog) throws OMAGConfigurationErrorException
+    void initializeAccessServices(OMAGOperationalServicesInstance instance,
+                                  List<AccessServiceConfig>       accessServiceConfigList,
+                                  OMRSOperationalServices         operationalRepositoryServices,
+                                  OMRSTopicConnector              enterpriseTopicConnector,
+                                  String                          localServerUserId,
+                                  String                          serverName,
+                                  List<String>                    activatedServiceList,
+                                  OMRSAuditLog                    auditLog) throws OMAGConfigurationErrorException
     {
         final String methodName = "initializeAccessServices";
         final String actionDescription = "Initialize Access Services";
@@ -653,7 +662,9 @@ public class OMAGServerOperationalServices
              * Need to count the access services because of the possibility of deprecated or disabled access services in the list.
              */
             int  configuredAccessServiceCount = 0;
-            int  enabledAccessServiceCount = 0;
+
+            List<AccessServiceConfig> enabledAccessServiceConfigList = new ArrayList<>();
+            List<AccessServiceConfig> parallelAccessServiceConfigList = new ArrayList<>();
 
             for (AccessServiceConfig  accessServiceConfig : accessServiceConfigList)
             {
@@ -668,71 +679,121 @@ public class OMAGServerOperationalServices
 
                     if (ServiceOperationalStatus.ENABLED.equals(accessServiceConfig.getAccessServiceOperationalStatus()))
                     {
-                        enabledAccessServiceCount ++;
+                        enabledAccessServiceConfigList.add(accessServiceConfig);
 
-                        try
+                        if (! OMAGDeferredAccessServiceAdmin.isLazyInitialization(accessServiceConfig))
                         {
-                            AccessServiceAdmin accessServiceAdmin = this.getAccessServiceAdminClass(accessServiceConfig, auditLog, serverName);
-
-                            /*
-                             * Each access service has its own audit log instance.
-                             */
-                            OMRSAuditLog accessServicesAuditLog
-                                    = operationalRepositoryServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
-                                                                                accessServiceConfig.getAccessServiceFullName(),
-                                                                                accessServiceConfig.getAccessServiceDescription(),
-                                                                                accessServiceConfig.getAccessServiceWiki());
-
-                            /*
-                             * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
-                             * AuditLog.  The default implementation of this method delegates to the new version of the method so
-                             */
-                            accessServiceAdmin.initialize(accessServiceConfig,
-                                                          enterpriseTopicConnector,
-                                                          operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName()),
-                                                          accessServicesAuditLog,
-                                                          localServerUserId);
-                            operationalAccessServiceAdminList.add(accessServiceAdmin);
-                            activatedServiceList.add(accessServiceConfig.getAccessServiceFullName());
+                            parallelAccessServiceConfigList.add(accessServiceConfig);
+                        }
+                    }
+                    else
+                    {
+                        auditLog.logMessage(actionDescription,
+                                            OMAGAdminAuditCode.SKIPPING_ACCESS_SERVICE.getMessageDefinition(accessServiceConfig.getAccessServiceFullName(),
+                                                                                                            serverName));
+                    }
+                }
+            }
+
+            /*
+             * The access services that start straight away are submitted to a thread pool.  Each thread returns the admin object
+             * of its access service.  There is no benefit in creating a thread pool for a single access service.
+             */
+            long                                    startTime      = System.currentTimeMillis();
+            int                                     threadCount    = Math.min(parallelAccessServiceConfigList.size(),
+                                                                              Runtime.getRuntime().availableProcessors());
+            ExecutorService                         executor       = null;
+            Map<String, Future<AccessServiceAdmin>> startingAdmins = new HashMap<>();
 
+            if (threadCount > 1)
+            {
+                executor = Executors.newFixedThreadPool(threadCount, runnable ->
+                {
+                    Thread thread = new Thread(runnable, "OMAGServerOperationalServices:" + serverName);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+                for (AccessServiceConfig accessServiceConfig : parallelAccessServiceConfigList)
+                {
+                    startingAdmins.put(accessServiceConfig.getAccessServiceFullName(),
+                                       executor.submit(() -> this.initializeAccessService(accessServiceConfig,
+                                                                                          operationalRepositoryServices,
+                                                                                          enterpriseTopicConnector,
+                                                                                          localServerUserId,
+                                                                                          serverName,
+                                                                                          auditLog)));
+                }
+            }
+
+            /*
+             * The results are collected in the order of the configuration.  Access services configured for lazy initialization
+             * (and the access services that are not running in the thread pool) are set up as they are reached.
+             */
+            OMAGConfigurationErrorException firstError = null;
+
+            try
+            {
+                for (AccessServiceConfig accessServiceConfig : enabledAccessServiceConfigList)
+                {
+                    AccessServiceAdmin accessServiceAdmin = null;
+
+                    try
+                    {
+                        Future<AccessServiceAdmin> startingAdmin = startingAdmins.get(accessServiceConfig.getAccessServiceFullName());
+
+                        if (startingAdmin != null)
+                        {
+                            accessServiceAdmin = this.getStartedAccessService(startingAdmin, accessServiceConfig, serverName, auditLog);
                         }
-                        catch (OMAGConfigurationErrorException error)
+                        else if (firstError == null)
                         {
-                            auditLog.logException(methodName,
-                                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
-                                                                                                                          error.getMessage()),
-                                                  accessServiceConfig.toString(),
-                                                  error);
-                            throw error;
+                            accessServiceAdmin = this.initializeAccessService(accessServiceConfig,
+                                                                              operationalRepositoryServices,
+                                                                              enterpriseTopicConnector,
+                                                                              localServerUserId,
+                                                                              serverName,
+                                                                              auditLog);
                         }
-                        catch (Exception error)
+                    }
+                    catch (OMAGConfigurationErrorException error)
+                    {
+                        if (firstError == null)
                         {
-                            auditLog.logException(methodName,
-                                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
-                                                                                                                          accessServiceConfig.getAccessServiceName(),
-                                                                                                                          error.getMessage()),
-                                                  accessServiceConfig.toString(),
-                                                  error);
-
-                            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
-                                                                                                                                                  accessServiceConfig.getAccessServiceName(),
-                                                                                                                                                  error.getMessage()),
-                                                                      this.getClass().getName(),
-                                                                      methodName,
-                                                                      error);
+                            firstError = error;
                         }
                     }
-                    else
+
+                    if (accessServiceAdmin != null)
                     {
-                        auditLog.logMessage(actionDescription,
-                                            OMAGAdminAuditCode.SKIPPING_ACCESS_SERVICE.getMessageDefinition(accessServiceConfig.getAccessServiceFullName(),
-                                                                                                            serverName));
+                        operationalAccessServiceAdminList.add(accessServiceAdmin);
+                        activatedServiceList.add(accessServiceConfig.getAccessServiceFullName());
                     }
                 }
             }
+            finally
+            {
+                if (executor != null)
+                {
+                    executor.shutdown();
+                }
+
+                instance.setOperationalAccessServiceAdminList(operationalAccessServiceAdminList);
+            }
+
+            if (firstError != null)
+            {
+                throw firstError;
+            }
 
             auditLog.logMessage(actionDescription,
-                                OMAGAdminAuditCode.ALL_ACCESS_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledAccessServiceCount),
+                                OMAGAdminAuditCode.ACCESS_SERVICES_START_UP_TIME.getMessageDefinition(Integer.toString(parallelAccessServiceConfigList.size()),
+                                                                                                      serverName,
+                                                                                                      Long.toString(System.currentTimeMillis() - startTime),
+                                                                                                      Integer.toString(Math.max(threadCount, 1))));
+
+            auditLog.logMessage(actionDescription,
+                                OMAGAdminAuditCode.ALL_ACCESS_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledAccessServiceConfigList.size()),
                                                                                                     Integer.toString(configuredAccessServiceCount)));
         }
 
@@ -744,6 +805,159 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Start up a single access service.  This may be running on one of the threads started by initializeAccessServices.
+     * If the access service is configured for lazy initialization, it is registered to start on its first request or event.
+     *
+     * @param accessServiceConfig configuration for the access service
+     * @param operationalRepositoryServices repository services
+     * @param enterpriseTopicConnector events from the cohort
+     * @param localServerUserId servers userId
+     * @param serverName server name
+     * @param auditLog audit log of the operational services
+     * @return admin object for the access service
+     * @throws OMAGConfigurationErrorException problem with the configuration
+     */
+    @SuppressWarnings(value = "deprecation")
+    private AccessServiceAdmin initializeAccessService(AccessServiceConfig     accessServiceConfig,
+                                                       OMRSOperationalServices operationalRepositoryServices,
+                                                       OMRSTopicConnector      enterpriseTopicConnector,
+                                                       String                  localServerUserId,
+                                                       String                  serverName,
+                                                       OMRSAuditLog            auditLog) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "initializeAccessServices";
+        final String actionDescription = "Initialize Access Services";
+
+        try
+        {
+            long               startTime          = System.currentTimeMillis();
+            AccessServiceAdmin accessServiceAdmin = this.getAccessServiceAdminClass(accessServiceConfig, auditLog, serverName);
+
+            if (OMAGDeferredAccessServiceAdmin.isLazyInitialization(accessServiceConfig))
+            {
+                OMAGDeferredAccessServiceAdmin deferredAccessServiceAdmin = new OMAGDeferredAccessServiceAdmin(accessServiceAdmin,
+                                                                                                               accessServiceConfig,
+                                                                                                               operationalRepositoryServices,
+                                                                                                               enterpriseTopicConnector,
+                                                                                                               localServerUserId,
+                                                                                                               serverName,
+                                                                                                               auditLog);
+                deferredAccessServiceAdmin.deferInitialization();
+
+                return deferredAccessServiceAdmin;
+            }
+
+            /*
+             * Each access service has its own audit log instance.
+             */
+            OMRSAuditLog accessServicesAuditLog
+                    = operationalRepositoryServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
+                                                                accessServiceConfig.getAccessServiceFullName(),
+                                                                accessServiceConfig.getAccessServiceDescription(),
+                                                                accessServiceConfig.getAccessServiceWiki());
+
+            /*
+             * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
+             * AuditLog.  The default implementation of this method delegates to the new version of the method so
+             */
+            accessServiceAdmin.initialize(accessServiceConfig,
+                                          enterpriseTopicConnector,
+                                          operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName()),
+                                          accessServicesAuditLog,
+                                          localServerUserId);
+
+            auditLog.logMessage(actionDescription,
+                                OMAGAdminAuditCode.ACCESS_SERVICE_STARTED.getMessageDefinition(accessServiceConfig.getAccessServiceFullName(),
+                                                                                               serverName,
+                                                                                               Long.toString(System.currentTimeMillis() - startTime)));
+
+            return accessServiceAdmin;
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
+                                                                                                          error.getMessage()),
+                                  accessServiceConfig.toString(),
+                                  error);
+            throw error;
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
+                                                                                                          accessServiceConfig.getAccessServiceName(),
+                                                                                                          error.getMessage()),
+                                  accessServiceConfig.toString(),
+                                  error);
+
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                                  accessServiceConfig.getAccessServiceName(),
+                                                                                                                                  error.getMessage()),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      error);
+        }
+    }
+
+
+    /**
+     * Wait for an access service that is starting in the thread pool and return its admin object.
+     *
+     * @param startingAdmin result of the thread that is starting the access service
+     * @param accessServiceConfig configuration for the access service
+     * @param serverName server name
+     * @param auditLog audit log of the operational services
+     * @return admin object for the access service
+     * @throws OMAGConfigurationErrorException the access service failed to start
+     */
+    private AccessServiceAdmin getStartedAccessService(Future<AccessServiceAdmin> startingAdmin,
+                                                       AccessServiceConfig        accessServiceConfig,
+                                                       String                     serverName,
+                                                       OMRSAuditLog               auditLog) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "initializeAccessServices";
+
+        Throwable error;
+
+        try
+        {
+            return startingAdmin.get();
+        }
+        catch (ExecutionException executionError)
+        {
+            if (executionError.getCause() instanceof OMAGConfigurationErrorException)
+            {
+                /*
+                 * The error has already been logged by initializeAccessService.
+                 */
+                throw (OMAGConfigurationErrorException) executionError.getCause();
+            }
+
+            error = executionError.getCause();
+        }
+        catch (InterruptedException interruptedError)
+        {
+            Thread.currentThread().interrupt();
+            error = interruptedError;
+        }
+
+        auditLog.logException(methodName,
+                              OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
+                                                                                                      error.getMessage()),
+                              accessServiceConfig.toString(),
+                              error);
+
+        throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                              accessServiceConfig.getAccessServiceName(),
+                                                                                                                              error.getMessage()),
+                                                  this.getClass().getName(),
+                                                  methodName,
+                                                  error);
+    }
+
+
 
     /**
      * Start up the view services.
@@ -1347,7 +1561,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1413,7 +1627,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1471,7 +1685,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1531,7 +1745,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1588,7 +1802,7 @@ public class OMAGServerOperationalServices
             exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 }
@@ -0,0 +1,362 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
+import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.odpi.openmetadata.repositoryservices.admin.OMRSOperationalServices;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicSubscription;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the lazy initialization of an access service.
+ */
+public class TestOMAGDeferredAccessServiceAdmin
+{
+    private static final String serverName  = "deferredTestServer";
+    private static final long   maxWaitTime = 10000;
+
+    private TestingAccessServiceAdmin      accessServiceAdmin;
+    private OMAGDeferredAccessServiceAdmin deferredAccessServiceAdmin;
+
+
+    /**
+     * Create a deferred admin object for an access service that waits to be released before it completes
+     * its initialization.
+     */
+    @BeforeEach
+    void setUp()
+    {
+        OMRSOperationalServices operationalRepositoryServices = mock(OMRSOperationalServices.class);
+        OMRSAuditLog            auditLog                      = mock(OMRSAuditLog.class);
+
+        when(operationalRepositoryServices.getAuditLog(anyInt(), any(), any(), any())).thenReturn(auditLog);
+
+        AccessServiceConfig accessServiceConfig = new AccessServiceConfig();
+        accessServiceConfig.setAccessServiceFullName("Deferred Test OMAS");
+
+        accessServiceAdmin = new TestingAccessServiceAdmin();
+        deferredAccessServiceAdmin = new OMAGDeferredAccessServiceAdmin(accessServiceAdmin,
+                                                                        accessServiceConfig,
+                                                                        operationalRepositoryServices,
+                                                                        mock(OMRSTopicConnector.class),
+                                                                        "serverUserId",
+                                                                        serverName,
+                                                                        auditLog);
+    }
+
+
+    /**
+     * The event that triggers the initialization is not held up by it, and the events that arrive while
+     * the access service is starting are passed on in order once it is running.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testEventsHeldDuringInitialization() throws InterruptedException
+    {
+        OMRSInstanceEvent firstEvent  = newInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "guid1");
+        OMRSInstanceEvent secondEvent = newInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "guid2");
+        OMRSInstanceEvent thirdEvent  = newInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "guid3");
+
+        deferredAccessServiceAdmin.processInstanceEvent(firstEvent);
+        assertTrue(accessServiceAdmin.initializing.await(maxWaitTime, TimeUnit.MILLISECONDS));
+
+        deferredAccessServiceAdmin.processInstanceEvent(secondEvent);
+        deferredAccessServiceAdmin.processRegistryEvent(mock(OMRSRegistryEvent.class));
+        deferredAccessServiceAdmin.processTypeDefEvent(mock(OMRSTypeDefEvent.class));
+        assertTrue(accessServiceAdmin.listener.events.isEmpty());
+
+        accessServiceAdmin.release.countDown();
+        waitForEvents(2);
+
+        deferredAccessServiceAdmin.processInstanceEvent(thirdEvent);
+        waitForEvents(3);
+
+        assertEquals(Arrays.asList("guid1", "guid2", "guid3"), getEventGUIDs(accessServiceAdmin.listener.events));
+        assertEquals(1, accessServiceAdmin.initializeCount.get());
+        assertEquals(0, accessServiceAdmin.listener.otherEventCount.get());
+    }
+
+
+    /**
+     * A REST request waits for the initialization to complete.
+     */
+    @Test
+    public void testRequestWaitsForInitialization()
+    {
+        accessServiceAdmin.release.countDown();
+
+        deferredAccessServiceAdmin.initializeDeferredService("testUser", "testRequestWaitsForInitialization");
+
+        assertTrue(accessServiceAdmin.started);
+
+        deferredAccessServiceAdmin.initializeDeferredService("testUser", "testRequestWaitsForInitialization");
+        assertEquals(1, accessServiceAdmin.initializeCount.get());
+    }
+
+
+    /**
+     * A failed initialization discards the held events and is tried again on the next request.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testRetryAfterFailure() throws InterruptedException
+    {
+        accessServiceAdmin.failuresToGo.set(1);
+        accessServiceAdmin.release.countDown();
+
+        deferredAccessServiceAdmin.initializeDeferredService("testUser", "testRetryAfterFailure");
+        assertFalse(accessServiceAdmin.started);
+
+        deferredAccessServiceAdmin.initializeDeferredService("testUser", "testRetryAfterFailure");
+        assertTrue(accessServiceAdmin.started);
+        assertEquals(2, accessServiceAdmin.initializeCount.get());
+
+        /*
+         * The listener registered by the failed attempt is not called.
+         */
+        deferredAccessServiceAdmin.processInstanceEvent(newInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "guid1"));
+        waitForEvents(1);
+
+        assertEquals(Collections.singletonList("guid1"), getEventGUIDs(accessServiceAdmin.listener.events));
+        assertTrue(accessServiceAdmin.registeredListeners.get(0).events.isEmpty());
+    }
+
+
+    /**
+     * A shutdown while the access service is initializing does not wait for it.  The access service is shutdown
+     * once its initialization returns and the held events are not passed on.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testShutdownDuringInitialization() throws InterruptedException
+    {
+        deferredAccessServiceAdmin.processInstanceEvent(newInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "guid1"));
+        assertTrue(accessServiceAdmin.initializing.await(maxWaitTime, TimeUnit.MILLISECONDS));
+
+        deferredAccessServiceAdmin.shutdown();
+        deferredAccessServiceAdmin.processInstanceEvent(newInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "guid2"));
+        assertEquals(0, accessServiceAdmin.shutdownCount.get());
+
+        accessServiceAdmin.release.countDown();
+        assertTrue(accessServiceAdmin.shutdownComplete.await(maxWaitTime, TimeUnit.MILLISECONDS));
+
+        assertEquals(1, accessServiceAdmin.shutdownCount.get());
+        assertTrue(accessServiceAdmin.listener.events.isEmpty());
+
+        /*
+         * Once shutdown, nothing starts the access service again.
+         */
+        deferredAccessServiceAdmin.initializeDeferredService("testUser", "testShutdownDuringInitialization");
+        assertEquals(1, accessServiceAdmin.initializeCount.get());
+    }
+
+
+    /**
+     * The events, including the held events, are only passed to the access service's listener if they match the
+     * subscription that it registered with.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test
+    public void testSubscription() throws InterruptedException
+    {
+        OMRSTopicSubscription subscription = new OMRSTopicSubscription();
+        subscription.setInstanceEventTypes(EnumSet.of(OMRSInstanceEventType.NEW_ENTITY_EVENT));
+        accessServiceAdmin.subscription = subscription;
+
+        deferredAccessServiceAdmin.processInstanceEvent(newInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, "guid1"));
+        deferredAccessServiceAdmin.processInstanceEvent(newInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "guid2"));
+        assertTrue(accessServiceAdmin.initializing.await(maxWaitTime, TimeUnit.MILLISECONDS));
+
+        accessServiceAdmin.release.countDown();
+        waitForEvents(1);
+
+        deferredAccessServiceAdmin.processInstanceEvent(newInstanceEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT, "guid3"));
+        deferredAccessServiceAdmin.processInstanceEvent(newInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "guid4"));
+        waitForEvents(2);
+
+        assertEquals(Arrays.asList("guid2", "guid4"), getEventGUIDs(accessServiceAdmin.listener.events));
+    }
+
+
+    /**
+     * Wait for the access service's listener to receive the requested number of events.
+     *
+     * @param eventCount number of events
+     * @throws InterruptedException the test was interrupted
+     */
+    private void waitForEvents(int eventCount) throws InterruptedException
+    {
+        long endTime = System.currentTimeMillis() + maxWaitTime;
+
+        while ((accessServiceAdmin.listener.events.size() < eventCount) && (System.currentTimeMillis() < endTime))
+        {
+            Thread.sleep(10);
+        }
+
+        assertEquals(eventCount, accessServiceAdmin.listener.events.size());
+    }
+
+
+    /**
+     * Return a new instance event.
+     *
+     * @param eventType type of event
+     * @param guid unique identifier of the entity in the event
+     * @return event
+     */
+    private static OMRSInstanceEvent newInstanceEvent(OMRSInstanceEventType eventType,
+                                                      String                guid)
+    {
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+
+        return new OMRSInstanceEvent(eventType, entity);
+    }
+
+
+    /**
+     * Return the unique identifiers of the entities in a list of events.
+     *
+     * @param events received events
+     * @return list of guids
+     */
+    private static List<String> getEventGUIDs(List<OMRSInstanceEvent> events)
+    {
+        List<String> guids = new ArrayList<>();
+
+        synchronized (events)
+        {
+            for (OMRSInstanceEvent event : events)
+            {
+                guids.add(event.getEntity().getGUID());
+            }
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Access service that registers a listener and waits to be released before it completes its initialization.
+     */
+    private static class TestingAccessServiceAdmin extends AccessServiceAdmin
+    {
+        final CountDownLatch           initializing        = new CountDownLatch(1);
+        final CountDownLatch           release             = new CountDownLatch(1);
+        final CountDownLatch           shutdownComplete    = new CountDownLatch(1);
+        final AtomicInteger            initializeCount     = new AtomicInteger(0);
+        final AtomicInteger            failuresToGo        = new AtomicInteger(0);
+        final AtomicInteger            shutdownCount       = new AtomicInteger(0);
+        final List<RecordingListener>  registeredListeners = Collections.synchronizedList(new ArrayList<>());
+        volatile RecordingListener     listener            = new RecordingListener();
+        volatile OMRSTopicSubscription subscription        = null;
+        volatile boolean               started             = false;
+
+
+        @Deprecated
+        @Override
+        public void initialize(AccessServiceConfig     accessServiceConfigurationProperties,
+                               OMRSTopicConnector      enterpriseOMRSTopicConnector,
+                               OMRSRepositoryConnector enterpriseOMRSRepositoryConnector,
+                               OMRSAuditLog            auditLog,
+                               String                  serverUserName) throws OMAGConfigurationErrorException
+        {
+            initializeCount.incrementAndGet();
+
+            RecordingListener newListener = new RecordingListener();
+            enterpriseOMRSTopicConnector.registerListener(newListener, "Deferred Test OMAS", subscription);
+            registeredListeners.add(newListener);
+
+            initializing.countDown();
+
+            try
+            {
+                release.await();
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            if (failuresToGo.getAndDecrement() > 0)
+            {
+                throw new IllegalStateException("Test failure");
+            }
+
+            listener = newListener;
+            started = true;
+        }
+
+
+        @Override
+        public void shutdown()
+        {
+            shutdownCount.incrementAndGet();
+            shutdownComplete.countDown();
+        }
+    }
+
+
+    /**
+     * Listener that records the instance events it receives.
+     */
+    private static class RecordingListener implements OMRSTopicListener
+    {
+        final List<OMRSInstanceEvent> events          = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger           otherEventCount = new AtomicInteger(0);
+
+
+        @Override
+        public void processRegistryEvent(OMRSRegistryEvent event)
+        {
+            otherEventCount.incrementAndGet();
+        }
+
+
+        @Override
+        public void processTypeDefEvent(OMRSTypeDefEvent event)
+        {
+            otherEventCount.incrementAndGet();
+        }
+
+
+        @Override
+        public void processInstanceEvent(OMRSInstanceEvent event)
+        {
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
+import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
+import org.odpi.openmetadata.adminservices.configuration.registration.ServerTypeClassification;
+import org.odpi.openmetadata.adminservices.configuration.registration.ServiceOperationalStatus;
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.odpi.openmetadata.repositoryservices.admin.OMRSOperationalServices;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the start up of the access services.
+ */
+public class TestOMAGServerOperationalServices
+{
+    private static final String serverName = "accessServicesTestServer";
+
+    private static final Map<String, String> startingThreads = Collections.synchronizedMap(new HashMap<>());
+
+    private OMAGServerOperationalServices   operationalServices;
+    private OMAGOperationalServicesInstance instance;
+    private OMRSOperationalServices         operationalRepositoryServices;
+    private OMRSAuditLog                    auditLog;
+    private List<String>                    activatedServiceList;
+
+
+    /**
+     * Set up the objects needed to call initializeAccessServices.
+     */
+    @BeforeEach
+    void setUp()
+    {
+        startingThreads.clear();
+
+        operationalServices = new OMAGServerOperationalServices();
+        instance = new OMAGOperationalServicesInstance(serverName, ServerTypeClassification.METADATA_SERVER, "Test Service", 100);
+        operationalRepositoryServices = mock(OMRSOperationalServices.class);
+        auditLog = mock(OMRSAuditLog.class);
+        activatedServiceList = new ArrayList<>();
+
+        when(operationalRepositoryServices.getAuditLog(anyInt(), any(), any(), any())).thenReturn(auditLog);
+    }
+
+
+    /**
+     * The access services that start straight away run in the thread pool (when there is more than one processor).
+     * The admin objects are saved in the order of the configuration, whichever thread started them.  Lazy access services
+     * are registered without starting them and disabled access services are skipped.
+     *
+     * @throws OMAGConfigurationErrorException the start up failed
+     */
+    @Test
+    public void testParallelStartUp() throws OMAGConfigurationErrorException
+    {
+        List<AccessServiceConfig> accessServiceConfigList = new ArrayList<>();
+
+        for (int i = 1; i <= 6; i++)
+        {
+            accessServiceConfigList.add(newAccessServiceConfig("Starting " + i + " OMAS", StartingAccessServiceAdmin.class));
+        }
+
+        AccessServiceConfig lazyAccessServiceConfig = newAccessServiceConfig("Lazy OMAS", StartingAccessServiceAdmin.class);
+        Map<String, Object> accessServiceOptions    = new HashMap<>();
+        accessServiceOptions.put(OMAGDeferredAccessServiceAdmin.lazyInitializationPropertyName, "true");
+        lazyAccessServiceConfig.setAccessServiceOptions(accessServiceOptions);
+        accessServiceConfigList.add(2, lazyAccessServiceConfig);
+
+        AccessServiceConfig disabledAccessServiceConfig = newAccessServiceConfig("Disabled OMAS", StartingAccessServiceAdmin.class);
+        disabledAccessServiceConfig.setAccessServiceOperationalStatus(ServiceOperationalStatus.DISABLED);
+        accessServiceConfigList.add(4, disabledAccessServiceConfig);
+
+        operationalServices.initializeAccessServices(instance,
+                                                     accessServiceConfigList,
+                                                     operationalRepositoryServices,
+                                                     null,
+                                                     "serverUserId",
+                                                     serverName,
+                                                     activatedServiceList,
+                                                     auditLog);
+
+        List<String> expectedServices = Arrays.asList("Starting 1 OMAS",
+                                                      "Starting 2 OMAS",
+                                                      "Lazy OMAS",
+                                                      "Starting 3 OMAS",
+                                                      "Starting 4 OMAS",
+                                                      "Starting 5 OMAS",
+                                                      "Starting 6 OMAS");
+
+        assertEquals(expectedServices, activatedServiceList);
+
+        List<AccessServiceAdmin> accessServiceAdmins = instance.getOperationalAccessServiceAdminList();
+        assertEquals(expectedServices.size(), accessServiceAdmins.size());
+
+        for (int i = 0; i < expectedServices.size(); i++)
+        {
+            AccessServiceAdmin accessServiceAdmin = accessServiceAdmins.get(i);
+
+            if (i == 2)
+            {
+                assertTrue(accessServiceAdmin instanceof OMAGDeferredAccessServiceAdmin);
+                accessServiceAdmin.shutdown();
+            }
+            else
+            {
+                assertEquals(expectedServices.get(i), ((StartingAccessServiceAdmin) accessServiceAdmin).accessServiceName);
+            }
+        }
+
+        assertFalse(startingThreads.containsKey("Lazy OMAS"));
+        assertFalse(startingThreads.containsKey("Disabled OMAS"));
+
+        String expectedThreadName = Thread.currentThread().getName();
+
+        if (Runtime.getRuntime().availableProcessors() > 1)
+        {
+            expectedThreadName = "OMAGServerOperationalServices:" + serverName;
+        }
+
+        for (int i = 1; i <= 6; i++)
+        {
+            assertEquals(expectedThreadName, startingThreads.get("Starting " + i + " OMAS"));
+        }
+    }
+
+
+    /**
+     * An access service that fails to start causes the start up to fail, but the access services that did start are
+     * saved so that they are shutdown.
+     */
+    @Test
+    public void testFailedStartUp()
+    {
+        List<AccessServiceConfig> accessServiceConfigList = new ArrayList<>();
+
+        accessServiceConfigList.add(newAccessServiceConfig("Starting OMAS", StartingAccessServiceAdmin.class));
+        accessServiceConfigList.add(newAccessServiceConfig("Failing OMAS", FailingAccessServiceAdmin.class));
+        accessServiceConfigList.add(newAccessServiceConfig("Later OMAS", StartingAccessServiceAdmin.class));
+
+        try
+        {
+            operationalServices.initializeAccessServices(instance,
+                                                         accessServiceConfigList,
+                                                         operationalRepositoryServices,
+                                                         null,
+                                                         "serverUserId",
+                                                         serverName,
+                                                         activatedServiceList,
+                                                         auditLog);
+            fail();
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            assertTrue(error.getMessage().contains("Failing"));
+        }
+
+        assertEquals("Starting OMAS", activatedServiceList.get(0));
+        assertFalse(activatedServiceList.contains("Failing OMAS"));
+        assertEquals(activatedServiceList.size(), instance.getOperationalAccessServiceAdminList().size());
+
+        for (AccessServiceAdmin accessServiceAdmin : instance.getOperationalAccessServiceAdminList())
+        {
+            assertTrue(accessServiceAdmin instanceof StartingAccessServiceAdmin);
+        }
+    }
+
+
+    /**
+     * Return the configuration for a test access service.
+     *
+     * @param accessServiceFullName name of the access service
+     * @param accessServiceAdminClass admin class for the access service
+     * @return configuration
+     */
+    private static AccessServiceConfig newAccessServiceConfig(String   accessServiceFullName,
+                                                              Class<?> accessServiceAdminClass)
+    {
+        AccessServiceConfig accessServiceConfig = new AccessServiceConfig();
+
+        accessServiceConfig.setAccessServiceId(9000 + accessServiceFullName.length());
+        accessServiceConfig.setAccessServiceName(accessServiceFullName.replace(" OMAS", ""));
+        accessServiceConfig.setAccessServiceFullName(accessServiceFullName);
+        accessServiceConfig.setAccessServiceAdminClass(accessServiceAdminClass.getName());
+        accessServiceConfig.setAccessServiceOperationalStatus(ServiceOperationalStatus.ENABLED);
+
+        return accessServiceConfig;
+    }
+
+
+    /**
+     * Access service that records the thread it was started on.
+     */
+    public static class StartingAccessServiceAdmin extends AccessServiceAdmin
+    {
+        String accessServiceName = null;
+
+
+        @Deprecated
+        @Override
+        public void initialize(AccessServiceConfig     accessServiceConfigurationProperties,
+                               OMRSTopicConnector      enterpriseOMRSTopicConnector,
+                               OMRSRepositoryConnector enterpriseOMRSRepositoryConnector,
+                               OMRSAuditLog            auditLog,
+                               String                  serverUserName)
+        {
+            accessServiceName = accessServiceConfigurationProperties.getAccessServiceFullName();
+            startingThreads.put(accessServiceName, Thread.currentThread().getName());
+        }
+
+
+        @Override
+        public void shutdown()
+        {
+        }
+    }
+
+
+    /**
+     * Access service that fails to start.
+     */
+    public static class FailingAccessServiceAdmin extends AccessServiceAdmin
+    {
+        @Deprecated
+        @Override
+        public void initialize(AccessServiceConfig     accessServiceConfigurationProperties,
+                               OMRSTopicConnector      enterpriseOMRSTopicConnector,
+                               OMRSRepositoryConnector enterpriseOMRSRepositoryConnector,
+                               OMRSAuditLog            auditLog,
+                               String                  serverUserName)
+        {
+            throw new IllegalStateException("Test failure");
+        }
+
+
+        @Override
+        public void shutdown()
+        {
+        }
+    }
+}
@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.adminservices.OMAGConformanceSuiteConfigServices;
 import org.odpi.openmetadata.adminservices.configuration.properties.RepositoryConformanceWorkbenchConfig;
+import org.odpi.openmetadata.adminservices.configuration.properties.RepositoryPerformanceWorkbenchConfig;
 import org.odpi.openmetadata.adminservices.rest.URLRequestBody;
 import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
 import org.springframework.web.bind.annotation.*;
@@ -49,6 +50,28 @@ public class ConfigConformanceSuiteServicesResource
     }
 
 
+    /**
+     * Request that the repository performance workbench is activated in this server to measure the
+     * throughput and latency of the repository services running in the server named tutRepositoryServerName.
+     *
+     * @param userId  user that is issuing the request.
+     * @param serverName  local server name.
+     * @param repositoryPerformanceWorkbenchConfig configuration for the repository performance workbench.
+     * @return void response or
+     * OMAGNotAuthorizedException the supplied userId is not authorized to issue this command or
+     * OMAGInvalidParameterException invalid serverName parameter or
+     * OMAGConfigurationErrorException unexpected exception.
+     */
+    @PostMapping(path = "/conformance-suite-workbenches/performance-workbench/repositories")
+
+    public VoidResponse enableRepositoryPerformanceWorkbench(@PathVariable String                               userId,
+                                                             @PathVariable String                               serverName,
+                                                             @RequestBody  RepositoryPerformanceWorkbenchConfig repositoryPerformanceWorkbenchConfig)
+    {
+        return adminAPI.enableRepositoryPerformanceWorkbench(userId, serverName, repositoryPerformanceWorkbenchConfig);
+    }
+
+
     /**
      * Request that the conformance suite services are activated in this server to test the
      * support of the platform services running in the platform at tutPlatformRootURL.
@@ -89,6 +112,24 @@ public class ConfigConformanceSuiteServicesResource
     }
 
 
+    /**
+     * Request that the repository performance workbench is deactivated in this server.
+     *
+     * @param userId  user that is issuing the request.
+     * @param serverName  local server name.
+     * @return void response or
+     * OMAGNotAuthorizedException the supplied userId is not authorized to issue this command or
+     * OMAGInvalidParameterException invalid serverName parameter or
+     * OMAGConfigurationErrorException unexpected exception.
+     */
+    @DeleteMapping(path = "/conformance-suite-workbenches/performance-workbench")
+    public VoidResponse disableRepositoryPerformanceWorkbench(@PathVariable String    userId,
+                                                              @PathVariable String    serverName)
+    {
+        return adminAPI.disableRepositoryPerformanceWorkbench(userId, serverName);
+    }
+
+
     /**
      * Request that the repository conformance suite tests are deactivated in this server.
      *
@@ -3,17 +3,36 @@
 
 package org.odpi.openmetadata.commonservices.ffdc;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.odpi.openmetadata.commonservices.ffdc.rest.FFDCResponse;
 import org.slf4j.Logger;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 /**
  * RESTCallLogger provides standard logging for REST API method invocations.  It logs
  * the start and end of the call and manages a timer so the the elapsed time of a call is logged.
+ * The response is only rendered as a string if debug logging is enabled.
+ *
+ * The elapsed time of every call is also recorded in a timer of the global metrics registry, tagged with the
+ * service, method and outcome of the call.  The OMAG Server Platform publishes this registry through its
+ * actuator endpoints.
  */
 public class RESTCallLogger
 {
+    static final String REST_CALL_METRIC_NAME = "egeria.rest.calls";
+    static final String SUCCESS_OUTCOME       = "success";
+    static final String ERROR_OUTCOME         = "error";
+
     private  Logger  log;
     private  String  serviceName;
 
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> errorTimers   = new ConcurrentHashMap<>();
+
     /**
      * Create a REST Call logger for a REST Service.
      *
@@ -41,7 +60,12 @@ public class RESTCallLogger
     {
         RESTCallToken token = new RESTCallToken(serviceName, serverName, userId, methodName);
 
-        log.debug(token.getRESTCallStartText());
+        token.setCallThreadName();
+
+        if (log.isDebugEnabled())
+        {
+            log.debug(token.getRESTCallStartText());
+        }
 
         return token;
     }
@@ -55,14 +79,72 @@ public class RESTCallLogger
      */
     public void logRESTCallReturn(RESTCallToken  token,
                                   String         response)
+    {
+        this.logRESTCallReturn(token, (Object)response);
+    }
+
+
+    /**
+     * Log the return of an inbound REST Call.  The response is only converted to a string if it is to be logged.
+     * Responses that carry an HTTP code other than 200 are counted as errors in the metrics.
+     *
+     * @param token REST call token
+     * @param response result of call
+     */
+    public void logRESTCallReturn(RESTCallToken  token,
+                                  Object         response)
     {
         if (token != null)
         {
-            log.debug(token.getRESTCallReturnText(response));
+            long duration = token.getDuration();
+
+            token.resetThreadName();
+            this.getTimer(token.getMethodName(), isError(response)).record(duration, TimeUnit.NANOSECONDS);
+
+            if (log.isDebugEnabled())
+            {
+                log.debug(token.getRESTCallReturnText(String.valueOf(response), duration));
+            }
         }
-        else
+        else if (log.isDebugEnabled())
         {
             log.debug(serviceName + ":" + " returned with response " + response);
         }
     }
+
+
+    /**
+     * Return whether the response reports an error.
+     *
+     * @param response result of call
+     * @return boolean flag
+     */
+    private static boolean isError(Object response)
+    {
+        return (response instanceof FFDCResponse) && (((FFDCResponse)response).getRelatedHTTPCode() != 200);
+    }
+
+
+    /**
+     * Return the timer for a method of this service, registering it on first use.
+     *
+     * @param methodName called method
+     * @param error whether the call failed
+     * @return timer
+     */
+    private Timer getTimer(String  methodName,
+                           boolean error)
+    {
+        String              timerMethodName = (methodName == null) ? "<unknown>" : methodName;
+        Map<String, Timer>  timers          = error ? errorTimers : successTimers;
+
+        return timers.computeIfAbsent(timerMethodName,
+                                      name -> Timer.builder(REST_CALL_METRIC_NAME)
+                                                   .description("Elapsed time of the REST calls to the OMAG Server Platform")
+                                                   .tag("service", String.valueOf(serviceName))
+                                                   .tag("method", name)
+                                                   .tag("outcome", error ? ERROR_OUTCOME : SUCCESS_OUTCOME)
+                                                   .publishPercentileHistogram()
+                                                   .register(Metrics.globalRegistry));
+    }
 }
@@ -5,17 +5,18 @@ package org.odpi.openmetadata.commonservices.ffdc;
 
 import org.apache.commons.lang3.time.StopWatch;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * RESTCallToken provides a cache of information about a single REST API call invocation.
- * It is used for logging and diagnosis.
+ * It is used for logging, diagnosis and the latency metrics of the REST services.
  */
 public class RESTCallToken
 {
-    static private long nextCallId = 0;
+    static private final AtomicLong nextCallId = new AtomicLong(0);
     static final String PLATFORM_NAME = "<*>";
 
-    static private synchronized long getNextCallId() { return nextCallId++; }
-
     private StopWatch watch;
     private long      callId;
     private String    serviceName;
@@ -40,7 +41,7 @@ public class RESTCallToken
         this.threadName  = Thread.currentThread().getName();
 
         this.watch = StopWatch.createStarted();
-        this.callId = getNextCallId();
+        this.callId = nextCallId.getAndIncrement();
 
         if (serverName == null)
         {
@@ -53,6 +54,57 @@ public class RESTCallToken
     }
 
 
+    /**
+     * Return the name of the service that was called.
+     *
+     * @return service name
+     */
+    String getServiceName()
+    {
+        return serviceName;
+    }
+
+
+    /**
+     * Return the name of the method that was called.
+     *
+     * @return method name
+     */
+    String getMethodName()
+    {
+        return methodName;
+    }
+
+
+    /**
+     * Return the time since the call started.
+     *
+     * @return duration in nanoseconds
+     */
+    long getDuration()
+    {
+        return watch.getNanoTime();
+    }
+
+
+    /**
+     * Rename the thread after the call so that it is identifiable in thread dumps.
+     */
+    void setCallThreadName()
+    {
+        Thread.currentThread().setName("REST:" + serviceName + ":" + methodName);
+    }
+
+
+    /**
+     * Restore the name the thread had before the call.
+     */
+    void resetThreadName()
+    {
+        Thread.currentThread().setName(threadName);
+    }
+
+
     /**
      * Build the start text.
      *
@@ -60,8 +112,6 @@ public class RESTCallToken
      */
     String getRESTCallStartText()
     {
-        Thread.currentThread().setName("REST:" + serviceName + ":" + methodName);
-
         return callId + ":" + serviceName + ":" + serverName + ":" + methodName + " call invoked by " + userId;
     }
 
@@ -70,12 +120,12 @@ public class RESTCallToken
      * Build the return text with the response
      *
      * @param response what is the response to build into the return text
+     * @param duration duration of the call in nanoseconds
      * @return string
      */
-    String getRESTCallReturnText(String response)
+    String getRESTCallReturnText(String response,
+                                 long   duration)
     {
-        Thread.currentThread().setName(threadName);
-
-        return callId + ":" + serviceName + ":" + serverName + ":" + methodName + " call invoked by " + userId + " returned with response " + response + "; Duration: " + watch.getTime()/1000 + "seconds";
+        return callId + ":" + serviceName + ":" + serverName + ":" + methodName + " call invoked by " + userId + " returned with response " + response + "; Duration: " + TimeUnit.NANOSECONDS.toMillis(duration) + "ms";
     }
 }
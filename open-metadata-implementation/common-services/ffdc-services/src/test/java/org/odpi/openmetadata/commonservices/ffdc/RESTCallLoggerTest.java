@@ -0,0 +1,120 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ffdc;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
+import org.slf4j.helpers.NOPLogger;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+
+/**
+ * Verify that the REST call logger records the latency of each call and does not render the response
+ * when debug logging is switched off.
+ */
+public class RESTCallLoggerTest
+{
+    private final static String serviceName = "Test Service";
+
+    private SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+
+    /**
+     * Count the number of times the response is rendered as a string.
+     */
+    private static class CountingResponse extends VoidResponse
+    {
+        private static final long serialVersionUID = 1L;
+
+        int renderCount = 0;
+
+        @Override
+        public String toString()
+        {
+            renderCount++;
+            return super.toString();
+        }
+    }
+
+
+    @BeforeClass public void addRegistry()
+    {
+        Metrics.addRegistry(registry);
+    }
+
+
+    @AfterClass public void removeRegistry()
+    {
+        Metrics.removeRegistry(registry);
+    }
+
+
+    /**
+     * Validate that the response is not rendered when debug logging is disabled.
+     */
+    @Test public void testResponseNotRendered()
+    {
+        RESTCallLogger   restCallLogger = new RESTCallLogger(NOPLogger.NOP_LOGGER, serviceName);
+        CountingResponse response       = new CountingResponse();
+
+        RESTCallToken token = restCallLogger.logRESTCall("testServer", "testUser", "testResponseNotRendered");
+        restCallLogger.logRESTCallReturn(token, response);
+
+        assertEquals(response.renderCount, 0);
+    }
+
+
+    /**
+     * Validate that successful and failed calls are timed separately.
+     */
+    @Test public void testCallsTimed()
+    {
+        final String methodName = "testCallsTimed";
+
+        RESTCallLogger restCallLogger = new RESTCallLogger(NOPLogger.NOP_LOGGER, serviceName);
+        VoidResponse   goodResponse   = new VoidResponse();
+        VoidResponse   badResponse    = new VoidResponse();
+
+        badResponse.setRelatedHTTPCode(400);
+
+        restCallLogger.logRESTCallReturn(restCallLogger.logRESTCall("testServer", "testUser", methodName), goodResponse);
+        restCallLogger.logRESTCallReturn(restCallLogger.logRESTCall("testServer", "testUser", methodName), goodResponse);
+        restCallLogger.logRESTCallReturn(restCallLogger.logRESTCall(null, "testUser", methodName), badResponse);
+
+        Timer successTimer = registry.find(RESTCallLogger.REST_CALL_METRIC_NAME)
+                                     .tags("service", serviceName, "method", methodName, "outcome", RESTCallLogger.SUCCESS_OUTCOME)
+                                     .timer();
+        Timer errorTimer   = registry.find(RESTCallLogger.REST_CALL_METRIC_NAME)
+                                     .tags("service", serviceName, "method", methodName, "outcome", RESTCallLogger.ERROR_OUTCOME)
+                                     .timer();
+
+        assertNotNull(successTimer);
+        assertNotNull(errorTimer);
+        assertEquals(successTimer.count(), 2);
+        assertEquals(errorTimer.count(), 1);
+    }
+
+
+    /**
+     * Validate that the thread name is restored at the end of the call.
+     */
+    @Test public void testThreadNameRestored()
+    {
+        RESTCallLogger restCallLogger = new RESTCallLogger(NOPLogger.NOP_LOGGER, serviceName);
+        String         threadName     = Thread.currentThread().getName();
+
+        RESTCallToken token = restCallLogger.logRESTCall("testServer", "testUser", "testThreadNameRestored");
+
+        assertNotEquals(Thread.currentThread().getName(), threadName);
+
+        restCallLogger.logRESTCallReturn(token, new VoidResponse());
+
+        assertEquals(Thread.currentThread().getName(), threadName);
+    }
+}
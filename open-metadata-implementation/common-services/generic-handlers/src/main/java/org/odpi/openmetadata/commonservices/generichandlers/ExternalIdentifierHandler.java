@@ -5,6 +5,7 @@ package org.odpi.openmetadata.commonservices.generichandlers;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.ffdc.GenericHandlersAuditCode;
 import org.odpi.openmetadata.commonservices.generichandlers.ffdc.GenericHandlersErrorCode;
+import org.odpi.openmetadata.commonservices.repositoryhandler.ElementGUIDCache;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryIteratorForEntities;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryRelatedEntitiesIterator;
@@ -40,6 +41,7 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
 {
     private OpenMetadataAPIGenericConverter<OPEN_METADATA_ELEMENT_HEADER> elementConverter;
     private Class<OPEN_METADATA_ELEMENT_HEADER>                           elementBeanClass;
+    private ElementGUIDCache                                              externalIdCache;
 
 
     /**
@@ -76,6 +78,64 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                      List<String>                                                  defaultZones,
                                      List<String>                                                  publishZones,
                                      AuditLog                                                      auditLog)
+    {
+        this(converter,
+             beanClass,
+             elementConverter,
+             elementBeanClass,
+             serviceName,
+             serverName,
+             invalidParameterHandler,
+             repositoryHandler,
+             repositoryHelper,
+             localServerUserId,
+             securityVerifier,
+             supportedZones,
+             defaultZones,
+             publishZones,
+             null,
+             auditLog);
+    }
+
+
+    /**
+     * Construct the handler information needed to interact with the repository services.  The cache remembers the
+     * ExternalId entity found for each identifier and scope so that repeated requests for the same identifier
+     * retrieve it directly rather than searching the repositories and validating the scope of each match.
+     *
+     * @param converter specific converter for the EXTERNAL_ID bean class
+     * @param beanClass name of bean class that is represented by the generic class EXTERNAL_ID
+     * @param elementConverter specific converter for the OPEN_METADATA_ELEMENT_HEADER bean class
+     * @param elementBeanClass name of bean class that is represented by the generic class OPEN_METADATA_ELEMENT_HEADER
+     * @param serviceName name of this service
+     * @param serverName name of the local server
+     * @param invalidParameterHandler handler for managing parameter errors
+     * @param repositoryHandler manages calls to the repository services
+     * @param repositoryHelper provides utilities for manipulating the repository services objects
+     * @param localServerUserId userId for this server
+     * @param securityVerifier open metadata security services verifier
+     * @param supportedZones list of zones that the access service is allowed to serve Asset instances from.
+     * @param defaultZones list of zones that the access service should set in all new Asset instances.
+     * @param publishZones list of zones that the access service sets up in published Asset instances.
+     * @param externalIdCache cache of the ExternalId entities for each identifier and scope (may be null)
+     * @param auditLog destination for audit log events.
+     */
+    public ExternalIdentifierHandler(OpenMetadataAPIGenericConverter<EXTERNAL_ID>                  converter,
+                                     Class<EXTERNAL_ID>                                            beanClass,
+                                     OpenMetadataAPIGenericConverter<OPEN_METADATA_ELEMENT_HEADER> elementConverter,
+                                     Class<OPEN_METADATA_ELEMENT_HEADER>                           elementBeanClass,
+                                     String                                                        serviceName,
+                                     String                                                        serverName,
+                                     InvalidParameterHandler                                       invalidParameterHandler,
+                                     RepositoryHandler                                             repositoryHandler,
+                                     OMRSRepositoryHelper                                          repositoryHelper,
+                                     String                                                        localServerUserId,
+                                     OpenMetadataServerSecurityVerifier                            securityVerifier,
+                                     List<String>                                                  supportedZones,
+                                     List<String>                                                  defaultZones,
+                                     List<String>                                                  publishZones,
+                                     ElementGUIDCache                                              externalIdCache,
+                                     AuditLog                                                      auditLog)
     {
         super(converter,
               beanClass,
@@ -93,6 +153,7 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
 
         this.elementConverter = elementConverter;
         this.elementBeanClass = elementBeanClass;
+        this.externalIdCache  = externalIdCache;
     }
 
 
@@ -175,6 +236,10 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                       synchronizationDescription,
                                                       methodName);
 
+            if (externalIdCache != null)
+            {
+                externalIdCache.addGUID(scopeGUID, identifier, externalIdGUID);
+            }
 
             auditLog.logMessage(methodName,
                                 GenericHandlersAuditCode.SETTING_UP_EXTERNAL_ID.getMessageDefinition(serviceName,
@@ -512,6 +577,13 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
         invalidParameterHandler.validateGUID(scopeGUID, scopeGUIDParameterName, methodName);
         invalidParameterHandler.validateName(identifier, identifierParameterName, methodName);
 
+        EntityDetail cachedExternalIdEntity = this.getCachedExternalIdEntity(userId, identifier, scopeGUID, methodName);
+
+        if (cachedExternalIdEntity != null)
+        {
+            return cachedExternalIdEntity;
+        }
+
         /*
          * Since the external identifier is not necessarily unique and is linked many-to-many, begin with
          * retrieving all of the ExternalId entities with the same identifier.
@@ -548,6 +620,11 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                      scopeTypeName,
                                                      methodName))
             {
+                if (externalIdCache != null)
+                {
+                    externalIdCache.addGUID(scopeGUID, identifier, externalIdEntity.getGUID());
+                }
+
                 return externalIdEntity;
             }
         }
@@ -556,6 +633,70 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
     }
 
 
+    /**
+     * Retrieve the ExternalId entity that was previously found for the identifier and scope.  The scope was validated
+     * when the entity was cached, and the cache is cleared if the scope relationship is removed, so only the identifier
+     * is checked here.  This relies on the access service receiving the OMRS instance events - it should only enable the
+     * cache when it has access to the enterprise topic.
+     *
+     * @param userId calling userId
+     * @param identifier identifier from the third party technology (scope)
+     * @param scopeGUID unique identifier of the software server capability that represents the third metadata source
+     * @param methodName calling method
+     *
+     * @return ExternalId entity or null if it is not cached or has changed
+     *
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    private EntityDetail getCachedExternalIdEntity(String userId,
+                                                   String identifier,
+                                                   String scopeGUID,
+                                                   String methodName) throws UserNotAuthorizedException,
+                                                                             PropertyServerException
+    {
+        final String externalIdGUIDParameterName = "externalIdGUID";
+
+        if (externalIdCache == null)
+        {
+            return null;
+        }
+
+        String externalIdGUID = externalIdCache.getGUID(scopeGUID, identifier);
+
+        if (externalIdGUID != null)
+        {
+            try
+            {
+                EntityDetail externalIdEntity = repositoryHandler.getEntityByGUID(userId,
+                                                                                  externalIdGUID,
+                                                                                  externalIdGUIDParameterName,
+                                                                                  OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
+                                                                                  methodName);
+
+                if ((externalIdEntity != null) &&
+                    (identifier.equals(repositoryHelper.getStringProperty(serviceName,
+                                                                          OpenMetadataAPIMapper.IDENTIFIER_PROPERTY_NAME,
+                                                                          externalIdEntity.getProperties(),
+                                                                          methodName))))
+                {
+                    return externalIdEntity;
+                }
+            }
+            catch (InvalidParameterException error)
+            {
+                /*
+                 * The entity has been removed since it was cached.
+                 */
+            }
+
+            externalIdCache.removeName(scopeGUID, identifier);
+        }
+
+        return null;
+    }
+
+
     /**
      * Retrieve the ExternalIdLink relationship between the open metadata element and the external identifier.
      *
@@ -44,6 +44,12 @@ public class FilesAndFoldersHandler<FILESYSTEM, FOLDER, FILE>
     private EndpointHandler<OpenMetadataAPIDummyBean>                                  endpointHandler;
     private SchemaAttributeHandler<OpenMetadataAPIDummyBean, OpenMetadataAPIDummyBean> schemaAttributeHandler;
 
+    /*
+     * Serializes the creation of folders so that concurrent requests for files in the same new folder
+     * do not each create the folder.
+     */
+    private final Object folderCreationLock = new Object();
+
     private final static String folderDivider = "/";
     private final static String fileSystemDivider = "://";
     private final static String fileTypeDivider = "\\.";
@@ -678,22 +684,28 @@ public class FilesAndFoldersHandler<FILESYSTEM, FOLDER, FILE>
 
                 if (currentFolderGUID == null)
                 {
-                    String folderGUID = createFolderInCatalog(userId,
-                                                              externalSourceGUID,
-                                                              externalSourceName,
-                                                              nextConnectToGUID,
-                                                              pathName,
-                                                              folderName,
-                                                              methodName + localMethodName);
-
-                    folderGUIDs.add(folderGUID);
-                    nextConnectToGUID = folderGUID;
-                }
-                else
-                {
-                    folderGUIDs.add(currentFolderGUID);
-                    nextConnectToGUID = currentFolderGUID;
+                    /*
+                     * The folder is looked up again under the lock in case another request has just created it.
+                     */
+                    synchronized (folderCreationLock)
+                    {
+                        currentFolderGUID = this.getFolderGUIDByPathName(userId, pathName, methodName);
+
+                        if (currentFolderGUID == null)
+                        {
+                            currentFolderGUID = createFolderInCatalog(userId,
+                                                                      externalSourceGUID,
+                                                                      externalSourceName,
+                                                                      nextConnectToGUID,
+                                                                      pathName,
+                                                                      folderName,
+                                                                      methodName + localMethodName);
+                        }
+                    }
                 }
+
+                folderGUIDs.add(currentFolderGUID);
+                nextConnectToGUID = currentFolderGUID;
             }
         }
 
@@ -25,7 +25,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * OpenMetadataServerSecurityConnector provides the base class for an Open Metadata Security Connector for
@@ -51,6 +53,37 @@ public class OpenMetadataServerSecurityConnector extends ConnectorBase implement
 
     protected final String unknownTypeName = "<Unknown>";
 
+    private volatile Consumer<String> authorizationChangeListener = null;
+
+
+    /**
+     * Register the listener that is told when the authorizations of the users change.  It is used by the
+     * server to discard any decisions that it has cached for the users.
+     *
+     * @param authorizationChangeListener listener called with the userId, or null for all users
+     */
+    public void setAuthorizationChangeListener(Consumer<String> authorizationChangeListener)
+    {
+        this.authorizationChangeListener = authorizationChangeListener;
+    }
+
+
+    /**
+     * Called by a subclass when the authorizations of a user have changed - for example, because the user's
+     * roles have been updated.  Pass null when the policies have changed for all users.
+     *
+     * @param userId user whose authorizations have changed, or null for all users
+     */
+    protected void authorizationsChanged(String userId)
+    {
+        Consumer<String> listener = this.authorizationChangeListener;
+
+        if (listener != null)
+        {
+            listener.accept(userId);
+        }
+    }
+
 
     /**
      * Write an audit log message to say that the connector is initializing.
@@ -1313,6 +1346,43 @@ public class OpenMetadataServerSecurityConnector extends ConnectorBase implement
     }
 
 
+    /**
+     * Return the entities from a list that a specific user is allowed to read.  This default implementation calls
+     * validateUserForEntityRead for each entity.  Connectors that call an external policy engine can override it to
+     * check the whole list with a single request.
+     *
+     * @param userId identifier of user
+     * @param metadataCollectionName configurable name of the metadata collection
+     * @param instances instances to test
+     * @return instances that the user is authorized to read - these are the supplied objects in their original order
+     */
+    @Override
+    public List<EntityDetail>  filterEntitiesForRead(String              userId,
+                                                     String              metadataCollectionName,
+                                                     List<EntityDetail>  instances)
+    {
+        List<EntityDetail> authorizedInstances = new ArrayList<>();
+
+        if (instances != null)
+        {
+            for (EntityDetail instance : instances)
+            {
+                try
+                {
+                    this.validateUserForEntityRead(userId, metadataCollectionName, instance);
+                    authorizedInstances.add(instance);
+                }
+                catch (UserNotAuthorizedException error)
+                {
+                    /* the instance is filtered out */
+                }
+            }
+        }
+
+        return authorizedInstances;
+    }
+
+
     /**
      * Tests for whether a specific user should have read access to a specific instance within a repository.
      *
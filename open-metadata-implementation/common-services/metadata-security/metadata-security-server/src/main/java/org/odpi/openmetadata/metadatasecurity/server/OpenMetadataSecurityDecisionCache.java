@@ -0,0 +1,228 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * OpenMetadataSecurityDecisionCache remembers the decisions made by the server's security connector so that
+ * repeated checks for the same user, operation and security context do not call the connector again.
+ * Both positive and negative decisions are cached.  Each decision expires after the configured time to live and
+ * the cache evicts the least recently used decisions when it is full.
+ * <p>
+ * The cache is shared by all of the requests to a server and so it is thread-safe.
+ */
+class OpenMetadataSecurityDecisionCache
+{
+    private static final String keySeparator = "\u001F";
+
+    private final long                         timeToLive;
+    private final int                          maxEntries;
+    private final Map<String, CachedDecision>  decisions;
+
+
+    /**
+     * A decision made by the security connector.
+     */
+    static class CachedDecision
+    {
+        private final String                     userId;
+        private final UserNotAuthorizedException error;
+        private final long                       expiryTime;
+
+
+        /**
+         * Constructor.
+         *
+         * @param userId user that the decision is for
+         * @param error exception returned by the connector or null if the user is authorized
+         * @param expiryTime time that the decision expires in milliseconds
+         */
+        CachedDecision(String                     userId,
+                       UserNotAuthorizedException error,
+                       long                       expiryTime)
+        {
+            this.userId = userId;
+            this.error = error;
+            this.expiryTime = expiryTime;
+        }
+
+
+        /**
+         * Return whether the user is authorized.
+         *
+         * @return boolean flag
+         */
+        boolean isAuthorized()
+        {
+            return error == null;
+        }
+
+
+        /**
+         * Return the exception returned by the connector when the user was not authorized.
+         *
+         * @return exception or null
+         */
+        UserNotAuthorizedException getError()
+        {
+            return error;
+        }
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param timeToLive time in milliseconds that a decision is valid for; 0 disables the cache
+     * @param maxEntries maximum number of decisions to remember; 0 disables the cache
+     */
+    OpenMetadataSecurityDecisionCache(long timeToLive,
+                                      int  maxEntries)
+    {
+        this.timeToLive = Math.max(timeToLive, 0);
+        this.maxEntries = Math.max(maxEntries, 0);
+        this.decisions = new LinkedHashMap<String, CachedDecision>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedDecision> eldest)
+            {
+                return size() > OpenMetadataSecurityDecisionCache.this.maxEntries;
+            }
+        };
+    }
+
+
+    /**
+     * Return whether the cache is enabled.
+     *
+     * @return boolean flag
+     */
+    boolean isEnabled()
+    {
+        return (timeToLive > 0) && (maxEntries > 0);
+    }
+
+
+    /**
+     * Build the key for a decision.  The first part of the key is always the user.
+     *
+     * @param userId calling user
+     * @param operationName name of the check
+     * @param contextValues the values that describe the security context of the check
+     * @return key
+     */
+    String getKey(String    userId,
+                  String    operationName,
+                  Object... contextValues)
+    {
+        StringBuilder key = new StringBuilder();
+
+        key.append(userId).append(keySeparator).append(operationName);
+
+        if (contextValues != null)
+        {
+            for (Object contextValue : contextValues)
+            {
+                key.append(keySeparator).append(contextValue);
+            }
+        }
+
+        return key.toString();
+    }
+
+
+    /**
+     * Return the unexpired decision for the key.
+     *
+     * @param key key of the decision
+     * @return decision or null if the decision is not known
+     */
+    CachedDecision getDecision(String key)
+    {
+        if (! isEnabled())
+        {
+            return null;
+        }
+
+        synchronized (decisions)
+        {
+            CachedDecision decision = decisions.get(key);
+
+            if ((decision != null) && (decision.expiryTime <= System.currentTimeMillis()))
+            {
+                decisions.remove(key);
+                return null;
+            }
+
+            return decision;
+        }
+    }
+
+
+    /**
+     * Remember the decision of the connector.
+     *
+     * @param key key of the decision
+     * @param userId calling user
+     * @param error exception returned by the connector or null if the user is authorized
+     */
+    void addDecision(String                     key,
+                     String                     userId,
+                     UserNotAuthorizedException error)
+    {
+        if (! isEnabled())
+        {
+            return;
+        }
+
+        CachedDecision decision = new CachedDecision(userId, error, System.currentTimeMillis() + timeToLive);
+
+        synchronized (decisions)
+        {
+            decisions.put(key, decision);
+        }
+    }
+
+
+    /**
+     * Forget all of the decisions - typically because the security connector has changed.
+     */
+    void removeAllDecisions()
+    {
+        synchronized (decisions)
+        {
+            decisions.clear();
+        }
+    }
+
+
+    /**
+     * Forget all of the decisions for a user - typically because the user's details have changed.
+     *
+     * @param userId user to forget
+     */
+    void removeDecisionsForUser(String userId)
+    {
+        synchronized (decisions)
+        {
+            Iterator<CachedDecision> iterator = decisions.values().iterator();
+
+            while (iterator.hasNext())
+            {
+                CachedDecision decision = iterator.next();
+
+                if ((userId == null) ? (decision.userId == null) : userId.equals(decision.userId))
+                {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+}
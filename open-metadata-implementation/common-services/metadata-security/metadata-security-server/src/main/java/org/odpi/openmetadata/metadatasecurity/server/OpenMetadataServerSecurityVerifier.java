@@ -27,12 +27,23 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 
 /**
  * OpenMetadataServerSecurityVerifier provides the plug-in point for the open metadata server connector.
  * It supports the same security interfaces, and handles the fact that the security connector is
  * optional.
+ *
+ * The decisions of the connector for the server, service, asset read and entity read checks can be cached by
+ * setting the decisionCacheTimeToLive (seconds) and, optionally, decisionCacheMaxEntries configuration properties
+ * in the connector's connection.  Cached decisions are keyed by the user, the check and the security context of
+ * the element - its type, zones, owner and security classifications - so the cache should only be enabled for
+ * connectors whose decisions depend on nothing else.
  */
 public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositorySecurity,
                                                            OpenMetadataServerSecurity,
@@ -40,7 +51,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                            OpenMetadataConnectionSecurity,
                                                            OpenMetadataAssetSecurity
 {
-    private OpenMetadataServerSecurityConnector connector   = null;
+    public static final String DECISION_CACHE_TIME_TO_LIVE_PROPERTY = "decisionCacheTimeToLive";
+    public static final String DECISION_CACHE_MAX_ENTRIES_PROPERTY  = "decisionCacheMaxEntries";
+
+    private static final int   defaultDecisionCacheMaxEntries       = 10000;
+
+    private volatile OpenMetadataServerSecurityConnector connector     = null;
+    private volatile OpenMetadataSecurityDecisionCache   decisionCache = new OpenMetadataSecurityDecisionCache(0, 0);
+    private volatile String                              serverName    = null;
 
     // Todo remove - temporary workaround to bring connectors into class path
     private CocoPharmaServerSecurityConnector   demoObject1 = null;
@@ -77,11 +95,378 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                              serverName,
                                                              auditLog,
                                                              connection);
+            this.serverName = serverName;
+
+            if (this.connector != null)
+            {
+                this.connector.setAuthorizationChangeListener(this::authorizationsChanged);
+            }
         }
         catch (InvalidParameterException error)
         {
             throw new InvalidParameterException(error.getReportedErrorMessage(), error);
         }
+        finally
+        {
+            /*
+             * Decisions made by the previous connector are discarded.
+             */
+            this.decisionCache = this.getDecisionCache(connection);
+        }
+    }
+
+
+    /**
+     * Create the decision cache from the configuration properties of the connector's connection.
+     *
+     * @param connection connection from the configuration document
+     * @return decision cache (disabled if the properties are not set)
+     */
+    private OpenMetadataSecurityDecisionCache getDecisionCache(org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection connection)
+    {
+        long timeToLive = 0;
+        int  maxEntries = defaultDecisionCacheMaxEntries;
+
+        if ((connection != null) && (connection.getConfigurationProperties() != null))
+        {
+            Map<String, Object> configurationProperties = connection.getConfigurationProperties();
+
+            Object timeToLiveProperty = configurationProperties.get(DECISION_CACHE_TIME_TO_LIVE_PROPERTY);
+            Object maxEntriesProperty = configurationProperties.get(DECISION_CACHE_MAX_ENTRIES_PROPERTY);
+
+            try
+            {
+                if (timeToLiveProperty != null)
+                {
+                    timeToLive = Long.parseLong(timeToLiveProperty.toString()) * 1000;
+                }
+
+                if (maxEntriesProperty != null)
+                {
+                    maxEntries = Integer.parseInt(maxEntriesProperty.toString());
+                }
+            }
+            catch (NumberFormatException error)
+            {
+                timeToLive = 0;
+            }
+        }
+
+        return new OpenMetadataSecurityDecisionCache(timeToLive, maxEntries);
+    }
+
+
+    /**
+     * Forget all of the cached decisions - for example, because the policies used by the security connector
+     * have changed.
+     */
+    public void invalidateDecisionCache()
+    {
+        decisionCache.removeAllDecisions();
+    }
+
+
+    /**
+     * Forget the cached decisions for a user - for example, because the user's roles have changed.
+     *
+     * @param userId user to forget
+     */
+    public void invalidateDecisionCache(String userId)
+    {
+        decisionCache.removeDecisionsForUser(userId);
+    }
+
+
+    /**
+     * Called by the security connector when the authorizations of a user, or of all users, have changed.
+     *
+     * @param userId user whose authorizations have changed, or null if they have changed for all users
+     */
+    private void authorizationsChanged(String userId)
+    {
+        if (userId == null)
+        {
+            this.invalidateDecisionCache();
+        }
+        else
+        {
+            this.invalidateDecisionCache(userId);
+        }
+    }
+
+
+    /**
+     * A call to the security connector that may be cached.
+     */
+    private interface SecurityCheck
+    {
+        /**
+         * Call the connector.
+         *
+         * @throws UserNotAuthorizedException the user is not authorized
+         */
+        void validate() throws UserNotAuthorizedException;
+    }
+
+
+    /**
+     * Run a check using the decision cache.  If the cache is disabled the connector is called directly.
+     *
+     * @param userId calling user
+     * @param key supplier of the key of the decision
+     * @param check call to the connector
+     * @param cachedDenial supplier of the exception to throw for a cached negative decision, or null to rethrow the
+     *                     connector's original exception
+     * @throws UserNotAuthorizedException the user is not authorized
+     */
+    private void validateWithDecisionCache(String                               userId,
+                                           Supplier<String>                     key,
+                                           SecurityCheck                        check,
+                                           Supplier<UserNotAuthorizedException> cachedDenial) throws UserNotAuthorizedException
+    {
+        OpenMetadataSecurityDecisionCache cache = this.decisionCache;
+
+        if (! cache.isEnabled())
+        {
+            check.validate();
+            return;
+        }
+
+        String                                           decisionKey = key.get();
+        OpenMetadataSecurityDecisionCache.CachedDecision decision    = cache.getDecision(decisionKey);
+
+        if (decision != null)
+        {
+            if (decision.isAuthorized())
+            {
+                return;
+            }
+            else if (cachedDenial != null)
+            {
+                throw cachedDenial.get();
+            }
+            else
+            {
+                throw decision.getError();
+            }
+        }
+
+        try
+        {
+            check.validate();
+            cache.addDecision(decisionKey, userId, null);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            cache.addDecision(decisionKey, userId, error);
+            throw error;
+        }
+    }
+
+
+    /**
+     * Filter a list of elements using the decision cache.  The elements without a cached decision are passed to the
+     * connector in a single call and its decisions are added to the cache.
+     *
+     * @param userId calling user
+     * @param elements elements to test
+     * @param key function returning the key of the decision for an element
+     * @param copier function returning the copy of an element that is passed to the connector
+     * @param connectorFilter call to the connector that returns the authorized elements from the supplied list
+     * @param denial function returning the exception cached for an element that is not authorized
+     * @param <T> type of element
+     * @return elements that the user is authorized to read (in the original order)
+     */
+    private <T> List<T> filterWithDecisionCache(String                                    userId,
+                                                List<T>                                   elements,
+                                                Function<T, String>                       key,
+                                                UnaryOperator<T>                          copier,
+                                                UnaryOperator<List<T>>                    connectorFilter,
+                                                Function<T, UserNotAuthorizedException>   denial)
+    {
+        if ((elements == null) || (elements.isEmpty()))
+        {
+            return elements;
+        }
+
+        OpenMetadataSecurityDecisionCache cache = this.decisionCache;
+
+        boolean[]       authorized       = new boolean[elements.size()];
+        String[]        keys             = new String[elements.size()];
+        List<T>         uncheckedCopies  = new ArrayList<>();
+        Map<T, Integer> uncheckedIndexes = new IdentityHashMap<>();
+
+        for (int i = 0; i < elements.size(); i++)
+        {
+            T element = elements.get(i);
+
+            if (element != null)
+            {
+                OpenMetadataSecurityDecisionCache.CachedDecision decision = null;
+
+                if (cache.isEnabled())
+                {
+                    keys[i] = key.apply(element);
+                    decision = cache.getDecision(keys[i]);
+                }
+
+                if (decision == null)
+                {
+                    T copy = copier.apply(element);
+
+                    uncheckedCopies.add(copy);
+                    uncheckedIndexes.put(copy, i);
+                }
+                else
+                {
+                    authorized[i] = decision.isAuthorized();
+                }
+            }
+        }
+
+        if (! uncheckedCopies.isEmpty())
+        {
+            List<T> authorizedCopies = connectorFilter.apply(uncheckedCopies);
+
+            if (authorizedCopies != null)
+            {
+                for (T authorizedCopy : authorizedCopies)
+                {
+                    Integer index = uncheckedIndexes.get(authorizedCopy);
+
+                    if (index != null)
+                    {
+                        authorized[index] = true;
+                    }
+                }
+            }
+
+            if (cache.isEnabled())
+            {
+                for (int index : uncheckedIndexes.values())
+                {
+                    cache.addDecision(keys[index], userId, authorized[index] ? null : denial.apply(elements.get(index)));
+                }
+            }
+        }
+
+        List<T> authorizedElements = new ArrayList<>();
+
+        for (int i = 0; i < elements.size(); i++)
+        {
+            if (authorized[i])
+            {
+                authorizedElements.add(elements.get(i));
+            }
+        }
+
+        return authorizedElements;
+    }
+
+
+    /**
+     * Return the security context of an entity for the decision key - its type and classifications.
+     *
+     * @param instance entity
+     * @return string
+     */
+    private String getSecurityContext(EntitySummary instance)
+    {
+        StringBuilder securityContext = new StringBuilder();
+
+        if (instance != null)
+        {
+            if (instance.getType() != null)
+            {
+                securityContext.append(instance.getType().getTypeDefName());
+            }
+
+            if (instance.getClassifications() != null)
+            {
+                for (Classification classification : instance.getClassifications())
+                {
+                    if (classification != null)
+                    {
+                        securityContext.append(':').append(classification.getName());
+
+                        if (classification.getProperties() != null)
+                        {
+                            securityContext.append(classification.getProperties().getInstanceProperties());
+                        }
+                    }
+                }
+            }
+        }
+
+        return securityContext.toString();
+    }
+
+
+    /**
+     * Return the security context of an asset for the decision key - its type, zones, owner and security tags.
+     *
+     * @param asset asset
+     * @return string
+     */
+    private String getSecurityContext(Asset asset)
+    {
+        if (asset == null)
+        {
+            return null;
+        }
+
+        return asset.getTypeName() + ":" + asset.getZoneMembership() + ":" + asset.getOwner() + ":" + asset.getOwnerType()
+                       + ":" + asset.getSecurityLabels() + ":" + asset.getSecurityProperties() + ":" + asset.getConfidentiality()
+                       + ":" + asset.getConfidence() + ":" + asset.getCriticality() + ":" + asset.getImpact() + ":" + asset.getRetention();
+    }
+
+
+    /**
+     * Return the exception for a cached decision that the user may not read an entity.
+     *
+     * @param userId calling user
+     * @param instance entity
+     * @param methodName calling method
+     * @return exception
+     */
+    private UserNotAuthorizedException getUnauthorizedInstanceAccess(String        userId,
+                                                                     EntitySummary instance,
+                                                                     String        methodName)
+    {
+        String typeName = null;
+
+        if ((instance != null) && (instance.getType() != null))
+        {
+            typeName = instance.getType().getTypeDefName();
+        }
+
+        return new UserNotAuthorizedException(OpenMetadataSecurityErrorCode.UNAUTHORIZED_INSTANCE_ACCESS.getMessageDefinition(userId,
+                                                                                                                              instance == null ? null : instance.getGUID(),
+                                                                                                                              typeName,
+                                                                                                                              serverName),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              userId);
+    }
+
+
+    /**
+     * Return the exception for a cached decision that the user may not read an asset.
+     *
+     * @param userId calling user
+     * @param asset asset
+     * @param methodName calling method
+     * @return exception
+     */
+    private UserNotAuthorizedException getUnauthorizedAssetAccess(String userId,
+                                                                  Asset  asset,
+                                                                  String methodName)
+    {
+        return new UserNotAuthorizedException(OpenMetadataSecurityErrorCode.UNAUTHORIZED_ASSET_ACCESS.getMessageDefinition(userId,
+                                                                                                                           asset == null ? null : asset.getGUID()),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              userId);
     }
 
 
@@ -409,9 +794,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     @Override
     public void  validateUserForServer(String   userId) throws UserNotAuthorizedException
     {
+        final OpenMetadataServerSecurityConnector connector = this.connector;
+
         if (connector != null)
         {
-            connector.validateUserForServer(userId);
+            validateWithDecisionCache(userId,
+                                      () -> decisionCache.getKey(userId, "validateUserForServer"),
+                                      () -> connector.validateUserForServer(userId),
+                                      null);
         }
     }
 
@@ -426,9 +816,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     @Override
     public void  validateUserAsServerAdmin(String   userId) throws UserNotAuthorizedException
     {
+        final OpenMetadataServerSecurityConnector connector = this.connector;
+
         if (connector != null)
         {
-            connector.validateUserAsServerAdmin(userId);
+            validateWithDecisionCache(userId,
+                                      () -> decisionCache.getKey(userId, "validateUserAsServerAdmin"),
+                                      () -> connector.validateUserAsServerAdmin(userId),
+                                      null);
         }
     }
 
@@ -443,9 +838,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     @Override
     public void  validateUserAsServerOperator(String   userId) throws UserNotAuthorizedException
     {
+        final OpenMetadataServerSecurityConnector connector = this.connector;
+
         if (connector != null)
         {
-            connector.validateUserAsServerOperator(userId);
+            validateWithDecisionCache(userId,
+                                      () -> decisionCache.getKey(userId, "validateUserAsServerOperator"),
+                                      () -> connector.validateUserAsServerOperator(userId),
+                                      null);
         }
     }
 
@@ -460,9 +860,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     @Override
     public void  validateUserAsServerInvestigator(String   userId) throws UserNotAuthorizedException
     {
+        final OpenMetadataServerSecurityConnector connector = this.connector;
+
         if (connector != null)
         {
-            connector.validateUserAsServerInvestigator(userId);
+            validateWithDecisionCache(userId,
+                                      () -> decisionCache.getKey(userId, "validateUserAsServerInvestigator"),
+                                      () -> connector.validateUserAsServerInvestigator(userId),
+                                      null);
         }
     }
 
@@ -479,9 +884,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     public void  validateUserForService(String   userId,
                                         String   serviceName) throws UserNotAuthorizedException
     {
+        final OpenMetadataServerSecurityConnector connector = this.connector;
+
         if (connector != null)
         {
-            connector.validateUserForService(userId, serviceName);
+            validateWithDecisionCache(userId,
+                                      () -> decisionCache.getKey(userId, "validateUserForService", serviceName),
+                                      () -> connector.validateUserForService(userId, serviceName),
+                                      null);
         }
     }
 
@@ -500,9 +910,14 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                  String   serviceName,
                                                  String   serviceOperationName) throws UserNotAuthorizedException
     {
+        final OpenMetadataServerSecurityConnector connector = this.connector;
+
         if (connector != null)
         {
-            connector.validateUserForServiceOperation(userId, serviceName, serviceOperationName);
+            validateWithDecisionCache(userId,
+                                      () -> decisionCache.getKey(userId, "validateUserForServiceOperation", serviceName, serviceOperationName),
+                                      () -> connector.validateUserForServiceOperation(userId, serviceName, serviceOperationName),
+                                      null);
         }
     }
 
@@ -630,9 +1045,16 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     public void  validateUserForAssetRead(String     userId,
                                           Asset      asset) throws UserNotAuthorizedException
     {
+        final String methodName = "validateUserForAssetRead";
+
+        final OpenMetadataServerSecurityConnector connector = this.connector;
+
         if (connector != null)
         {
-            connector.validateUserForAssetRead(userId, new Asset(asset));
+            validateWithDecisionCache(userId,
+                                      () -> decisionCache.getKey(userId, methodName, getSecurityContext(asset)),
+                                      () -> connector.validateUserForAssetRead(userId, new Asset(asset)),
+                                      () -> getUnauthorizedAssetAccess(userId, asset, methodName));
         }
     }
 
@@ -996,13 +1418,52 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                            String          metadataCollectionName,
                                            EntityDetail    instance) throws UserNotAuthorizedException
     {
+        final String methodName = "validateUserForEntityRead";
+
+        final OpenMetadataServerSecurityConnector connector = this.connector;
+
         if (connector != null)
         {
-            connector.validateUserForEntityRead(userId, metadataCollectionName, new EntityDetail(instance));
+            validateWithDecisionCache(userId,
+                                      () -> decisionCache.getKey(userId, methodName, metadataCollectionName, getSecurityContext(instance)),
+                                      () -> connector.validateUserForEntityRead(userId, metadataCollectionName, new EntityDetail(instance)),
+                                      () -> getUnauthorizedInstanceAccess(userId, instance, methodName));
         }
     }
 
 
+    /**
+     * Return the entities from a list that a specific user is allowed to read.  Entities with a cached decision are
+     * not passed to the connector; the rest are checked with a single call to the connector.
+     *
+     * @param userId identifier of user
+     * @param metadataCollectionName configurable name of the metadata collection
+     * @param instances instances to test
+     * @return instances that the user is authorized to read (in the original order)
+     */
+    @Override
+    public List<EntityDetail>  filterEntitiesForRead(String              userId,
+                                                     String              metadataCollectionName,
+                                                     List<EntityDetail>  instances)
+    {
+        final String methodName = "validateUserForEntityRead";
+
+        final OpenMetadataServerSecurityConnector connector = this.connector;
+
+        if (connector == null)
+        {
+            return instances;
+        }
+
+        return filterWithDecisionCache(userId,
+                                       instances,
+                                       instance -> decisionCache.getKey(userId, methodName, metadataCollectionName, getSecurityContext(instance)),
+                                       EntityDetail::new,
+                                       uncheckedInstances -> connector.filterEntitiesForRead(userId, metadataCollectionName, uncheckedInstances),
+                                       instance -> getUnauthorizedInstanceAccess(userId, instance, methodName));
+    }
+
+
     /**
      * Tests for whether a specific user should have read access to a specific instance within a repository.
      *
@@ -1016,9 +1477,16 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                   String        metadataCollectionName,
                                                   EntitySummary instance) throws UserNotAuthorizedException
     {
+        final String methodName = "validateUserForEntitySummaryRead";
+
+        final OpenMetadataServerSecurityConnector connector = this.connector;
+
         if (connector != null)
         {
-            connector.validateUserForEntitySummaryRead(userId, metadataCollectionName, new EntitySummary(instance));
+            validateWithDecisionCache(userId,
+                                      () -> decisionCache.getKey(userId, methodName, metadataCollectionName, getSecurityContext(instance)),
+                                      () -> connector.validateUserForEntitySummaryRead(userId, metadataCollectionName, new EntitySummary(instance)),
+                                      () -> getUnauthorizedInstanceAccess(userId, instance, methodName));
         }
     }
 
@@ -1036,9 +1504,16 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                 String      metadataCollectionName,
                                                 EntityProxy instance) throws UserNotAuthorizedException
     {
+        final String methodName = "validateUserForEntityProxyRead";
+
+        final OpenMetadataServerSecurityConnector connector = this.connector;
+
         if (connector != null)
         {
-            connector.validateUserForEntityProxyRead(userId, metadataCollectionName, new EntityProxy(instance));
+            validateWithDecisionCache(userId,
+                                      () -> decisionCache.getKey(userId, methodName, metadataCollectionName, getSecurityContext(instance)),
+                                      () -> connector.validateUserForEntityProxyRead(userId, metadataCollectionName, new EntityProxy(instance)),
+                                      () -> getUnauthorizedInstanceAccess(userId, instance, methodName));
         }
     }
 
@@ -0,0 +1,123 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityConnector;
+import org.odpi.openmetadata.metadatasecurity.properties.Asset;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MockServerSecurityConnector allows every user except DENIED_USER to access the server, and allows any user to
+ * read the assets that are not in RESTRICTED_ZONE and the entities that are not of RESTRICTED_TYPE.  It counts the
+ * checks it is called for.  The connector is created by the connector broker so the counts, and the reference to
+ * the latest connector, are static.
+ */
+public class MockServerSecurityConnector extends OpenMetadataServerSecurityConnector
+{
+    static final String DENIED_USER     = "deniedUser";
+    static final String RESTRICTED_ZONE = "restricted";
+    static final String RESTRICTED_TYPE = "RestrictedType";
+
+    static final AtomicInteger serverChecks = new AtomicInteger(0);
+    static final AtomicInteger assetChecks  = new AtomicInteger(0);
+    static final AtomicInteger entityChecks = new AtomicInteger(0);
+
+    private static volatile MockServerSecurityConnector latestConnector = null;
+
+
+    /**
+     * Constructor remembers the connector so the tests can report authorization changes through it.
+     */
+    public MockServerSecurityConnector()
+    {
+        super();
+
+        latestConnector = this;
+    }
+
+
+    /**
+     * Reset the counts of the checks.
+     */
+    static void resetChecks()
+    {
+        serverChecks.set(0);
+        assetChecks.set(0);
+        entityChecks.set(0);
+    }
+
+
+    /**
+     * Report a change to the authorizations of a user through the latest connector.
+     *
+     * @param userId user whose authorizations have changed, or null for all users
+     */
+    static void changeAuthorizations(String userId)
+    {
+        latestConnector.authorizationsChanged(userId);
+    }
+
+
+    /**
+     * Check that the calling user is authorized to issue a (any) request to the OMAG Server Platform.
+     *
+     * @param userId calling user
+     *
+     * @throws UserNotAuthorizedException the user is not authorized to access this function
+     */
+    @Override
+    public void  validateUserForServer(String   userId) throws UserNotAuthorizedException
+    {
+        serverChecks.incrementAndGet();
+
+        if (DENIED_USER.equals(userId))
+        {
+            super.validateUserForServer(userId);
+        }
+    }
+
+
+    /**
+     * Tests for whether a specific user should have read access to a specific asset within a zone.
+     *
+     * @param userId identifier of user
+     * @param asset asset to test
+     * @throws UserNotAuthorizedException the user is not authorized to access this zone
+     */
+    @Override
+    public void  validateUserForAssetRead(String     userId,
+                                          Asset      asset) throws UserNotAuthorizedException
+    {
+        assetChecks.incrementAndGet();
+
+        if ((asset.getZoneMembership() != null) && (asset.getZoneMembership().contains(RESTRICTED_ZONE)))
+        {
+            super.validateUserForAssetRead(userId, asset);
+        }
+    }
+
+
+    /**
+     * Tests for whether a specific user should have read access to a specific instance within a repository.
+     *
+     * @param userId identifier of user
+     * @param metadataCollectionName configurable name of the metadata collection
+     * @param instance instance details
+     * @throws UserNotAuthorizedException the user is not authorized to retrieve instances
+     */
+    @Override
+    public void  validateUserForEntityRead(String          userId,
+                                           String          metadataCollectionName,
+                                           EntityDetail    instance) throws UserNotAuthorizedException
+    {
+        entityChecks.incrementAndGet();
+
+        if ((instance.getType() != null) && (RESTRICTED_TYPE.equals(instance.getType().getTypeDefName())))
+        {
+            super.validateUserForEntityRead(userId, metadataCollectionName, instance);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityProvider;
+
+/**
+ * MockServerSecurityProvider creates the MockServerSecurityConnector for the tests of the verifier.
+ */
+public class MockServerSecurityProvider extends OpenMetadataServerSecurityProvider
+{
+    /**
+     * Constructor sets up the class name of the connector.
+     */
+    public MockServerSecurityProvider()
+    {
+        super();
+
+        super.setConnectorClassName(MockServerSecurityConnector.class.getName());
+    }
+}
@@ -0,0 +1,91 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * OpenMetadataSecurityDecisionCacheTest checks that decisions expire, that the least recently used decisions are
+ * evicted and that nothing is remembered when the cache is disabled.
+ */
+public class OpenMetadataSecurityDecisionCacheTest
+{
+    /**
+     * A decision is returned until its time to live has passed.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test public void testExpiry() throws InterruptedException
+    {
+        OpenMetadataSecurityDecisionCache cache = new OpenMetadataSecurityDecisionCache(100, 10);
+        String                            key   = cache.getKey("user", "validateUserForServer");
+
+        cache.addDecision(key, "user", null);
+
+        assertNotNull(cache.getDecision(key));
+        assertTrue(cache.getDecision(key).isAuthorized());
+
+        Thread.sleep(200);
+
+        assertNull(cache.getDecision(key));
+    }
+
+
+    /**
+     * The least recently used decision is evicted when the cache is full.
+     */
+    @Test public void testEviction()
+    {
+        OpenMetadataSecurityDecisionCache cache = new OpenMetadataSecurityDecisionCache(60000, 2);
+
+        cache.addDecision("key1", "user", null);
+        cache.addDecision("key2", "user", null);
+        cache.getDecision("key1");
+        cache.addDecision("key3", "user", null);
+
+        assertNotNull(cache.getDecision("key1"));
+        assertNull(cache.getDecision("key2"));
+        assertNotNull(cache.getDecision("key3"));
+    }
+
+
+    /**
+     * Only the decisions of the requested user are removed.
+     */
+    @Test public void testRemoveDecisionsForUser()
+    {
+        OpenMetadataSecurityDecisionCache cache = new OpenMetadataSecurityDecisionCache(60000, 10);
+        String                            key1  = cache.getKey("user1", "validateUserForServer");
+        String                            key2  = cache.getKey("user2", "validateUserForServer");
+
+        cache.addDecision(key1, "user1", null);
+        cache.addDecision(key2, "user2", null);
+        cache.removeDecisionsForUser("user1");
+
+        assertNull(cache.getDecision(key1));
+        assertNotNull(cache.getDecision(key2));
+
+        cache.removeAllDecisions();
+
+        assertNull(cache.getDecision(key2));
+    }
+
+
+    /**
+     * A cache without a time to live does not remember decisions.
+     */
+    @Test public void testDisabled()
+    {
+        OpenMetadataSecurityDecisionCache cache = new OpenMetadataSecurityDecisionCache(0, 10);
+
+        cache.addDecision("key", "user", null);
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.getDecision("key"));
+    }
+}
@@ -0,0 +1,312 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.metadatasecurity.properties.Asset;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * OpenMetadataServerSecurityVerifierTest checks that the decisions returned from the decision cache match the
+ * decisions of the security connector, that cached decisions expire or are discarded when the connector reports
+ * a change to the authorizations, and that nothing is cached when the time to live is not set.
+ */
+public class OpenMetadataServerSecurityVerifierTest
+{
+    private static final String allowedUser = "allowedUser";
+    private static final String otherUser   = "otherUser";
+    private static final String authorized  = "authorized";
+    private static final String collection  = "testCollection";
+
+    private final Asset publicAsset     = getAsset("public-guid", "public");
+    private final Asset restrictedAsset = getAsset("restricted-guid", MockServerSecurityConnector.RESTRICTED_ZONE);
+
+    private final EntityDetail publicEntity     = getEntity("public-guid", "Asset");
+    private final EntityDetail restrictedEntity = getEntity("restricted-guid", MockServerSecurityConnector.RESTRICTED_TYPE);
+
+
+    /**
+     * Reset the counts of the mock connector before each test.
+     */
+    @BeforeMethod public void setUp()
+    {
+        MockServerSecurityConnector.resetChecks();
+    }
+
+
+    /**
+     * Return an asset in a zone.
+     *
+     * @param guid unique identifier of the asset
+     * @param zone zone that the asset belongs to
+     * @return asset
+     */
+    private static Asset getAsset(String guid,
+                                  String zone)
+    {
+        Asset asset = new Asset();
+
+        asset.setGUID(guid);
+        asset.setTypeName("Asset");
+        asset.setZoneMembership(Collections.singletonList(zone));
+
+        return asset;
+    }
+
+
+    /**
+     * Return an entity of a type.
+     *
+     * @param guid unique identifier of the entity
+     * @param typeName name of the entity's type
+     * @return entity
+     */
+    private static EntityDetail getEntity(String guid,
+                                          String typeName)
+    {
+        InstanceType type = new InstanceType();
+
+        type.setTypeDefName(typeName);
+
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setType(type);
+
+        return entity;
+    }
+
+
+    /**
+     * Return a verifier that uses the mock connector.
+     *
+     * @param timeToLive value of the time to live property or null to leave it unset
+     * @return verifier
+     * @throws InvalidParameterException the connection is invalid
+     */
+    private OpenMetadataServerSecurityVerifier getVerifier(String timeToLive) throws InvalidParameterException
+    {
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setConnectorProviderClassName(MockServerSecurityProvider.class.getName());
+
+        Connection connection = new Connection();
+        connection.setQualifiedName("Test.Connection");
+        connection.setConnectorType(connectorType);
+
+        if (timeToLive != null)
+        {
+            Map<String, Object> configurationProperties = new HashMap<>();
+            configurationProperties.put(OpenMetadataServerSecurityVerifier.DECISION_CACHE_TIME_TO_LIVE_PROPERTY, timeToLive);
+            connection.setConfigurationProperties(configurationProperties);
+        }
+
+        OpenMetadataServerSecurityVerifier verifier = new OpenMetadataServerSecurityVerifier();
+        verifier.registerSecurityValidator("serverUserId", "testServer", null, connection);
+
+        return verifier;
+    }
+
+
+    /**
+     * Return the outcome of a server check.
+     *
+     * @param verifier verifier to test
+     * @param userId calling user
+     * @return "authorized" or the message of the exception
+     */
+    private String checkServer(OpenMetadataServerSecurityVerifier verifier,
+                               String                             userId)
+    {
+        try
+        {
+            verifier.validateUserForServer(userId);
+            return authorized;
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            return error.getReportedErrorMessage();
+        }
+    }
+
+
+    /**
+     * Return the outcome of an asset read check.
+     *
+     * @param verifier verifier to test
+     * @param asset asset to read
+     * @return "authorized" or the message of the exception
+     */
+    private String checkAssetRead(OpenMetadataServerSecurityVerifier verifier,
+                                  Asset                              asset)
+    {
+        try
+        {
+            verifier.validateUserForAssetRead(allowedUser, asset);
+            return authorized;
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            return error.getReportedErrorMessage();
+        }
+    }
+
+
+    /**
+     * Run the same checks several times and return their outcomes.
+     *
+     * @param verifier verifier to test
+     * @return outcomes
+     */
+    private List<String> runChecks(OpenMetadataServerSecurityVerifier verifier)
+    {
+        List<String> outcomes = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+        {
+            outcomes.add(checkServer(verifier, allowedUser));
+            outcomes.add(checkServer(verifier, MockServerSecurityConnector.DENIED_USER));
+            outcomes.add(checkAssetRead(verifier, publicAsset));
+            outcomes.add(checkAssetRead(verifier, restrictedAsset));
+
+            for (EntityDetail entity : verifier.filterEntitiesForRead(allowedUser, collection, Arrays.asList(restrictedEntity, publicEntity)))
+            {
+                outcomes.add("filtered:" + entity.getGUID());
+            }
+        }
+
+        return outcomes;
+    }
+
+
+    /**
+     * The allow, deny and filter decisions made with the cache are the same as the decisions made without it,
+     * and the connector is called once for each distinct check.
+     *
+     * @throws InvalidParameterException the connection is invalid
+     */
+    @Test public void testCachedDecisionsMatchConnector() throws InvalidParameterException
+    {
+        List<String> uncachedOutcomes = runChecks(getVerifier(null));
+
+        MockServerSecurityConnector.resetChecks();
+
+        List<String> cachedOutcomes = runChecks(getVerifier("60"));
+
+        assertEquals(cachedOutcomes, uncachedOutcomes);
+        assertEquals(MockServerSecurityConnector.serverChecks.get(), 2);
+        assertEquals(MockServerSecurityConnector.assetChecks.get(), 2);
+        assertEquals(MockServerSecurityConnector.entityChecks.get(), 2);
+
+        /*
+         * A filtered list with an entity whose security context has no cached decision only passes that entity
+         * to the connector.  An entity with the same security context as a checked entity shares its decision.
+         */
+        OpenMetadataServerSecurityVerifier verifier      = getVerifier("60");
+        EntityDetail                       newEntity     = getEntity("new-guid", "DataFile");
+        EntityDetail                       anotherEntity = getEntity("another-guid", "Asset");
+
+        verifier.filterEntitiesForRead(allowedUser, collection, Arrays.asList(publicEntity, restrictedEntity));
+        MockServerSecurityConnector.resetChecks();
+
+        List<EntityDetail> filteredEntities = verifier.filterEntitiesForRead(allowedUser,
+                                                                             collection,
+                                                                             Arrays.asList(restrictedEntity, newEntity, publicEntity, anotherEntity));
+
+        assertEquals(filteredEntities, Arrays.asList(newEntity, publicEntity, anotherEntity));
+        assertEquals(MockServerSecurityConnector.entityChecks.get(), 1);
+    }
+
+
+    /**
+     * When the connector reports that the authorizations of a user have changed, only that user's decisions are
+     * checked again.  When it reports a change for all users, every decision is checked again.
+     *
+     * @throws InvalidParameterException the connection is invalid
+     */
+    @Test public void testAuthorizationChangesInvalidateDecisions() throws InvalidParameterException
+    {
+        OpenMetadataServerSecurityVerifier verifier = getVerifier("60");
+
+        checkServer(verifier, allowedUser);
+        checkServer(verifier, otherUser);
+        checkServer(verifier, allowedUser);
+        checkServer(verifier, otherUser);
+
+        assertEquals(MockServerSecurityConnector.serverChecks.get(), 2);
+
+        MockServerSecurityConnector.changeAuthorizations(allowedUser);
+
+        assertEquals(checkServer(verifier, allowedUser), authorized);
+        assertEquals(checkServer(verifier, otherUser), authorized);
+        assertEquals(MockServerSecurityConnector.serverChecks.get(), 3);
+
+        MockServerSecurityConnector.changeAuthorizations(null);
+
+        checkServer(verifier, allowedUser);
+        checkServer(verifier, otherUser);
+        assertEquals(MockServerSecurityConnector.serverChecks.get(), 5);
+    }
+
+
+    /**
+     * The connector is called for every check when the time to live is not set or is not a number.
+     *
+     * @throws InvalidParameterException the connection is invalid
+     */
+    @Test public void testNoCachingWithoutTimeToLive() throws InvalidParameterException
+    {
+        runChecks(getVerifier(null));
+
+        assertEquals(MockServerSecurityConnector.serverChecks.get(), 6);
+        assertEquals(MockServerSecurityConnector.assetChecks.get(), 6);
+        assertEquals(MockServerSecurityConnector.entityChecks.get(), 6);
+
+        MockServerSecurityConnector.resetChecks();
+        runChecks(getVerifier("not-a-number"));
+
+        assertEquals(MockServerSecurityConnector.serverChecks.get(), 6);
+        assertEquals(MockServerSecurityConnector.assetChecks.get(), 6);
+        assertEquals(MockServerSecurityConnector.entityChecks.get(), 6);
+    }
+
+
+    /**
+     * The connector is called again once the cached decisions have expired.
+     *
+     * @throws InvalidParameterException the connection is invalid
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test public void testDecisionsExpire() throws InvalidParameterException, InterruptedException
+    {
+        OpenMetadataServerSecurityVerifier verifier = getVerifier("1");
+
+        checkServer(verifier, allowedUser);
+        checkServer(verifier, MockServerSecurityConnector.DENIED_USER);
+        checkServer(verifier, allowedUser);
+        checkServer(verifier, MockServerSecurityConnector.DENIED_USER);
+
+        assertEquals(MockServerSecurityConnector.serverChecks.get(), 2);
+
+        Thread.sleep(1100);
+
+        assertEquals(checkServer(verifier, allowedUser), authorized);
+        checkServer(verifier, MockServerSecurityConnector.DENIED_USER);
+
+        assertEquals(MockServerSecurityConnector.serverChecks.get(), 4);
+    }
+}
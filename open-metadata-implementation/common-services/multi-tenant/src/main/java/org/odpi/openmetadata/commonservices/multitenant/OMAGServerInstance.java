@@ -12,19 +12,22 @@ import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityV
 import org.odpi.openmetadata.platformservices.properties.OMAGServerInstanceHistory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OMAGServerInstance represents an instance of a service in an OMAG Server.
- * It is also responsible for registering itself in the instance map.
+ * It is also responsible for registering itself in the instance map.  The service lookup and security checks made
+ * on each request do not lock the instance - only the server's lifecycle changes are synchronized.
  */
 class OMAGServerInstance
 {
-    private String                                 serverName;
-    private String                                 serverType;
-    private List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
-    private Map<String, OMAGServerServiceInstance> serviceInstanceMap = new HashMap<>();
-    private Date                                   serverStartTime    = new Date();
-    private OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
+    private final String                                 serverName;
+    private volatile String                              serverType;
+    private final List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
+    private final Map<String, OMAGServerServiceInstance> serviceInstanceMap = new ConcurrentHashMap<>();
+    private final Map<String, OMAGServerServiceInitializer> deferredServiceMap = new ConcurrentHashMap<>();
+    private Date                                         serverStartTime    = new Date();
+    private final OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
 
 
     /**
@@ -74,7 +77,7 @@ class OMAGServerInstance
     /**
      * Prepare to start a new instance
      */
-    void initialize()
+    synchronized void initialize()
     {
         serverStartTime    = new Date();
     }
@@ -181,7 +184,7 @@ class OMAGServerInstance
      *
      * @return connector
      */
-    synchronized OpenMetadataServerSecurityVerifier  getSecurityVerifier()
+    OpenMetadataServerSecurityVerifier  getSecurityVerifier()
     {
         return securityVerifier;
     }
@@ -204,6 +207,33 @@ class OMAGServerInstance
     }
 
 
+    /**
+     * Register a service whose initialization is deferred until its first request.
+     *
+     * @param serviceName name of service
+     * @param serviceInitializer routine that completes the initialization of the service
+     */
+    synchronized  void registerDeferredService(String                       serviceName,
+                                               OMAGServerServiceInitializer serviceInitializer)
+    {
+        if (serviceInitializer != null)
+        {
+            deferredServiceMap.put(serviceName, serviceInitializer);
+        }
+    }
+
+
+    /**
+     * Remove a service whose initialization was deferred - typically because it is shutting down.
+     *
+     * @param serviceName name of service
+     */
+    synchronized  void unRegisterDeferredService(String   serviceName)
+    {
+        deferredServiceMap.remove(serviceName);
+    }
+
+
     /**
      * Return the properties for this running service or exceptions if there are problems.
      *
@@ -215,10 +245,10 @@ class OMAGServerInstance
      * @throws UserNotAuthorizedException calling user not authorized to call the request
      * @throws PropertyServerException service is not running in this server
      */
-    synchronized OMAGServerServiceInstance getRegisteredService(String    userId,
-                                                                String    serviceName,
-                                                                String    serviceOperationName) throws UserNotAuthorizedException,
-                                                                                                       PropertyServerException
+    OMAGServerServiceInstance getRegisteredService(String    userId,
+                                                   String    serviceName,
+                                                   String    serviceOperationName) throws UserNotAuthorizedException,
+                                                                                          PropertyServerException
     {
         try
         {
@@ -232,6 +262,20 @@ class OMAGServerInstance
 
         OMAGServerServiceInstance serverServiceInstance = serviceInstanceMap.get(serviceName);
 
+        if (serverServiceInstance == null)
+        {
+            /*
+             * The service may be waiting for its first request before it starts.
+             */
+            OMAGServerServiceInitializer serviceInitializer = deferredServiceMap.get(serviceName);
+
+            if (serviceInitializer != null)
+            {
+                serviceInitializer.initializeDeferredService(userId, serviceOperationName);
+                serverServiceInstance = serviceInstanceMap.get(serviceName);
+            }
+        }
+
         if (serverServiceInstance == null)
         {
             throw new PropertyServerException(OMAGServerInstanceErrorCode.SERVICE_NOT_AVAILABLE.getMessageDefinition(serviceName,
@@ -266,12 +310,15 @@ class OMAGServerInstance
     {
         this.serverHistory.add(new OMAGServerInstanceHistory(this.serverStartTime, new Date()));
         this.serverStartTime = null;
+        this.deferredServiceMap.clear();
 
         if (!serviceInstanceMap.isEmpty())
         {
-            this.serviceInstanceMap = new HashMap<>();
+            String residualServices = serviceInstanceMap.keySet().toString();
+
+            this.serviceInstanceMap.clear();
             throw new PropertyServerException(OMAGServerInstanceErrorCode.SERVICES_NOT_SHUTDOWN.getMessageDefinition(serverName,
-                                                                                                                     serviceInstanceMap.keySet().toString()),
+                                                                                                                     residualServices),
                                               this.getClass().getName(),
                                               methodName);
         }
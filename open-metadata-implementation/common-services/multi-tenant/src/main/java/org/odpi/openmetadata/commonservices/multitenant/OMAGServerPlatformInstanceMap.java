@@ -19,18 +19,22 @@ import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityV
 import org.odpi.openmetadata.platformservices.properties.OMAGServerInstanceHistory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OMAGServerPlatformInstanceMap provides part of the mapping for inbound REST requests to the appropriate
  * service instances for the requested server.  It manages the server name to server instance mapping.
  * The map is maintained in a static so it is scoped to the class loader.
  *
- * Instances of this class call the synchronized static methods to work with the map.
+ * Instances of this class call the static methods to work with the map.  The maps are concurrent so the lookups
+ * made on every REST call, including the authorization checks, do not take a lock.  Only the changes that move a
+ * server between the active and inactive maps are serialized, so that a server is always in at least one of them.
  */
 public class OMAGServerPlatformInstanceMap
 {
-    private static Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>();
-    private static Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>();
+    private static final Map<String, OMAGServerInstance> activeServerInstanceMap   = new ConcurrentHashMap<>();
+    private static final Map<String, OMAGServerInstance> inActiveServerInstanceMap = new ConcurrentHashMap<>();
+    private static final Object                          serverStateLock           = new Object();
 
 
     /**
@@ -382,12 +386,12 @@ public class OMAGServerPlatformInstanceMap
 
     /**
      * Return an active server instance object for the requested service.  The server instance
-     * may be new, already active, or known but inactive.
+     * may be new, already active, or known but inactive.  The caller holds the server state lock.
      *
      * @param serverName name of the server
      * @return active OMAGServerInstance object
      */
-    private static synchronized OMAGServerInstance getActiveServerInstance(String serverName)
+    private static OMAGServerInstance getActiveServerInstance(String serverName)
     {
         /*
          * Is this a server that is currently running?
@@ -431,17 +435,40 @@ public class OMAGServerPlatformInstanceMap
      * @param serviceName name of the service running on the server
      * @param instance instance object
      */
-    private static synchronized void  setInstanceForPlatform(String                    serverName,
-                                                             String                    serverType,
-                                                             String                    serviceName,
-                                                             OMAGServerServiceInstance instance)
+    private static void  setInstanceForPlatform(String                    serverName,
+                                                String                    serverType,
+                                                String                    serviceName,
+                                                OMAGServerServiceInstance instance)
     {
-        OMAGServerInstance  serverInstance = getActiveServerInstance(serverName);
+        synchronized (serverStateLock)
+        {
+            OMAGServerInstance  serverInstance = getActiveServerInstance(serverName);
+
+            serverInstance.registerService(serviceName, instance);
+            if (serverType != null)
+            {
+                serverInstance.setServerType(serverType);
+            }
+        }
+    }
+
 
-        serverInstance.registerService(serviceName, instance);
-        if (serverType != null)
+    /**
+     * Add a service whose initialization is deferred to the server map.
+     *
+     * @param serverName name of the server
+     * @param serviceName name of the service running on the server
+     * @param serviceInitializer routine that completes the initialization of the service
+     */
+    private static void  setDeferredServiceForPlatform(String                       serverName,
+                                                       String                       serviceName,
+                                                       OMAGServerServiceInitializer serviceInitializer)
+    {
+        synchronized (serverStateLock)
         {
-            serverInstance.setServerType(serverType);
+            OMAGServerInstance  serverInstance = getActiveServerInstance(serverName);
+
+            serverInstance.registerDeferredService(serviceName, serviceInitializer);
         }
     }
 
@@ -456,15 +483,18 @@ public class OMAGServerPlatformInstanceMap
      * @return OpenMetadataServerSecurityVerifier object
      * @throws InvalidParameterException the connector is not valid.
      */
-    private static synchronized OpenMetadataServerSecurityVerifier setServerActiveWithSecurity(String       localServerUserId,
-                                                                                               String       serverName,
-                                                                                               AuditLog     auditLog,
-                                                                                               Connection   connection) throws InvalidParameterException
+    private static OpenMetadataServerSecurityVerifier setServerActiveWithSecurity(String       localServerUserId,
+                                                                                  String       serverName,
+                                                                                  AuditLog     auditLog,
+                                                                                  Connection   connection) throws InvalidParameterException
     {
-        OMAGServerInstance  serverInstance = getActiveServerInstance(serverName);
+        synchronized (serverStateLock)
+        {
+            OMAGServerInstance  serverInstance = getActiveServerInstance(serverName);
 
-        serverInstance.initialize();
-        return serverInstance.registerSecurityValidator(localServerUserId, auditLog, connection);
+            serverInstance.initialize();
+            return serverInstance.registerSecurityValidator(localServerUserId, auditLog, connection);
+        }
     }
 
 
@@ -479,10 +509,10 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      * @throws InvalidParameterException the server name is not known
      */
-    private static synchronized String getServerInstanceType(String  userId,
-                                                             String  serverName,
-                                                             String  serviceOperationName) throws InvalidParameterException,
-                                                                                                  UserNotAuthorizedException
+    private static String getServerInstanceType(String  userId,
+                                                String  serverName,
+                                                String  serviceOperationName) throws InvalidParameterException,
+                                                                                     UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
@@ -514,8 +544,8 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceActive(String  userId,
-                                                               String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceActive(String  userId,
+                                                  String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
@@ -534,8 +564,8 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceKnown(String  userId,
-                                                              String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceKnown(String  userId,
+                                                 String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
@@ -557,12 +587,12 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      * @throws PropertyServerException the service name is not know - indicating a logic error
      */
-    private static synchronized OMAGServerServiceInstance getInstanceForPlatform(String  userId,
-                                                                                 String  serverName,
-                                                                                 String  serviceName,
-                                                                                 String  serviceOperationName) throws InvalidParameterException,
-                                                                                                                      UserNotAuthorizedException,
-                                                                                                                      PropertyServerException
+    private static OMAGServerServiceInstance getInstanceForPlatform(String  userId,
+                                                                    String  serverName,
+                                                                    String  serviceName,
+                                                                    String  serviceOperationName) throws InvalidParameterException,
+                                                                                                         UserNotAuthorizedException,
+                                                                                                         PropertyServerException
     {
         OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
 
@@ -602,7 +632,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -633,7 +663,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -644,16 +674,19 @@ public class OMAGServerPlatformInstanceMap
             throw new UserNotAuthorizedException(error);
         }
 
-        List<String> knownServerList = new ArrayList<>(activeServerInstanceMap.keySet());
-        knownServerList.addAll(inActiveServerInstanceMap.keySet());
+        /*
+         * A server that is starting or stopping may briefly appear in both maps.
+         */
+        Set<String> knownServerSet = new LinkedHashSet<>(activeServerInstanceMap.keySet());
+        knownServerSet.addAll(inActiveServerInstanceMap.keySet());
 
-        if (knownServerList.isEmpty())
+        if (knownServerSet.isEmpty())
         {
             return null;
         }
         else
         {
-            return knownServerList;
+            return new ArrayList<>(knownServerSet);
         }
     }
 
@@ -665,8 +698,8 @@ public class OMAGServerPlatformInstanceMap
      * @param serverInstance instance for the server
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized void validateUserAsServerInvestigator(String              userId,
-                                                                      OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
+    private static void validateUserAsServerInvestigator(String              userId,
+                                                         OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
     {
         if (serverInstance != null)
         {
@@ -694,9 +727,9 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerStartTimeFromPlatform(String  userId,
-                                                                     String  serverName) throws InvalidParameterException,
-                                                                                                UserNotAuthorizedException
+    private static Date getServerStartTimeFromPlatform(String  userId,
+                                                       String  serverName) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException
     {
         final String  methodName = "getServerStartTimeFromPlatform";
 
@@ -731,9 +764,9 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerEndTimeFromPlatform(String  userId,
-                                                                   String  serverName) throws InvalidParameterException,
-                                                                                              UserNotAuthorizedException
+    private static Date getServerEndTimeFromPlatform(String  userId,
+                                                     String  serverName) throws InvalidParameterException,
+                                                                                UserNotAuthorizedException
     {
         final String  methodName = "getServerEndTimeFromPlatform";
 
@@ -768,9 +801,9 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
-                                                                                              String  serverName) throws InvalidParameterException,
-                                                                                                                         UserNotAuthorizedException
+    private static List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
+                                                                                String  serverName) throws InvalidParameterException,
+                                                                                                           UserNotAuthorizedException
     {
         final String  methodName = "getServerHistoryFromPlatform";
 
@@ -804,9 +837,9 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the server name is not known
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String>   getActiveServiceListForServerOnPlatform(String userId,
-                                                                                       String serverName) throws InvalidParameterException,
-                                                                                                                 UserNotAuthorizedException
+    private static List<String>   getActiveServiceListForServerOnPlatform(String userId,
+                                                                          String serverName) throws InvalidParameterException,
+                                                                                                    UserNotAuthorizedException
     {
         final String  methodName = "getActiveServiceListForServerOnPlatform";
 
@@ -842,14 +875,38 @@ public class OMAGServerPlatformInstanceMap
      * @param serverName name of the server
      * @param serviceName name of the service running on the server
      */
-    private static synchronized void removeInstanceForPlatform(String   serverName,
-                                                               String   serviceName)
+    private static void removeInstanceForPlatform(String   serverName,
+                                                  String   serviceName)
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        synchronized (serverStateLock)
+        {
+            OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
 
-        if (serverInstance != null)
+            if (serverInstance != null)
+            {
+                 serverInstance.unRegisterService(serviceName);
+            }
+        }
+    }
+
+
+    /**
+     * Remove the service whose initialization was deferred for this server.
+     *
+     * @param serverName name of the server
+     * @param serviceName name of the service running on the server
+     */
+    private static void removeDeferredServiceForPlatform(String   serverName,
+                                                         String   serviceName)
+    {
+        synchronized (serverStateLock)
         {
-             serverInstance.unRegisterService(serviceName);
+            OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+
+            if (serverInstance != null)
+            {
+                serverInstance.unRegisterDeferredService(serviceName);
+            }
         }
     }
 
@@ -863,31 +920,34 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException server name is not known
      * @throws PropertyServerException server still has active services - logic error
      */
-    private static synchronized void setServerInActive(String   userId,
-                                                       String   serverName,
-                                                       String   methodName) throws InvalidParameterException,
-                                                                                   PropertyServerException
+    private static void setServerInActive(String   userId,
+                                          String   serverName,
+                                          String   methodName) throws InvalidParameterException,
+                                                                      PropertyServerException
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
-
-        if (serverInstance == null)
-        {
-            handleBadServerName(userId, serverName, methodName);
-        }
-        else
+        synchronized (serverStateLock)
         {
-            try
-            {
-                serverInstance.shutdown(methodName);
-            }
-            catch (Throwable t)
+            OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+
+            if (serverInstance == null)
             {
-                throw t;
+                handleBadServerName(userId, serverName, methodName);
             }
-            finally
+            else
             {
-                inActiveServerInstanceMap.put(serverName, serverInstance);
-                activeServerInstanceMap.remove(serverName);
+                try
+                {
+                    serverInstance.shutdown(methodName);
+                }
+                catch (Throwable t)
+                {
+                    throw t;
+                }
+                finally
+                {
+                    inActiveServerInstanceMap.put(serverName, serverInstance);
+                    activeServerInstanceMap.remove(serverName);
+                }
             }
         }
     }
@@ -902,8 +962,8 @@ public class OMAGServerPlatformInstanceMap
      * @return OpenMetadataServerSecurityVerifier object - never null
      * @throws InvalidParameterException the server name is not known
      */
-    private static synchronized OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
-                                                                                                        String    serverName) throws InvalidParameterException
+    private static OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
+                                                                                           String    serverName) throws InvalidParameterException
     {
         final String  methodName = "getServerSecurityVerifierForPlatform";
 
@@ -1115,6 +1175,35 @@ public class OMAGServerPlatformInstanceMap
     }
 
 
+    /**
+     * Register a service whose initialization is deferred until its first request.  When a request for
+     * the service arrives and its instance is not registered, the initializer is called to start the service.
+     *
+     * @param serverName name of the server
+     * @param serviceName name of the service running on the server
+     * @param serviceInitializer routine that completes the initialization of the service
+     */
+    public void registerDeferredService(String                       serverName,
+                                        String                       serviceName,
+                                        OMAGServerServiceInitializer serviceInitializer)
+    {
+        OMAGServerPlatformInstanceMap.setDeferredServiceForPlatform(serverName, serviceName, serviceInitializer);
+    }
+
+
+    /**
+     * Remove a service whose initialization was deferred - typically because it is shutting down.
+     *
+     * @param serverName name of the server
+     * @param serviceName name of the service running on the server
+     */
+    public void unRegisterDeferredService(String   serverName,
+                                          String   serviceName)
+    {
+        OMAGServerPlatformInstanceMap.removeDeferredServiceForPlatform(serverName, serviceName);
+    }
+
+
     /**
      * Return the instance for this server.
      *
@@ -0,0 +1,25 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.multitenant;
+
+import org.odpi.openmetadata.commonservices.ffdc.exceptions.PropertyServerException;
+
+/**
+ * OMAGServerServiceInitializer is implemented by a service whose initialization has been deferred until
+ * it is first needed.  It is registered with the OMAGServerPlatformInstanceMap in place of the service's
+ * instance.  When a request arrives for the service before its instance is registered, the initializer is
+ * called to start the service.  The initialization registers the service's instance in the usual way.
+ */
+public interface OMAGServerServiceInitializer
+{
+    /**
+     * Complete the initialization of the service.  This may be called concurrently by many requests, and after
+     * the service has started, so the implementation needs to initialize the service at most once.
+     *
+     * @param userId calling user
+     * @param serviceOperationName calling method
+     * @throws PropertyServerException the service failed to start
+     */
+    void initializeDeferredService(String userId,
+                                   String serviceOperationName) throws PropertyServerException;
+}
@@ -0,0 +1,243 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.multitenant;
+
+import org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException;
+import org.odpi.openmetadata.commonservices.ffdc.exceptions.PropertyServerException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that the server instance map can be used by many threads at once without a lock on the lookups.
+ */
+public class TestOMAGServerPlatformInstanceMap
+{
+    private static final String userId          = "testUser";
+    private static final String stableService   = "Stable Service";
+    private static final String churnService    = "Churn Service";
+    private static final String operationName   = "testOperation";
+    private static final int    stableServers   = 4;
+    private static final int    churnThreads    = 4;
+    private static final int    readerThreads   = 4;
+    private static final int    churnIterations = 500;
+
+
+    /**
+     * Service instance that registers itself with the platform map.
+     */
+    private static class TestServiceInstance extends OMAGServerServiceInstance
+    {
+        TestServiceInstance(String serverName,
+                            String serviceName)
+        {
+            super(serverName, serviceName, 100);
+        }
+    }
+
+
+    /**
+     * Start a server and register an instance of a service for it.
+     *
+     * @param platformInstanceMap map under test
+     * @param serverName name of the server
+     * @param serviceName name of the service
+     * @return service instance
+     * @throws InvalidParameterException the server did not start
+     */
+    private OMAGServerServiceInstance startServer(OMAGServerPlatformInstanceMap platformInstanceMap,
+                                                  String                        serverName,
+                                                  String                        serviceName) throws InvalidParameterException
+    {
+        platformInstanceMap.startUpServerInstance(userId, serverName, null, null);
+
+        return new TestServiceInstance(serverName, serviceName);
+    }
+
+
+    /**
+     * Unregister the service and shutdown the server.
+     *
+     * @param platformInstanceMap map under test
+     * @param serverName name of the server
+     * @param serviceName name of the service
+     * @throws InvalidParameterException the server is not active
+     * @throws PropertyServerException the server still has services
+     */
+    private void stopServer(OMAGServerPlatformInstanceMap platformInstanceMap,
+                            String                        serverName,
+                            String                        serviceName) throws InvalidParameterException,
+                                                                              PropertyServerException
+    {
+        platformInstanceMap.removeServiceInstanceFromPlatform(serverName, serviceName);
+        platformInstanceMap.shutdownServerInstance(userId, serverName, operationName);
+    }
+
+
+    /**
+     * Some threads repeatedly start and stop their own servers while other threads look up services and list
+     * the servers.  The servers that stay up are always found, a server that has been started is always known
+     * (even while it moves between the active and inactive maps) and the server lists have no duplicates.
+     *
+     * @throws Exception problem with the test
+     */
+    @Test public void testConcurrentRegisterLookupAndRemove() throws Exception
+    {
+        OMAGServerPlatformInstanceMap   platformInstanceMap = new OMAGServerPlatformInstanceMap();
+        List<String>                    stableServerNames   = new ArrayList<>();
+        List<String>                    churnServerNames    = new ArrayList<>();
+        List<OMAGServerServiceInstance> stableInstances     = new ArrayList<>();
+        List<Throwable>                 errors              = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch                  startGate           = new CountDownLatch(1);
+        CountDownLatch                  churnComplete       = new CountDownLatch(churnThreads);
+        ExecutorService                 executor            = Executors.newFixedThreadPool(churnThreads + readerThreads);
+
+        for (int i = 0; i < stableServers; i++)
+        {
+            String serverName = "concurrencyStableServer" + i;
+
+            stableServerNames.add(serverName);
+            stableInstances.add(this.startServer(platformInstanceMap, serverName, stableService));
+        }
+
+        for (int i = 0; i < churnThreads; i++)
+        {
+            String serverName = "concurrencyChurnServer" + i;
+
+            churnServerNames.add(serverName);
+            this.startServer(platformInstanceMap, serverName, churnService);
+            this.stopServer(platformInstanceMap, serverName, churnService);
+        }
+
+        try
+        {
+            for (String churnServerName : churnServerNames)
+            {
+                executor.submit(() ->
+                {
+                    try
+                    {
+                        startGate.await();
+
+                        for (int iteration = 0; iteration < churnIterations; iteration++)
+                        {
+                            OMAGServerServiceInstance instance = this.startServer(platformInstanceMap, churnServerName, churnService);
+
+                            assertTrue(platformInstanceMap.isServerActive(userId, churnServerName));
+                            assertTrue(platformInstanceMap.getServiceInstance(userId, churnServerName, churnService, operationName) == instance);
+
+                            this.stopServer(platformInstanceMap, churnServerName, churnService);
+
+                            assertFalse(platformInstanceMap.isServerActive(userId, churnServerName));
+                        }
+                    }
+                    catch (Throwable error)
+                    {
+                        errors.add(error);
+                    }
+                    finally
+                    {
+                        churnComplete.countDown();
+                    }
+                });
+            }
+
+            for (int i = 0; i < readerThreads; i++)
+            {
+                executor.submit(() ->
+                {
+                    try
+                    {
+                        startGate.await();
+
+                        while (churnComplete.getCount() > 0)
+                        {
+                            for (int server = 0; server < stableServers; server++)
+                            {
+                                String serverName = stableServerNames.get(server);
+
+                                assertTrue(platformInstanceMap.getServiceInstance(userId, serverName, stableService, operationName) == stableInstances.get(server));
+                                assertTrue(platformInstanceMap.getServerSecurityVerifier(userId, serverName) != null);
+                            }
+
+                            for (String churnServerName : churnServerNames)
+                            {
+                                assertTrue(platformInstanceMap.isServerKnown(userId, churnServerName));
+
+                                try
+                                {
+                                    OMAGServerServiceInstance instance = platformInstanceMap.getServiceInstance(userId,
+                                                                                                                churnServerName,
+                                                                                                                churnService,
+                                                                                                                operationName);
+
+                                    assertTrue(instance instanceof TestServiceInstance);
+                                }
+                                catch (InvalidParameterException | PropertyServerException notRunning)
+                                {
+                                    /*
+                                     * The server or its service is stopped at the moment.
+                                     */
+                                }
+                            }
+
+                            List<String> activeServers = platformInstanceMap.getActiveServerList(userId);
+                            List<String> knownServers  = platformInstanceMap.getKnownServerList(userId);
+
+                            assertTrue(activeServers.containsAll(stableServerNames));
+                            assertTrue(knownServers.containsAll(stableServerNames));
+                            assertTrue(knownServers.containsAll(churnServerNames));
+                            assertEquals(new HashSet<>(knownServers).size(), knownServers.size());
+                        }
+                    }
+                    catch (Throwable error)
+                    {
+                        errors.add(error);
+                    }
+                });
+            }
+
+            startGate.countDown();
+            executor.shutdown();
+
+            assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+            assertTrue(errors.isEmpty(), "Errors: " + errors);
+
+            for (String churnServerName : churnServerNames)
+            {
+                assertTrue(platformInstanceMap.isServerKnown(userId, churnServerName));
+                assertFalse(platformInstanceMap.isServerActive(userId, churnServerName));
+                assertEquals(platformInstanceMap.getServerHistory(userId, churnServerName).size(), churnIterations + 1);
+            }
+
+            for (String stableServerName : stableServerNames)
+            {
+                assertTrue(platformInstanceMap.isServerActive(userId, stableServerName));
+                assertEquals(platformInstanceMap.getActiveServiceListForServer(userId, stableServerName),
+                             Collections.singletonList(stableService));
+            }
+        }
+        finally
+        {
+            startGate.countDown();
+            executor.shutdownNow();
+
+            for (String stableServerName : stableServerNames)
+            {
+                this.stopServer(platformInstanceMap, stableServerName, stableService);
+            }
+        }
+    }
+}
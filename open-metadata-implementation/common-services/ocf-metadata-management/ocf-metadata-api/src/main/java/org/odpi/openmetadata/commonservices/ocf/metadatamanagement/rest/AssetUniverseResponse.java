@@ -0,0 +1,449 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * AssetUniverseResponse extends the AssetResponse with the first page of each of the lists of
+ * elements attached to the asset.  It allows the AssetUniverse to be populated with a single call
+ * to the server.  A list is only returned if the asset has elements of that kind and they could be
+ * retrieved.  When a list is missing, the caller pages through the elements with the REST call
+ * for that kind of element.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AssetUniverseResponse extends AssetResponse
+{
+    private static final long    serialVersionUID = 1L;
+
+    private Date                        assetUpdateTime        = null;
+    private int                         maxElements            = 0;
+    private List<Certification>         certifications         = null;
+    private List<Connection>            connections            = null;
+    private List<ExternalIdentifier>    externalIdentifiers    = null;
+    private List<ExternalReference>     externalReferences     = null;
+    private List<License>               licenses               = null;
+    private List<Location>              knownLocations         = null;
+    private List<NoteLogResponse>       noteLogs               = null;
+    private List<RelatedAsset>          relatedAssets          = null;
+    private List<RelatedMediaReference> relatedMediaReferences = null;
+
+
+    /**
+     * Default constructor
+     */
+    public AssetUniverseResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public AssetUniverseResponse(AssetUniverseResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.assetUpdateTime        = template.getAssetUpdateTime();
+            this.maxElements            = template.getMaxElements();
+            this.certifications         = template.getCertifications();
+            this.connections            = template.getConnections();
+            this.externalIdentifiers    = template.getExternalIdentifiers();
+            this.externalReferences     = template.getExternalReferences();
+            this.licenses               = template.getLicenses();
+            this.knownLocations         = template.getKnownLocations();
+            this.noteLogs               = template.getNoteLogs();
+            this.relatedAssets          = template.getRelatedAssets();
+            this.relatedMediaReferences = template.getRelatedMediaReferences();
+        }
+    }
+
+
+    /**
+     * Return the time that the asset was last updated (or created if it has not been updated).
+     *
+     * @return date/time
+     */
+    public Date getAssetUpdateTime()
+    {
+        if (assetUpdateTime == null)
+        {
+            return null;
+        }
+        else
+        {
+            return new Date(assetUpdateTime.getTime());
+        }
+    }
+
+
+    /**
+     * Set up the time that the asset was last updated (or created if it has not been updated).
+     *
+     * @param assetUpdateTime date/time
+     */
+    public void setAssetUpdateTime(Date assetUpdateTime)
+    {
+        this.assetUpdateTime = assetUpdateTime;
+    }
+
+
+    /**
+     * Return the maximum number of elements returned in each list.
+     *
+     * @return page size
+     */
+    public int getMaxElements()
+    {
+        return maxElements;
+    }
+
+
+    /**
+     * Set up the maximum number of elements returned in each list.
+     *
+     * @param maxElements page size
+     */
+    public void setMaxElements(int maxElements)
+    {
+        this.maxElements = maxElements;
+    }
+
+
+    /**
+     * Return the first page of certifications for the asset.
+     *
+     * @return list of certifications
+     */
+    public List<Certification> getCertifications()
+    {
+        return this.copyList(certifications);
+    }
+
+
+    /**
+     * Set up the first page of certifications for the asset.
+     *
+     * @param certifications list of certifications
+     */
+    public void setCertifications(List<Certification> certifications)
+    {
+        this.certifications = certifications;
+    }
+
+
+    /**
+     * Return the first page of connections for the asset.
+     *
+     * @return list of connections
+     */
+    public List<Connection> getConnections()
+    {
+        return this.copyList(connections);
+    }
+
+
+    /**
+     * Set up the first page of connections for the asset.
+     *
+     * @param connections list of connections
+     */
+    public void setConnections(List<Connection> connections)
+    {
+        this.connections = connections;
+    }
+
+
+    /**
+     * Return the first page of external identifiers for the asset.
+     *
+     * @return list of external identifiers
+     */
+    public List<ExternalIdentifier> getExternalIdentifiers()
+    {
+        return this.copyList(externalIdentifiers);
+    }
+
+
+    /**
+     * Set up the first page of external identifiers for the asset.
+     *
+     * @param externalIdentifiers list of external identifiers
+     */
+    public void setExternalIdentifiers(List<ExternalIdentifier> externalIdentifiers)
+    {
+        this.externalIdentifiers = externalIdentifiers;
+    }
+
+
+    /**
+     * Return the first page of external references for the asset.
+     *
+     * @return list of external references
+     */
+    public List<ExternalReference> getExternalReferences()
+    {
+        return this.copyList(externalReferences);
+    }
+
+
+    /**
+     * Set up the first page of external references for the asset.
+     *
+     * @param externalReferences list of external references
+     */
+    public void setExternalReferences(List<ExternalReference> externalReferences)
+    {
+        this.externalReferences = externalReferences;
+    }
+
+
+    /**
+     * Return the first page of licenses for the asset.
+     *
+     * @return list of licenses
+     */
+    public List<License> getLicenses()
+    {
+        return this.copyList(licenses);
+    }
+
+
+    /**
+     * Set up the first page of licenses for the asset.
+     *
+     * @param licenses list of licenses
+     */
+    public void setLicenses(List<License> licenses)
+    {
+        this.licenses = licenses;
+    }
+
+
+    /**
+     * Return the first page of known locations for the asset.
+     *
+     * @return list of locations
+     */
+    public List<Location> getKnownLocations()
+    {
+        return this.copyList(knownLocations);
+    }
+
+
+    /**
+     * Set up the first page of known locations for the asset.
+     *
+     * @param knownLocations list of locations
+     */
+    public void setKnownLocations(List<Location> knownLocations)
+    {
+        this.knownLocations = knownLocations;
+    }
+
+
+    /**
+     * Return the first page of note logs for the asset.
+     *
+     * @return list of note logs with the count of their notes
+     */
+    public List<NoteLogResponse> getNoteLogs()
+    {
+        return this.copyList(noteLogs);
+    }
+
+
+    /**
+     * Set up the first page of note logs for the asset.
+     *
+     * @param noteLogs list of note logs with the count of their notes
+     */
+    public void setNoteLogs(List<NoteLogResponse> noteLogs)
+    {
+        this.noteLogs = noteLogs;
+    }
+
+
+    /**
+     * Return the first page of related assets for the asset.
+     *
+     * @return list of related assets
+     */
+    public List<RelatedAsset> getRelatedAssets()
+    {
+        return this.copyList(relatedAssets);
+    }
+
+
+    /**
+     * Set up the first page of related assets for the asset.
+     *
+     * @param relatedAssets list of related assets
+     */
+    public void setRelatedAssets(List<RelatedAsset> relatedAssets)
+    {
+        this.relatedAssets = relatedAssets;
+    }
+
+
+    /**
+     * Return the first page of related media references for the asset.
+     *
+     * @return list of related media references
+     */
+    public List<RelatedMediaReference> getRelatedMediaReferences()
+    {
+        return this.copyList(relatedMediaReferences);
+    }
+
+
+    /**
+     * Set up the first page of related media references for the asset.
+     *
+     * @param relatedMediaReferences list of related media references
+     */
+    public void setRelatedMediaReferences(List<RelatedMediaReference> relatedMediaReferences)
+    {
+        this.relatedMediaReferences = relatedMediaReferences;
+    }
+
+
+    /**
+     * Return a copy of the list, or null if the list is empty.
+     *
+     * @param list list to copy
+     * @param <T> type of element in the list
+     * @return new list or null
+     */
+    private <T> List<T> copyList(List<T> list)
+    {
+        if ((list == null) || (list.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(list);
+        }
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "AssetUniverseResponse{" +
+                "asset=" + getAsset() +
+                ", assetUpdateTime=" + assetUpdateTime +
+                ", maxElements=" + maxElements +
+                ", certifications=" + certifications +
+                ", connections=" + connections +
+                ", externalIdentifiers=" + externalIdentifiers +
+                ", externalReferences=" + externalReferences +
+                ", licenses=" + licenses +
+                ", knownLocations=" + knownLocations +
+                ", noteLogs=" + noteLogs +
+                ", relatedAssets=" + relatedAssets +
+                ", relatedMediaReferences=" + relatedMediaReferences +
+                ", certificationCount=" + getCertificationCount() +
+                ", commentCount=" + getCommentCount() +
+                ", connectionCount=" + getConnectionCount() +
+                ", externalIdentifierCount=" + getExternalIdentifierCount() +
+                ", externalReferencesCount=" + getExternalReferencesCount() +
+                ", informalTagCount=" + getInformalTagCount() +
+                ", licenseCount=" + getLicenseCount() +
+                ", likeCount=" + getLikeCount() +
+                ", knownLocationsCount=" + getKnownLocationsCount() +
+                ", noteLogsCount=" + getNoteLogsCount() +
+                ", ratingsCount=" + getRatingsCount() +
+                ", relatedAssetCount=" + getRelatedAssetCount() +
+                ", relatedMediaReferenceCount=" + getRelatedMediaReferenceCount() +
+                ", schemaType=" + getSchemaType() +
+                ", lastAttachment=" + getLastAttachment() +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
+                ", actionDescription='" + getActionDescription() + '\'' +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionErrorMessageId='" + getExceptionErrorMessageId() + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(getExceptionErrorMessageParameters()) +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        AssetUniverseResponse that = (AssetUniverseResponse) objectToCompare;
+        return getMaxElements() == that.getMaxElements() &&
+                Objects.equals(getAssetUpdateTime(), that.getAssetUpdateTime()) &&
+                Objects.equals(getCertifications(), that.getCertifications()) &&
+                Objects.equals(getConnections(), that.getConnections()) &&
+                Objects.equals(getExternalIdentifiers(), that.getExternalIdentifiers()) &&
+                Objects.equals(getExternalReferences(), that.getExternalReferences()) &&
+                Objects.equals(getLicenses(), that.getLicenses()) &&
+                Objects.equals(getKnownLocations(), that.getKnownLocations()) &&
+                Objects.equals(getNoteLogs(), that.getNoteLogs()) &&
+                Objects.equals(getRelatedAssets(), that.getRelatedAssets()) &&
+                Objects.equals(getRelatedMediaReferences(), that.getRelatedMediaReferences());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getAssetUpdateTime(), getMaxElements(), getCertifications(),
+                            getConnections(), getExternalIdentifiers(), getExternalReferences(), getLicenses(),
+                            getKnownLocations(), getNoteLogs(), getRelatedAssets(), getRelatedMediaReferences());
+    }
+}
@@ -0,0 +1,244 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.License;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Location;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that the AssetUniverseResponse bean can be cloned, compared, serialized, deserialized and printed as a String.
+ */
+public class AssetUniverseResponseTest
+{
+    private Map<String, Object> exceptionProperties = new HashMap<>();
+    private Asset               assetBean           = new Asset();
+    private Date                assetUpdateTime     = new Date(1234567);
+    private List<License>       licenses            = new ArrayList<>();
+    private List<Location>      knownLocations      = new ArrayList<>();
+
+
+    /**
+     * Default constructor
+     */
+    public AssetUniverseResponseTest()
+    {
+        License  license  = new License();
+        Location location = new Location();
+
+        assetBean.setGUID("TestGUID");
+        license.setGUID("TestLicenseGUID");
+        location.setGUID("TestLocationGUID");
+
+        licenses.add(license);
+        knownLocations.add(location);
+    }
+
+
+    /**
+     * Set up an example object to test.
+     *
+     * @return filled in object
+     */
+    private AssetUniverseResponse getTestObject()
+    {
+        AssetUniverseResponse testObject = new AssetUniverseResponse();
+
+        testObject.setExceptionClassName(NullPointerException.class.getName());
+        testObject.setExceptionErrorMessage("TestErrorMessage");
+        testObject.setExceptionSystemAction("TestSystemAction");
+        testObject.setExceptionUserAction("TestUserAction");
+
+        testObject.setRelatedHTTPCode(400);
+        testObject.setExceptionProperties(exceptionProperties);
+
+        testObject.setAsset(assetBean);
+        testObject.setAssetUpdateTime(assetUpdateTime);
+        testObject.setMaxElements(100);
+        testObject.setLicenseCount(1);
+        testObject.setLicenses(licenses);
+        testObject.setKnownLocationsCount(1);
+        testObject.setKnownLocations(knownLocations);
+
+        return testObject;
+    }
+
+
+    /**
+     * Validate that the object that comes out of the test has the same content as the original test object.
+     *
+     * @param resultObject object returned by the test
+     */
+    private void validateResultObject(AssetUniverseResponse resultObject)
+    {
+        assertTrue(resultObject.getExceptionClassName().equals(NullPointerException.class.getName()));
+        assertTrue(resultObject.getExceptionErrorMessage().equals("TestErrorMessage"));
+        assertTrue(resultObject.getExceptionSystemAction().equals("TestSystemAction"));
+        assertTrue(resultObject.getExceptionUserAction().equals("TestUserAction"));
+
+        assertTrue(resultObject.getRelatedHTTPCode() == 400);
+        assertTrue(resultObject.getExceptionProperties() == null);
+
+        assertTrue(resultObject.getAsset().equals(assetBean));
+        assertTrue(resultObject.getAssetUpdateTime().equals(assetUpdateTime));
+        assertTrue(resultObject.getMaxElements() == 100);
+        assertTrue(resultObject.getLicenseCount() == 1);
+        assertTrue(resultObject.getLicenses().equals(licenses));
+        assertTrue(resultObject.getKnownLocationsCount() == 1);
+        assertTrue(resultObject.getKnownLocations().equals(knownLocations));
+        assertTrue(resultObject.getCertifications() == null);
+        assertTrue(resultObject.getConnections() == null);
+        assertTrue(resultObject.getNoteLogs() == null);
+    }
+
+
+    /**
+     * Validate that the object is initialized properly
+     */
+    @Test public void testNullObject()
+    {
+        AssetUniverseResponse nullObject = new AssetUniverseResponse();
+
+        assertTrue(nullObject.getRelatedHTTPCode() == 200);
+        assertTrue(nullObject.getExceptionClassName() == null);
+        assertTrue(nullObject.getAsset() == null);
+        assertTrue(nullObject.getAssetUpdateTime() == null);
+        assertTrue(nullObject.getMaxElements() == 0);
+        assertTrue(nullObject.getCertifications() == null);
+        assertTrue(nullObject.getConnections() == null);
+        assertTrue(nullObject.getExternalIdentifiers() == null);
+        assertTrue(nullObject.getExternalReferences() == null);
+        assertTrue(nullObject.getLicenses() == null);
+        assertTrue(nullObject.getKnownLocations() == null);
+        assertTrue(nullObject.getNoteLogs() == null);
+        assertTrue(nullObject.getRelatedAssets() == null);
+        assertTrue(nullObject.getRelatedMediaReferences() == null);
+
+        nullObject = new AssetUniverseResponse(null);
+
+        assertTrue(nullObject.getRelatedHTTPCode() == 200);
+        assertTrue(nullObject.getExceptionClassName() == null);
+        assertTrue(nullObject.getAsset() == null);
+        assertTrue(nullObject.getAssetUpdateTime() == null);
+        assertTrue(nullObject.getLicenses() == null);
+
+        nullObject.setLicenses(new ArrayList<>());
+
+        assertTrue(nullObject.getLicenses() == null);
+    }
+
+
+    /**
+     * Validate that 2 different objects with the same content are evaluated as equal.
+     * Also that different objects are considered not equal.
+     */
+    @Test public void testEquals()
+    {
+        assertFalse(getTestObject().equals(null));
+        assertFalse(getTestObject().equals("DummyString"));
+        assertTrue(getTestObject().equals(getTestObject()));
+
+        AssetUniverseResponse sameObject = getTestObject();
+        assertTrue(sameObject.equals(sameObject));
+
+        AssetUniverseResponse differentObject = getTestObject();
+        differentObject.setLicenses(null);
+        assertFalse(getTestObject().equals(differentObject));
+
+        AssetResponse assetResponse = new AssetResponse(getTestObject());
+        assertFalse(getTestObject().equals(assetResponse));
+    }
+
+
+    /**
+     *  Validate that 2 different objects with the same content have the same hash code.
+     */
+    @Test public void testHashCode()
+    {
+        assertTrue(getTestObject().hashCode() == getTestObject().hashCode());
+    }
+
+
+    /**
+     *  Validate that an object cloned from another object has the same content as the original
+     */
+    @Test public void testClone()
+    {
+        validateResultObject(new AssetUniverseResponse(getTestObject()));
+    }
+
+
+    /**
+     * Validate that an object generated from a JSON String has the same content as the object used to
+     * create the JSON String.
+     */
+    @Test public void testJSON()
+    {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String       jsonString   = null;
+
+        /*
+         * This class
+         */
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(getTestObject());
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateResultObject(objectMapper.readValue(jsonString, AssetUniverseResponse.class));
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        /*
+         * Through superclass
+         */
+        OCFOMASAPIResponse superObject = getTestObject();
+
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(superObject);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateResultObject((AssetUniverseResponse) objectMapper.readValue(jsonString, OCFOMASAPIResponse.class));
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+
+
+    /**
+     * Test that toString is overridden.
+     */
+    @Test public void testToString()
+    {
+        assertTrue(getTestObject().toString().contains("AssetUniverseResponse"));
+    }
+}
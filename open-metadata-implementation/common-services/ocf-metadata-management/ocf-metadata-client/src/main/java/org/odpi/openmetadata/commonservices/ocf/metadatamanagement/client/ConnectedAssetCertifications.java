@@ -32,6 +32,7 @@ class ConnectedAssetCertifications extends AssetCertifications
     private String                 assetGUID;
     private ConnectedAssetUniverse connectedAsset;
     private OCFRESTClient          restClient;
+    private List<Certification>    firstPage = null;
 
 
 
@@ -90,10 +91,23 @@ class ConnectedAssetCertifications extends AssetCertifications
             this.assetGUID      = template.assetGUID;
             this.connectedAsset = parentAsset;
             this.restClient     = template.restClient;
+            this.firstPage      = template.firstPage;
         }
     }
 
 
+    /**
+     * Set up the first page of certifications that was returned with the asset.  It is used in place of
+     * the first call to the server.
+     *
+     * @param firstPage list of certifications
+     */
+    void setFirstPage(List<Certification> firstPage)
+    {
+        this.firstPage = firstPage;
+    }
+
+
     /**
      * Clones this iterator.
      *
@@ -142,20 +156,26 @@ class ConnectedAssetCertifications extends AssetCertifications
 
         try
         {
-            CertificationsResponse restResult = restClient.callCertificationsGetRESTCall(methodName,
-                                                                                         omasServerURL + urlTemplate,
-                                                                                         serverName,
-                                                                                         serviceName,
-                                                                                         userId,
-                                                                                         assetGUID,
-                                                                                         cacheStartPointer,
-                                                                                         maximumSize);
-
-            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
-            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
-            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
-
-            List<Certification>  beans = restResult.getList();
+            List<Certification>  beans = firstPage;
+
+            if ((cacheStartPointer != 0) || (beans == null))
+            {
+                CertificationsResponse restResult = restClient.callCertificationsGetRESTCall(methodName,
+                                                                                             omasServerURL + urlTemplate,
+                                                                                             serverName,
+                                                                                             serviceName,
+                                                                                             userId,
+                                                                                             assetGUID,
+                                                                                             cacheStartPointer,
+                                                                                             maximumSize);
+
+                restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+                restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+                restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+
+                beans = restResult.getList();
+            }
+
             if ((beans == null) || (beans.isEmpty()))
             {
                 return null;
@@ -32,6 +32,7 @@ public class ConnectedAssetConnections extends AssetConnections
     private String                 assetGUID;
     private ConnectedAssetUniverse connectedAsset;
     private OCFRESTClient          restClient;
+    private List<Connection>       firstPage = null;
 
 
 
@@ -90,10 +91,23 @@ public class ConnectedAssetConnections extends AssetConnections
             this.assetGUID      = template.assetGUID;
             this.connectedAsset = parentAsset;
             this.restClient     = template.restClient;
+            this.firstPage      = template.firstPage;
         }
     }
 
 
+    /**
+     * Set up the first page of connections that was returned with the asset.  It is used in place of
+     * the first call to the server.
+     *
+     * @param firstPage list of connections
+     */
+    void setFirstPage(List<Connection> firstPage)
+    {
+        this.firstPage = firstPage;
+    }
+
+
     /**
      * Clones this iterator.
      *
@@ -141,20 +155,26 @@ public class ConnectedAssetConnections extends AssetConnections
 
         try
         {
-            ConnectionsResponse restResult = restClient.callConnectionsGetRESTCall(methodName,
-                                                                                   omasServerURL + urlTemplate,
-                                                                                   serverName,
-                                                                                   serviceName,
-                                                                                   userId,
-                                                                                   assetGUID,
-                                                                                   cacheStartPointer,
-                                                                                   maximumSize);
-
-            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
-            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
-            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
-
-            List<Connection>  beans = restResult.getList();
+            List<Connection>  beans = firstPage;
+
+            if ((cacheStartPointer != 0) || (beans == null))
+            {
+                ConnectionsResponse restResult = restClient.callConnectionsGetRESTCall(methodName,
+                                                                                       omasServerURL + urlTemplate,
+                                                                                       serverName,
+                                                                                       serviceName,
+                                                                                       userId,
+                                                                                       assetGUID,
+                                                                                       cacheStartPointer,
+                                                                                       maximumSize);
+
+                restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+                restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+                restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+
+                beans = restResult.getList();
+            }
+
             if ((beans == null) || (beans.isEmpty()))
             {
                 return null;
@@ -32,6 +32,7 @@ public class ConnectedAssetExternalIdentifiers extends AssetExternalIdentifiers
     private String                 assetGUID;
     private ConnectedAssetUniverse connectedAsset;
     private OCFRESTClient          restClient;
+    private List<ExternalIdentifier> firstPage = null;
 
 
 
@@ -90,10 +91,23 @@ public class ConnectedAssetExternalIdentifiers extends AssetExternalIdentifiers
             this.assetGUID      = template.assetGUID;
             this.connectedAsset = parentAsset;
             this.restClient     = template.restClient;
+            this.firstPage      = template.firstPage;
         }
     }
 
 
+    /**
+     * Set up the first page of external identifiers that was returned with the asset.  It is used in place of
+     * the first call to the server.
+     *
+     * @param firstPage list of external identifiers
+     */
+    void setFirstPage(List<ExternalIdentifier> firstPage)
+    {
+        this.firstPage = firstPage;
+    }
+
+
     /**
      * Clones this iterator.
      *
@@ -141,20 +155,26 @@ public class ConnectedAssetExternalIdentifiers extends AssetExternalIdentifiers
 
         try
         {
-            ExternalIdentifiersResponse restResult = restClient.callExternalIdentifiersGetRESTCall(methodName,
-                                                                                                   omasServerURL + urlTemplate,
-                                                                                                   serverName,
-                                                                                                   serviceName,
-                                                                                                   userId,
-                                                                                                   assetGUID,
-                                                                                                   cacheStartPointer,
-                                                                                                   maximumSize);
-
-            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
-            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
-            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
-
-            List<ExternalIdentifier>  beans = restResult.getList();
+            List<ExternalIdentifier>  beans = firstPage;
+
+            if ((cacheStartPointer != 0) || (beans == null))
+            {
+                ExternalIdentifiersResponse restResult = restClient.callExternalIdentifiersGetRESTCall(methodName,
+                                                                                                       omasServerURL + urlTemplate,
+                                                                                                       serverName,
+                                                                                                       serviceName,
+                                                                                                       userId,
+                                                                                                       assetGUID,
+                                                                                                       cacheStartPointer,
+                                                                                                       maximumSize);
+
+                restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+                restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+                restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+
+                beans = restResult.getList();
+            }
+
             if ((beans == null) || (beans.isEmpty()))
             {
                 return null;
@@ -32,6 +32,7 @@ public class ConnectedAssetExternalReferences extends AssetExternalReferences
     private String                 assetGUID;
     private ConnectedAssetUniverse connectedAsset;
     private OCFRESTClient          restClient;
+    private List<ExternalReference> firstPage = null;
 
 
 
@@ -90,10 +91,23 @@ public class ConnectedAssetExternalReferences extends AssetExternalReferences
             this.assetGUID      = template.assetGUID;
             this.connectedAsset = parentAsset;
             this.restClient     = template.restClient;
+            this.firstPage      = template.firstPage;
         }
     }
 
 
+    /**
+     * Set up the first page of external references that was returned with the asset.  It is used in place of
+     * the first call to the server.
+     *
+     * @param firstPage list of external references
+     */
+    void setFirstPage(List<ExternalReference> firstPage)
+    {
+        this.firstPage = firstPage;
+    }
+
+
     /**
      * Clones this iterator.
      *
@@ -141,20 +155,26 @@ public class ConnectedAssetExternalReferences extends AssetExternalReferences
 
         try
         {
-            ExternalReferencesResponse restResult = restClient.callExternalReferencesGetRESTCall(methodName,
-                                                                                                 omasServerURL + urlTemplate,
-                                                                                                 serverName,
-                                                                                                 serviceName,
-                                                                                                 userId,
-                                                                                                 assetGUID,
-                                                                                                 cacheStartPointer,
-                                                                                                 maximumSize);
-
-            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
-            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
-            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
-
-            List<ExternalReference>  beans = restResult.getList();
+            List<ExternalReference>  beans = firstPage;
+
+            if ((cacheStartPointer != 0) || (beans == null))
+            {
+                ExternalReferencesResponse restResult = restClient.callExternalReferencesGetRESTCall(methodName,
+                                                                                                     omasServerURL + urlTemplate,
+                                                                                                     serverName,
+                                                                                                     serviceName,
+                                                                                                     userId,
+                                                                                                     assetGUID,
+                                                                                                     cacheStartPointer,
+                                                                                                     maximumSize);
+
+                restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+                restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+                restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+
+                beans = restResult.getList();
+            }
+
             if ((beans == null) || (beans.isEmpty()))
             {
                 return null;
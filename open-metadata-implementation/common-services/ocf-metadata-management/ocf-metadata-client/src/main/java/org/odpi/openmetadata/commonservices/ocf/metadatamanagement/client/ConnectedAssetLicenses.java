@@ -32,6 +32,7 @@ public class ConnectedAssetLicenses extends AssetLicenses
     private String                 assetGUID;
     private ConnectedAssetUniverse connectedAsset;
     private OCFRESTClient          restClient;
+    private List<License>          firstPage = null;
 
 
 
@@ -90,10 +91,23 @@ public class ConnectedAssetLicenses extends AssetLicenses
             this.assetGUID      = template.assetGUID;
             this.connectedAsset = parentAsset;
             this.restClient     = template.restClient;
+            this.firstPage      = template.firstPage;
         }
     }
 
 
+    /**
+     * Set up the first page of licenses that was returned with the asset.  It is used in place of
+     * the first call to the server.
+     *
+     * @param firstPage list of licenses
+     */
+    void setFirstPage(List<License> firstPage)
+    {
+        this.firstPage = firstPage;
+    }
+
+
     /**
      * Clones this iterator.
      *
@@ -141,20 +155,26 @@ public class ConnectedAssetLicenses extends AssetLicenses
 
         try
         {
-            LicensesResponse restResult = restClient.callLicensesGetRESTCall(methodName,
-                                                                             omasServerURL + urlTemplate,
-                                                                             serverName,
-                                                                             serviceName,
-                                                                             userId,
-                                                                             assetGUID,
-                                                                             cacheStartPointer,
-                                                                             maximumSize);
-
-            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
-            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
-            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
-
-            List<License>  beans = restResult.getList();
+            List<License>  beans = firstPage;
+
+            if ((cacheStartPointer != 0) || (beans == null))
+            {
+                LicensesResponse restResult = restClient.callLicensesGetRESTCall(methodName,
+                                                                                 omasServerURL + urlTemplate,
+                                                                                 serverName,
+                                                                                 serviceName,
+                                                                                 userId,
+                                                                                 assetGUID,
+                                                                                 cacheStartPointer,
+                                                                                 maximumSize);
+
+                restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+                restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+                restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+
+                beans = restResult.getList();
+            }
+
             if ((beans == null) || (beans.isEmpty()))
             {
                 return null;
@@ -32,6 +32,7 @@ public class ConnectedAssetLocations extends AssetLocations
     private String                 assetGUID;
     private ConnectedAssetUniverse connectedAsset;
     private OCFRESTClient          restClient;
+    private List<Location>         firstPage = null;
 
 
     /**
@@ -89,10 +90,23 @@ public class ConnectedAssetLocations extends AssetLocations
             this.assetGUID      = template.assetGUID;
             this.connectedAsset = parentAsset;
             this.restClient     = template.restClient;
+            this.firstPage      = template.firstPage;
         }
     }
 
 
+    /**
+     * Set up the first page of known locations that was returned with the asset.  It is used in place of
+     * the first call to the server.
+     *
+     * @param firstPage list of known locations
+     */
+    void setFirstPage(List<Location> firstPage)
+    {
+        this.firstPage = firstPage;
+    }
+
+
     /**
      * Clones this iterator.
      *
@@ -140,20 +154,26 @@ public class ConnectedAssetLocations extends AssetLocations
 
         try
         {
-            LocationsResponse restResult = restClient.callLocationsGetRESTCall(methodName,
-                                                                               omasServerURL + urlTemplate,
-                                                                               serverName,
-                                                                               serviceName,
-                                                                               userId,
-                                                                               assetGUID,
-                                                                               cacheStartPointer,
-                                                                               maximumSize);
-
-            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
-            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
-            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
-
-            List<Location>  beans = restResult.getList();
+            List<Location>  beans = firstPage;
+
+            if ((cacheStartPointer != 0) || (beans == null))
+            {
+                LocationsResponse restResult = restClient.callLocationsGetRESTCall(methodName,
+                                                                                   omasServerURL + urlTemplate,
+                                                                                   serverName,
+                                                                                   serviceName,
+                                                                                   userId,
+                                                                                   assetGUID,
+                                                                                   cacheStartPointer,
+                                                                                   maximumSize);
+
+                restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+                restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+                restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+
+                beans = restResult.getList();
+            }
+
             if ((beans == null) || (beans.isEmpty()))
             {
                 return null;
@@ -32,6 +32,7 @@ public class ConnectedAssetNoteLogs extends AssetNoteLogs
     private String                 assetGUID;
     private ConnectedAssetUniverse connectedAsset;
     private OCFRESTClient          restClient;
+    private List<NoteLogResponse>  firstPage = null;
 
 
 
@@ -90,10 +91,23 @@ public class ConnectedAssetNoteLogs extends AssetNoteLogs
             this.assetGUID      = template.assetGUID;
             this.connectedAsset = parentAsset;
             this.restClient     = template.restClient;
+            this.firstPage      = template.firstPage;
         }
     }
 
 
+    /**
+     * Set up the first page of note logs that was returned with the asset.  It is used in place of
+     * the first call to the server.
+     *
+     * @param firstPage list of note logs
+     */
+    void setFirstPage(List<NoteLogResponse> firstPage)
+    {
+        this.firstPage = firstPage;
+    }
+
+
     /**
      * Clones this iterator.
      *
@@ -141,20 +155,26 @@ public class ConnectedAssetNoteLogs extends AssetNoteLogs
 
         try
         {
-            NoteLogsResponse restResult = restClient.callNoteLogsGetRESTCall(methodName,
-                                                                             omasServerURL + urlTemplate,
-                                                                             serverName,
-                                                                             serviceName,
-                                                                             userId,
-                                                                             assetGUID,
-                                                                             cacheStartPointer,
-                                                                             maximumSize);
-
-            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
-            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
-            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
-
-            List<NoteLogResponse> noteLogResponses = restResult.getList();
+            List<NoteLogResponse> noteLogResponses = firstPage;
+
+            if ((cacheStartPointer != 0) || (noteLogResponses == null))
+            {
+                NoteLogsResponse restResult = restClient.callNoteLogsGetRESTCall(methodName,
+                                                                                 omasServerURL + urlTemplate,
+                                                                                 serverName,
+                                                                                 serviceName,
+                                                                                 userId,
+                                                                                 assetGUID,
+                                                                                 cacheStartPointer,
+                                                                                 maximumSize);
+
+                restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+                restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+                restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+
+                noteLogResponses = restResult.getList();
+            }
+
             if ((noteLogResponses == null) || (noteLogResponses.isEmpty()))
             {
                 return null;
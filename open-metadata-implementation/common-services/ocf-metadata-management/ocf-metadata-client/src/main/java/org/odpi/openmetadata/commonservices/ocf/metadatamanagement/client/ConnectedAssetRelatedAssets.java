@@ -32,6 +32,7 @@ public class ConnectedAssetRelatedAssets extends AssetRelatedAssets
     private String                 assetGUID;
     private ConnectedAssetUniverse connectedAsset;
     private OCFRESTClient          restClient;
+    private List<RelatedAsset>     firstPage = null;
 
 
 
@@ -90,10 +91,23 @@ public class ConnectedAssetRelatedAssets extends AssetRelatedAssets
             this.assetGUID      = template.assetGUID;
             this.connectedAsset = parentAsset;
             this.restClient     = template.restClient;
+            this.firstPage      = template.firstPage;
         }
     }
 
 
+    /**
+     * Set up the first page of related assets that was returned with the asset.  It is used in place of
+     * the first call to the server.
+     *
+     * @param firstPage list of related assets
+     */
+    void setFirstPage(List<RelatedAsset> firstPage)
+    {
+        this.firstPage = firstPage;
+    }
+
+
     /**
      * Clones this iterator.
      *
@@ -141,20 +155,26 @@ public class ConnectedAssetRelatedAssets extends AssetRelatedAssets
 
         try
         {
-            RelatedAssetsResponse restResult = restClient.callRelatedAssetsGetRESTCall(methodName,
-                                                                                       omasServerURL + urlTemplate,
-                                                                                       serverName,
-                                                                                       serviceName,
-                                                                                       userId,
-                                                                                       assetGUID,
-                                                                                       cacheStartPointer,
-                                                                                       maximumSize);
-
-            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
-            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
-            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
-
-            List<RelatedAsset> beans = restResult.getList();
+            List<RelatedAsset> beans = firstPage;
+
+            if ((cacheStartPointer != 0) || (beans == null))
+            {
+                RelatedAssetsResponse restResult = restClient.callRelatedAssetsGetRESTCall(methodName,
+                                                                                           omasServerURL + urlTemplate,
+                                                                                           serverName,
+                                                                                           serviceName,
+                                                                                           userId,
+                                                                                           assetGUID,
+                                                                                           cacheStartPointer,
+                                                                                           maximumSize);
+
+                restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+                restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+                restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+
+                beans = restResult.getList();
+            }
+
             if ((beans == null) || (beans.isEmpty()))
             {
                 return null;
@@ -32,6 +32,7 @@ public class ConnectedAssetRelatedMediaReferences extends AssetRelatedMediaRefer
     private String                 assetGUID;
     private ConnectedAssetUniverse connectedAsset;
     private OCFRESTClient          restClient;
+    private List<RelatedMediaReference> firstPage = null;
 
     private RESTExceptionHandler restExceptionHandler = new RESTExceptionHandler();
 
@@ -91,10 +92,23 @@ public class ConnectedAssetRelatedMediaReferences extends AssetRelatedMediaRefer
             this.assetGUID      = template.assetGUID;
             this.connectedAsset = parentAsset;
             this.restClient     = template.restClient;
+            this.firstPage      = template.firstPage;
         }
     }
 
 
+    /**
+     * Set up the first page of related media references that was returned with the asset.  It is used in place of
+     * the first call to the server.
+     *
+     * @param firstPage list of related media references
+     */
+    void setFirstPage(List<RelatedMediaReference> firstPage)
+    {
+        this.firstPage = firstPage;
+    }
+
+
     /**
      * Clones this iterator.
      *
@@ -141,20 +155,26 @@ public class ConnectedAssetRelatedMediaReferences extends AssetRelatedMediaRefer
 
         try
         {
-            RelatedMediaReferencesResponse restResult = restClient.callRelatedMediaReferencesGetRESTCall(methodName,
-                                                                                                         omasServerURL + urlTemplate,
-                                                                                                         serverName,
-                                                                                                         serviceName,
-                                                                                                         userId,
-                                                                                                         assetGUID,
-                                                                                                         cacheStartPointer,
-                                                                                                         maximumSize);
-
-            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
-            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
-            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
-
-            List<RelatedMediaReference>  beans = restResult.getList();
+            List<RelatedMediaReference>  beans = firstPage;
+
+            if ((cacheStartPointer != 0) || (beans == null))
+            {
+                RelatedMediaReferencesResponse restResult = restClient.callRelatedMediaReferencesGetRESTCall(methodName,
+                                                                                                             omasServerURL + urlTemplate,
+                                                                                                             serverName,
+                                                                                                             serviceName,
+                                                                                                             userId,
+                                                                                                             assetGUID,
+                                                                                                             cacheStartPointer,
+                                                                                                             maximumSize);
+
+                restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
+                restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
+                restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+
+                beans = restResult.getList();
+            }
+
             if ((beans == null) || (beans.isEmpty()))
             {
                 return null;
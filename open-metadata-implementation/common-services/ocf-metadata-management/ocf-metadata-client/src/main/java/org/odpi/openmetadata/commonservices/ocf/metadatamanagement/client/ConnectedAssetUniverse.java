@@ -4,7 +4,7 @@ package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.client;
 
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
-import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.AssetResponse;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.AssetUniverseResponse;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
@@ -58,8 +58,8 @@ public class ConnectedAssetUniverse extends AssetUniverse
     {
         super();
 
-        OCFRESTClient restClient    = new OCFRESTClient(remoteServerName, omasServerURL);
-        AssetResponse assetResponse = this.getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+        OCFRESTClient         restClient    = new OCFRESTClient(remoteServerName, omasServerURL);
+        AssetUniverseResponse assetResponse = this.getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, null);
 
         this.processAssetResponse(serviceName,
                                   remoteServerName,
@@ -101,9 +101,8 @@ public class ConnectedAssetUniverse extends AssetUniverse
     {
         super();
 
-        OCFRESTClient
-                      restClient    = new OCFRESTClient(remoteServerName, omasServerURL, localServerUserId, localServerPassword);
-        AssetResponse assetResponse = this.getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+        OCFRESTClient         restClient    = new OCFRESTClient(remoteServerName, omasServerURL, localServerUserId, localServerPassword);
+        AssetUniverseResponse assetResponse = this.getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, null);
 
         this.processAssetResponse(serviceName,
                                   remoteServerName,
@@ -140,7 +139,7 @@ public class ConnectedAssetUniverse extends AssetUniverse
     {
         super();
 
-        AssetResponse assetResponse = this.getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+        AssetUniverseResponse assetResponse = this.getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, null);
 
         this.processAssetResponse(serviceName,
                                   remoteServerName,
@@ -179,8 +178,8 @@ public class ConnectedAssetUniverse extends AssetUniverse
     {
         super();
 
-        OCFRESTClient restClient    = new OCFRESTClient(remoteServerName, omasServerURL);
-        AssetResponse assetResponse = this.getConnectedAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
+        OCFRESTClient         restClient    = new OCFRESTClient(remoteServerName, omasServerURL);
+        AssetUniverseResponse assetResponse = this.getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
 
         this.processAssetResponse(serviceName,
                                   remoteServerName,
@@ -223,11 +222,11 @@ public class ConnectedAssetUniverse extends AssetUniverse
     {
         super();
 
-        OCFRESTClient restClient    = new OCFRESTClient(remoteServerName,
-                                                        omasServerURL,
-                                                        localServerUserId,
-                                                        localServerPassword);
-        AssetResponse assetResponse = this.getConnectedAssetSummary(serviceName,
+        OCFRESTClient         restClient    = new OCFRESTClient(remoteServerName,
+                                                                omasServerURL,
+                                                                localServerUserId,
+                                                                localServerPassword);
+        AssetUniverseResponse assetResponse = this.getAssetUniverse(serviceName,
                                                                     remoteServerName,
                                                                     omasServerURL,
                                                                     restClient,
@@ -246,7 +245,8 @@ public class ConnectedAssetUniverse extends AssetUniverse
 
 
     /**
-     * Extract the returned properties from AssetResponse and set up the superclass.
+     * Extract the returned properties from AssetUniverseResponse and set up the superclass.  The iterators
+     * for the attached elements start with the first page of elements returned in the response.
      *
      * @param serviceName calling service
      * @param remoteServerName server to call.
@@ -254,108 +254,129 @@ public class ConnectedAssetUniverse extends AssetUniverse
      * @param userId userId of calling user.
      * @param assetGUID unique identifier of the asset.
      * @param restClient client to issue REST call.
-     * @param assetResponse response from the server covering the basic asset properties and the
-     *                      counts of objects attached to it.
+     * @param assetResponse response from the server covering the basic asset properties, the
+     *                      counts of objects attached to it and the first page of these objects.
      */
-    private void  processAssetResponse(String           serviceName,
-                                       String           remoteServerName,
-                                       String           omasServerURL,
-                                       String           userId,
-                                       String           assetGUID,
-                                       OCFRESTClient    restClient,
-                                       AssetResponse    assetResponse)
+    private void  processAssetResponse(String                serviceName,
+                                       String                remoteServerName,
+                                       String                omasServerURL,
+                                       String                userId,
+                                       String                assetGUID,
+                                       OCFRESTClient         restClient,
+                                       AssetUniverseResponse assetResponse)
     {
         super.setAssetBean(assetResponse.getAsset());
 
         if (assetResponse.getExternalIdentifierCount() > 0)
         {
-            super.externalIdentifiers = new ConnectedAssetExternalIdentifiers(serviceName,
-                                                                              remoteServerName,
-                                                                              userId,
-                                                                              omasServerURL,
-                                                                              assetGUID,
-                                                                              this,
-                                                                              assetResponse.getExternalIdentifierCount(),
-                                                                              MAX_CACHE_SIZE,
-                                                                              restClient);
+            ConnectedAssetExternalIdentifiers externalIdentifiers = new ConnectedAssetExternalIdentifiers(serviceName,
+                                                                                                          remoteServerName,
+                                                                                                          userId,
+                                                                                                          omasServerURL,
+                                                                                                          assetGUID,
+                                                                                                          this,
+                                                                                                          assetResponse.getExternalIdentifierCount(),
+                                                                                                          MAX_CACHE_SIZE,
+                                                                                                          restClient);
+
+            externalIdentifiers.setFirstPage(assetResponse.getExternalIdentifiers());
+            super.externalIdentifiers = externalIdentifiers;
         }
 
         if (assetResponse.getRelatedMediaReferenceCount() > 0)
         {
-            super.relatedMediaReferences = new ConnectedAssetRelatedMediaReferences(serviceName,
-                                                                                    remoteServerName,
-                                                                                    userId,
-                                                                                    omasServerURL,
-                                                                                    assetGUID,
-                                                                                    this,
-                                                                                    assetResponse.getRelatedMediaReferenceCount(),
-                                                                                    MAX_CACHE_SIZE,
-                                                                                    restClient);
+            ConnectedAssetRelatedMediaReferences relatedMediaReferences = new ConnectedAssetRelatedMediaReferences(serviceName,
+                                                                                                                   remoteServerName,
+                                                                                                                   userId,
+                                                                                                                   omasServerURL,
+                                                                                                                   assetGUID,
+                                                                                                                   this,
+                                                                                                                   assetResponse.getRelatedMediaReferenceCount(),
+                                                                                                                   MAX_CACHE_SIZE,
+                                                                                                                   restClient);
+
+            relatedMediaReferences.setFirstPage(assetResponse.getRelatedMediaReferences());
+            super.relatedMediaReferences = relatedMediaReferences;
         }
 
         if (assetResponse.getNoteLogsCount() > 0)
         {
-            super.noteLogs = new ConnectedAssetNoteLogs(serviceName,
-                                                        remoteServerName,
-                                                        userId,
-                                                        omasServerURL,
-                                                        assetGUID,
-                                                        this,
-                                                        assetResponse.getNoteLogsCount(),
-                                                        MAX_CACHE_SIZE,
-                                                        restClient);
+            ConnectedAssetNoteLogs noteLogs = new ConnectedAssetNoteLogs(serviceName,
+                                                                         remoteServerName,
+                                                                         userId,
+                                                                         omasServerURL,
+                                                                         assetGUID,
+                                                                         this,
+                                                                         assetResponse.getNoteLogsCount(),
+                                                                         MAX_CACHE_SIZE,
+                                                                         restClient);
+
+            noteLogs.setFirstPage(assetResponse.getNoteLogs());
+            super.noteLogs = noteLogs;
         }
 
         if (assetResponse.getExternalReferencesCount() > 0)
         {
-            super.externalReferences = new ConnectedAssetExternalReferences(serviceName,
-                                                                            remoteServerName,
-                                                                            userId,
-                                                                            omasServerURL,
-                                                                            assetGUID,
-                                                                            this,
-                                                                            assetResponse.getExternalReferencesCount(),
-                                                                            MAX_CACHE_SIZE,
-                                                                            restClient);
+            ConnectedAssetExternalReferences externalReferences = new ConnectedAssetExternalReferences(serviceName,
+                                                                                                       remoteServerName,
+                                                                                                       userId,
+                                                                                                       omasServerURL,
+                                                                                                       assetGUID,
+                                                                                                       this,
+                                                                                                       assetResponse.getExternalReferencesCount(),
+                                                                                                       MAX_CACHE_SIZE,
+                                                                                                       restClient);
+
+            externalReferences.setFirstPage(assetResponse.getExternalReferences());
+            super.externalReferences = externalReferences;
         }
 
         if (assetResponse.getConnectionCount() > 0)
         {
-            super.connections = new ConnectedAssetConnections(serviceName,
-                                                              remoteServerName,
-                                                              userId,
-                                                              omasServerURL,
-                                                              assetGUID,
-                                                              this,
-                                                              assetResponse.getConnectionCount(),
-                                                              MAX_CACHE_SIZE,
-                                                              restClient);
+            ConnectedAssetConnections connections = new ConnectedAssetConnections(serviceName,
+                                                                                  remoteServerName,
+                                                                                  userId,
+                                                                                  omasServerURL,
+                                                                                  assetGUID,
+                                                                                  this,
+                                                                                  assetResponse.getConnectionCount(),
+                                                                                  MAX_CACHE_SIZE,
+                                                                                  restClient);
+
+            connections.setFirstPage(assetResponse.getConnections());
+            super.connections = connections;
         }
 
         if (assetResponse.getLicenseCount() > 0)
         {
-            super.licenses = new ConnectedAssetLicenses(serviceName,
-                                                        remoteServerName,
-                                                        userId,
-                                                        omasServerURL,
-                                                        assetGUID,
-                                                        this,
-                                                        assetResponse.getLicenseCount(),
-                                                        MAX_CACHE_SIZE,
-                                                        restClient);
+            ConnectedAssetLicenses licenses = new ConnectedAssetLicenses(serviceName,
+                                                                         remoteServerName,
+                                                                         userId,
+                                                                         omasServerURL,
+                                                                         assetGUID,
+                                                                         this,
+                                                                         assetResponse.getLicenseCount(),
+                                                                         MAX_CACHE_SIZE,
+                                                                         restClient);
+
+            licenses.setFirstPage(assetResponse.getLicenses());
+            super.licenses = licenses;
         }
 
         if (assetResponse.getCertificationCount() > 0)
         {
-            super.certifications = new ConnectedAssetCertifications(serviceName,
-                                                                    remoteServerName,
-                                                                    userId,
-                                                                    omasServerURL,
-                                                                    assetGUID,
-                                                                    this,
-                                                                    assetResponse.getCertificationCount(),
-                                                                    MAX_CACHE_SIZE,
-                                                                    restClient);
+            ConnectedAssetCertifications certifications = new ConnectedAssetCertifications(serviceName,
+                                                                                           remoteServerName,
+                                                                                           userId,
+                                                                                           omasServerURL,
+                                                                                           assetGUID,
+                                                                                           this,
+                                                                                           assetResponse.getCertificationCount(),
+                                                                                           MAX_CACHE_SIZE,
+                                                                                           restClient);
+
+            certifications.setFirstPage(assetResponse.getCertifications());
+            super.certifications = certifications;
         }
 
         super.feedback = new ConnectedAssetFeedback(serviceName,
@@ -373,15 +394,18 @@ public class ConnectedAssetUniverse extends AssetUniverse
 
         if (assetResponse.getKnownLocationsCount() > 0)
         {
-            super.knownLocations = new ConnectedAssetLocations(serviceName,
-                                                               remoteServerName,
-                                                               userId,
-                                                               omasServerURL,
-                                                               assetGUID,
-                                                               this,
-                                                               assetResponse.getKnownLocationsCount(),
-                                                               MAX_CACHE_SIZE,
-                                                               restClient);
+            ConnectedAssetLocations knownLocations = new ConnectedAssetLocations(serviceName,
+                                                                                 remoteServerName,
+                                                                                 userId,
+                                                                                 omasServerURL,
+                                                                                 assetGUID,
+                                                                                 this,
+                                                                                 assetResponse.getKnownLocationsCount(),
+                                                                                 MAX_CACHE_SIZE,
+                                                                                 restClient);
+
+            knownLocations.setFirstPage(assetResponse.getKnownLocations());
+            super.knownLocations = knownLocations;
         }
 
         super.lineage = new ConnectedAssetLineage(serviceName,
@@ -395,15 +419,18 @@ public class ConnectedAssetUniverse extends AssetUniverse
 
         if (assetResponse.getRelatedAssetCount() > 0)
         {
-            super.relatedAssets = new ConnectedAssetRelatedAssets(serviceName,
-                                                                  remoteServerName,
-                                                                  userId,
-                                                                  omasServerURL,
-                                                                  assetGUID,
-                                                                  this,
-                                                                  assetResponse.getRelatedAssetCount(),
-                                                                  MAX_CACHE_SIZE,
-                                                                  restClient);
+            ConnectedAssetRelatedAssets relatedAssets = new ConnectedAssetRelatedAssets(serviceName,
+                                                                                        remoteServerName,
+                                                                                        userId,
+                                                                                        omasServerURL,
+                                                                                        assetGUID,
+                                                                                        this,
+                                                                                        assetResponse.getRelatedAssetCount(),
+                                                                                        MAX_CACHE_SIZE,
+                                                                                        restClient);
+
+            relatedAssets.setFirstPage(assetResponse.getRelatedAssets());
+            super.relatedAssets = relatedAssets;
         }
 
         if (assetResponse.getSchemaType() != null)
@@ -419,8 +446,9 @@ public class ConnectedAssetUniverse extends AssetUniverse
 
 
     /**
-     * Returns the basic information about the asset.  The connection guid allows the short description for the
-     * asset to be filled out.
+     * Returns the basic information about the asset along with the first page of each of the lists of elements
+     * attached to it.  The connection guid allows the short description for the asset to be filled out.
+     * If the ConnectedAssetUniverseCache is enabled, a recent response for the same request is reused.
      *
      * @param serviceName calling service
      * @param remoteServerName  name of the server.
@@ -428,14 +456,15 @@ public class ConnectedAssetUniverse extends AssetUniverse
      * @param restClient client to call REST API
      * @param userId     String   userId of user making request.
      * @param assetGUID  String   unique id for asset.
-     * @param connectionGUID  unique id for connection used to access asset.
+     * @param connectionGUID  unique id for connection used to access asset - null means that the
+     *                        shortDescription is null in the returned asset.
      *
-     * @return a bean with the basic properties about the asset.
+     * @return a bean with the basic properties about the asset and its attached elements.
      * @throws InvalidParameterException the asset GUID is null or invalid.
      * @throws PropertyServerException there is a problem retrieving the asset properties from the property server.
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      */
-    private AssetResponse getConnectedAssetSummary(String        serviceName,
+    private AssetUniverseResponse getAssetUniverse(String        serviceName,
                                                    String        remoteServerName,
                                                    String        omasServerURL,
                                                    OCFRESTClient restClient,
@@ -445,84 +474,50 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                                                                         PropertyServerException,
                                                                                         UserNotAuthorizedException
     {
-        final String   methodName = "getConnectedAssetSummary";
-        final String   urlTemplate = "/servers/{0}/open-metadata/common-services/{1}/connected-asset/users/{2}/assets/{3}/via-connection/{4}";
+        final String   methodName = "getAssetUniverse";
+        final String   urlTemplate = "/servers/{0}/open-metadata/common-services/{1}/connected-asset/users/{2}/assets/{3}/universe?maxElements={4}";
+        final String   connectionURLTemplate = "/servers/{0}/open-metadata/common-services/{1}/connected-asset/users/{2}/assets/{3}/via-connection/{4}/universe?maxElements={5}";
 
         invalidParameterHandler.validateOMAGServerPlatformURL(omasServerURL, remoteServerName, methodName);
 
-        AssetResponse  restResult = null;
+        ConnectedAssetUniverseCache cache      = ConnectedAssetUniverseCache.getClientCache();
+        String                      requestKey = omasServerURL + ":" + remoteServerName + ":" + serviceName + ":" + userId + ":" + assetGUID + ":" + connectionGUID;
+        AssetUniverseResponse       restResult = cache.getAssetUniverse(requestKey);
 
-        try
-        {
-            restResult = restClient.callAssetGetRESTCall(methodName,
-                                                         omasServerURL + urlTemplate,
-                                                         remoteServerName,
-                                                         serviceName,
-                                                         userId,
-                                                         assetGUID,
-                                                         connectionGUID);
-
-            restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
-            restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
-            restExceptionHandler.detectAndThrowPropertyServerException(restResult);
-        }
-        catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException error)
-        {
-            throw error;
-        }
-        catch (Throwable error)
+        if (restResult != null)
         {
-            restExceptionHandler.handleUnexpectedException(error, methodName, remoteServerName, omasServerURL);
+            return restResult;
         }
 
-        return restResult;
-    }
-
-
-    /**
-     * Returns the basic information about the asset.  Note shortDescription is null in the returned asset because
-     * there is no linked connection object.
-     *
-     * @param serviceName calling service
-     * @param remoteServerName  name of the server.
-     * @param omasServerURL  url used to call the server.
-     * @param restClient client to call REST API
-     * @param userId     String   userId of user making request.
-     * @param assetGUID  String   unique id for asset.
-     *
-     * @return a bean with the basic properties about the asset.
-     * @throws InvalidParameterException the asset GUID is null or invalid.
-     * @throws PropertyServerException there is a problem retrieving the asset properties from the property server.
-     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
-     */
-    private AssetResponse getAssetSummary(String        serviceName,
-                                          String        remoteServerName,
-                                          String        omasServerURL,
-                                          OCFRESTClient restClient,
-                                          String        userId,
-                                          String        assetGUID) throws InvalidParameterException,
-                                                                          PropertyServerException,
-                                                                          UserNotAuthorizedException
-    {
-        final String   methodName = "getAssetSummary";
-        final String   urlTemplate = "/servers/{0}/open-metadata/common-services/{1}/connected-asset/users/{2}/assets/{3}";
-        
-        invalidParameterHandler.validateOMAGServerPlatformURL(omasServerURL, remoteServerName, methodName);
-
-        AssetResponse  restResult = null;
-
         try
         {
-            restResult = restClient.callAssetGetRESTCall(methodName,
-                                                         omasServerURL + urlTemplate,
-                                                         remoteServerName,
-                                                         serviceName,
-                                                         userId,
-                                                         assetGUID);
+            if (connectionGUID == null)
+            {
+                restResult = restClient.callAssetUniverseGetRESTCall(methodName,
+                                                                     omasServerURL + urlTemplate,
+                                                                     remoteServerName,
+                                                                     serviceName,
+                                                                     userId,
+                                                                     assetGUID,
+                                                                     MAX_CACHE_SIZE);
+            }
+            else
+            {
+                restResult = restClient.callAssetUniverseGetRESTCall(methodName,
+                                                                     omasServerURL + connectionURLTemplate,
+                                                                     remoteServerName,
+                                                                     serviceName,
+                                                                     userId,
+                                                                     assetGUID,
+                                                                     connectionGUID,
+                                                                     MAX_CACHE_SIZE);
+            }
 
             restExceptionHandler.detectAndThrowInvalidParameterException(restResult);
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
+
+            cache.saveAssetUniverse(requestKey, assetGUID, restResult);
         }
         catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException error)
         {
@@ -0,0 +1,210 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.client;
+
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.AssetUniverseResponse;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * ConnectedAssetUniverseCache remembers the responses from the server that were used to build
+ * ConnectedAssetUniverse objects so that an asset that is displayed repeatedly can be built without
+ * calling the server.  The cache is shared by all of the ConnectedAssetUniverse objects in the JVM.
+ * <p>
+ * The cache is disabled until a time to live is set.  A cached response is only used until its time to
+ * live has passed, so changes to the asset made by other processes are picked up once the response
+ * expires.  Callers that change an asset can remove its responses from the cache with invalidate().
+ * If two responses for the same asset are saved, the one with the latest update time for the asset is kept.
+ */
+public class ConnectedAssetUniverseCache
+{
+    private static final int DEFAULT_MAX_CACHE_SIZE = 1000;
+
+    /**
+     * A response from the server and the time it expires.
+     */
+    private static class CachedAssetUniverse
+    {
+        private String                assetGUID;
+        private AssetUniverseResponse response;
+        private long                  expiryTime;
+    }
+
+
+    private static final ConnectedAssetUniverseCache clientCache = new ConnectedAssetUniverseCache();
+
+    private long                                   timeToLive   = 0;
+    private int                                    maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
+    private final Map<String, CachedAssetUniverse> universes    = new LinkedHashMap<>(16, 0.75f, true);
+
+
+    /**
+     * Return the cache that is shared by the ConnectedAssetUniverse objects in the JVM.
+     *
+     * @return cache
+     */
+    public static ConnectedAssetUniverseCache getClientCache()
+    {
+        return clientCache;
+    }
+
+
+    /**
+     * Return the time in milliseconds that a response is used for.  Zero means the cache is disabled.
+     *
+     * @return milliseconds
+     */
+    public synchronized long getTimeToLive()
+    {
+        return timeToLive;
+    }
+
+
+    /**
+     * Set up the time in milliseconds that a response is used for.  Zero (the default) disables the cache
+     * and removes any cached responses.
+     *
+     * @param timeToLive milliseconds
+     */
+    public synchronized void setTimeToLive(long timeToLive)
+    {
+        this.timeToLive = Math.max(timeToLive, 0);
+
+        if (this.timeToLive == 0)
+        {
+            universes.clear();
+        }
+    }
+
+
+    /**
+     * Return the maximum number of responses held in the cache.
+     *
+     * @return count
+     */
+    public synchronized int getMaxCacheSize()
+    {
+        return maxCacheSize;
+    }
+
+
+    /**
+     * Set up the maximum number of responses held in the cache.  When the cache is full, the response that
+     * was used least recently is removed.
+     *
+     * @param maxCacheSize count - if a number less than one is supplied, 1 is used
+     */
+    public synchronized void setMaxCacheSize(int maxCacheSize)
+    {
+        this.maxCacheSize = Math.max(maxCacheSize, 1);
+
+        this.removeExcessResponses();
+    }
+
+
+    /**
+     * Remove all of the cached responses for an asset - typically because the caller has changed it.
+     *
+     * @param assetGUID unique identifier of the asset
+     */
+    public synchronized void invalidate(String assetGUID)
+    {
+        universes.values().removeIf(cachedAssetUniverse -> cachedAssetUniverse.assetGUID.equals(assetGUID));
+    }
+
+
+    /**
+     * Remove all of the cached responses.
+     */
+    public synchronized void clear()
+    {
+        universes.clear();
+    }
+
+
+    /**
+     * Return the cached response for the request, or null if there is no response or it has expired.
+     *
+     * @param requestKey identifier of the request
+     * @return response or null
+     */
+    synchronized AssetUniverseResponse getAssetUniverse(String requestKey)
+    {
+        CachedAssetUniverse cachedAssetUniverse = universes.get(requestKey);
+
+        if (cachedAssetUniverse == null)
+        {
+            return null;
+        }
+
+        if (cachedAssetUniverse.expiryTime <= System.currentTimeMillis())
+        {
+            universes.remove(requestKey);
+            return null;
+        }
+
+        return cachedAssetUniverse.response;
+    }
+
+
+    /**
+     * Save a response from the server.  The response is not saved if the cache is disabled, or if there is a
+     * cached response that describes a later update of the asset.
+     *
+     * @param requestKey identifier of the request
+     * @param assetGUID unique identifier of the asset
+     * @param response response from the server
+     */
+    synchronized void saveAssetUniverse(String                requestKey,
+                                        String                assetGUID,
+                                        AssetUniverseResponse response)
+    {
+        if ((timeToLive == 0) || (assetGUID == null) || (response == null))
+        {
+            return;
+        }
+
+        long                currentTime         = System.currentTimeMillis();
+        CachedAssetUniverse cachedAssetUniverse = universes.get(requestKey);
+
+        if ((cachedAssetUniverse != null) && (cachedAssetUniverse.expiryTime > currentTime))
+        {
+            Date cachedUpdateTime = cachedAssetUniverse.response.getAssetUpdateTime();
+            Date newUpdateTime    = response.getAssetUpdateTime();
+
+            if ((cachedUpdateTime != null) && (newUpdateTime != null) && (cachedUpdateTime.after(newUpdateTime)))
+            {
+                return;
+            }
+        }
+
+        cachedAssetUniverse = new CachedAssetUniverse();
+
+        cachedAssetUniverse.assetGUID = assetGUID;
+        cachedAssetUniverse.response = response;
+        cachedAssetUniverse.expiryTime = currentTime + timeToLive;
+
+        universes.put(requestKey, cachedAssetUniverse);
+
+        this.removeExcessResponses();
+    }
+
+
+    /**
+     * Remove the least recently used responses until the cache is within its maximum size.
+     */
+    private void removeExcessResponses()
+    {
+        Iterator<CachedAssetUniverse> iterator = universes.values().iterator();
+
+        while ((universes.size() > maxCacheSize) && (iterator.hasNext()))
+        {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
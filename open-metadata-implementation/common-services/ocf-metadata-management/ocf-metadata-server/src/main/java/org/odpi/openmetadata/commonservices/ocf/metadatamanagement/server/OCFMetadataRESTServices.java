@@ -13,6 +13,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.slf4j.LoggerFactory;
@@ -87,7 +88,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -139,7 +140,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -192,7 +193,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -244,7 +245,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -277,107 +278,151 @@ public class OCFMetadataRESTServices
     {
         RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
 
-        final String assetGUIDParameterName = "assetGUID";
-
         AssetResponse response = new AssetResponse();
         AuditLog      auditLog = null;
 
         try
         {
-            List<String>  supportedZones = instanceHandler.getSupportedZones(userId, serverName, serviceURLName, methodName);
-
-            AssetHandler<Asset>  assetHandler         = instanceHandler.getAssetHandler(userId, serverName, methodName);
-            RelatedAssetHandler<RelatedAsset>  relatedAssetHandler  = instanceHandler.getRelatedAssetHandler(userId, serverName, methodName);
-            CertificationHandler<Certification> certificationHandler = instanceHandler.getCertificationHandler(userId, serverName, methodName);
-            CommentHandler<Comment>       commentHandler       = instanceHandler.getCommentHandler(userId, serverName, methodName);
-            ConnectionHandler<Connection>    connectionHandler    = instanceHandler.getConnectionHandler(userId, serverName, methodName);
-            ExternalIdentifierHandler<ExternalIdentifier, Object> externalIdentifierHandler = instanceHandler.getExternalIdentifierHandler(userId,
-                                                                                                                                           serverName,
-                                                                                                                                           methodName);
-            ExternalReferenceHandler<ExternalReference>  externalReferenceHandler  = instanceHandler.getExternalReferenceHandler(userId, serverName,
-                                                                                                                       methodName);
-            InformalTagHandler<InformalTag>             informalTagHandler  = instanceHandler.getInformalTagHandler(userId, serverName,
-                                                                                                                       methodName);
-            LicenseHandler<License>                     licenseHandler      = instanceHandler.getLicenseHandler(userId, serverName,
-                                                                                                                       methodName);
-            LikeHandler<Like>                           likeHandler         = instanceHandler.getLikeHandler(userId, serverName, methodName);
-            LocationHandler<Location>                   locationHandler     = instanceHandler.getLocationHandler(userId, serverName, methodName);
-            NoteLogHandler<NoteLog>                     noteLogHandler      = instanceHandler.getNoteLogHandler(userId, serverName, methodName);
-            RatingHandler<Rating>                       ratingHandler       = instanceHandler.getRatingHandler(userId, serverName, methodName);
-            RelatedMediaHandler<RelatedMediaReference>  relatedMediaHandler = instanceHandler.getRelatedMediaHandler(userId, serverName, methodName);
-            SearchKeywordHandler<SearchKeyword>         keywordHandler      = instanceHandler.getKeywordHandler(userId, serverName, methodName);
-            SchemaTypeHandler<SchemaType>               schemaTypeHandler   = instanceHandler.getSchemaTypeHandler(userId, serverName, methodName);
-
-
             auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
 
-            String assetSummary = null;
-            if (connectionGUID != null)
-            {
-                Relationship relationship = assetHandler.getUniqueAttachmentLink(userId,
-                                                                                 assetGUID,
-                                                                                 assetGUIDParameterName,
-                                                                                 OpenMetadataAPIMapper.ASSET_TYPE_NAME,
-                                                                                 OpenMetadataAPIMapper.ASSET_TO_CONNECTION_TYPE_GUID,
-                                                                                 OpenMetadataAPIMapper.ASSET_TO_CONNECTION_TYPE_NAME,
-                                                                                 connectionGUID,
-                                                                                 OpenMetadataAPIMapper.CONNECTION_TYPE_NAME,
-                                                                                 methodName);
-
-                if (relationship != null)
-                {
-                    OMRSRepositoryHelper repositoryHelper = instanceHandler.getRepositoryHelper(userId, serverName, methodName);
-                    assetSummary = repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
-                                                                      OpenMetadataAPIMapper.ASSET_SUMMARY_PROPERTY_NAME,
-                                                                      relationship.getProperties(),
-                                                                      methodName);
-                }
-            }
-            Asset asset = assetHandler.getBeanFromRepository(userId,
-                                                             assetGUID,
-                                                             assetGUIDParameterName,
-                                                             OpenMetadataAPIMapper.ASSET_TYPE_NAME,
-                                                             supportedZones,
-                                                             methodName);
-            if (asset != null)
-            {
-                asset.setShortDescription(assetSummary);
-                response.setAsset(asset);
-                response.setCertificationCount(certificationHandler.countCertifications(userId, assetGUID, methodName));
-                response.setCommentCount(commentHandler.countAttachedComments(userId, assetGUID, methodName));
-                response.setConnectionCount(connectionHandler.countConnections(userId, assetGUID, methodName));
-                response.setExternalIdentifierCount(externalIdentifierHandler.countExternalIdentifiers(userId, assetGUID, methodName));
-                response.setExternalReferencesCount(externalReferenceHandler.countExternalReferences(userId, assetGUID, methodName));
-                response.setInformalTagCount(informalTagHandler.countTags(userId, assetGUID, methodName));
-                response.setLicenseCount(licenseHandler.countLicenses(userId, assetGUID, methodName));
-                response.setLikeCount(likeHandler.countLikes(userId, assetGUID, methodName));
-                response.setKeywordCount(keywordHandler.countKeywords(userId, assetGUID, methodName));
-                response.setKnownLocationsCount(locationHandler.countKnownLocations(userId, assetGUID, methodName));
-                response.setNoteLogsCount(noteLogHandler.countAttachedNoteLogs(userId, assetGUID, methodName));
-                response.setRatingsCount(ratingHandler.countRatings(userId, assetGUID, methodName));
-                response.setRelatedAssetCount(relatedAssetHandler.getRelatedAssetCount(userId,
-                                                                                       assetGUID,
-                                                                                       assetGUIDParameterName,
-                                                                                       OpenMetadataAPIMapper.ASSET_TYPE_NAME,
-                                                                                       null,
-                                                                                       null,
-                                                                                       supportedZones,
-                                                                                       methodName));
-                response.setRelatedMediaReferenceCount(relatedMediaHandler.countRelatedMedia(userId, assetGUID, methodName));
-                response.setSchemaType(schemaTypeHandler.getSchemaTypeForAsset(userId, assetGUID, assetGUIDParameterName, methodName));
-            }
+            this.setUpAssetResponse(response, serverName, serviceURLName, userId, assetGUID, connectionGUID, methodName);
         }
         catch (Exception error)
         {
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
 
 
+    /**
+     * Fill out the supplied response with the basic information about the asset and the counts of the
+     * elements attached to it.
+     *
+     * @param response response to fill out
+     * @param serverName  name of the server.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset (may be null).
+     * @param methodName calling method
+     *
+     * @return entity for the asset or null if the asset is not visible through this service
+     * @throws InvalidParameterException the asset GUID is null or invalid
+     * @throws PropertyServerException there is a problem retrieving the asset properties from the property server
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request
+     */
+    private EntityDetail setUpAssetResponse(AssetResponse response,
+                                            String        serverName,
+                                            String        serviceURLName,
+                                            String        userId,
+                                            String        assetGUID,
+                                            String        connectionGUID,
+                                            String        methodName) throws InvalidParameterException,
+                                                                             PropertyServerException,
+                                                                             UserNotAuthorizedException
+    {
+        final String assetGUIDParameterName = "assetGUID";
+
+        List<String>  supportedZones = instanceHandler.getSupportedZones(userId, serverName, serviceURLName, methodName);
+
+        AssetHandler<Asset>  assetHandler         = instanceHandler.getAssetHandler(userId, serverName, methodName);
+        RelatedAssetHandler<RelatedAsset>  relatedAssetHandler  = instanceHandler.getRelatedAssetHandler(userId, serverName, methodName);
+        CertificationHandler<Certification> certificationHandler = instanceHandler.getCertificationHandler(userId, serverName, methodName);
+        CommentHandler<Comment>       commentHandler       = instanceHandler.getCommentHandler(userId, serverName, methodName);
+        ConnectionHandler<Connection>    connectionHandler    = instanceHandler.getConnectionHandler(userId, serverName, methodName);
+        ExternalIdentifierHandler<ExternalIdentifier, Object> externalIdentifierHandler = instanceHandler.getExternalIdentifierHandler(userId,
+                                                                                                                                       serverName,
+                                                                                                                                       methodName);
+        ExternalReferenceHandler<ExternalReference>  externalReferenceHandler  = instanceHandler.getExternalReferenceHandler(userId, serverName,
+                                                                                                                   methodName);
+        InformalTagHandler<InformalTag>             informalTagHandler  = instanceHandler.getInformalTagHandler(userId, serverName,
+                                                                                                                   methodName);
+        LicenseHandler<License>                     licenseHandler      = instanceHandler.getLicenseHandler(userId, serverName,
+                                                                                                                   methodName);
+        LikeHandler<Like>                           likeHandler         = instanceHandler.getLikeHandler(userId, serverName, methodName);
+        LocationHandler<Location>                   locationHandler     = instanceHandler.getLocationHandler(userId, serverName, methodName);
+        NoteLogHandler<NoteLog>                     noteLogHandler      = instanceHandler.getNoteLogHandler(userId, serverName, methodName);
+        RatingHandler<Rating>                       ratingHandler       = instanceHandler.getRatingHandler(userId, serverName, methodName);
+        RelatedMediaHandler<RelatedMediaReference>  relatedMediaHandler = instanceHandler.getRelatedMediaHandler(userId, serverName, methodName);
+        SearchKeywordHandler<SearchKeyword>         keywordHandler      = instanceHandler.getKeywordHandler(userId, serverName, methodName);
+        SchemaTypeHandler<SchemaType>               schemaTypeHandler   = instanceHandler.getSchemaTypeHandler(userId, serverName, methodName);
+
+
+        String assetSummary = null;
+        if (connectionGUID != null)
+        {
+            Relationship relationship = assetHandler.getUniqueAttachmentLink(userId,
+                                                                             assetGUID,
+                                                                             assetGUIDParameterName,
+                                                                             OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                             OpenMetadataAPIMapper.ASSET_TO_CONNECTION_TYPE_GUID,
+                                                                             OpenMetadataAPIMapper.ASSET_TO_CONNECTION_TYPE_NAME,
+                                                                             connectionGUID,
+                                                                             OpenMetadataAPIMapper.CONNECTION_TYPE_NAME,
+                                                                             methodName);
+
+            if (relationship != null)
+            {
+                OMRSRepositoryHelper repositoryHelper = instanceHandler.getRepositoryHelper(userId, serverName, methodName);
+                assetSummary = repositoryHelper.getStringProperty(instanceHandler.getServiceName(serviceURLName),
+                                                                  OpenMetadataAPIMapper.ASSET_SUMMARY_PROPERTY_NAME,
+                                                                  relationship.getProperties(),
+                                                                  methodName);
+            }
+        }
+        EntityDetail assetEntity = assetHandler.getEntityFromRepository(userId,
+                                                                        assetGUID,
+                                                                        assetGUIDParameterName,
+                                                                        OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                        null,
+                                                                        null,
+                                                                        supportedZones,
+                                                                        methodName);
+        Asset asset = null;
+
+        if (assetEntity != null)
+        {
+            asset = assetHandler.getBeanFromEntity(userId, assetEntity, assetGUIDParameterName, methodName);
+        }
+
+        if (asset != null)
+        {
+            asset.setShortDescription(assetSummary);
+            response.setAsset(asset);
+            response.setCertificationCount(certificationHandler.countCertifications(userId, assetGUID, methodName));
+            response.setCommentCount(commentHandler.countAttachedComments(userId, assetGUID, methodName));
+            response.setConnectionCount(connectionHandler.countConnections(userId, assetGUID, methodName));
+            response.setExternalIdentifierCount(externalIdentifierHandler.countExternalIdentifiers(userId, assetGUID, methodName));
+            response.setExternalReferencesCount(externalReferenceHandler.countExternalReferences(userId, assetGUID, methodName));
+            response.setInformalTagCount(informalTagHandler.countTags(userId, assetGUID, methodName));
+            response.setLicenseCount(licenseHandler.countLicenses(userId, assetGUID, methodName));
+            response.setLikeCount(likeHandler.countLikes(userId, assetGUID, methodName));
+            response.setKeywordCount(keywordHandler.countKeywords(userId, assetGUID, methodName));
+            response.setKnownLocationsCount(locationHandler.countKnownLocations(userId, assetGUID, methodName));
+            response.setNoteLogsCount(noteLogHandler.countAttachedNoteLogs(userId, assetGUID, methodName));
+            response.setRatingsCount(ratingHandler.countRatings(userId, assetGUID, methodName));
+            response.setRelatedAssetCount(relatedAssetHandler.getRelatedAssetCount(userId,
+                                                                                   assetGUID,
+                                                                                   assetGUIDParameterName,
+                                                                                   OpenMetadataAPIMapper.ASSET_TYPE_NAME,
+                                                                                   null,
+                                                                                   null,
+                                                                                   supportedZones,
+                                                                                   methodName));
+            response.setRelatedMediaReferenceCount(relatedMediaHandler.countRelatedMedia(userId, assetGUID, methodName));
+            response.setSchemaType(schemaTypeHandler.getSchemaTypeForAsset(userId, assetGUID, assetGUIDParameterName, methodName));
+
+            return assetEntity;
+        }
+
+        return null;
+    }
+
+
     /**
      * Returns the basic information about the asset.  The connection guid allows the short description for the
      * asset to be filled out.
@@ -432,6 +477,184 @@ public class OCFMetadataRESTServices
     }
 
 
+    /**
+     * Returns the basic information about the asset along with the first page of each of the lists of elements
+     * attached to it.  The connection guid allows the short description for the asset to be filled out.
+     *
+     * @param serverName  name of the server.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset.
+     * @param maxElements  int      maximum number of elements to return in each list.
+     *
+     * @return a bean with the basic properties about the asset and its attached elements or
+     * InvalidParameterException - the asset GUID is null or invalid or
+     * UnrecognizedAssetGUIDException - the asset GUID is not recognized by the property server or
+     * UnrecognizedConnectionGUIDException - the connection GUID is not recognized by the property server or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    public AssetUniverseResponse getConnectedAssetUniverse(String   serverName,
+                                                           String   serviceURLName,
+                                                           String   userId,
+                                                           String   assetGUID,
+                                                           String   connectionGUID,
+                                                           int      maxElements)
+    {
+        final String methodName = "getConnectedAssetUniverse";
+
+        return this.getAssetUniverseResponse(serverName, serviceURLName, userId, assetGUID, connectionGUID, maxElements, methodName);
+    }
+
+
+    /**
+     * Returns the basic information about the asset along with the first page of each of the lists of elements
+     * attached to it.
+     *
+     * @param serverName String   name of server instance to call.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param maxElements  int      maximum number of elements to return in each list.
+     *
+     * @return a bean with the basic properties about the asset and its attached elements or
+     * InvalidParameterException - the userId is null or invalid or
+     * UnrecognizedAssetGUIDException - the GUID is null or invalid or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    public AssetUniverseResponse getAssetUniverse(String   serverName,
+                                                  String   serviceURLName,
+                                                  String   userId,
+                                                  String   assetGUID,
+                                                  int      maxElements)
+    {
+        final String methodName = "getAssetUniverse";
+
+        return this.getAssetUniverseResponse(serverName, serviceURLName, userId, assetGUID, null, maxElements, methodName);
+    }
+
+
+    /**
+     * Returns the basic information about the asset along with the first page of each of the lists of elements
+     * attached to it.  A list is only retrieved if the asset has elements of that kind.  If a list can not be
+     * retrieved, it is left out of the response and the caller retrieves it through the paging call for that
+     * kind of element.
+     *
+     * @param serverName  name of the server.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset (may be null).
+     * @param maxElements  int      maximum number of elements to return in each list.
+     * @param methodName calling method
+     *
+     * @return a bean with the basic properties about the asset and its attached elements or
+     * InvalidParameterException - the asset GUID is null or invalid or
+     * UnrecognizedAssetGUIDException - the asset GUID is not recognized by the property server or
+     * UnrecognizedConnectionGUIDException - the connection GUID is not recognized by the property server or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private AssetUniverseResponse getAssetUniverseResponse(String   serverName,
+                                                           String   serviceURLName,
+                                                           String   userId,
+                                                           String   assetGUID,
+                                                           String   connectionGUID,
+                                                           int      maxElements,
+                                                           String   methodName)
+    {
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AssetUniverseResponse response = new AssetUniverseResponse();
+        AuditLog              auditLog = null;
+
+        try
+        {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            EntityDetail assetEntity = this.setUpAssetResponse(response,
+                                                               serverName,
+                                                               serviceURLName,
+                                                               userId,
+                                                               assetGUID,
+                                                               connectionGUID,
+                                                               methodName);
+
+            if (assetEntity != null)
+            {
+                if (assetEntity.getUpdateTime() != null)
+                {
+                    response.setAssetUpdateTime(assetEntity.getUpdateTime());
+                }
+                else
+                {
+                    response.setAssetUpdateTime(assetEntity.getCreateTime());
+                }
+
+                if (maxElements > 0)
+                {
+                    response.setMaxElements(maxElements);
+
+                    if (response.getCertificationCount() > 0)
+                    {
+                        response.setCertifications(this.getCertifications(serverName, serviceURLName, userId, assetGUID, 0, maxElements).getList());
+                    }
+
+                    if (response.getConnectionCount() > 0)
+                    {
+                        response.setConnections(this.getConnections(serverName, serviceURLName, userId, assetGUID, 0, maxElements).getList());
+                    }
+
+                    if (response.getExternalIdentifierCount() > 0)
+                    {
+                        response.setExternalIdentifiers(this.getExternalIdentifiers(serverName, serviceURLName, userId, assetGUID, 0, maxElements).getList());
+                    }
+
+                    if (response.getExternalReferencesCount() > 0)
+                    {
+                        response.setExternalReferences(this.getExternalReferences(serverName, serviceURLName, userId, assetGUID, 0, maxElements).getList());
+                    }
+
+                    if (response.getLicenseCount() > 0)
+                    {
+                        response.setLicenses(this.getLicenses(serverName, serviceURLName, userId, assetGUID, 0, maxElements).getList());
+                    }
+
+                    if (response.getKnownLocationsCount() > 0)
+                    {
+                        response.setKnownLocations(this.getKnownLocations(serverName, serviceURLName, userId, assetGUID, 0, maxElements).getList());
+                    }
+
+                    if (response.getNoteLogsCount() > 0)
+                    {
+                        response.setNoteLogs(this.getNoteLogs(serverName, serviceURLName, userId, assetGUID, 0, maxElements).getList());
+                    }
+
+                    if (response.getRelatedAssetCount() > 0)
+                    {
+                        response.setRelatedAssets(this.getRelatedAssets(serverName, serviceURLName, userId, assetGUID, 0, maxElements).getList());
+                    }
+
+                    if (response.getRelatedMediaReferenceCount() > 0)
+                    {
+                        response.setRelatedMediaReferences(this.getRelatedMediaReferences(serverName, serviceURLName, userId, assetGUID, 0, maxElements).getList());
+                    }
+                }
+            }
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response);
+
+        return response;
+    }
+
+
     /**
      * Returns the list of certifications for the asset.
      *
@@ -481,7 +704,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -571,7 +794,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -706,7 +929,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -761,7 +984,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -816,7 +1039,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -871,7 +1094,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -926,7 +1149,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -981,7 +1204,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1036,7 +1259,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1120,7 +1343,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1175,7 +1398,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1230,7 +1453,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1287,7 +1510,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1346,7 +1569,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1401,7 +1624,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1457,7 +1680,7 @@ public class OCFMetadataRESTServices
             restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
         }
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
    }
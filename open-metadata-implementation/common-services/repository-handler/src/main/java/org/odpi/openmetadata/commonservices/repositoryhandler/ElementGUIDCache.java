@@ -0,0 +1,269 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ElementGUIDCache remembers the unique identifiers (guids) of elements that have been located through a unique name,
+ * such as a qualifiedName or an external identifier, so that the handlers of an access service can retrieve the
+ * element directly rather than issuing a search to the repositories each time the name is used.
+ * <p>
+ * Each name is recorded within a scope, for example the type name of the element or the unique identifier of the
+ * element that defines the name's scope.  The cache is bounded and evicts the least recently used names.
+ * <p>
+ * The cache is a hint rather than the truth.  Callers retrieve the element using the cached guid and check that it
+ * still has the requested name before using it.  They remove the name if the check fails.  The ElementGUIDCacheListener
+ * removes the elements that are changed by other servers and processes.
+ * <p>
+ * The cache is shared by all of the requests to a server instance and so it is thread-safe.
+ */
+public class ElementGUIDCache
+{
+    private final int                      maxEntries;
+    private final Map<String, String>      guidsByName;
+    private final Map<String, Set<String>> namesByGUID = new HashMap<>();
+
+    private final AtomicLong hits   = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxEntries maximum number of names to remember; 0 disables the cache
+     */
+    public ElementGUIDCache(int maxEntries)
+    {
+        this.maxEntries = Math.max(maxEntries, 0);
+        this.guidsByName = new LinkedHashMap<String, String>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest)
+            {
+                if (size() > ElementGUIDCache.this.maxEntries)
+                {
+                    removeNameForGUID(eldest.getValue(), eldest.getKey());
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+
+    /**
+     * Return whether the cache is enabled.
+     *
+     * @return boolean flag
+     */
+    public boolean isEnabled()
+    {
+        return maxEntries > 0;
+    }
+
+
+    /**
+     * Return the unique identifier of the element that was last located with the name.
+     *
+     * @param scope scope of the name, such as the type name of the element
+     * @param uniqueName name of the element
+     * @return unique identifier of the element or null if it is not known
+     */
+    public String getGUID(String scope,
+                          String uniqueName)
+    {
+        if ((! isEnabled()) || (uniqueName == null))
+        {
+            return null;
+        }
+
+        String guid;
+
+        synchronized (guidsByName)
+        {
+            guid = guidsByName.get(this.getKey(scope, uniqueName));
+        }
+
+        if (guid == null)
+        {
+            misses.incrementAndGet();
+        }
+        else
+        {
+            hits.incrementAndGet();
+        }
+
+        return guid;
+    }
+
+
+    /**
+     * Remember the unique identifier of the element with the name.
+     *
+     * @param scope scope of the name, such as the type name of the element
+     * @param uniqueName name of the element
+     * @param guid unique identifier of the element
+     */
+    public void addGUID(String scope,
+                        String uniqueName,
+                        String guid)
+    {
+        if ((! isEnabled()) || (uniqueName == null) || (guid == null))
+        {
+            return;
+        }
+
+        String key = this.getKey(scope, uniqueName);
+
+        synchronized (guidsByName)
+        {
+            String previousGUID = guidsByName.put(key, guid);
+
+            if ((previousGUID != null) && (! previousGUID.equals(guid)))
+            {
+                removeNameForGUID(previousGUID, key);
+            }
+
+            namesByGUID.computeIfAbsent(guid, names -> new HashSet<>()).add(key);
+        }
+    }
+
+
+    /**
+     * Forget the element with the name - typically because the element retrieved with the cached guid no longer
+     * has the name.
+     *
+     * @param scope scope of the name, such as the type name of the element
+     * @param uniqueName name of the element
+     */
+    public void removeName(String scope,
+                           String uniqueName)
+    {
+        if ((! isEnabled()) || (uniqueName == null))
+        {
+            return;
+        }
+
+        String key = this.getKey(scope, uniqueName);
+
+        synchronized (guidsByName)
+        {
+            String guid = guidsByName.remove(key);
+
+            if (guid != null)
+            {
+                removeNameForGUID(guid, key);
+            }
+        }
+    }
+
+
+    /**
+     * Forget all of the names of an element - typically because it has been deleted, re-identified or renamed.
+     *
+     * @param guid unique identifier of the element
+     */
+    public void removeGUID(String guid)
+    {
+        if ((! isEnabled()) || (guid == null))
+        {
+            return;
+        }
+
+        synchronized (guidsByName)
+        {
+            Set<String> names = namesByGUID.remove(guid);
+
+            if (names != null)
+            {
+                for (String key : names)
+                {
+                    guidsByName.remove(key);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of names currently cached.
+     *
+     * @return count
+     */
+    public int getSize()
+    {
+        synchronized (guidsByName)
+        {
+            return guidsByName.size();
+        }
+    }
+
+
+    /**
+     * Return the number of lookups that found a guid.
+     *
+     * @return count
+     */
+    public long getHits()
+    {
+        return hits.get();
+    }
+
+
+    /**
+     * Return the number of lookups that did not find a guid.
+     *
+     * @return count
+     */
+    public long getMisses()
+    {
+        return misses.get();
+    }
+
+
+    /**
+     * Remove the name from the reverse index of the element.  The caller holds the lock.
+     *
+     * @param guid unique identifier of the element
+     * @param key cache key of the name
+     */
+    private void removeNameForGUID(String guid,
+                                   String key)
+    {
+        Set<String> names = namesByGUID.get(guid);
+
+        if (names != null)
+        {
+            names.remove(key);
+
+            if (names.isEmpty())
+            {
+                namesByGUID.remove(guid);
+            }
+        }
+    }
+
+
+    /**
+     * Build the cache key for a name.
+     *
+     * @param scope scope of the name
+     * @param uniqueName name of the element
+     * @return key
+     */
+    private String getKey(String scope,
+                          String uniqueName)
+    {
+        return scope + '\u0000' + uniqueName;
+    }
+}
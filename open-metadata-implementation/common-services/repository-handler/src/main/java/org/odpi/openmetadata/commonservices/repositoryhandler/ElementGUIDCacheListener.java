@@ -0,0 +1,356 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ElementGUIDCacheListener receives the OMRS instance events from the enterprise topic and removes the elements
+ * from an ElementGUIDCache when they are deleted, purged, re-identified, re-typed or have their unique name changed.
+ * Optionally, the deletion of the relationships that define the scope of a name (for example, ExternalIdScope)
+ * removes the elements at both ends of the relationship.
+ * <p>
+ * Subclasses may override removeGUID() to maintain other caches that are keyed on the element's guid.
+ */
+public class ElementGUIDCacheListener extends OMRSTopicListenerBase
+{
+    private final ElementGUIDCache elementGUIDCache;
+    private final String           uniqueNamePropertyName;
+    private final List<String>     scopeRelationshipTypeNames;
+
+
+    /**
+     * Constructor.
+     *
+     * @param serviceName full name of the service that owns the cache
+     * @param elementGUIDCache cache to maintain
+     * @param uniqueNamePropertyName name of the property that holds the cached names, such as qualifiedName
+     * @param scopeRelationshipTypeNames types of the relationships that define the scope of the names (may be null)
+     * @param auditLog logging destination
+     */
+    public ElementGUIDCacheListener(String           serviceName,
+                                    ElementGUIDCache elementGUIDCache,
+                                    String           uniqueNamePropertyName,
+                                    List<String>     scopeRelationshipTypeNames,
+                                    AuditLog         auditLog)
+    {
+        super(serviceName, auditLog);
+
+        this.elementGUIDCache           = elementGUIDCache;
+        this.uniqueNamePropertyName     = uniqueNamePropertyName;
+        this.scopeRelationshipTypeNames = scopeRelationshipTypeNames;
+    }
+
+
+    /**
+     * Remove the element from the cache.
+     *
+     * @param guid unique identifier of the element
+     */
+    protected void removeGUID(String guid)
+    {
+        elementGUIDCache.removeGUID(guid);
+    }
+
+
+    /**
+     * An existing entity has been updated.  The element is removed if its unique name has changed.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param oldEntity                      original values for the entity.
+     * @param newEntity                      details of the new version of the entity.
+     */
+    @Override
+    public void processUpdatedEntityEvent(String       sourceName,
+                                          String       originatorMetadataCollectionId,
+                                          String       originatorServerName,
+                                          String       originatorServerType,
+                                          String       originatorOrganizationName,
+                                          EntityDetail oldEntity,
+                                          EntityDetail newEntity)
+    {
+        if (newEntity == null)
+        {
+            return;
+        }
+
+        if ((oldEntity == null) ||
+            (! Objects.equals(this.getUniqueName(oldEntity.getProperties()), this.getUniqueName(newEntity.getProperties()))))
+        {
+            this.removeGUID(newEntity.getGUID());
+        }
+    }
+
+
+    /**
+     * An update to an entity has been undone.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param entity                         details of the version of the entity that has been restored.
+     */
+    @Override
+    public void processUndoneEntityEvent(String       sourceName,
+                                         String       originatorMetadataCollectionId,
+                                         String       originatorServerName,
+                                         String       originatorServerType,
+                                         String       originatorOrganizationName,
+                                         EntityDetail entity)
+    {
+        if (entity != null)
+        {
+            this.removeGUID(entity.getGUID());
+        }
+    }
+
+
+    /**
+     * An existing entity has been deleted.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param entity                         deleted entity
+     */
+    @Override
+    public void processDeletedEntityEvent(String       sourceName,
+                                          String       originatorMetadataCollectionId,
+                                          String       originatorServerName,
+                                          String       originatorServerType,
+                                          String       originatorOrganizationName,
+                                          EntityDetail entity)
+    {
+        if (entity != null)
+        {
+            this.removeGUID(entity.getGUID());
+        }
+    }
+
+
+    /**
+     * A deleted entity has been permanently removed from the repository.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param typeDefGUID                    unique identifier for this entity's TypeDef
+     * @param typeDefName                    name of this entity's TypeDef
+     * @param instanceGUID                   unique identifier for the entity
+     */
+    @Override
+    public void processPurgedEntityEvent(String sourceName,
+                                         String originatorMetadataCollectionId,
+                                         String originatorServerName,
+                                         String originatorServerType,
+                                         String originatorOrganizationName,
+                                         String typeDefGUID,
+                                         String typeDefName,
+                                         String instanceGUID)
+    {
+        this.removeGUID(instanceGUID);
+    }
+
+
+    /**
+     * An existing entity has been deleted and purged in a single action.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param entity                         deleted entity
+     */
+    @Override
+    public void processDeletePurgedEntityEvent(String       sourceName,
+                                               String       originatorMetadataCollectionId,
+                                               String       originatorServerName,
+                                               String       originatorServerType,
+                                               String       originatorOrganizationName,
+                                               EntityDetail entity)
+    {
+        if (entity != null)
+        {
+            this.removeGUID(entity.getGUID());
+        }
+    }
+
+
+    /**
+     * The guid of an existing entity has been changed to a new value.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param originalEntityGUID             the existing identifier for the entity.
+     * @param entity                         new values for this entity, including the new guid.
+     */
+    @Override
+    public void processReIdentifiedEntityEvent(String       sourceName,
+                                               String       originatorMetadataCollectionId,
+                                               String       originatorServerName,
+                                               String       originatorServerType,
+                                               String       originatorOrganizationName,
+                                               String       originalEntityGUID,
+                                               EntityDetail entity)
+    {
+        this.removeGUID(originalEntityGUID);
+
+        if (entity != null)
+        {
+            this.removeGUID(entity.getGUID());
+        }
+    }
+
+
+    /**
+     * An existing entity has had its type changed.  The names are cached by type so the element is removed.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param originalTypeDefSummary         original details of this entity's TypeDef.
+     * @param entity                         new values for this entity, including the new type information.
+     */
+    @Override
+    public void processReTypedEntityEvent(String         sourceName,
+                                          String         originatorMetadataCollectionId,
+                                          String         originatorServerName,
+                                          String         originatorServerType,
+                                          String         originatorOrganizationName,
+                                          TypeDefSummary originalTypeDefSummary,
+                                          EntityDetail   entity)
+    {
+        if (entity != null)
+        {
+            this.removeGUID(entity.getGUID());
+        }
+    }
+
+
+    /**
+     * An existing relationship has been deleted.  If it defines the scope of a name, the elements at both ends
+     * are removed.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param relationship                   deleted relationship
+     */
+    @Override
+    public void processDeletedRelationshipEvent(String       sourceName,
+                                                String       originatorMetadataCollectionId,
+                                                String       originatorServerName,
+                                                String       originatorServerType,
+                                                String       originatorOrganizationName,
+                                                Relationship relationship)
+    {
+        this.removeScopedElements(relationship);
+    }
+
+
+    /**
+     * An existing relationship has been deleted and purged in a single action.  If it defines the scope of a name,
+     * the elements at both ends are removed.
+     *
+     * @param sourceName                     name of the source of the event.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param originatorServerType           type of server that the event came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that sent the event.
+     * @param relationship                   deleted relationship
+     */
+    @Override
+    public void processDeletePurgedRelationshipEvent(String       sourceName,
+                                                     String       originatorMetadataCollectionId,
+                                                     String       originatorServerName,
+                                                     String       originatorServerType,
+                                                     String       originatorOrganizationName,
+                                                     Relationship relationship)
+    {
+        this.removeScopedElements(relationship);
+    }
+
+
+    /**
+     * Remove the elements at both ends of a relationship that defines the scope of their names.
+     *
+     * @param relationship deleted relationship
+     */
+    private void removeScopedElements(Relationship relationship)
+    {
+        if ((relationship == null) || (scopeRelationshipTypeNames == null))
+        {
+            return;
+        }
+
+        InstanceType type = relationship.getType();
+
+        if ((type != null) && (scopeRelationshipTypeNames.contains(type.getTypeDefName())))
+        {
+            if (relationship.getEntityOneProxy() != null)
+            {
+                this.removeGUID(relationship.getEntityOneProxy().getGUID());
+            }
+
+            if (relationship.getEntityTwoProxy() != null)
+            {
+                this.removeGUID(relationship.getEntityTwoProxy().getGUID());
+            }
+        }
+    }
+
+
+    /**
+     * Return the value of the unique name property.
+     *
+     * @param properties properties of the entity
+     * @return property value or null
+     */
+    private InstancePropertyValue getUniqueName(InstanceProperties properties)
+    {
+        if (properties == null)
+        {
+            return null;
+        }
+
+        return properties.getPropertyValue(uniqueNamePropertyName);
+    }
+}
@@ -0,0 +1,104 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Verify that the ElementGUIDCache remembers, evicts and removes names.
+ */
+public class ElementGUIDCacheTest
+{
+    private static final String TYPE_NAME = "Process";
+
+
+    /**
+     * Names are cached within their scope.
+     */
+    @Test public void testNamesAreScoped()
+    {
+        ElementGUIDCache cache = new ElementGUIDCache(10);
+
+        cache.addGUID(TYPE_NAME, "name", "guid1");
+
+        assertEquals(cache.getGUID(TYPE_NAME, "name"), "guid1");
+        assertNull(cache.getGUID("Port", "name"));
+        assertEquals(cache.getHits(), 1);
+        assertEquals(cache.getMisses(), 1);
+    }
+
+
+    /**
+     * Removing a guid removes all of the names of the element.
+     */
+    @Test public void testRemoveGUID()
+    {
+        ElementGUIDCache cache = new ElementGUIDCache(10);
+
+        cache.addGUID(TYPE_NAME, "name", "guid1");
+        cache.addGUID("Referenceable", "name", "guid1");
+        cache.addGUID(TYPE_NAME, "other", "guid2");
+
+        cache.removeGUID("guid1");
+
+        assertNull(cache.getGUID(TYPE_NAME, "name"));
+        assertNull(cache.getGUID("Referenceable", "name"));
+        assertEquals(cache.getGUID(TYPE_NAME, "other"), "guid2");
+        assertEquals(cache.getSize(), 1);
+    }
+
+
+    /**
+     * A name that moves to a new element is no longer removed with the old element.
+     */
+    @Test public void testNameMovesToNewGUID()
+    {
+        ElementGUIDCache cache = new ElementGUIDCache(10);
+
+        cache.addGUID(TYPE_NAME, "name", "guid1");
+        cache.addGUID(TYPE_NAME, "name", "guid2");
+        cache.removeGUID("guid1");
+
+        assertEquals(cache.getGUID(TYPE_NAME, "name"), "guid2");
+
+        cache.removeName(TYPE_NAME, "name");
+
+        assertNull(cache.getGUID(TYPE_NAME, "name"));
+    }
+
+
+    /**
+     * The least recently used name is evicted when the cache is full.
+     */
+    @Test public void testEviction()
+    {
+        ElementGUIDCache cache = new ElementGUIDCache(2);
+
+        cache.addGUID(TYPE_NAME, "first", "guid1");
+        cache.addGUID(TYPE_NAME, "second", "guid2");
+        cache.getGUID(TYPE_NAME, "first");
+        cache.addGUID(TYPE_NAME, "third", "guid3");
+
+        assertEquals(cache.getGUID(TYPE_NAME, "first"), "guid1");
+        assertNull(cache.getGUID(TYPE_NAME, "second"));
+        assertEquals(cache.getGUID(TYPE_NAME, "third"), "guid3");
+    }
+
+
+    /**
+     * A cache with no entries remembers nothing.
+     */
+    @Test public void testDisabled()
+    {
+        ElementGUIDCache cache = new ElementGUIDCache(0);
+
+        cache.addGUID(TYPE_NAME, "name", "guid1");
+
+        assertNull(cache.getGUID(TYPE_NAME, "name"));
+        assertEquals(cache.getSize(), 0);
+    }
+}
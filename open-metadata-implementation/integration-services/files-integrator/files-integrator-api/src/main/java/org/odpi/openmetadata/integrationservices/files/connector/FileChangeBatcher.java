@@ -0,0 +1,455 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.integrationservices.files.connector;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FileChangeBatcher collects the file changes detected by an integration connector and passes them to the
+ * connector's FileChangeProcessor in batches.  Changes are collected until the batch window expires or the
+ * batch is full.  Multiple changes to the same file within a batch are reduced to a single change so a burst
+ * of events for a file results in one update to the catalog.  A large batch can be divided between a number of
+ * workers so that several requests to the metadata server are in flight at once.  The changes are divided by the
+ * directory that holds the file, so the files in a new directory are catalogued by the same worker, one after
+ * the other, and the worker creates the folder in the catalog once.
+ * <p>
+ * If the processor fails with an unexpected exception, the changes it was passed are returned to its
+ * processFailedChanges method so that the connector can log them and catalog them again later.
+ * <p>
+ * The batcher also keeps throughput statistics that the connector can report.
+ */
+public class FileChangeBatcher
+{
+    private final String              connectorName;
+    private final FileChangeProcessor processor;
+    private final long                batchWindow;
+    private final int                 maxBatchSize;
+    private final int                 workerCount;
+
+    private final Object processLock = new Object();
+    private final Object pendingLock = new Object();
+
+    private Map<String, FileChangeType> pendingChanges          = new LinkedHashMap<>();
+    private boolean                     flushScheduled          = false;
+    private boolean                     immediateFlushScheduled = false;
+    private boolean                     active                  = true;
+
+    private ScheduledExecutorService flushScheduler = null;
+    private ExecutorService          workerPool     = null;
+
+    private final AtomicLong changesReceived  = new AtomicLong(0);
+    private final AtomicLong changesCoalesced = new AtomicLong(0);
+    private final AtomicLong changesProcessed = new AtomicLong(0);
+    private final AtomicLong batchesProcessed = new AtomicLong(0);
+    private final AtomicLong failedBatches    = new AtomicLong(0);
+    private final AtomicLong processingTime   = new AtomicLong(0);
+
+
+    /**
+     * Constructor.
+     *
+     * @param connectorName name of the connector (used to name the threads)
+     * @param processor processor for the batches of changes
+     * @param batchWindow milliseconds to wait for more changes before processing a batch
+     * @param maxBatchSize number of changes that causes a batch to be processed immediately
+     * @param workerCount number of threads that process each batch
+     */
+    public FileChangeBatcher(String              connectorName,
+                             FileChangeProcessor processor,
+                             long                batchWindow,
+                             int                 maxBatchSize,
+                             int                 workerCount)
+    {
+        this.connectorName = connectorName;
+        this.processor = processor;
+        this.batchWindow = batchWindow;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.workerCount = Math.max(workerCount, 1);
+    }
+
+
+    /**
+     * Record a change to a file.  The change is processed in the next batch.
+     *
+     * @param pathName absolute path name of the file
+     * @param changeType type of change
+     */
+    public void addChange(String         pathName,
+                          FileChangeType changeType)
+    {
+        if ((pathName == null) || (changeType == null))
+        {
+            return;
+        }
+
+        changesReceived.incrementAndGet();
+
+        synchronized (pendingLock)
+        {
+            if (! active)
+            {
+                return;
+            }
+
+            FileChangeType existingChange = pendingChanges.get(pathName);
+
+            if (existingChange != null)
+            {
+                changesCoalesced.incrementAndGet();
+            }
+
+            /*
+             * A file that is created and then changed within the batch is still new to the catalog.
+             */
+            if ((existingChange != FileChangeType.CREATED) || (changeType != FileChangeType.CHANGED))
+            {
+                pendingChanges.put(pathName, changeType);
+            }
+
+            if ((pendingChanges.size() >= maxBatchSize) && (! immediateFlushScheduled))
+            {
+                immediateFlushScheduled = true;
+                getFlushScheduler().execute(this::scheduledFlush);
+            }
+            else if (! flushScheduled)
+            {
+                flushScheduled = true;
+                getFlushScheduler().schedule(this::scheduledFlush, batchWindow, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+
+    /**
+     * Process all of the pending changes on the caller's thread.  This is used when the connector needs the
+     * catalog to be up to date, for example at the end of a refresh, or before disconnecting.
+     */
+    public void flush()
+    {
+        synchronized (processLock)
+        {
+            Map<String, FileChangeType> batch;
+
+            synchronized (pendingLock)
+            {
+                batch = pendingChanges;
+                pendingChanges = new LinkedHashMap<>();
+                flushScheduled = false;
+                immediateFlushScheduled = false;
+            }
+
+            if (! batch.isEmpty())
+            {
+                long startTime = System.currentTimeMillis();
+
+                try
+                {
+                    processBatch(batch);
+                }
+                finally
+                {
+                    processingTime.addAndGet(System.currentTimeMillis() - startTime);
+                    changesProcessed.addAndGet(batch.size());
+                    batchesProcessed.incrementAndGet();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Process the pending changes and stop the background threads.  Any later changes are ignored.
+     */
+    public void shutdown()
+    {
+        this.flush();
+
+        synchronized (pendingLock)
+        {
+            active = false;
+
+            if (flushScheduler != null)
+            {
+                flushScheduler.shutdown();
+                flushScheduler = null;
+            }
+        }
+
+        synchronized (processLock)
+        {
+            if (workerPool != null)
+            {
+                workerPool.shutdown();
+                workerPool = null;
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of changes passed to the batcher.
+     *
+     * @return count
+     */
+    public long getChangesReceived()
+    {
+        return changesReceived.get();
+    }
+
+
+    /**
+     * Return the number of changes that were combined with an earlier change to the same file.
+     *
+     * @return count
+     */
+    public long getChangesCoalesced()
+    {
+        return changesCoalesced.get();
+    }
+
+
+    /**
+     * Return the number of changes passed to the processor.
+     *
+     * @return count
+     */
+    public long getChangesProcessed()
+    {
+        return changesProcessed.get();
+    }
+
+
+    /**
+     * Return the number of batches passed to the processor.
+     *
+     * @return count
+     */
+    public long getBatchesProcessed()
+    {
+        return batchesProcessed.get();
+    }
+
+
+    /**
+     * Return the number of batches (or parts of a batch processed by a worker) where the processor failed
+     * with an unexpected exception.
+     *
+     * @return count
+     */
+    public long getFailedBatches()
+    {
+        return failedBatches.get();
+    }
+
+
+    /**
+     * Return the total time spent processing batches.
+     *
+     * @return milliseconds
+     */
+    public long getProcessingTime()
+    {
+        return processingTime.get();
+    }
+
+
+    /**
+     * Return the rate that changes have been processed while batches were being processed.
+     *
+     * @return changes per second
+     */
+    public long getChangesPerSecond()
+    {
+        return (changesProcessed.get() * 1000) / Math.max(processingTime.get(), 1);
+    }
+
+
+    /**
+     * Flush called from the scheduler thread.  Failures of the processor are reported by processBatch; any other
+     * exception is counted rather than being allowed to stop the scheduler.
+     */
+    private void scheduledFlush()
+    {
+        try
+        {
+            this.flush();
+        }
+        catch (RuntimeException error)
+        {
+            failedBatches.incrementAndGet();
+        }
+    }
+
+
+    /**
+     * Pass the batch to the processor - dividing it between the workers if it is large enough.  A part of
+     * the batch that fails is passed back to the processor's processFailedChanges method.
+     *
+     * @param batch changes to process
+     */
+    private void processBatch(Map<String, FileChangeType> batch)
+    {
+        if ((workerCount == 1) || (batch.size() < workerCount * 2))
+        {
+            try
+            {
+                processor.processChanges(batch);
+            }
+            catch (RuntimeException error)
+            {
+                reportFailure(batch, error);
+            }
+
+            return;
+        }
+
+        List<Map<String, FileChangeType>> partitions = new ArrayList<>();
+
+        for (int worker = 0; worker < workerCount; worker++)
+        {
+            partitions.add(new LinkedHashMap<>());
+        }
+
+        for (Map.Entry<String, FileChangeType> change : batch.entrySet())
+        {
+            partitions.get(getPartition(change.getKey())).put(change.getKey(), change.getValue());
+        }
+
+        List<Future<?>> results = new ArrayList<>();
+
+        for (Map<String, FileChangeType> partition : partitions)
+        {
+            results.add(getWorkerPool().submit(() -> processor.processChanges(partition)));
+        }
+
+        RuntimeException failure = null;
+
+        for (int worker = 0; worker < workerCount; worker++)
+        {
+            try
+            {
+                results.get(worker).get();
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+                failure = new IllegalStateException(error);
+            }
+            catch (ExecutionException error)
+            {
+                if (error.getCause() instanceof RuntimeException)
+                {
+                    reportFailure(partitions.get(worker), (RuntimeException) error.getCause());
+                }
+                else
+                {
+                    reportFailure(partitions.get(worker), new IllegalStateException(error.getCause()));
+                }
+            }
+        }
+
+        if (failure != null)
+        {
+            throw failure;
+        }
+    }
+
+
+    /**
+     * Count a failed batch and pass its changes back to the processor so they can be logged and retried.
+     *
+     * @param changes changes that were not processed
+     * @param error exception from the processor
+     */
+    private void reportFailure(Map<String, FileChangeType> changes,
+                               RuntimeException            error)
+    {
+        failedBatches.incrementAndGet();
+
+        try
+        {
+            processor.processFailedChanges(changes, error);
+        }
+        catch (RuntimeException reportError)
+        {
+            /*
+             * Nothing more can be done with the changes.
+             */
+        }
+    }
+
+
+    /**
+     * Return the worker that processes the changes to a file.  All of the files in the same directory are given
+     * to the same worker.
+     *
+     * @param pathName absolute path name of the file
+     * @return index of the worker
+     */
+    int getPartition(String pathName)
+    {
+        String directoryName = new File(pathName).getParent();
+
+        if (directoryName == null)
+        {
+            directoryName = pathName;
+        }
+
+        return Math.floorMod(directoryName.hashCode(), workerCount);
+    }
+
+
+    /**
+     * Return the thread used to time the batches - creating it if necessary.  The caller holds the pending lock.
+     *
+     * @return scheduler
+     */
+    private ScheduledExecutorService getFlushScheduler()
+    {
+        if (flushScheduler == null)
+        {
+            flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+            {
+                Thread thread = new Thread(runnable, connectorName + ":FileChangeBatcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return flushScheduler;
+    }
+
+
+    /**
+     * Return the threads used to process the parts of a batch - creating them if necessary.  The caller holds the
+     * process lock.
+     *
+     * @return thread pool
+     */
+    private ExecutorService getWorkerPool()
+    {
+        if (workerPool == null)
+        {
+            workerPool = Executors.newFixedThreadPool(workerCount, runnable ->
+            {
+                Thread thread = new Thread(runnable, connectorName + ":FileChangeWorker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return workerPool;
+    }
+}
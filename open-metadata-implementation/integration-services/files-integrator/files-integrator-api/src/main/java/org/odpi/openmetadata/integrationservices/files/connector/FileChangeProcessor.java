@@ -0,0 +1,36 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.integrationservices.files.connector;
+
+import java.util.Map;
+
+/**
+ * FileChangeProcessor is implemented by an integration connector that uses a FileChangeBatcher to
+ * catalog the changes to its files.  It is passed the coalesced changes, one batch at a time.
+ */
+public interface FileChangeProcessor
+{
+    /**
+     * Process a batch of changes.  Each file appears once in the batch with its latest change.
+     * If the batcher has been configured with more than one worker, this method may be called concurrently
+     * with different parts of the same batch.
+     *
+     * @param changes map of absolute path names to the type of change, in the order the changes were first detected
+     */
+    void processChanges(Map<String, FileChangeType> changes);
+
+
+    /**
+     * Report that processChanges failed with an unexpected exception.  The changes are not passed to the
+     * processor again by the batcher, so the processor needs to record them if they are to be retried.
+     * By default the failure is ignored.
+     *
+     * @param changes map of absolute path names to the type of change that were not processed
+     * @param error exception returned by processChanges
+     */
+    default void processFailedChanges(Map<String, FileChangeType> changes,
+                                      RuntimeException            error)
+    {
+    }
+}
@@ -0,0 +1,25 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.integrationservices.files.connector;
+
+/**
+ * FileChangeType describes the type of change detected for a file by an integration connector.
+ */
+public enum FileChangeType
+{
+    /**
+     * The file has been created.
+     */
+    CREATED,
+
+    /**
+     * The content or properties of the file have changed.
+     */
+    CHANGED,
+
+    /**
+     * The file has been deleted.
+     */
+    DELETED
+}
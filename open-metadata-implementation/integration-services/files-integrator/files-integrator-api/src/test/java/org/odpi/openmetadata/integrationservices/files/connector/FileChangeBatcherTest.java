@@ -0,0 +1,256 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.integrationservices.files.connector;
+
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * FileChangeBatcherTest checks that changes to the same file are combined and that a batch is divided between
+ * the workers by directory.
+ */
+public class FileChangeBatcherTest
+{
+    private static final long batchWindow = 60000;
+
+
+    /**
+     * Processor that saves the batches it is passed.
+     */
+    private static class RecordingProcessor implements FileChangeProcessor
+    {
+        final List<Map<String, FileChangeType>> batches = new ArrayList<>();
+
+        public synchronized void processChanges(Map<String, FileChangeType> changes)
+        {
+            batches.add(new LinkedHashMap<>(changes));
+        }
+    }
+
+
+    /**
+     * Processor that fails for the batches that contain a file in a particular directory.
+     */
+    private static class FailingProcessor extends RecordingProcessor
+    {
+        private final String                      failingDirectory;
+        private final Map<String, FileChangeType> failedChanges = new LinkedHashMap<>();
+
+        FailingProcessor(String failingDirectory)
+        {
+            this.failingDirectory = failingDirectory;
+        }
+
+        @Override
+        public synchronized void processChanges(Map<String, FileChangeType> changes)
+        {
+            for (String pathName : changes.keySet())
+            {
+                if (pathName.startsWith(failingDirectory))
+                {
+                    throw new IllegalStateException("Test failure");
+                }
+            }
+
+            super.processChanges(changes);
+        }
+
+        @Override
+        public synchronized void processFailedChanges(Map<String, FileChangeType> changes,
+                                                      RuntimeException            error)
+        {
+            assertEquals(error.getMessage(), "Test failure");
+            failedChanges.putAll(changes);
+        }
+    }
+
+
+    /**
+     * Repeated changes to a file result in one change with the latest change type, except that a file that is
+     * created and then changed is still passed on as created.
+     */
+    @Test public void testCoalescing()
+    {
+        RecordingProcessor processor = new RecordingProcessor();
+        FileChangeBatcher  batcher   = new FileChangeBatcher("Test", processor, batchWindow, 1000, 1);
+
+        batcher.addChange("/data/new.csv", FileChangeType.CREATED);
+        batcher.addChange("/data/new.csv", FileChangeType.CHANGED);
+        batcher.addChange("/data/old.csv", FileChangeType.CHANGED);
+        batcher.addChange("/data/old.csv", FileChangeType.DELETED);
+        batcher.addChange("/data/other.csv", FileChangeType.CHANGED);
+
+        batcher.flush();
+
+        assertEquals(processor.batches.size(), 1);
+
+        Map<String, FileChangeType> batch = processor.batches.get(0);
+
+        assertEquals(batch.size(), 3);
+        assertEquals(batch.get("/data/new.csv"), FileChangeType.CREATED);
+        assertEquals(batch.get("/data/old.csv"), FileChangeType.DELETED);
+        assertEquals(batch.get("/data/other.csv"), FileChangeType.CHANGED);
+
+        assertEquals(batcher.getChangesReceived(), 5);
+        assertEquals(batcher.getChangesCoalesced(), 2);
+        assertEquals(batcher.getChangesProcessed(), 3);
+        assertEquals(batcher.getBatchesProcessed(), 1);
+
+        batcher.shutdown();
+    }
+
+
+    /**
+     * The files in a directory are all passed to the same worker.
+     */
+    @Test public void testPartitioningByDirectory()
+    {
+        final int directoryCount = 10;
+        final int fileCount      = 8;
+
+        RecordingProcessor processor = new RecordingProcessor();
+        FileChangeBatcher  batcher   = new FileChangeBatcher("Test", processor, batchWindow, 1000, 4);
+
+        for (int directory = 0; directory < directoryCount; directory++)
+        {
+            for (int file = 0; file < fileCount; file++)
+            {
+                batcher.addChange("/data/directory" + directory + "/file" + file + ".csv", FileChangeType.CREATED);
+            }
+        }
+
+        batcher.flush();
+
+        assertTrue(processor.batches.size() > 1);
+
+        Map<String, Integer> directoryBatches = new HashMap<>();
+        int                  changes          = 0;
+
+        for (int batchNumber = 0; batchNumber < processor.batches.size(); batchNumber++)
+        {
+            Set<String> directories = new HashSet<>();
+
+            for (String pathName : processor.batches.get(batchNumber).keySet())
+            {
+                directories.add(new File(pathName).getParent());
+                changes++;
+            }
+
+            for (String directory : directories)
+            {
+                assertEquals(directoryBatches.put(directory, batchNumber), null);
+            }
+        }
+
+        assertEquals(changes, directoryCount * fileCount);
+        assertEquals(directoryBatches.size(), directoryCount);
+
+        batcher.shutdown();
+    }
+
+
+    /**
+     * The changes in a batch that fails are passed back to the processor rather than being lost.
+     */
+    @Test public void testFailedBatch()
+    {
+        FailingProcessor  processor = new FailingProcessor("/data/bad");
+        FileChangeBatcher batcher   = new FileChangeBatcher("Test", processor, batchWindow, 1000, 1);
+
+        batcher.addChange("/data/bad/file1.csv", FileChangeType.CREATED);
+        batcher.addChange("/data/good/file2.csv", FileChangeType.DELETED);
+
+        batcher.flush();
+
+        assertTrue(processor.batches.isEmpty());
+        assertEquals(processor.failedChanges.size(), 2);
+        assertEquals(processor.failedChanges.get("/data/bad/file1.csv"), FileChangeType.CREATED);
+        assertEquals(processor.failedChanges.get("/data/good/file2.csv"), FileChangeType.DELETED);
+        assertEquals(batcher.getFailedBatches(), 1);
+
+        batcher.shutdown();
+    }
+
+
+    /**
+     * Only the part of a batch processed by the failing worker is passed back to the processor.
+     */
+    @Test public void testFailedPartition()
+    {
+        final int directoryCount = 10;
+        final int fileCount      = 4;
+
+        FailingProcessor  processor = new FailingProcessor("/data/directory3/");
+        FileChangeBatcher batcher   = new FileChangeBatcher("Test", processor, batchWindow, 1000, 4);
+
+        for (int directory = 0; directory < directoryCount; directory++)
+        {
+            for (int file = 0; file < fileCount; file++)
+            {
+                batcher.addChange("/data/directory" + directory + "/file" + file + ".csv", FileChangeType.CHANGED);
+            }
+        }
+
+        batcher.flush();
+
+        int processedChanges = 0;
+
+        for (Map<String, FileChangeType> batch : processor.batches)
+        {
+            processedChanges = processedChanges + batch.size();
+        }
+
+        assertEquals(batcher.getFailedBatches(), 1);
+        assertEquals(processedChanges + processor.failedChanges.size(), directoryCount * fileCount);
+
+        for (int file = 0; file < fileCount; file++)
+        {
+            assertEquals(processor.failedChanges.get("/data/directory3/file" + file + ".csv"), FileChangeType.CHANGED);
+        }
+
+        batcher.shutdown();
+    }
+
+
+    /**
+     * A batch that fails on the scheduler thread is passed back to the processor.
+     *
+     * @throws InterruptedException the test was interrupted
+     */
+    @Test public void testFailedScheduledBatch() throws InterruptedException
+    {
+        FailingProcessor  processor = new FailingProcessor("/data/bad");
+        FileChangeBatcher batcher   = new FileChangeBatcher("Test", processor, 10, 1000, 1);
+
+        batcher.addChange("/data/bad/file1.csv", FileChangeType.CHANGED);
+
+        long endTime = System.currentTimeMillis() + 10000;
+
+        while ((batcher.getFailedBatches() == 0) && (System.currentTimeMillis() < endTime))
+        {
+            Thread.sleep(10);
+        }
+
+        assertEquals(batcher.getFailedBatches(), 1);
+
+        synchronized (processor)
+        {
+            assertEquals(processor.failedChanges.get("/data/bad/file1.csv"), FileChangeType.CHANGED);
+        }
+
+        batcher.shutdown();
+    }
+}
@@ -43,6 +43,19 @@ public interface OMRSTopic
                           String            serviceName);
 
 
+    /**
+     * Register a listener object.  This object will be supplied with the events received on the topic
+     * that match its subscription.
+     *
+     * @param newListener object implementing the OMRSTopicListener interface
+     * @param serviceName name of service that the listener is from
+     * @param subscription description of the events that the listener wants (null means all events)
+     */
+    void registerListener(OMRSTopicListener     newListener,
+                          String                serviceName,
+                          OMRSTopicSubscription subscription);
+
+
     /**
      * Sends the supplied event to the topic.
      *
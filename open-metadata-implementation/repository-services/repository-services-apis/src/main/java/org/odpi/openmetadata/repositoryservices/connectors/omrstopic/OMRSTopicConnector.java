@@ -13,19 +13,32 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
 import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
 import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -53,6 +66,14 @@ import java.util.List;
  *         connectors that implement OpenMetadataTopic.
  *     </li>
  * </ul>
+ * <p>
+ *     Listeners may register with an OMRSTopicSubscription that describes the events they want.  Each inbound
+ *     event is tested against the subscriptions once, before it is passed to the listeners, and only the
+ *     listeners that want the event are called.  The listeners whose type names accept a type are remembered
+ *     in a type index so the type hierarchy of the instance is only examined the first time an event for that type
+ *     arrives.  The type index is rebuilt when listeners register and when type events arrive.  Events that do not
+ *     carry the supertypes of their type are tested against the subscriptions each time and are not indexed.
+ * </p>
  */
 public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
                                                                  VirtualConnectorExtension,
@@ -63,9 +84,12 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
     private List<Connector> embeddedConnectors = null;
 
-    private List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
+    private List<OMRSTopicListenerWrapper>   internalTopicListeners = new CopyOnWriteArrayList<>();
     private List<OpenMetadataTopicConnector> eventBusConnectors     = new ArrayList<>();
 
+    private Map<String, Set<OMRSTopicListenerWrapper>> typeIndex    = new ConcurrentHashMap<>();
+    private final Object                               typeIndexLock = new Object();
+
     private String                    connectionName       = OMRSAuditingComponent.OMRS_TOPIC_CONNECTOR.getComponentName();
     private String                    topicName = "<Unknown>";
     private OMRSEventProtocolVersion  eventProtocolVersion = OMRSEventProtocolVersion.V1;
@@ -135,7 +159,11 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener, auditLog));
+            synchronized (typeIndexLock)
+            {
+                internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener, auditLog));
+                typeIndex.clear();
+            }
         }
         else
         {
@@ -158,12 +186,47 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     @Override
     public void registerListener(OMRSTopicListener topicListener,
                                  String            serviceName)
+    {
+        this.registerListener(topicListener, serviceName, null);
+    }
+
+
+    /**
+     * Register a listener object.  This object will be supplied with the events received on the topic
+     * that match its subscription.
+     *
+     * @param topicListener object implementing the OMRSTopicListener interface
+     * @param serviceName name of service that the listener is from
+     * @param subscription description of the events that the listener wants (null means all events)
+     */
+    @Override
+    public void registerListener(OMRSTopicListener     topicListener,
+                                 String                serviceName,
+                                 OMRSTopicSubscription subscription)
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener,
-                                                                    serviceName,
-                                                                    auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
+            AuditLog listenerAuditLog = null;
+
+            if (auditLog != null)
+            {
+                listenerAuditLog = auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER);
+            }
+
+            /*
+             * The type index is cleared under the same lock that guards building its entries, so an entry built
+             * from the listeners registered before this one can not be saved after the index is cleared.
+             */
+            synchronized (typeIndexLock)
+            {
+                internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener,
+                                                                        serviceName,
+                                                                        subscription,
+                                                                        listenerAuditLog));
+                typeIndex.clear();
+            }
+
+            log.debug("Registered listener for service " + serviceName + " with subscription " + subscription);
         }
         else
         {
@@ -176,6 +239,18 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Return the wrappers of the registered listeners.  They hold the counts of the events passed to each listener
+     * and filtered out by its subscription.
+     *
+     * @return list of listener wrappers
+     */
+    List<OMRSTopicListenerWrapper> getTopicListeners()
+    {
+        return Collections.unmodifiableList(internalTopicListeners);
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      * OMRSTopicConnector needs to pass on the start() to its embedded connectors.
@@ -416,7 +491,6 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     public void processEvent(String event)
     {
         final String actionDescription = "Process an OMRS Event";
-        final String methodName = "processEvent";
 
         if (event != null)
         {
@@ -447,28 +521,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
              */
             if (eventBean instanceof OMRSEventV1)
             {
-                OMRSEventBean finalEventBean = eventBean;
-                internalTopicListeners.parallelStream().forEach((topicListener) ->
-                {
-                    try
-                    {
-                        this.processOMRSEvent((OMRSEventV1) finalEventBean, topicListener);
-                    }
-                    catch (Throwable  error)
-                    {
-                        log.debug("Unable to pass event to one of the topic listeners");
-
-                        if (auditLog != null)
-                        {
-                            auditLog.logException(methodName,
-                                                  OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
-                                                                                                            error.toString(),
-                                                                                                            topicListener.toString()),
-                                                  event,
-                                                  error);
-                        }
-                    }
-                });
+                this.distributeEvent((OMRSEventV1) eventBean, event);
             }
         }
         else
@@ -483,6 +536,225 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Pass an event that has already been parsed to the registered listeners whose subscriptions match it.
+     * This is used by the components that receive events as objects rather than from a real topic, for example
+     * the admin services when an access service is initialized after the server has started.
+     *
+     * @param event Version 1 of the OMRSEvent that defines the category and payload of the incoming event
+     */
+    protected void distributeEvent(OMRSEventV1 event)
+    {
+        if (event != null)
+        {
+            this.distributeEvent(event, event.toString());
+        }
+    }
+
+
+    /**
+     * Pass the event to each of the interested listeners.  An exception from one listener does not stop the
+     * event reaching the others.
+     *
+     * @param event Version 1 of the OMRSEvent that defines the category and payload of the incoming event
+     * @param eventDescription description of the event for error messages
+     */
+    private void distributeEvent(OMRSEventV1 event,
+                                 String      eventDescription)
+    {
+        final String methodName = "processEvent";
+
+        List<OMRSTopicListenerWrapper> interestedListeners = this.getInterestedListeners(event);
+
+        interestedListeners.parallelStream().forEach((topicListener) ->
+        {
+            try
+            {
+                this.processOMRSEvent(event, topicListener);
+            }
+            catch (Throwable  error)
+            {
+                log.debug("Unable to pass event to one of the topic listeners");
+
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(eventDescription,
+                                                                                                    error.toString(),
+                                                                                                    topicListener.toString()),
+                                          eventDescription,
+                                          error);
+                }
+            }
+        });
+    }
+
+
+    /**
+     * Return the listeners whose subscriptions match the event.  The other listeners are counted as having
+     * the event filtered out.
+     *
+     * @param event Version 1 of the OMRSEvent that defines the category and payload of the incoming event.
+     * @return list of listeners to pass the event to
+     */
+    private List<OMRSTopicListenerWrapper> getInterestedListeners(OMRSEventV1 event)
+    {
+        OMRSEventCategory             eventCategory     = event.getEventCategory();
+        OMRSInstanceEventType         instanceEventType = null;
+        Boolean                       homeInstanceEvent = null;
+        Set<OMRSTopicListenerWrapper> typeListeners     = null;
+
+        if (eventCategory == OMRSEventCategory.TYPEDEF)
+        {
+            /*
+             * The type hierarchy may be changing, so the type index is rebuilt as new instance events arrive.
+             */
+            synchronized (typeIndexLock)
+            {
+                typeIndex.clear();
+            }
+        }
+        else if ((eventCategory == OMRSEventCategory.INSTANCE) && (event.getInstanceEventSection() != null))
+        {
+            OMRSEventV1InstanceSection instanceSection = event.getInstanceEventSection();
+            InstanceAuditHeader        instance        = instanceSection.getEntity();
+
+            if (instance == null)
+            {
+                instance = instanceSection.getRelationship();
+            }
+
+            instanceEventType = instanceSection.getEventType();
+            homeInstanceEvent = this.isHomeInstanceEvent(event.getOriginator(), instance);
+            typeListeners = this.getTypeListeners(instanceSection.getTypeDefName(), instance);
+        }
+
+        List<OMRSTopicListenerWrapper> interestedListeners = new ArrayList<>();
+
+        for (OMRSTopicListenerWrapper topicListener : internalTopicListeners)
+        {
+            OMRSTopicSubscription subscription = topicListener.getSubscription();
+
+            if ((subscription == null) ||
+                ((subscription.acceptsEvent(eventCategory, instanceEventType, homeInstanceEvent)) &&
+                 ((typeListeners == null) || (typeListeners.contains(topicListener)))))
+            {
+                interestedListeners.add(topicListener);
+            }
+            else
+            {
+                topicListener.eventFiltered();
+            }
+        }
+
+        return interestedListeners;
+    }
+
+
+    /**
+     * Return the listeners that want events for instances of the type.  The result is saved in the type index if the
+     * event includes the supertypes of the instance's type.  Entries are built under the lock used by registerListener
+     * so an entry never misses a listener that registered before it was saved.
+     *
+     * @param typeName name of the type of the instance from the event (may be null)
+     * @param instance entity or relationship from the event (may be null)
+     * @return set of listeners or null if the event does not name a type
+     */
+    private Set<OMRSTopicListenerWrapper> getTypeListeners(String              typeName,
+                                                           InstanceAuditHeader instance)
+    {
+        InstanceType instanceType = null;
+
+        if (instance != null)
+        {
+            instanceType = instance.getType();
+        }
+
+        if ((typeName == null) && (instanceType != null))
+        {
+            typeName = instanceType.getTypeDefName();
+        }
+
+        if (typeName == null)
+        {
+            return null;
+        }
+
+        Set<OMRSTopicListenerWrapper> typeListeners = typeIndex.get(typeName);
+
+        if (typeListeners != null)
+        {
+            return typeListeners;
+        }
+
+        /*
+         * A null list of supertypes is either a root type or an event that does not carry the type hierarchy.
+         * The two can not be told apart so the null is passed on and the listeners that want subtypes are given
+         * the event.  The result is only saved in the type index if the event includes the supertypes of its type.
+         */
+        List<TypeDefLink> superTypes = null;
+
+        if (instanceType != null)
+        {
+            superTypes = instanceType.getTypeDefSuperTypes();
+        }
+
+        boolean saveInTypeIndex = (superTypes != null) && (typeName.equals(instanceType.getTypeDefName()));
+
+        synchronized (typeIndexLock)
+        {
+            if (saveInTypeIndex)
+            {
+                typeListeners = typeIndex.get(typeName);
+
+                if (typeListeners != null)
+                {
+                    return typeListeners;
+                }
+            }
+
+            typeListeners = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            for (OMRSTopicListenerWrapper topicListener : internalTopicListeners)
+            {
+                OMRSTopicSubscription subscription = topicListener.getSubscription();
+
+                if ((subscription == null) || (subscription.acceptsType(typeName, superTypes)))
+                {
+                    typeListeners.add(topicListener);
+                }
+            }
+
+            if (saveInTypeIndex)
+            {
+                typeIndex.put(typeName, typeListeners);
+            }
+        }
+
+        return typeListeners;
+    }
+
+
+    /**
+     * Determine whether an instance event was sent by the home repository of the instance.
+     *
+     * @param originator originator of the event
+     * @param instance entity or relationship from the event (may be null)
+     * @return boolean flag or null if this can not be determined from the event
+     */
+    private Boolean isHomeInstanceEvent(OMRSEventOriginator originator,
+                                        InstanceAuditHeader instance)
+    {
+        if ((originator == null) || (originator.getMetadataCollectionId() == null) ||
+            (instance == null) || (instance.getMetadataCollectionId() == null))
+        {
+            return null;
+        }
+
+        return originator.getMetadataCollectionId().equals(instance.getMetadataCollectionId());
+    }
+
+
     /**
      * Process the OMRS Event bean.  The processing is careful of nulls and ignores an event
      * that is incorrectly formatted.  The assumption is that the unformatted part of the message
@@ -567,6 +839,15 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         if (auditLog != null)
         {
+            for (OMRSTopicListenerWrapper topicListener : internalTopicListeners)
+            {
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.OMRS_TOPIC_LISTENER_EVENT_COUNTS.getMessageDefinition(topicListener.getServiceName(),
+                                                                                                        topicName,
+                                                                                                        Long.toString(topicListener.getEventsDelivered()),
+                                                                                                        Long.toString(topicListener.getEventsFiltered())));
+            }
+
             auditLog.logMessage(actionDescription,
                                 OMRSAuditCode.OMRS_TOPIC_LISTENER_DISCONNECTED.getMessageDefinition(topicName),
                                 this.getConnection().toString());
@@ -9,21 +9,30 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 
 /**
  * OMRSTopicListenerWrapper is a class that wraps a real OMRSTopicListener when it registers with the
  * OMRSTopicConnector.  Its sole purpose is to catch exceptions from the real OMRSTopicListener and create
  * diagnostics.  The listeners are called in parallel with no mechanism for the connector to properly
  * manage errors from the listener so this wrapper has been installed.  If the real OMRSTopicListener
- * has been implemented properly then no errors should be handled by this wrapper class
+ * has been implemented properly then no errors should be handled by this wrapper class.
+ * <p>
+ * The wrapper also holds the subscription that the listener registered with (if any) and counts the events
+ * passed to the listener and the events that the subscription filtered out.
  */
 public class OMRSTopicListenerWrapper implements OMRSTopicListener
 {
     private final String THREAD_NAME_DESCRIPTION = " OMRSTopicListener";
 
-    private OMRSTopicListener  realListener;
-    private AuditLog           auditLog;
-    private String             serviceName = "<Unknown Service>";
+    private OMRSTopicListener     realListener;
+    private AuditLog              auditLog;
+    private String                serviceName  = "<Unknown Service>";
+    private OMRSTopicSubscription subscription = null;
+
+    private final AtomicLong      eventsDelivered = new AtomicLong(0);
+    private final AtomicLong      eventsFiltered  = new AtomicLong(0);
 
 
     /**
@@ -43,6 +52,25 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
     }
 
 
+    /**
+     * Save the real listener, the events it subscribes to and other error handling information.
+     *
+     * @param realListener this is the topic listener that was registered.
+     * @param serviceName this is the name of the service that owns the topic listener.
+     * @param subscription this describes the events that the topic listener wants (null means all events).
+     * @param auditLog this is the log destination
+     */
+    OMRSTopicListenerWrapper(OMRSTopicListener     realListener,
+                             String                serviceName,
+                             OMRSTopicSubscription subscription,
+                             AuditLog              auditLog)
+    {
+        this(realListener, serviceName, auditLog);
+
+        this.subscription = subscription;
+    }
+
+
     /**
      * Save the real listener and other error handling information.
      *
@@ -68,6 +96,11 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
     private void logUnhandledException(Throwable  error,
                                        String     methodName)
     {
+        if (auditLog == null)
+        {
+            return;
+        }
+
         auditLog.logException(methodName,
                               OMRSAuditCode.UNHANDLED_EXCEPTION_FROM_SERVICE_LISTENER.getMessageDefinition(serviceName,
                                                                                                            error.getClass().getName(),
@@ -76,6 +109,59 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
     }
 
 
+    /**
+     * Return the name of the service that owns the real listener.
+     *
+     * @return service name
+     */
+    public String getServiceName()
+    {
+        return serviceName;
+    }
+
+
+    /**
+     * Return the subscription of the real listener.
+     *
+     * @return subscription or null if the listener receives all events
+     */
+    OMRSTopicSubscription getSubscription()
+    {
+        return subscription;
+    }
+
+
+    /**
+     * Return the number of events passed to the real listener.
+     *
+     * @return count
+     */
+    public long getEventsDelivered()
+    {
+        return eventsDelivered.get();
+    }
+
+
+    /**
+     * Return the number of events that were not passed to the real listener because they did not match its subscription.
+     *
+     * @return count
+     */
+    public long getEventsFiltered()
+    {
+        return eventsFiltered.get();
+    }
+
+
+    /**
+     * Record that an event was not passed to the real listener.
+     */
+    void eventFiltered()
+    {
+        eventsFiltered.incrementAndGet();
+    }
+
+
     /**
      * Method to pass a Registry event received on topic.
      *
@@ -89,6 +175,8 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
 
         Thread.currentThread().setName(serviceName + THREAD_NAME_DESCRIPTION);
 
+        eventsDelivered.incrementAndGet();
+
         try
         {
             realListener.processRegistryEvent(event);
@@ -115,6 +203,8 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
 
         Thread.currentThread().setName(serviceName + THREAD_NAME_DESCRIPTION);
 
+        eventsDelivered.incrementAndGet();
+
         try
         {
             realListener.processTypeDefEvent(event);
@@ -141,6 +231,8 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
 
         Thread.currentThread().setName(serviceName + THREAD_NAME_DESCRIPTION);
 
+        eventsDelivered.incrementAndGet();
+
         try
         {
             realListener.processInstanceEvent(event);
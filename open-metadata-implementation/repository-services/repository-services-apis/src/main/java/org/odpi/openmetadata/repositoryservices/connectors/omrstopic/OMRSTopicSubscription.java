@@ -0,0 +1,319 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * OMRSTopicSubscription describes the events that an OMRSTopicListener wishes to receive.  It is supplied when the
+ * listener registers with the OMRSTopicConnector.  The connector tests each inbound event against the subscriptions
+ * of its listeners before the event is passed on, so a listener is not called for events it would ignore.
+ * <p>
+ *     Each part of the subscription narrows the events that are passed to the listener.  A part that is not set
+ *     (the default) does not filter the events.
+ * </p>
+ * <ul>
+ *     <li>
+ *         eventCategories: the categories of event (registry, type or instance) to pass on.
+ *     </li>
+ *     <li>
+ *         instanceEventTypes: the types of instance event (new entity, updated relationship, ...) to pass on.
+ *     </li>
+ *     <li>
+ *         typeNames: the names of the types of the instances that the instance events are about.  When
+ *         includeSubtypes is set (the default) the events for instances of the subtypes of these types are passed on too.
+ *         Instance events that do not name a type, such as batch events, are always passed on, and so are events
+ *         that name a type without its supertypes when includeSubtypes is set.
+ *     </li>
+ *     <li>
+ *         homeInstanceEvents and referenceInstanceEvents: whether to pass on instance events that were sent by the
+ *         home repository of the instance, and instance events sent by other members of the cohort - for example, when
+ *         they refresh their reference copies.
+ *     </li>
+ * </ul>
+ */
+public class OMRSTopicSubscription
+{
+    private Set<OMRSEventCategory>     eventCategories          = null;
+    private Set<OMRSInstanceEventType> instanceEventTypes       = null;
+    private Set<String>                typeNames                = null;
+    private boolean                    includeSubtypes          = true;
+    private boolean                    homeInstanceEvents       = true;
+    private boolean                    referenceInstanceEvents  = true;
+
+
+    /**
+     * Default constructor creates a subscription to all events.
+     */
+    public OMRSTopicSubscription()
+    {
+    }
+
+
+    /**
+     * Return the categories of event that are passed to the listener.  Null means all categories.
+     *
+     * @return set of event categories
+     */
+    public Set<OMRSEventCategory> getEventCategories()
+    {
+        if (eventCategories == null)
+        {
+            return null;
+        }
+
+        return Collections.unmodifiableSet(eventCategories);
+    }
+
+
+    /**
+     * Set up the categories of event that are passed to the listener.  Null means all categories.
+     *
+     * @param eventCategories set of event categories
+     */
+    public void setEventCategories(Set<OMRSEventCategory> eventCategories)
+    {
+        if ((eventCategories == null) || (eventCategories.isEmpty()))
+        {
+            this.eventCategories = null;
+        }
+        else
+        {
+            this.eventCategories = EnumSet.copyOf(eventCategories);
+        }
+    }
+
+
+    /**
+     * Return the types of instance event that are passed to the listener.  Null means all types of instance event.
+     *
+     * @return set of instance event types
+     */
+    public Set<OMRSInstanceEventType> getInstanceEventTypes()
+    {
+        if (instanceEventTypes == null)
+        {
+            return null;
+        }
+
+        return Collections.unmodifiableSet(instanceEventTypes);
+    }
+
+
+    /**
+     * Set up the types of instance event that are passed to the listener.  Null means all types of instance event.
+     *
+     * @param instanceEventTypes set of instance event types
+     */
+    public void setInstanceEventTypes(Set<OMRSInstanceEventType> instanceEventTypes)
+    {
+        if ((instanceEventTypes == null) || (instanceEventTypes.isEmpty()))
+        {
+            this.instanceEventTypes = null;
+        }
+        else
+        {
+            this.instanceEventTypes = EnumSet.copyOf(instanceEventTypes);
+        }
+    }
+
+
+    /**
+     * Return the names of the types of instance that the listener receives events for.  Null means all types.
+     *
+     * @return set of type names
+     */
+    public Set<String> getTypeNames()
+    {
+        if (typeNames == null)
+        {
+            return null;
+        }
+
+        return Collections.unmodifiableSet(typeNames);
+    }
+
+
+    /**
+     * Set up the names of the types of instance that the listener receives events for.  Null means all types.
+     *
+     * @param typeNames set of type names
+     */
+    public void setTypeNames(Set<String> typeNames)
+    {
+        if ((typeNames == null) || (typeNames.isEmpty()))
+        {
+            this.typeNames = null;
+        }
+        else
+        {
+            this.typeNames = new HashSet<>(typeNames);
+        }
+    }
+
+
+    /**
+     * Return whether the events for instances of the subtypes of the type names are passed to the listener.
+     *
+     * @return boolean flag
+     */
+    public boolean isIncludeSubtypes()
+    {
+        return includeSubtypes;
+    }
+
+
+    /**
+     * Set up whether the events for instances of the subtypes of the type names are passed to the listener.
+     *
+     * @param includeSubtypes boolean flag
+     */
+    public void setIncludeSubtypes(boolean includeSubtypes)
+    {
+        this.includeSubtypes = includeSubtypes;
+    }
+
+
+    /**
+     * Return whether instance events sent by the home repository of the instance are passed to the listener.
+     *
+     * @return boolean flag
+     */
+    public boolean isHomeInstanceEvents()
+    {
+        return homeInstanceEvents;
+    }
+
+
+    /**
+     * Set up whether instance events sent by the home repository of the instance are passed to the listener.
+     *
+     * @param homeInstanceEvents boolean flag
+     */
+    public void setHomeInstanceEvents(boolean homeInstanceEvents)
+    {
+        this.homeInstanceEvents = homeInstanceEvents;
+    }
+
+
+    /**
+     * Return whether instance events sent by a repository that is not the home of the instance are passed to the listener.
+     *
+     * @return boolean flag
+     */
+    public boolean isReferenceInstanceEvents()
+    {
+        return referenceInstanceEvents;
+    }
+
+
+    /**
+     * Set up whether instance events sent by a repository that is not the home of the instance are passed to the listener.
+     *
+     * @param referenceInstanceEvents boolean flag
+     */
+    public void setReferenceInstanceEvents(boolean referenceInstanceEvents)
+    {
+        this.referenceInstanceEvents = referenceInstanceEvents;
+    }
+
+
+    /**
+     * Test whether an event of the requested category and (for instance events) type and origin is wanted.
+     *
+     * @param eventCategory category of the event
+     * @param instanceEventType type of instance event, or null for other categories
+     * @param homeInstanceEvent whether the instance event came from the home of the instance, or null if this is not known
+     * @return boolean flag
+     */
+    boolean acceptsEvent(OMRSEventCategory     eventCategory,
+                         OMRSInstanceEventType instanceEventType,
+                         Boolean               homeInstanceEvent)
+    {
+        if ((eventCategories != null) && (! eventCategories.contains(eventCategory)))
+        {
+            return false;
+        }
+
+        if (eventCategory == OMRSEventCategory.INSTANCE)
+        {
+            if ((instanceEventTypes != null) && (! instanceEventTypes.contains(instanceEventType)))
+            {
+                return false;
+            }
+
+            if (homeInstanceEvent != null)
+            {
+                return homeInstanceEvent ? homeInstanceEvents : referenceInstanceEvents;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Test whether events for instances of the requested type are wanted.
+     *
+     * @param typeName name of the type of the instance
+     * @param superTypes supertypes of the type, or null if they are not known (the event is then accepted if subtypes are wanted)
+     * @return boolean flag
+     */
+    boolean acceptsType(String            typeName,
+                        List<TypeDefLink> superTypes)
+    {
+        if ((typeNames == null) || (typeName == null) || (typeNames.contains(typeName)))
+        {
+            return true;
+        }
+
+        if (includeSubtypes)
+        {
+            if (superTypes == null)
+            {
+                /*
+                 * The event does not describe the type hierarchy so the event may be for a subtype.
+                 */
+                return true;
+            }
+
+            for (TypeDefLink superType : superTypes)
+            {
+                if ((superType != null) && (typeNames.contains(superType.getName())))
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSTopicSubscription{" +
+                "eventCategories=" + eventCategories +
+                ", instanceEventTypes=" + instanceEventTypes +
+                ", typeNames=" + typeNames +
+                ", includeSubtypes=" + includeSubtypes +
+                ", homeInstanceEvents=" + homeInstanceEvents +
+                ", referenceInstanceEvents=" + referenceInstanceEvents +
+                '}';
+    }
+}
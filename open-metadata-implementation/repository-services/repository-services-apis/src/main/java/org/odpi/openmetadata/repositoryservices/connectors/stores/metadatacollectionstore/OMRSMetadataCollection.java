@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.Future;
@@ -841,6 +842,113 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
 
 
 
+    /**
+     * Return the header and classifications for a list of entities.  The returned entity summaries may be from
+     * full entity objects or entity proxies.  Unknown entities are skipped so the result may be shorter than the
+     * list of requested GUIDs.  The results are returned in the order of the requested GUIDs.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntitySummary structures or null if none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntitySummary> getEntitySummariesByGUIDs(String       userId,
+                                                         List<String> guids) throws InvalidParameterException,
+                                                                                    RepositoryErrorException,
+                                                                                    UserNotAuthorizedException
+    {
+        /*
+         * This is a new method - if this method is not overridden in the implementing repository connector,
+         * the logic below is executed.
+         */
+        List<EntitySummary> results = new ArrayList<>();
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                try
+                {
+                    EntitySummary entity = this.getEntitySummary(userId, guid);
+
+                    if (entity != null)
+                    {
+                        results.add(entity);
+                    }
+                }
+                catch (EntityNotKnownException notKnown)
+                {
+                    // Skip unknown entities.
+                }
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return the header, classifications and properties of a list of entities.  This requires the full entity
+     * objects to be available.  Unknown entities, and entities that are only stored as proxies, are skipped so the
+     * result may be shorter than the list of requested GUIDs.  The results are returned in the order of the
+     * requested GUIDs.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures or null if none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                 List<String> guids) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            UserNotAuthorizedException
+    {
+        /*
+         * This is a new method - if this method is not overridden in the implementing repository connector,
+         * the logic below is executed.
+         */
+        List<EntityDetail> results = new ArrayList<>();
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                try
+                {
+                    EntityDetail entity = this.getEntityDetail(userId, guid);
+
+                    if (entity != null)
+                    {
+                        results.add(entity);
+                    }
+                }
+                catch (EntityNotKnownException | EntityProxyOnlyException notAvailable)
+                {
+                    // Skip entities that are not fully stored in this repository.
+                }
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1171,6 +1279,58 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                             UserNotAuthorizedException;
 
 
+    /**
+     * Return the current version of a list of relationships.  Unknown relationships are skipped so the result may be
+     * shorter than the list of requested GUIDs.  The results are returned in the order of the requested GUIDs.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationship structures or null if none of the relationships are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationshipsByGUIDs(String       userId,
+                                                      List<String> guids) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 UserNotAuthorizedException
+    {
+        /*
+         * This is a new method - if this method is not overridden in the implementing repository connector,
+         * the logic below is executed.
+         */
+        List<Relationship> results = new ArrayList<>();
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                try
+                {
+                    Relationship relationship = this.getRelationship(userId, guid);
+
+                    if (relationship != null)
+                    {
+                        results.add(relationship);
+                    }
+                }
+                catch (RelationshipNotKnownException notKnown)
+                {
+                    // Skip unknown relationships.
+                }
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be received as a series of
      * pages.
@@ -15,6 +15,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.*;
+import java.util.regex.Pattern;
 
 /**
  * <p>
@@ -508,6 +509,10 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     {
         if (typeDefName != null)
         {
+            /*
+             * The name is compiled once rather than for every type tested.
+             */
+            Pattern               namePattern     = Pattern.compile(typeDefName);
             List<TypeDef>         matchedTypeDefs = new ArrayList<>();
 
             if (allTypeDefs != null)
@@ -516,7 +521,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                 {
                     if (typeDef != null)
                     {
-                        if (typeDef.getName().matches(typeDefName))
+                        if (namePattern.matcher(typeDef.getName()).matches())
                         {
                             matchedTypeDefs.add(typeDef);
                         }
@@ -532,7 +537,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                 {
                     if (attributeTypeDef != null)
                     {
-                        if (attributeTypeDef.getName().matches(typeDefName))
+                        if (namePattern.matcher(attributeTypeDef.getName()).matches())
                         {
                             matchedAttributeTypeDefs.add(attributeTypeDef);
                         }
@@ -974,13 +979,14 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     {
         if (allTypes != null)
         {
+            Pattern       searchPattern   = Pattern.compile(searchCriteria);
             List<TypeDef> matchedTypeDefs = new ArrayList<>();
 
             for (TypeDef typeDef : allTypes)
             {
                 if (typeDef != null)
                 {
-                    if (typeDef.getName().matches(searchCriteria))
+                    if (searchPattern.matcher(typeDef.getName()).matches())
                     {
                         matchedTypeDefs.add(typeDef);
                     }
@@ -1842,6 +1848,42 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate the parameters for a retrieve of a list of instances.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the instances.
+     * @param methodName name of calling method.
+     * @throws InvalidParameterException the list of guids is null or empty, or one of the guids is null
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     */
+    protected  void getInstancesParameterValidation(String       userId,
+                                                    List<String> guids,
+                                                    String       methodName) throws InvalidParameterException,
+                                                                                    RepositoryErrorException
+    {
+        final String  guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+
+        if ((guids == null) || (guids.isEmpty()))
+        {
+            repositoryValidator.validateGUID(repositoryName, guidsParameterName, null, methodName);
+        }
+        else
+        {
+            for (String guid : guids)
+            {
+                repositoryValidator.validateGUID(repositoryName, guidsParameterName, guid, methodName);
+            }
+        }
+    }
+
+
     /**
      * Validate the parameters for getRelationshipsForEntity.
      *
@@ -2727,6 +2769,69 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the header and classifications for a list of entities.  Unknown entities are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntitySummary structures or null if none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntitySummary> getEntitySummariesByGUIDs(String       userId,
+                                                         List<String> guids) throws InvalidParameterException,
+                                                                                    RepositoryErrorException,
+                                                                                    UserNotAuthorizedException
+    {
+        final String  methodName = "getEntitySummariesByGUIDs";
+
+        /*
+         * Validate parameters
+         */
+        this.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        return super.getEntitySummariesByGUIDs(userId, guids);
+    }
+
+
+    /**
+     * Return the header, classifications and properties of a list of entities.  Unknown entities and
+     * entity proxies are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures or null if none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                 List<String> guids) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            UserNotAuthorizedException
+    {
+        final String  methodName = "getEntitiesByGUIDs";
+
+        /*
+         * Validate parameters
+         */
+        this.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        return super.getEntitiesByGUIDs(userId, guids);
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -3228,6 +3333,37 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the current version of a list of relationships.  Unknown relationships are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationship structures or null if none of the relationships are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<Relationship> getRelationshipsByGUIDs(String       userId,
+                                                      List<String> guids) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationshipsByGUIDs";
+
+        /*
+         * Validate parameters
+         */
+        this.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        return super.getRelationshipsByGUIDs(userId, guids);
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be received as a series of
      * pages.
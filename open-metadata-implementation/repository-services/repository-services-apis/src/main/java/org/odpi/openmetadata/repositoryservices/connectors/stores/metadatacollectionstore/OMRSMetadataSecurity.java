@@ -288,6 +288,28 @@ public class OMRSMetadataSecurity implements OpenMetadataRepositorySecurity
     }
 
 
+    /**
+     * Return the entities from a list that a specific user is allowed to read.
+     *
+     * @param userId identifier of user
+     * @param metadataCollectionName configurable name of the metadata collection
+     * @param instances instances to test
+     * @return instances that the user is authorized to read - these are the supplied objects in their original order
+     */
+    @Override
+    public List<EntityDetail>  filterEntitiesForRead(String              userId,
+                                                     String              metadataCollectionName,
+                                                     List<EntityDetail>  instances)
+    {
+        if (connector != null)
+        {
+            return connector.filterEntitiesForRead(userId, metadataCollectionName, instances);
+        }
+
+        return instances;
+    }
+
+
     /**
      * Tests for whether a specific user should have read access to a specific instance within a repository.
      *
@@ -177,6 +177,20 @@ public interface OpenMetadataRepositorySecurity
                                     EntityDetail instance) throws UserNotAuthorizedException;
 
 
+    /**
+     * Return the entities from a list that a specific user is allowed to read.  This allows a security
+     * connector to check a whole result list with a single request rather than one request per entity.
+     *
+     * @param userId identifier of user
+     * @param metadataCollectionName configurable name of the metadata collection
+     * @param instances instances to test
+     * @return instances that the user is authorized to read - these are the supplied objects in their original order
+     */
+    List<EntityDetail>  filterEntitiesForRead(String              userId,
+                                              String              metadataCollectionName,
+                                              List<EntityDetail>  instances);
+
+
     /**
      * Tests for whether a specific user should have read access to a specific instance within a repository.
      *
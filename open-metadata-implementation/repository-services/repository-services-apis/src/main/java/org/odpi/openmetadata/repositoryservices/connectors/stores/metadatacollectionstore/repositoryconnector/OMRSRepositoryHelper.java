@@ -218,6 +218,19 @@ public interface OMRSRepositoryHelper extends OMRSRepositoryPropertiesHelper
                       String expectedTypeName);
 
 
+    /**
+     * Return the names of the supertypes of a type, starting with its immediate supertype.  The result is
+     * maintained by the repository content manager as TypeDefs are added and changed, so it is cheap enough
+     * to call for every event.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param typeName name of the type - this value is not included in the result.
+     * @return unmodifiable set of type names (empty if the type has no supertypes; null if the type is not known)
+     */
+    Set<String>  getSuperTypeNames(String sourceName,
+                                   String typeName);
+
+
     /**
      * Return the list of type names for all of the subtypes of an entity type.
      *
@@ -205,6 +205,14 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                       "The OMRS Topic Connector is no longer able to receive or send events.",
                       "Verify that this is part of the server disconnecting from the cohort."),
 
+    OMRS_TOPIC_LISTENER_EVENT_COUNTS("OMRS-AUDIT-0027",
+                      OMRSAuditLogRecordSeverity.SHUTDOWN,
+                      "The {0} listener on topic {1} was passed {2} events and {3} events were filtered out by its subscription",
+                      "The OMRS Topic Connector only passes a listener the events that match the subscription that the listener " +
+                                "registered with.  These counts cover the time since the listener registered.",
+                      "Use the counts to check that the service's listener is receiving the events it needs.  If it " +
+                                "misses events that it should process, review the subscription used by the service."),
+
     EVENT_MAPPER_LISTENER_DEAF("OMRS-AUDIT-0022",
                       OMRSAuditLogRecordSeverity.ERROR,
                       "The local repository's event mapper connector {0} has no connector to an event bus",
@@ -0,0 +1,249 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * OMRSTopicConnectorTest checks that the inbound events are only passed to the listeners whose
+ * subscriptions match the event, and that the events passed and filtered out are counted.
+ */
+public class OMRSTopicConnectorTest
+{
+    private static final String homeMetadataCollectionId  = "home-collection";
+    private static final String otherMetadataCollectionId = "other-collection";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+
+    /**
+     * Listener that counts the instance events it receives.
+     */
+    private static class CountingListener implements OMRSTopicListener
+    {
+        private final AtomicInteger instanceEvents = new AtomicInteger(0);
+
+        public void processRegistryEvent(OMRSRegistryEvent event) { }
+
+        public void processTypeDefEvent(OMRSTypeDefEvent event) { }
+
+        public void processInstanceEvent(OMRSInstanceEvent event)
+        {
+            instanceEvents.incrementAndGet();
+        }
+    }
+
+
+    /**
+     * Build the JSON form of an entity event.
+     *
+     * @param eventType type of instance event
+     * @param typeName type of the entity
+     * @param superTypeName supertype of the entity (or null)
+     * @param originatorMetadataCollectionId metadata collection that sent the event
+     * @return JSON event
+     * @throws Exception problem creating the JSON
+     */
+    private String getEntityEvent(OMRSInstanceEventType eventType,
+                                  String                typeName,
+                                  String                superTypeName,
+                                  String                originatorMetadataCollectionId) throws Exception
+    {
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName(typeName);
+
+        if (superTypeName != null)
+        {
+            TypeDefLink superType = new TypeDefLink();
+            superType.setName(superTypeName);
+
+            List<TypeDefLink> superTypes = new ArrayList<>();
+            superTypes.add(superType);
+            instanceType.setTypeDefSuperTypes(superTypes);
+        }
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID("entity-guid");
+        entity.setType(instanceType);
+        entity.setMetadataCollectionId(homeMetadataCollectionId);
+
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+        originator.setMetadataCollectionId(originatorMetadataCollectionId);
+
+        OMRSInstanceEvent instanceEvent = new OMRSInstanceEvent(eventType, entity);
+        instanceEvent.setEventOriginator(originator);
+
+        return objectMapper.writeValueAsString(instanceEvent.getOMRSEventV1());
+    }
+
+
+    /**
+     * Events are passed to the listeners that subscribe to them and counted as filtered for the others.
+     *
+     * @throws Exception problem creating the events
+     */
+    @Test public void testSubscriptions() throws Exception
+    {
+        OMRSTopicConnector connector = new OMRSTopicConnector();
+
+        CountingListener allEventsListener = new CountingListener();
+        CountingListener assetListener     = new CountingListener();
+        CountingListener exactTypeListener = new CountingListener();
+        CountingListener newEntityListener = new CountingListener();
+        CountingListener referenceListener = new CountingListener();
+        CountingListener registryListener  = new CountingListener();
+
+        connector.registerListener(allEventsListener, "All");
+
+        OMRSTopicSubscription subscription = new OMRSTopicSubscription();
+        subscription.setTypeNames(Collections.singleton("Asset"));
+        connector.registerListener(assetListener, "Asset", subscription);
+
+        subscription = new OMRSTopicSubscription();
+        subscription.setTypeNames(Collections.singleton("Asset"));
+        subscription.setIncludeSubtypes(false);
+        connector.registerListener(exactTypeListener, "ExactType", subscription);
+
+        subscription = new OMRSTopicSubscription();
+        subscription.setInstanceEventTypes(EnumSet.of(OMRSInstanceEventType.NEW_ENTITY_EVENT));
+        connector.registerListener(newEntityListener, "NewEntity", subscription);
+
+        subscription = new OMRSTopicSubscription();
+        subscription.setHomeInstanceEvents(false);
+        connector.registerListener(referenceListener, "Reference", subscription);
+
+        subscription = new OMRSTopicSubscription();
+        subscription.setEventCategories(EnumSet.of(OMRSEventCategory.REGISTRY));
+        connector.registerListener(registryListener, "Registry", subscription);
+
+        connector.processEvent(getEntityEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "DataFile", "Asset", homeMetadataCollectionId));
+        connector.processEvent(getEntityEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, "DataFile", "Asset", homeMetadataCollectionId));
+        connector.processEvent(getEntityEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, "Asset", null, otherMetadataCollectionId));
+        connector.processEvent(getEntityEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "GlossaryTerm", "Referenceable", homeMetadataCollectionId));
+
+        assertEquals(allEventsListener.instanceEvents.get(), 4);
+        assertEquals(assetListener.instanceEvents.get(), 3);
+        assertEquals(exactTypeListener.instanceEvents.get(), 1);
+        assertEquals(newEntityListener.instanceEvents.get(), 2);
+        assertEquals(referenceListener.instanceEvents.get(), 1);
+        assertEquals(registryListener.instanceEvents.get(), 0);
+
+        long delivered = 0;
+        long filtered  = 0;
+
+        for (OMRSTopicListenerWrapper topicListener : connector.getTopicListeners())
+        {
+            assertEquals(topicListener.getEventsDelivered() + topicListener.getEventsFiltered(), 4);
+
+            delivered += topicListener.getEventsDelivered();
+            filtered  += topicListener.getEventsFiltered();
+        }
+
+        assertEquals(delivered, 11);
+        assertEquals(filtered, 13);
+    }
+
+
+    /**
+     * A listener that wants the subtypes of a type is passed the events that do not describe the supertypes
+     * of their type, and an event without supertypes does not stop later events for the type reaching the listener.
+     *
+     * @throws Exception problem creating the events
+     */
+    @Test public void testSubtypeSubscriptionWithoutSuperTypes() throws Exception
+    {
+        OMRSTopicConnector connector = new OMRSTopicConnector();
+
+        CountingListener assetListener     = new CountingListener();
+        CountingListener exactTypeListener = new CountingListener();
+
+        OMRSTopicSubscription subscription = new OMRSTopicSubscription();
+        subscription.setTypeNames(Collections.singleton("Asset"));
+        connector.registerListener(assetListener, "Asset", subscription);
+
+        subscription = new OMRSTopicSubscription();
+        subscription.setTypeNames(Collections.singleton("Asset"));
+        subscription.setIncludeSubtypes(false);
+        connector.registerListener(exactTypeListener, "ExactType", subscription);
+
+        connector.processEvent(getEntityEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, "DataFile", null, homeMetadataCollectionId));
+        connector.processEvent(getEntityEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, "DataFile", "Asset", homeMetadataCollectionId));
+        connector.processEvent(getEntityEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, "DataFile", "Asset", homeMetadataCollectionId));
+
+        assertEquals(assetListener.instanceEvents.get(), 3);
+        assertEquals(exactTypeListener.instanceEvents.get(), 0);
+    }
+
+
+    /**
+     * A listener that registers while events are being processed receives all of the events for its types that
+     * arrive after it has registered.
+     *
+     * @throws Exception problem creating the events
+     */
+    @Test public void testRegisterWhileEventsFlow() throws Exception
+    {
+        final int listenerCount = 10;
+        final int eventCount    = 10;
+
+        OMRSTopicConnector connector = new OMRSTopicConnector();
+        String             event     = getEntityEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, "DataFile", "Asset", homeMetadataCollectionId);
+        AtomicBoolean      running   = new AtomicBoolean(true);
+
+        Thread eventThread = new Thread(() ->
+        {
+            while (running.get())
+            {
+                connector.processEvent(event);
+            }
+        });
+        eventThread.start();
+
+        try
+        {
+            for (int i = 0; i < listenerCount; i++)
+            {
+                CountingListener listener = new CountingListener();
+
+                OMRSTopicSubscription subscription = new OMRSTopicSubscription();
+                subscription.setTypeNames(Collections.singleton("Asset"));
+                connector.registerListener(listener, "Listener" + i, subscription);
+
+                int eventsBeforeSend = listener.instanceEvents.get();
+
+                for (int j = 0; j < eventCount; j++)
+                {
+                    connector.processEvent(event);
+                }
+
+                assertTrue(listener.instanceEvents.get() - eventsBeforeSend >= eventCount);
+            }
+        }
+        finally
+        {
+            running.set(false);
+            eventThread.join();
+        }
+    }
+}
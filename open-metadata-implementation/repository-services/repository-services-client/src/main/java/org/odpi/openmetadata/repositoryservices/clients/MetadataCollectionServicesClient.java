@@ -1227,6 +1227,84 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Return the header and classifications for a list of entities.  The returned entity summaries may be from
+     * full entity objects or entity proxies.  Unknown entities are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of EntitySummary structures or null if none of the entities are known.
+     * @throws InvalidParameterException  the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     */
+    public List<EntitySummary> getEntitySummariesByGUIDs(String       userId,
+                                                         List<String> guids) throws InvalidParameterException,
+                                                                                    RepositoryErrorException,
+                                                                                    UserNotAuthorizedException,
+                                                                                    FunctionNotSupportedException
+    {
+        final String methodName  = "getEntitySummariesByGUIDs";
+        final String operationSpecificURL = "instances/entities/summaries/by-guids";
+
+        InstanceGUIDListRequest requestBody = new InstanceGUIDListRequest();
+        requestBody.setGUIDs(guids);
+
+        EntitySummaryListResponse restResult = this.callEntitySummaryListPostRESTCall(methodName,
+                                                                                      restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                                      requestBody,
+                                                                                      userId);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getEntities();
+    }
+
+
+    /**
+     * Return the header, classifications and properties of a list of entities.  Unknown entities and
+     * entity proxies are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of EntityDetail structures or null if none of the entities are known.
+     * @throws InvalidParameterException  the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     */
+    public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                 List<String> guids) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            UserNotAuthorizedException,
+                                                                            FunctionNotSupportedException
+    {
+        final String methodName  = "getEntitiesByGUIDs";
+        final String operationSpecificURL = "instances/entities/by-guids";
+
+        InstanceGUIDListRequest requestBody = new InstanceGUIDListRequest();
+        requestBody.setGUIDs(guids);
+
+        EntityListResponse restResult = this.callEntityListPostRESTCall(methodName,
+                                                                        restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                        requestBody,
+                                                                        userId);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getEntities();
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1885,6 +1963,44 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Return the current version of a list of relationships.  Unknown relationships are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the relationships.
+     * @return list of relationship structures or null if none of the relationships are known.
+     * @throws InvalidParameterException  the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     */
+    public List<Relationship> getRelationshipsByGUIDs(String       userId,
+                                                      List<String> guids) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 UserNotAuthorizedException,
+                                                                                 FunctionNotSupportedException
+    {
+        final String methodName  = "getRelationshipsByGUIDs";
+        final String operationSpecificURL = "instances/relationships/by-guids";
+
+        InstanceGUIDListRequest requestBody = new InstanceGUIDListRequest();
+        requestBody.setGUIDs(guids);
+
+        RelationshipListResponse restResult = this.callRelationshipListPostRESTCall(methodName,
+                                                                                    restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                                    requestBody,
+                                                                                    userId);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getRelationships();
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be received as a series of
      * pages.
@@ -5006,6 +5122,29 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Issue a POST REST call that returns a EntitySummaryListResponse object.
+     *
+     * @param methodName name of the method being called
+     * @param operationSpecificURL template of the URL for the REST API call with place-holders for the parameters
+     * @param requestBody request body object
+     * @param params a list of parameters that are slotted into the url template
+     * @return EntitySummaryListResponse
+     * @throws RepositoryErrorException something went wrong with the REST call stack.
+     */
+    private EntitySummaryListResponse callEntitySummaryListPostRESTCall(String    methodName,
+                                                                        String    operationSpecificURL,
+                                                                        Object    requestBody,
+                                                                        Object... params) throws RepositoryErrorException
+    {
+        return this.callPostRESTCall(methodName,
+                                     EntitySummaryListResponse.class,
+                                     operationSpecificURL,
+                                     requestBody,
+                                     params);
+    }
+
+
     /**
      * Issue a GET REST call that returns a RelationshipResponse object.
      *
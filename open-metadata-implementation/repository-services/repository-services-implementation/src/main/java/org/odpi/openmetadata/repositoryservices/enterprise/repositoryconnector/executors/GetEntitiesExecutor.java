@@ -0,0 +1,272 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.MaintenanceAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.*;
+
+/**
+ * GetEntitiesExecutor provides the executor for the getEntitiesByGUIDs and getEntitySummariesByGUIDs methods.
+ * Each repository is called once with the complete list of GUIDs.  For each GUID, the version from the
+ * home repository is preferred, otherwise the version with the highest version number is kept.
+ * The home classifications are harvested from every retrieved copy of each entity in the same way as
+ * GetEntityExecutor and GetEntitySummaryExecutor do for a single entity.
+ *
+ * Unknown entities (and, for getEntitiesByGUIDs, entities only stored as proxies) are skipped.
+ */
+public class GetEntitiesExecutor extends RepositoryExecutorBase
+{
+    private List<String>                             entityGUIDs;
+    private boolean                                  summariesOnly;
+
+    private Map<String, EntitySummary>               latestEntities      = new HashMap<>();
+    private Set<String>                              homeEntitiesFound   = new HashSet<>();
+    private Map<String, Map<String, Classification>> homeClassifications = new HashMap<>();
+
+    private MaintenanceAccumulator                   accumulator         = new MaintenanceAccumulator();
+
+
+    /**
+     * Constructor takes the parameters for the request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers (guids) for the entities.
+     * @param summariesOnly is this a getEntitySummariesByGUIDs or getEntitiesByGUIDs request.
+     * @param methodName calling method
+     */
+    public GetEntitiesExecutor(String       userId,
+                               List<String> entityGUIDs,
+                               boolean      summariesOnly,
+                               String       methodName)
+    {
+        super(userId, methodName);
+
+        this.entityGUIDs = entityGUIDs;
+        this.summariesOnly = summariesOnly;
+    }
+
+
+    /**
+     * Perform the required action for the supplied repository.
+     * All repositories are called to pick up the latest version of each entity along with any stray
+     * home classifications.  Some repositories may produce exceptions.  These exceptions are saved and
+     * will be returned if there are no positive results from any repository.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        try
+        {
+            List<? extends EntitySummary> retrievedEntities;
+
+            if (summariesOnly)
+            {
+                retrievedEntities = metadataCollection.getEntitySummariesByGUIDs(userId, entityGUIDs);
+            }
+            else
+            {
+                retrievedEntities = metadataCollection.getEntitiesByGUIDs(userId, entityGUIDs);
+            }
+
+            if (retrievedEntities != null)
+            {
+                for (EntitySummary retrievedEntity : retrievedEntities)
+                {
+                    if ((retrievedEntity != null) && (retrievedEntity.getGUID() != null))
+                    {
+                        this.saveRetrievedEntity(metadataCollectionId, retrievedEntity);
+                    }
+                }
+            }
+        }
+        catch (InvalidParameterException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (Throwable error)
+        {
+            accumulator.captureGenericException(error);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Merge an entity retrieved from a repository into the results.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param retrievedEntity entity returned from the repository
+     */
+    private synchronized void saveRetrievedEntity(String        metadataCollectionId,
+                                                  EntitySummary retrievedEntity)
+    {
+        String entityGUID = retrievedEntity.getGUID();
+
+        /*
+         * The classifications from every retrieved entity are harvested.
+         */
+        if (retrievedEntity.getClassifications() != null)
+        {
+            Map<String, Classification> entityClassifications = homeClassifications.computeIfAbsent(entityGUID,
+                                                                                                     k -> new HashMap<>());
+
+            for (Classification entityClassification : retrievedEntity.getClassifications())
+            {
+                if (entityClassification != null)
+                {
+                    /*
+                     * Only home classifications are saved.
+                     */
+                    if (metadataCollectionId.equals(entityClassification.getMetadataCollectionId()))
+                    {
+                        entityClassifications.put(entityClassification.getName(), entityClassification);
+                    }
+                }
+            }
+        }
+
+        EntitySummary latestEntity = latestEntities.get(entityGUID);
+
+        if (metadataCollectionId.equals(retrievedEntity.getMetadataCollectionId()))
+        {
+            /*
+             * The home repository is found - assume it is the latest version.
+             */
+            latestEntities.put(entityGUID, retrievedEntity);
+            homeEntitiesFound.add(entityGUID);
+        }
+        else if (! homeEntitiesFound.contains(entityGUID))
+        {
+            if ((latestEntity == null) || (retrievedEntity.getVersion() > latestEntity.getVersion()))
+            {
+                latestEntities.put(entityGUID, retrievedEntity);
+            }
+        }
+    }
+
+
+    /**
+     * Return the merged entities in the order of the requested GUIDs.
+     *
+     * @return list of entities or null
+     * @throws InvalidParameterException the guids are null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private synchronized List<EntitySummary> getMergedEntities() throws InvalidParameterException,
+                                                                        RepositoryErrorException,
+                                                                        UserNotAuthorizedException
+    {
+        if (! latestEntities.isEmpty())
+        {
+            List<EntitySummary> results       = new ArrayList<>();
+            Set<String>         returnedGUIDs = new HashSet<>();
+
+            for (String entityGUID : entityGUIDs)
+            {
+                EntitySummary latestEntity = latestEntities.get(entityGUID);
+
+                if ((latestEntity != null) && (returnedGUIDs.add(entityGUID)))
+                {
+                    Map<String, Classification> entityClassifications = homeClassifications.get(entityGUID);
+
+                    if ((entityClassifications == null) || (entityClassifications.isEmpty()))
+                    {
+                        latestEntity.setClassifications(null);
+                    }
+                    else
+                    {
+                        latestEntity.setClassifications(new ArrayList<>(entityClassifications.values()));
+                    }
+
+                    results.add(latestEntity);
+                }
+            }
+
+            return results;
+        }
+
+        accumulator.throwCapturedRepositoryErrorException();
+        accumulator.throwCapturedUserNotAuthorizedException();
+        accumulator.throwCapturedInvalidParameterException();
+
+        return null;
+    }
+
+
+    /**
+     * Return the header and classifications for the requested entities.
+     *
+     * @return list of EntitySummary structures or null if none of the entities are known.
+     * @throws InvalidParameterException the guids are null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntitySummary> getEntitySummaries() throws InvalidParameterException,
+                                                           RepositoryErrorException,
+                                                           UserNotAuthorizedException
+    {
+        return this.getMergedEntities();
+    }
+
+
+    /**
+     * Return the header, classifications and properties of the requested entities.
+     *
+     * @return list of EntityDetail structures or null if none of the entities are known.
+     * @throws InvalidParameterException the guids are null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails() throws InvalidParameterException,
+                                                        RepositoryErrorException,
+                                                        UserNotAuthorizedException
+    {
+        List<EntitySummary> mergedEntities = this.getMergedEntities();
+
+        if (mergedEntities == null)
+        {
+            return null;
+        }
+
+        List<EntityDetail> results = new ArrayList<>();
+
+        for (EntitySummary entity : mergedEntities)
+        {
+            if (entity instanceof EntityDetail)
+            {
+                results.add((EntityDetail) entity);
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+}
@@ -0,0 +1,166 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.MaintenanceAccumulator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.*;
+
+/**
+ * GetRelationshipsExecutor provides the executor for the getRelationshipsByGUIDs method.
+ * Each repository is only asked for the relationships that have not been retrieved from an earlier repository,
+ * so the request completes as soon as every requested relationship is found.
+ * Unknown relationships are skipped.
+ */
+public class GetRelationshipsExecutor extends RepositoryExecutorBase
+{
+    private List<String>              relationshipGUIDs;
+    private Map<String, Relationship> retrievedRelationships = new HashMap<>();
+    private MaintenanceAccumulator    accumulator            = new MaintenanceAccumulator();
+
+
+    /**
+     * Constructor takes the parameters for the request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipGUIDs unique identifiers (guids) for the relationships.
+     * @param methodName calling method
+     */
+    public GetRelationshipsExecutor(String       userId,
+                                    List<String> relationshipGUIDs,
+                                    String       methodName)
+    {
+        super(userId, methodName);
+
+        this.relationshipGUIDs = relationshipGUIDs;
+    }
+
+
+    /**
+     * Perform the required action for the supplied repository.
+     * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+     * there are no positive results from any repository.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection for the repository
+     * @param metadataCollection metadata collection object for the repository
+     * @return boolean true means that the required results have been achieved
+     */
+    public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                            OMRSMetadataCollection metadataCollection)
+    {
+        try
+        {
+            List<String> outstandingGUIDs = this.getOutstandingGUIDs();
+
+            if (outstandingGUIDs.isEmpty())
+            {
+                return true;
+            }
+
+            List<Relationship> relationships = metadataCollection.getRelationshipsByGUIDs(userId, outstandingGUIDs);
+
+            if (relationships != null)
+            {
+                synchronized (this)
+                {
+                    for (Relationship relationship : relationships)
+                    {
+                        if ((relationship != null) && (relationship.getGUID() != null))
+                        {
+                            Relationship latestRelationship = retrievedRelationships.get(relationship.getGUID());
+
+                            if ((latestRelationship == null) || (relationship.getVersion() > latestRelationship.getVersion()))
+                            {
+                                retrievedRelationships.put(relationship.getGUID(), relationship);
+                            }
+                        }
+                    }
+                }
+            }
+
+            return this.getOutstandingGUIDs().isEmpty();
+        }
+        catch (InvalidParameterException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (RepositoryErrorException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            accumulator.captureException(error);
+        }
+        catch (Throwable error)
+        {
+            accumulator.captureGenericException(error);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the requested GUIDs that have not yet been retrieved.
+     *
+     * @return list of guids
+     */
+    private synchronized List<String> getOutstandingGUIDs()
+    {
+        Set<String> outstandingGUIDs = new LinkedHashSet<>();
+
+        for (String relationshipGUID : relationshipGUIDs)
+        {
+            if (! retrievedRelationships.containsKey(relationshipGUID))
+            {
+                outstandingGUIDs.add(relationshipGUID);
+            }
+        }
+
+        return new ArrayList<>(outstandingGUIDs);
+    }
+
+
+    /**
+     * Return the requested relationships in the order of the requested GUIDs.
+     *
+     * @return list of relationships or null if none of the relationships are known.
+     * @throws InvalidParameterException the guids are null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public synchronized List<Relationship> getRelationships() throws InvalidParameterException,
+                                                                     RepositoryErrorException,
+                                                                     UserNotAuthorizedException
+    {
+        if (! retrievedRelationships.isEmpty())
+        {
+            List<Relationship> results       = new ArrayList<>();
+            Set<String>        returnedGUIDs = new HashSet<>();
+
+            for (String relationshipGUID : relationshipGUIDs)
+            {
+                Relationship relationship = retrievedRelationships.get(relationshipGUID);
+
+                if ((relationship != null) && (returnedGUIDs.add(relationshipGUID)))
+                {
+                    results.add(relationship);
+                }
+            }
+
+            return results;
+        }
+
+        accumulator.throwCapturedRepositoryErrorException();
+        accumulator.throwCapturedUserNotAuthorizedException();
+        accumulator.throwCapturedInvalidParameterException();
+
+        return null;
+    }
+}
@@ -23,7 +23,15 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.eventmanagement.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -32,6 +40,11 @@ import java.util.UUID;
  * It uses the save exchange rule to decide which events to process and which to ignore.
  * Events that are to be processed are converted into reference copies of their respective entities and
  * relationships and stored in the local repository.
+ * <p>
+ * Reference copies from new and updated instance events are saved in micro-batches.  This means a reference copy
+ * may not be visible to queries of the local repository until up to maxBatchLatency milliseconds (by default 250ms)
+ * after its event was processed.  Any other type of event for the local repository, and the disconnect of the
+ * local repository, saves the waiting reference copies first.
  */
 public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor implements OMRSInstanceRetrievalEventProcessor
 {
@@ -48,6 +61,31 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     private OMRSMetadataCollection          localMetadataCollection = null;
     private OMRSRepositoryEventProcessor    outboundRepositoryEventProcessor;
 
+    /*
+     * Reference copies from new/updated instance events are not saved one at a time.  They are collected into a
+     * micro-batch that is passed to the local repository through saveInstanceReferenceCopies when it is full, when
+     * it has been waiting for maxBatchLatency milliseconds, or before any other type of event is processed
+     * (so the order in which changes are applied to the repository is preserved).
+     * The maps are keyed by instance GUID so only the latest version of each instance is saved.
+     *
+     * The batchLock protects the maps.  It is not held while the batch is written to the repository, so events can
+     * be added to the next batch during the write.  The flushLock makes sure only one batch is written at a time and
+     * that a flush requested before another type of event waits for a write that is in progress.  The instances being
+     * written are kept in flushingInstances until the write is complete so that they are still used when checking the
+     * version of an incoming instance.
+     */
+    private final static int  defaultMaxBatchSize    = 100;
+    private final static long defaultMaxBatchLatency = 250;
+
+    private final int                               maxBatchSize;
+    private final long                              maxBatchLatency;
+    private final Object                            batchLock            = new Object();
+    private final Object                            flushLock            = new Object();
+    private final Map<String, PendingReferenceCopy> pendingEntities      = new LinkedHashMap<>();
+    private final Map<String, PendingReferenceCopy> pendingRelationships = new LinkedHashMap<>();
+    private final Map<String, PendingReferenceCopy> flushingInstances    = new HashMap<>();
+    private ScheduledExecutorService                batchFlushTimer      = null;
+
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
      * the open metadata repository.  The Logger is for standard debug.
@@ -78,6 +116,45 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                     OMRSRepositoryEventExchangeRule saveExchangeRule,
                                     OMRSRepositoryEventProcessor    outboundRepositoryEventProcessor,
                                     AuditLog                        auditLog)
+    {
+        this(localMetadataCollectionId,
+             localServerName,
+             localConnector,
+             repositoryHelper,
+             repositoryValidator,
+             saveExchangeRule,
+             outboundRepositoryEventProcessor,
+             auditLog,
+             defaultMaxBatchSize,
+             defaultMaxBatchLatency);
+    }
+
+
+    /**
+     * Constructor saves all of the information necessary to process incoming instance events along with the
+     * limits of the reference copy micro-batches.
+     *
+     * @param localMetadataCollectionId        local metadata collection identifier
+     * @param localServerName                  name of the local server for logging
+     * @param localConnector                   connector to the  local repository
+     * @param repositoryHelper                 helper class for building instances
+     * @param repositoryValidator              helper class for validating instances
+     * @param saveExchangeRule                 rule that determines which events to process.
+     * @param outboundRepositoryEventProcessor event processor
+     * @param auditLog                         audit log for this component.
+     * @param maxBatchSize                     number of reference copies that causes a batch to be saved
+     * @param maxBatchLatency                  maximum number of milliseconds that a reference copy waits to be saved
+     */
+    LocalOMRSInstanceEventProcessor(String                          localMetadataCollectionId,
+                                    String                          localServerName,
+                                    OMRSRepositoryConnector         localConnector,
+                                    OMRSRepositoryHelper            repositoryHelper,
+                                    OMRSRepositoryValidator         repositoryValidator,
+                                    OMRSRepositoryEventExchangeRule saveExchangeRule,
+                                    OMRSRepositoryEventProcessor    outboundRepositoryEventProcessor,
+                                    AuditLog                        auditLog,
+                                    int                             maxBatchSize,
+                                    long                            maxBatchLatency)
     {
         super(localOMRSInstanceEventProcessorName);
 
@@ -91,6 +168,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         this.saveExchangeRule = saveExchangeRule;
         this.outboundRepositoryEventProcessor = outboundRepositoryEventProcessor;
         this.auditLog = auditLog;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchLatency = maxBatchLatency;
 
         if (localConnector != null)
         {
@@ -820,6 +899,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         try
         {
             verifyEventProcessor(methodName);
+            flushReferenceCopyBatch();
 
             localMetadataCollection.saveClassificationReferenceCopy(localRepositoryConnector.getServerUserId(), entity, classification);
         }
@@ -860,6 +940,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         try
         {
             verifyEventProcessor(methodName);
+            flushReferenceCopyBatch();
 
             localMetadataCollection.purgeClassificationReferenceCopy(localRepositoryConnector.getServerUserId(), entity, originalClassification);
         }
@@ -902,6 +983,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         try
         {
             verifyEventProcessor(methodName);
+            flushReferenceCopyBatch();
 
             localMetadataCollection.saveClassificationReferenceCopy(localRepositoryConnector.getServerUserId(), entity, classification);
         }
@@ -947,6 +1029,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         try
         {
             verifyEventProcessor(methodName);
+            flushReferenceCopyBatch();
 
             localMetadataCollection.deleteEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
         }
@@ -985,6 +1068,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         try
         {
             verifyEventProcessor(methodName);
+            flushReferenceCopyBatch();
 
             localMetadataCollection.purgeEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
         }
@@ -1030,6 +1114,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         try
         {
             verifyEventProcessor(methodName);
+            flushReferenceCopyBatch();
 
             localMetadataCollection.purgeEntityReferenceCopy(localRepositoryConnector.getServerUserId(),
                                                              instanceGUID,
@@ -1217,6 +1302,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         try
         {
             verifyEventProcessor(methodName);
+            flushReferenceCopyBatch();
 
             if (localMetadataCollectionId.equals(homeMetadataCollectionId))
             {
@@ -1395,6 +1481,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         try
         {
             verifyEventProcessor(methodName);
+            flushReferenceCopyBatch();
 
             localMetadataCollection.deleteRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(), relationship);
         }
@@ -1433,6 +1520,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         try
         {
             verifyEventProcessor(methodName);
+            flushReferenceCopyBatch();
 
             localMetadataCollection.purgeRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(), relationship);
         }
@@ -1478,6 +1566,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         try
         {
             verifyEventProcessor(methodName);
+            flushReferenceCopyBatch();
 
             localMetadataCollection.purgeRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
                                                                    instanceGUID,
@@ -1666,6 +1755,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         try
         {
             verifyEventProcessor(methodName);
+            flushReferenceCopyBatch();
 
             if (localMetadataCollectionId.equals(homeMetadataCollectionId))
             {
@@ -1752,6 +1842,7 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         try
         {
             verifyEventProcessor(methodName);
+            flushReferenceCopyBatch();
 
             localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
                                                                 instances);
@@ -1827,6 +1918,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
              */
             try
             {
+                flushReferenceCopyBatch();
+
                 String  newGUID = UUID.randomUUID().toString();
 
                 if (targetTypeDefSummary.getCategory() == TypeDefCategory.ENTITY_DEF)
@@ -1959,6 +2052,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     {
         try
         {
+            flushReferenceCopyBatch();
+
             if (localMetadataCollection.isEntityKnown(localRepositoryConnector.getServerUserId(),
                                                       processedEntityGUID) == null)
             {
@@ -2007,6 +2102,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     {
         try
         {
+            flushReferenceCopyBatch();
+
             if (localMetadataCollection.isRelationshipKnown(localRepositoryConnector.getServerUserId(),
                                                             processedRelationshipGUID) == null)
             {
@@ -2162,6 +2259,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     {
         try
         {
+            flushReferenceCopyBatch();
+
             if (typeDefSummary.getCategory() == TypeDefCategory.ENTITY_DEF)
             {
 
@@ -2222,8 +2321,16 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                                                 entity,
                                                                 methodName);
 
-            EntityDetail storedEntity = localMetadataCollection.isEntityKnown(localRepositoryConnector.getServerUserId(),
-                                                                              entity.getGUID());
+            /*
+             * If a version of this entity is waiting in the batch it is newer than the stored version.
+             */
+            InstanceHeader storedEntity = getPendingInstance(pendingEntities, entity.getGUID());
+
+            if (storedEntity == null)
+            {
+                storedEntity = localMetadataCollection.isEntityKnown(localRepositoryConnector.getServerUserId(),
+                                                                     entity.getGUID());
+            }
 
             /*
              * Verify that the incoming instance is compatible with the stored instance.
@@ -2238,7 +2345,11 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                  */
                 if (verifyEventToSave(sourceName, entity))
                 {
-                    localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
+                    addToReferenceCopyBatch(pendingEntities,
+                                            new PendingReferenceCopy(entity,
+                                                                     methodName,
+                                                                     originatorMetadataCollectionId,
+                                                                     originatorServerName));
                 }
             }
         }
@@ -2473,8 +2584,11 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
 
             if (verifyEventToSave(sourceName, relationship))
             {
-                localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
-                                                                      relationship);
+                addToReferenceCopyBatch(pendingRelationships,
+                                        new PendingReferenceCopy(relationship,
+                                                                 methodName,
+                                                                 originatorMetadataCollectionId,
+                                                                 originatorServerName));
             }
         }
         catch (Throwable error)
@@ -2487,6 +2601,218 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     }
 
 
+    /**
+     * Return the version of an instance that is waiting in the reference copy batch, or is being written
+     * to the local repository.
+     *
+     * @param pendingInstances map of pending instances
+     * @param instanceGUID unique identifier of the instance
+     * @return instance or null if it is not in the batch
+     */
+    private InstanceHeader getPendingInstance(Map<String, PendingReferenceCopy> pendingInstances,
+                                              String                            instanceGUID)
+    {
+        synchronized (batchLock)
+        {
+            PendingReferenceCopy pendingReferenceCopy = pendingInstances.get(instanceGUID);
+
+            if (pendingReferenceCopy == null)
+            {
+                pendingReferenceCopy = flushingInstances.get(instanceGUID);
+            }
+
+            if (pendingReferenceCopy != null)
+            {
+                return pendingReferenceCopy.instance;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Add a validated reference copy to the batch.  If an earlier version of the same instance is already waiting
+     * it is replaced.  The batch is passed to the local repository once it is full.
+     *
+     * @param pendingInstances map of pending instances to add to
+     * @param referenceCopy details of the instance and the event that delivered it
+     */
+    private void addToReferenceCopyBatch(Map<String, PendingReferenceCopy> pendingInstances,
+                                         PendingReferenceCopy              referenceCopy)
+    {
+        boolean batchFull;
+
+        synchronized (batchLock)
+        {
+            String               instanceGUID  = referenceCopy.instance.getGUID();
+            PendingReferenceCopy existingCopy  = pendingInstances.get(instanceGUID);
+
+            if ((existingCopy == null) || (existingCopy.instance.getVersion() < referenceCopy.instance.getVersion()))
+            {
+                pendingInstances.put(instanceGUID, referenceCopy);
+            }
+
+            if (batchFlushTimer == null)
+            {
+                batchFlushTimer = Executors.newSingleThreadScheduledExecutor(runnable ->
+                {
+                    Thread thread = new Thread(runnable, localOMRSInstanceEventProcessorName + " batch flush: " + localServerName);
+
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+                batchFlushTimer.scheduleWithFixedDelay(this::flushReferenceCopyBatch,
+                                                       maxBatchLatency,
+                                                       maxBatchLatency,
+                                                       TimeUnit.MILLISECONDS);
+            }
+
+            batchFull = (pendingEntities.size() + pendingRelationships.size() >= maxBatchSize);
+        }
+
+        if (batchFull)
+        {
+            flushReferenceCopyBatch();
+        }
+    }
+
+
+    /**
+     * Pass all of the waiting reference copies to the local repository in a single request.  If the batch request
+     * fails, each instance is saved individually so that one bad instance does not prevent the others from being
+     * stored, and any error is logged against the event that delivered the instance.  The batch is taken out of the
+     * maps under the batchLock and written outside of it.
+     */
+    private void flushReferenceCopyBatch()
+    {
+        synchronized (flushLock)
+        {
+            List<PendingReferenceCopy> entityCopies;
+            List<PendingReferenceCopy> relationshipCopies;
+
+            synchronized (batchLock)
+            {
+                if (pendingEntities.isEmpty() && pendingRelationships.isEmpty())
+                {
+                    return;
+                }
+
+                entityCopies = new ArrayList<>(pendingEntities.values());
+                relationshipCopies = new ArrayList<>(pendingRelationships.values());
+
+                flushingInstances.putAll(pendingEntities);
+                flushingInstances.putAll(pendingRelationships);
+
+                pendingEntities.clear();
+                pendingRelationships.clear();
+            }
+
+            try
+            {
+                this.saveReferenceCopies(entityCopies, relationshipCopies);
+            }
+            finally
+            {
+                synchronized (batchLock)
+                {
+                    flushingInstances.clear();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Save a batch of reference copies to the local repository.
+     *
+     * @param entityCopies entities to save
+     * @param relationshipCopies relationships to save
+     */
+    private void saveReferenceCopies(List<PendingReferenceCopy> entityCopies,
+                                     List<PendingReferenceCopy> relationshipCopies)
+    {
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (PendingReferenceCopy entityCopy : entityCopies)
+        {
+            entities.add((EntityDetail)entityCopy.instance);
+        }
+
+        for (PendingReferenceCopy relationshipCopy : relationshipCopies)
+        {
+            relationships.add((Relationship)relationshipCopy.instance);
+        }
+
+        InstanceGraph instances = new InstanceGraph();
+
+        instances.setEntities(entities);
+        instances.setRelationships(relationships);
+
+        try
+        {
+            localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(), instances);
+        }
+        catch (Throwable batchError)
+        {
+            log.debug("Batch save of reference copies failed; saving individually", batchError);
+
+            for (PendingReferenceCopy entityCopy : entityCopies)
+            {
+                try
+                {
+                    localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(),
+                                                                    (EntityDetail)entityCopy.instance);
+                }
+                catch (Throwable error)
+                {
+                    handleUnexpectedErrorFromEvent(error,
+                                                   entityCopy.methodName,
+                                                   entityCopy.originatorServerName,
+                                                   entityCopy.originatorMetadataCollectionId);
+                }
+            }
+
+            for (PendingReferenceCopy relationshipCopy : relationshipCopies)
+            {
+                try
+                {
+                    localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
+                                                                          (Relationship)relationshipCopy.instance);
+                }
+                catch (Throwable error)
+                {
+                    handleUnexpectedErrorFromEvent(error,
+                                                   relationshipCopy.methodName,
+                                                   relationshipCopy.originatorServerName,
+                                                   relationshipCopy.originatorMetadataCollectionId);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Save any waiting reference copies and stop the batch flush timer.  Called when the local repository
+     * connector is disconnecting.
+     */
+    void disconnect()
+    {
+        flushReferenceCopyBatch();
+
+        synchronized (batchLock)
+        {
+            if (batchFlushTimer != null)
+            {
+                batchFlushTimer.shutdown();
+                batchFlushTimer = null;
+            }
+        }
+    }
+
+
     /**
      * Validate that this event processor is correctly initialized.
      *
@@ -2654,4 +2980,26 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     }
 
 
+    /**
+     * PendingReferenceCopy holds a reference copy waiting to be saved along with the details of the event
+     * that delivered it so that errors can be reported against the right originator.
+     */
+    private static class PendingReferenceCopy
+    {
+        final InstanceHeader instance;
+        final String         methodName;
+        final String         originatorMetadataCollectionId;
+        final String         originatorServerName;
+
+        PendingReferenceCopy(InstanceHeader instance,
+                             String         methodName,
+                             String         originatorMetadataCollectionId,
+                             String         originatorServerName)
+        {
+            this.instance = instance;
+            this.methodName = methodName;
+            this.originatorMetadataCollectionId = originatorMetadataCollectionId;
+            this.originatorServerName = originatorServerName;
+        }
+    }
 }
@@ -1493,7 +1493,8 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
 
     /**
-     * Review a results list with the security verifier.
+     * Review a results list with the security verifier.  The whole list is passed to the security verifier in
+     * one call.  If any entity is refused, it is checked on its own to retrieve the reason for the refusal.
      *
      * @param userId calling user
      * @param instanceList instances returned from the real repository.
@@ -1514,6 +1515,21 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             for (EntityDetail   entity : instanceList)
             {
                 if (entity != null)
+                {
+                    resultList.add(entity);
+                }
+            }
+
+            List<EntityDetail>   authorizedList = securityVerifier.filterEntitiesForRead(userId, metadataCollectionName, resultList);
+
+            if ((authorizedList != null) && (authorizedList.size() == resultList.size()))
+            {
+                return resultList;
+            }
+
+            for (EntityDetail   entity : resultList)
+            {
+                if ((authorizedList == null) || (! authorizedList.contains(entity)))
                 {
                     try
                     {
@@ -1523,8 +1539,6 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                     {
                         throw new UserNotAuthorizedException(error);
                     }
-
-                    resultList.add(entity);
                 }
             }
 
@@ -1865,6 +1879,108 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the header and classifications for a list of entities.  Unknown entities are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntitySummary structures or null if none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntitySummary> getEntitySummariesByGUIDs(String       userId,
+                                                         List<String> guids) throws InvalidParameterException,
+                                                                                    RepositoryErrorException,
+                                                                                    UserNotAuthorizedException
+    {
+        final String  methodName = "getEntitySummariesByGUIDs";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        List<EntitySummary> entities = realMetadataCollection.getEntitySummariesByGUIDs(userId, guids);
+
+        if ((entities == null) || (entities.isEmpty()))
+        {
+            return null;
+        }
+
+        List<EntitySummary> resultList = new ArrayList<>();
+
+        for (EntitySummary entity : entities)
+        {
+            if (entity != null)
+            {
+                setLocalProvenance(entity);
+                setLocalProvenanceInEntityClassifications(entity.getClassifications());
+
+                /*
+                 * Check operation is allowed
+                 */
+                try
+                {
+                    securityVerifier.validateUserForEntitySummaryRead(userId, metadataCollectionName, entity);
+                }
+                catch (org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException error)
+                {
+                    throw new UserNotAuthorizedException(error);
+                }
+
+                resultList.add(entity);
+            }
+        }
+
+        if (resultList.isEmpty())
+        {
+            return null;
+        }
+
+        return resultList;
+    }
+
+
+    /**
+     * Return the header, classifications and properties of a list of entities.  Unknown entities and
+     * entity proxies are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures or null if none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntitiesByGUIDs(String       userId,
+                                                 List<String> guids) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            UserNotAuthorizedException
+    {
+        final String  methodName = "getEntitiesByGUIDs";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Perform operation
+         */
+        List<EntityDetail> resultList = realMetadataCollection.getEntitiesByGUIDs(userId, guids);
+
+        return this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(resultList));
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -2477,6 +2593,39 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the current version of a list of relationships.  Unknown relationships are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationship structures or null if none of the relationships are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<Relationship> getRelationshipsByGUIDs(String       userId,
+                                                      List<String> guids) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationshipsByGUIDs";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        /*
+         * Process operation
+         */
+        List<Relationship> resultList = realMetadataCollection.getRelationshipsByGUIDs(userId, guids);
+
+        return this.securityVerifyReadRelationshipList(userId, setLocalProvenanceInRelationshipList(resultList));
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be received as a series of
      * pages.
@@ -6939,9 +7088,65 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                               UserNotAuthorizedException,
                                                                               FunctionNotSupportedException
     {
-      
-        //delegate processing to the real metadata collection
-        realMetadataCollection.saveInstanceReferenceCopies(userId, instances);
-      
+        final String  methodName                = "saveInstanceReferenceCopies";
+        final String  entityParameterName       = "entity";
+        final String  relationshipParameterName = "relationship";
+
+        /*
+         * Validate parameters.  Each instance is validated in the same way as the single reference copy methods and
+         * only the instances from the same or past version of the OMRS are passed on.
+         */
+        super.basicRequestValidation(userId, methodName);
+
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        if (instances != null)
+        {
+            if (instances.getEntities() != null)
+            {
+                for (EntityDetail entity : instances.getEntities())
+                {
+                    if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
+                    {
+                        super.referenceInstanceParameterValidation(userId, entity, entityParameterName, methodName);
+
+                        if (entity.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION)
+                        {
+                            entities.add(entity);
+                        }
+                    }
+                }
+            }
+
+            if (instances.getRelationships() != null)
+            {
+                for (Relationship relationship : instances.getRelationships())
+                {
+                    if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
+                    {
+                        super.referenceInstanceParameterValidation(userId, relationship, relationshipParameterName, methodName);
+
+                        if (relationship.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION)
+                        {
+                            relationships.add(relationship);
+                        }
+                    }
+                }
+            }
+        }
+
+        /*
+         * Delegate processing to the real metadata collection
+         */
+        if ((! entities.isEmpty()) || (! relationships.isEmpty()))
+        {
+            InstanceGraph validInstances = new InstanceGraph();
+
+            validInstances.setEntities(entities);
+            validInstances.setRelationships(relationships);
+
+            realMetadataCollection.saveInstanceReferenceCopies(userId, validInstances);
+        }
     }
 }
@@ -170,6 +170,11 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     @Override
     public void disconnect() throws ConnectorCheckedException
     {
+        if (incomingInstanceEventProcessor instanceof LocalOMRSInstanceEventProcessor)
+        {
+            ((LocalOMRSInstanceEventProcessor)incomingInstanceEventProcessor).disconnect();
+        }
+
         super.disconnect();
 
         if (realLocalConnector  != null)
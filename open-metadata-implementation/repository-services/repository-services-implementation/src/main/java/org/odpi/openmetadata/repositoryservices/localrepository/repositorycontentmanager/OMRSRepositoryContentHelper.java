@@ -386,6 +386,25 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
     }
 
 
+    /**
+     * Return the names of the supertypes of a type, starting with its immediate supertype.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param typeName name of the type - this value is not included in the result.
+     * @return unmodifiable set of type names (empty if the type has no supertypes; null if the type is not known)
+     */
+    @Override
+    public Set<String>  getSuperTypeNames(String sourceName,
+                                          String typeName)
+    {
+        final String  methodName = "getSuperTypeNames";
+
+        validateRepositoryContentManager(methodName);
+
+        return repositoryContentManager.getSuperTypeNames(sourceName, typeName);
+    }
+
+
     /**
      * Return the list of type names for all of the subtypes of an entity type.
      *
@@ -401,27 +420,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
 
         validateRepositoryContentManager(methodName);
 
-        List<String>  subTypeNames = new ArrayList<>();
-        List<TypeDef> typeDefs = repositoryContentManager.getKnownTypeDefs();
-
-        if (typeDefs != null)
-        {
-            for (TypeDef typeDef : typeDefs)
-            {
-                if (typeDef != null)
-                {
-                    if (! superTypeName.equals(typeDef.getName()))
-                    {
-                        if (repositoryContentManager.isTypeOf(sourceName,
-                                                              typeDef.getName(),
-                                                              superTypeName))
-                        {
-                            subTypeNames.add(typeDef.getName());
-                        }
-                    }
-                }
-            }
-        }
+        List<String>  subTypeNames = repositoryContentManager.getSubTypesOf(sourceName, superTypeName);
 
         if (subTypeNames.isEmpty())
         {
@@ -429,7 +428,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
         }
         else
         {
-            return subTypeNames;
+            return new ArrayList<>(subTypeNames);
         }
     }
 
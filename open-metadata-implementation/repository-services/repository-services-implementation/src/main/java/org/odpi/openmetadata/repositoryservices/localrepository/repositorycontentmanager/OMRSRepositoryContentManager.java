@@ -21,6 +21,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * OMRSRepositoryContentManager supports an in-memory cache of TypeDefs for the local server.  It is used by the OMRS
@@ -63,6 +64,14 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     private Map<String, String>             metadataCollectionNames        = new HashMap<>();
     private Map<String, Set<String>>        knownPropertyToTypeDefNames    = new HashMap<>();
 
+    /*
+     * The type hierarchy is a snapshot of the supertypes and subtypes of the known TypeDefs.  A new snapshot is
+     * built by the thread that changes the known TypeDefs, and then published through the volatile field.
+     * Readers simply pick up the latest snapshot without locking and never look at the TypeDef maps.
+     */
+    private final AtomicLong                typeDefVersion                 = new AtomicLong(0);
+    private volatile OMRSTypeHierarchy      typeHierarchy                  = new OMRSTypeHierarchy(0, new ArrayList<>());
+
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -165,6 +174,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             log.debug("New Known Type {} from {}. Full TypeDef: {}", newTypeDef.getName(), sourceName, newTypeDef);
         }
         cacheTypeDefPropertyLookup(sourceName, newTypeDef);
+        typeDefsChanged();
     }
 
 
@@ -219,6 +229,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
         log.debug("Removed Type {} from {}", obsoleteTypeDefName, sourceName);
         uncacheTypeDefPropertyLookup(sourceName, obsoleteTypeDefName);
+        typeDefsChanged();
     }
 
 
@@ -325,6 +336,8 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
                 log.debug("Deleted Active TypeDef " + obsoleteTypeDefName + " from " + sourceName);
             }
+
+            typeDefsChanged();
         }
     }
 
@@ -472,6 +485,61 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     }
 
 
+    /**
+     * Called by the thread that changes the known TypeDefs, straight after the change.  The cached supertype
+     * lists are discarded and a new type hierarchy snapshot is built and published.  The method is synchronized
+     * so that the snapshots are published in the order of their versions.
+     */
+    private synchronized void typeDefsChanged()
+    {
+        typeDefSuperTypes.clear();
+        typeHierarchy = new OMRSTypeHierarchy(typeDefVersion.incrementAndGet(), new ArrayList<>(knownTypeDefNames.values()));
+    }
+
+
+    /**
+     * Return the latest type hierarchy snapshot.
+     *
+     * @return type hierarchy snapshot
+     */
+    private OMRSTypeHierarchy getTypeHierarchy()
+    {
+        return typeHierarchy;
+    }
+
+
+    /**
+     * Return the names of the supertypes of a type, starting with its immediate supertype.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param typeName name of the type - this value is not included in the result.
+     * @return unmodifiable set of type names (empty if the type has no supertypes; null if the type is not known)
+     */
+    Set<String> getSuperTypeNames(String sourceName,
+                                  String typeName)
+    {
+        log.debug("getSuperTypeNames: sourceName = {}; typeName = {}", sourceName, typeName);
+
+        return this.getTypeHierarchy().getSuperTypeNames(typeName);
+    }
+
+
+    /**
+     * Return the names of all of the types that have the supplied type in their supertype chain.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param superTypeName name of the super type - this value is not included in the result.
+     * @return unmodifiable list of type names (empty if the type is not known or has no subtypes)
+     */
+    List<String> getSubTypesOf(String sourceName,
+                               String superTypeName)
+    {
+        log.debug("getSubTypesOf: sourceName = {}; superTypeName = {}", sourceName, superTypeName);
+
+        return this.getTypeHierarchy().getSubTypes(superTypeName);
+    }
+
+
     /**
      * Evaluate the superTypes for a type.  The results are cached in typeDefSuperTypes.
      *
@@ -609,8 +677,16 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
         }
 
         /*
-         * Looking for a match in the superTypes.
+         * Use the type hierarchy snapshot if it knows this type.  Otherwise walk the superTypes, which also
+         * reports any problem with the TypeDef cache.
          */
+        OMRSTypeHierarchy currentHierarchy = this.getTypeHierarchy();
+
+        if (currentHierarchy.isKnownType(actualTypeName))
+        {
+            return currentHierarchy.hasSuperTypeName(actualTypeName, expectedTypeName);
+        }
+
         List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
 
         if (typeHierarchy != null)
@@ -685,9 +761,16 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
         }
 
         /*
-         * Looking for a match in the superTypes.
+         * Use the type hierarchy snapshot if it knows this type.  Otherwise walk the superTypes.
          */
-       List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
+        OMRSTypeHierarchy currentHierarchy = this.getTypeHierarchy();
+
+        if (currentHierarchy.isKnownType(actualTypeName))
+        {
+            return currentHierarchy.hasSuperTypeGUID(actualTypeName, expectedTypeGUID);
+        }
+
+        List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
 
         if (typeHierarchy != null)
         {
@@ -1561,20 +1644,36 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                                       List<TypeDef> typeDefs,
                                       String        methodName) throws RepositoryErrorException
     {
-        for (TypeDef typeDef : typeDefs)
+        boolean newTypeDefs = false;
+
+        try
         {
-            if (validTypeId(sourceName, typeDef.getGUID(), typeDef.getName()))
+            for (TypeDef typeDef : typeDefs)
             {
-                if (!isKnownType(sourceName, typeDef.getGUID(), typeDef.getName()))
+                if (validTypeId(sourceName, typeDef.getGUID(), typeDef.getName()))
                 {
-                    knownTypeDefNames.put(typeDef.getName(), typeDef);
+                    if (!isKnownType(sourceName, typeDef.getGUID(), typeDef.getName()))
+                    {
+                        knownTypeDefNames.put(typeDef.getName(), typeDef);
+                        newTypeDefs = true;
+                    }
+                }
+                else
+                {
+                    throw new RepositoryErrorException(OMRSErrorCode.CONFLICTING_ENTERPRISE_TYPEDEFS.getMessageDefinition(),
+                                                       this.getClass().getName(),
+                                                       methodName);
                 }
             }
-            else
+        }
+        finally
+        {
+            /*
+             * The type hierarchy is rebuilt once for the whole list.
+             */
+            if (newTypeDefs)
             {
-                throw new RepositoryErrorException(OMRSErrorCode.CONFLICTING_ENTERPRISE_TYPEDEFS.getMessageDefinition(),
-                                                   this.getClass().getName(),
-                                                   methodName);
+                typeDefsChanged();
             }
         }
     }
@@ -0,0 +1,245 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OMRSTypeHierarchy is an immutable snapshot of the supertype/subtype relationships between the TypeDefs known
+ * to the OMRSRepositoryContentManager.  Each type name and GUID is mapped to a small integer identifier and
+ * the supertypes of each type are held as a bit set so that type comparisons do not need to walk the supertype
+ * chain.  The names of the supertypes and subtypes of each type are also calculated up front.
+ * <p>
+ * A new snapshot is built whenever the known TypeDefs change.  Types whose supertype chain can not be resolved
+ * from the supplied TypeDefs are left out of the snapshot so the caller can fall back to its original processing
+ * (and error reporting) for them.
+ */
+class OMRSTypeHierarchy
+{
+    private final long                 typeDefVersion;
+    private final Map<String, Integer> typeNameIds = new HashMap<>();
+    private final Map<String, Integer> typeGUIDIds = new HashMap<>();
+    private final List<BitSet>         superTypes     = new ArrayList<>();
+    private final List<Set<String>>    superTypeNames = new ArrayList<>();
+    private final List<List<String>>   subTypes       = new ArrayList<>();
+
+
+    /**
+     * Build the snapshot from the supplied TypeDefs.
+     *
+     * @param typeDefVersion version of the TypeDef cache that the TypeDefs were extracted from
+     * @param typeDefs the known TypeDefs
+     */
+    OMRSTypeHierarchy(long                typeDefVersion,
+                      Collection<TypeDef> typeDefs)
+    {
+        this.typeDefVersion = typeDefVersion;
+
+        Map<String, TypeDef> typeDefsByName = new HashMap<>();
+        List<String>         typeNames      = new ArrayList<>();
+
+        /*
+         * Assign an identifier to each type.
+         */
+        if (typeDefs != null)
+        {
+            for (TypeDef typeDef : typeDefs)
+            {
+                if ((typeDef != null) && (typeDef.getName() != null) && (! typeNameIds.containsKey(typeDef.getName())))
+                {
+                    typeNameIds.put(typeDef.getName(), typeNames.size());
+                    typeNames.add(typeDef.getName());
+                    typeDefsByName.put(typeDef.getName(), typeDef);
+
+                    if (typeDef.getGUID() != null)
+                    {
+                        typeGUIDIds.put(typeDef.getGUID(), typeNameIds.get(typeDef.getName()));
+                    }
+
+                    subTypes.add(new ArrayList<>());
+                }
+            }
+        }
+
+        /*
+         * Work out the supertypes of each type.  A type with a supertype that is missing (or a loop in the
+         * supertype chain) is not given a bit set.
+         */
+        for (String typeName : typeNames)
+        {
+            BitSet      typeHierarchy  = new BitSet(typeNames.size());
+            Set<String> typeSuperNames = new LinkedHashSet<>();
+            TypeDefLink superTypeLink  = typeDefsByName.get(typeName).getSuperType();
+
+            while ((typeHierarchy != null) && (superTypeLink != null))
+            {
+                Integer superTypeId = null;
+
+                if (superTypeLink.getName() != null)
+                {
+                    superTypeId = typeNameIds.get(superTypeLink.getName());
+                }
+
+                if ((superTypeId == null) || (typeHierarchy.get(superTypeId)))
+                {
+                    typeHierarchy = null;
+                }
+                else
+                {
+                    typeHierarchy.set(superTypeId);
+                    typeSuperNames.add(superTypeLink.getName());
+                    superTypeLink = typeDefsByName.get(superTypeLink.getName()).getSuperType();
+                }
+            }
+
+            superTypes.add(typeHierarchy);
+            superTypeNames.add(typeHierarchy == null ? null : Collections.unmodifiableSet(typeSuperNames));
+        }
+
+        /*
+         * Invert the supertypes to give the subtypes.
+         */
+        for (int typeId = 0; typeId < typeNames.size(); typeId++)
+        {
+            BitSet typeHierarchy = superTypes.get(typeId);
+
+            if (typeHierarchy != null)
+            {
+                for (int superTypeId = typeHierarchy.nextSetBit(0); superTypeId >= 0; superTypeId = typeHierarchy.nextSetBit(superTypeId + 1))
+                {
+                    subTypes.get(superTypeId).add(typeNames.get(typeId));
+                }
+            }
+        }
+
+        for (int typeId = 0; typeId < typeNames.size(); typeId++)
+        {
+            subTypes.set(typeId, Collections.unmodifiableList(subTypes.get(typeId)));
+        }
+    }
+
+
+    /**
+     * Return the version of the TypeDef cache that this snapshot was built from.
+     *
+     * @return version number
+     */
+    long getTypeDefVersion()
+    {
+        return typeDefVersion;
+    }
+
+
+    /**
+     * Return whether the supertype chain of the named type is held in this snapshot.
+     *
+     * @param typeName name of the type
+     * @return boolean flag
+     */
+    boolean isKnownType(String typeName)
+    {
+        Integer typeId = typeNameIds.get(typeName);
+
+        return (typeId != null) && (superTypes.get(typeId) != null);
+    }
+
+
+    /**
+     * Test whether the expected type is one of the supertypes of the actual type.  The caller is expected
+     * to have tested for equality and to have checked the actual type with isKnownType.
+     *
+     * @param actualTypeName name of the type to test
+     * @param expectedTypeName name of the possible supertype
+     * @return boolean flag
+     */
+    boolean hasSuperTypeName(String actualTypeName,
+                             String expectedTypeName)
+    {
+        return hasSuperType(typeNameIds.get(actualTypeName), typeNameIds.get(expectedTypeName));
+    }
+
+
+    /**
+     * Test whether the type identified by the expected GUID is one of the supertypes of the actual type.
+     * The caller is expected to have tested for equality and to have checked the actual type with isKnownType.
+     *
+     * @param actualTypeName name of the type to test
+     * @param expectedTypeGUID unique identifier of the possible supertype
+     * @return boolean flag
+     */
+    boolean hasSuperTypeGUID(String actualTypeName,
+                             String expectedTypeGUID)
+    {
+        return hasSuperType(typeNameIds.get(actualTypeName), typeGUIDIds.get(expectedTypeGUID));
+    }
+
+
+    /**
+     * Return the names of the supertypes of the named type, starting with its immediate supertype.
+     *
+     * @param typeName name of the type
+     * @return unmodifiable set of type names (empty if the type has no supertypes; null if it is not in this snapshot)
+     */
+    Set<String> getSuperTypeNames(String typeName)
+    {
+        Integer typeId = typeNameIds.get(typeName);
+
+        if (typeId == null)
+        {
+            return null;
+        }
+
+        return superTypeNames.get(typeId);
+    }
+
+
+    /**
+     * Return the names of all of the types that have the named type in their supertype chain.
+     *
+     * @param superTypeName name of the supertype
+     * @return unmodifiable list of type names (empty if the type is not known or has no subtypes)
+     */
+    List<String> getSubTypes(String superTypeName)
+    {
+        Integer superTypeId = typeNameIds.get(superTypeName);
+
+        if (superTypeId == null)
+        {
+            return Collections.emptyList();
+        }
+
+        return subTypes.get(superTypeId);
+    }
+
+
+    /**
+     * Bit test of the supertypes.
+     *
+     * @param actualTypeId identifier of the type to test
+     * @param expectedTypeId identifier of the possible supertype
+     * @return boolean flag
+     */
+    private boolean hasSuperType(Integer actualTypeId,
+                                 Integer expectedTypeId)
+    {
+        if ((actualTypeId == null) || (expectedTypeId == null))
+        {
+            return false;
+        }
+
+        BitSet typeHierarchy = superTypes.get(actualTypeId);
+
+        return (typeHierarchy != null) && (typeHierarchy.get(expectedTypeId));
+    }
+}
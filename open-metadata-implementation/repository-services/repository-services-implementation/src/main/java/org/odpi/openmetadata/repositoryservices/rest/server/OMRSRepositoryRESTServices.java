@@ -2000,6 +2000,126 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return the header and classifications for a list of entities.  The returned entity summaries may be from
+     * full entity objects or entity proxies.  Unknown entities are skipped.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return EntitySummaryListResponse:
+     * list of EntitySummary structures or
+     * InvalidParameterException the list of guids is null or empty or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntitySummaryListResponse getEntitySummariesByGUIDs(String                  serverName,
+                                                               String                  userId,
+                                                               InstanceGUIDListRequest guids)
+    {
+        final  String   methodName = "getEntitySummariesByGUIDs";
+
+        log.debug("Calling method: " + methodName);
+
+        EntitySummaryListResponse response = new EntitySummaryListResponse();
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            if (guids != null)
+            {
+                response.setEntities(metadataCollection.getEntitySummariesByGUIDs(userId, guids.getGUIDs()));
+            }
+            else
+            {
+                response.setEntities(metadataCollection.getEntitySummariesByGUIDs(userId, null));
+            }
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Return the header, classifications and properties of a list of entities.  Unknown entities and
+     * entity proxies are skipped.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return EntityListResponse:
+     * list of EntityDetail structures or
+     * InvalidParameterException the list of guids is null or empty or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityListResponse getEntitiesByGUIDs(String                  serverName,
+                                                 String                  userId,
+                                                 InstanceGUIDListRequest guids)
+    {
+        final  String   methodName = "getEntitiesByGUIDs";
+
+        log.debug("Calling method: " + methodName);
+
+        EntityListResponse response = new EntityListResponse();
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            if (guids != null)
+            {
+                response.setEntities(metadataCollection.getEntitiesByGUIDs(userId, guids.getGUIDs()));
+            }
+            else
+            {
+                response.setEntities(metadataCollection.getEntitiesByGUIDs(userId, null));
+            }
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -3495,6 +3615,65 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return the current version of a list of relationships.  Unknown relationships are skipped.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return RelationshipListResponse:
+     * list of relationship structures or
+     * InvalidParameterException the list of guids is null or empty or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public RelationshipListResponse getRelationshipsByGUIDs(String                  serverName,
+                                                            String                  userId,
+                                                            InstanceGUIDListRequest guids)
+    {
+        final  String   methodName = "getRelationshipsByGUIDs";
+
+        log.debug("Calling method: " + methodName);
+
+        RelationshipListResponse response = new RelationshipListResponse();
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            if (guids != null)
+            {
+                response.setRelationships(metadataCollection.getRelationshipsByGUIDs(userId, guids.getGUIDs()));
+            }
+            else
+            {
+                response.setRelationships(metadataCollection.getRelationshipsByGUIDs(userId, null));
+            }
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be broken into pages.
      *
@@ -0,0 +1,336 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryeventmapper.OMRSRepositoryEventProcessor;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate the micro-batching of the reference copies saved by LocalOMRSInstanceEventProcessor.
+ */
+public class LocalOMRSInstanceEventProcessorTest
+{
+    private static final String localMetadataCollectionId  = "localMetadataCollectionId";
+    private static final String remoteMetadataCollectionId = "remoteMetadataCollectionId";
+    private static final String serverUserId               = "serverUserId";
+    private static final String sourceName                 = "testCohort";
+    private static final Date   createTime                 = new Date();
+
+    private OMRSMetadataCollection          metadataCollection;
+    private LocalOMRSInstanceEventProcessor eventProcessor;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        metadataCollection = mock(OMRSMetadataCollection.class);
+    }
+
+
+    @AfterMethod
+    public void tearDown()
+    {
+        if (eventProcessor != null)
+        {
+            eventProcessor.disconnect();
+            eventProcessor = null;
+        }
+    }
+
+
+    /**
+     * Create the event processor with mock repository services.
+     *
+     * @param maxBatchSize number of reference copies that causes a batch to be saved
+     * @param maxBatchLatency maximum time that a reference copy waits to be saved
+     * @throws Exception problem with the mocks
+     */
+    private void createEventProcessor(int  maxBatchSize,
+                                      long maxBatchLatency) throws Exception
+    {
+        OMRSRepositoryConnector         localConnector      = mock(OMRSRepositoryConnector.class);
+        OMRSRepositoryValidator         repositoryValidator = mock(OMRSRepositoryValidator.class);
+        OMRSRepositoryEventExchangeRule saveExchangeRule    = mock(OMRSRepositoryEventExchangeRule.class);
+
+        when(localConnector.getMetadataCollection()).thenReturn(metadataCollection);
+        when(localConnector.getServerUserId()).thenReturn(serverUserId);
+        when(repositoryValidator.isActiveType(anyString(), anyString(), anyString())).thenReturn(true);
+        when(saveExchangeRule.processInstanceEvent(any(InstanceHeader.class))).thenReturn(true);
+
+        eventProcessor = new LocalOMRSInstanceEventProcessor(localMetadataCollectionId,
+                                                             "testServer",
+                                                             localConnector,
+                                                             mock(OMRSRepositoryHelper.class),
+                                                             repositoryValidator,
+                                                             saveExchangeRule,
+                                                             mock(OMRSRepositoryEventProcessor.class),
+                                                             mock(AuditLog.class),
+                                                             maxBatchSize,
+                                                             maxBatchLatency);
+    }
+
+
+    /**
+     * Return a reference copy of an entity.
+     *
+     * @param guid unique identifier
+     * @param version version of the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        InstanceType type = new InstanceType();
+
+        type.setTypeDefGUID("TestTypeGUID");
+        type.setTypeDefName("TestType");
+        type.setTypeDefVersion(1);
+
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setType(type);
+        entity.setMetadataCollectionId(remoteMetadataCollectionId);
+        entity.setCreateTime(createTime);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    /**
+     * Pass a new entity to the event processor.
+     *
+     * @param entity entity
+     */
+    private void sendNewEntity(EntityDetail entity)
+    {
+        eventProcessor.processNewEntityEvent(sourceName, remoteMetadataCollectionId, "remoteServer", "Metadata Server", "Test", entity);
+    }
+
+
+    /**
+     * Pass an updated entity to the event processor.
+     *
+     * @param entity entity
+     */
+    private void sendUpdatedEntity(EntityDetail entity)
+    {
+        eventProcessor.processUpdatedEntityEvent(sourceName, remoteMetadataCollectionId, "remoteServer", "Metadata Server", "Test", null, entity);
+    }
+
+
+    /**
+     * Return the batches that were saved.
+     *
+     * @param expectedBatches number of calls to saveInstanceReferenceCopies
+     * @return batches
+     * @throws Exception problem with the mock
+     */
+    private List<InstanceGraph> getSavedBatches(int expectedBatches) throws Exception
+    {
+        ArgumentCaptor<InstanceGraph> batches = ArgumentCaptor.forClass(InstanceGraph.class);
+
+        verify(metadataCollection, timeout(5000).times(expectedBatches)).saveInstanceReferenceCopies(eq(serverUserId), batches.capture());
+
+        return batches.getAllValues();
+    }
+
+
+    /**
+     * The batch is saved on the event thread as soon as it is full.
+     *
+     * @throws Exception problem with the mocks
+     */
+    @Test
+    public void testBatchSizeTrigger() throws Exception
+    {
+        createEventProcessor(3, 60000);
+
+        sendNewEntity(getEntity("guid1", 1));
+        sendNewEntity(getEntity("guid2", 1));
+
+        verify(metadataCollection, never()).saveInstanceReferenceCopies(anyString(), any());
+
+        sendNewEntity(getEntity("guid3", 1));
+
+        List<InstanceGraph> batches = getSavedBatches(1);
+
+        assertEquals(batches.get(0).getEntities().size(), 3);
+        assertEquals(batches.get(0).getEntities().get(0).getGUID(), "guid1");
+        assertEquals(batches.get(0).getEntities().get(2).getGUID(), "guid3");
+    }
+
+
+    /**
+     * A batch that does not fill up is saved once it has waited for the maximum latency.
+     *
+     * @throws Exception problem with the mocks
+     */
+    @Test
+    public void testBatchLatencyTrigger() throws Exception
+    {
+        createEventProcessor(100, 50);
+
+        sendNewEntity(getEntity("guid1", 1));
+
+        List<InstanceGraph> batches = getSavedBatches(1);
+
+        assertEquals(batches.get(0).getEntities().size(), 1);
+        assertEquals(batches.get(0).getEntities().get(0).getGUID(), "guid1");
+    }
+
+
+    /**
+     * An update for an instance that is still in the batch is checked against the batched version rather than the
+     * repository, and only the latest version is saved.  An out of date version is ignored.
+     *
+     * @throws Exception problem with the mocks
+     */
+    @Test
+    public void testUpdateWhileInBatch() throws Exception
+    {
+        createEventProcessor(100, 60000);
+
+        sendNewEntity(getEntity("guid1", 1));
+        sendUpdatedEntity(getEntity("guid1", 3));
+        sendUpdatedEntity(getEntity("guid1", 2));
+
+        /*
+         * Only the new entity event looks in the repository.
+         */
+        verify(metadataCollection, times(1)).isEntityKnown(anyString(), eq("guid1"));
+
+        eventProcessor.disconnect();
+
+        List<InstanceGraph> batches = getSavedBatches(1);
+
+        assertEquals(batches.get(0).getEntities().size(), 1);
+        assertEquals(batches.get(0).getEntities().get(0).getVersion(), 3L);
+    }
+
+
+    /**
+     * A purge for an instance that is still in the batch is applied after the batch is saved.
+     *
+     * @throws Exception problem with the mocks
+     */
+    @Test
+    public void testPurgeWhileInBatch() throws Exception
+    {
+        createEventProcessor(100, 60000);
+
+        sendNewEntity(getEntity("guid1", 1));
+
+        eventProcessor.processPurgedEntityEvent(sourceName,
+                                                remoteMetadataCollectionId,
+                                                "remoteServer",
+                                                "Metadata Server",
+                                                "Test",
+                                                "TestTypeGUID",
+                                                "TestType",
+                                                "guid1");
+
+        InOrder order = inOrder(metadataCollection);
+
+        order.verify(metadataCollection).saveInstanceReferenceCopies(eq(serverUserId), any());
+        order.verify(metadataCollection).purgeEntityReferenceCopy(serverUserId, "guid1", "TestTypeGUID", "TestType", remoteMetadataCollectionId);
+    }
+
+
+    /**
+     * Events are added to the next batch while a batch is being written.  An update for an instance that is being
+     * written is checked against the version being written.  A purge waits for the write to complete.
+     *
+     * @throws Exception problem with the mocks
+     */
+    @Test
+    public void testEventsDuringBatchWrite() throws Exception
+    {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+
+        doAnswer(invocation ->
+                 {
+                     writeStarted.countDown();
+                     releaseWrite.await();
+                     return null;
+                 }).when(metadataCollection).saveInstanceReferenceCopies(anyString(), any());
+
+        createEventProcessor(100, 50);
+
+        try
+        {
+            sendNewEntity(getEntity("guid1", 2));
+
+            assertTrue(writeStarted.await(5000, TimeUnit.MILLISECONDS));
+
+            /*
+             * The write is blocked on the timer thread, but the batch lock is free.
+             */
+            sendUpdatedEntity(getEntity("guid1", 1));
+            sendNewEntity(getEntity("guid2", 1));
+
+            verify(metadataCollection, times(1)).isEntityKnown(anyString(), eq("guid1"));
+
+            Thread purgeThread = new Thread(() -> eventProcessor.processPurgedEntityEvent(sourceName,
+                                                                                            remoteMetadataCollectionId,
+                                                                                            "remoteServer",
+                                                                                            "Metadata Server",
+                                                                                            "Test",
+                                                                                            "TestTypeGUID",
+                                                                                            "TestType",
+                                                                                            "guid2"));
+            purgeThread.start();
+            purgeThread.join(200);
+
+            verify(metadataCollection, never()).purgeEntityReferenceCopy(anyString(), anyString(), anyString(), anyString(), anyString());
+        }
+        finally
+        {
+            releaseWrite.countDown();
+        }
+
+        List<InstanceGraph> batches = getSavedBatches(2);
+
+        verify(metadataCollection, timeout(5000)).purgeEntityReferenceCopy(serverUserId, "guid2", "TestTypeGUID", "TestType", remoteMetadataCollectionId);
+
+        assertEquals(batches.get(0).getEntities().size(), 1);
+        assertEquals(batches.get(0).getEntities().get(0).getVersion(), 2L);
+        assertEquals(batches.get(1).getEntities().size(), 1);
+        assertEquals(batches.get(1).getEntities().get(0).getGUID(), "guid2");
+    }
+}
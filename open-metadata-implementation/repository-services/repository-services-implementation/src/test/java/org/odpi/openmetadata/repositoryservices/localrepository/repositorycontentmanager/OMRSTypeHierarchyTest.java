@@ -0,0 +1,106 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Validate the precomputed supertypes and subtypes of OMRSTypeHierarchy.
+ */
+public class OMRSTypeHierarchyTest
+{
+    private TypeDef getTypeDef(String name,
+                               String superTypeName)
+    {
+        EntityDef typeDef = new EntityDef();
+
+        typeDef.setName(name);
+        typeDef.setGUID(name + "-guid");
+
+        if (superTypeName != null)
+        {
+            TypeDefLink superType = new TypeDefLink();
+
+            superType.setName(superTypeName);
+            superType.setGUID(superTypeName + "-guid");
+            typeDef.setSuperType(superType);
+        }
+
+        return typeDef;
+    }
+
+
+    private OMRSTypeHierarchy getTypeHierarchy()
+    {
+        List<TypeDef> typeDefs = new ArrayList<>();
+
+        typeDefs.add(getTypeDef("Referenceable", null));
+        typeDefs.add(getTypeDef("Asset", "Referenceable"));
+        typeDefs.add(getTypeDef("DataSet", "Asset"));
+        typeDefs.add(getTypeDef("DataFile", "Asset"));
+        typeDefs.add(getTypeDef("CSVFile", "DataFile"));
+        typeDefs.add(getTypeDef("Orphan", "MissingType"));
+
+        return new OMRSTypeHierarchy(3, typeDefs);
+    }
+
+
+    @Test
+    void testSuperTypes()
+    {
+        OMRSTypeHierarchy typeHierarchy = getTypeHierarchy();
+
+        assertEquals(typeHierarchy.getTypeDefVersion(), 3);
+        assertTrue(typeHierarchy.isKnownType("CSVFile"));
+        assertTrue(typeHierarchy.hasSuperTypeName("CSVFile", "DataFile"));
+        assertTrue(typeHierarchy.hasSuperTypeName("CSVFile", "Referenceable"));
+        assertTrue(typeHierarchy.hasSuperTypeGUID("CSVFile", "Asset-guid"));
+        assertFalse(typeHierarchy.hasSuperTypeName("CSVFile", "DataSet"));
+        assertFalse(typeHierarchy.hasSuperTypeName("Asset", "CSVFile"));
+        assertFalse(typeHierarchy.hasSuperTypeName("Asset", "Unknown"));
+    }
+
+
+    @Test
+    void testSuperTypeNames()
+    {
+        OMRSTypeHierarchy typeHierarchy = getTypeHierarchy();
+
+        assertEquals(new ArrayList<>(typeHierarchy.getSuperTypeNames("CSVFile")), Arrays.asList("DataFile", "Asset", "Referenceable"));
+        assertTrue(typeHierarchy.getSuperTypeNames("Referenceable").isEmpty());
+        assertNull(typeHierarchy.getSuperTypeNames("Orphan"));
+        assertNull(typeHierarchy.getSuperTypeNames("Unknown"));
+    }
+
+
+    @Test
+    void testUnresolvedTypes()
+    {
+        OMRSTypeHierarchy typeHierarchy = getTypeHierarchy();
+
+        assertFalse(typeHierarchy.isKnownType("Orphan"));
+        assertFalse(typeHierarchy.isKnownType("Unknown"));
+        assertTrue(typeHierarchy.getSubTypes("Unknown").isEmpty());
+    }
+
+
+    @Test
+    void testSubTypes()
+    {
+        OMRSTypeHierarchy typeHierarchy = getTypeHierarchy();
+
+        assertEquals(new HashSet<>(typeHierarchy.getSubTypes("Asset")), new HashSet<>(Arrays.asList("DataSet", "DataFile", "CSVFile")));
+        assertEquals(typeHierarchy.getSubTypes("DataFile"), Arrays.asList("CSVFile"));
+        assertTrue(typeHierarchy.getSubTypes("CSVFile").isEmpty());
+    }
+}
@@ -484,6 +484,54 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Return the header and classifications for a list of entities.  The returned entity summaries may be from
+     * full entity objects or entity proxies.  Unknown entities are skipped.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return EntitySummaryListResponse:
+     * list of EntitySummary structures or
+     * InvalidParameterException the list of guids is null or empty or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/summaries/by-guids")
+
+    public EntitySummaryListResponse getEntitySummariesByGUIDs(@PathVariable String                  serverName,
+                                                               @PathVariable String                  userId,
+                                                               @RequestBody  InstanceGUIDListRequest guids)
+    {
+        return restAPI.getEntitySummariesByGUIDs(serverName, userId, guids);
+    }
+
+
+    /**
+     * Return the header, classifications and properties of a list of entities.  Unknown entities and
+     * entity proxies are skipped.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return EntityListResponse:
+     * list of EntityDetail structures or
+     * InvalidParameterException the list of guids is null or empty or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/by-guids")
+
+    public EntityListResponse getEntitiesByGUIDs(@PathVariable String                  serverName,
+                                                 @PathVariable String                  userId,
+                                                 @RequestBody  InstanceGUIDListRequest guids)
+    {
+        return restAPI.getEntitiesByGUIDs(serverName, userId, guids);
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -868,6 +916,29 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Return the current version of a list of relationships.  Unknown relationships are skipped.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return RelationshipListResponse:
+     * list of relationship structures or
+     * InvalidParameterException the list of guids is null or empty or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/relationships/by-guids")
+
+    public RelationshipListResponse getRelationshipsByGUIDs(@PathVariable String                  serverName,
+                                                            @PathVariable String                  userId,
+                                                            @RequestBody  InstanceGUIDListRequest guids)
+    {
+        return restAPI.getRelationshipsByGUIDs(serverName, userId, guids);
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be broken into pages.
      *
@@ -175,6 +175,12 @@ public enum DinoViewErrorCode implements ExceptionMessageSet
              "The system could not perform the requested action.",
              "Please check the supplied engine name matches the engine service's engine configuration."),
 
+    OVERVIEW_CALL_TIMEOUT
+            (400, "OMVS-DINO-400-023",
+             "The dino view service operation {0} did not receive a response from {1} within {2} milliseconds",
+             "The system could not complete the overview because one of the calls to the platform or server did not return in time.",
+             "Check that the platform and server are running and responsive, then retry the request."),
+
     /*
      * Provide a catch-all error code in case Rex catches a Throwable. It will capture the Throwable
      * and package it into the REST response, but does not specific error handling for the error
@@ -58,6 +58,15 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 
 /**
@@ -67,6 +76,29 @@ import java.util.Map;
 public class DinoViewHandler {
     private static final Logger log = LoggerFactory.getLogger(DinoViewHandler.class);
 
+    /*
+     * The platform and server metadata shown on the overview pages is cached for a short time for each user,
+     * so that a refreshing UI looking at the same platforms and servers does not repeat the same calls.
+     */
+    private static final long METADATA_CACHE_TTL = 10 * 1000L;
+
+    /*
+     * The maximum number of results held in the metadata cache.  The expired results are removed at most once
+     * every METADATA_CACHE_TTL milliseconds; if the cache is still full, new results are not cached.
+     */
+    private static final int  MAX_METADATA_CACHE_SIZE = 10000;
+
+    /*
+     * The calls that make up an overview are issued concurrently.  Each must complete within this deadline,
+     * measured from the time the calls are issued.
+     */
+    private static final long OVERVIEW_CALL_TIMEOUT = 30 * 1000L;
+
+    /*
+     * The maximum number of overview calls in progress at once across all requests.
+     */
+    private static final int  MAX_CONCURRENT_OVERVIEW_CALLS = 16;
+
     /*
      * viewServiceOptions should have been validated in the Admin layer.
      * The viewServiceOptions contains a list of resource endpoints that the
@@ -108,6 +140,19 @@ public class DinoViewHandler {
     private Map<String, ResourceEndpoint> configuredPlatforms = null;  // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint> configuredServerInstances = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    /*
+     * The platform, metadata highway and audit log clients do not embed a userId, so each one is created once for
+     * its platformRootURL and server name and reused by every request, along with the connections of its REST
+     * transport.
+     */
+    private final Map<String, PlatformServicesClient>        platformServicesClients        = new ConcurrentHashMap<>();
+    private final Map<String, MetadataHighwayServicesClient> metadataHighwayServicesClients = new ConcurrentHashMap<>();
+    private final Map<String, AuditLogServicesClient>        auditLogServicesClients        = new ConcurrentHashMap<>();
+
+    private final Map<String, CachedMetadata>                metadataCache                  = new ConcurrentHashMap<>();  // map is keyed using userId, platformRootURL, serverName and the type of metadata
+    private volatile long                                    lastCacheSweepTime             = 0;
+    private ExecutorService                                  overviewExecutor               = null;
+
     /**
      * Default constructor for DinoViewHandler
      */
@@ -256,7 +301,19 @@ public class DinoViewHandler {
 
         try
         {
-            return new PlatformServicesClient(platformName, platformRootURL);
+            PlatformServicesClient client = platformServicesClients.get(platformRootURL);
+            if (client == null)
+            {
+                client = new PlatformServicesClient(platformName, platformRootURL);
+
+                PlatformServicesClient existingClient = platformServicesClients.putIfAbsent(platformRootURL, client);
+                if (existingClient != null)
+                {
+                    client = existingClient;
+                }
+            }
+
+            return client;
         }
         catch (InvalidParameterException e)
 
@@ -324,7 +381,19 @@ public class DinoViewHandler {
         {
             String serverRootURL = platformRootURL + "/servers/" + serverName;
 
-            return new MetadataHighwayServicesClient(serverName, serverRootURL);
+            MetadataHighwayServicesClient client = metadataHighwayServicesClients.get(serverRootURL);
+            if (client == null)
+            {
+                client = new MetadataHighwayServicesClient(serverName, serverRootURL);
+
+                MetadataHighwayServicesClient existingClient = metadataHighwayServicesClients.putIfAbsent(serverRootURL, client);
+                if (existingClient != null)
+                {
+                    client = existingClient;
+                }
+            }
+
+            return client;
 
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException e)
@@ -366,7 +435,19 @@ public class DinoViewHandler {
 
             String serverRootURL = platformRootURL + "/servers/" + serverName;
 
-            return new AuditLogServicesClient(serverName, serverRootURL);
+            AuditLogServicesClient client = auditLogServicesClients.get(serverRootURL);
+            if (client == null)
+            {
+                client = new AuditLogServicesClient(serverName, serverRootURL);
+
+                AuditLogServicesClient existingClient = auditLogServicesClients.putIfAbsent(serverRootURL, client);
+                if (existingClient != null)
+                {
+                    client = existingClient;
+                }
+            }
+
+            return client;
 
 
         }
@@ -581,6 +662,179 @@ public class DinoViewHandler {
         }
     }
 
+    /**
+     * Return a future for the result of a call to a platform or server.  If the result of the call was cached
+     * for the same user within the last METADATA_CACHE_TTL milliseconds, the future is already complete, otherwise
+     * the call is issued on the overview executor and its result is cached when it returns.  The results are cached
+     * per user because the platform or server decides what each user may see - a result retrieved for one user
+     * must not be returned to another user who may not be authorized to retrieve it.
+     *
+     * @param userId - name of the user performing the operation
+     * @param resultKey - key of the result for the platform or server and the type of metadata
+     * @param call - the call to the platform or server
+     * @param <T> - type of the result
+     * @return future for the result
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Future<T> submitOverviewCall(String      userId,
+                                             String      resultKey,
+                                             Callable<T> call)
+    {
+        String         cacheKey       = userId + "@" + resultKey;
+        CachedMetadata cachedMetadata = metadataCache.get(cacheKey);
+
+        if (cachedMetadata != null)
+        {
+            if (!cachedMetadata.isExpired())
+            {
+                return CompletableFuture.completedFuture((T) cachedMetadata.getValue());
+            }
+
+            metadataCache.remove(cacheKey, cachedMetadata);
+        }
+
+        return this.getOverviewExecutor().submit(() -> {
+            T value = call.call();
+            this.cacheMetadata(cacheKey, value);
+            return value;
+        });
+    }
+
+
+    /**
+     * Save the result of a call in the metadata cache.  The results of users and servers that are no longer being
+     * viewed are only removed when they are found to be expired, so the cache is swept for expired results at most
+     * once every METADATA_CACHE_TTL milliseconds, and the result is not cached if the cache is full.
+     *
+     * @param cacheKey - key of the result for the user, the platform or server and the type of metadata
+     * @param value - the result of the call (may be null)
+     */
+    private void cacheMetadata(String cacheKey,
+                               Object value)
+    {
+        long now = System.currentTimeMillis();
+
+        if (now - lastCacheSweepTime >= METADATA_CACHE_TTL)
+        {
+            lastCacheSweepTime = now;
+            metadataCache.values().removeIf(CachedMetadata::isExpired);
+        }
+
+        if (metadataCache.size() < MAX_METADATA_CACHE_SIZE)
+        {
+            metadataCache.put(cacheKey, new CachedMetadata(value));
+        }
+    }
+
+
+    /**
+     * Wait for the result of a call issued by submitOverviewCall and map any exception it raised.
+     *
+     * @param future     - future for the result
+     * @param deadline   - time (in milliseconds) by which the result must be available
+     * @param userId     - name of the user performing the operation
+     * @param target     - name of the platform or server being called (used in error messages)
+     * @param methodName - the name of the calling method
+     * @param <T>        - type of the result
+     * @return the result of the call
+     * @throws DinoViewServiceException the call failed or did not complete before the deadline
+     */
+    private <T> T getOverviewResult(Future<T> future,
+                                    long      deadline,
+                                    String    userId,
+                                    String    target,
+                                    String    methodName)
+    throws DinoViewServiceException
+    {
+        try
+        {
+            return future.get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        }
+        catch (TimeoutException e)
+        {
+            future.cancel(true);
+
+            throw new DinoViewServiceException(DinoViewErrorCode.OVERVIEW_CALL_TIMEOUT.getMessageDefinition(methodName,
+                                                                                                            target,
+                                                                                                            Long.toString(OVERVIEW_CALL_TIMEOUT)),
+                                               this.getClass().getName(),
+                                               methodName);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new DinoViewServiceException(DinoViewErrorCode.UNKNOWN_ERROR.getMessageDefinition(methodName, e.getMessage()),
+                                               this.getClass().getName(),
+                                               methodName);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof DinoViewServiceException)
+            {
+                throw (DinoViewServiceException) cause;
+            }
+            if (cause instanceof InvalidParameterException)
+            {
+                throw DinoExceptionHandler.mapOCFInvalidParameterException(this.getClass().getName(), methodName, (InvalidParameterException) cause);
+            }
+            if (cause instanceof UserNotAuthorizedException)
+            {
+                throw DinoExceptionHandler.mapOCFUserNotAuthorizedException(this.getClass().getName(), methodName, userId, (UserNotAuthorizedException) cause);
+            }
+            if (cause instanceof PropertyServerException)
+            {
+                throw DinoExceptionHandler.mapOCFPropertyServerException(this.getClass().getName(), methodName, target, (PropertyServerException) cause);
+            }
+
+            throw new DinoViewServiceException(DinoViewErrorCode.UNKNOWN_ERROR.getMessageDefinition(methodName, String.valueOf(cause)),
+                                               this.getClass().getName(),
+                                               methodName);
+        }
+    }
+
+
+    /**
+     * Return the executor that issues the overview calls, creating it on first use.  Its threads are daemon
+     * threads so that they do not prevent the platform from stopping.
+     *
+     * @return executor
+     */
+    private synchronized ExecutorService getOverviewExecutor()
+    {
+        if (overviewExecutor == null)
+        {
+            overviewExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_OVERVIEW_CALLS, runnable -> {
+                Thread thread = new Thread(runnable, "DinoViewHandler-overview");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return overviewExecutor;
+    }
+
+
+    /**
+     * Release the clients, cached metadata and threads of the handler when the view service shuts down.
+     */
+    public synchronized void shutdown()
+    {
+        if (overviewExecutor != null)
+        {
+            overviewExecutor.shutdownNow();
+            overviewExecutor = null;
+        }
+
+        platformServicesClients.clear();
+        metadataHighwayServicesClients.clear();
+        auditLogServicesClients.clear();
+        metadataCache.clear();
+    }
+
+
     /*
      * Retrieve the platform overview
      * @param userId  userId under which the request is performed
@@ -600,8 +854,6 @@ public class DinoViewHandler {
 
     {
 
-        PlatformServicesClient platformServicesClient;
-
         /*
          * Resolve the platformURL - can throw a DinoViewServiceException - no need to catch
          */
@@ -610,57 +862,44 @@ public class DinoViewHandler {
         /*
          *  Use platform services client. Internal method will only throw a DinoViewServiceException
          */
-        platformServicesClient = this.getPlatformServicesClient(platformName, platformRootURL);
+        PlatformServicesClient platformServicesClient = this.getPlatformServicesClient(platformName, platformRootURL);
 
+        /*
+         * Construct an overview with the configured aspects
+         */
+        ResourceEndpoint platformConfig = configuredPlatforms.get(platformName);
+        PlatformOverview platformOverview = new PlatformOverview();
+        platformOverview.setPlatformName(platformConfig.getPlatformName());
+        platformOverview.setDescription(platformConfig.getResourceDescription());
+        platformOverview.setPlatformRootURL(platformConfig.getResourceRootURL());
 
-        try
-        {
-
-            /*
-             * Construct an overview with the configured aspects
-             */
-            ResourceEndpoint platformConfig = configuredPlatforms.get(platformName);
-            PlatformOverview platformOverview = new PlatformOverview();
-            platformOverview.setPlatformName(platformConfig.getPlatformName());
-            platformOverview.setDescription(platformConfig.getResourceDescription());
-            platformOverview.setPlatformRootURL(platformConfig.getResourceRootURL());
-
-            // All the following calls to the platformServicesClient can throw a number of OCF exceptions
-
-            // Fetch the platformOrigin
-            String platformOrigin = platformServicesClient.getPlatformOrigin(userId);
-            platformOverview.setPlatformOrigin(platformOrigin);
-
-            // Fetch the various types of registered services
-            // A RegisteredOMAGService contains serviceName, serviceURLMarker, serviceDescription, serviceWiki
-            List<RegisteredOMAGService> accessServiceList = platformServicesClient.getAccessServices(userId);
-            platformOverview.setAccessServices(accessServiceList);
-
-            List<RegisteredOMAGService> commonServiceList = platformServicesClient.getCommonServices(userId);
-            platformOverview.setCommonServices(commonServiceList);
-
-            List<RegisteredOMAGService> governanceServiceList = platformServicesClient.getGovernanceServices(userId);
-            platformOverview.setGovernanceServices(governanceServiceList);
-
-            List<RegisteredOMAGService> viewServiceList = platformServicesClient.getViewServices(userId);
-            platformOverview.setViewServices(viewServiceList);
-
-            return platformOverview;
-
-        }
-        catch (org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException e)
-        {
-            throw DinoExceptionHandler.mapOCFInvalidParameterException(this.getClass().getName(), methodName, e);
-        }
-        catch (UserNotAuthorizedException e)
-        {
-            throw DinoExceptionHandler.mapOCFUserNotAuthorizedException(this.getClass().getName(), methodName, userId, e);
-        }
-        catch (PropertyServerException e)
-        {
-            throw DinoExceptionHandler.mapOCFPropertyServerException(this.getClass().getName(), methodName, platformName, e);
-        }
-
+        /*
+         * The calls to the platform are independent, so they are issued together and the overview takes as long
+         * as the slowest of them.  Any OCF exceptions are mapped by getOverviewResult.
+         */
+        long   deadline = System.currentTimeMillis() + OVERVIEW_CALL_TIMEOUT;
+        String cacheKey = platformRootURL + ":";
+
+        Future<String> platformOrigin = this.submitOverviewCall(userId, cacheKey + "origin",
+                                                                () -> platformServicesClient.getPlatformOrigin(userId));
+
+        // A RegisteredOMAGService contains serviceName, serviceURLMarker, serviceDescription, serviceWiki
+        Future<List<RegisteredOMAGService>> accessServiceList = this.submitOverviewCall(userId, cacheKey + "accessServices",
+                                                                                        () -> platformServicesClient.getAccessServices(userId));
+        Future<List<RegisteredOMAGService>> commonServiceList = this.submitOverviewCall(userId, cacheKey + "commonServices",
+                                                                                        () -> platformServicesClient.getCommonServices(userId));
+        Future<List<RegisteredOMAGService>> governanceServiceList = this.submitOverviewCall(userId, cacheKey + "governanceServices",
+                                                                                            () -> platformServicesClient.getGovernanceServices(userId));
+        Future<List<RegisteredOMAGService>> viewServiceList = this.submitOverviewCall(userId, cacheKey + "viewServices",
+                                                                                      () -> platformServicesClient.getViewServices(userId));
+
+        platformOverview.setPlatformOrigin(this.getOverviewResult(platformOrigin, deadline, userId, platformName, methodName));
+        platformOverview.setAccessServices(this.getOverviewResult(accessServiceList, deadline, userId, platformName, methodName));
+        platformOverview.setCommonServices(this.getOverviewResult(commonServiceList, deadline, userId, platformName, methodName));
+        platformOverview.setGovernanceServices(this.getOverviewResult(governanceServiceList, deadline, userId, platformName, methodName));
+        platformOverview.setViewServices(this.getOverviewResult(viewServiceList, deadline, userId, platformName, methodName));
+
+        return platformOverview;
     }
 
 
@@ -736,75 +975,61 @@ public class DinoViewHandler {
 
     {
 
-        try
-        {
-
-            /*
-             * Resolve the platformURL - can throw a DinoViewServiceException - no need to catch
-             */
-            String platformRootURL = resolvePlatformRootURL(platformName, methodName);
+        /*
+         * Resolve the platformURL - can throw a DinoViewServiceException - no need to catch
+         */
+        String platformRootURL = resolvePlatformRootURL(platformName, methodName);
 
-            /*
-             *  Use platform services client
-             *  Can throw a number of OCF exceptions - catch and map them to DinoViewServiceException
-             */
+        /*
+         *  Use platform services client
+         *  The OCF exceptions of the calls are mapped to DinoViewServiceException by getOverviewResult
+         */
 
-            PlatformServicesClient platformServicesClient = this.getPlatformServicesClient(platformName, platformRootURL);
+        PlatformServicesClient platformServicesClient = this.getPlatformServicesClient(platformName, platformRootURL);
 
-            /* Retrieve the server names */
-            List<String> serverNames = platformServicesClient.getActiveServers(userId);
+        /* Retrieve the server names - the list is reused for this user for a short time */
+        long deadline = System.currentTimeMillis() + OVERVIEW_CALL_TIMEOUT;
+        Future<List<String>> activeServers = this.submitOverviewCall(userId, platformRootURL + ":activeServers",
+                                                                     () -> platformServicesClient.getActiveServers(userId));
+        List<String> serverNames = this.getOverviewResult(activeServers, deadline, userId, platformName, methodName);
 
 
-            if (serverNames != null)
-            {
-                /*
-                 * Construct the return list indicating that all servers it contains are active
-                 */
-                List<DinoServerInstance> serverList = new ArrayList<>();
+        if (serverNames != null)
+        {
+            /*
+             * Construct the return list indicating that all servers it contains are active
+             */
+            List<DinoServerInstance> serverList = new ArrayList<>();
 
-                serverNames.forEach(serverName -> {
-                    DinoServerInstance dinoServerInstance = new DinoServerInstance();
-                    // Try to locate the serverName and plaformRootURL in the configured serverInstances. If found include the serverInstanceName,
-                    // else ensure it is set to null.
-                    String configuredInstanceName = null;
+            serverNames.forEach(serverName -> {
+                DinoServerInstance dinoServerInstance = new DinoServerInstance();
+                // Try to locate the serverName and plaformRootURL in the configured serverInstances. If found include the serverInstanceName,
+                // else ensure it is set to null.
+                String configuredInstanceName = null;
 
-                    Iterator<ResourceEndpoint> configuredServerInstances = this.configuredServerInstances.values().iterator();
-                    while (configuredServerInstances.hasNext())
+                Iterator<ResourceEndpoint> configuredServerInstances = this.configuredServerInstances.values().iterator();
+                while (configuredServerInstances.hasNext())
+                {
+                    ResourceEndpoint csire = configuredServerInstances.next();
+                    if (csire.getServerName().equals(serverName)
+                            && csire.getPlatformName().equals(platformName))
                     {
-                        ResourceEndpoint csire = configuredServerInstances.next();
-                        if (csire.getServerName().equals(serverName)
-                                && csire.getPlatformName().equals(platformName))
-                        {
-                            // This is our configuration entry...
-                            configuredInstanceName = csire.getServerInstanceName();
-                        }
+                        // This is our configuration entry...
+                        configuredInstanceName = csire.getServerInstanceName();
                     }
-                    dinoServerInstance.setServerInstanceName(configuredInstanceName);
-                    dinoServerInstance.setIsActive(true);
-                    dinoServerInstance.setServerName(serverName);
-                    dinoServerInstance.setPlatformName(platformName);
-                    serverList.add(dinoServerInstance);
-                });
-
-                return serverList;
-            }
-            else
-            {
-                return null;
-            }
+                }
+                dinoServerInstance.setServerInstanceName(configuredInstanceName);
+                dinoServerInstance.setIsActive(true);
+                dinoServerInstance.setServerName(serverName);
+                dinoServerInstance.setPlatformName(platformName);
+                serverList.add(dinoServerInstance);
+            });
 
+            return serverList;
         }
-        catch (org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException e)
+        else
         {
-            throw DinoExceptionHandler.mapOCFInvalidParameterException(this.getClass().getName(), methodName, e);
-        }
-        catch (UserNotAuthorizedException e)
-        {
-            throw DinoExceptionHandler.mapOCFUserNotAuthorizedException(this.getClass().getName(), methodName, userId, e);
-        }
-        catch (PropertyServerException e)
-        {
-            throw DinoExceptionHandler.mapOCFPropertyServerException(this.getClass().getName(), methodName, platformName, e);
+            return null;
         }
 
     }
@@ -829,66 +1054,59 @@ public class DinoViewHandler {
 
     {
 
-        try
-        {
-            /*
-             * Resolve the platformURL - can throw a DinoViewServiceException - no need to catch
-             */
-            String platformRootURL = resolvePlatformRootURL(platformName, methodName);
+        /*
+         * Resolve the platformURL - can throw a DinoViewServiceException - no need to catch
+         */
+        String platformRootURL = resolvePlatformRootURL(platformName, methodName);
 
-            /*
-             *  Use platform services client
-             *  Can throw a number of OCF exceptions - catch and map them to DinoViewServiceException
-             */
+        /*
+         *  Use platform services client
+         *  The OCF exceptions of the calls are mapped to DinoViewServiceException by getOverviewResult
+         */
 
-            PlatformServicesClient platformServicesClient = this.getPlatformServicesClient(platformName, platformRootURL);
+        PlatformServicesClient platformServicesClient = this.getPlatformServicesClient(platformName, platformRootURL);
 
-            List<String> serverNames = platformServicesClient.getKnownServers(userId);
+        /*
+         * The known and active server lists are retrieved together.
+         */
+        long deadline = System.currentTimeMillis() + OVERVIEW_CALL_TIMEOUT;
+        Future<List<String>> knownServers = this.submitOverviewCall(userId, platformRootURL + ":knownServers",
+                                                                    () -> platformServicesClient.getKnownServers(userId));
+        Future<List<String>> activeServers = this.submitOverviewCall(userId, platformRootURL + ":activeServers",
+                                                                     () -> platformServicesClient.getActiveServers(userId));
 
-            if (serverNames != null)
-            {
-                /*
-                 * Construct the return list indicating which servers are active
-                 */
-                List<DinoServerInstance> serverList = new ArrayList<>();
-
-                /* Retrieve a list of names of the active servers */
-                List<String> activeServerNames = platformServicesClient.getActiveServers(userId);
-                serverNames.forEach(serverName -> {
-                    DinoServerInstance dinoServerInstance = new DinoServerInstance();
-                    dinoServerInstance.setServerName(serverName);
-                    dinoServerInstance.setPlatformName(platformName);
-                    if (activeServerNames != null && activeServerNames.contains(serverName))
-                    {
-                        dinoServerInstance.setIsActive(true);
-                    }
-                    else
-                    {
-                        dinoServerInstance.setIsActive(false);
-                    }
-                    serverList.add(dinoServerInstance);
-                });
+        List<String> serverNames = this.getOverviewResult(knownServers, deadline, userId, platformName, methodName);
 
-                return serverList;
+        if (serverNames != null)
+        {
+            /*
+             * Construct the return list indicating which servers are active
+             */
+            List<DinoServerInstance> serverList = new ArrayList<>();
 
-            }
-            else
-            {
-                return null;
-            }
+            /* Retrieve a list of names of the active servers */
+            List<String> activeServerNames = this.getOverviewResult(activeServers, deadline, userId, platformName, methodName);
+            serverNames.forEach(serverName -> {
+                DinoServerInstance dinoServerInstance = new DinoServerInstance();
+                dinoServerInstance.setServerName(serverName);
+                dinoServerInstance.setPlatformName(platformName);
+                if (activeServerNames != null && activeServerNames.contains(serverName))
+                {
+                    dinoServerInstance.setIsActive(true);
+                }
+                else
+                {
+                    dinoServerInstance.setIsActive(false);
+                }
+                serverList.add(dinoServerInstance);
+            });
+
+            return serverList;
 
         }
-        catch (org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException e)
-        {
-            throw DinoExceptionHandler.mapOCFInvalidParameterException(this.getClass().getName(), methodName, e);
-        }
-        catch (UserNotAuthorizedException e)
-        {
-            throw DinoExceptionHandler.mapOCFUserNotAuthorizedException(this.getClass().getName(), methodName, userId, e);
-        }
-        catch (PropertyServerException e)
+        else
         {
-            throw DinoExceptionHandler.mapOCFPropertyServerException(this.getClass().getName(), methodName, platformName, e);
+            return null;
         }
 
     }
@@ -1127,101 +1345,85 @@ public class DinoViewHandler {
 
     {
 
-        try {
-
-            /*
-             * Resolve the platformURL - can throw a DinoViewServiceException - no need to catch
-             */
-            String platformRootURL = resolvePlatformRootURL(platformName, methodName);
-
-            /*
-             *  Use platform services client
-             *  Can throw a number of OCF exceptions - catch and map them to DinoViewServiceException
-             */
-
-            PlatformServicesClient platformServicesClient = this.getPlatformServicesClient(platformName, platformRootURL);
-
-            /*
-             * Construct an overview with the configured aspects
-             */
-
-            ServerOverview serverOverview = new ServerOverview();
-            serverOverview.setServerName(serverName);
-            serverOverview.setPlatformRootURL(platformRootURL);
-            if (serverInstanceName != null)
-                serverOverview.setServerInstanceName(serverInstanceName);
-            if (description != null)
-                serverOverview.setDescription(description);
-
-            // Fetch the platformOrigin
-            String serverOrigin = platformServicesClient.getPlatformOrigin(userId);
-            serverOverview.setServerOrigin(serverOrigin);
-
-            // Fetch the server classification - internal method will only throw DinoViewServiceException
-
-            ServerTypeClassificationSummary serverClassification = serverGetTypeClassification(userId, serverName, platformName, methodName);
-            serverOverview.setServerClassification(serverClassification);
-
-
-            // Fetch the various aspects of server status (including history) - can throw OCF exceptions
-            ServerStatus serverStatus = platformServicesClient.getServerStatus(userId, serverName);
-            serverOverview.setServerStatus(serverStatus);
+        /*
+         * Resolve the platformURL - can throw a DinoViewServiceException - no need to catch
+         */
+        String platformRootURL = resolvePlatformRootURL(platformName, methodName);
 
-            ///*
-            // * Get the active services running on the server....
-            // */
-            //List<String> serverList = platformServicesClient.getActiveServices(userId, serverName);
-            //serverOverview.setServerServicesList(serverList);
+        /*
+         *  Use platform services client
+         *  The OCF exceptions of the calls are mapped to DinoViewServiceException by getOverviewResult
+         */
+        PlatformServicesClient platformServicesClient = this.getPlatformServicesClient(platformName, platformRootURL);
 
-            /*
-             * Get the integration services running on the server....
-             */
-            List<RegisteredOMAGService> integrationServices = this.serverGetIntegrationServices(userId, serverName, platformName, methodName);
-            serverOverview.setIntegrationServices(integrationServices);
+        /*
+         * Construct an overview with the configured aspects
+         */
 
-            /*
-             * Get the engine services running on the server....
-             */
-            List<RegisteredOMAGService> engineServices = this.serverGetEngineServices(userId, serverName, platformName, methodName);
-            serverOverview.setEngineServices(engineServices);
+        ServerOverview serverOverview = new ServerOverview();
+        serverOverview.setServerName(serverName);
+        serverOverview.setPlatformRootURL(platformRootURL);
+        if (serverInstanceName != null)
+            serverOverview.setServerInstanceName(serverInstanceName);
+        if (description != null)
+            serverOverview.setDescription(description);
 
-            /*
-             * Get the access services running on the server....
-             */
-            List<RegisteredOMAGService> accessServices = this.serverGetAccessServices(userId, serverName, platformName, methodName);
-            serverOverview.setAccessServices(accessServices);
+        /*
+         * The aspects of the server are retrieved from the platform, the admin services and the metadata highway
+         * independently, so the calls are issued together and the overview takes as long as the slowest of them.
+         */
+        long   deadline          = System.currentTimeMillis() + OVERVIEW_CALL_TIMEOUT;
+        String platformCacheKey  = platformRootURL + ":";
+        String serverCacheKey    = platformRootURL + "/servers/" + serverName + ":";
 
-            /*
-             * Get the view services running on the server....
-             */
-            List<RegisteredOMAGService> viewServices = this.serverGetViewServices(userId, serverName, platformName, methodName);
-            serverOverview.setViewServices(viewServices);
+        // Fetch the platformOrigin
+        Future<String> serverOrigin = this.submitOverviewCall(userId, platformCacheKey + "origin",
+                                                              () -> platformServicesClient.getPlatformOrigin(userId));
 
-            /*
-             * Fechez la vache
-             *
-             * This is an internal method that will already have mapped any exceptions to DinoViewServiceException
-             */
-            Map<String, ServerCohortDetails> cohortDetails = serverGetCohortDetails(userId, serverName, platformName, methodName);
-            serverOverview.setCohortDetails(cohortDetails);
+        // Fetch the server classification - internal method will only throw DinoViewServiceException
+        Future<ServerTypeClassificationSummary> serverClassification =
+                this.submitOverviewCall(userId, serverCacheKey + "classification",
+                                        () -> this.serverGetTypeClassification(userId, serverName, platformName, methodName));
 
-            return serverOverview;
+        // Fetch the various aspects of server status (including history) - can throw OCF exceptions
+        Future<ServerStatus> serverStatus = this.submitOverviewCall(userId, serverCacheKey + "status",
+                                                                    () -> platformServicesClient.getServerStatus(userId, serverName));
 
-        }
-
-        catch (org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException e)
-        {
-            throw DinoExceptionHandler.mapOCFInvalidParameterException(this.getClass().getName(), methodName, e);
-        }
-        catch (UserNotAuthorizedException e)
-        {
-            throw DinoExceptionHandler.mapOCFUserNotAuthorizedException(this.getClass().getName(), methodName, userId, e);
-        }
-        catch (PropertyServerException e)
-        {
-            throw DinoExceptionHandler.mapOCFPropertyServerException(this.getClass().getName(), methodName, platformName, e);
-        }
+        /*
+         * Get the integration, engine, access and view services running on the server....
+         */
+        Future<List<RegisteredOMAGService>> integrationServices =
+                this.submitOverviewCall(userId, serverCacheKey + "integrationServices",
+                                        () -> this.serverGetIntegrationServices(userId, serverName, platformName, methodName));
+        Future<List<RegisteredOMAGService>> engineServices =
+                this.submitOverviewCall(userId, serverCacheKey + "engineServices",
+                                        () -> this.serverGetEngineServices(userId, serverName, platformName, methodName));
+        Future<List<RegisteredOMAGService>> accessServices =
+                this.submitOverviewCall(userId, serverCacheKey + "accessServices",
+                                        () -> this.serverGetAccessServices(userId, serverName, platformName, methodName));
+        Future<List<RegisteredOMAGService>> viewServices =
+                this.submitOverviewCall(userId, serverCacheKey + "viewServices",
+                                        () -> this.serverGetViewServices(userId, serverName, platformName, methodName));
 
+        /*
+         * Fechez la vache
+         *
+         * This is an internal method that will already have mapped any exceptions to DinoViewServiceException
+         */
+        Future<Map<String, ServerCohortDetails>> cohortDetails =
+                this.submitOverviewCall(userId, serverCacheKey + "cohortDetails",
+                                        () -> this.serverGetCohortDetails(userId, serverName, platformName, methodName));
+
+        serverOverview.setServerOrigin(this.getOverviewResult(serverOrigin, deadline, userId, platformName, methodName));
+        serverOverview.setServerClassification(this.getOverviewResult(serverClassification, deadline, userId, serverName, methodName));
+        serverOverview.setServerStatus(this.getOverviewResult(serverStatus, deadline, userId, platformName, methodName));
+        serverOverview.setIntegrationServices(this.getOverviewResult(integrationServices, deadline, userId, serverName, methodName));
+        serverOverview.setEngineServices(this.getOverviewResult(engineServices, deadline, userId, serverName, methodName));
+        serverOverview.setAccessServices(this.getOverviewResult(accessServices, deadline, userId, serverName, methodName));
+        serverOverview.setViewServices(this.getOverviewResult(viewServices, deadline, userId, serverName, methodName));
+        serverOverview.setCohortDetails(this.getOverviewResult(cohortDetails, deadline, userId, serverName, methodName));
+
+        return serverOverview;
     }
 
 
@@ -2414,4 +2616,49 @@ public class DinoViewHandler {
             throw DinoExceptionHandler.mapOCFPropertyServerException(this.getClass().getName(), methodName, platformName, e);
         }
     }
+
+
+
+    /**
+     * A result of a call to a platform or server with the time it was retrieved.
+     */
+    private static class CachedMetadata
+    {
+        private final Object value;
+        private final long   retrievalTime;
+
+
+        /**
+         * Constructor
+         *
+         * @param value the result of the call (may be null)
+         */
+        CachedMetadata(Object value)
+        {
+            this.value         = value;
+            this.retrievalTime = System.currentTimeMillis();
+        }
+
+
+        /**
+         * Return whether the result is too old to be used.
+         *
+         * @return boolean flag
+         */
+        boolean isExpired()
+        {
+            return System.currentTimeMillis() - retrievalTime >= METADATA_CACHE_TTL;
+        }
+
+
+        /**
+         * Return the result of the call.
+         *
+         * @return result
+         */
+        Object getValue()
+        {
+            return value;
+        }
+    }
 }
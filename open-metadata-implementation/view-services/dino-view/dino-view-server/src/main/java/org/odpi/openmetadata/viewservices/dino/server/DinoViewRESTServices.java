@@ -203,7 +203,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -293,7 +293,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -383,7 +383,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -472,7 +472,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -560,7 +560,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -649,7 +649,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -740,7 +740,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -827,7 +827,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -919,7 +919,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1011,7 +1011,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1103,7 +1103,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1191,7 +1191,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1279,7 +1279,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1393,7 +1393,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1483,7 +1483,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1574,7 +1574,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1663,7 +1663,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1755,7 +1755,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1846,7 +1846,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -1943,7 +1943,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2036,7 +2036,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2130,7 +2130,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2224,7 +2224,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -2321,7 +2321,7 @@ public class DinoViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -70,5 +70,20 @@ public class DinoViewServicesInstance extends OMVSServiceInstance
     }
 
 
+    /**
+     * Release the clients, cached metadata and threads of the handler before the instance is removed.
+     */
+    @Override
+    public void shutdown()
+    {
+        if (dinoViewHandler != null)
+        {
+            dinoViewHandler.shutdown();
+        }
+
+        super.shutdown();
+    }
+
+
 
 }
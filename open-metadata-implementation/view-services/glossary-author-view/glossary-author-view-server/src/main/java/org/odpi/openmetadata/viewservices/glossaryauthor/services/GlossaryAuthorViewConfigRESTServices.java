@@ -63,7 +63,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response =  getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -126,7 +126,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response =  getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -189,7 +189,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response =  getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -239,7 +239,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response =  getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -294,7 +294,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -333,7 +333,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         }  catch (Exception exception) {
             response =  getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -361,7 +361,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
         } catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -389,7 +389,7 @@ public class GlossaryAuthorViewConfigRESTServices extends BaseGlossaryAuthorView
             } catch (Exception exception) {
                 response = getResponseForException(exception, auditLog, className, methodName);
             }
-            restCallLogger.logRESTCallReturn(token, response.toString());
+            restCallLogger.logRESTCallReturn(token, response);
             return response;
         }
 }
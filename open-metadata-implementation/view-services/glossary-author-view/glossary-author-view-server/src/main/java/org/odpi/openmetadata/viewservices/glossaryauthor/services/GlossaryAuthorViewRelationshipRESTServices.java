@@ -57,7 +57,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -95,7 +95,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
          }  catch (Exception exception) {
              response = getResponseForException(exception, auditLog, className, restAPIName);
          }
-         restCallLogger.logRESTCallReturn(token, response.toString());
+         restCallLogger.logRESTCallReturn(token, response);
          return response;
     }
 
@@ -138,7 +138,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
          }  catch (Exception exception) {
              response = getResponseForException(exception, auditLog, className, restAPIName);
          }
-         restCallLogger.logRESTCallReturn(token, response.toString());
+         restCallLogger.logRESTCallReturn(token, response);
          return response;
     }
 
@@ -177,7 +177,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
          }  catch (Exception exception) {
              response = getResponseForException(exception, auditLog, className, restAPIName);
          }
-         restCallLogger.logRESTCallReturn(token, response.toString());
+         restCallLogger.logRESTCallReturn(token, response);
          return response;
     }
 
@@ -216,7 +216,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
          }  catch (Exception exception) {
              response = getResponseForException(exception, auditLog, className, restAPIName);
          }
-         restCallLogger.logRESTCallReturn(token, response.toString());
+         restCallLogger.logRESTCallReturn(token, response);
          return response;
     }
     /**
@@ -250,7 +250,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -288,7 +288,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -331,7 +331,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -370,7 +370,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -405,7 +405,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -440,7 +440,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -478,7 +478,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -521,7 +521,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -560,7 +560,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -595,7 +595,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -630,7 +630,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -668,7 +668,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -711,7 +711,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -750,7 +750,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -785,7 +785,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -820,7 +820,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -858,7 +858,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -901,7 +901,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -940,7 +940,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -975,7 +975,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1010,7 +1010,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1048,7 +1048,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1091,7 +1091,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1130,7 +1130,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1165,7 +1165,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1200,7 +1200,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1238,7 +1238,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1281,7 +1281,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1320,7 +1320,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1355,7 +1355,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1390,7 +1390,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1428,7 +1428,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1471,7 +1471,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1510,7 +1510,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1545,7 +1545,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1580,7 +1580,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1618,7 +1618,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1661,7 +1661,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1700,7 +1700,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1735,7 +1735,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1770,7 +1770,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1808,7 +1808,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1851,7 +1851,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1890,7 +1890,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1925,7 +1925,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
     
@@ -1960,7 +1960,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -1998,7 +1998,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2040,7 +2040,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2079,7 +2079,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2114,7 +2114,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2149,7 +2149,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2187,7 +2187,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2230,7 +2230,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2269,7 +2269,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2304,7 +2304,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2339,7 +2339,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2377,7 +2377,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2420,7 +2420,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2459,7 +2459,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2494,7 +2494,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2533,7 +2533,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2571,7 +2571,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2613,7 +2613,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2652,7 +2652,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2687,7 +2687,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2726,7 +2726,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2764,7 +2764,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2807,7 +2807,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2846,7 +2846,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2881,7 +2881,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
     /**
@@ -2915,7 +2915,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2953,7 +2953,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -2996,7 +2996,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -3035,7 +3035,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -3070,7 +3070,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, restAPIName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
     /**
@@ -3104,7 +3104,7 @@ public class GlossaryAuthorViewRelationshipRESTServices extends BaseGlossaryAuth
          }  catch (Exception exception) {
              response = getResponseForException(exception, auditLog, className, restAPIName);
          }
-         restCallLogger.logRESTCallReturn(token, response.toString());
+         restCallLogger.logRESTCallReturn(token, response);
          return response;
     }
 }
\ No newline at end of file
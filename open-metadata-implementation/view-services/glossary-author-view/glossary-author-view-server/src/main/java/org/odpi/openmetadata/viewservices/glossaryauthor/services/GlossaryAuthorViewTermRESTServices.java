@@ -64,7 +64,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -99,7 +99,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -162,7 +162,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -225,7 +225,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -276,7 +276,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -330,7 +330,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -369,7 +369,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         }  catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 
@@ -397,7 +397,7 @@ public class GlossaryAuthorViewTermRESTServices extends BaseGlossaryAuthorView {
         } catch (Exception exception) {
             response = getResponseForException(exception, auditLog, className, methodName);
         }
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
         return response;
     }
 }
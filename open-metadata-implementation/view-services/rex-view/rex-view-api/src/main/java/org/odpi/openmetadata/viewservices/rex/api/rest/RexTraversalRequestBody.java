@@ -26,6 +26,7 @@ public class RexTraversalRequestBody {
     private String                    serverName;                    // must be non-null
     private String                    platformName;                  // must be non-null
     private String                    entityGUID;                    // must be non-null, GUID of root of traversal
+    private List<String>              entityGUIDs;                   // a list of entity guids to expand together or null
     private Boolean                   enterpriseOption;
     private List<String>              entityTypeGUIDs;               // a list of type guids or null
     private List<String>              relationshipTypeGUIDs;         // a list of type guids or null
@@ -47,6 +48,8 @@ public class RexTraversalRequestBody {
 
     public String getEntityGUID() { return entityGUID; }
 
+    public List<String> getEntityGUIDs() { return entityGUIDs; }
+
     public Boolean getEnterpriseOption() {
         if (enterpriseOption == null)
             return false;
@@ -73,6 +76,8 @@ public class RexTraversalRequestBody {
 
     public void setEntityGUID(String entityGUID) { this.entityGUID = entityGUID; }
 
+    public void setEntityGUIDs(List<String> entityGUIDs) { this.entityGUIDs = entityGUIDs; }
+
     public void setEnterpriseOption(Boolean enterpriseOption) { this.enterpriseOption = enterpriseOption; }
 
     public void setEntityTypeGUIDs(List<String> entityTypeGUIDs) { this.entityTypeGUIDs = entityTypeGUIDs; }
@@ -97,6 +102,7 @@ public class RexTraversalRequestBody {
                 ", serverName=" + serverName +
                 ", platformName=" + platformName +
                 ", entityGUID=" + entityGUID +
+                ", entityGUIDs=" + entityGUIDs +
                 ", depth=" + depth +
                 ", enterpriseOption=" + enterpriseOption +
                 ", entityTypeGUIDs=" + entityTypeGUIDs +
@@ -58,6 +58,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 
 /**
@@ -73,6 +78,17 @@ public class RexViewHandler
      */
     private static final int TRUNCATED_STRING_LENGTH = 24;
 
+    /*
+     * The interval after which a cached TypeExplorer is rebuilt even though the repository is unchanged, so that
+     * types added to a running repository become visible.
+     */
+    private static final long TYPE_EXPLORER_REFRESH_INTERVAL = 5 * 60 * 1000L;
+
+    /*
+     * The maximum number of entities that are expanded concurrently by expandEntities.
+     */
+    private static final int MAX_CONCURRENT_EXPANSIONS = 8;
+
 
     /*
      * viewServiceOptions should have been validated in the Admin layer.
@@ -116,6 +132,21 @@ public class RexViewHandler
     private Map<String, ResourceEndpoint>  configuredPlatforms = null;          // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint>  configuredServerInstances   = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    /*
+     * The repository services clients are created once for each platformRootURL and serverName and reused by
+     * every request, so that the REST transport of each client keeps its connections to the platform alive.
+     */
+    private final Map<String, LocalRepositoryServicesClient>      localClients       = new ConcurrentHashMap<>();
+    private final Map<String, EnterpriseRepositoryServicesClient> enterpriseClients  = new ConcurrentHashMap<>();
+
+    /*
+     * The TypeExplorer built from the TypeDefGallery of each repository server.  The map is keyed using
+     * platformRootURL, serverName and the enterprise option.
+     */
+    private final Map<String, CachedTypeExplorer>                 typeExplorerCache  = new ConcurrentHashMap<>();
+
+    private ExecutorService                                       expansionExecutor  = null;
+
 
 
 
@@ -285,53 +316,24 @@ public class RexViewHandler
                 repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
             }
 
-            TypeExplorer tex = new TypeExplorer();
-
-            TypeDefGallery typeDefGallery = repositoryServicesClient.getAllTypes(userId);
+            /*
+             * The TypeDefGallery of a repository is large and changes rarely, so the TypeExplorer built from it is
+             * cached.  The cached copy is used while the repository server reports the same metadata collection id
+             * (a single small request) and the refresh interval has not expired.  The cache is keyed by user so that
+             * each user's access to the types has been checked by the repository.
+             */
+            String cacheKey             = this.getClientKey(platformRootURL, repositoryServerName) + ":" + enterpriseOption + ":" + userId;
+            String metadataCollectionId = repositoryServicesClient.getMetadataCollectionId(userId);
 
-            List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
-            for (TypeDef typeDef : typeDefs)
+            CachedTypeExplorer cachedTypeExplorer = typeExplorerCache.get(cacheKey);
+            if (cachedTypeExplorer != null && cachedTypeExplorer.isValid(metadataCollectionId))
             {
-                TypeDefCategory tdCat = typeDef.getCategory();
-                switch (tdCat)
-                {
-                    case ENTITY_DEF:
-                        EntityExplorer eex = new EntityExplorer((EntityDef) typeDef);
-                        tex.addEntityExplorer(typeDef.getName(), eex);
-                        break;
-                    case RELATIONSHIP_DEF:
-                        RelationshipExplorer rex = new RelationshipExplorer((RelationshipDef) typeDef);
-                        tex.addRelationshipExplorer(typeDef.getName(), rex);
-                        break;
-                    case CLASSIFICATION_DEF:
-                        ClassificationExplorer cex = new ClassificationExplorer((ClassificationDef) typeDef);
-                        tex.addClassificationExplorer(typeDef.getName(), cex);
-                        break;
-                    default:
-                        // Ignore this typeDef and continue with next
-                        break;
-                }
+                return cachedTypeExplorer.getTypeExplorer();
             }
 
-            // Include EnumDefs in the TEX
-            List<AttributeTypeDef> attributeTypeDefs = typeDefGallery.getAttributeTypeDefs();
-            for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
-            {
-                AttributeTypeDefCategory tdCat = attributeTypeDef.getCategory();
-                switch (tdCat)
-                {
-                    case ENUM_DEF:
-                        tex.addEnumExplorer(attributeTypeDef.getName(), (EnumDef) attributeTypeDef);
-                        break;
-                    default:
-                        // Ignore this AttributeTypeDef and continue with next
-                        break;
-                }
-            }
+            TypeExplorer tex = this.buildTypeExplorer(userId, repositoryServicesClient, repositoryServerName, platformRootURL);
 
-            // All typeDefs processed, resolve linkages and return the TEX object
-            // The platformRootURL and repositoryName are passed in only for error logging
-            tex.resolve(platformRootURL, repositoryServerName);
+            typeExplorerCache.put(cacheKey, new CachedTypeExplorer(tex, metadataCollectionId));
             return tex;
 
         }
@@ -353,6 +355,80 @@ public class RexViewHandler
 
     }
 
+    /**
+     * Build a TypeExplorer from the TypeDefGallery of the repository server
+     * @param userId  userId under which the request is performed
+     * @param repositoryServicesClient client for the repository server
+     * @param repositoryServerName The name of the repository server to interrogate (used for error logging)
+     * @param platformRootURL The root URL of the platform running the repository server (used for error logging)
+     * @return the TypeExplorer object
+     *
+     * Exceptions
+     * @throws InvalidParameterException the userId is null
+     * @throws RepositoryErrorException there is a problem communicating with the repository server
+     * @throws UserNotAuthorizedException the user is not authorized to retrieve the types
+     */
+    private TypeExplorer buildTypeExplorer(String                           userId,
+                                           MetadataCollectionServicesClient repositoryServicesClient,
+                                           String                           repositoryServerName,
+                                           String                           platformRootURL)
+    throws
+        InvalidParameterException,
+        RepositoryErrorException,
+        UserNotAuthorizedException
+
+    {
+        TypeExplorer tex = new TypeExplorer();
+
+        TypeDefGallery typeDefGallery = repositoryServicesClient.getAllTypes(userId);
+
+        List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
+        for (TypeDef typeDef : typeDefs)
+        {
+            TypeDefCategory tdCat = typeDef.getCategory();
+            switch (tdCat)
+            {
+                case ENTITY_DEF:
+                    EntityExplorer eex = new EntityExplorer((EntityDef) typeDef);
+                    tex.addEntityExplorer(typeDef.getName(), eex);
+                    break;
+                case RELATIONSHIP_DEF:
+                    RelationshipExplorer rex = new RelationshipExplorer((RelationshipDef) typeDef);
+                    tex.addRelationshipExplorer(typeDef.getName(), rex);
+                    break;
+                case CLASSIFICATION_DEF:
+                    ClassificationExplorer cex = new ClassificationExplorer((ClassificationDef) typeDef);
+                    tex.addClassificationExplorer(typeDef.getName(), cex);
+                    break;
+                default:
+                    // Ignore this typeDef and continue with next
+                    break;
+            }
+        }
+
+        // Include EnumDefs in the TEX
+        List<AttributeTypeDef> attributeTypeDefs = typeDefGallery.getAttributeTypeDefs();
+        for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
+        {
+            AttributeTypeDefCategory tdCat = attributeTypeDef.getCategory();
+            switch (tdCat)
+            {
+                case ENUM_DEF:
+                    tex.addEnumExplorer(attributeTypeDef.getName(), (EnumDef) attributeTypeDef);
+                    break;
+                default:
+                    // Ignore this AttributeTypeDef and continue with next
+                    break;
+            }
+        }
+
+        // All typeDefs processed, resolve linkages and return the TEX object
+        // The platformRootURL and repositoryName are passed in only for error logging
+        tex.resolve(platformRootURL, repositoryServerName);
+        return tex;
+    }
+
+
     /**
      * Retrieve entity (by GUID) from the repository server
      * @param userId  userId under which the request is performed
@@ -1497,12 +1573,213 @@ public class RexViewHandler
     }
 
 
+    /**
+     * Retrieve the neighborhoods surrounding several entities.  The neighborhoods are retrieved concurrently and
+     * merged into a single RexTraversal, so that a UI expanding several entities at once waits for the slowest
+     * traversal rather than the sum of them.
+     * @param userId  userId under which the request is performed
+     * @param repositoryServerName The name of the repository server to interrogate
+     * @param platformName The name of the platform running the repository server to interrogate
+     * @param enterpriseOption Whether the query is at cohort level or server specific
+     * @param entityGUIDs the identities of the entities from which to traverse
+     * @param depth the depth to which the method should traverse
+     * @param entityTypeGUIDs the GUIDs of entity types to filter the neighborhood
+     * @param relationshipTypeGUIDs the GUIDs of relationship types to filter the neighborhood
+     * @param classificationNames the names of classification types to filter the neighborhood
+     * @param methodName The name of the method being invoked
+     * @return a RexTraversal object containing the combined neighborhood information - its entityGUID is the first entity
+     *
+     * Exceptions
+     * @throws RexViewServiceException  an error was detected and details are reported in the exception
+     */
+    public RexTraversal expandEntities(String          userId,
+                                       String          repositoryServerName,
+                                       String          platformName,
+                                       boolean         enterpriseOption,
+                                       List<String>    entityGUIDs,
+                                       int             depth,
+                                       List<String>    entityTypeGUIDs,
+                                       List<String>    relationshipTypeGUIDs,
+                                       List<String>    classificationNames,
+                                       String          methodName)
+    throws
+    RexViewServiceException
+
+    {
+        if (entityGUIDs.size() == 1)
+        {
+            return this.traversal(userId,
+                                  repositoryServerName,
+                                  platformName,
+                                  enterpriseOption,
+                                  entityGUIDs.get(0),
+                                  depth,
+                                  entityTypeGUIDs,
+                                  relationshipTypeGUIDs,
+                                  classificationNames,
+                                  methodName);
+        }
+
+        ExecutorService executor = this.getExpansionExecutor();
+
+        List<Future<RexTraversal>> expansions = new ArrayList<>();
+        for (String entityGUID : entityGUIDs)
+        {
+            expansions.add(executor.submit(() -> this.traversal(userId,
+                                                                repositoryServerName,
+                                                                platformName,
+                                                                enterpriseOption,
+                                                                entityGUID,
+                                                                depth,
+                                                                entityTypeGUIDs,
+                                                                relationshipTypeGUIDs,
+                                                                classificationNames,
+                                                                methodName)));
+        }
+
+        RexTraversal combinedTraversal = null;
+
+        try
+        {
+            for (Future<RexTraversal> expansion : expansions)
+            {
+                RexTraversal rt = this.getExpansion(expansion, methodName);
+
+                if (rt == null)
+                {
+                    continue;
+                }
+
+                if (combinedTraversal == null)
+                {
+                    combinedTraversal = rt;
+                    combinedTraversal.setEntityGUID(entityGUIDs.get(0));
+                }
+                else
+                {
+                    /*
+                     * Digests for the same instance are identical in each traversal, so the maps are simply merged.
+                     */
+                    if (rt.getEntities() != null)
+                    {
+                        if (combinedTraversal.getEntities() == null)
+                        {
+                            combinedTraversal.setEntities(new HashMap<>());
+                        }
+                        combinedTraversal.getEntities().putAll(rt.getEntities());
+                    }
+                    if (rt.getRelationships() != null)
+                    {
+                        if (combinedTraversal.getRelationships() == null)
+                        {
+                            combinedTraversal.setRelationships(new HashMap<>());
+                        }
+                        combinedTraversal.getRelationships().putAll(rt.getRelationships());
+                    }
+                }
+            }
+        }
+        finally
+        {
+            /*
+             * If one of the traversals failed, the others are no longer needed.
+             */
+            for (Future<RexTraversal> expansion : expansions)
+            {
+                expansion.cancel(true);
+            }
+        }
+
+        return combinedTraversal;
+    }
+
+
+    /**
+     * Wait for a traversal submitted by expandEntities and surface its exception.
+     *
+     * @param expansion the submitted traversal
+     * @param methodName The name of the method being invoked
+     * @return the traversal result
+     * @throws RexViewServiceException the traversal failed or was interrupted
+     */
+    private RexTraversal getExpansion(Future<RexTraversal> expansion,
+                                      String               methodName)
+    throws
+    RexViewServiceException
+
+    {
+        try
+        {
+            return expansion.get();
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RexViewServiceException)
+            {
+                throw (RexViewServiceException) e.getCause();
+            }
+
+            throw new RexViewServiceException(RexViewErrorCode.UNKNOWN_ERROR.getMessageDefinition(methodName,
+                                                                                                  String.valueOf(e.getCause())),
+                                              this.getClass().getName(),
+                                              methodName);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new RexViewServiceException(RexViewErrorCode.UNKNOWN_ERROR.getMessageDefinition(methodName,
+                                                                                                  e.getMessage()),
+                                              this.getClass().getName(),
+                                              methodName);
+        }
+    }
+
+
+    /**
+     * Return the executor that runs the traversals of expandEntities, creating it on first use.  Its threads
+     * are daemon threads so that they do not prevent the platform from stopping.
+     *
+     * @return executor
+     */
+    private synchronized ExecutorService getExpansionExecutor()
+    {
+        if (expansionExecutor == null)
+        {
+            expansionExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_EXPANSIONS, runnable -> {
+                Thread thread = new Thread(runnable, "RexViewHandler-expansion");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return expansionExecutor;
+    }
+
+
+    /**
+     * Release the resources of the handler when the view service shuts down.
+     */
+    public synchronized void shutdown()
+    {
+        if (expansionExecutor != null)
+        {
+            expansionExecutor.shutdownNow();
+            expansionExecutor = null;
+        }
+
+        localClients.clear();
+        enterpriseClients.clear();
+        typeExplorerCache.clear();
+    }
+
+
     /**
      * getLocalRepositoryServicesClient
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is not set, and will
-     * connect to the local repository.
+     * connect to the local repository. The client is created on first use and reused by later requests.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
@@ -1524,8 +1801,20 @@ public class RexViewHandler
          * here because we want to surface it to the REST API that called this method so that the
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
-        String restRootURL = serverRootURL + "/servers/" + serverName;
-        LocalRepositoryServicesClient client = new LocalRepositoryServicesClient(serverName, restRootURL);
+        String clientKey = this.getClientKey(serverRootURL, serverName);
+
+        LocalRepositoryServicesClient client = localClients.get(clientKey);
+        if (client == null)
+        {
+            String restRootURL = serverRootURL + "/servers/" + serverName;
+            client = new LocalRepositoryServicesClient(serverName, restRootURL);
+
+            LocalRepositoryServicesClient existingClient = localClients.putIfAbsent(clientKey, client);
+            if (existingClient != null)
+            {
+                client = existingClient;
+            }
+        }
 
         return client;
     }
@@ -1535,7 +1824,7 @@ public class RexViewHandler
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is set, and will
-     * perform federation.
+     * perform federation. The client is created on first use and reused by later requests.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
@@ -1557,12 +1846,38 @@ public class RexViewHandler
          * here because we want to surface it to the REST API that called this method so that the
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
-        String restRootURL = serverRootURL + "/servers/" + serverName;
-        EnterpriseRepositoryServicesClient client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+        String clientKey = this.getClientKey(serverRootURL, serverName);
+
+        EnterpriseRepositoryServicesClient client = enterpriseClients.get(clientKey);
+        if (client == null)
+        {
+            String restRootURL = serverRootURL + "/servers/" + serverName;
+            client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+
+            EnterpriseRepositoryServicesClient existingClient = enterpriseClients.putIfAbsent(clientKey, client);
+            if (existingClient != null)
+            {
+                client = existingClient;
+            }
+        }
 
         return client;
     }
 
+
+    /**
+     * Return the key used to cache the clients and types of a repository server.
+     *
+     * @param serverRootURL - the root URL of the platform running the server
+     * @param serverName - name of the server
+     * @return key
+     */
+    private String getClientKey(String serverRootURL,
+                                String serverName)
+    {
+        return serverRootURL + "/servers/" + serverName;
+    }
+
     private String chooseLabelForEntity(EntityDetail entityDetail, TypeExplorer typeExplorer)
     {
 
@@ -1896,4 +2211,55 @@ public class RexViewHandler
     }
 
 
+
+    /**
+     * A TypeExplorer with the metadata collection id of the repository that supplied its types and the time it
+     * was built.
+     */
+    private static class CachedTypeExplorer
+    {
+        private final TypeExplorer typeExplorer;
+        private final String       metadataCollectionId;
+        private final long         buildTime;
+
+
+        /**
+         * Constructor
+         *
+         * @param typeExplorer the TypeExplorer
+         * @param metadataCollectionId metadata collection id of the repository when the types were retrieved
+         */
+        CachedTypeExplorer(TypeExplorer typeExplorer,
+                           String       metadataCollectionId)
+        {
+            this.typeExplorer         = typeExplorer;
+            this.metadataCollectionId = metadataCollectionId;
+            this.buildTime            = System.currentTimeMillis();
+        }
+
+
+        /**
+         * Return whether the TypeExplorer can still be used.
+         *
+         * @param currentMetadataCollectionId the metadata collection id now reported by the repository
+         * @return boolean flag
+         */
+        boolean isValid(String currentMetadataCollectionId)
+        {
+            return (metadataCollectionId != null) &&
+                   (metadataCollectionId.equals(currentMetadataCollectionId)) &&
+                   (System.currentTimeMillis() - buildTime < TYPE_EXPLORER_REFRESH_INTERVAL);
+        }
+
+
+        /**
+         * Return the cached TypeExplorer.
+         *
+         * @return TypeExplorer
+         */
+        TypeExplorer getTypeExplorer()
+        {
+            return typeExplorer;
+        }
+    }
 }
@@ -205,7 +205,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -306,7 +306,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -401,7 +401,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -502,7 +502,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -605,7 +605,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -712,7 +712,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -726,6 +726,9 @@ public class RexViewRESTServices {
      *  <p>
      *  The method used is POST because the parameters supplied by the UI to the VS are conveyed in
      *  the request body.
+     *  <p>
+     *  If the request body lists entityGUIDs, the neighborhoods of all of those entities are retrieved
+     *  concurrently and returned in a single traversal.
      *
      *
      * @param serverName   name of the server running the view-service.
@@ -780,16 +783,37 @@ public class RexViewRESTServices {
 
             try {
 
-                RexTraversal traversal = handler.traversal(userId,
-                                                           requestBody.getServerName(),
-                                                           requestBody.getPlatformName(),
-                                                           requestBody.getEnterpriseOption(),
-                                                           requestBody.getEntityGUID(),
-                                                           requestBody.getDepth(),
-                                                           requestBody.getEntityTypeGUIDs(),
-                                                           requestBody.getRelationshipTypeGUIDs(),
-                                                           requestBody.getClassificationNames(),
-                                                           methodName);
+                RexTraversal traversal;
+
+                /*
+                 * When several entities are expanded at once their neighborhoods are retrieved concurrently.
+                 */
+                if (requestBody.getEntityGUIDs() != null && !requestBody.getEntityGUIDs().isEmpty())
+                {
+                    traversal = handler.expandEntities(userId,
+                                                       requestBody.getServerName(),
+                                                       requestBody.getPlatformName(),
+                                                       requestBody.getEnterpriseOption(),
+                                                       requestBody.getEntityGUIDs(),
+                                                       requestBody.getDepth(),
+                                                       requestBody.getEntityTypeGUIDs(),
+                                                       requestBody.getRelationshipTypeGUIDs(),
+                                                       requestBody.getClassificationNames(),
+                                                       methodName);
+                }
+                else
+                {
+                    traversal = handler.traversal(userId,
+                                                  requestBody.getServerName(),
+                                                  requestBody.getPlatformName(),
+                                                  requestBody.getEnterpriseOption(),
+                                                  requestBody.getEntityGUID(),
+                                                  requestBody.getDepth(),
+                                                  requestBody.getEntityTypeGUIDs(),
+                                                  requestBody.getRelationshipTypeGUIDs(),
+                                                  requestBody.getClassificationNames(),
+                                                  methodName);
+                }
 
                 if (traversal != null)
                 {
@@ -821,7 +845,7 @@ public class RexViewRESTServices {
 
         log.debug("Returning from method: " + methodName + " with response: " + response.toString());
 
-        restCallLogger.logRESTCallReturn(token, response.toString());
+        restCallLogger.logRESTCallReturn(token, response);
 
         return response;
     }
@@ -69,5 +69,20 @@ public class RexViewServicesInstance extends OMVSServiceInstance
     }
 
 
+    /**
+     * Release the clients, cached types and threads of the handler before the instance is removed.
+     */
+    @Override
+    public void shutdown()
+    {
+        if (rexViewHandler != null)
+        {
+            rexViewHandler.shutdown();
+        }
+
+        super.shutdown();
+    }
+
+
 
 }
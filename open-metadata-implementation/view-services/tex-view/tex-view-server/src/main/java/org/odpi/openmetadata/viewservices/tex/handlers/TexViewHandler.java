@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -50,6 +51,12 @@ public class TexViewHandler
      */
     private static final int TRUNCATED_STRING_LENGTH = 24;
 
+    /*
+     * The interval after which a cached TypeExplorer is rebuilt even though the repository is unchanged, so that
+     * types added to a running repository become visible.
+     */
+    private static final long TYPE_EXPLORER_REFRESH_INTERVAL = 5 * 60 * 1000L;
+
 
     /*
     * viewServiceOptions should have been validated in the Admin layer.
@@ -81,6 +88,19 @@ public class TexViewHandler
     private Map<String, ResourceEndpoint>  configuredPlatforms = null;          // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint>  configuredServerInstances   = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    /*
+     * The repository services clients are created once for each platformRootURL and serverName and reused by
+     * every request, so that the REST transport of each client keeps its connections to the platform alive.
+     */
+    private final Map<String, LocalRepositoryServicesClient>      localClients       = new ConcurrentHashMap<>();
+    private final Map<String, EnterpriseRepositoryServicesClient> enterpriseClients  = new ConcurrentHashMap<>();
+
+    /*
+     * The TypeExplorer built from the TypeDefGallery of each repository server.  The map is keyed using
+     * platformRootURL, serverName, the enterprise option, the deprecation option and the userId.
+     */
+    private final Map<String, CachedTypeExplorer>                 typeExplorerCache  = new ConcurrentHashMap<>();
+
 
 
     /**
@@ -247,49 +267,22 @@ public class TexViewHandler
                 repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
             }
 
-            TypeExplorer tex = new TypeExplorer();
-
-            TypeDefGallery typeDefGallery = repositoryServicesClient.getAllTypes(userId);
+            /*
+             * Rebuilding the TypeExplorer means retrieving every TypeDef in the repository, so the explorer is
+             * cached.  The cached copy is used while the repository server reports the same metadata collection id
+             * and the refresh interval has not expired.
+             */
+            String cacheKey             = this.getClientKey(platformRootURL, repositoryServerName) + ":" + enterpriseOption + ":" + deprecationOption + ":" + userId;
+            String metadataCollectionId = repositoryServicesClient.getMetadataCollectionId(userId);
 
-            List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
-            for (TypeDef typeDef : typeDefs) {
-                TypeDefCategory tdCat = typeDef.getCategory();
-                switch (tdCat) {
-                    case ENTITY_DEF:
-                        EntityExplorer eex = new EntityExplorer((EntityDef) typeDef);
-                        tex.addEntityExplorer(typeDef.getName(), eex);
-                        break;
-                    case RELATIONSHIP_DEF:
-                        RelationshipExplorer rex = new RelationshipExplorer((RelationshipDef) typeDef);
-                        tex.addRelationshipExplorer(typeDef.getName(), rex);
-                        break;
-                    case CLASSIFICATION_DEF:
-                        ClassificationExplorer cex = new ClassificationExplorer((ClassificationDef) typeDef);
-                        tex.addClassificationExplorer(typeDef.getName(), cex);
-                        break;
-                    default:
-                        // Ignore this typeDef and continue with next
-                        break;
-                }
+            CachedTypeExplorer cachedTypeExplorer = typeExplorerCache.get(cacheKey);
+            if (cachedTypeExplorer != null && cachedTypeExplorer.isValid(metadataCollectionId)) {
+                return cachedTypeExplorer.getTypeExplorer();
             }
 
-            // Include EnumDefs in the TEX
-            List<AttributeTypeDef> attributeTypeDefs = typeDefGallery.getAttributeTypeDefs();
-            for (AttributeTypeDef attributeTypeDef : attributeTypeDefs) {
-                AttributeTypeDefCategory tdCat = attributeTypeDef.getCategory();
-                switch (tdCat) {
-                    case ENUM_DEF:
-                        tex.addEnumExplorer(attributeTypeDef.getName(), (EnumDef) attributeTypeDef);
-                        break;
-                    default:
-                        // Ignore this AttributeTypeDef and continue with next
-                        break;
-                }
-            }
+            TypeExplorer tex = this.buildTypeExplorer(userId, repositoryServicesClient, repositoryServerName, platformRootURL, deprecationOption);
 
-            // All typeDefs processed, resolve linkages and return the TEX object
-            // The platformRootURL and repositoryName are passed in only for error logging
-            tex.resolve(deprecationOption, platformRootURL, repositoryServerName);
+            typeExplorerCache.put(cacheKey, new CachedTypeExplorer(tex, metadataCollectionId));
             return tex;
 
         }
@@ -310,12 +303,84 @@ public class TexViewHandler
 
 
 
+    /**
+     * Build a TypeExplorer from the TypeDefGallery of the repository server
+     * @param userId  userId under which the request is performed
+     * @param repositoryServicesClient client for the repository server
+     * @param repositoryServerName The name of the repository server to interrogate (used for error logging)
+     * @param platformRootURL The root URL of the platform running the repository server (used for error logging)
+     * @param deprecationOption only include deprecated types if this option is true
+     * @return the TypeExplorer object
+     *
+     * Exceptions
+     * @throws InvalidParameterException the userId is null
+     * @throws RepositoryErrorException there is a problem communicating with the repository server
+     * @throws UserNotAuthorizedException the user is not authorized to retrieve the types
+     */
+    private TypeExplorer buildTypeExplorer(String                           userId,
+                                           MetadataCollectionServicesClient repositoryServicesClient,
+                                           String                           repositoryServerName,
+                                           String                           platformRootURL,
+                                           boolean                          deprecationOption)
+    throws
+        InvalidParameterException,
+        RepositoryErrorException,
+        UserNotAuthorizedException
+
+    {
+        TypeExplorer tex = new TypeExplorer();
+
+        TypeDefGallery typeDefGallery = repositoryServicesClient.getAllTypes(userId);
+
+        List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
+        for (TypeDef typeDef : typeDefs) {
+            TypeDefCategory tdCat = typeDef.getCategory();
+            switch (tdCat) {
+                case ENTITY_DEF:
+                    EntityExplorer eex = new EntityExplorer((EntityDef) typeDef);
+                    tex.addEntityExplorer(typeDef.getName(), eex);
+                    break;
+                case RELATIONSHIP_DEF:
+                    RelationshipExplorer rex = new RelationshipExplorer((RelationshipDef) typeDef);
+                    tex.addRelationshipExplorer(typeDef.getName(), rex);
+                    break;
+                case CLASSIFICATION_DEF:
+                    ClassificationExplorer cex = new ClassificationExplorer((ClassificationDef) typeDef);
+                    tex.addClassificationExplorer(typeDef.getName(), cex);
+                    break;
+                default:
+                    // Ignore this typeDef and continue with next
+                    break;
+            }
+        }
+
+        // Include EnumDefs in the TEX
+        List<AttributeTypeDef> attributeTypeDefs = typeDefGallery.getAttributeTypeDefs();
+        for (AttributeTypeDef attributeTypeDef : attributeTypeDefs) {
+            AttributeTypeDefCategory tdCat = attributeTypeDef.getCategory();
+            switch (tdCat) {
+                case ENUM_DEF:
+                    tex.addEnumExplorer(attributeTypeDef.getName(), (EnumDef) attributeTypeDef);
+                    break;
+                default:
+                    // Ignore this AttributeTypeDef and continue with next
+                    break;
+            }
+        }
+
+        // All typeDefs processed, resolve linkages and return the TEX object
+        // The platformRootURL and repositoryName are passed in only for error logging
+        tex.resolve(deprecationOption, platformRootURL, repositoryServerName);
+        return tex;
+    }
+
+
     /**
      * getLocalRepositoryServicesClient
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is not set, and will
-     * connect to the local repository.
+     * connect to the local repository. The client is created on first use and reused by later requests.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
@@ -337,8 +402,18 @@ public class TexViewHandler
          * here because we want to surface it to the REST API that called this method so that the
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
-        String restRootURL = serverRootURL + "/servers/" + serverName;
-        LocalRepositoryServicesClient client = new LocalRepositoryServicesClient(serverName, restRootURL);
+        String clientKey = this.getClientKey(serverRootURL, serverName);
+
+        LocalRepositoryServicesClient client = localClients.get(clientKey);
+        if (client == null) {
+            String restRootURL = serverRootURL + "/servers/" + serverName;
+            client = new LocalRepositoryServicesClient(serverName, restRootURL);
+
+            LocalRepositoryServicesClient existingClient = localClients.putIfAbsent(clientKey, client);
+            if (existingClient != null) {
+                client = existingClient;
+            }
+        }
 
         return client;
     }
@@ -348,7 +423,7 @@ public class TexViewHandler
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is set, and will
-     * perform federation.
+     * perform federation. The client is created on first use and reused by later requests.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
@@ -369,13 +444,100 @@ public class TexViewHandler
          * here because we want to surface it to the REST API that called this method so that the
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
-        String restRootURL = serverRootURL + "/servers/" + serverName;
-        EnterpriseRepositoryServicesClient client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+        String clientKey = this.getClientKey(serverRootURL, serverName);
+
+        EnterpriseRepositoryServicesClient client = enterpriseClients.get(clientKey);
+        if (client == null) {
+            String restRootURL = serverRootURL + "/servers/" + serverName;
+            client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+
+            EnterpriseRepositoryServicesClient existingClient = enterpriseClients.putIfAbsent(clientKey, client);
+            if (existingClient != null) {
+                client = existingClient;
+            }
+        }
 
         return client;
     }
 
 
+    /**
+     * Return the key used to cache the clients and types of a repository server.
+     *
+     * @param serverRootURL - the root URL of the platform running the server
+     * @param serverName - name of the server
+     * @return key
+     */
+    private String getClientKey(String serverRootURL,
+                                String serverName)
+    {
+        return serverRootURL + "/servers/" + serverName;
+    }
+
+
+    /**
+     * Release the clients and cached types of the handler when the view service shuts down.
+     */
+    public void shutdown()
+    {
+        localClients.clear();
+        enterpriseClients.clear();
+        typeExplorerCache.clear();
+    }
+
+
+    /**
+     * A TypeExplorer with the metadata collection id of the repository that supplied its types and the time it
+     * was built.
+     */
+    private static class CachedTypeExplorer
+    {
+        private final TypeExplorer typeExplorer;
+        private final String       metadataCollectionId;
+        private final long         buildTime;
+
+
+        /**
+         * Constructor
+         *
+         * @param typeExplorer the TypeExplorer
+         * @param metadataCollectionId metadata collection id of the repository when the types were retrieved
+         */
+        CachedTypeExplorer(TypeExplorer typeExplorer,
+                           String       metadataCollectionId)
+        {
+            this.typeExplorer         = typeExplorer;
+            this.metadataCollectionId = metadataCollectionId;
+            this.buildTime            = System.currentTimeMillis();
+        }
+
+
+        /**
+         * Return whether the TypeExplorer can still be used.
+         *
+         * @param currentMetadataCollectionId the metadata collection id now reported by the repository
+         * @return boolean flag
+         */
+        boolean isValid(String currentMetadataCollectionId)
+        {
+            return (metadataCollectionId != null) &&
+                   (metadataCollectionId.equals(currentMetadataCollectionId)) &&
+                   (System.currentTimeMillis() - buildTime < TYPE_EXPLORER_REFRESH_INTERVAL);
+        }
+
+
+        /**
+         * Return the cached TypeExplorer.
+         *
+         * @return TypeExplorer
+         */
+        TypeExplorer getTypeExplorer()
+        {
+            return typeExplorer;
+        }
+    }
+
+
 
 
 }
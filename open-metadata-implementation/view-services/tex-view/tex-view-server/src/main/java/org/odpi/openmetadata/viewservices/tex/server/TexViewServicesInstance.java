@@ -70,5 +70,20 @@ public class TexViewServicesInstance extends OMVSServiceInstance
     }
 
 
+    /**
+     * Release the clients and cached types of the handler before the instance is removed.
+     */
+    @Override
+    public void shutdown()
+    {
+        if (texViewHandler != null)
+        {
+            texViewHandler.shutdown();
+        }
+
+        super.shutdown();
+    }
+
+
 
 }